@@ -1,22 +1,31 @@
 package nl.wur.fbr.om.conversion;
 
-import javafx.util.Pair;
-import nl.wur.fbr.om.core.impl.units.BaseUnitImpl;
-import nl.wur.fbr.om.core.impl.units.UnitDivisionImpl;
-import nl.wur.fbr.om.core.impl.units.UnitExponentiationImpl;
-import nl.wur.fbr.om.core.impl.units.UnitMultiplicationImpl;
+import nl.wur.fbr.om.core.impl.scales.ScaleTransform;
+import nl.wur.fbr.om.core.impl.units.UnitNormalForm;
 import nl.wur.fbr.om.exceptions.ConversionException;
 import nl.wur.fbr.om.exceptions.FactoryException;
 import nl.wur.fbr.om.exceptions.ScaleConversionException;
 import nl.wur.fbr.om.exceptions.UnitConversionException;
+import nl.wur.fbr.om.factory.MeasureAndPointFactory;
 import nl.wur.fbr.om.factory.UnitAndScaleConversionFactory;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
+import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.scales.Scale;
 import nl.wur.fbr.om.model.units.*;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * This abstract class provides a default implementation of unit conversion using the algorithm developed at
@@ -28,21 +37,195 @@ import java.util.Map;
  * interface implementing a different algorithm.
  * <p>
  * Each instance keeps a record of previously used unit conversions to make the conversion more efficient when
- * a particular conversion is repeated (say, metres to inches).
+ * a particular conversion is repeated (say, metres to inches). The record is thread safe: lookups of previously
+ * used conversions do not lock, and when several threads request the same (uncached) conversion at the same time,
+ * the conversion is only determined once. A conversion from a unit <code>b</code> to a unit <code>a</code> is derived
+ * from a stored conversion from <code>a</code> to <code>b</code> when available. That two units cannot be
+ * converted into each other is stored as well, and can be tested without exceptions using
+ * {@link #isConvertible(Unit, Unit)} or {@link #tryGetConversionFactor(Unit, Unit)}. The exceptions that are
+ * still thrown for such units do not record a stack trace and build their message only when requested.
+ * </p>
+ * <p>
+ * The number of stored conversions is bounded (by default to {@value #DEFAULT_MAXIMUM_CACHE_SIZE} conversions), so
+ * that conversions between units created at runtime, for instance by multiplying measures, do not fill the heap in
+ * long running applications. Which conversions are removed when the bound is reached is determined by the
+ * {@link CacheEvictionPolicy}. Conversions between units or scales from a pinned {@link UnitAndScaleSet}
+ * (see {@link #pinUnitAndScaleSet(UnitAndScaleSet)}) are never removed and do not count towards the bound.
+ * Statistics on the use of the stored conversions are available through {@link #getCacheStatistics()}.
+ * </p>
+ * <p>
+ * Units that represent the same unit, for instance the metre from different sets, are kept in a
+ * {@link UnitEquivalence}. Units are added to it with {@link #setUnitsToBeEqual(Unit, Unit)}, and when a set is added
+ * to an instance factory, by matching the units of the set with the units of the sets added before (see
+ * {@link #matchEqualUnits(UnitAndScaleSet)}). Conversions between equal units are done without any lookup.
+ * </p>
+ * <p>
+ * Conversions between units of a set with precomputed conversion data, such as the generated OM sets, are determined
+ * from the factors and dimensions precomputed by the set (see {@link #usePrecomputedConversions(UnitAndScaleSet)}),
+ * without following the definitions of the units. Other conversions are determined by comparing the normal forms of
+ * the units.
  * </p>
  * @author Don Willems on 14/07/15.
  */
 public abstract class AbstractUnitConversionFactory implements UnitAndScaleConversionFactory {
 
-    /** A map with as key a tuple with the source and target unit or scale identifiers and as value the conversion instance. */
-    private Map<Pair<String,String>,UnitOrScaleConversion> conversions = new HashMap<>();
-    private Map<Unit,List<Unit>> equalUnits = new HashMap<>();
+    /** The default maximum number of (unpinned) conversions that are stored. */
+    public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 10000;
+
+    /** A cache with as key a tuple with the source and target unit or scale identifiers and as value the conversion instance. */
+    private final ConversionCache<ConversionKey,UnitOrScaleConversion> conversions;
+
+    /** The number of values from which arrays are converted in parallel, by default arrays are not converted in parallel. */
+    private volatile int parallelThreshold = Integer.MAX_VALUE;
+
+    /** The identifiers of the pinned units and scales. */
+    private final Set<String> pinnedIdentifiers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /** The pinned sets that were initialized lazily, whose units and scales are pinned when they are created. */
+    private final List<UnitAndScaleSet> pinnedLazySets = new CopyOnWriteArrayList<>();
+
+    /** The equivalence classes of units that have been set to be equal, or that have been matched across sets. */
+    private final UnitEquivalence equalUnits = new UnitEquivalence();
+
+    /**
+     * The identifiers of the units that have been matched by {@link #matchEqualUnits(UnitAndScaleSet)}, by the
+     * keys used for matching. Guarded by the lock of this map.
+     */
+    private final Map<String,String> matchedUnits = new HashMap<>();
+
+    /**
+     * The labels of the leaf units (units that are not defined by other units) that have been matched, by
+     * identifier. Equal leaf units from different sets have the same label. Guarded by the lock of the matched units.
+     */
+    private final Map<String,String> leafLabels = new HashMap<>();
+
+    /** The sets of units with precomputed conversion data. */
+    private final List<UnitAndScaleSet> precomputedSets = new CopyOnWriteArrayList<>();
+
+    /** The table of conversion factors used when this factory is sealed, or null if this factory is not sealed. */
+    private volatile ConversionTable conversionTable = null;
 
     /**
      * The constructor to create the AbstractUnitConversionFactory.
      */
     protected AbstractUnitConversionFactory(){
+        this(DEFAULT_MAXIMUM_CACHE_SIZE, CacheEvictionPolicy.LEAST_RECENTLY_USED);
+    }
+
+    /**
+     * The constructor to create the AbstractUnitConversionFactory with a conversion cache of the specified
+     * maximum size and eviction policy.
+     * @param maximumCacheSize The maximum number of (unpinned) conversions that are stored.
+     * @param evictionPolicy The policy used to determine which conversions are removed when the maximum is reached.
+     */
+    protected AbstractUnitConversionFactory(int maximumCacheSize, CacheEvictionPolicy evictionPolicy){
         super();
+        conversions = new ConversionCache<>(maximumCacheSize, evictionPolicy,
+                key -> isPinned(key.source) && isPinned(key.target));
+    }
+
+    /**
+     * Pins the units and scales in the specified set. Conversions between pinned units or between pinned scales
+     * are never removed from the record of previously used conversions.
+     * @param set The unit and scale set whose units and scales are pinned.
+     */
+    public void pinUnitAndScaleSet(UnitAndScaleSet set) {
+        this.pinUnitAndScaleSet(set, false);
+    }
+
+    /**
+     * Pins the units and scales in the specified set, which may have been initialized lazily. The units and scales
+     * of a lazily initialized set are not created to pin them; they are pinned when they are created instead.
+     * @param set The unit and scale set whose units and scales are pinned.
+     * @param lazily True when the set was initialized lazily.
+     */
+    public void pinUnitAndScaleSet(UnitAndScaleSet set, boolean lazily) {
+        if(lazily){
+            pinnedLazySets.add(set);
+        }else {
+            for (Unit unit : set.getAllUnits()) if (unit != null) pinnedIdentifiers.add(unit.getIdentifier());
+            for (Scale scale : set.getAllScales()) if (scale != null) pinnedIdentifiers.add(scale.getIdentifier());
+        }
+        conversions.updatePinned();
+    }
+
+    /**
+     * Returns true when the unit or scale with the specified identifier is pinned.
+     * @param identifier The identifier of the unit or scale.
+     * @return True when the unit or scale is pinned.
+     */
+    private boolean isPinned(String identifier) {
+        if(pinnedIdentifiers.contains(identifier)) return true;
+        for(UnitAndScaleSet set : pinnedLazySets){
+            if(set.containsUnitOrScale(identifier)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Seals this factory for the specified units. A table is built with, for each unit, the factor to convert it to
+     * a reference unit with the same base units, see {@link ConversionTable}. While sealed,
+     * {@link #getConversionFactor(Unit, Unit)} reads the factors for units in the table from this table instead of
+     * looking up the conversion; other units are converted as before. The table is built in parallel.
+     * <p>
+     * Seal the factory once all sets of units have been added, typically with the units of the unit factory in the
+     * order of their ordinals, e.g. with
+     * {@link nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory#getUnitsByOrdinal()}. The factory is unsealed
+     * when units are set to be equal (see {@link #setUnitsToBeEqual(Unit, Unit)}).
+     * </p>
+     * @param unitsByOrdinal The units, the index of a unit in the list is its ordinal.
+     * @return The table with conversion factors, which also reports its size and build time.
+     */
+    public ConversionTable seal(List<? extends Unit> unitsByOrdinal) {
+        ConversionTable table = new ConversionTable(unitsByOrdinal, equalUnits);
+        conversionTable = table;
+        return table;
+    }
+
+    /**
+     * Unseals this factory, the table with conversion factors is removed.
+     */
+    public void unseal() {
+        conversionTable = null;
+    }
+
+    /**
+     * Returns true when this factory is sealed, see {@link #seal(List)}.
+     * @return True when sealed.
+     */
+    public boolean isSealed() {
+        return conversionTable!=null;
+    }
+
+    /**
+     * Returns the table with conversion factors used while this factory is sealed.
+     * @return The conversion table, or null if this factory is not sealed.
+     */
+    public ConversionTable getConversionTable() {
+        return conversionTable;
+    }
+
+    /**
+     * Returns the conversion factor between the units with the specified ordinals in the conversion table of this
+     * sealed factory (see {@link #seal(List)}). This allows callers to store units as ordinals.
+     * @param sourceOrdinal The ordinal of the source unit.
+     * @param targetOrdinal The ordinal of the target unit.
+     * @return The conversion factor.
+     * @throws ConversionException When this factory is not sealed, or when the units cannot be converted.
+     */
+    public double getConversionFactor(int sourceOrdinal, int targetOrdinal) throws ConversionException {
+        ConversionTable table = conversionTable;
+        if(table==null) throw new ConversionException("Could not convert units by ordinal, the conversion factory is not sealed.");
+        return table.getConversionFactor(sourceOrdinal,targetOrdinal);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the record of previously used conversions, including the number
+     * of hits and misses, the number of evicted conversions and the time spent determining conversions.
+     * @return The statistics.
+     */
+    public ConversionCacheStatistics getCacheStatistics() {
+        return conversions.getStatistics();
     }
 
     /**
@@ -95,10 +278,286 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
      */
     @Override
     public double getConversionFactor(Unit sourceUnit, Unit targetUnit) throws ConversionException {
+        ConversionTable table = conversionTable;
+        if(table!=null){
+            int sourceOrdinal = table.getOrdinal(sourceUnit);
+            int targetOrdinal = table.getOrdinal(targetUnit);
+            if(sourceOrdinal>=0 && targetOrdinal>=0 && table.isConvertible(sourceOrdinal,targetOrdinal)){
+                return table.getFactorToReference(sourceOrdinal)/table.getFactorToReference(targetOrdinal);
+            }
+        }
         UnitOrScaleConversion conversion = this.getUnitConversion(sourceUnit,targetUnit);
         return conversion.factor;
     }
 
+    /**
+     * Returns the conversion factor that is needed to convert the source unit to the target unit, or
+     * {@link Double#NaN} when the source unit cannot be converted into the target unit. No exceptions are created,
+     * also not when the units cannot be converted; the result is stored like any other conversion.
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return The conversion factor, or NaN.
+     */
+    @Override
+    public double tryGetConversionFactor(Unit sourceUnit, Unit targetUnit) {
+        if(sourceUnit==null || targetUnit==null) return Double.NaN;
+        ConversionTable table = conversionTable;
+        if(table!=null){
+            int sourceOrdinal = table.getOrdinal(sourceUnit);
+            int targetOrdinal = table.getOrdinal(targetUnit);
+            if(sourceOrdinal>=0 && targetOrdinal>=0 && table.isConvertible(sourceOrdinal,targetOrdinal)){
+                return table.getFactorToReference(sourceOrdinal)/table.getFactorToReference(targetOrdinal);
+            }
+        }
+        return this.lookupUnitConversion(sourceUnit,targetUnit).factor;
+    }
+
+    /**
+     * Converts the specified value on the source scale to a value on the target scale, or returns
+     * {@link Double#NaN} when the scales cannot be converted into each other. No exceptions are created.
+     * @param value The value to be converted.
+     * @param scale The scale on which the value is specified.
+     * @param targetScale The scale on which the returned value is specified.
+     * @return The converted value, or NaN.
+     */
+    @Override
+    public double tryConvert(double value, Scale scale, Scale targetScale) {
+        if(scale==null || targetScale==null) return Double.NaN;
+        return this.lookupScaleConversion(scale,targetScale).convert(value);
+    }
+
+    /**
+     * Returns true when the source scale can be converted into the target scale.
+     * @param sourceScale The source scale.
+     * @param targetScale The target scale.
+     * @return True when the scales can be converted.
+     */
+    @Override
+    public boolean isConvertible(Scale sourceScale, Scale targetScale) {
+        if(sourceScale==null || targetScale==null) return false;
+        return this.lookupScaleConversion(sourceScale,targetScale).convertible;
+    }
+
+    /**
+     * Returns a converter that converts values expressed in the source unit to values expressed in the target unit.
+     * The conversion is determined when this method is called, applying the converter does not need any lookups.
+     * Keep the converter when the same conversion needs to be applied many times.
+     *
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return The converter.
+     * @throws ConversionException When the source unit cannot be converted to the target unit.
+     */
+    public UnitConverter getConverter(Unit sourceUnit, Unit targetUnit) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getUnitConversion(sourceUnit,targetUnit);
+        return new UnitConverter(sourceUnit, targetUnit, conversion.factor, this.getMeasureAndPointFactory());
+    }
+
+    /**
+     * Returns a converter that converts values on the source scale to values on the target scale.
+     * The conversion is determined when this method is called, applying the converter does not need any lookups.
+     * Keep the converter when the same conversion needs to be applied many times.
+     *
+     * @param sourceScale The source scale.
+     * @param targetScale The target scale.
+     * @return The converter.
+     * @throws ConversionException When the source scale cannot be converted to the target scale.
+     */
+    public ScaleConverter getConverter(Scale sourceScale, Scale targetScale) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getScaleConversion(sourceScale,targetScale);
+        return new ScaleConverter(sourceScale, targetScale, conversion.factor, conversion.offset, this.getMeasureAndPointFactory());
+    }
+
+    /**
+     * Returns a converter that converts points on any scale to points on the target scale. The converter keeps
+     * the conversion from each source scale it encounters, so it can be used to convert many points, also
+     * from several threads.
+     *
+     * @param targetScale The target scale.
+     * @return The point converter.
+     */
+    public PointConverter getPointConverter(Scale targetScale) {
+        if(targetScale==null) throw new IllegalArgumentException("The target scale of a point converter cannot be null.");
+        return new PointConverter(this, targetScale);
+    }
+
+    /**
+     * Sets the number of values from which arrays are converted in parallel by the bulk conversion methods
+     * of this factory. The work is then split across the processors using the common fork-join pool. By default,
+     * arrays are never converted in parallel. Parallel conversion only pays off for very large arrays, typically
+     * of millions of values.
+     * @param parallelThreshold The minimum number of values for which an array is converted in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns the number of values from which arrays are converted in parallel by the bulk conversion methods.
+     * @return The minimum number of values for which an array is converted in parallel.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Converts <code>length</code> values in the source array expressed in the source unit, starting at the source
+     * offset, and stores the values expressed in the target unit in the destination array, starting at the
+     * destination offset. The conversion is determined once for all values. The source and destination may be the
+     * same array. When the number of values is at least the parallel threshold, the values are converted in parallel.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @param sourceUnit The unit in which the values are expressed.
+     * @param targetUnit The unit in which the converted values are expressed.
+     * @throws ConversionException When the source unit cannot be converted to the target unit.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length,
+                        Unit sourceUnit, Unit targetUnit) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getUnitConversion(sourceUnit, targetUnit);
+        this.convertArray(source, sourceOffset, destination, destinationOffset, length, conversion);
+    }
+
+    /**
+     * Converts the values in the array, expressed in the source unit, in place to values expressed in the
+     * target unit.
+     * @param values The values to be converted, which are replaced by the converted values.
+     * @param sourceUnit The unit in which the values are expressed.
+     * @param targetUnit The unit in which the converted values are expressed.
+     * @throws ConversionException When the source unit cannot be converted to the target unit.
+     */
+    public void convertInPlace(double[] values, Unit sourceUnit, Unit targetUnit) throws ConversionException {
+        this.convert(values, 0, values, 0, values.length, sourceUnit, targetUnit);
+    }
+
+    /**
+     * Converts the remaining values in the source buffer, expressed in the source unit, and puts the values
+     * expressed in the target unit in the destination buffer. The positions of both buffers are advanced by the
+     * number of converted values. The buffers may be the same buffer.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put.
+     * @param sourceUnit The unit in which the values are expressed.
+     * @param targetUnit The unit in which the converted values are expressed.
+     * @throws ConversionException When the source unit cannot be converted to the target unit.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(DoubleBuffer source, DoubleBuffer destination, Unit sourceUnit, Unit targetUnit) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getUnitConversion(sourceUnit, targetUnit);
+        BulkConversion.convert(source, destination, conversion.factor, conversion.offset);
+    }
+
+    /**
+     * Converts the remaining doubles in the source byte buffer, expressed in the source unit, and puts the values
+     * expressed in the target unit in the destination byte buffer. The values are read and written in the byte
+     * order of each buffer. The positions of both buffers are advanced by the number of bytes of the converted values.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put.
+     * @param sourceUnit The unit in which the values are expressed.
+     * @param targetUnit The unit in which the converted values are expressed.
+     * @throws ConversionException When the source unit cannot be converted to the target unit.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(ByteBuffer source, ByteBuffer destination, Unit sourceUnit, Unit targetUnit) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getUnitConversion(sourceUnit, targetUnit);
+        BulkConversion.convert(source, destination, conversion.factor, conversion.offset);
+    }
+
+    /**
+     * Converts <code>length</code> values in the source array on the source scale, starting at the source
+     * offset, and stores the values on the target scale in the destination array, starting at the
+     * destination offset. The conversion is determined once for all values. The source and destination may be the
+     * same array. When the number of values is at least the parallel threshold, the values are converted in parallel.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @param sourceScale The scale on which the values are specified.
+     * @param targetScale The scale on which the converted values are specified.
+     * @throws ConversionException When the source scale cannot be converted to the target scale.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length,
+                        Scale sourceScale, Scale targetScale) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getScaleConversion(sourceScale, targetScale);
+        this.convertArray(source, sourceOffset, destination, destinationOffset, length, conversion);
+    }
+
+    /**
+     * Converts the values in the array, specified on the source scale, in place to values on the target scale.
+     * @param values The values to be converted, which are replaced by the converted values.
+     * @param sourceScale The scale on which the values are specified.
+     * @param targetScale The scale on which the converted values are specified.
+     * @throws ConversionException When the source scale cannot be converted to the target scale.
+     */
+    public void convertInPlace(double[] values, Scale sourceScale, Scale targetScale) throws ConversionException {
+        this.convert(values, 0, values, 0, values.length, sourceScale, targetScale);
+    }
+
+    /**
+     * Converts the remaining values in the source buffer, specified on the source scale, and puts the values
+     * on the target scale in the destination buffer. The positions of both buffers are advanced by the
+     * number of converted values. The buffers may be the same buffer.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put.
+     * @param sourceScale The scale on which the values are specified.
+     * @param targetScale The scale on which the converted values are specified.
+     * @throws ConversionException When the source scale cannot be converted to the target scale.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(DoubleBuffer source, DoubleBuffer destination, Scale sourceScale, Scale targetScale) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getScaleConversion(sourceScale, targetScale);
+        BulkConversion.convert(source, destination, conversion.factor, conversion.offset);
+    }
+
+    /**
+     * Converts the remaining doubles in the source byte buffer, specified on the source scale, and puts the values
+     * on the target scale in the destination byte buffer. The values are read and written in the byte
+     * order of each buffer. The positions of both buffers are advanced by the number of bytes of the converted values.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put.
+     * @param sourceScale The scale on which the values are specified.
+     * @param targetScale The scale on which the converted values are specified.
+     * @throws ConversionException When the source scale cannot be converted to the target scale.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(ByteBuffer source, ByteBuffer destination, Scale sourceScale, Scale targetScale) throws ConversionException {
+        UnitOrScaleConversion conversion = this.getScaleConversion(sourceScale, targetScale);
+        BulkConversion.convert(source, destination, conversion.factor, conversion.offset);
+    }
+
+    /**
+     * Converts the array range with the specified conversion, in parallel if the length is at least the
+     * parallel threshold.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @param conversion The conversion.
+     */
+    private void convertArray(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length,
+                              UnitOrScaleConversion conversion) {
+        if(length>=parallelThreshold){
+            BulkConversion.convertParallel(source, sourceOffset, destination, destinationOffset, length, conversion.factor, conversion.offset);
+        }else{
+            BulkConversion.convert(source, sourceOffset, destination, destinationOffset, length, conversion.factor, conversion.offset);
+        }
+    }
+
+    /**
+     * Returns the factory used by converters created by this conversion factory to create converted measures
+     * and points. Subclasses that create measures and points should override this method, the default
+     * implementation returns null.
+     * @return The measure and point factory, or null.
+     */
+    protected MeasureAndPointFactory getMeasureAndPointFactory() {
+        return null;
+    }
+
     /**
      * Creates an instance of the internal class that is able to convert between the two units.
      * @param sourceUnit The source unit.
@@ -114,63 +573,90 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
             throw new UnitConversionException("Could not convert measure with unit '"+sourceUnit+
                     "' because the target unit is null.", sourceUnit,targetUnit);
 
-        try {
-            // Check whether a previous conversion request with the same units was done.
-            Pair<String,String> key = new Pair<>(sourceUnit.getIdentifier(), targetUnit.getIdentifier());
-            UnitOrScaleConversion conversion = conversions.get(key);
-            if(conversion!=null) return conversion;
-            conversion = conversions.get(new Pair<>(targetUnit, sourceUnit));
-            if(conversion!=null) return conversion.invert();
-
-            // Check whether the dimension of both units is the same. If not throw exception.
-            if(!sourceUnit.getUnitDimension().equals(targetUnit.getUnitDimension())) {
-                throw new UnitConversionException("Could not convert from unit "+sourceUnit+" to unit "+targetUnit+" " +
-                        "because the dimensions of the two units is not the same!",sourceUnit,targetUnit);
-            }
-
-            // Get conversions for both units to their base units.
-            UnitOrScaleConversion tobase1 = this.getUnitConversionToBaseUnit(sourceUnit,1.0);
-            UnitOrScaleConversion tobase2 = this.getUnitConversionToBaseUnit(targetUnit,1.0);
-
-            boolean ies = inEqualsSet(tobase1, tobase2);
+        UnitOrScaleConversion conversion = this.lookupUnitConversion(sourceUnit, targetUnit);
+        if(!conversion.convertible) throw new NotConvertibleUnitException(sourceUnit, targetUnit, conversion.cause);
+        return conversion;
+    }
 
-            boolean isOne = false;
+    /**
+     * Returns the conversion between the two units, which may be a conversion that indicates that the units cannot
+     * be converted into each other. This method does not throw exceptions.
+     * @param sourceUnit The source unit, not null.
+     * @param targetUnit The target unit, not null.
+     * @return The conversion instance.
+     */
+    private UnitOrScaleConversion lookupUnitConversion(Unit sourceUnit, Unit targetUnit){
+        // Units that are the same or that have been set to be equal are converted without a lookup.
+        if(sourceUnit==targetUnit || equalUnits.areEquivalent(sourceUnit.getIdentifier(), targetUnit.getIdentifier())){
+            return UnitOrScaleConversion.IDENTITY;
+        }
+        // Check whether a previous conversion request with the same units was done.
+        ConversionKey key = new ConversionKey(sourceUnit.getIdentifier(), targetUnit.getIdentifier());
+        return conversions.get(key, k -> this.createUnitConversion(sourceUnit, targetUnit));
+    }
 
-            // Test if one of the tobase units is ONE
-            if(tobase1.toUnit instanceof BaseUnit && ((BaseUnit) tobase1.toUnit).isDimensionless()) { // Test to ONE
-                if(tobase2.toUnit.isDimensionless()) isOne = true;
-            } else if (tobase2.toUnit instanceof BaseUnit && ((BaseUnit) tobase2.toUnit).isDimensionless()){ // Test to ONE
-                if(tobase1.toUnit.isDimensionless()) isOne = true;
-            }
+    /**
+     * Determines the conversion between the two units. This method is called at most once for each pair of
+     * units, the result is stored by {@link #lookupUnitConversion(Unit, Unit)}. When the units cannot be converted
+     * into each other, a conversion is returned that records this, so that the result is also stored.
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return The conversion instance.
+     */
+    private UnitOrScaleConversion createUnitConversion(Unit sourceUnit, Unit targetUnit){
+        try {
+            // Check whether the reverse conversion was requested before.
+            UnitOrScaleConversion conversion = conversions.peek(new ConversionKey(targetUnit.getIdentifier(), sourceUnit.getIdentifier()));
+            if(conversion!=null) return conversion.invert(targetUnit);
 
-            if(!(tobase1.toUnit.equals(tobase2.toUnit)) && !ies && !isOne){
-                throw new UnitConversionException("Could not convert from measure with unit '"+
-                        sourceUnit+"' to '"+targetUnit+"'.", sourceUnit,targetUnit);
-            }
-            conversion = new UnitOrScaleConversion(tobase1.factor/tobase2.factor,0,targetUnit);
-            conversions.put(key,conversion);
+            // Units from the same set with precomputed conversion data are converted without their normal forms.
+            conversion = this.getPrecomputedConversion(sourceUnit, targetUnit);
+            if(conversion!=null) return conversion;
 
-            return conversion;
-        } catch (Throwable e) {
-            throw new UnitConversionException("Could not convert from measure with unit '"+
-                    sourceUnit+"' to '"+targetUnit+"'.", sourceUnit,targetUnit,e);
+            // Compare the normal forms of both units, i.e. the base units and their exponents in which the units
+            // are defined. Units with the same base units are converted by the ratio of their factors.
+            UnitNormalForm form1 = UnitNormalForm.of(sourceUnit);
+            UnitNormalForm form2 = UnitNormalForm.of(targetUnit);
+            boolean compatible = form1.isCompatibleWith(form2) ||
+                    (!equalUnits.isEmpty() && form1.isCompatibleWith(form2, equalUnits));
+            if(!compatible) return UnitOrScaleConversion.NOT_CONVERTIBLE;
+            return new UnitOrScaleConversion(form1.getFactor()/form2.getFactor(),0,targetUnit);
+        } catch (RuntimeException e) {
+            return new UnitOrScaleConversion(e);
         }
     }
 
     /**
-     * Returns true when the units have been set as equal units using {@link #setUnitsToBeEqual(Unit, Unit)}.
-     * This process is recursive, if a==b and b==c then a==c.
-     * @param tobase1 The first unit tested.
-     * @param tobase2 The second unit tested.
-     * @return True when the units are equal.
+     * Determines the conversion between the two units from the conversion data precomputed by a set that contains
+     * both units. Units in the same group are converted by the ratio of their factors. Units in different groups or
+     * with different dimensions cannot be converted into each other, unless units have been set to be equal.
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return The conversion instance, or null if the conversion cannot be determined from precomputed data.
      */
-    private boolean inEqualsSet(UnitOrScaleConversion tobase1, UnitOrScaleConversion tobase2) {
-        List<Unit> equs = equalUnits.get(tobase1);
-        if(equs==null) return false;
-        return equs.contains(tobase2);
+    private UnitOrScaleConversion getPrecomputedConversion(Unit sourceUnit, Unit targetUnit){
+        for(UnitAndScaleSet set : precomputedSets){
+            int source = set.getPrecomputedIndex(sourceUnit);
+            if(source<0) continue;
+            int target = set.getPrecomputedIndex(targetUnit);
+            if(target<0) continue;
+            int group = set.getConversionGroup(source);
+            if(group>=0 && group==set.getConversionGroup(target)){
+                return new UnitOrScaleConversion(set.getFactorToBaseUnits(source)/set.getFactorToBaseUnits(target),
+                        0,targetUnit);
+            }
+            if(!equalUnits.isEmpty()) return null;
+            if(group>=0 && set.getConversionGroup(target)>=0) return UnitOrScaleConversion.NOT_CONVERTIBLE;
+            Dimension dimension = set.getUnitDimension(source);
+            Dimension targetDimension = set.getUnitDimension(target);
+            if(dimension!=null && targetDimension!=null && !dimension.equals(targetDimension)){
+                return UnitOrScaleConversion.NOT_CONVERTIBLE;
+            }
+            return null;
+        }
+        return null;
     }
 
-
     /**
      * Creates an instance of the internal class that is able to convert between the two scales.
      * @param sourceScale The source scale.
@@ -186,109 +672,208 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
             throw new ScaleConversionException("Could not convert point with scale '"+sourceScale+
                     "' because the target scale is null.", sourceScale,targetScale);
 
+        UnitOrScaleConversion conversion = this.lookupScaleConversion(sourceScale, targetScale);
+        if(!conversion.convertible) throw new NotConvertibleScaleException(sourceScale, targetScale, conversion.cause);
+        return conversion;
+    }
+
+    /**
+     * Returns the conversion between the two scales, which may be a conversion that indicates that the scales
+     * cannot be converted into each other. This method does not throw exceptions.
+     * @param sourceScale The source scale, not null.
+     * @param targetScale The target scale, not null.
+     * @return The conversion instance.
+     */
+    private UnitOrScaleConversion lookupScaleConversion(Scale sourceScale, Scale targetScale){
+        // Check whether a previous conversion request with the same scales was done.
+        ConversionKey key = new ConversionKey(sourceScale.getIdentifier(), targetScale.getIdentifier());
+        return conversions.get(key, k -> this.createScaleConversion(sourceScale, targetScale));
+    }
+
+    /**
+     * Determines the conversion between the two scales. This method is called at most once for each pair of
+     * scales, the result is stored by {@link #lookupScaleConversion(Scale, Scale)}. When the scales cannot be
+     * converted into each other, a conversion is returned that records this, so that the result is also stored.
+     * @param sourceScale The source scale.
+     * @param targetScale The target scale.
+     * @return The conversion instance.
+     */
+    private UnitOrScaleConversion createScaleConversion(Scale sourceScale, Scale targetScale){
         try {
-            // Check whether a previous conversion request with the same scales was done.
-            UnitOrScaleConversion conversion = conversions.get(new Pair<>(sourceScale, targetScale));
-            if(conversion!=null) return conversion;
-            conversion = conversions.get(new Pair<>(targetScale, sourceScale));
-            if(conversion!=null) return conversion.invert();
+            // Check whether the reverse conversion was requested before.
+            UnitOrScaleConversion conversion = conversions.peek(new ConversionKey(targetScale.getIdentifier(), sourceScale.getIdentifier()));
+            if(conversion!=null) return conversion.invert(targetScale);
 
             // Check whether the dimension of both scale is the same. If not throw exception.
             if(!sourceScale.getUnit().getUnitDimension().equals(targetScale.getUnit().getUnitDimension())) {
-                throw new ScaleConversionException("Could not convert from scale "+sourceScale+" to scale "+targetScale+" " +
-                        "because the dimensions of the two units is not the same!",sourceScale,targetScale);
+                return UnitOrScaleConversion.NOT_CONVERTIBLE;
             }
 
-            UnitOrScaleConversion tobase1 = this.getScaleConversionToBaseScale(sourceScale, 1.0, 0.0);
-            UnitOrScaleConversion tobase2 = this.getScaleConversionToBaseScale(targetScale, 1.0, 0.0);
+            // The transformations from the root scales are cached on the scales, so the chains of definition
+            // scales are not followed again.
+            ScaleTransform transform1 = ScaleTransform.of(sourceScale);
+            ScaleTransform transform2 = ScaleTransform.of(targetScale);
+            double factor = transform1.getConversionFactorTo(transform2);
+            double offset = transform1.getConversionOffsetTo(transform2);
+            if(!transform1.hasSameRootScale(transform2)){
+                // Root scales are not defined relative to another scale, their zero points are assumed to be
+                // the same so that only the units of the root scales need to be converted. The unit conversion is
+                // not looked up in the cache, as this method is called while the cache is being updated.
+                UnitOrScaleConversion rootConversion = this.createUnitConversion(
+                        transform1.getRootScale().getUnit(), transform2.getRootScale().getUnit());
+                if(!rootConversion.convertible) return rootConversion;
+                factor = factor*rootConversion.factor;
+                offset = transform2.getOffset()-transform1.getOffset()*factor;
+            }
+            return new UnitOrScaleConversion(factor,offset,targetScale);
+        } catch (RuntimeException e) {
+            return new UnitOrScaleConversion(e);
+        }
+    }
 
-            double factor = tobase2.factor/tobase1.factor;
-            double offset = tobase2.offset-tobase1.offset*factor;
-            conversion = new UnitOrScaleConversion(factor,offset,targetScale);
+    /**
+     * Defines two units two be equal to each other, for instance when they define the same unit but are in
+     * different sets.
+     *
+     * @param unit1 The first unit set to be equal to the second.
+     * @param unit2 The second unit set to be equal to the first.
+     */
+    @Override
+    public void setUnitsToBeEqual(Unit unit1, Unit unit2) {
+        this.join(unit1.getIdentifier(), unit2.getIdentifier());
+    }
 
-            return conversion;
-        } catch (Throwable e) {
-            throw new ScaleConversionException("Could not convert from point in scale '"+
-                    sourceScale+"' to '"+targetScale+"'.", sourceScale,targetScale,e);
-        }
+    /**
+     * Uses the conversion data precomputed by the specified set to determine conversions between units in the set,
+     * see {@link UnitAndScaleSet#getPrecomputedIndex(Unit)}. Sets without precomputed data are ignored.
+     *
+     * @param set The set of units.
+     */
+    @Override
+    public void usePrecomputedConversions(UnitAndScaleSet set) {
+        if(set==null || precomputedSets.contains(set) || set.getPrecomputedIndex(set.getOne())<0) return;
+        precomputedSets.add(set);
     }
 
     /**
-     * Determines the unit conversion (factor and offset) for the specified unit to the base unit.
-     * The factor is multiplied by the specified factor for recursive processing. The first call
-     * to this method should have a factor of 1.0.
-     * @param unit The unit whose conversion is sought.
-     * @param factor The current factor.
-     * @return The conversion to its base unit.
+     * Sets the units in the specified set to be equal to the units with the same definition in the sets that were
+     * matched before, for instance the metre in the OM 2.0 set to the metre in the core set. Units in the same set
+     * are never matched. Two units are matched when they have the same local name (the part of the identifier after
+     * the namespace), or when they have the same symbol and local names that only differ in case and punctuation
+     * (e.g. second-Time and secondTime), and when they have the same definition:
+     * <ul>
+     *     <li>units that are not defined by other units (such as base units) should have the same dimension;</li>
+     *     <li>other units should have the same factor and exponents with respect to matched units that are not
+     *     defined by other units.</li>
+     * </ul>
+     * Conversions between matched units do not need any computation.
+     *
+     * @param set The set of units.
      */
-    private UnitOrScaleConversion getUnitConversionToBaseUnit(Unit unit, double factor){
-        if(unit instanceof BaseUnit) return new UnitOrScaleConversion(factor,0,unit);
-        if(unit instanceof SingularUnit){
-            SingularUnit singularUnit = (SingularUnit)unit;
-            if(singularUnit.getDefinitionUnit() == null){
-                return new UnitOrScaleConversion(factor,0,singularUnit);
-            }else{
-                return this.getUnitConversionToBaseUnit(singularUnit.getDefinitionUnit(),factor*singularUnit.getDefinitionNumericalValue());
-            }
-        }
-        if(unit instanceof UnitMultiple){
-            UnitMultiple unitMultiple = (UnitMultiple)unit;
-            return this.getUnitConversionToBaseUnit(unitMultiple.getUnit(),factor*unitMultiple.getFactor());
+    @Override
+    public void matchEqualUnits(UnitAndScaleSet set) {
+        List<Unit> definedUnits = new ArrayList<>();
+        Set<String> identifiers = new HashSet<>();
+        for (Unit unit : set.getAllUnits()) {
+            if (unit != null) identifiers.add(unit.getIdentifier());
         }
-        if(unit instanceof UnitDivision){
-            UnitDivision unitDivision = (UnitDivision)unit;
-            UnitOrScaleConversion numConv = this.getUnitConversionToBaseUnit(unitDivision.getNumerator(),1.0);
-            UnitOrScaleConversion denConv = this.getUnitConversionToBaseUnit(unitDivision.getDenominator(), 1.0);
-            double numfac = numConv.factor;
-            double denfac = denConv.factor;
-            return new UnitOrScaleConversion(factor*numfac/denfac,0.0, new UnitDivisionImpl(numConv.toUnit,denConv.toUnit));
+        synchronized (matchedUnits) {
+            // Match the units that are not defined by other units first, so that the definitions of the other
+            // units can be expressed with the labels of matched units.
+            for (Unit unit : set.getAllUnits()) {
+                if (unit == null) continue;
+                try {
+                    UnitNormalForm form = UnitNormalForm.of(unit);
+                    if (form.size() != 1 || form.getBaseUnit(0) != unit) {
+                        definedUnits.add(unit);
+                        continue;
+                    }
+                    String dimension = "|" + unit.getUnitDimension();
+                    String match = this.matchUnit(unit, dimension, identifiers);
+                    leafLabels.putIfAbsent(unit.getIdentifier(), match == null ? unit.getIdentifier() : leafLabels.get(match));
+                } catch (RuntimeException e) {
+                    // Units for which the definition cannot be determined are not matched.
+                }
+            }
+            for (Unit unit : definedUnits) {
+                try {
+                    this.matchUnit(unit, "|" + this.getDefinitionKey(UnitNormalForm.of(unit)), identifiers);
+                } catch (RuntimeException e) {
+                    // Units for which the definition cannot be determined are not matched.
+                }
+            }
         }
-        if(unit instanceof UnitMultiplication){
-            UnitMultiplication unitMultiplication = (UnitMultiplication)unit;
-            UnitOrScaleConversion term1Conv = this.getUnitConversionToBaseUnit(unitMultiplication.getTerm1(),1.0);
-            UnitOrScaleConversion term2Conv = this.getUnitConversionToBaseUnit(unitMultiplication.getTerm2(), 1.0);
-            double term1fac = term1Conv.factor;
-            double term2fac = term2Conv.factor;
-            return new UnitOrScaleConversion(factor*term1fac*term2fac,0.0, new UnitMultiplicationImpl(term1Conv.toUnit,term2Conv.toUnit));
+    }
 
+    /**
+     * Sets the unit to be equal to the first unit of another set that was matched with the same local name, or with
+     * the same symbol and a similar local name, and the same definition. If no such unit exists, the unit is
+     * recorded for matching the units of sets matched later.
+     * Should be called while holding the lock of the matched units.
+     * @param unit The unit.
+     * @param definition The key of the definition of the unit.
+     * @param identifiers The identifiers of the units in the set of the unit, which are not matched.
+     * @return The identifier of the unit to which the unit was set to be equal, or null.
+     */
+    private String matchUnit(Unit unit, String definition, Set<String> identifiers) {
+        String identifier = unit.getIdentifier();
+        String localName = identifier.substring(Math.max(identifier.lastIndexOf('/'),
+                Math.max(identifier.lastIndexOf('#'), identifier.lastIndexOf('.')))+1);
+        String similarName = localName.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+        String[] keys = unit.getSymbol()==null ?
+                new String[]{"name:"+localName+definition} :
+                new String[]{"symbol:"+unit.getSymbol()+" "+similarName+definition, "name:"+localName+definition};
+        String match = null;
+        for(String key : keys){
+            String matched = matchedUnits.putIfAbsent(key, identifier);
+            if(match==null && matched!=null && !identifiers.contains(matched)) match = matched;
         }
-        if(unit instanceof UnitExponentiation) {
-            UnitExponentiation unitExponentiation = (UnitExponentiation)unit;
-            UnitOrScaleConversion baseConv = this.getUnitConversionToBaseUnit(unitExponentiation.getBase(),1.0);
-            double efac = baseConv.factor;
-            return new UnitOrScaleConversion(factor*Math.pow(efac,unitExponentiation.getExponent()),1.0,new UnitExponentiationImpl(baseConv.toUnit,unitExponentiation.getExponent()));
-        }
-        return null;
+        if(match!=null) this.join(identifier, match);
+        return match;
     }
 
-    private UnitOrScaleConversion getScaleConversionToBaseScale(Scale scale,double factor, double offset){
-        if(scale.getDefinitionScale() == null){
-            return new UnitOrScaleConversion(factor,offset,scale);
-        }else{
-            return this.getScaleConversionToBaseScale(scale.getDefinitionScale(), factor * scale.getFactorFromDefinitionScale(),offset+scale.getOffsetFromDefinitionScale());
+    /**
+     * Returns a key for the definition of a unit, with the factor and the exponents of the units that are not
+     * defined by other units in its normal form. These units are identified by their labels, so that the keys of
+     * units with the same definition in different sets are the same. The factor is rounded to 12 significant digits.
+     * @param form The normal form of the unit.
+     * @return The key.
+     */
+    private String getDefinitionKey(UnitNormalForm form) {
+        String[] terms = new String[form.size()];
+        for(int i=0;i<terms.length;i++){
+            String identifier = form.getBaseUnit(i).getIdentifier();
+            String label = leafLabels.get(identifier);
+            terms[i] = (label==null ? identifier : label)+"^"+form.getExponentNumerator(i)+"/"+form.getExponentDenominator(i);
         }
+        Arrays.sort(terms);
+        return String.format(Locale.ROOT, "%.11e", form.getFactor())+" "+String.join(" ", terms);
     }
 
-
     /**
-     * Defines two units two be equal to each other, for instance when they define the same unit but are in
-     * different sets.
-     *
-     * @param unit1 The first unit set to be equal to the second.
-     * @param unit2 The second unit set to be equal to the first.
+     * Joins the equivalence classes of the units with the specified identifiers. When the classes are joined,
+     * the conversion table is removed and the stored results of conversions that were not possible are removed,
+     * as these conversions may be possible now.
+     * @param identifier1 The identifier of the first unit.
+     * @param identifier2 The identifier of the second unit.
      */
-    @Override
-    public void setUnitsToBeEqual(Unit unit1, Unit unit2) {
-        ArrayList<Unit> l1 = (ArrayList) equalUnits.get(unit1);
-        if(l1==null){
-            equalUnits.put(unit1,l1);
-        }
-        l1.add(unit2);
-        ArrayList<Unit> l2 = (ArrayList) equalUnits.get(unit2);
-        if(l2==null){
-            equalUnits.put(unit2,l2);
+    private void join(String identifier1, String identifier2) {
+        if(equalUnits.union(identifier1, identifier2)){
+            conversionTable = null;
+            conversions.removeValues(conversion -> !conversion.convertible);
         }
-        l2.add(unit1);
+    }
+
+    /**
+     * Tests whether the specified units have been set to be equal to each other, directly or through other units,
+     * with {@link #setUnitsToBeEqual(Unit, Unit)} or {@link #matchEqualUnits(UnitAndScaleSet)}.
+     * A unit is always equal to itself.
+     * @param unit1 The first unit.
+     * @param unit2 The second unit.
+     * @return True when the units are equal.
+     */
+    public boolean areUnitsEqual(Unit unit1, Unit unit2) {
+        return unit1==unit2 || equalUnits.areEquivalent(unit1.getIdentifier(), unit2.getIdentifier());
     }
 
     /**
@@ -303,27 +888,39 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
         // A unit is equal to one if it is dimensionless and if one wants to convert it to its base units,
         // the conversion factor in 1.0 (i.e. no conversion needed).
         if(!unit.isDimensionless()) return false;
-        UnitOrScaleConversion baseConv = this.getUnitConversionToBaseUnit(unit,1.0);
-        return  baseConv.factor==1.0;
+        return UnitNormalForm.of(unit).getFactor()==1.0;
     }
 
 
 
     /**
-     * This private class encapsulates the conversion from one unit to another.
+     * This private class encapsulates the conversion from one unit to another. Instances are immutable and can
+     * be shared between threads.
      */
-    private class UnitOrScaleConversion {
+    private static final class UnitOrScaleConversion {
+
+        /** The conversion between units or scales that cannot be converted into each other. */
+        static final UnitOrScaleConversion NOT_CONVERTIBLE = new UnitOrScaleConversion((Throwable) null);
+
+        /** The conversion between units that are equal. */
+        static final UnitOrScaleConversion IDENTITY = new UnitOrScaleConversion(1.0, 0.0, (Unit) null);
+
+        /** True when the units or scales can be converted into each other. */
+        private final boolean convertible;
+
+        /** The exception that caused the conversion to fail, or null. */
+        private final Throwable cause;
 
         /** The multiplication factor of the unit conversion. */
-        private double factor=1;
+        private final double factor;
         /** The offset for the unit (scale) conversion */
-        private double offset=0;
+        private final double offset;
 
         /** The resulting unit of the conversion. */
-        private Unit toUnit;
+        private final Unit toUnit;
 
         /** The resulting scale of the conversion. */
-        private Scale toScale;
+        private final Scale toScale;
 
         /**
          * Creates a Unit conversion with the specified factor
@@ -332,9 +929,12 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
          * @param toUnit The unit to which is converted.
          */
         public UnitOrScaleConversion(double factor, double offset, Unit toUnit){
+            this.convertible = true;
+            this.cause = null;
             this.factor = factor;
             this.offset = offset;
             this.toUnit = toUnit;
+            this.toScale = null;
         }
 
         /**
@@ -344,19 +944,47 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
          * @param toScale The scale to which is converted.
          */
         public UnitOrScaleConversion(double factor, double offset, Scale toScale){
+            this.convertible = true;
+            this.cause = null;
             this.factor = factor;
             this.offset = offset;
+            this.toUnit = null;
             this.toScale = toScale;
         }
 
+        /**
+         * Creates a conversion that records that the units or scales cannot be converted into each other.
+         * @param cause The exception that caused the conversion to fail, or null.
+         */
+        public UnitOrScaleConversion(Throwable cause){
+            this.convertible = false;
+            this.cause = cause;
+            this.factor = Double.NaN;
+            this.offset = Double.NaN;
+            this.toUnit = null;
+            this.toScale = null;
+        }
+
         /**
          * Inverts the unit conversion. If this is a unit conversion between km and yards, the inverted conversion
          * can convert between yards and km.
+         * @param toUnit The unit to which the inverted conversion converts, i.e. the source unit of this conversion.
          * @return The inverted conversion.
          */
-        public UnitOrScaleConversion invert(){
-            System.out.println("inverting");
-            return new UnitOrScaleConversion(1/factor,-offset/factor,(Unit)null);
+        public UnitOrScaleConversion invert(Unit toUnit){
+            if(!convertible) return this;
+            return new UnitOrScaleConversion(1/factor,-offset/factor,toUnit);
+        }
+
+        /**
+         * Inverts the scale conversion. If this is a scale conversion between Celsius and Fahrenheit, the inverted
+         * conversion can convert between Fahrenheit and Celsius.
+         * @param toScale The scale to which the inverted conversion converts, i.e. the source scale of this conversion.
+         * @return The inverted conversion.
+         */
+        public UnitOrScaleConversion invert(Scale toScale){
+            if(!convertible) return this;
+            return new UnitOrScaleConversion(1/factor,-offset/factor,toScale);
         }
 
         /**
@@ -368,4 +996,107 @@ public abstract class AbstractUnitConversionFactory implements UnitAndScaleConve
             return value*factor+offset;
         }
     }
+
+    /**
+     * The key used to store conversions, a tuple of the identifiers of the source and target unit or scale.
+     * The hash code is calculated once when the key is created.
+     */
+    private static final class ConversionKey {
+
+        /** The identifier of the source unit or scale. */
+        private final String source;
+
+        /** The identifier of the target unit or scale. */
+        private final String target;
+
+        /** The precalculated hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new key for the conversion between the specified source and target.
+         * @param source The identifier of the source unit or scale.
+         * @param target The identifier of the target unit or scale.
+         */
+        ConversionKey(String source, String target){
+            this.source = source;
+            this.target = target;
+            this.hash = 31*source.hashCode()+target.hashCode();
+        }
+
+        @Override
+        public int hashCode(){
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object){
+            if(this==object) return true;
+            if(!(object instanceof ConversionKey)) return false;
+            ConversionKey key = (ConversionKey)object;
+            return hash==key.hash && source.equals(key.source) && target.equals(key.target);
+        }
+    }
+
+    /**
+     * The exception thrown when two units cannot be converted into each other. As this is an expected result when
+     * converting data with units of mixed dimensions, the exception does not record a stack trace and its message
+     * is only built when requested.
+     */
+    private static final class NotConvertibleUnitException extends UnitConversionException {
+
+        /** The message, built when first requested. */
+        private String message = null;
+
+        /**
+         * Creates a new exception for the specified units.
+         * @param sourceUnit The unit to be converted.
+         * @param targetUnit The unit to which is converted.
+         * @param cause The exception that caused the conversion to fail, or null.
+         */
+        NotConvertibleUnitException(Unit sourceUnit, Unit targetUnit, Throwable cause){
+            super(null, sourceUnit, targetUnit, cause);
+        }
+
+        @Override
+        public String getMessage(){
+            if(message==null) message = "Could not convert from measure with unit '"+getSourceUnit()+"' to '"+getTargetUnit()+"'.";
+            return message;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace(){
+            return this;
+        }
+    }
+
+    /**
+     * The exception thrown when two scales cannot be converted into each other. The exception does not record a
+     * stack trace and its message is only built when requested.
+     */
+    private static final class NotConvertibleScaleException extends ScaleConversionException {
+
+        /** The message, built when first requested. */
+        private String message = null;
+
+        /**
+         * Creates a new exception for the specified scales.
+         * @param sourceScale The scale to be converted.
+         * @param targetScale The scale to which is converted.
+         * @param cause The exception that caused the conversion to fail, or null.
+         */
+        NotConvertibleScaleException(Scale sourceScale, Scale targetScale, Throwable cause){
+            super(null, sourceScale, targetScale, cause);
+        }
+
+        @Override
+        public String getMessage(){
+            if(message==null) message = "Could not convert from point in scale '"+getSourceScale()+"' to '"+getTargetScale()+"'.";
+            return message;
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace(){
+            return this;
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package nl.wur.fbr.om.conversion;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The loops used by {@link UnitConverter} and {@link ScaleConverter} to convert arrays and buffers of values.
+ * Each loop applies one factor and offset to all values, without any lookups, so that the loops can be
+ * compiled into vectorized code. Large arrays can be converted in parallel using the common fork-join pool.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+final class BulkConversion {
+
+    /** The number of values below which a parallel conversion is not split any further. */
+    static final int MINIMUM_PARALLEL_CHUNK = 1 << 16;
+
+    /** This class only contains static methods. */
+    private BulkConversion(){
+    }
+
+    /**
+     * Converts <code>length</code> values from the source array starting at the source offset and stores the
+     * converted values in the destination array starting at the destination offset. The source and destination
+     * array may be the same array, also when the ranges overlap.
+     * @param source The source array.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The destination array.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @param factor The factor with which the values are multiplied.
+     * @param offset The offset that is added to the multiplied values.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    static void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length,
+                        double factor, double offset){
+        checkRange(source.length, sourceOffset, length);
+        checkRange(destination.length, destinationOffset, length);
+        if(source==destination && destinationOffset>sourceOffset && destinationOffset<sourceOffset+length){
+            // Overlapping ranges where a forward loop would overwrite values that still need to be converted.
+            for(int i=length-1;i>=0;i--){
+                destination[destinationOffset+i] = source[sourceOffset+i]*factor+offset;
+            }
+        }else if(offset==0.0){
+            for(int i=0;i<length;i++){
+                destination[destinationOffset+i] = source[sourceOffset+i]*factor;
+            }
+        }else{
+            for(int i=0;i<length;i++){
+                destination[destinationOffset+i] = source[sourceOffset+i]*factor+offset;
+            }
+        }
+    }
+
+    /**
+     * Converts the values like {@link #convert(double[], int, double[], int, int, double, double)}, but splits the
+     * work in chunks that are converted in parallel in the common fork-join pool. Overlapping ranges in the
+     * same array are converted sequentially.
+     * @param source The source array.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The destination array.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @param factor The factor with which the values are multiplied.
+     * @param offset The offset that is added to the multiplied values.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    static void convertParallel(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length,
+                                double factor, double offset){
+        checkRange(source.length, sourceOffset, length);
+        checkRange(destination.length, destinationOffset, length);
+        boolean overlapping = source==destination && sourceOffset!=destinationOffset &&
+                destinationOffset<sourceOffset+length && sourceOffset<destinationOffset+length;
+        if(overlapping || length<2*MINIMUM_PARALLEL_CHUNK){
+            convert(source, sourceOffset, destination, destinationOffset, length, factor, offset);
+        }else{
+            ForkJoinPool.commonPool().invoke(new ConversionTask(source, sourceOffset, destination, destinationOffset, length, factor, offset));
+        }
+    }
+
+    /**
+     * Converts the remaining values in the source buffer and puts the converted values in the destination buffer.
+     * The positions of both buffers are advanced by the number of converted values. The buffers may be the same
+     * buffer, in which case the values are converted in place.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put.
+     * @param factor The factor with which the values are multiplied.
+     * @param offset The offset that is added to the multiplied values.
+     * @throws BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    static void convert(DoubleBuffer source, DoubleBuffer destination, double factor, double offset){
+        int length = source.remaining();
+        if(source==destination){
+            int position = source.position();
+            if(source.hasArray() && !source.isReadOnly()){
+                int index = source.arrayOffset()+position;
+                convert(source.array(), index, source.array(), index, length, factor, offset);
+            }else{
+                for(int i=position;i<position+length;i++){
+                    source.put(i, source.get(i)*factor+offset);
+                }
+            }
+            source.position(position+length);
+            return;
+        }
+        if(destination.remaining()<length) throw new BufferOverflowException();
+        if(source.hasArray() && destination.hasArray() && !destination.isReadOnly()){
+            convert(source.array(), source.arrayOffset()+source.position(),
+                    destination.array(), destination.arrayOffset()+destination.position(), length, factor, offset);
+            source.position(source.position()+length);
+            destination.position(destination.position()+length);
+        }else{
+            int sourcePosition = source.position();
+            int destinationPosition = destination.position();
+            for(int i=0;i<length;i++){
+                destination.put(destinationPosition+i, source.get(sourcePosition+i)*factor+offset);
+            }
+            source.position(sourcePosition+length);
+            destination.position(destinationPosition+length);
+        }
+    }
+
+    /**
+     * Converts the remaining doubles in the source byte buffer and puts the converted values in the destination
+     * byte buffer. The values are read and written in the byte order of the buffers. The positions of both buffers
+     * are advanced by the number of bytes of the converted values. Remaining bytes that do not form a complete
+     * double are not read.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put.
+     * @param factor The factor with which the values are multiplied.
+     * @param offset The offset that is added to the multiplied values.
+     * @throws BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    static void convert(ByteBuffer source, ByteBuffer destination, double factor, double offset){
+        int length = source.remaining()/Double.BYTES;
+        if(destination.remaining()<length*Double.BYTES) throw new BufferOverflowException();
+        DoubleBuffer sourceValues = source.asDoubleBuffer();
+        sourceValues.limit(length);
+        DoubleBuffer destinationValues = source==destination ? sourceValues : destination.asDoubleBuffer();
+        convert(sourceValues, destinationValues, factor, offset);
+        source.position(source.position()+length*Double.BYTES);
+        if(source!=destination) destination.position(destination.position()+length*Double.BYTES);
+    }
+
+    /**
+     * Checks whether the range is within an array of the specified length.
+     * @param arrayLength The length of the array.
+     * @param offset The index of the first element in the range.
+     * @param length The length of the range.
+     * @throws IndexOutOfBoundsException When the range is not within the array.
+     */
+    private static void checkRange(int arrayLength, int offset, int length){
+        if(offset<0 || length<0 || offset>arrayLength-length)
+            throw new IndexOutOfBoundsException("Range ["+offset+", "+offset+"+"+length+") out of bounds for length "+arrayLength);
+    }
+
+    /**
+     * The fork-join task that splits the conversion of an array in halves until the chunks are small enough
+     * to be converted sequentially.
+     */
+    private static final class ConversionTask extends RecursiveAction {
+
+        private final double[] source;
+        private final int sourceOffset;
+        private final double[] destination;
+        private final int destinationOffset;
+        private final int length;
+        private final double factor;
+        private final double offset;
+
+        /**
+         * Creates a new conversion task for the specified range.
+         * @param source The source array.
+         * @param sourceOffset The index of the first value to be converted.
+         * @param destination The destination array.
+         * @param destinationOffset The index in the destination array of the first converted value.
+         * @param length The number of values to be converted.
+         * @param factor The factor with which the values are multiplied.
+         * @param offset The offset that is added to the multiplied values.
+         */
+        ConversionTask(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length,
+                       double factor, double offset){
+            this.source = source;
+            this.sourceOffset = sourceOffset;
+            this.destination = destination;
+            this.destinationOffset = destinationOffset;
+            this.length = length;
+            this.factor = factor;
+            this.offset = offset;
+        }
+
+        @Override
+        protected void compute() {
+            if(length<2*MINIMUM_PARALLEL_CHUNK){
+                convert(source, sourceOffset, destination, destinationOffset, length, factor, offset);
+                return;
+            }
+            int half = length>>>1;
+            invokeAll(new ConversionTask(source, sourceOffset, destination, destinationOffset, half, factor, offset),
+                    new ConversionTask(source, sourceOffset+half, destination, destinationOffset+half, length-half, factor, offset));
+        }
+    }
+}
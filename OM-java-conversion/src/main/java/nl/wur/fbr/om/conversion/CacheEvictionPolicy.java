@@ -0,0 +1,24 @@
+package nl.wur.fbr.om.conversion;
+
+/**
+ * The policies that can be used by a {@link AbstractUnitConversionFactory} to decide which stored conversions
+ * are removed when the maximum number of stored conversions is reached.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public enum CacheEvictionPolicy {
+
+    /**
+     * The conversion that was used least recently is removed. Recency is approximated with a clock (second chance)
+     * algorithm so that a lookup of a stored conversion does not need to lock.
+     */
+    LEAST_RECENTLY_USED,
+
+    /**
+     * A new conversion is only stored when it has been requested more often than the conversion it would replace.
+     * The request frequencies are estimated with a small sketch that is periodically aged. This policy works best
+     * when many one-off conversions (for instance between anonymous compound units) would otherwise push out
+     * the conversions that are used all the time.
+     */
+    FREQUENCY_ADMISSION
+}
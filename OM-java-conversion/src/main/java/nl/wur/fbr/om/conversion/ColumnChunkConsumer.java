@@ -0,0 +1,31 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.model.units.Unit;
+
+/**
+ * A consumer of the columns of a delimited file normalised by a {@link DelimitedUnitNormalizer}. The consumer first
+ * receives the names and units of the columns, and then the values of the columns in chunks of rows, in the order
+ * in which the rows appear in the file. All methods are called from the thread that called
+ * {@link DelimitedUnitNormalizer#normalize(java.io.Reader, ColumnChunkConsumer)}.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public interface ColumnChunkConsumer {
+
+    /**
+     * Receives the names of the columns and the units in which the values of the columns are expressed.
+     * @param columnNames The names of the columns, without the unit.
+     * @param units The units of the columns (the target units for converted columns), null for columns without a unit.
+     */
+    public void header(String[] columnNames, Unit[] units);
+
+    /**
+     * Receives the values of a chunk of rows. For each column with a unit, the array contains the values of the
+     * column (converted to the target unit), fields that are empty or not a number are NaN. For columns without a
+     * unit the array is null. Only the first <code>rowCount</code> values of each array are valid.
+     * The arrays may be reused after this method returns, so the consumer should copy the values it needs to keep.
+     * @param columns The values per column.
+     * @param rowCount The number of rows in the chunk.
+     */
+    public void accept(double[][] columns, int rowCount);
+}
@@ -0,0 +1,386 @@
+package nl.wur.fbr.om.conversion;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A size bounded, thread safe cache used to store unit and scale conversions.
+ * Lookups of stored values do not lock. When a value is not stored, it is determined at most once, also when
+ * several threads request it at the same time. When more than the maximum number of values are stored, values are
+ * evicted according to the {@link CacheEvictionPolicy}. Values whose key is pinned are never evicted and
+ * do not count towards the maximum size.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ * @author Don Willems on 16/10/26.
+ */
+final class ConversionCache<K,V> {
+
+    /** The maximum number of sampled entries from which a victim is chosen for the frequency based policy. */
+    private static final int FREQUENCY_SAMPLE_SIZE = 8;
+
+    /** The stored entries. */
+    private final ConcurrentHashMap<K,Entry<V>> map = new ConcurrentHashMap<>();
+
+    /** The maximum number of unpinned entries. */
+    private final int maximumSize;
+
+    /** The eviction policy. */
+    private final CacheEvictionPolicy policy;
+
+    /** The test that determines whether a key is pinned. */
+    private final Predicate<? super K> pinned;
+
+    /** The frequency sketch used by the frequency based policy, null for other policies. */
+    private final FrequencySketch sketch;
+
+    /** The number of pinned entries. */
+    private final AtomicInteger pinnedSize = new AtomicInteger();
+
+    /** The lock held while evicting entries or updating the pinned state of entries. */
+    private final Object evictionLock = new Object();
+
+    /** The position of the clock hand used when choosing entries to be evicted. Guarded by the eviction lock. */
+    private Iterator<Map.Entry<K,Entry<V>>> hand;
+
+    /** The number of requests for which the value was stored. */
+    private final LongAdder hits = new LongAdder();
+    /** The number of requests for which the value was not stored. */
+    private final LongAdder misses = new LongAdder();
+    /** The number of evicted (or not admitted) entries. */
+    private final LongAdder evictions = new LongAdder();
+    /** The number of values determined by the loader. */
+    private final LongAdder loads = new LongAdder();
+    /** The number of times the loader threw an exception. */
+    private final LongAdder loadFailures = new LongAdder();
+    /** The total time in nanoseconds spent in the loader. */
+    private final LongAdder loadTime = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     * @param maximumSize The maximum number of unpinned entries.
+     * @param policy The eviction policy.
+     * @param pinned The test that determines whether a key is pinned.
+     */
+    ConversionCache(int maximumSize, CacheEvictionPolicy policy, Predicate<? super K> pinned){
+        if(maximumSize<1) throw new IllegalArgumentException("The maximum size of the cache should be at least 1.");
+        if(policy==null) throw new IllegalArgumentException("The eviction policy should not be null.");
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        this.pinned = pinned;
+        this.sketch = policy==CacheEvictionPolicy.FREQUENCY_ADMISSION ? new FrequencySketch(maximumSize) : null;
+    }
+
+    /**
+     * Returns the value stored for the specified key. If no value is stored, the value is determined by the
+     * loader and stored. Exceptions thrown by the loader are passed on to the caller and no value is stored.
+     * @param key The key.
+     * @param loader The function that determines the value for a key.
+     * @return The value.
+     */
+    V get(K key, Function<? super K, ? extends V> loader){
+        Entry<V> entry = map.get(key);
+        if(sketch!=null) sketch.increment(key.hashCode());
+        if(entry!=null){
+            hits.increment();
+            entry.access();
+            return entry.value;
+        }
+        misses.increment();
+        boolean[] loaded = new boolean[1];
+        entry = map.computeIfAbsent(key, k -> {
+            long start = System.nanoTime();
+            try {
+                V value = loader.apply(k);
+                loads.increment();
+                loaded[0] = true;
+                boolean pin = pinned.test(k);
+                if(pin) pinnedSize.incrementAndGet();
+                return new Entry<>(value, pin);
+            } catch (RuntimeException e) {
+                loadFailures.increment();
+                throw e;
+            } finally {
+                loadTime.add(System.nanoTime()-start);
+            }
+        });
+        if(loaded[0] && !entry.pinned && map.size()-pinnedSize.get()>maximumSize){
+            this.evict(key, entry);
+        }
+        return entry.value;
+    }
+
+    /**
+     * Returns the value stored for the specified key, or null if no value is stored. This method does not
+     * change the statistics or the recency or frequency of the entry.
+     * @param key The key.
+     * @return The stored value or null.
+     */
+    V peek(K key){
+        Entry<V> entry = map.get(key);
+        return entry==null ? null : entry.value;
+    }
+
+    /**
+     * Re-evaluates for all stored entries whether they are pinned. This method should be called when the
+     * test that determines whether a key is pinned has changed.
+     */
+    void updatePinned(){
+        synchronized (evictionLock) {
+            for (Map.Entry<K, Entry<V>> mapEntry : map.entrySet()) {
+                Entry<V> entry = mapEntry.getValue();
+                boolean pin = pinned.test(mapEntry.getKey());
+                if (pin != entry.pinned) {
+                    entry.pinned = pin;
+                    pinnedSize.addAndGet(pin ? 1 : -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all stored entries whose value satisfies the specified test, for instance values that are no
+     * longer valid. Removed entries do not count as evictions.
+     * @param test The test that determines whether an entry is removed.
+     */
+    void removeValues(Predicate<? super V> test){
+        synchronized (evictionLock) {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Entry<V> entry = iterator.next().getValue();
+                if (test.test(entry.value)) {
+                    iterator.remove();
+                    if (entry.pinned) pinnedSize.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache.
+     * @return The statistics.
+     */
+    ConversionCacheStatistics getStatistics(){
+        return new ConversionCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), loads.sum(),
+                loadFailures.sum(), loadTime.sum(), map.size(), pinnedSize.get(), maximumSize);
+    }
+
+    /**
+     * Evicts entries until the number of unpinned entries is not larger than the maximum size.
+     * @param candidateKey The key of the entry that was just stored.
+     * @param candidate The entry that was just stored.
+     */
+    private void evict(K candidateKey, Entry<V> candidate){
+        synchronized (evictionLock) {
+            while (map.size() - pinnedSize.get() > maximumSize) {
+                Map.Entry<K, Entry<V>> victim = policy == CacheEvictionPolicy.FREQUENCY_ADMISSION ?
+                        this.nextFrequencyVictim(candidate) : this.nextClockVictim(candidate);
+                if (victim == null) return;
+                if (candidate != null && sketch != null &&
+                        sketch.frequency(candidateKey.hashCode()) <= sketch.frequency(victim.getKey().hashCode())) {
+                    // The new entry is not requested more often than the victim, do not admit the new entry.
+                    if (map.remove(candidateKey, candidate)) evictions.increment();
+                    candidate = null;
+                    continue;
+                }
+                if (map.remove(victim.getKey(), victim.getValue())) evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Advances the clock hand to the next entry. The hand wraps around when the end of the map is reached.
+     * @return The next entry, or null if the map is empty.
+     */
+    private Map.Entry<K,Entry<V>> advanceHand(){
+        if(hand==null || !hand.hasNext()) hand = map.entrySet().iterator();
+        return hand.hasNext() ? hand.next() : null;
+    }
+
+    /**
+     * Returns the next unpinned entry that was not referenced since the hand last passed it (the clock, or second
+     * chance, approximation of least recently used). Referenced entries that are passed lose their reference.
+     * @param candidate The entry that was just stored, which is not chosen.
+     * @return The entry to be evicted, or null if there is none.
+     */
+    private Map.Entry<K,Entry<V>> nextClockVictim(Entry<V> candidate){
+        int steps = 2*map.size()+1;
+        for(int i=0;i<steps;i++){
+            Map.Entry<K,Entry<V>> mapEntry = this.advanceHand();
+            if(mapEntry==null) return null;
+            Entry<V> entry = mapEntry.getValue();
+            if(entry.pinned || entry==candidate) continue;
+            if(entry.referenced){
+                entry.referenced = false;
+            }else{
+                return mapEntry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the least frequently requested entry from a sample of unpinned entries.
+     * @param candidate The entry that was just stored, which is not chosen.
+     * @return The entry to be evicted, or null if there is none.
+     */
+    private Map.Entry<K,Entry<V>> nextFrequencyVictim(Entry<V> candidate){
+        Map.Entry<K,Entry<V>> victim = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        int sampled = 0;
+        int steps = 2*map.size()+1;
+        for(int i=0;i<steps && sampled<FREQUENCY_SAMPLE_SIZE;i++){
+            Map.Entry<K,Entry<V>> mapEntry = this.advanceHand();
+            if(mapEntry==null) return null;
+            Entry<V> entry = mapEntry.getValue();
+            if(entry.pinned || entry==candidate) continue;
+            sampled++;
+            int frequency = sketch.frequency(mapEntry.getKey().hashCode());
+            if(frequency<victimFrequency){
+                victim = mapEntry;
+                victimFrequency = frequency;
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * A stored value with its eviction state.
+     * @param <V> The type of the value.
+     */
+    private static final class Entry<V> {
+
+        /** The stored value. */
+        private final V value;
+
+        /** Whether the entry cannot be evicted. */
+        private volatile boolean pinned;
+
+        /** Whether the entry was used since the clock hand last passed it. */
+        private volatile boolean referenced;
+
+        /**
+         * Creates a new entry.
+         * @param value The stored value.
+         * @param pinned Whether the entry cannot be evicted.
+         */
+        Entry(V value, boolean pinned){
+            this.value = value;
+            this.pinned = pinned;
+        }
+
+        /**
+         * Marks the entry as used. The field is only written when needed so that frequently used entries
+         * are not written to by every thread.
+         */
+        void access(){
+            if(!referenced) referenced = true;
+        }
+    }
+
+    /**
+     * A count-min sketch with 4 bit counters that estimates how often keys were requested. The counters
+     * are halved periodically so that the estimate follows changes in the workload. Updates are not
+     * synchronized; an occasionally lost increment only makes the estimate slightly less accurate.
+     */
+    private static final class FrequencySketch {
+
+        /** The seeds used to derive the four counter positions of a key. */
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        /** The counters, 16 counters of 4 bits in each long. */
+        private final long[] table;
+
+        /** The number of increments after which the counters are halved. */
+        private final int sampleSize;
+
+        /** The number of increments since the counters were last halved. */
+        private int additions;
+
+        /**
+         * Creates a new sketch for a cache with the specified maximum size.
+         * @param maximumSize The maximum size of the cache.
+         */
+        FrequencySketch(int maximumSize){
+            int length = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1<<24))-1)<<1;
+            table = new long[length];
+            sampleSize = 10*Math.max(16, maximumSize);
+        }
+
+        /**
+         * Increments the estimated frequency of the key with the specified hash code.
+         * @param hashCode The hash code of the key.
+         */
+        void increment(int hashCode){
+            int hash = spread(hashCode);
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for(int i=0;i<4;i++){
+                int index = indexOf(hash, i);
+                int offset = (start+i) << 2;
+                long mask = 0xfL << offset;
+                long value = table[index];
+                if((value & mask) != mask){
+                    table[index] = value + (1L << offset);
+                    added = true;
+                }
+            }
+            if(added && ++additions >= sampleSize) this.reset();
+        }
+
+        /**
+         * Returns the estimated frequency of the key with the specified hash code.
+         * @param hashCode The hash code of the key.
+         * @return The estimated frequency, between 0 and 15.
+         */
+        int frequency(int hashCode){
+            int hash = spread(hashCode);
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for(int i=0;i<4;i++){
+                int index = indexOf(hash, i);
+                int offset = (start+i) << 2;
+                frequency = Math.min(frequency, (int)((table[index] >>> offset) & 0xfL));
+            }
+            return frequency;
+        }
+
+        /**
+         * Halves all counters.
+         */
+        private void reset(){
+            additions = 0;
+            for(int i=0;i<table.length;i++){
+                table[i] = (table[i] >>> 1) & 0x7777777777777777L;
+            }
+        }
+
+        /**
+         * Returns the index in the table of the counter with the specified depth for the specified hash.
+         * @param hash The spread hash code.
+         * @param depth The depth (0 to 3).
+         * @return The index in the table.
+         */
+        private int indexOf(int hash, int depth){
+            long h = (hash + SEEDS[depth]) * SEEDS[depth];
+            h += h >>> 32;
+            return (int)h & (table.length-1);
+        }
+
+        /**
+         * Improves the distribution of the bits in the hash code.
+         * @param x The hash code.
+         * @return The spread hash code.
+         */
+        private static int spread(int x){
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
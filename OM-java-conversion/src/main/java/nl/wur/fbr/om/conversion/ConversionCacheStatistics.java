@@ -0,0 +1,172 @@
+package nl.wur.fbr.om.conversion;
+
+/**
+ * An immutable snapshot of the statistics of the conversion cache of a {@link AbstractUnitConversionFactory}.
+ * The statistics can be used to choose the maximum size and eviction policy of the cache for a particular
+ * workload.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class ConversionCacheStatistics {
+
+    /** The number of requests for which the conversion was already stored. */
+    private final long hitCount;
+
+    /** The number of requests for which the conversion was not yet stored. */
+    private final long missCount;
+
+    /** The number of stored conversions that were removed, or not stored, because the cache was full. */
+    private final long evictionCount;
+
+    /** The number of conversions that were determined. */
+    private final long loadCount;
+
+    /** The number of conversions that could not be determined. */
+    private final long loadFailureCount;
+
+    /** The total time in nanoseconds spent determining conversions. */
+    private final long totalLoadTime;
+
+    /** The number of conversions currently stored. */
+    private final int size;
+
+    /** The number of stored conversions that cannot be evicted. */
+    private final int pinnedSize;
+
+    /** The maximum number of (unpinned) conversions that are stored. */
+    private final int maximumSize;
+
+    /**
+     * Creates a new statistics snapshot.
+     * @param hitCount The number of requests for which the conversion was already stored.
+     * @param missCount The number of requests for which the conversion was not yet stored.
+     * @param evictionCount The number of conversions that were removed, or not stored, because the cache was full.
+     * @param loadCount The number of conversions that were determined.
+     * @param loadFailureCount The number of conversions that could not be determined.
+     * @param totalLoadTime The total time in nanoseconds spent determining conversions.
+     * @param size The number of conversions currently stored.
+     * @param pinnedSize The number of stored conversions that cannot be evicted.
+     * @param maximumSize The maximum number of (unpinned) conversions that are stored.
+     */
+    public ConversionCacheStatistics(long hitCount, long missCount, long evictionCount, long loadCount,
+                                     long loadFailureCount, long totalLoadTime, int size, int pinnedSize, int maximumSize){
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.size = size;
+        this.pinnedSize = pinnedSize;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the number of requests for which the conversion was already stored.
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of requests for which the conversion was not yet stored.
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of requests.
+     * @return The request count.
+     */
+    public long getRequestCount() {
+        return hitCount+missCount;
+    }
+
+    /**
+     * Returns the fraction of requests for which the conversion was already stored. If no requests were done,
+     * this method returns 1.
+     * @return The hit rate.
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests==0 ? 1.0 : (double)hitCount/requests;
+    }
+
+    /**
+     * Returns the number of conversions that were removed, or that were not stored, because the cache was full.
+     * @return The eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the number of conversions that were determined.
+     * @return The load count.
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Returns the number of conversions that could not be determined, for instance because the units are in
+     * different dimensions.
+     * @return The load failure count.
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent determining conversions.
+     * @return The total load time in nanoseconds.
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Returns the average time in nanoseconds needed to determine a conversion.
+     * @return The average load time in nanoseconds.
+     */
+    public double getAverageLoadTime() {
+        long loads = loadCount+loadFailureCount;
+        return loads==0 ? 0.0 : (double)totalLoadTime/loads;
+    }
+
+    /**
+     * Returns the number of conversions currently stored, including the pinned conversions.
+     * @return The size of the cache.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of stored conversions that cannot be evicted because both units or scales are
+     * pinned.
+     * @return The number of pinned conversions.
+     */
+    public int getPinnedSize() {
+        return pinnedSize;
+    }
+
+    /**
+     * Returns the maximum number of conversions that are stored, not counting the pinned conversions.
+     * @return The maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public String toString(){
+        return "ConversionCacheStatistics[hits="+hitCount+", misses="+missCount+", hitRate="+getHitRate()+
+                ", evictions="+evictionCount+", loads="+loadCount+", loadFailures="+loadFailureCount+
+                ", averageLoadTime="+getAverageLoadTime()+"ns, size="+size+", pinned="+pinnedSize+
+                ", maximumSize="+maximumSize+"]";
+    }
+}
@@ -0,0 +1,236 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.core.impl.units.UnitImpl;
+import nl.wur.fbr.om.core.impl.units.UnitNormalForm;
+import nl.wur.fbr.om.exceptions.UnitConversionException;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable table of conversion factors for a fixed set of units, indexed by the ordinals of the units.
+ * The units are divided in groups of units that can be converted into each other (units with the same dimension
+ * and the same base units). For each unit the table contains its group and the factor with which a value in the unit
+ * is converted to a value in the reference unit of its group (the first unit in the group). The conversion factor
+ * between two units in the same group is therefore the ratio of their factors, i.e. two array reads and a division,
+ * without any hashing.
+ * <p>
+ * The table is created by {@link AbstractUnitConversionFactory#seal(List)}, usually with all units in the
+ * unit factory in the order of their ordinals (see
+ * {@link nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory#getUnitsByOrdinal()}). The groups of the different
+ * dimensions are determined in parallel.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class ConversionTable {
+
+    /** The units in the table, indexed by their ordinal. Units that are not in the table are null. */
+    private final Unit[] units;
+
+    /** The group of each unit, or -1 if the unit is not in the table. */
+    private final int[] groups;
+
+    /** The factor of each unit to convert a value in that unit to a value in the reference unit of its group. */
+    private final double[] factors;
+
+    /** The number of groups. */
+    private final int numberOfGroups;
+
+    /** The time (in nanoseconds) it took to build the table. */
+    private final long buildTime;
+
+    /**
+     * Builds a new conversion table for the specified units.
+     * @param unitsByOrdinal The units, the index of a unit in the list is its ordinal. Null entries are allowed.
+     * @param representative The function that returns for the identifier of a base unit the identifier of the
+     *                       unit that represents all units set to be equal to that base unit, or null.
+     */
+    ConversionTable(List<? extends Unit> unitsByOrdinal, UnaryOperator<String> representative){
+        long start = System.nanoTime();
+        int size = unitsByOrdinal.size();
+        units = unitsByOrdinal.toArray(new Unit[size]);
+        groups = new int[size];
+        factors = new double[size];
+
+        // Determine the normal forms and dimensions of the units in parallel.
+        UnitNormalForm[] forms = new UnitNormalForm[size];
+        Dimension[] dimensions = new Dimension[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            groups[i] = -1;
+            if(units[i]==null) return;
+            try {
+                forms[i] = UnitNormalForm.of(units[i]);
+                dimensions[i] = units[i].getUnitDimension();
+            }catch (RuntimeException e){
+                forms[i] = null; // Units without a normal form are not in the table.
+            }
+        });
+
+        // Group the units per dimension.
+        Map<Dimension,List<Integer>> byDimension = new LinkedHashMap<>();
+        for(int i=0;i<size;i++){
+            if(forms[i]==null) continue;
+            byDimension.computeIfAbsent(dimensions[i], k -> new ArrayList<>()).add(i);
+        }
+        List<List<Integer>> buckets = new ArrayList<>(byDimension.values());
+
+        // Determine the groups within each dimension in parallel, the group numbers are local to the dimension.
+        int[] groupsInBucket = new int[buckets.size()];
+        IntStream.range(0, buckets.size()).parallel().forEach(b -> {
+            List<Integer> references = new ArrayList<>();
+            for(int i : buckets.get(b)){
+                int group = -1;
+                for(int g=0;g<references.size();g++){
+                    int reference = references.get(g);
+                    if(forms[i].isCompatibleWith(forms[reference]) ||
+                            (representative!=null && forms[i].isCompatibleWith(forms[reference], representative))){
+                        group = g;
+                        break;
+                    }
+                }
+                if(group<0){
+                    group = references.size();
+                    references.add(i);
+                }
+                groups[i] = group;
+                factors[i] = forms[i].getFactor()/forms[references.get(group)].getFactor();
+            }
+            groupsInBucket[b] = references.size();
+        });
+
+        // Make the group numbers unique over all dimensions.
+        int offset = 0;
+        for(int b=0;b<buckets.size();b++){
+            for(int i : buckets.get(b)) groups[i] += offset;
+            offset += groupsInBucket[b];
+        }
+        numberOfGroups = offset;
+        buildTime = System.nanoTime()-start;
+    }
+
+    /**
+     * Returns the ordinal of the unit in this table, or -1 if the unit is not in this table. For units created by
+     * the core implementation, the ordinal is read from the unit itself, no hashing is involved.
+     * @param unit The unit.
+     * @return The ordinal, or -1.
+     */
+    public int getOrdinal(Unit unit) {
+        if(unit instanceof UnitImpl){
+            int ordinal = ((UnitImpl) unit).getOrdinal();
+            if(ordinal>=0 && ordinal<units.length && units[ordinal]==unit && groups[ordinal]>=0) return ordinal;
+            return -1;
+        }
+        if(unit==null) return -1;
+        for(int i=0;i<units.length;i++){
+            if(units[i]!=null && groups[i]>=0 && units[i].getIdentifier().equals(unit.getIdentifier())) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the unit with the specified ordinal.
+     * @param ordinal The ordinal.
+     * @return The unit, or null if the table contains no unit with the ordinal.
+     * @throws IndexOutOfBoundsException When the ordinal is out of range.
+     */
+    public Unit getUnit(int ordinal) {
+        return units[ordinal];
+    }
+
+    /**
+     * Returns the group of units that can be converted into each other to which the unit with the specified
+     * ordinal belongs.
+     * @param ordinal The ordinal.
+     * @return The group, or -1 if the table contains no unit with the ordinal.
+     * @throws IndexOutOfBoundsException When the ordinal is out of range.
+     */
+    public int getGroup(int ordinal) {
+        return groups[ordinal];
+    }
+
+    /**
+     * Returns the factor to convert a value in the unit with the specified ordinal to a value in the reference unit
+     * of its group.
+     * @param ordinal The ordinal.
+     * @return The factor to the reference unit.
+     * @throws IndexOutOfBoundsException When the ordinal is out of range.
+     */
+    public double getFactorToReference(int ordinal) {
+        return factors[ordinal];
+    }
+
+    /**
+     * Returns true when the units with the specified ordinals can be converted into each other.
+     * @param sourceOrdinal The ordinal of the source unit.
+     * @param targetOrdinal The ordinal of the target unit.
+     * @return True when the units can be converted.
+     * @throws IndexOutOfBoundsException When an ordinal is out of range.
+     */
+    public boolean isConvertible(int sourceOrdinal, int targetOrdinal) {
+        int group = groups[sourceOrdinal];
+        return group>=0 && group==groups[targetOrdinal];
+    }
+
+    /**
+     * Returns the conversion factor to convert a value in the unit with the source ordinal to a value in the unit
+     * with the target ordinal.
+     * @param sourceOrdinal The ordinal of the source unit.
+     * @param targetOrdinal The ordinal of the target unit.
+     * @return The conversion factor.
+     * @throws UnitConversionException When the units cannot be converted into each other.
+     * @throws IndexOutOfBoundsException When an ordinal is out of range.
+     */
+    public double getConversionFactor(int sourceOrdinal, int targetOrdinal) throws UnitConversionException {
+        if(!isConvertible(sourceOrdinal, targetOrdinal)){
+            throw new UnitConversionException("Could not convert from unit '"+units[sourceOrdinal]+"' to '"+
+                    units[targetOrdinal]+"'.", units[sourceOrdinal], units[targetOrdinal]);
+        }
+        return factors[sourceOrdinal]/factors[targetOrdinal];
+    }
+
+    /**
+     * Returns the number of ordinals in this table, i.e. the length of the arrays in this table.
+     * @return The number of ordinals.
+     */
+    public int size() {
+        return units.length;
+    }
+
+    /**
+     * Returns the number of groups of units that can be converted into each other.
+     * @return The number of groups.
+     */
+    public int getNumberOfGroups() {
+        return numberOfGroups;
+    }
+
+    /**
+     * Returns the time it took to build this table.
+     * @return The build time in nanoseconds.
+     */
+    public long getBuildTime() {
+        return buildTime;
+    }
+
+    /**
+     * Returns an estimate of the memory used by the arrays in this table (not including the units themselves),
+     * assuming references of 4 bytes (compressed pointers) and array headers of 16 bytes.
+     * @return The estimated number of bytes.
+     */
+    public long getMemoryUsage() {
+        return 3*16L+(long)units.length*(4+Integer.BYTES+Double.BYTES);
+    }
+
+    @Override
+    public String toString(){
+        return "ConversionTable[units="+units.length+", groups="+numberOfGroups+", memory="+getMemoryUsage()+
+                " bytes, buildTime="+(buildTime/1000000.0)+" ms]";
+    }
+}
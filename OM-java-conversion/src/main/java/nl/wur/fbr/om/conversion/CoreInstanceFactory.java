@@ -3,9 +3,12 @@ package nl.wur.fbr.om.conversion;
 import nl.wur.fbr.om.core.factory.DefaultInstanceFactory;
 import nl.wur.fbr.om.core.factory.DefaultMeasureAndPointFactory;
 import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.exceptions.FactoryException;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
 import nl.wur.fbr.om.factory.MeasureAndPointFactory;
 import nl.wur.fbr.om.factory.UnitAndScaleConversionFactory;
 import nl.wur.fbr.om.factory.UnitAndScaleFactory;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
 
 /**
  * This factory class is a wrapper that contains the different factory classes that are used to create and convert
@@ -37,4 +40,63 @@ public class CoreInstanceFactory extends DefaultInstanceFactory{
     public CoreInstanceFactory(UnitAndScaleFactory unitAndScaleFactory, MeasureAndPointFactory measureAndPointFactory, UnitAndScaleConversionFactory conversionFactory){
         super(unitAndScaleFactory,measureAndPointFactory,conversionFactory);
     }
+
+    /**
+     * Adds a (large) set of units and scales to this factory, which may be initialized lazily. If the conversion
+     * factory is an {@link AbstractUnitConversionFactory}, the units and scales in the set are pinned, i.e.
+     * conversions between these units or scales are never removed from the record of previously used conversions.
+     * @param unitAndScaleSetClass The class of set to be added that should override {@link UnitAndScaleSet}.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     * @return The set that was added.
+     * @throws UnitOrScaleCreationException When the set could not be created or initialized.
+     */
+    @Override
+    public UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass, boolean lazily) throws UnitOrScaleCreationException {
+        return this.pin(super.addUnitAndScaleSet(unitAndScaleSetClass, lazily), lazily);
+    }
+
+    /**
+     * Adds an instance of a (large) set of units and scales to this factory, which may be initialized lazily. The
+     * units and scales in the set are pinned as well, see {@link #addUnitAndScaleSet(Class, boolean)}.
+     * @param unitAndScaleSet The set to be added.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     * @return The set that was added.
+     * @throws UnitOrScaleCreationException When the units or scales in the set could not be created.
+     */
+    @Override
+    public UnitAndScaleSet addUnitAndScaleSet(UnitAndScaleSet unitAndScaleSet, boolean lazily) throws UnitOrScaleCreationException {
+        return this.pin(super.addUnitAndScaleSet(unitAndScaleSet, lazily), lazily);
+    }
+
+    /**
+     * Pins the units and scales in the specified set if the conversion factory is an
+     * {@link AbstractUnitConversionFactory}.
+     * @param set The set that was added.
+     * @param lazily True when the set was added lazily.
+     * @return The set.
+     */
+    private UnitAndScaleSet pin(UnitAndScaleSet set, boolean lazily) {
+        if(getUnitAndScaleConversionFactory() instanceof AbstractUnitConversionFactory){
+            ((AbstractUnitConversionFactory) getUnitAndScaleConversionFactory()).pinUnitAndScaleSet(set, lazily);
+        }
+        return set;
+    }
+
+    /**
+     * Seals the conversion factory for all units in the unit factory, so that conversion factors between these
+     * units are read from a precomputed table (see {@link AbstractUnitConversionFactory#seal(java.util.List)}).
+     * Call this method after all sets of units have been added. Units created afterwards are converted as before.
+     * @return The table with conversion factors, which also reports its size and build time.
+     * @throws FactoryException When the unit factory is not a {@link DefaultUnitAndScaleFactory}, or the
+     * conversion factory is not an {@link AbstractUnitConversionFactory}.
+     */
+    public ConversionTable seal() throws FactoryException {
+        if(!(getUnitAndScaleFactory() instanceof DefaultUnitAndScaleFactory) ||
+                !(getUnitAndScaleConversionFactory() instanceof AbstractUnitConversionFactory)){
+            throw new FactoryException("Could not seal the factory, sealing is only supported by the default unit " +
+                    "factory and conversion factory.");
+        }
+        DefaultUnitAndScaleFactory unitFactory = (DefaultUnitAndScaleFactory) getUnitAndScaleFactory();
+        return ((AbstractUnitConversionFactory) getUnitAndScaleConversionFactory()).seal(unitFactory.getUnitsByOrdinal());
+    }
 }
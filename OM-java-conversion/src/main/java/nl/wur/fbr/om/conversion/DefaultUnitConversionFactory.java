@@ -27,6 +27,28 @@ public class DefaultUnitConversionFactory extends AbstractUnitConversionFactory
         this.creationFactory = creationFactory;
     }
 
+    /**
+     * Creates a new default conversion factory that stores at most the specified number of previously used
+     * (unpinned) conversions.
+     * @param creationFactory The measure and scale creation factory used in the creation of the converted
+     *                        measures or scales.
+     * @param maximumCacheSize The maximum number of (unpinned) conversions that are stored.
+     * @param evictionPolicy The policy used to determine which conversions are removed when the maximum is reached.
+     */
+    public DefaultUnitConversionFactory(MeasureAndPointFactory creationFactory, int maximumCacheSize, CacheEvictionPolicy evictionPolicy){
+        super(maximumCacheSize, evictionPolicy);
+        this.creationFactory = creationFactory;
+    }
+
+    /**
+     * Returns the measure and scale creation factory used in the creation of the converted measures or scales.
+     * @return The measure and point factory.
+     */
+    @Override
+    protected MeasureAndPointFactory getMeasureAndPointFactory() {
+        return creationFactory;
+    }
+
     /**
      * Converts a double value expressed in the specified unit to the target unit.
      *
@@ -75,15 +97,15 @@ public class DefaultUnitConversionFactory extends AbstractUnitConversionFactory
         } else if(measure.getNumericalValue() instanceof double[]){
             double[] value = measure.getVectorValue();
             double[] cvalue = new double[value.length];
-            for(int i=0;i<value.length;i++) cvalue[i] =this.convertDoubleValueToUnit(value[i],measure.getUnit(),targetUnit);
+            this.convert(value, 0, cvalue, 0, value.length, measure.getUnit(), targetUnit);
             cmeasure = creationFactory.createVectorMeasure(cvalue, targetUnit);
         } else if(measure.getNumericalValue() instanceof Range){
             Range value = measure.getScalarRange();
-            double minvalue = (double)value.getMinimum();
+            double minvalue = ((Number)value.getMinimum()).doubleValue();
             double cminvalue = this.convertDoubleValueToUnit(minvalue, measure.getUnit(), targetUnit);
-            double maxvalue = (double)value.getMinimum();
+            double maxvalue = ((Number)value.getMaximum()).doubleValue();
             double cmaxvalue = this.convertDoubleValueToUnit(maxvalue,measure.getUnit(),targetUnit);
-            cmeasure = creationFactory.createScalarRangeMeasure(minvalue,maxvalue, targetUnit);
+            cmeasure = creationFactory.createScalarRangeMeasure(Math.min(cminvalue,cmaxvalue),Math.max(cminvalue,cmaxvalue), targetUnit);
         } else{
             throw new ConversionException("Could not convert measure with numerical value of unkown type.");
         }
@@ -110,15 +132,15 @@ public class DefaultUnitConversionFactory extends AbstractUnitConversionFactory
         } else if(point.getNumericalValue() instanceof double[]){
             double[] value = point.getVectorValue();
             double[] cvalue = new double[value.length];
-            for(int i=0;i<value.length;i++) cvalue[i] =this.convertDoubleValueToScale(value[i], point.getScale(),targetScale);
+            this.convert(value, 0, cvalue, 0, value.length, point.getScale(), targetScale);
             cpoint = creationFactory.createVectorPoint(cvalue, targetScale);
         } else if(point.getNumericalValue() instanceof Range){
             Range value = point.getScalarRange();
-            double minvalue = (double)value.getMinimum();
+            double minvalue = ((Number)value.getMinimum()).doubleValue();
             double cminvalue = this.convertDoubleValueToScale(minvalue, point.getScale(), targetScale);
-            double maxvalue = (double)value.getMinimum();
+            double maxvalue = ((Number)value.getMaximum()).doubleValue();
             double cmaxvalue = this.convertDoubleValueToScale(maxvalue,point.getScale(), targetScale);
-            cpoint = creationFactory.createScalarRangePoint(minvalue, maxvalue, targetScale);
+            cpoint = creationFactory.createScalarRangePoint(Math.min(cminvalue,cmaxvalue), Math.max(cminvalue,cmaxvalue), targetScale);
         } else{
             throw new ConversionException("Could not convert measure with numerical value of unkown type.");
         }
@@ -156,41 +178,32 @@ public class DefaultUnitConversionFactory extends AbstractUnitConversionFactory
      */
     @Override
     public boolean equals(Measure measure1, Measure measure2,double diff) {
+        // Conversion exceptions are not used here, as measures with units that cannot be converted are common.
+        double factor = this.tryGetConversionFactor(measure2.getUnit(), measure1.getUnit());
+        if(Double.isNaN(factor)) return false;
         if(measure1.getNumericalValue() instanceof Number && measure2.getNumericalValue() instanceof Number){
-            try {
-                double cvalue = this.convertDoubleValueToUnit(measure2.getScalarValue(),measure2.getUnit(),measure1.getUnit());
-                double value = measure1.getScalarValue();
-                double vdiff = Math.abs(cvalue - value);
-                return vdiff<=diff;
-            } catch (ConversionException e) {
-                return false;
-            }
+            double cvalue = measure2.getScalarValue()*factor;
+            double value = measure1.getScalarValue();
+            double vdiff = Math.abs(cvalue - value);
+            return vdiff<=diff;
         } else if(measure1.getNumericalValue() instanceof double[] && measure2.getNumericalValue() instanceof double[]){
-            try {
-                double[] value = measure1.getVectorValue();
-                double[] value2 = measure2.getVectorValue();
-                if(value.length!=value2.length) return false;
-                for(int i=0;i<value.length;i++){
-                    double cvalue = this.convertDoubleValueToUnit(value2[i], measure2.getUnit(), measure1.getUnit());
-                    double vdiff = Math.abs(cvalue - value[i]);
-                    if(vdiff>diff) return false;
-                }
-                return true;
-            } catch (ConversionException e) {
-                return false;
+            double[] value = measure1.getVectorValue();
+            double[] value2 = measure2.getVectorValue();
+            if(value.length!=value2.length) return false;
+            for(int i=0;i<value.length;i++){
+                double cvalue = value2[i]*factor;
+                double vdiff = Math.abs(cvalue - value[i]);
+                if(vdiff>diff) return false;
             }
+            return true;
         } else if(measure1.getNumericalValue() instanceof Range && measure2.getNumericalValue() instanceof Range){
-            try {
-                Range value = measure1.getScalarRange();
-                Range value2 = measure2.getScalarRange();
-                double vv1 = this.convertDoubleValueToUnit((Double) value2.getMinimum(), measure2.getUnit(), measure1.getUnit());
-                double vv2 = this.convertDoubleValueToUnit((Double) value2.getMaximum(), measure2.getUnit(), measure1.getUnit());
-                double vdiff1 = Math.abs(vv1 - (double)value.getMinimum());
-                double vdiff2 = Math.abs(vv1 - (double)value.getMaximum());
-                return vdiff1<=diff && vdiff2<diff;
-            } catch (ConversionException e) {
-                return false;
-            }
+            Range value = measure1.getScalarRange();
+            Range value2 = measure2.getScalarRange();
+            double vv1 = ((Number) value2.getMinimum()).doubleValue()*factor;
+            double vv2 = ((Number) value2.getMaximum()).doubleValue()*factor;
+            double vdiff1 = Math.abs(vv1 - ((Number) value.getMinimum()).doubleValue());
+            double vdiff2 = Math.abs(vv2 - ((Number) value.getMaximum()).doubleValue());
+            return vdiff1<=diff && vdiff2<=diff;
         }
         return false;
     }
@@ -227,41 +240,31 @@ public class DefaultUnitConversionFactory extends AbstractUnitConversionFactory
      */
     @Override
     public boolean equals(Point point1, Point point2,double diff) {
+        // Conversion exceptions are not used here, as points on scales that cannot be converted are common.
+        if(!this.isConvertible(point2.getScale(), point1.getScale())) return false;
         if(point1.getNumericalValue() instanceof Number && point2.getNumericalValue() instanceof Number){
-            try {
-                double cvalue = this.convertDoubleValueToScale(point2.getScalarValue(), point2.getScale(), point1.getScale());
-                double value = point1.getScalarValue();
-                double vdiff = Math.abs(cvalue - value);
-                return vdiff<=diff;
-            } catch (ConversionException e) {
-                return false;
-            }
+            double cvalue = this.tryConvert(point2.getScalarValue(), point2.getScale(), point1.getScale());
+            double value = point1.getScalarValue();
+            double vdiff = Math.abs(cvalue - value);
+            return vdiff<=diff;
         } else if(point1.getNumericalValue() instanceof double[] && point2.getNumericalValue() instanceof double[]){
-            try {
-                double[] value = point1.getVectorValue();
-                double[] value2 = point2.getVectorValue();
-                if(value.length!=value2.length) return false;
-                for(int i=0;i<value.length;i++){
-                    double cvalue = this.convertDoubleValueToScale(value2[i], point2.getScale(), point1.getScale());
-                    double vdiff = Math.abs(cvalue - value[i]);
-                    if(vdiff>diff) return false;
-                }
-                return true;
-            } catch (ConversionException e) {
-                return false;
+            double[] value = point1.getVectorValue();
+            double[] value2 = point2.getVectorValue();
+            if(value.length!=value2.length) return false;
+            for(int i=0;i<value.length;i++){
+                double cvalue = this.tryConvert(value2[i], point2.getScale(), point1.getScale());
+                double vdiff = Math.abs(cvalue - value[i]);
+                if(vdiff>diff) return false;
             }
+            return true;
         } else if(point1.getNumericalValue() instanceof Range && point2.getNumericalValue() instanceof Range){
-            try {
-                Range value = point1.getScalarRange();
-                Range value2 = point2.getScalarRange();
-                double vv1 = this.convertDoubleValueToScale((Double) value2.getMinimum(), point2.getScale(), point1.getScale());
-                double vv2 = this.convertDoubleValueToScale((Double) value2.getMaximum(), point2.getScale(), point1.getScale());
-                double vdiff1 = Math.abs(vv1 - (double)value.getMinimum());
-                double vdiff2 = Math.abs(vv1 - (double)value.getMaximum());
-                return vdiff1<=diff && vdiff2<diff;
-            } catch (ConversionException e) {
-                return false;
-            }
+            Range value = point1.getScalarRange();
+            Range value2 = point2.getScalarRange();
+            double vv1 = this.tryConvert(((Number) value2.getMinimum()).doubleValue(), point2.getScale(), point1.getScale());
+            double vv2 = this.tryConvert(((Number) value2.getMaximum()).doubleValue(), point2.getScale(), point1.getScale());
+            double vdiff1 = Math.abs(vv1 - ((Number) value.getMinimum()).doubleValue());
+            double vdiff2 = Math.abs(vv2 - ((Number) value.getMaximum()).doubleValue());
+            return vdiff1<=diff && vdiff2<=diff;
         }
         return false;
     }
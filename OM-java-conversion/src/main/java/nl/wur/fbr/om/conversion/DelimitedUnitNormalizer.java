@@ -0,0 +1,752 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.exceptions.AmbiguousUnitException;
+import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.exceptions.UnitConversionException;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.factory.InstanceFactory;
+import nl.wur.fbr.om.factory.UnitAndScaleConversionFactory;
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+/**
+ * Normalises the units of the columns of a delimited (e.g. CSV or TSV) file. The first line of the file is a header
+ * in which each column declares its unit between square brackets after the column name, by identifier, by symbol or
+ * by name, e.g. <code>distance [km]</code> or <code>speed [http://www.ontology-of-units-of-measure.org/resource/om-2/kilometrePerHour]</code>.
+ * Symbols and names are resolved with the {@link nl.wur.fbr.om.core.factory.UnitNameIndex} of the factory, a symbol
+ * or name that is used by more than one unit stops the normalisation with an {@link AmbiguousUnitException} that
+ * reports the column.
+ * The values of each column for which a target unit is set are converted to that unit. The other columns are passed
+ * through unchanged.
+ * <p>
+ * The file is streamed: it is read in chunks of rows, so the memory used does not depend on the size of the file.
+ * The unit and converter of each column are resolved once from the header. Numbers are parsed directly from the
+ * characters that are read, without creating a string for each field, and each column of a chunk is converted at
+ * once with a {@link UnitConverter}. Chunks can be processed in parallel, the output is written in the order of
+ * the input. The output is written to a {@link Writer}, as a delimited file with the target units in the header,
+ * or is passed as arrays of values per column to a {@link ColumnChunkConsumer}.
+ * </p>
+ * <p>
+ * Fields may be quoted with double quotes, in which case delimiters within the quotes are not treated as
+ * delimiters. Quoted fields cannot contain line breaks. Empty lines are skipped, lines are written with a
+ * <code>\n</code> line separator, and fields beyond the number of columns in the header are ignored.
+ * Numbers in converted columns may be quoted, the converted number is written without quotes. Empty fields and
+ * <code>NaN</code> are missing values, which are written unchanged. Other fields in converted columns (and, when
+ * passed to a consumer, in columns with a unit) that are not a number stop the normalisation with an
+ * {@link IOException} that reports the row and column of the field.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class DelimitedUnitNormalizer {
+
+    /** The default number of rows in a chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    /** The powers of ten that can be represented exactly as doubles. */
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The factory used to resolve units and to create converters. */
+    private final InstanceFactory factory;
+
+    /** The character that separates the fields. */
+    private final char delimiter;
+
+    /** The target units per column name. */
+    private final Map<String,Unit> targetUnits = new HashMap<>();
+
+    /** The function that selects a target unit for the columns for which no target unit was set, or null. */
+    private UnaryOperator<Unit> targetUnitSelector = null;
+
+    /** The number of rows in a chunk. */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /** The number of chunks that are processed in parallel. */
+    private int parallelism = 1;
+
+    /**
+     * Creates a new normaliser for files with the specified delimiter, e.g. <code>','</code> for CSV files and
+     * <code>'\t'</code> for TSV files.
+     * @param factory The factory used to resolve the units in the header and to convert values.
+     * @param delimiter The character that separates the fields.
+     */
+    public DelimitedUnitNormalizer(InstanceFactory factory, char delimiter){
+        this.factory = factory;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Sets the unit to which the values of the column with the specified name are converted.
+     * @param columnName The name of the column, without the unit.
+     * @param targetUnit The target unit, or null to pass the column through unchanged.
+     */
+    public void setTargetUnit(String columnName, Unit targetUnit) {
+        if(targetUnit==null) targetUnits.remove(columnName);
+        else targetUnits.put(columnName, targetUnit);
+    }
+
+    /**
+     * Sets the function that selects the target unit for columns with a unit for which no target unit was set with
+     * {@link #setTargetUnit(String, Unit)}. The function receives the unit of the column and returns the target
+     * unit, or null to pass the column through unchanged.
+     * @param targetUnitSelector The function, or null.
+     */
+    public void setTargetUnitSelector(UnaryOperator<Unit> targetUnitSelector) {
+        this.targetUnitSelector = targetUnitSelector;
+    }
+
+    /**
+     * Returns the number of rows in a chunk.
+     * @return The chunk size.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the number of rows in a chunk. The default is {@value #DEFAULT_CHUNK_SIZE}.
+     * @param chunkSize The chunk size, at least 1.
+     */
+    public void setChunkSize(int chunkSize) {
+        if(chunkSize<1) throw new IllegalArgumentException("The chunk size should be at least 1.");
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Returns the number of chunks that are processed in parallel.
+     * @return The parallelism.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of chunks that are processed in parallel. By default (1) chunks are processed in the calling
+     * thread. At most twice this number of chunks are kept in memory.
+     * @param parallelism The parallelism, at least 1.
+     */
+    public void setParallelism(int parallelism) {
+        if(parallelism<1) throw new IllegalArgumentException("The parallelism should be at least 1.");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Reads the delimited file from the input, converts the columns, and writes the result to the output.
+     * The header of the output contains the target units of the converted columns. The output is not closed.
+     * @param input The input.
+     * @param output The output.
+     * @return The number of rows (not including the header) that were processed.
+     * @throws IOException When the input could not be read, contains a field that is not a number in a converted
+     * column, or the output could not be written.
+     * @throws ConversionException When the unit of a column with a target unit could not be resolved or
+     * converted to the target unit.
+     * @throws AmbiguousUnitException When the unit of a column is a symbol or name of more than one unit.
+     */
+    public long normalize(Reader input, Writer output) throws IOException, ConversionException, AmbiguousUnitException {
+        return this.process(input, output, null);
+    }
+
+    /**
+     * Reads the delimited file from the input, converts the columns, and passes the values of the columns with
+     * a unit to the consumer.
+     * @param input The input.
+     * @param consumer The consumer of the values.
+     * @return The number of rows (not including the header) that were processed.
+     * @throws IOException When the input could not be read, or contains a field that is not a number in a column
+     * with a unit.
+     * @throws ConversionException When the unit of a column with a target unit could not be resolved or
+     * converted to the target unit.
+     * @throws AmbiguousUnitException When the unit of a column is a symbol or name of more than one unit.
+     */
+    public long normalize(Reader input, ColumnChunkConsumer consumer) throws IOException, ConversionException, AmbiguousUnitException {
+        return this.process(input, null, consumer);
+    }
+
+    /**
+     * Processes the file, chunk by chunk.
+     * @param input The input.
+     * @param output The output, or null.
+     * @param consumer The consumer, or null.
+     * @return The number of rows.
+     * @throws IOException When the input could not be read or the output could not be written.
+     * @throws ConversionException When the units of the columns could not be resolved or converted.
+     * @throws AmbiguousUnitException When the unit of a column is ambiguous.
+     */
+    private long process(Reader input, Writer output, ColumnChunkConsumer consumer) throws IOException, ConversionException, AmbiguousUnitException {
+        LineReader reader = new LineReader(input);
+        Chunk headerChunk = reader.readChunk(1, null);
+        if(headerChunk==null) return 0;
+        Layout layout = this.createLayout(headerChunk, output!=null);
+        if(output!=null){
+            output.write(layout.header);
+        }else{
+            consumer.header(layout.names, layout.outputUnits);
+        }
+
+        long rows = 0;
+        ExecutorService executor = parallelism>1 ? Executors.newFixedThreadPool(parallelism) : null;
+        try {
+            Deque<Future<Chunk>> pending = new ArrayDeque<>();
+            Chunk chunk;
+            while((chunk = reader.readChunk(chunkSize, layout))!=null){
+                chunk.firstRow = rows;
+                rows += chunk.rows;
+                if(executor==null){
+                    chunk.process();
+                    this.emit(chunk, output, consumer);
+                }else{
+                    final Chunk submitted = chunk;
+                    pending.add(executor.submit(() -> {
+                        submitted.process();
+                        return submitted;
+                    }));
+                    if(pending.size()>=2*parallelism) this.emit(this.await(pending.poll()), output, consumer);
+                }
+            }
+            while(!pending.isEmpty()) this.emit(this.await(pending.poll()), output, consumer);
+        } finally {
+            if(executor!=null) executor.shutdownNow();
+        }
+        return rows;
+    }
+
+    /**
+     * Waits for a chunk that is processed in parallel.
+     * @param future The future of the chunk.
+     * @return The processed chunk.
+     * @throws IOException When the thread was interrupted.
+     */
+    private Chunk await(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while normalising the units of a file.", e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if(e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw new IOException("Could not normalise the units of a file.", e.getCause());
+        }
+    }
+
+    /**
+     * Writes the processed chunk to the output or passes it to the consumer.
+     * @param chunk The processed chunk.
+     * @param output The output, or null.
+     * @param consumer The consumer, or null.
+     * @throws IOException When the output could not be written.
+     */
+    private void emit(Chunk chunk, Writer output, ColumnChunkConsumer consumer) throws IOException {
+        if(output!=null){
+            output.append(chunk.text);
+        }else{
+            consumer.accept(chunk.values, chunk.rows);
+        }
+    }
+
+    /**
+     * Creates the layout of the columns from the header, resolving the units and converters of the columns.
+     * @param header The chunk containing the header line.
+     * @param writing True when the output is written to a writer.
+     * @return The layout.
+     * @throws ConversionException When the unit of a column with a target unit could not be resolved or
+     * converted to the target unit.
+     * @throws AmbiguousUnitException When the unit of a column is a symbol or name of more than one unit.
+     */
+    private Layout createLayout(Chunk header, boolean writing) throws ConversionException, AmbiguousUnitException {
+        List<String> fields = new ArrayList<>();
+        int start = header.lineStarts[0];
+        int end = header.lineEnds[0];
+        boolean quoted = false;
+        int fieldStart = start;
+        for(int i=start;i<=end;i++){
+            if(i<end && header.data[i]=='"') quoted = !quoted;
+            if(i==end || (header.data[i]==delimiter && !quoted)){
+                fields.add(new String(header.data, fieldStart, i-fieldStart).trim());
+                fieldStart = i+1;
+            }
+        }
+        int columns = fields.size();
+        String[] names = new String[columns];
+        Unit[] outputUnits = new Unit[columns];
+        UnitConverter[] converters = new UnitConverter[columns];
+        StringBuilder headerLine = new StringBuilder();
+        for(int c=0;c<columns;c++){
+            String field = fields.get(c);
+            String name = field;
+            String unitLabel = null;
+            int open = field.lastIndexOf('[');
+            if(field.endsWith("]") && open>=0){
+                name = field.substring(0, open).trim();
+                unitLabel = field.substring(open+1, field.length()-1).trim();
+            }
+            names[c] = name;
+            Unit unit = null;
+            if(unitLabel!=null) {
+                try {
+                    unit = this.resolveUnit(unitLabel);
+                } catch (AmbiguousUnitException e) {
+                    throw new AmbiguousUnitException("The unit '"+unitLabel+"' of column "+(c+1)+" '"+name+
+                            "' is ambiguous, it is used by "+e.getCandidates().size()+" units.", unitLabel, e.getCandidates());
+                }
+            }
+            Unit target = targetUnits.get(name);
+            if(target==null && unit!=null && targetUnitSelector!=null) target = targetUnitSelector.apply(unit);
+            if(target!=null){
+                if(unit==null) throw new UnitConversionException("Could not convert column '"+field+
+                        "' as its unit is unknown.", null, target);
+                converters[c] = this.createConverter(unit, target);
+                outputUnits[c] = target;
+            }else{
+                outputUnits[c] = unit;
+            }
+            if(c>0) headerLine.append(delimiter);
+            if(converters[c]!=null){
+                headerLine.append(name).append(" [").append(target.getSymbol()!=null ? target.getSymbol() : target.getIdentifier()).append(']');
+            }else{
+                headerLine.append(field);
+            }
+        }
+        headerLine.append('\n');
+        return new Layout(names, outputUnits, converters, headerLine.toString(), delimiter, writing);
+    }
+
+    /**
+     * Resolves the unit with the specified identifier, symbol or name.
+     * @param label The identifier, symbol or name.
+     * @return The unit, or null if no unit with the identifier, symbol or name is known.
+     * @throws AmbiguousUnitException When more than one unit has the symbol or name.
+     */
+    private Unit resolveUnit(String label) throws AmbiguousUnitException {
+        try {
+            Object unitOrScale = factory.getUnitOrScale(label);
+            if(unitOrScale instanceof Unit) return (Unit) unitOrScale;
+        } catch (UnitOrScaleCreationException e) {
+            // Not an identifier, try the symbols.
+        }
+        if(factory.getUnitAndScaleFactory() instanceof DefaultUnitAndScaleFactory){
+            return ((DefaultUnitAndScaleFactory) factory.getUnitAndScaleFactory()).getUnitNameIndex().findUnit(label);
+        }
+        return null;
+    }
+
+    /**
+     * Creates the converter from the unit of a column to its target unit.
+     * @param unit The unit of the column.
+     * @param target The target unit.
+     * @return The converter.
+     * @throws ConversionException When the unit cannot be converted to the target unit.
+     */
+    private UnitConverter createConverter(Unit unit, Unit target) throws ConversionException {
+        UnitAndScaleConversionFactory conversionFactory = factory.getUnitAndScaleConversionFactory();
+        if(conversionFactory instanceof AbstractUnitConversionFactory){
+            return ((AbstractUnitConversionFactory) conversionFactory).getConverter(unit, target);
+        }
+        return new UnitConverter(unit, target, factory.getConversionFactor(unit, target), null);
+    }
+
+    /**
+     * Parses a number from the characters in the specified range. Leading and trailing spaces are ignored.
+     * Numbers with at most 18 significant digits and a decimal exponent between -22 and 22 are parsed
+     * directly from the characters (with the same result as {@link Double#parseDouble(String)}), other numbers are
+     * parsed with {@link Double#parseDouble(String)}.
+     * @param chars The characters.
+     * @param start The index of the first character.
+     * @param end The index after the last character.
+     * @return The number, or NaN when the characters do not represent a number.
+     */
+    static double parseDouble(char[] chars, int start, int end) {
+        while(start<end && chars[start]==' ') start++;
+        while(end>start && chars[end-1]==' ') end--;
+        if(start>=end) return Double.NaN;
+        int i = start;
+        boolean negative = false;
+        if(chars[i]=='-' || chars[i]=='+'){
+            negative = chars[i]=='-';
+            i++;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean digits = false;
+        for(;i<end;i++){
+            int digit = chars[i]-'0';
+            if(digit<0 || digit>9) break;
+            digits = true;
+            mantissa = mantissa*10+digit;
+            if(mantissa!=0) significantDigits++;
+        }
+        if(i<end && chars[i]=='.'){
+            for(i++;i<end;i++){
+                int digit = chars[i]-'0';
+                if(digit<0 || digit>9) break;
+                digits = true;
+                mantissa = mantissa*10+digit;
+                if(mantissa!=0) significantDigits++;
+                exponent--;
+            }
+        }
+        if(!digits || significantDigits>18) return parseSlowly(chars, start, end);
+        if(i<end && (chars[i]=='e' || chars[i]=='E')){
+            i++;
+            boolean negativeExponent = false;
+            if(i<end && (chars[i]=='-' || chars[i]=='+')){
+                negativeExponent = chars[i]=='-';
+                i++;
+            }
+            int value = 0;
+            boolean exponentDigits = false;
+            for(;i<end;i++){
+                int digit = chars[i]-'0';
+                if(digit<0 || digit>9) break;
+                exponentDigits = true;
+                if(value<100000) value = value*10+digit;
+            }
+            if(!exponentDigits) return Double.NaN;
+            exponent += negativeExponent ? -value : value;
+        }
+        if(i!=end) return parseSlowly(chars, start, end);
+        if(mantissa>(1L<<53) || exponent<-22 || exponent>22) return parseSlowly(chars, start, end);
+        double value = exponent<0 ? mantissa/POWERS_OF_TEN[-exponent] : mantissa*POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses a number with {@link Double#parseDouble(String)}.
+     * @param chars The characters.
+     * @param start The index of the first character.
+     * @param end The index after the last character.
+     * @return The number, or NaN when the characters do not represent a number.
+     */
+    private static double parseSlowly(char[] chars, int start, int end) {
+        try {
+            return Double.parseDouble(new String(chars, start, end-start));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * The immutable layout of the columns, resolved from the header.
+     */
+    private static final class Layout {
+
+        /** The names of the columns. */
+        private final String[] names;
+
+        /** The units of the values in the output, null for columns without a unit. */
+        private final Unit[] outputUnits;
+
+        /** The converters of the columns, null for columns that are not converted. */
+        private final UnitConverter[] converters;
+
+        /** The header line written to the output. */
+        private final String header;
+
+        /** The character that separates the fields. */
+        private final char delimiter;
+
+        /** True when the output is written to a writer, false when passed to a consumer. */
+        private final boolean writing;
+
+        /** True for the columns whose values are parsed. */
+        private final boolean[] parsed;
+
+        /**
+         * Creates a new layout.
+         * @param names The names of the columns.
+         * @param outputUnits The units of the values in the output.
+         * @param converters The converters of the columns.
+         * @param header The header line written to the output.
+         * @param delimiter The character that separates the fields.
+         * @param writing True when the output is written to a writer.
+         */
+        Layout(String[] names, Unit[] outputUnits, UnitConverter[] converters, String header, char delimiter, boolean writing){
+            this.names = names;
+            this.outputUnits = outputUnits;
+            this.converters = converters;
+            this.header = header;
+            this.delimiter = delimiter;
+            this.writing = writing;
+            this.parsed = new boolean[names.length];
+            for(int c=0;c<names.length;c++) parsed[c] = converters[c]!=null || (!writing && outputUnits[c]!=null);
+        }
+    }
+
+    /**
+     * A chunk of lines from the file. The chunk is processed (parsed, converted and, when writing to a writer,
+     * formatted) independently of the other chunks.
+     */
+    private static final class Chunk {
+
+        /** The layout of the columns, null for the header. */
+        private final Layout layout;
+
+        /** The characters of the lines. */
+        private char[] data;
+
+        /** The number of characters in the data. */
+        private int length = 0;
+
+        /** The index of the first character of each line. */
+        private int[] lineStarts;
+
+        /** The index after the last character of each line. */
+        private int[] lineEnds;
+
+        /** The number of lines (rows). */
+        private int rows = 0;
+
+        /** The number of rows (not including the header) before this chunk. */
+        private long firstRow = 0;
+
+        /** The values of the parsed columns. */
+        private double[][] values;
+
+        /** The formatted output of the chunk. */
+        private StringBuilder text;
+
+        /**
+         * Creates a new chunk.
+         * @param layout The layout of the columns, null for the header.
+         * @param maximumRows The maximum number of rows.
+         * @param capacity The initial number of characters.
+         */
+        Chunk(Layout layout, int maximumRows, int capacity){
+            this.layout = layout;
+            this.data = new char[capacity];
+            this.lineStarts = new int[maximumRows];
+            this.lineEnds = new int[maximumRows];
+        }
+
+        /**
+         * Appends characters to the data.
+         * @param source The characters.
+         * @param offset The index of the first character.
+         * @param count The number of characters.
+         */
+        void append(char[] source, int offset, int count){
+            if(length+count>data.length) data = Arrays.copyOf(data, Math.max(2*data.length, length+count));
+            System.arraycopy(source, offset, data, length, count);
+            length += count;
+        }
+
+        /**
+         * Parses and converts the values of the chunk, and formats the output when writing to a writer.
+         * @throws IOException When a field in a parsed column is not a number.
+         */
+        void process() throws IOException {
+            int columns = layout.names.length;
+            values = new double[columns][];
+            for(int c=0;c<columns;c++) if(layout.parsed[c]) values[c] = new double[rows];
+            int[] fieldStarts = new int[columns];
+            int[] fieldEnds = new int[columns];
+            int[] allStarts = layout.writing ? new int[rows*columns] : null;
+            int[] allEnds = layout.writing ? new int[rows*columns] : null;
+            char delimiter = layout.delimiter;
+            for(int r=0;r<rows;r++){
+                int field = this.split(lineStarts[r], lineEnds[r], delimiter, fieldStarts, fieldEnds);
+                for(int c=0;c<columns;c++){
+                    if(c>=field){
+                        fieldStarts[c] = lineEnds[r];
+                        fieldEnds[c] = lineEnds[r];
+                    }
+                    if(values[c]!=null) values[c][r] = this.parseField(r, c, fieldStarts[c], fieldEnds[c]);
+                }
+                if(layout.writing){
+                    System.arraycopy(fieldStarts, 0, allStarts, r*columns, columns);
+                    System.arraycopy(fieldEnds, 0, allEnds, r*columns, columns);
+                }
+            }
+            for(int c=0;c<columns;c++){
+                if(layout.converters[c]!=null) layout.converters[c].convertInPlace(values[c], 0, rows);
+            }
+            if(layout.writing){
+                text = new StringBuilder(2*length+rows*columns*8);
+                for(int r=0;r<rows;r++){
+                    for(int c=0;c<columns;c++){
+                        if(c>0) text.append(delimiter);
+                        int start = allStarts[r*columns+c];
+                        int end = allEnds[r*columns+c];
+                        if(layout.converters[c]!=null && !Double.isNaN(values[c][r])){
+                            text.append(values[c][r]);
+                        }else{
+                            text.append(data, start, end-start);
+                        }
+                    }
+                    text.append('\n');
+                }
+                values = null;
+                data = null;
+            }
+        }
+
+        /**
+         * Parses the number in a field, which may be quoted.
+         * @param row The index of the row in this chunk.
+         * @param column The index of the column.
+         * @param start The index of the first character of the field.
+         * @param end The index after the last character of the field.
+         * @return The number, or NaN for a missing value (an empty field or <code>NaN</code>).
+         * @throws IOException When the field is not a number.
+         */
+        private double parseField(int row, int column, int start, int end) throws IOException {
+            while(start<end && data[start]==' ') start++;
+            while(end>start && data[end-1]==' ') end--;
+            if(end-start>=2 && data[start]=='"' && data[end-1]=='"'){
+                start++;
+                end--;
+            }
+            double value = parseDouble(data, start, end);
+            if(Double.isNaN(value)){
+                String field = new String(data, start, end-start).trim();
+                if(!field.isEmpty() && !field.equals("NaN")){
+                    throw new IOException("The value '"+field+"' in row "+(firstRow+row+1)+", column '"+
+                            layout.names[column]+"' is not a number.");
+                }
+            }
+            return value;
+        }
+
+        /**
+         * Splits a line into fields.
+         * @param start The index of the first character of the line.
+         * @param end The index after the last character of the line.
+         * @param delimiter The character that separates the fields.
+         * @param fieldStarts The array in which the index of the first character of each field is stored.
+         * @param fieldEnds The array in which the index after the last character of each field is stored.
+         * @return The number of fields found (at most the number of columns).
+         */
+        private int split(int start, int end, char delimiter, int[] fieldStarts, int[] fieldEnds){
+            int columns = fieldStarts.length;
+            int field = 0;
+            int fieldStart = start;
+            boolean quoted = false;
+            for(int i=start;i<end && field<columns;i++){
+                char ch = data[i];
+                if(ch=='"'){
+                    quoted = !quoted;
+                }else if(ch==delimiter && !quoted){
+                    fieldStarts[field] = fieldStart;
+                    fieldEnds[field] = i;
+                    field++;
+                    fieldStart = i+1;
+                }
+            }
+            if(field<columns){
+                fieldStarts[field] = fieldStart;
+                fieldEnds[field] = end;
+                field++;
+            }
+            return field;
+        }
+    }
+
+    /**
+     * Reads lines from a reader into chunks, using a fixed size buffer.
+     */
+    private static final class LineReader {
+
+        /** The reader. */
+        private final Reader reader;
+
+        /** The buffer with characters read from the reader. */
+        private final char[] buffer = new char[1<<16];
+
+        /** The index of the next character in the buffer. */
+        private int position = 0;
+
+        /** The number of characters in the buffer. */
+        private int limit = 0;
+
+        /** True when the end of the input was reached. */
+        private boolean endOfInput = false;
+
+        /** The average number of characters per line read so far, used to size the chunks. */
+        private int averageLineLength = 64;
+
+        /**
+         * Creates a new line reader.
+         * @param reader The reader.
+         */
+        LineReader(Reader reader){
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the next chunk of non empty lines.
+         * @param maximumRows The maximum number of lines in the chunk.
+         * @param layout The layout of the columns.
+         * @return The chunk, or null when there are no more lines.
+         * @throws IOException When the input could not be read.
+         */
+        Chunk readChunk(int maximumRows, Layout layout) throws IOException {
+            Chunk chunk = new Chunk(layout, maximumRows, maximumRows*averageLineLength+16);
+            while(chunk.rows<maximumRows){
+                int lineStart = chunk.length;
+                boolean complete = false;
+                while(!complete){
+                    if(position>=limit){
+                        if(endOfInput || !this.fill()) break;
+                    }
+                    int i = position;
+                    while(i<limit && buffer[i]!='\n') i++;
+                    chunk.append(buffer, position, i-position);
+                    complete = i<limit;
+                    position = complete ? i+1 : i;
+                }
+                int lineEnd = chunk.length;
+                if(lineEnd>lineStart && chunk.data[lineEnd-1]=='\r') lineEnd--;
+                if(lineEnd>lineStart){
+                    chunk.lineStarts[chunk.rows] = lineStart;
+                    chunk.lineEnds[chunk.rows] = lineEnd;
+                    chunk.rows++;
+                }else{
+                    chunk.length = lineStart;
+                }
+                if(!complete) break;
+            }
+            if(chunk.rows==0) return null;
+            averageLineLength = Math.max(1, chunk.length/chunk.rows+1);
+            return chunk;
+        }
+
+        /**
+         * Fills the buffer.
+         * @return True when characters were read, false at the end of the input.
+         * @throws IOException When the input could not be read.
+         */
+        private boolean fill() throws IOException {
+            int count = reader.read(buffer, 0, buffer.length);
+            while(count==0) count = reader.read(buffer, 0, buffer.length);
+            if(count<0){
+                endOfInput = true;
+                position = 0;
+                limit = 0;
+                return false;
+            }
+            position = 0;
+            limit = count;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.exceptions.ScaleConversionException;
+import nl.wur.fbr.om.model.points.Point;
+import nl.wur.fbr.om.model.scales.Scale;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A converter of points on any measurement scale to points on one target scale. For each source scale a
+ * {@link ScaleConverter} is determined the first time a point on that scale is converted, and is kept for the
+ * following points, so that converting many points (e.g. a time series of temperatures) does not need any lookups
+ * in the conversion factory. Scalar, vector and range points can be converted, also mixed in one list.
+ * <p>
+ * A point converter is created by {@link AbstractUnitConversionFactory#getPointConverter(Scale)}, it can be kept
+ * and used from any number of threads.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class PointConverter {
+
+    /** The factory used to determine the conversions from the source scales. */
+    private final AbstractUnitConversionFactory conversionFactory;
+
+    /** The scale on which the converted points are specified. */
+    private final Scale targetScale;
+
+    /** The converters from the source scales to the target scale, by identifier of the source scale. */
+    private final ConcurrentMap<String,ScaleConverter> converters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new point converter.
+     * @param conversionFactory The factory used to determine the conversions from the source scales.
+     * @param targetScale The scale on which the converted points are specified.
+     */
+    PointConverter(AbstractUnitConversionFactory conversionFactory, Scale targetScale){
+        this.conversionFactory = conversionFactory;
+        this.targetScale = targetScale;
+    }
+
+    /**
+     * Returns the scale on which the converted points are specified.
+     * @return The target scale.
+     */
+    public Scale getTargetScale() {
+        return targetScale;
+    }
+
+    /**
+     * Returns the converter from the specified scale to the target scale.
+     * @param sourceScale The source scale.
+     * @return The converter.
+     * @throws ConversionException When the source scale cannot be converted to the target scale.
+     */
+    public ScaleConverter getConverter(Scale sourceScale) throws ConversionException {
+        if(sourceScale==null)
+            throw new ScaleConversionException("Could not convert point because the scale of the point is null."
+                    ,null, targetScale);
+        ScaleConverter converter = converters.get(sourceScale.getIdentifier());
+        if(converter==null){
+            converter = conversionFactory.getConverter(sourceScale, targetScale);
+            ScaleConverter previous = converters.putIfAbsent(sourceScale.getIdentifier(), converter);
+            if(previous!=null) converter = previous;
+        }
+        return converter;
+    }
+
+    /**
+     * Converts the specified point to a point on the target scale.
+     * @param point The point to be converted.
+     * @return The converted point.
+     * @throws ConversionException When the scale of the point cannot be converted to the target scale or when
+     * the numerical value of the point is of an unknown type.
+     */
+    public Point convert(Point point) throws ConversionException {
+        return this.getConverter(point.getScale()).convert(point);
+    }
+
+    /**
+     * Converts the specified points to points on the target scale. The converter of the previous point is reused
+     * when the next point is on the same scale, so a list of points on the same scale needs only one lookup.
+     * @param points The points to be converted.
+     * @return A new list with the converted points, in the same order.
+     * @throws ConversionException When the scale of a point cannot be converted to the target scale or when
+     * the numerical value of a point is of an unknown type.
+     */
+    public List<Point> convert(List<? extends Point> points) throws ConversionException {
+        List<Point> converted = new ArrayList<>(points.size());
+        Scale scale = null;
+        ScaleConverter converter = null;
+        for(Point point : points){
+            if(converter==null || point.getScale()!=scale){
+                scale = point.getScale();
+                converter = this.getConverter(scale);
+            }
+            converted.add(converter.convert(point));
+        }
+        return converted;
+    }
+
+    /**
+     * Converts the specified points to points on the target scale. The converter of the previous point is reused
+     * when the next point is on the same scale, so an array of points on the same scale needs only one lookup.
+     * @param points The points to be converted.
+     * @return A new array with the converted points, in the same order.
+     * @throws ConversionException When the scale of a point cannot be converted to the target scale or when
+     * the numerical value of a point is of an unknown type.
+     */
+    public Point[] convert(Point[] points) throws ConversionException {
+        Point[] converted = new Point[points.length];
+        Scale scale = null;
+        ScaleConverter converter = null;
+        for(int i=0;i<points.length;i++){
+            if(converter==null || points[i].getScale()!=scale){
+                scale = points[i].getScale();
+                converter = this.getConverter(scale);
+            }
+            converted[i] = converter.convert(points[i]);
+        }
+        return converted;
+    }
+
+    @Override
+    public String toString(){
+        return "PointConverter[-> "+targetScale+", source scales="+converters.size()+"]";
+    }
+}
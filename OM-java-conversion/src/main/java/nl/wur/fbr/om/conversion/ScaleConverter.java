@@ -0,0 +1,251 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.exceptions.ScaleConversionException;
+import nl.wur.fbr.om.factory.MeasureAndPointFactory;
+import nl.wur.fbr.om.model.points.Point;
+import nl.wur.fbr.om.model.scales.Scale;
+import org.apache.commons.lang3.Range;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An immutable converter of numerical values on a source measurement scale to values on a target measurement scale.
+ * The conversion is an affine transformation: the value is multiplied by a factor and an offset is added, for
+ * instance to convert from degrees Celsius to degrees Fahrenheit. The factor and offset are determined once when
+ * the converter is created by {@link AbstractUnitConversionFactory#getConverter(Scale, Scale)}.
+ * A converter can be kept and used as often as needed from any number of threads.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class ScaleConverter implements DoubleUnaryOperator {
+
+    /** The scale on which the values to be converted are specified. */
+    private final Scale sourceScale;
+
+    /** The scale on which the converted values are specified. */
+    private final Scale targetScale;
+
+    /** The factor with which values are multiplied. */
+    private final double factor;
+
+    /** The offset added to the multiplied values. */
+    private final double offset;
+
+    /** The factory used to create converted points, may be null. */
+    private final MeasureAndPointFactory creationFactory;
+
+    /**
+     * Creates a new scale converter.
+     * @param sourceScale The scale on which the values to be converted are specified.
+     * @param targetScale The scale on which the converted values are specified.
+     * @param factor The factor with which values are multiplied.
+     * @param offset The offset added to the multiplied values.
+     * @param creationFactory The factory used to create converted points, may be null if points are not converted.
+     */
+    ScaleConverter(Scale sourceScale, Scale targetScale, double factor, double offset, MeasureAndPointFactory creationFactory){
+        this.sourceScale = sourceScale;
+        this.targetScale = targetScale;
+        this.factor = factor;
+        this.offset = offset;
+        this.creationFactory = creationFactory;
+    }
+
+    /**
+     * Returns the scale on which the values to be converted are specified.
+     * @return The source scale.
+     */
+    public Scale getSourceScale() {
+        return sourceScale;
+    }
+
+    /**
+     * Returns the scale on which the converted values are specified.
+     * @return The target scale.
+     */
+    public Scale getTargetScale() {
+        return targetScale;
+    }
+
+    /**
+     * Returns the factor with which values are multiplied by this converter.
+     * @return The conversion factor.
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Returns the offset that is added to the multiplied values by this converter.
+     * @return The conversion offset.
+     */
+    public double getOffset() {
+        return offset;
+    }
+
+    /**
+     * Converts the specified value on the source scale to a value on the target scale.
+     * @param value The value to be converted.
+     * @return The converted value.
+     */
+    @Override
+    public double applyAsDouble(double value) {
+        return value*factor+offset;
+    }
+
+    /**
+     * Converts the specified values on the source scale to values on the target scale.
+     * @param values The values to be converted.
+     * @return A new array with the converted values.
+     */
+    public double[] convert(double[] values) {
+        double[] converted = new double[values.length];
+        BulkConversion.convert(values, 0, converted, 0, values.length, factor, offset);
+        return converted;
+    }
+
+    /**
+     * Converts <code>length</code> values on the source scale, starting at the source offset, and stores the values
+     * on the target scale in the destination array, starting at the destination offset. The source and destination
+     * may be the same array, also when the ranges overlap.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        BulkConversion.convert(source, sourceOffset, destination, destinationOffset, length, factor, offset);
+    }
+
+    /**
+     * Converts the values in the array in place.
+     * @param values The values to be converted, which are replaced by the converted values.
+     */
+    public void convertInPlace(double[] values) {
+        BulkConversion.convert(values, 0, values, 0, values.length, factor, offset);
+    }
+
+    /**
+     * Converts <code>length</code> values in the array in place, starting at the specified index.
+     * @param values The values to be converted, which are replaced by the converted values.
+     * @param start The index of the first value to be converted.
+     * @param length The number of values to be converted.
+     * @throws IndexOutOfBoundsException When the range is not within the array.
+     */
+    public void convertInPlace(double[] values, int start, int length) {
+        BulkConversion.convert(values, start, values, start, length, factor, offset);
+    }
+
+    /**
+     * Converts the values like {@link #convert(double[], int, double[], int, int)}, but splits large ranges in
+     * chunks that are converted in parallel in the common fork-join pool. This is only faster for very large
+     * arrays, typically of millions of values.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    public void convertParallel(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        BulkConversion.convertParallel(source, sourceOffset, destination, destinationOffset, length, factor, offset);
+    }
+
+    /**
+     * Converts the remaining values in the source buffer and puts the converted values in the destination buffer.
+     * The positions of both buffers are advanced by the number of converted values.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put. This may be the same buffer as the
+     *                    source buffer, in which case the values are converted in place.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(DoubleBuffer source, DoubleBuffer destination) {
+        BulkConversion.convert(source, destination, factor, offset);
+    }
+
+    /**
+     * Converts the remaining doubles in the source byte buffer and puts the converted values in the destination
+     * byte buffer. The values are read and written in the byte order of each buffer. The positions of both buffers
+     * are advanced by the number of bytes of the converted values.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put. This may be the same buffer as the
+     *                    source buffer, in which case the values are converted in place.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(ByteBuffer source, ByteBuffer destination) {
+        BulkConversion.convert(source, destination, factor, offset);
+    }
+
+    /**
+     * Converts the specified point to a point on the target scale. The scale of the point should be the source
+     * scale of this converter. Scalar, vector and range points can be converted.
+     * @param point The point to be converted.
+     * @return The converted point.
+     * @throws ConversionException When the scale of the point is not the source scale, when the numerical value
+     * of the point is of an unknown type, or when this converter cannot create points.
+     */
+    public Point convert(Point point) throws ConversionException {
+        if(point.getScale()==null || !sourceScale.getIdentifier().equals(point.getScale().getIdentifier())){
+            throw new ScaleConversionException("Could not convert point on scale '"+point.getScale()+
+                    "' with a converter for scale '"+sourceScale+"'.",point.getScale(),targetScale);
+        }
+        if(creationFactory==null){
+            throw new ScaleConversionException("Could not convert point because the converter has no factory to create points.",
+                    sourceScale,targetScale);
+        }
+        Object value = point.getNumericalValue();
+        if(value instanceof Number){
+            return creationFactory.createScalarPoint(this.applyAsDouble(point.getScalarValue()), targetScale);
+        }else if(value instanceof double[]){
+            return creationFactory.createVectorPoint(this.convert(point.getVectorValue()), targetScale);
+        }else if(value instanceof Range){
+            Range range = point.getScalarRange();
+            double min = this.applyAsDouble(((Number)range.getMinimum()).doubleValue());
+            double max = this.applyAsDouble(((Number)range.getMaximum()).doubleValue());
+            return creationFactory.createScalarRangePoint(Range.between(min, max), targetScale);
+        }
+        throw new ConversionException("Could not convert point with numerical value of unkown type.");
+    }
+
+    /**
+     * Returns the converter for the inverse conversion, i.e. from the target scale to the source scale.
+     * @return The inverse converter.
+     */
+    public ScaleConverter inverse() {
+        return new ScaleConverter(targetScale, sourceScale, 1.0/factor, -offset/factor, creationFactory);
+    }
+
+    /**
+     * Returns a converter that first applies this conversion and then the specified conversion.
+     * The source scale of the specified converter should be the target scale of this converter.
+     * @param after The converter applied after this converter.
+     * @return The composed converter, from the source scale of this converter to the target scale of the specified converter.
+     * @throws IllegalArgumentException When the source scale of the specified converter is not the target scale of this converter.
+     */
+    public ScaleConverter andThen(ScaleConverter after) {
+        if(!targetScale.getIdentifier().equals(after.sourceScale.getIdentifier()))
+            throw new IllegalArgumentException("Could not compose converters, the scale '"+after.sourceScale+
+                    "' is not the target scale '"+targetScale+"'.");
+        return new ScaleConverter(sourceScale, after.targetScale, factor*after.factor, offset*after.factor+after.offset, creationFactory);
+    }
+
+    /**
+     * Returns a converter that first applies the specified conversion and then this conversion.
+     * The target scale of the specified converter should be the source scale of this converter.
+     * @param before The converter applied before this converter.
+     * @return The composed converter, from the source scale of the specified converter to the target scale of this converter.
+     * @throws IllegalArgumentException When the target scale of the specified converter is not the source scale of this converter.
+     */
+    public ScaleConverter compose(ScaleConverter before) {
+        return before.andThen(this);
+    }
+
+    @Override
+    public String toString(){
+        return "ScaleConverter["+sourceScale+" -> "+targetScale+", factor="+factor+", offset="+offset+"]";
+    }
+}
@@ -0,0 +1,247 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.exceptions.UnitConversionException;
+import nl.wur.fbr.om.factory.MeasureAndPointFactory;
+import nl.wur.fbr.om.model.measures.Measure;
+import nl.wur.fbr.om.model.units.Unit;
+import org.apache.commons.lang3.Range;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An immutable converter of numerical values expressed in a source unit to values expressed in a target unit.
+ * The conversion factor is determined once when the converter is created by
+ * {@link AbstractUnitConversionFactory#getConverter(Unit, Unit)}. Applying the converter does not need any lookups
+ * and does not create any objects (except for the methods that return a new array or measure), so a converter
+ * can be kept, for instance in a field, and be used as often as needed from any number of threads.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class UnitConverter implements DoubleUnaryOperator {
+
+    /** The unit in which the values to be converted are expressed. */
+    private final Unit sourceUnit;
+
+    /** The unit in which the converted values are expressed. */
+    private final Unit targetUnit;
+
+    /** The factor with which values are multiplied. */
+    private final double factor;
+
+    /** The factory used to create converted measures, may be null. */
+    private final MeasureAndPointFactory creationFactory;
+
+    /**
+     * Creates a new unit converter.
+     * @param sourceUnit The unit in which the values to be converted are expressed.
+     * @param targetUnit The unit in which the converted values are expressed.
+     * @param factor The factor with which values are multiplied.
+     * @param creationFactory The factory used to create converted measures, may be null if measures are not
+     *                        converted.
+     */
+    UnitConverter(Unit sourceUnit, Unit targetUnit, double factor, MeasureAndPointFactory creationFactory){
+        this.sourceUnit = sourceUnit;
+        this.targetUnit = targetUnit;
+        this.factor = factor;
+        this.creationFactory = creationFactory;
+    }
+
+    /**
+     * Returns the unit in which the values to be converted are expressed.
+     * @return The source unit.
+     */
+    public Unit getSourceUnit() {
+        return sourceUnit;
+    }
+
+    /**
+     * Returns the unit in which the converted values are expressed.
+     * @return The target unit.
+     */
+    public Unit getTargetUnit() {
+        return targetUnit;
+    }
+
+    /**
+     * Returns the factor with which values are multiplied by this converter.
+     * @return The conversion factor.
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Returns true when this converter does not change values, i.e. when the conversion factor is 1.
+     * @return True when this converter is the identity conversion.
+     */
+    public boolean isIdentity() {
+        return factor==1.0;
+    }
+
+    /**
+     * Converts the specified value expressed in the source unit to a value expressed in the target unit.
+     * @param value The value to be converted.
+     * @return The converted value.
+     */
+    @Override
+    public double applyAsDouble(double value) {
+        return value*factor;
+    }
+
+    /**
+     * Converts the specified values expressed in the source unit to values expressed in the target unit.
+     * @param values The values to be converted.
+     * @return A new array with the converted values.
+     */
+    public double[] convert(double[] values) {
+        double[] converted = new double[values.length];
+        BulkConversion.convert(values, 0, converted, 0, values.length, factor, 0.0);
+        return converted;
+    }
+
+    /**
+     * Converts <code>length</code> values expressed in the source unit, starting at the source offset, and stores the values
+     * expressed in the target unit in the destination array, starting at the destination offset. The source and destination
+     * may be the same array, also when the ranges overlap.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    public void convert(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        BulkConversion.convert(source, sourceOffset, destination, destinationOffset, length, factor, 0.0);
+    }
+
+    /**
+     * Converts the values in the array in place.
+     * @param values The values to be converted, which are replaced by the converted values.
+     */
+    public void convertInPlace(double[] values) {
+        BulkConversion.convert(values, 0, values, 0, values.length, factor, 0.0);
+    }
+
+    /**
+     * Converts <code>length</code> values in the array in place, starting at the specified index.
+     * @param values The values to be converted, which are replaced by the converted values.
+     * @param start The index of the first value to be converted.
+     * @param length The number of values to be converted.
+     * @throws IndexOutOfBoundsException When the range is not within the array.
+     */
+    public void convertInPlace(double[] values, int start, int length) {
+        BulkConversion.convert(values, start, values, start, length, factor, 0.0);
+    }
+
+    /**
+     * Converts the values like {@link #convert(double[], int, double[], int, int)}, but splits large ranges in
+     * chunks that are converted in parallel in the common fork-join pool. This is only faster for very large
+     * arrays, typically of millions of values.
+     * @param source The array with the values to be converted.
+     * @param sourceOffset The index of the first value to be converted.
+     * @param destination The array in which the converted values are stored.
+     * @param destinationOffset The index in the destination array of the first converted value.
+     * @param length The number of values to be converted.
+     * @throws IndexOutOfBoundsException When the ranges are not within the arrays.
+     */
+    public void convertParallel(double[] source, int sourceOffset, double[] destination, int destinationOffset, int length) {
+        BulkConversion.convertParallel(source, sourceOffset, destination, destinationOffset, length, factor, 0.0);
+    }
+
+    /**
+     * Converts the remaining values in the source buffer and puts the converted values in the destination buffer.
+     * The positions of both buffers are advanced by the number of converted values.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put. This may be the same buffer as the
+     *                    source buffer, in which case the values are converted in place.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(DoubleBuffer source, DoubleBuffer destination) {
+        BulkConversion.convert(source, destination, factor, 0.0);
+    }
+
+    /**
+     * Converts the remaining doubles in the source byte buffer and puts the converted values in the destination
+     * byte buffer. The values are read and written in the byte order of each buffer. The positions of both buffers
+     * are advanced by the number of bytes of the converted values.
+     * @param source The buffer with the values to be converted.
+     * @param destination The buffer in which the converted values are put. This may be the same buffer as the
+     *                    source buffer, in which case the values are converted in place.
+     * @throws java.nio.BufferOverflowException When the destination buffer has not enough space remaining.
+     */
+    public void convert(ByteBuffer source, ByteBuffer destination) {
+        BulkConversion.convert(source, destination, factor, 0.0);
+    }
+
+    /**
+     * Converts the specified measure to a measure expressed in the target unit. The unit of the measure should be
+     * the source unit of this converter.
+     * @param measure The measure to be converted.
+     * @return The converted measure.
+     * @throws ConversionException When the unit of the measure is not the source unit, when the numerical value
+     * of the measure is of an unknown type, or when this converter cannot create measures.
+     */
+    public Measure convert(Measure measure) throws ConversionException {
+        if(measure.getUnit()==null || !sourceUnit.getIdentifier().equals(measure.getUnit().getIdentifier())){
+            throw new UnitConversionException("Could not convert measure with unit '"+measure.getUnit()+
+                    "' with a converter for unit '"+sourceUnit+"'.",measure.getUnit(),targetUnit);
+        }
+        if(creationFactory==null){
+            throw new UnitConversionException("Could not convert measure because the converter has no factory to create measures.",
+                    sourceUnit,targetUnit);
+        }
+        Object value = measure.getNumericalValue();
+        if(value instanceof Number){
+            return creationFactory.createScalarMeasure(this.applyAsDouble(measure.getScalarValue()), targetUnit);
+        }else if(value instanceof double[]){
+            return creationFactory.createVectorMeasure(this.convert(measure.getVectorValue()), targetUnit);
+        }else if(value instanceof Range){
+            Range range = measure.getScalarRange();
+            double min = this.applyAsDouble(((Number)range.getMinimum()).doubleValue());
+            double max = this.applyAsDouble(((Number)range.getMaximum()).doubleValue());
+            return creationFactory.createScalarRangeMeasure(Range.between(min, max), targetUnit);
+        }
+        throw new ConversionException("Could not convert measure with numerical value of unkown type.");
+    }
+
+    /**
+     * Returns the converter for the inverse conversion, i.e. from the target unit to the source unit.
+     * @return The inverse converter.
+     */
+    public UnitConverter inverse() {
+        return new UnitConverter(targetUnit, sourceUnit, 1.0/factor, creationFactory);
+    }
+
+    /**
+     * Returns a converter that first applies this conversion and then the specified conversion.
+     * The source unit of the specified converter should be the target unit of this converter.
+     * @param after The converter applied after this converter.
+     * @return The composed converter, from the source unit of this converter to the target unit of the specified converter.
+     * @throws IllegalArgumentException When the source unit of the specified converter is not the target unit of this converter.
+     */
+    public UnitConverter andThen(UnitConverter after) {
+        if(!targetUnit.getIdentifier().equals(after.sourceUnit.getIdentifier()))
+            throw new IllegalArgumentException("Could not compose converters, the unit '"+after.sourceUnit+
+                    "' is not the target unit '"+targetUnit+"'.");
+        return new UnitConverter(sourceUnit, after.targetUnit, factor*after.factor, creationFactory);
+    }
+
+    /**
+     * Returns a converter that first applies the specified conversion and then this conversion.
+     * The target unit of the specified converter should be the source unit of this converter.
+     * @param before The converter applied before this converter.
+     * @return The composed converter, from the source unit of the specified converter to the target unit of this converter.
+     * @throws IllegalArgumentException When the target unit of the specified converter is not the source unit of this converter.
+     */
+    public UnitConverter compose(UnitConverter before) {
+        return before.andThen(this);
+    }
+
+    @Override
+    public String toString(){
+        return "UnitConverter["+sourceUnit+" -> "+targetUnit+", factor="+factor+"]";
+    }
+}
@@ -0,0 +1,133 @@
+package nl.wur.fbr.om.conversion;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * The equivalence classes of units that represent the same unit, for instance the metre from the OM 1.8 set, the
+ * metre from the OM 2.0 set and the metre from the core set. The relation is reflexive, symmetric and transitive:
+ * when a is equivalent to b and b to c, then a is equivalent to c.
+ * <p>
+ * The classes are stored as a union-find (disjoint set) structure over the identifiers of the units. Each class
+ * has one representative, {@link #find(String)} returns the representative of the class of a unit in nearly
+ * constant time (the trees are kept flat by linking the smaller tree below the larger one, and by pointing
+ * identifiers directly to their representative when they are looked up). Two units are equivalent when they have
+ * the same representative. The representative of a class may change when classes are joined.
+ * </p>
+ * <p>
+ * Lookups do not lock and can be done from any number of threads. Joining classes is synchronized.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class UnitEquivalence implements UnaryOperator<String> {
+
+    /** The parent of each identifier in the tree of its class, representatives have no parent. */
+    private final ConcurrentMap<String,String> parents = new ConcurrentHashMap<>();
+
+    /** The number of identifiers in the class of each representative. */
+    private final ConcurrentMap<String,Integer> sizes = new ConcurrentHashMap<>();
+
+    /** The number of times two classes were joined. */
+    private volatile int numberOfUnions = 0;
+
+    /**
+     * Creates a new structure in which each unit is only equivalent to itself.
+     */
+    public UnitEquivalence(){
+        super();
+    }
+
+    /**
+     * Returns the identifier of the representative of the equivalence class of the unit with the specified
+     * identifier. A unit that has not been joined with another unit is its own representative.
+     * @param identifier The identifier of the unit.
+     * @return The identifier of the representative.
+     */
+    public String find(String identifier) {
+        String parent = parents.get(identifier);
+        if(parent==null) return identifier;
+        String root = parent;
+        String next;
+        while((next = parents.get(root))!=null) root = next;
+        // Compress the path, only the parents of identifiers that were not changed concurrently are replaced.
+        String current = identifier;
+        while(!current.equals(root)){
+            String currentParent = parents.get(current);
+            if(currentParent==null || currentParent.equals(root)) break;
+            parents.replace(current, currentParent, root);
+            current = currentParent;
+        }
+        return root;
+    }
+
+    /**
+     * Returns the identifier of the representative of the equivalence class of the unit with the specified
+     * identifier, see {@link #find(String)}.
+     * @param identifier The identifier of the unit.
+     * @return The identifier of the representative.
+     */
+    @Override
+    public String apply(String identifier) {
+        return this.find(identifier);
+    }
+
+    /**
+     * Joins the equivalence classes of the units with the specified identifiers.
+     * @param identifier1 The identifier of the first unit.
+     * @param identifier2 The identifier of the second unit.
+     * @return True when the classes were joined, false when the units were already equivalent.
+     */
+    public synchronized boolean union(String identifier1, String identifier2) {
+        String root1 = this.find(identifier1);
+        String root2 = this.find(identifier2);
+        if(root1.equals(root2)) return false;
+        int size1 = sizes.getOrDefault(root1, 1);
+        int size2 = sizes.getOrDefault(root2, 1);
+        if(size1<size2){
+            String root = root1;
+            root1 = root2;
+            root2 = root;
+        }
+        sizes.put(root1, size1+size2);
+        sizes.remove(root2);
+        parents.put(root2, root1);
+        numberOfUnions++;
+        return true;
+    }
+
+    /**
+     * Tests whether the units with the specified identifiers are equivalent.
+     * @param identifier1 The identifier of the first unit.
+     * @param identifier2 The identifier of the second unit.
+     * @return True when the units are equivalent.
+     */
+    public boolean areEquivalent(String identifier1, String identifier2) {
+        if(identifier1.equals(identifier2)) return true;
+        if(numberOfUnions==0) return false;
+        return this.find(identifier1).equals(this.find(identifier2));
+    }
+
+    /**
+     * Returns true when no units have been joined, i.e. when each unit is only equivalent to itself.
+     * @return True when empty.
+     */
+    public boolean isEmpty() {
+        return numberOfUnions==0;
+    }
+
+    /**
+     * Returns the number of times two equivalence classes were joined. This is also the number of units that are
+     * equivalent to another unit and are not the representative of their class.
+     * @return The number of unions.
+     */
+    public int getNumberOfUnions() {
+        return numberOfUnions;
+    }
+
+    @Override
+    public String toString(){
+        return "UnitEquivalence[unions="+numberOfUnions+"]";
+    }
+}
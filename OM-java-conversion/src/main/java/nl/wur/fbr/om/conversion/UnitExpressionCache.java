@@ -0,0 +1,185 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.core.expressions.ParsedUnitExpression;
+import nl.wur.fbr.om.core.expressions.UnitExpressionParser;
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.factory.InstanceFactory;
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.util.function.Function;
+
+/**
+ * A size bounded, thread safe cache of parsed unit expressions (see {@link UnitExpressionParser}) and of the
+ * converters from the units of the expressions to target units. Data sets typically contain a few hundred different
+ * unit expressions that are repeated very often, for these the unit or converter is found with a single lookup in a
+ * hash table, without parsing the expression or looking up the conversion.
+ * <p>
+ * Expressions that could not be parsed are stored as well, so a malformed expression is only parsed once and
+ * does not cause exceptions. The converters are stored by expression and target unit in a second cache with the
+ * same maximum size, so the memory used is bounded independently of the number of target units. The stored results are not updated when units are added to the factory, call
+ * {@link #clear()} after adding sets of units to resolve expressions with the new units.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class UnitExpressionCache {
+
+    /** The default maximum number of expressions that are stored, and of converters that are stored. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    /** The factory used to convert the units. */
+    private final InstanceFactory factory;
+
+    /** The parser of the expressions. */
+    private final UnitExpressionParser parser;
+
+    /** The function that parses an expression, kept so that lookups do not create a method reference. */
+    private final Function<String,ParsedUnitExpression> parseFunction;
+
+    /** The parsed expressions by expression. */
+    private final ConversionCache<String,ParsedUnitExpression> expressions;
+
+    /** The converters by expression and target unit, null for expressions that cannot be converted. */
+    private final ConversionCache<ConverterKey,UnitConverter> converters;
+
+    /** The function that creates the converter for a key, kept so that lookups do not create a lambda. */
+    private final Function<ConverterKey,UnitConverter> converterFunction;
+
+    /**
+     * Creates a new cache that stores at most {@value #DEFAULT_MAXIMUM_SIZE} expressions.
+     * @param factory The factory in which the expressions are resolved, whose unit factory should be a
+     *                {@link DefaultUnitAndScaleFactory}.
+     */
+    public UnitExpressionCache(InstanceFactory factory){
+        this(factory, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new cache that stores at most the specified number of expressions, and at most the same number of
+     * converters. When more expressions or converters are used, the least recently used ones are removed.
+     * @param factory The factory in which the expressions are resolved, whose unit factory should be a
+     *                {@link DefaultUnitAndScaleFactory}.
+     * @param maximumSize The maximum number of expressions, and of converters, that are stored.
+     */
+    public UnitExpressionCache(InstanceFactory factory, int maximumSize){
+        if(!(factory.getUnitAndScaleFactory() instanceof DefaultUnitAndScaleFactory)){
+            throw new IllegalArgumentException("Unit expressions can only be resolved with a DefaultUnitAndScaleFactory.");
+        }
+        this.factory = factory;
+        this.parser = new UnitExpressionParser((DefaultUnitAndScaleFactory) factory.getUnitAndScaleFactory());
+        this.parseFunction = parser::parse;
+        this.expressions = new ConversionCache<>(maximumSize, CacheEvictionPolicy.LEAST_RECENTLY_USED, key -> false);
+        this.converters = new ConversionCache<>(maximumSize, CacheEvictionPolicy.LEAST_RECENTLY_USED, key -> false);
+        this.converterFunction = key -> createConverter(key.expression, key.targetUnit);
+    }
+
+    /**
+     * Returns the parser used to parse the expressions.
+     * @return The parser.
+     */
+    public UnitExpressionParser getParser() {
+        return parser;
+    }
+
+    /**
+     * Returns the parsed expression, which is only parsed when it is not stored.
+     * @param expression The expression.
+     * @return The parsed expression, which may be invalid.
+     */
+    public ParsedUnitExpression parse(String expression) {
+        if(expression==null) return parser.parse(null);
+        return expressions.get(expression, parseFunction);
+    }
+
+    /**
+     * Returns the unit denoted by the expression.
+     * @param expression The expression.
+     * @return The unit, or null if the expression is not valid.
+     */
+    public Unit getUnit(String expression) {
+        return this.parse(expression).getUnit();
+    }
+
+    /**
+     * Returns the converter from the unit denoted by the expression to the target unit. The converter is only
+     * determined when it is not stored.
+     * @param expression The expression.
+     * @param targetUnit The target unit.
+     * @return The converter, or null if the expression is not valid or if its unit cannot be converted to the
+     * target unit.
+     */
+    public UnitConverter getConverter(String expression, Unit targetUnit) {
+        if(expression==null || targetUnit==null) return null;
+        return converters.get(new ConverterKey(expression, targetUnit), converterFunction);
+    }
+
+    /**
+     * Removes all stored expressions and converters.
+     */
+    public void clear() {
+        expressions.removeValues(value -> true);
+        converters.removeValues(value -> true);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the stored expressions.
+     * @return The statistics.
+     */
+    public ConversionCacheStatistics getStatistics() {
+        return expressions.getStatistics();
+    }
+
+    /**
+     * Creates the converter from the unit denoted by the expression to the target unit.
+     * @param expression The expression.
+     * @param targetUnit The target unit.
+     * @return The converter, or null if the expression is not valid or cannot be converted.
+     */
+    private UnitConverter createConverter(String expression, Unit targetUnit) {
+        Unit unit = this.getUnit(expression);
+        if(unit==null) return null;
+        double factor = factory.getUnitAndScaleConversionFactory().tryGetConversionFactor(unit, targetUnit);
+        if(Double.isNaN(factor)) return null;
+        return new UnitConverter(unit, targetUnit, factor, factory.getMeasureAndPointFactory());
+    }
+
+    /**
+     * The key of a stored converter, i.e. the expression and the identifier of the target unit.
+     */
+    private static final class ConverterKey {
+
+        /** The expression. */
+        private final String expression;
+
+        /** The target unit. */
+        private final Unit targetUnit;
+
+        /** The precalculated hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new key for the converter from the unit of the expression to the target unit.
+         * @param expression The expression.
+         * @param targetUnit The target unit.
+         */
+        ConverterKey(String expression, Unit targetUnit){
+            this.expression = expression;
+            this.targetUnit = targetUnit;
+            this.hash = 31*expression.hashCode()+targetUnit.getIdentifier().hashCode();
+        }
+
+        @Override
+        public int hashCode(){
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object){
+            if(this==object) return true;
+            if(!(object instanceof ConverterKey)) return false;
+            ConverterKey key = (ConverterKey)object;
+            return hash==key.hash && expression.equals(key.expression) &&
+                    targetUnit.getIdentifier().equals(key.targetUnit.getIdentifier());
+        }
+    }
+}
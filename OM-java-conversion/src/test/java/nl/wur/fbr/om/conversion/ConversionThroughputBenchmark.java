@@ -0,0 +1,121 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.core.set.CoreUnitAndScaleSet;
+import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.factory.InstanceFactory;
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A simple multi-threaded throughput benchmark for unit conversions. All pairs of convertible units in the core
+ * set are converted repeatedly by an increasing number of threads sharing one conversion factory.
+ * The benchmark is not run as part of the unit tests, run the main method instead. The optional arguments
+ * are the maximum number of threads and the duration of each run in milliseconds.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class ConversionThroughputBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args The maximum number of threads (default the number of processors) and the duration
+     *             in milliseconds of each run (default 2000).
+     * @throws Exception When the core set could not be loaded or a thread was interrupted.
+     */
+    public static void main(String[] args) throws Exception {
+        int maxThreads = args.length>0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long duration = args.length>1 ? Long.parseLong(args[1]) : 2000;
+
+        InstanceFactory factory = new CoreInstanceFactory();
+        List<Unit[]> pairs = convertiblePairs(factory);
+        System.out.println("Convertible unit pairs: "+pairs.size());
+
+        // Warm up.
+        run(factory, pairs, 1, duration);
+        for(int threads = 1; threads<=maxThreads; threads*=2){
+            double rate = run(factory, pairs, threads, duration);
+            System.out.printf("%3d threads: %,15.0f conversions/s%n", threads, rate);
+        }
+    }
+
+    /**
+     * Returns all pairs of units in the core set that can be converted into each other.
+     * @param factory The instance factory to which the core set is added.
+     * @return The convertible pairs.
+     * @throws UnitOrScaleCreationException When the core set could not be loaded.
+     */
+    private static List<Unit[]> convertiblePairs(InstanceFactory factory) throws UnitOrScaleCreationException {
+        factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        List<Unit> units = new ArrayList<>(new CoreUnitAndScaleSet().getAllUnits());
+        List<Unit[]> pairs = new ArrayList<>();
+        for(Unit unit1 : units){
+            for(Unit unit2 : units){
+                if(!unit1.getUnitDimension().equals(unit2.getUnitDimension())) continue;
+                try {
+                    factory.getConversionFactor(unit1, unit2);
+                    pairs.add(new Unit[]{unit1, unit2});
+                } catch (ConversionException e) {
+                    // not convertible, skip.
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Converts the pairs of units with the specified number of threads during the specified duration.
+     * @param factory The instance factory.
+     * @param pairs The pairs of units to be converted.
+     * @param threads The number of threads.
+     * @param duration The duration of the run in milliseconds.
+     * @return The number of conversions per second.
+     * @throws InterruptedException When the benchmark was interrupted.
+     * @throws IllegalStateException When the sum of the converted values is not positive.
+     */
+    private static double run(InstanceFactory factory, List<Unit[]> pairs, int threads, long duration) throws InterruptedException {
+        LongAdder count = new LongAdder();
+        DoubleAdder total = new DoubleAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] end = new long[1];
+        List<Thread> workers = new ArrayList<>();
+        for(int t=0;t<threads;t++){
+            final int offset = t*pairs.size()/threads;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    int i = offset;
+                    double sum = 0;
+                    long local = 0;
+                    while(System.nanoTime()<end[0]){
+                        for(int n=0;n<1000;n++) {
+                            Unit[] pair = pairs.get(i);
+                            sum += factory.convert(1.0, pair[0], pair[1]);
+                            if (++i == pairs.size()) i = 0;
+                        }
+                        local+=1000;
+                    }
+                    count.add(local);
+                    total.add(sum);
+                } catch (InterruptedException | ConversionException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        long begin = System.nanoTime();
+        end[0] = begin+duration*1000000L;
+        start.countDown();
+        for(Thread worker : workers) worker.join();
+        double rate = count.sum()*1e9/(System.nanoTime()-begin);
+        // The converted values are used, so that the conversions are not optimised away.
+        if(count.sum()>0 && !(total.sum()>0)) throw new IllegalStateException("The converted values should be positive.");
+        return rate;
+    }
+}
@@ -0,0 +1,152 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.core.set.CoreUnitAndScaleSet;
+import nl.wur.fbr.om.factory.InstanceFactory;
+
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * A throughput benchmark for the normalisation of units in delimited files by {@link DelimitedUnitNormalizer}.
+ * A CSV file with a text column and four numerical columns in different units is generated while it is read,
+ * so the benchmark itself uses a constant amount of memory, and the output is discarded.
+ * The throughput (in MB/s of input) is reported for an increasing number of chunks processed in parallel.
+ * The benchmark is not run as part of the unit tests, run the main method instead. The optional arguments are
+ * the size of the generated file in MB and the maximum parallelism.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class DelimitedUnitNormalizerBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args The size of the generated file in MB (default 200) and the maximum parallelism (default the
+     *             number of processors).
+     * @throws Exception When the core set could not be loaded or the file could not be normalised.
+     */
+    public static void main(String[] args) throws Exception {
+        long size = (args.length>0 ? Long.parseLong(args[0]) : 200)*1000000L;
+        int maxParallelism = args.length>1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        InstanceFactory factory = new CoreInstanceFactory();
+        factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        DelimitedUnitNormalizer normalizer = new DelimitedUnitNormalizer(factory, ',');
+        normalizer.setTargetUnit("distance", CoreUnitAndScaleSet.METRE);
+        normalizer.setTargetUnit("length", CoreUnitAndScaleSet.KILOMETRE);
+        normalizer.setTargetUnit("mass", CoreUnitAndScaleSet.KILOGRAM);
+        normalizer.setTargetUnit("duration", CoreUnitAndScaleSet.SECOND);
+
+        // Warm up.
+        run(normalizer, size/4, 1);
+        for(int parallelism=1;parallelism<=maxParallelism;parallelism*=2){
+            double rate = run(normalizer, size, parallelism);
+            System.out.printf("%3d chunks in parallel: %8.1f MB/s%n", parallelism, rate);
+        }
+    }
+
+    /**
+     * Normalises a generated file of the specified size.
+     * @param normalizer The normaliser.
+     * @param size The size of the generated file in characters.
+     * @param parallelism The number of chunks processed in parallel.
+     * @return The throughput in MB (of input) per second.
+     * @throws Exception When the file could not be normalised.
+     */
+    private static double run(DelimitedUnitNormalizer normalizer, long size, int parallelism) throws Exception {
+        normalizer.setParallelism(parallelism);
+        GeneratedReader reader = new GeneratedReader(size);
+        long start = System.nanoTime();
+        normalizer.normalize(reader, new NullWriter());
+        long time = System.nanoTime()-start;
+        return reader.count/1e6/(time/1e9);
+    }
+
+    /**
+     * A reader that generates the lines of a CSV file up to the specified size. The lines are taken from a
+     * pool of generated lines, so that generating the file takes little time compared to normalising it.
+     */
+    private static final class GeneratedReader extends Reader {
+
+        /** The number of different lines. */
+        private static final int LINES = 4096;
+
+        /** The characters of the header followed by the pool of lines. */
+        private static final char[] DATA;
+
+        /** The index in the data of the first line after the header. */
+        private static final int FIRST_LINE;
+
+        static {
+            StringBuilder data = new StringBuilder("name,distance [km],length [mi],mass [g],duration [h]\n");
+            FIRST_LINE = data.length();
+            for(int i=1;i<=LINES;i++){
+                data.append("item").append(i).append(',')
+                        .append(i%1000*0.125).append(',')
+                        .append(i%977).append(',')
+                        .append(i*1.5e-3).append(',')
+                        .append(i%24).append('\n');
+            }
+            DATA = data.toString().toCharArray();
+        }
+
+        /** The size of the file in characters. */
+        private final long size;
+
+        /** The number of characters read. */
+        private long count = 0;
+
+        /** The index of the next character in the data. */
+        private int position = 0;
+
+        /**
+         * Creates a new reader.
+         * @param size The size of the file in characters.
+         */
+        GeneratedReader(long size){
+            this.size = size;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if(count>=size && (position==FIRST_LINE || DATA[position-1]=='\n')) return -1;
+            int read = 0;
+            while(read<length){
+                if(position>=DATA.length) position = FIRST_LINE;
+                int n = Math.min(length-read, DATA.length-position);
+                System.arraycopy(DATA, position, buffer, offset+read, n);
+                position += n;
+                read += n;
+                count += n;
+                if(count>=size) break;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * A writer that discards all output.
+     */
+    private static final class NullWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+        }
+
+        @Override
+        public Writer append(CharSequence sequence) {
+            return this;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package nl.wur.fbr.om.conversion;
+
+import nl.wur.fbr.om.core.set.CoreUnitAndScaleSet;
+import nl.wur.fbr.om.exceptions.AmbiguousUnitException;
+import nl.wur.fbr.om.factory.InstanceFactory;
+import nl.wur.fbr.om.model.units.Unit;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the normalisation of units in delimited files.
+ * @author Don Willems on 16/10/26.
+ */
+public class DelimitedUnitNormalizerTest {
+
+    /**
+     * Tests the normalisation of a CSV file to a writer and to a consumer, sequentially and in parallel.
+     */
+    @Test
+    public void testNormalization(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+            String csv = "name,distance [km],length [mi],weight [g]\r\n" +
+                    "a,1.5,1,12\r\n" +
+                    "\"b,c\",2e3,,7\r\n" +
+                    "\r\n" +
+                    "d,-0.25,NaN,3\r\n" +
+                    "e,\"0.5\",\" 2 \",4";
+            DelimitedUnitNormalizer normalizer = new DelimitedUnitNormalizer(factory, ',');
+            normalizer.setTargetUnit("distance", CoreUnitAndScaleSet.METRE);
+            normalizer.setTargetUnit("length", CoreUnitAndScaleSet.KILOMETRE);
+            StringWriter writer = new StringWriter();
+            long rows = normalizer.normalize(new StringReader(csv), writer);
+            Assert.assertEquals("Test number of rows", 4, rows);
+            String expected = "name,distance [m],length [km],weight [g]\n" +
+                    "a,1500.0,1.609344,12\n" +
+                    "\"b,c\",2000000.0,,7\n" +
+                    "d,-250.0,NaN,3\n" +
+                    "e,500.0,3.218688,4\n";
+            Assert.assertEquals("Test normalised output", expected, writer.toString());
+
+            // Many small chunks processed in parallel should keep the order of the rows.
+            StringBuilder large = new StringBuilder("index,distance [km]\n");
+            for(int i=0;i<10000;i++) large.append(i).append(',').append(i).append('\n');
+            normalizer.setChunkSize(100);
+            normalizer.setParallelism(4);
+            List<Double> values = new ArrayList<>();
+            rows = normalizer.normalize(new StringReader(large.toString()), new ColumnChunkConsumer() {
+                @Override
+                public void header(String[] columnNames, Unit[] units) {
+                    Assert.assertEquals("Test column name", "distance", columnNames[1]);
+                    Assert.assertSame("Test column unit", CoreUnitAndScaleSet.METRE, units[1]);
+                    Assert.assertNull("Test column without unit", units[0]);
+                }
+
+                @Override
+                public void accept(double[][] columns, int rowCount) {
+                    Assert.assertNull("Test column without unit", columns[0]);
+                    for(int r=0;r<rowCount;r++) values.add(columns[1][r]);
+                }
+            });
+            Assert.assertEquals("Test number of rows", 10000, rows);
+            for(int i=0;i<values.size();i++){
+                Assert.assertEquals("Test order of parallel chunks", i*1000.0, values.get(i), 1e-9);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when normalising a file. " + e);
+        }
+    }
+
+    /**
+     * Tests that the units of the columns are resolved by symbol and by name, and that an ambiguous symbol stops the
+     * normalisation and reports the column.
+     */
+    @Test
+    public void testResolutionOfUnits(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+            DelimitedUnitNormalizer normalizer = new DelimitedUnitNormalizer(factory, ',');
+            normalizer.setTargetUnit("distance", CoreUnitAndScaleSet.METRE);
+            StringWriter writer = new StringWriter();
+            normalizer.normalize(new StringReader("index,distance [kilometre]\n1,2\n"), writer);
+            Assert.assertEquals("Test unit resolved by name", "index,distance [m]\n1,2000.0\n", writer.toString());
+
+            factory.getUnitAndScaleFactory().createSingularUnit("http://example.org/units/kiloMile", "kilomile", "km",
+                    CoreUnitAndScaleSet.MILE, 1000);
+            normalizer.normalize(new StringReader("index,distance [km]\n1,2\n"), new StringWriter());
+            Assert.fail("Test ambiguous unit");
+        } catch (AmbiguousUnitException e) {
+            Assert.assertEquals("Test ambiguous unit", "The unit 'km' of column 2 'distance' is ambiguous, it is used by 2 units.",
+                    e.getMessage());
+            Assert.assertEquals("Test ambiguous unit", "km", e.getKey());
+            Assert.assertEquals("Test ambiguous unit", 2, e.getCandidates().size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when normalising a file. " + e);
+        }
+    }
+
+    /**
+     * Tests that a field that is not a number in a converted column stops the normalisation, sequentially and in
+     * parallel, and that the row and column of the field are reported.
+     */
+    @Test
+    public void testNormalizationOfInvalidNumbers(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        StringBuilder csv = new StringBuilder("index,distance [km]\n");
+        for(int i=0;i<1000;i++) csv.append(i).append(',').append(i==700 ? "n/a" : Integer.toString(i)).append('\n');
+        DelimitedUnitNormalizer normalizer = new DelimitedUnitNormalizer(factory, ',');
+        normalizer.setTargetUnit("distance", CoreUnitAndScaleSet.METRE);
+        normalizer.setChunkSize(100);
+        for(int parallelism=1;parallelism<=4;parallelism+=3) {
+            normalizer.setParallelism(parallelism);
+            try {
+                normalizer.normalize(new StringReader(csv.toString()), new StringWriter());
+                Assert.fail("Test invalid number");
+            } catch (IOException e) {
+                Assert.assertEquals("Test invalid number", "The value 'n/a' in row 701, column 'distance' is not a number.",
+                        e.getMessage());
+            } catch (Exception e) {
+                e.printStackTrace();
+                Assert.fail("Exception thrown when normalising a file. " + e);
+            }
+        }
+    }
+
+    /**
+     * Tests the parsing of numbers from characters.
+     */
+    @Test
+    public void testParseDouble(){
+        String[] numbers = {"0", "-0", "1", "12.5", " 3.25 ", ".5", "-1.2e-3", "6.02214076E23", "1e22", "1e-22",
+                "123456789012345678", "1234567890123456789012", "0.1", "4.9e-324", "NaN", "Infinity", "9007199254740993"};
+        for(String number : numbers){
+            char[] chars = ("x"+number+"y").toCharArray();
+            Assert.assertEquals("Test parsing "+number, Double.parseDouble(number),
+                    DelimitedUnitNormalizer.parseDouble(chars, 1, chars.length-1), 0.0);
+        }
+        char[] chars = "abc".toCharArray();
+        Assert.assertTrue("Test parsing non number", Double.isNaN(DelimitedUnitNormalizer.parseDouble(chars, 0, 3)));
+        chars = "1e".toCharArray();
+        Assert.assertTrue("Test parsing non number", Double.isNaN(DelimitedUnitNormalizer.parseDouble(chars, 0, 2)));
+    }
+}
@@ -6,19 +6,32 @@ import nl.wur.fbr.om.core.impl.units.UnitDivisionImpl;
 import nl.wur.fbr.om.core.impl.units.UnitMultiplicationImpl;
 import nl.wur.fbr.om.core.set.CoreUnitAndScaleSet;
 import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.exceptions.FactoryException;
+import nl.wur.fbr.om.exceptions.UnitConversionException;
 import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
 import nl.wur.fbr.om.factory.InstanceFactory;
 import nl.wur.fbr.om.factory.MeasureAndPointFactory;
 import nl.wur.fbr.om.factory.UnitAndScaleConversionFactory;
 import nl.wur.fbr.om.factory.UnitAndScaleFactory;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
 import nl.wur.fbr.om.model.measures.Measure;
 import nl.wur.fbr.om.model.points.Point;
 import nl.wur.fbr.om.model.scales.Scale;
 import nl.wur.fbr.om.model.units.SingularUnit;
 import nl.wur.fbr.om.model.units.Unit;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Unit tests for the conversion of units.
  * @author Don Willems on 01/08/15.
@@ -332,4 +345,386 @@ public class UnitOrScaleConversionTest {
             Assert.fail("Exception thrown when converting a scale. " + e);
         }
     }
+
+    /** Tests conversion between scales defined by a chain of definition scales, and the conversion of points in bulk. */
+    @Test
+    public void testChainedScaleConversion(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        AbstractUnitConversionFactory conversion = (AbstractUnitConversionFactory) factory.getUnitAndScaleConversionFactory();
+        try {
+            // A scale defined on the Celsius scale, which is defined on the Kelvin scale: d = 2*c+10.
+            Scale scale = factory.createScale("doubledCelsius", null, null, CoreUnitAndScaleSet.CELSIUS_SCALE, 10.0, 2.0, CoreUnitAndScaleSet.CELSIUS);
+            Assert.assertEquals("Test chained conversion", 10.0, factory.convert(273.15, CoreUnitAndScaleSet.KELVIN_SCALE, scale), 1e-9);
+            Assert.assertEquals("Test chained conversion", 210.0, factory.convert(100.0, CoreUnitAndScaleSet.CELSIUS_SCALE, scale), 1e-9);
+            Assert.assertEquals("Test chained conversion", 212.0, factory.convert(210.0, scale, CoreUnitAndScaleSet.FAHRENHEIT_SCALE), 1e-9);
+
+            PointConverter toKelvin = conversion.getPointConverter(CoreUnitAndScaleSet.KELVIN_SCALE);
+            List<Point> points = new ArrayList<>();
+            points.add(factory.createScalarPoint(0.0, CoreUnitAndScaleSet.CELSIUS_SCALE));
+            points.add(factory.createScalarPoint(32.0, CoreUnitAndScaleSet.FAHRENHEIT_SCALE));
+            points.add(factory.createVectorPoint(new double[]{10.0, 210.0}, scale));
+            points.add(factory.createScalarRangePoint(-273.15, 0.0, CoreUnitAndScaleSet.CELSIUS_SCALE));
+            List<Point> converted = toKelvin.convert(points);
+            Assert.assertEquals("Test point conversion", 273.15, converted.get(0).getScalarValue(), 1e-9);
+            Assert.assertEquals("Test point conversion", 273.15, converted.get(1).getScalarValue(), 1e-9);
+            Assert.assertArrayEquals("Test point conversion", new double[]{273.15, 373.15}, converted.get(2).getVectorValue(), 1e-9);
+            Assert.assertEquals("Test point conversion", 0.0, ((Number)converted.get(3).getScalarRange().getMinimum()).doubleValue(), 1e-9);
+            Assert.assertEquals("Test point conversion", 273.15, ((Number)converted.get(3).getScalarRange().getMaximum()).doubleValue(), 1e-9);
+            for(Point point : converted) Assert.assertSame("Test point conversion", CoreUnitAndScaleSet.KELVIN_SCALE, point.getScale());
+            Assert.assertSame("Test converter is kept", toKelvin.getConverter(scale), toKelvin.getConverter(scale));
+        } catch (ConversionException e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when converting a scale. " + e);
+        }
+    }
+
+    /** Tests that conversions in reverse direction of a previously used conversion give the correct result. */
+    @Test
+    public void testReverseConversion(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        try {
+            Assert.assertEquals("Test conversion", 1000.0, factory.convert(1.0, CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE), 1e-9);
+            Assert.assertEquals("Test reverse conversion", 0.001, factory.convert(1.0, CoreUnitAndScaleSet.METRE, CoreUnitAndScaleSet.KILOMETRE), 1e-12);
+            Assert.assertEquals("Test conversion", 212.0, factory.convert(100.0, CoreUnitAndScaleSet.CELSIUS_SCALE, CoreUnitAndScaleSet.FAHRENHEIT_SCALE), 1e-9);
+            Assert.assertEquals("Test reverse conversion", 100.0, factory.convert(212.0, CoreUnitAndScaleSet.FAHRENHEIT_SCALE, CoreUnitAndScaleSet.CELSIUS_SCALE), 1e-9);
+        } catch (ConversionException e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when converting. " + e);
+        }
+    }
+
+    /** Tests conversions from several threads using the same conversion factory. */
+    @Test
+    public void testConcurrentConversion() throws InterruptedException {
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        Unit[][] pairs = {
+                {CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE},
+                {CoreUnitAndScaleSet.METRE, CoreUnitAndScaleSet.KILOMETRE},
+                {CoreUnitAndScaleSet.KILOMETRE_PER_HOUR, CoreUnitAndScaleSet.METRE_PER_SECOND},
+                {CoreUnitAndScaleSet.JOULE, CoreUnitAndScaleSet.KILOCALORIE}
+        };
+        double[] expected = {1000.0, 0.001, 1/3.6, 0.000239005736};
+        final int[] failures = new int[1];
+        Thread[] threads = new Thread[8];
+        for(int t=0;t<threads.length;t++){
+            threads[t] = new Thread(() -> {
+                for(int i=0;i<1000;i++){
+                    int p = i%pairs.length;
+                    try {
+                        double value = factory.convert(1.0, pairs[p][0], pairs[p][1]);
+                        if(Math.abs(value-expected[p])>1e-9) synchronized (failures) { failures[0]++; }
+                    } catch (ConversionException e) {
+                        synchronized (failures) { failures[0]++; }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for(Thread thread : threads) thread.join();
+        Assert.assertEquals("Test concurrent conversions", 0, failures[0]);
+    }
+
+    /** Tests that the number of stored conversions is bounded and that conversions in pinned sets are kept. */
+    @Test
+    public void testBoundedConversionCache(){
+        for(CacheEvictionPolicy policy : CacheEvictionPolicy.values()) {
+            InstanceFactory factory = new CoreInstanceFactory();
+            DefaultUnitConversionFactory conversion = new DefaultUnitConversionFactory(factory.getMeasureAndPointFactory(), 8, policy);
+            try {
+                conversion.pinUnitAndScaleSet(factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class));
+            } catch (UnitOrScaleCreationException e) {
+                e.printStackTrace();
+                Assert.fail("Could not add core set to factory. " + e);
+            }
+            try {
+                Assert.assertEquals("Test pinned conversion", 1000.0, conversion.convert(1.0, CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE), 1e-9);
+                for (int i = 1; i <= 100; i++) {
+                    Unit multiple = factory.createUnitMultiple(CoreUnitAndScaleSet.METRE, i);
+                    Assert.assertEquals("Test conversion", i, conversion.convert(1.0, multiple, CoreUnitAndScaleSet.METRE), 1e-9);
+                }
+                Assert.assertEquals("Test pinned conversion", 1000.0, conversion.convert(1.0, CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE), 1e-9);
+            } catch (ConversionException e) {
+                e.printStackTrace();
+                Assert.fail("Exception thrown when converting. " + e);
+            }
+            ConversionCacheStatistics statistics = conversion.getCacheStatistics();
+            Assert.assertEquals("Test pinned conversions", 1, statistics.getPinnedSize());
+            Assert.assertTrue("Test bounded cache size", statistics.getSize() - statistics.getPinnedSize() <= 8);
+            Assert.assertTrue("Test evictions", statistics.getEvictionCount() >= 92);
+            Assert.assertEquals("Test hits", 1, statistics.getHitCount());
+            Assert.assertEquals("Test misses", 101, statistics.getMissCount());
+        }
+    }
+
+    /** Tests the reusable unit and scale converters. */
+    @Test
+    public void testConverters(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        AbstractUnitConversionFactory conversion = (AbstractUnitConversionFactory) factory.getUnitAndScaleConversionFactory();
+        try {
+            UnitConverter kmToM = conversion.getConverter(CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE);
+            Assert.assertEquals("Test unit converter", 2500.0, kmToM.applyAsDouble(2.5), 1e-9);
+            Assert.assertEquals("Test inverse unit converter", 0.0025, kmToM.inverse().applyAsDouble(2.5), 1e-12);
+            UnitConverter mToKm = conversion.getConverter(CoreUnitAndScaleSet.METRE, CoreUnitAndScaleSet.KILOMETRE);
+            Assert.assertTrue("Test composed unit converter", kmToM.andThen(mToKm).isIdentity());
+            double[] converted = kmToM.convert(new double[]{1.0, 2.0, 3.0});
+            Assert.assertArrayEquals("Test unit converter with arrays", new double[]{1000.0, 2000.0, 3000.0}, converted, 1e-9);
+            Measure measure = kmToM.convert(factory.createVectorMeasure(new double[]{1.0, 2.0}, CoreUnitAndScaleSet.KILOMETRE));
+            Assert.assertArrayEquals("Test unit converter with measures", new double[]{1000.0, 2000.0}, measure.getVectorValue(), 1e-9);
+
+            ScaleConverter celsiusToFahrenheit = conversion.getConverter(CoreUnitAndScaleSet.CELSIUS_SCALE, CoreUnitAndScaleSet.FAHRENHEIT_SCALE);
+            Assert.assertEquals("Test scale converter", 212.0, celsiusToFahrenheit.applyAsDouble(100.0), 1e-9);
+            Assert.assertEquals("Test inverse scale converter", 100.0, celsiusToFahrenheit.inverse().applyAsDouble(212.0), 1e-9);
+            ScaleConverter fahrenheitToKelvin = conversion.getConverter(CoreUnitAndScaleSet.FAHRENHEIT_SCALE, CoreUnitAndScaleSet.KELVIN_SCALE);
+            Assert.assertEquals("Test composed scale converter", 273.15, celsiusToFahrenheit.andThen(fahrenheitToKelvin).applyAsDouble(0.0), 1e-9);
+            Point point = celsiusToFahrenheit.convert(factory.createScalarRangePoint(0.0, 100.0, CoreUnitAndScaleSet.CELSIUS_SCALE));
+            Assert.assertEquals("Test scale converter with range points", 32.0, (Double) point.getScalarRange().getMinimum(), 1e-9);
+            Assert.assertEquals("Test scale converter with range points", 212.0, (Double) point.getScalarRange().getMaximum(), 1e-9);
+        } catch (ConversionException e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when converting. " + e);
+        }
+    }
+
+    /** Tests the conversion of arrays and buffers of values. */
+    @Test
+    public void testBulkConversion(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        AbstractUnitConversionFactory conversion = (AbstractUnitConversionFactory) factory.getUnitAndScaleConversionFactory();
+        try {
+            double[] values = {1.0, 2.0, 3.0, 4.0, 5.0};
+            double[] converted = new double[7];
+            conversion.convert(values, 1, converted, 2, 3, CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE);
+            Assert.assertArrayEquals("Test array conversion", new double[]{0, 0, 2000.0, 3000.0, 4000.0, 0, 0}, converted, 1e-9);
+            conversion.convert(values, 0, values, 1, 4, CoreUnitAndScaleSet.CELSIUS_SCALE, CoreUnitAndScaleSet.FAHRENHEIT_SCALE);
+            Assert.assertArrayEquals("Test overlapping array conversion", new double[]{1.0, 33.8, 35.6, 37.4, 39.2}, values, 1e-9);
+
+            ByteBuffer buffer = ByteBuffer.allocate(3 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putDouble(0.0).putDouble(100.0).putDouble(-40.0).flip();
+            conversion.convert(buffer, buffer, CoreUnitAndScaleSet.CELSIUS_SCALE, CoreUnitAndScaleSet.FAHRENHEIT_SCALE);
+            Assert.assertEquals("Test byte buffer conversion", 3 * Double.BYTES, buffer.position());
+            Assert.assertEquals("Test byte buffer conversion", 32.0, buffer.getDouble(0), 1e-9);
+            Assert.assertEquals("Test byte buffer conversion", 212.0, buffer.getDouble(Double.BYTES), 1e-9);
+            Assert.assertEquals("Test byte buffer conversion", -40.0, buffer.getDouble(2 * Double.BYTES), 1e-9);
+
+            conversion.setParallelThreshold(1000);
+            double[] large = new double[1000000];
+            for(int i=0;i<large.length;i++) large[i] = i;
+            conversion.convertInPlace(large, CoreUnitAndScaleSet.METRE, CoreUnitAndScaleSet.KILOMETRE);
+            for(int i=0;i<large.length;i++) Assert.assertEquals("Test parallel array conversion", i/1000.0, large[i], 1e-9);
+
+            Measure range = factory.convertToUnit(factory.createScalarRangeMeasure(1.0, 2.0, CoreUnitAndScaleSet.KILOMETRE), CoreUnitAndScaleSet.METRE);
+            Assert.assertEquals("Test range conversion", 1000.0, (Double) range.getScalarRange().getMinimum(), 1e-9);
+            Assert.assertEquals("Test range conversion", 2000.0, (Double) range.getScalarRange().getMaximum(), 1e-9);
+        } catch (ConversionException e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when converting. " + e);
+        }
+    }
+
+    /** Tests the conversion with unit ordinals in a sealed conversion factory. */
+    @Test
+    public void testSealedConversion(){
+        CoreInstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        AbstractUnitConversionFactory conversion = (AbstractUnitConversionFactory) factory.getUnitAndScaleConversionFactory();
+        DefaultUnitAndScaleFactory unitFactory = (DefaultUnitAndScaleFactory) factory.getUnitAndScaleFactory();
+        try {
+            double expected = conversion.getConversionFactor(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.KILOMETRE);
+            ConversionTable table = factory.seal();
+            Assert.assertTrue("Test sealed", conversion.isSealed());
+            Assert.assertEquals("Test table size", unitFactory.getNumberOfUnits(), table.size());
+            Assert.assertTrue("Test table memory", table.getMemoryUsage()>0);
+            int mile = unitFactory.getUnitOrdinal(CoreUnitAndScaleSet.MILE);
+            int kilometre = unitFactory.getUnitOrdinal(CoreUnitAndScaleSet.KILOMETRE);
+            int second = unitFactory.getUnitOrdinal(CoreUnitAndScaleSet.SECOND);
+            Assert.assertSame("Test ordinals", CoreUnitAndScaleSet.MILE, unitFactory.getUnit(mile));
+            Assert.assertEquals("Test sealed conversion", expected, conversion.getConversionFactor(mile, kilometre), 1e-12);
+            Assert.assertEquals("Test sealed conversion", expected,
+                    conversion.getConversionFactor(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.KILOMETRE), 1e-12);
+            Assert.assertFalse("Test sealed conversion", table.isConvertible(mile, second));
+            try {
+                conversion.getConversionFactor(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.SECOND);
+                Assert.fail("No exception thrown when converting a length to a time.");
+            } catch (ConversionException e) {
+                // expected
+            }
+            Unit metrePerMetre = factory.createUnitDivision(CoreUnitAndScaleSet.METRE, CoreUnitAndScaleSet.METRE);
+            Unit kilometrePerMetre = factory.createUnitDivision(CoreUnitAndScaleSet.KILOMETRE, CoreUnitAndScaleSet.METRE);
+            Assert.assertEquals("Test conversion of units created after sealing", 0.001,
+                    conversion.getConversionFactor(metrePerMetre, kilometrePerMetre), 1e-12);
+        } catch (ConversionException e) {
+            e.printStackTrace();
+            Assert.fail("Exception thrown when converting. " + e);
+        } catch (FactoryException e) {
+            e.printStackTrace();
+            Assert.fail("Could not seal the factory. " + e);
+        }
+    }
+
+    /** Tests the conversion methods that do not throw exceptions. */
+    @Test
+    public void testTryConversion(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+        Assert.assertTrue("Test is convertible", factory.isConvertible(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.METRE));
+        Assert.assertFalse("Test is convertible", factory.isConvertible(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.SECOND));
+        Assert.assertEquals("Test try conversion", 1609.344, factory.tryConvert(1.0, CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.METRE), 1e-9);
+        Assert.assertTrue("Test try conversion", Double.isNaN(factory.tryGetConversionFactor(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.SECOND)));
+        Assert.assertTrue("Test try conversion", Double.isNaN(factory.tryGetConversionFactor(CoreUnitAndScaleSet.SECOND, CoreUnitAndScaleSet.MILE)));
+        Assert.assertEquals("Test try scale conversion", 212.0, factory.tryConvert(100.0, CoreUnitAndScaleSet.CELSIUS_SCALE, CoreUnitAndScaleSet.FAHRENHEIT_SCALE), 1e-9);
+        Assert.assertFalse("Test measure equality", factory.equals(factory.createScalarMeasure(1.0, CoreUnitAndScaleSet.MILE),
+                factory.createScalarMeasure(1.0, CoreUnitAndScaleSet.SECOND), 1e-9));
+        Assert.assertTrue("Test measure equality", factory.equals(factory.createScalarMeasure(1.0, CoreUnitAndScaleSet.KILOMETRE),
+                factory.createScalarMeasure(1000.0, CoreUnitAndScaleSet.METRE), 1e-9));
+        try {
+            factory.getConversionFactor(CoreUnitAndScaleSet.MILE, CoreUnitAndScaleSet.SECOND);
+            Assert.fail("No exception thrown when converting a length to a time.");
+        } catch (UnitConversionException e) {
+            Assert.assertSame("Test exception", CoreUnitAndScaleSet.MILE, e.getSourceUnit());
+            Assert.assertNotNull("Test exception message", e.getMessage());
+        } catch (ConversionException e) {
+            Assert.fail("Wrong type of exception thrown. " + e);
+        }
+    }
+
+    /** Tests that units set to be equal and units matched across sets are converted into each other. */
+    @Test
+    public void testEqualUnits(){
+        InstanceFactory factory = new CoreInstanceFactory();
+        AbstractUnitConversionFactory conversion = (AbstractUnitConversionFactory) factory.getUnitAndScaleConversionFactory();
+        try {
+            factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        } catch (UnitOrScaleCreationException e) {
+            e.printStackTrace();
+            Assert.fail("Could not add core set to factory. " + e);
+        }
+
+        // A set of units from another vocabulary, with the same definitions as units in the core set.
+        UnitAndScaleFactory otherFactory = new DefaultUnitAndScaleFactory();
+        String namespace = "http://example.org/units/";
+        Unit metre = otherFactory.createBaseUnit(namespace+"metre", "metre", "m", SIBaseDimension.LENGTH);
+        Unit second = otherFactory.createBaseUnit(namespace+"second", "second", "s", SIBaseDimension.TIME);
+        Unit kilometre = otherFactory.createPrefixedUnit(namespace+"kilometre", "kilometre", "km", (SingularUnit) metre, DecimalPrefix.KILO);
+        Unit hour = otherFactory.createSingularUnit(namespace+"hour", "hour", "h", second, 3600);
+        Unit kilometrePerHour = otherFactory.createUnitDivision(namespace+"kilometrePerHour", "kilometre per hour", "km/h", kilometre, hour);
+        Unit length = otherFactory.createBaseUnit(namespace+"length", "length", "l", SIBaseDimension.LENGTH);
+        Set<Unit> units = new HashSet<>(Arrays.asList(metre, second, kilometre, hour, kilometrePerHour, length));
+        UnitAndScaleSet set = createSet(units);
+        conversion.matchEqualUnits(set);
+        Assert.assertTrue("Test matched units", conversion.areUnitsEqual(metre, CoreUnitAndScaleSet.METRE));
+        Assert.assertTrue("Test matched units", conversion.areUnitsEqual(kilometrePerHour, CoreUnitAndScaleSet.KILOMETRE_PER_HOUR));
+        Assert.assertFalse("Test unmatched units", conversion.areUnitsEqual(length, CoreUnitAndScaleSet.METRE));
+        Assert.assertFalse("Test unmatched units", conversion.areUnitsEqual(kilometre, CoreUnitAndScaleSet.METRE));
+        Assert.assertEquals("Test matched conversion", 1.0, conversion.tryGetConversionFactor(hour, CoreUnitAndScaleSet.HOUR), 0.0);
+        Assert.assertEquals("Test matched conversion", 3.6, conversion.tryGetConversionFactor(CoreUnitAndScaleSet.METRE_PER_SECOND, kilometrePerHour), 1e-12);
+
+        // Equality is transitive, also when set after a failed conversion.
+        Assert.assertFalse("Test unmatched conversion", conversion.isConvertible(length, CoreUnitAndScaleSet.KILOMETRE));
+        Unit otherLength = otherFactory.createBaseUnit(namespace+"otherLength", "other length", "ol", SIBaseDimension.LENGTH);
+        conversion.setUnitsToBeEqual(length, otherLength);
+        conversion.setUnitsToBeEqual(otherLength, metre);
+        Assert.assertTrue("Test transitive equality", conversion.areUnitsEqual(length, CoreUnitAndScaleSet.METRE));
+        Assert.assertEquals("Test transitive conversion", 0.001, conversion.tryGetConversionFactor(length, CoreUnitAndScaleSet.KILOMETRE), 1e-15);
+    }
+
+    /** Tests that units with the same symbol are only matched when they have similar local names in other sets. */
+    @Test
+    public void testUnitsMatchedBySymbol(){
+        AbstractUnitConversionFactory conversion = (AbstractUnitConversionFactory) new CoreInstanceFactory().getUnitAndScaleConversionFactory();
+        UnitAndScaleFactory otherFactory = new DefaultUnitAndScaleFactory();
+        String namespace = "http://example.org/units/";
+        Unit bit = otherFactory.createSingularUnit(namespace+"bit", "bit", "bit");
+        Unit byteUnit = otherFactory.createSingularUnit(namespace+"byte", "byte", "B");
+        Unit bel = otherFactory.createSingularUnit(namespace+"bel", "bel", "B");
+        Unit degree = otherFactory.createSingularUnit(namespace+"degree", "degree", "°");
+        Unit degreeCelsius = otherFactory.createSingularUnit(namespace+"degreeCelsius", "degree Celsius", "°");
+        conversion.matchEqualUnits(createSet(new HashSet<>(Arrays.asList(bit, byteUnit, bel, degree, degreeCelsius))));
+        Assert.assertFalse("Test units in the same set", conversion.areUnitsEqual(byteUnit, bel));
+        Assert.assertFalse("Test units in the same set", conversion.areUnitsEqual(degree, degreeCelsius));
+
+        String otherNamespace = "http://example.org/other/";
+        Unit otherByte = otherFactory.createSingularUnit(otherNamespace+"Byte", "byte", "B");
+        Unit otherBel = otherFactory.createSingularUnit(otherNamespace+"decibel", "decibel", "B");
+        Unit otherDegree = otherFactory.createSingularUnit(otherNamespace+"arc-degree", "degree", "°");
+        conversion.matchEqualUnits(createSet(new HashSet<>(Arrays.asList(otherByte, otherBel, otherDegree))));
+        Assert.assertTrue("Test units matched by symbol", conversion.areUnitsEqual(otherByte, byteUnit));
+        Assert.assertFalse("Test units with the same symbol", conversion.areUnitsEqual(otherBel, bel));
+        Assert.assertFalse("Test units with the same symbol", conversion.areUnitsEqual(otherBel, byteUnit));
+        Assert.assertFalse("Test units with the same symbol", conversion.areUnitsEqual(otherDegree, degree));
+        Assert.assertFalse("Test units with the same symbol", conversion.areUnitsEqual(otherDegree, degreeCelsius));
+    }
+
+    /**
+     * Creates a set containing the specified units.
+     * @param units The units.
+     * @return The set.
+     */
+    private static UnitAndScaleSet createSet(Set<Unit> units) {
+        return new UnitAndScaleSet() {
+            @Override
+            public void initialize(UnitAndScaleFactory factory) {
+            }
+
+            @Override
+            public Set<Unit> getAllUnits() {
+                return units;
+            }
+
+            @Override
+            public Set<Scale> getAllScales() {
+                return new HashSet<>();
+            }
+
+            @Override
+            public Unit getOne() {
+                return null;
+            }
+
+            @Override
+            public Unit getRadianUnit() {
+                return null;
+            }
+        };
+    }
 }
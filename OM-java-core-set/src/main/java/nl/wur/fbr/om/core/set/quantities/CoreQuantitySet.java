@@ -277,8 +277,8 @@ public class CoreQuantitySet extends QuantitySet {
         NAMESPACE = "nl.wur.fbr.om.core.set.quantity.";
 
         // LENGTH Quantities
-        Dimension dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 1);
+        Dimension dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 1);
         Set<Object> uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.METRE);
         uoss.add(CoreUnitAndScaleSet.KILOMETRE);
@@ -328,8 +328,8 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ELECTROMAGNETIC_WAVELENGTH);
         quantityClassesByID.put(ELECTROMAGNETIC_WAVELENGTH.getIdentifier(), ELECTROMAGNETIC_WAVELENGTH);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.SQUARE_METRE);
         uoss.add(CoreUnitAndScaleSet.SQUARE_KILOMETRE);
@@ -342,8 +342,8 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(AREA);
         quantityClassesByID.put(AREA.getIdentifier(), AREA);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 3);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 3);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.CUBIC_METRE);
         uoss.add(CoreUnitAndScaleSet.LITRE);
@@ -361,8 +361,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // MASS quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.GRAM);
         uoss.add(CoreUnitAndScaleSet.KILOGRAM);
@@ -376,8 +376,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // TIME quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.SECOND);
         uoss.add(CoreUnitAndScaleSet.MILLISECOND);
@@ -397,8 +397,8 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClassesByID.put(DATE.getIdentifier(), DATE);
 
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.HERTZ);
 
@@ -409,8 +409,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // ELECTRICITY quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.AMPERE);
 
@@ -418,9 +418,9 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ELECTRICAL_CURRENT);
         quantityClassesByID.put(ELECTRICAL_CURRENT.getIdentifier(), ELECTRICAL_CURRENT);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.COULOMB);
 
@@ -428,11 +428,11 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ELECTRICAL_CHARGE);
         quantityClassesByID.put(ELECTRICAL_CHARGE.getIdentifier(), ELECTRICAL_CHARGE);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, -2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, -1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, 4);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, -2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, -1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, 4);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.FARAD);
 
@@ -440,11 +440,11 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ELECTRICAL_CAPACITANCE);
         quantityClassesByID.put(ELECTRICAL_CAPACITANCE.getIdentifier(), ELECTRICAL_CAPACITANCE);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, -2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, -1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, 3);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, -2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, -1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, 3);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, 2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.SIEMENS);
 
@@ -452,11 +452,11 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ELECTRICAL_CONDUCTANCE);
         quantityClassesByID.put(ELECTRICAL_CONDUCTANCE.getIdentifier(), ELECTRICAL_CONDUCTANCE);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -3);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -3);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.VOLT);
 
@@ -464,11 +464,11 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ELECTRICAL_POTENTIAL);
         quantityClassesByID.put(ELECTRICAL_POTENTIAL.getIdentifier(), ELECTRICAL_POTENTIAL);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -3);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -3);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.OHM);
 
@@ -479,8 +479,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // TEMPERATURE quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.THERMODYNAMIC_TEMPERATURE, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.THERMODYNAMIC_TEMPERATURE, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.CELSIUS_SCALE);
         uoss.add(CoreUnitAndScaleSet.KELVIN_SCALE);
@@ -496,10 +496,10 @@ public class CoreQuantitySet extends QuantitySet {
 
         // FORCE quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.NEWTON);
 
@@ -511,10 +511,10 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(WEIGHT);
         quantityClassesByID.put(WEIGHT.getIdentifier(), WEIGHT);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, -1);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, -1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.PASCAL);
         uoss.add(CoreUnitAndScaleSet.NEWTON_PER_SQUARE_METRE);
@@ -530,8 +530,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // AMOUNT OF SUBSTANCE quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.AMOUNT_OF_SUBSTANCE, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.AMOUNT_OF_SUBSTANCE, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.MOLE);
 
@@ -542,8 +542,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // LUMINOUS INTENSITY quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LUMINOUS_INTENSITY, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LUMINOUS_INTENSITY, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.CANDELA);
 
@@ -554,7 +554,7 @@ public class CoreQuantitySet extends QuantitySet {
 
         // ANGLE quantities
 
-        dimension = new Dimension();
+        dimension = Dimension.DIMENSIONLESS;
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.RADIAN);
         uoss.add(CoreUnitAndScaleSet.DEGREE);
@@ -573,9 +573,9 @@ public class CoreQuantitySet extends QuantitySet {
 
         // VELOCITY quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.METRE_PER_SECOND);
         uoss.add(CoreUnitAndScaleSet.KILOMETRE_PER_SECOND);
@@ -587,9 +587,9 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(VELOCITY);
         quantityClassesByID.put(VELOCITY.getIdentifier(), VELOCITY);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.METRE_PER_SECOND_SQUARED);
 
@@ -600,10 +600,10 @@ public class CoreQuantitySet extends QuantitySet {
 
         // ENERGY quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.JOULE);
         uoss.add(CoreUnitAndScaleSet.CALORIE);
@@ -613,10 +613,10 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(ENERGY);
         quantityClassesByID.put(ENERGY.getIdentifier(), ENERGY);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -3);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -3);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.WATT);
 
@@ -627,11 +627,11 @@ public class CoreQuantitySet extends QuantitySet {
 
         // MAGNETIC quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.WEBER);
 
@@ -639,10 +639,10 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(MAGNETIC_FLUX);
         quantityClassesByID.put(MAGNETIC_FLUX.getIdentifier(), MAGNETIC_FLUX);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.TESLA);
 
@@ -650,11 +650,11 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(MAGNETIC_FIELD_STRENGTH);
         quantityClassesByID.put(MAGNETIC_FIELD_STRENGTH.getIdentifier(), MAGNETIC_FIELD_STRENGTH);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.MASS, 1);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
-        dimension.setDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.MASS, 1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.ELECTRIC_CURRENT, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.HENRY);
 
@@ -665,8 +665,8 @@ public class CoreQuantitySet extends QuantitySet {
 
         // RADIOACTIVITY quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.BECQUEREL);
 
@@ -674,9 +674,9 @@ public class CoreQuantitySet extends QuantitySet {
         quantityClasses.add(RADIOACTIVITY);
         quantityClassesByID.put(RADIOACTIVITY.getIdentifier(), RADIOACTIVITY);
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.LENGTH, 2);
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -2);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.LENGTH, 2);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -2);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.GRAY);
 
@@ -694,9 +694,9 @@ public class CoreQuantitySet extends QuantitySet {
 
         // CATALYSIS quantities
 
-        dimension = new Dimension();
-        dimension.setDimensionalExponent(SIBaseDimension.TIME, -1);
-        dimension.setDimensionalExponent(SIBaseDimension.AMOUNT_OF_SUBSTANCE, 1);
+        dimension = Dimension.DIMENSIONLESS;
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.TIME, -1);
+        dimension = dimension.withDimensionalExponent(SIBaseDimension.AMOUNT_OF_SUBSTANCE, 1);
         uoss = new HashSet<>();
         uoss.add(CoreUnitAndScaleSet.KATAL);
 
@@ -0,0 +1,112 @@
+package nl.wur.fbr.om.core.expressions;
+
+import nl.wur.fbr.om.model.units.Unit;
+
+/**
+ * The immutable result of parsing a unit expression with a {@link UnitExpressionParser}. The result is either
+ * valid, in which case it contains the unit denoted by the expression, or invalid, in which case it contains a
+ * message describing why the expression could not be parsed and the index of the character at which the problem was
+ * found. Malformed expressions are reported by invalid results instead of exceptions, so that they can be stored
+ * and reported cheaply.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class ParsedUnitExpression {
+
+    /** The expression that was parsed. */
+    private final String expression;
+
+    /** The unit denoted by the expression, or null if the expression is not valid. */
+    private final Unit unit;
+
+    /** The message describing why the expression is not valid, or null if the expression is valid. */
+    private final String errorMessage;
+
+    /** The index of the character at which the problem was found, or -1 if the expression is valid. */
+    private final int errorIndex;
+
+    /**
+     * Creates a new result.
+     * @param expression The expression that was parsed.
+     * @param unit The unit denoted by the expression, or null if the expression is not valid.
+     * @param errorMessage The message describing why the expression is not valid, or null.
+     * @param errorIndex The index of the character at which the problem was found, or -1.
+     */
+    private ParsedUnitExpression(String expression, Unit unit, String errorMessage, int errorIndex){
+        this.expression = expression;
+        this.unit = unit;
+        this.errorMessage = errorMessage;
+        this.errorIndex = errorIndex;
+    }
+
+    /**
+     * Creates the result of a valid expression.
+     * @param expression The expression that was parsed.
+     * @param unit The unit denoted by the expression.
+     * @return The result.
+     */
+    static ParsedUnitExpression valid(String expression, Unit unit){
+        return new ParsedUnitExpression(expression, unit, null, -1);
+    }
+
+    /**
+     * Creates the result of an expression that could not be parsed.
+     * @param expression The expression that was parsed.
+     * @param errorMessage The message describing why the expression is not valid.
+     * @param errorIndex The index of the character at which the problem was found.
+     * @return The result.
+     */
+    static ParsedUnitExpression invalid(String expression, String errorMessage, int errorIndex){
+        return new ParsedUnitExpression(expression, null, errorMessage, errorIndex);
+    }
+
+    /**
+     * Returns the expression that was parsed.
+     * @return The expression.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Returns true when the expression could be parsed and resolved to a unit.
+     * @return True when the expression is valid.
+     */
+    public boolean isValid() {
+        return unit!=null;
+    }
+
+    /**
+     * Returns the unit denoted by the expression.
+     * @return The unit, or null if the expression is not valid.
+     */
+    public Unit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the message describing why the expression could not be parsed.
+     * @return The error message, or null if the expression is valid.
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Returns the index of the character in the expression at which the problem was found.
+     * @return The index of the character, or -1 if the expression is valid.
+     */
+    public int getErrorIndex() {
+        return errorIndex;
+    }
+
+    /**
+     * Returns the unit, or the error message, of the expression.
+     * @return The string representation.
+     */
+    @Override
+    public String toString(){
+        if(this.isValid()) return "'"+expression+"' = "+unit;
+        return "'"+expression+"': "+errorMessage+" (at index "+errorIndex+")";
+    }
+}
@@ -0,0 +1,520 @@
+package nl.wur.fbr.om.core.expressions;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.core.factory.UnitNameIndex;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.units.SingularUnit;
+import nl.wur.fbr.om.model.units.Unit;
+import nl.wur.fbr.om.prefixes.BinaryPrefix;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+import nl.wur.fbr.om.prefixes.Prefix;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Parses unit expressions, such as "kg.m/s2", "W m-2 sr-1" or "µmol/(m²·s)", into units of a
+ * {@link DefaultUnitAndScaleFactory}.
+ * <p>
+ * An expression is a sequence of unit symbols separated by a multiplication operator (".", "·", "⋅", "*", "×" or
+ * white space) or by a division operator ("/"). The operators are applied from left to right, so "J/kg.K" is
+ * (J/kg).K, use parentheses for J/(kg.K). Each symbol or parenthesised expression may be followed by an integer
+ * exponent, written as "m2", "m-2", "m^2", "m**2" or "m²". The number 1 can be used for the unit one, as in "1/s".
+ * </p>
+ * <p>
+ * A symbol is resolved to the unit with that symbol (see {@link DefaultUnitAndScaleFactory#getUnitNameIndex()}),
+ * ambiguous symbols are resolved as described in {@link #setPreferredUnit(String, Unit)}.
+ * When no unit has the symbol, the symbol is resolved to a {@link DecimalPrefix} or {@link BinaryPrefix} followed
+ * by the symbol of a singular unit (as in "µmol" or "KiB"), and finally to the unit with that name. The units
+ * for the products, quotients, powers and prefixed units are created with the factory, which returns the named
+ * units in the factory that have the same structure (e.g. kilometre per hour for "km/h"), and interned compound
+ * units otherwise. Negative exponents in a product are written as a division, "W m-2" is W/m².
+ * </p>
+ * <p>
+ * Malformed expressions, unknown or ambiguous symbols, and expressions of which the dimension cannot be represented
+ * (exponents beyond {@link Dimension#MAXIMUM_EXPONENT}, also when combined as in "m500.m500") do not cause
+ * exceptions in {@link #parse(String)}, they are reported by an invalid {@link ParsedUnitExpression}. A parser can be used from multiple threads. Parsing
+ * does not store its results, repeatedly parsed expressions should be cached, e.g. with
+ * <code>nl.wur.fbr.om.conversion.UnitExpressionCache</code>.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitExpressionParser {
+
+    /** The decimal and binary prefixes, the prefixes with the longest symbols first. */
+    private static final List<Prefix> PREFIXES;
+
+    static {
+        List<Prefix> prefixes = new ArrayList<>();
+        Collections.addAll(prefixes, BinaryPrefix.values());
+        Collections.addAll(prefixes, DecimalPrefix.values());
+        prefixes.sort((p1, p2) -> p2.getSymbol().length()-p1.getSymbol().length());
+        PREFIXES = Collections.unmodifiableList(prefixes);
+    }
+
+    /** The micro sign (U+00B5), which is often used instead of the Greek letter mu for the micro prefix. */
+    private static final char MICRO_SIGN = '\u00B5';
+
+    /** The maximum absolute value of an exponent, the largest dimensional exponent that can be represented. */
+    private static final int MAXIMUM_EXPONENT = Dimension.MAXIMUM_EXPONENT;
+
+    /** The factory in which the units are resolved and created. */
+    private final DefaultUnitAndScaleFactory factory;
+
+    /** The index of the units in the factory by symbol and name. */
+    private final UnitNameIndex index;
+
+    /** The units to which ambiguous symbols are resolved, by symbol. */
+    private final ConcurrentMap<String,Unit> preferredUnits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new parser that resolves the symbols in expressions to the units in the specified factory.
+     * @param factory The factory.
+     */
+    public UnitExpressionParser(DefaultUnitAndScaleFactory factory){
+        this.factory = factory;
+        this.index = factory.getUnitNameIndex();
+    }
+
+    /**
+     * Returns the factory in which the units are resolved and created.
+     * @return The factory.
+     */
+    public DefaultUnitAndScaleFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Sets the unit to which the specified symbol is resolved when more than one unit has the symbol. By default,
+     * an ambiguous symbol is resolved to the only unit with the symbol that is not dimensionless, and reported as
+     * ambiguous if there is no such unit.
+     * @param symbol The symbol.
+     * @param unit The unit to which the symbol is resolved, or null to remove the preference.
+     */
+    public void setPreferredUnit(String symbol, Unit unit) {
+        if(unit==null) preferredUnits.remove(symbol);
+        else preferredUnits.put(symbol, unit);
+    }
+
+    /**
+     * Parses the specified expression. This method does not throw exceptions when the expression is malformed or
+     * contains unknown symbols, the problem is reported by the returned result.
+     * @param expression The expression.
+     * @return The result, which contains the unit when the expression is valid.
+     */
+    public ParsedUnitExpression parse(String expression) {
+        if(expression==null) return ParsedUnitExpression.invalid(null, "No expression.", 0);
+        Cursor cursor = new Cursor(expression);
+        cursor.skipWhitespace();
+        if(cursor.atEnd()) return ParsedUnitExpression.invalid(expression, "The expression is empty.", 0);
+        Term product = this.parseProduct(cursor);
+        if(product!=null && !cursor.atEnd()) cursor.fail("Unexpected character '"+cursor.current()+"'.");
+        if(cursor.errorMessage!=null) {
+            return ParsedUnitExpression.invalid(expression, cursor.errorMessage, cursor.errorIndex);
+        }
+        Unit unit = product.base;
+        if(unit==null) {
+            // The expression is the number one, which is only valid when there is a unit with symbol 1.
+            List<Unit> units = index.getUnitsBySymbol("1");
+            if(units.size()!=1) return ParsedUnitExpression.invalid(expression, "The expression has no units.", 0);
+            unit = units.get(0);
+        }
+        return ParsedUnitExpression.valid(expression, unit);
+    }
+
+    /**
+     * Parses the specified expression and returns the unit it denotes.
+     * @param expression The expression.
+     * @return The unit.
+     * @throws UnitOrScaleCreationException When the expression is malformed or contains unknown symbols.
+     */
+    public Unit parseUnit(String expression) throws UnitOrScaleCreationException {
+        ParsedUnitExpression result = this.parse(expression);
+        if(!result.isValid()) {
+            throw new UnitOrScaleCreationException("Could not parse unit expression "+result+".");
+        }
+        return result.getUnit();
+    }
+
+    /**
+     * Parses a product (or quotient) of factors, up to the end of the expression or a closing parenthesis.
+     * @param cursor The cursor in the expression.
+     * @return The term with the product as base and exponent 1, with a null base if the product is one, or
+     * null if the product could not be parsed.
+     */
+    private Term parseProduct(Cursor cursor) {
+        Unit product = null;
+        int sign = 1;
+        while(true) {
+            int factorStart = cursor.position;
+            Term factor = this.parseFactor(cursor);
+            if(factor==null) return null;
+            try {
+                product = this.combine(product, factor, sign);
+            } catch (IllegalArgumentException e) {
+                cursor.errorAt(factorStart, "The dimension of the expression cannot be represented.");
+                return null;
+            }
+            int operatorStart = cursor.position;
+            cursor.skipWhitespace();
+            if(cursor.atEnd() || cursor.current()==')') return new Term(product, 1);
+            char c = cursor.current();
+            if(c=='/') {
+                sign = -1;
+                cursor.position++;
+            } else if(isMultiplication(c)) {
+                sign = 1;
+                cursor.position++;
+            } else if(cursor.position>operatorStart) {
+                sign = 1;
+            } else {
+                cursor.fail("Expected an operator instead of '"+c+"'.");
+                return null;
+            }
+            cursor.skipWhitespace();
+            if(cursor.atEnd()) {
+                cursor.fail("Expected a unit after the operator.");
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Parses a factor: a unit symbol, the number one, or a parenthesised product, followed by an optional exponent.
+     * @param cursor The cursor in the expression.
+     * @return The factor, with a null base if the factor is one, or null if the factor could not be parsed.
+     */
+    private Term parseFactor(Cursor cursor) {
+        Unit base;
+        if(cursor.atEnd()) {
+            cursor.fail("Expected a unit.");
+            return null;
+        }
+        char c = cursor.current();
+        if(c=='(') {
+            cursor.position++;
+            cursor.skipWhitespace();
+            Term product = this.parseProduct(cursor);
+            if(product==null) return null;
+            if(cursor.atEnd()) {
+                cursor.fail("Missing closing parenthesis.");
+                return null;
+            }
+            cursor.position++;
+            base = product.base;
+        } else if(c>='0' && c<='9') {
+            int start = cursor.position;
+            while(!cursor.atEnd() && cursor.current()>='0' && cursor.current()<='9') cursor.position++;
+            if(cursor.position-start!=1 || c!='1') {
+                cursor.errorAt(start, "Numerical factors are not supported, only 1 is allowed.");
+                return null;
+            }
+            base = null;
+        } else {
+            int start = cursor.position;
+            while(!cursor.atEnd() && isSymbolCharacter(cursor.current())) cursor.position++;
+            if(cursor.position==start) {
+                cursor.fail("Expected a unit instead of '"+c+"'.");
+                return null;
+            }
+            base = this.resolveSymbol(cursor, start);
+            if(base==null) return null;
+        }
+        int exponent = this.parseExponent(cursor);
+        if(exponent==Integer.MIN_VALUE) return null;
+        return new Term(base, exponent);
+    }
+
+    /**
+     * Parses the optional exponent after a factor.
+     * @param cursor The cursor in the expression.
+     * @return The exponent, 1 if there is no exponent, or {@link Integer#MIN_VALUE} if the exponent is malformed.
+     */
+    private int parseExponent(Cursor cursor) {
+        int start = cursor.position;
+        boolean explicit = false;
+        if(!cursor.atEnd() && cursor.current()=='^') {
+            cursor.position++;
+            explicit = true;
+        } else if(cursor.startsWith("**")) {
+            cursor.position += 2;
+            explicit = true;
+        }
+        boolean negative = false;
+        if(!cursor.atEnd()) {
+            char c = cursor.current();
+            if(c=='-' || c=='\u2212' || c=='\u207B') {
+                negative = true;
+                explicit = true;
+                cursor.position++;
+            } else if(c=='+' || c=='\u207A') {
+                explicit = true;
+                cursor.position++;
+            }
+        }
+        int exponent = 0;
+        int digits = 0;
+        while(!cursor.atEnd()) {
+            int digit = digit(cursor.current());
+            if(digit<0) break;
+            exponent = exponent*10+digit;
+            digits++;
+            cursor.position++;
+            if(exponent>MAXIMUM_EXPONENT) {
+                cursor.errorAt(start, "The exponent is too large.");
+                return Integer.MIN_VALUE;
+            }
+        }
+        if(digits==0) {
+            if(!explicit) return 1;
+            cursor.errorAt(start, "Expected an exponent.");
+            return Integer.MIN_VALUE;
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Resolves the symbol that ends at the current position of the cursor to a unit.
+     * @param cursor The cursor in the expression.
+     * @param start The index of the first character of the symbol.
+     * @return The unit, or null if the symbol could not be resolved.
+     */
+    private Unit resolveSymbol(Cursor cursor, int start) {
+        String symbol = cursor.text.substring(start, cursor.position);
+        List<Unit> units = index.getUnitsBySymbol(symbol);
+        if(!units.isEmpty()) {
+            Unit unit = this.choose(symbol, units);
+            if(unit==null) {
+                cursor.errorAt(start, "The symbol '"+symbol+"' is ambiguous, it is used by "+units.size()+" units.");
+            }
+            return unit;
+        }
+        for(Prefix prefix : PREFIXES) {
+            int length = prefixLength(symbol, prefix);
+            if(length>0 && length<symbol.length()) {
+                String unprefixed = symbol.substring(length);
+                Unit unit = this.choose(unprefixed, index.getUnitsBySymbol(unprefixed));
+                if(unit instanceof SingularUnit) return factory.createPrefixedUnit((SingularUnit) unit, prefix);
+            }
+        }
+        units = index.getUnitsByName(symbol);
+        if(units.size()==1) return units.get(0);
+        cursor.errorAt(start, units.isEmpty() ? "Unknown unit '"+symbol+"'." :
+                "The name '"+symbol+"' is ambiguous, it is used by "+units.size()+" units.");
+        return null;
+    }
+
+    /**
+     * Chooses the unit for a symbol from the units with that symbol. When more than one unit has the symbol, the
+     * preferred unit for the symbol is chosen (see {@link #setPreferredUnit(String, Unit)}), or else the only unit
+     * that is not dimensionless. In OM, for instance, "h" is the symbol of both hour and hour (hour angle), of which
+     * hour is chosen.
+     * @param symbol The symbol.
+     * @param units The units with the symbol.
+     * @return The chosen unit, or null if there are no units or if the symbol is ambiguous.
+     */
+    private Unit choose(String symbol, List<Unit> units) {
+        if(units.size()==1) return units.get(0);
+        if(units.isEmpty()) return null;
+        Unit preferred = preferredUnits.get(symbol);
+        if(preferred!=null) return preferred;
+        Unit chosen = null;
+        for(Unit unit : units) {
+            Dimension dimension;
+            try {
+                dimension = unit.getUnitDimension();
+            } catch (IllegalArgumentException e) {
+                continue; // the dimension of the unit cannot be represented, it is not chosen.
+            }
+            if(dimension!=null && !dimension.isDimensionless()) {
+                if(chosen!=null) return null;
+                chosen = unit;
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Multiplies (sign 1) or divides (sign -1) the product by the factor.
+     * @param product The product, or null if the product is one.
+     * @param factor The factor.
+     * @param sign 1 for a multiplication, -1 for a division.
+     * @return The new product, or null if the new product is one.
+     * @throws IllegalArgumentException When the dimension of the new product cannot be represented.
+     */
+    private Unit combine(Unit product, Term factor, int sign) {
+        int exponent = sign*factor.exponent;
+        if(factor.base==null || exponent==0) return product;
+        if(product==null) {
+            return exponent==1 ? factor.base : factory.createUnitExponentiation(factor.base, exponent);
+        }
+        int power = Math.abs(exponent);
+        Unit unit = power==1 ? factor.base : factory.createUnitExponentiation(factor.base, power);
+        return exponent>0 ? factory.createUnitMultiplication(product, unit) : factory.createUnitDivision(product, unit);
+    }
+
+    /**
+     * Returns the length of the symbol of the prefix when the unit symbol starts with it, 0 otherwise. The micro
+     * sign is accepted for the micro prefix.
+     * @param symbol The unit symbol.
+     * @param prefix The prefix.
+     * @return The length of the prefix symbol, or 0.
+     */
+    private static int prefixLength(String symbol, Prefix prefix) {
+        if(symbol.startsWith(prefix.getSymbol())) return prefix.getSymbol().length();
+        if(prefix==DecimalPrefix.MICRO && symbol.charAt(0)==MICRO_SIGN) return 1;
+        return 0;
+    }
+
+    /**
+     * Returns true when the character is a multiplication operator.
+     * @param c The character.
+     * @return True for a multiplication operator.
+     */
+    private static boolean isMultiplication(char c) {
+        return c=='.' || c=='*' || c=='\u00B7' || c=='\u22C5' || c=='\u00D7';
+    }
+
+    /**
+     * Returns the value of an ASCII or superscript digit.
+     * @param c The character.
+     * @return The value of the digit, or -1 if the character is not a digit.
+     */
+    private static int digit(char c) {
+        if(c>='0' && c<='9') return c-'0';
+        switch (c) {
+            case '\u2070': return 0;
+            case '\u00B9': return 1;
+            case '\u00B2': return 2;
+            case '\u00B3': return 3;
+            default:
+                return c>='\u2074' && c<='\u2079' ? c-'\u2070' : -1;
+        }
+    }
+
+    /**
+     * Returns true when the character can be part of a unit symbol, i.e. when it is not white space, an operator,
+     * a parenthesis, a digit or part of an exponent.
+     * @param c The character.
+     * @return True when the character can be part of a symbol.
+     */
+    private static boolean isSymbolCharacter(char c) {
+        if(Character.isWhitespace(c) || isMultiplication(c) || digit(c)>=0) return false;
+        switch (c) {
+            case '/': case '(': case ')': case '^': case '-': case '+': case '\u2212': case '\u207A': case '\u207B':
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * A factor in a product: a unit (null for the unit one) with an exponent.
+     */
+    private static final class Term {
+
+        /** The unit, or null for the unit one. */
+        private final Unit base;
+
+        /** The exponent. */
+        private final int exponent;
+
+        /**
+         * Creates a new term.
+         * @param base The unit, or null for the unit one.
+         * @param exponent The exponent.
+         */
+        Term(Unit base, int exponent){
+            this.base = base;
+            this.exponent = exponent;
+        }
+    }
+
+    /**
+     * The position in the expression being parsed, and the first problem found.
+     */
+    private static final class Cursor {
+
+        /** The expression. */
+        private final String text;
+
+        /** The index after the last character that is not white space. */
+        private final int end;
+
+        /** The index of the current character. */
+        private int position = 0;
+
+        /** The message describing the first problem found, or null. */
+        private String errorMessage = null;
+
+        /** The index at which the first problem was found. */
+        private int errorIndex = -1;
+
+        /**
+         * Creates a new cursor at the start of the expression.
+         * @param text The expression.
+         */
+        Cursor(String text){
+            this.text = text;
+            int last = text.length();
+            while(last>0 && Character.isWhitespace(text.charAt(last-1))) last--;
+            this.end = last;
+        }
+
+        /**
+         * Returns true when the cursor is at the end of the expression.
+         * @return True at the end.
+         */
+        boolean atEnd(){
+            return position>=end;
+        }
+
+        /**
+         * Returns the current character.
+         * @return The character.
+         */
+        char current(){
+            return text.charAt(position);
+        }
+
+        /**
+         * Returns true when the expression continues with the specified string at the current position.
+         * @param string The string.
+         * @return True when the string follows.
+         */
+        boolean startsWith(String string){
+            return position+string.length()<=end && text.startsWith(string, position);
+        }
+
+        /**
+         * Moves the cursor past white space.
+         */
+        void skipWhitespace(){
+            while(position<end && Character.isWhitespace(text.charAt(position))) position++;
+        }
+
+        /**
+         * Records a problem at the current position, unless a problem was recorded before.
+         * @param message The message describing the problem.
+         */
+        void fail(String message){
+            this.errorAt(position, message);
+        }
+
+        /**
+         * Records a problem at the specified index, unless a problem was recorded before.
+         * @param index The index at which the problem was found.
+         * @param message The message describing the problem.
+         */
+        void errorAt(int index, String message){
+            if(errorMessage!=null) return;
+            errorMessage = message;
+            errorIndex = index;
+        }
+    }
+}
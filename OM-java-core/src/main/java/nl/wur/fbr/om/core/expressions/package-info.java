@@ -0,0 +1,7 @@
+/**
+ * This core package contains the parser of unit expressions, such as "kg.m/s2" or "W m-2 sr-1", which resolves the
+ * expressions to the units in a factory.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+package nl.wur.fbr.om.core.expressions;
@@ -57,7 +57,7 @@ public class DefaultMeasureAndPointFactory implements MeasureAndPointFactory {
      */
     @Override
     public Measure createScalarRangeMeasure(double minimumValue, double maximumValue, Unit unit) {
-        return new MeasureImpl(Range.between(minimumValue,minimumValue),unit);
+        return new MeasureImpl(Range.between(minimumValue,maximumValue),unit);
     }
 
     /**
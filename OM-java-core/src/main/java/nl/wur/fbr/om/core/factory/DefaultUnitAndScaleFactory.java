@@ -12,9 +12,15 @@ import nl.wur.fbr.om.model.scales.Scale;
 import nl.wur.fbr.om.model.units.*;
 import nl.wur.fbr.om.prefixes.Prefix;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
  * This core class implements methods that should be used for the creation of the different types of Units and Scales.
@@ -73,18 +79,67 @@ import java.util.*;
  *              </td></tr>
  *     </tbody>
  * </table>
+ * <p>
+ * The factory can be used from multiple threads. Units and scales are retrieved without locking, and after the
+ * units and scales of an application have been created, the factory can be {@link #freeze() frozen} to publish an
+ * immutable snapshot that is optimized for reads.
+ * </p>
  *
  * @author Don Willems on 19/07/15.
  */
 public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
 
-    /** A map containing all previously created units and scales, identified by their identifier as key in the map. */
-    private Map<String,Object> unitsOrScalesByID = new HashMap<>();
+    /**
+     * The registry containing all previously created units and scales, identified by their identifier.
+     * Units and scales can be retrieved from the registry without locking, see {@link UnitRegistry}.
+     */
+    private final UnitRegistry unitsOrScalesByID = new UnitRegistry();
+
+    /** The lock held while a unit or scale is added to this factory. */
+    private final Object registrationLock = new Object();
+
+    /**
+     * The index containing all existing units in the set per dimension.
+     */
+    private final DimensionIndex unitsByDimension = new DimensionIndex();
+
+    /**
+     * The index containing all existing units in the set by their symbols and names.
+     */
+    private final UnitNameIndex unitsByName = new UnitNameIndex();
 
     /**
-     * A map containing all existing units in the set per dimension.
+     * All units in this factory, in the order in which they were added. The index of a unit is its ordinal.
+     * The array is replaced by a larger copy when it is full, only the first {@link #numberOfUnits} elements are used.
      */
-    private Map<String,List<Unit>> unitsByDimension = new HashMap<>();
+    private volatile Unit[] unitsByOrdinal = new Unit[64];
+
+    /** The number of units in this factory, which is written after the unit is stored in {@link #unitsByOrdinal}. */
+    private volatile int numberOfUnits = 0;
+
+    /** All scales in this factory, in the order in which they were added, identified by their identifier. */
+    private final Map<String,Scale> scalesByID = new LinkedHashMap<>();
+
+    /** A map containing the ordinals of the units in this factory, identified by their identifier as key in the map. */
+    private final Map<String,Integer> ordinalsByID = new ConcurrentHashMap<>();
+
+    /** The compound units added to this factory, identified by their structure as key in the map. */
+    private final Map<UnitStructure,Unit> unitsByStructure = new ConcurrentHashMap<>();
+
+    /**
+     * The compound units created by this factory without identifier, name or symbol, identified by their structure
+     * as key in the map. The units are only weakly referenced, so that units no longer in use can be released.
+     */
+    private final Map<UnitStructure,InternedUnitReference> internedUnits = new HashMap<>();
+
+    /** The compound units created by this factory without identifier, name or symbol, by identifier. */
+    private final Map<String,InternedUnitReference> internedUnitsByID = new ConcurrentHashMap<>();
+
+    /** The queue to which the references to released interned units are added. */
+    private final ReferenceQueue<Unit> releasedUnits = new ReferenceQueue<>();
+
+    /** The sets of units and scales added to this factory that are initialized lazily. */
+    private final List<UnitAndScaleSet> lazySets = new CopyOnWriteArrayList<>();
 
 
     /**
@@ -96,18 +151,23 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      */
     @Override
     public UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass) throws UnitOrScaleCreationException{
+        return this.addUnitAndScaleSet(unitAndScaleSetClass, false);
+    }
+
+    /**
+     * Adds a (large) set of units and scales to this factory, which may be initialized lazily. A lazily initialized
+     * set only creates its units and scales when they are first requested with {@link #getUnitOrScale(String)}, or
+     * through the set itself. Concurrent requests for the same unit or scale create it only once.
+     * Methods that search through the full set in this factory (such as {@link #getUnitsInDimension(Dimension)})
+     * only find the units of the set that have been created.
+     *
+     * @param unitAndScaleSetClass The class of set to be added that should override {@link UnitAndScaleSet}.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     */
+    @Override
+    public UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass, boolean lazily) throws UnitOrScaleCreationException{
         try {
-            UnitAndScaleSet set = (UnitAndScaleSet) unitAndScaleSetClass.newInstance();
-            set.initialize(this);
-            Set<Unit> setUnits = set.getAllUnits();
-            for(Unit setUnit : setUnits) {
-                if(setUnit!=null) this.addUnit(setUnit);
-            }
-            Set<Scale> setScales = set.getAllScales();
-            for(Scale setScale : setScales){
-                if(setScale!=null) this.addScale(setScale);
-            }
-            return set;
+            return this.addUnitAndScaleSet((UnitAndScaleSet) unitAndScaleSetClass.newInstance(), lazily);
         } catch (IllegalAccessException e) {
             throw new UnitOrScaleCreationException("Could not add set "+unitAndScaleSetClass+" to factory.",e);
         } catch (InstantiationException e) {
@@ -115,6 +175,33 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
         }
     }
 
+    /**
+     * Adds an instance of a (large) set of units and scales to this factory, which may be initialized lazily, see
+     * {@link #addUnitAndScaleSet(Class, boolean)}. This method can be used for sets that cannot be instantiated by
+     * the factory, such as a {@link nl.wur.fbr.om.core.snapshot.UnitSnapshot} loaded from a file.
+     *
+     * @param unitAndScaleSet The set to be added.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     */
+    @Override
+    public UnitAndScaleSet addUnitAndScaleSet(UnitAndScaleSet unitAndScaleSet, boolean lazily) throws UnitOrScaleCreationException{
+        if(lazily){
+            unitAndScaleSet.initializeLazily(this);
+            lazySets.add(unitAndScaleSet);
+            return unitAndScaleSet;
+        }
+        unitAndScaleSet.initialize(this);
+        Set<Unit> setUnits = unitAndScaleSet.getAllUnits();
+        for(Unit setUnit : setUnits) {
+            if(setUnit!=null) this.addUnit(setUnit);
+        }
+        Set<Scale> setScales = unitAndScaleSet.getAllScales();
+        for(Scale setScale : setScales){
+            if(setScale!=null) this.addScale(setScale);
+        }
+        return unitAndScaleSet;
+    }
+
     /**
      * Returns the Unit or Scale identified by the specified identifier.
      * If the Unit or Scale with the same identifier has been created previously, this method should return the
@@ -129,7 +216,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      */
     @Override
     public Object getUnitOrScale(String identifier) throws UnitOrScaleCreationException{
-        Object uOrs = unitsOrScalesByID.get(identifier);
+        Object uOrs = this.findUnitOrScale(identifier);
         if (uOrs == null){
             throw new InsufficientDataException("The DefaultUnitAndScaleFactory has no data sources available to create" +
                     "units or scales based on an identifier not previously used in one of its create methods.",identifier);
@@ -138,16 +225,188 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
     }
 
     /**
-     * Returns a list of units that have the specified dimension.
+     * Returns the unit or scale identified by the specified identifier when it has been created before, or when it
+     * can be created by one of the lazily initialized sets in this factory. Unlike {@link #getUnitOrScale(String)},
+     * this method does not throw an exception when the unit or scale is not known, so that subclasses can look up
+     * units and scales before creating them from other data sources.
+     * @param identifier The identifier of the unit or scale.
+     * @return The unit or scale, or null if this factory does not know the unit or scale.
+     * @throws UnitOrScaleCreationException When a lazily initialized set could not create the unit or scale.
+     */
+    protected Object findUnitOrScale(String identifier) throws UnitOrScaleCreationException{
+        Object uOrs = unitsOrScalesByID.get(identifier);
+        if (uOrs == null){
+            InternedUnitReference reference = internedUnitsByID.get(identifier);
+            uOrs = reference == null ? null : reference.get();
+        }
+        for (int i = 0; uOrs == null && i < lazySets.size(); i++){
+            UnitAndScaleSet set = lazySets.get(i);
+            uOrs = unitsOrScalesByID.getOrCreate(identifier, set::getUnitOrScale);
+            // The alternative names and symbols of a unit in a set are only known after it has been created.
+            if (uOrs instanceof Unit) unitsByName.add((Unit) uOrs);
+        }
+        return uOrs;
+    }
+
+    /**
+     * Returns the unit or scale with the specified identifier that was created before, or creates it with the
+     * specified creator. When multiple threads request the same unit or scale at the same time, the unit or scale is
+     * only created once. The creator should add the new unit or scale to this factory, which is done by the
+     * create methods of this factory. This method should be used by subclasses that create units and scales on
+     * demand from other data sources in {@link #getUnitOrScale(String)}.
+     * @param identifier The identifier of the unit or scale.
+     * @param creator The creator of the unit or scale.
+     * @return The unit or scale identified by the specified identifier.
+     * @throws UnitOrScaleCreationException When the unit could not be created from the specified identifier.
+     */
+    protected Object getOrCreateUnitOrScale(String identifier, UnitRegistry.Creator creator)
+            throws UnitOrScaleCreationException{
+        return unitsOrScalesByID.getOrCreate(identifier, creator);
+    }
+
+    /**
+     * Freezes the units and scales in this factory. After the units and scales of an application have been
+     * created (for instance after adding the sets of units and scales), the factory can be frozen to publish an
+     * immutable snapshot of all units and scales, which is optimized for concurrent reads. Units and scales can still
+     * be created after freezing, they are kept in a concurrent overlay until the factory is frozen again.
+     */
+    public void freeze() {
+        unitsOrScalesByID.freeze();
+    }
+
+    /**
+     * Returns true when this factory has been frozen (see {@link #freeze()}).
+     * @return True when frozen.
+     */
+    public boolean isFrozen() {
+        return unitsOrScalesByID.isFrozen();
+    }
+
+    /**
+     * Returns a list of units that have the specified dimension. The list cannot be modified and is sorted in the
+     * order in which the units were added to this factory.
      *
      * @param dimension The dimension that units need to have to be included in the returned list.
      * @return The list of units with the specified dimension.
      */
     @Override
     public List<Unit> getUnitsInDimension(Dimension dimension) {
-        List<Unit> list = unitsByDimension.get(dimension.toString());
-        if(list!=null) return list;
-        return new ArrayList<>();
+        return unitsByDimension.getUnits(dimension);
+    }
+
+    /**
+     * Returns a list of the units in this factory that are compatible with the specified unit, i.e. that have the same
+     * dimension. The list cannot be modified and is sorted in the order in which the units were added to this factory.
+     *
+     * @param unit The unit.
+     * @return The list of compatible units.
+     */
+    public List<Unit> getCompatibleUnits(Unit unit) {
+        return unitsByDimension.getCompatibleUnits(unit);
+    }
+
+    /**
+     * Returns the sorted list of the dimensions of the units in this factory. The list cannot be modified.
+     *
+     * @return The list of dimensions.
+     */
+    public List<Dimension> getDimensions() {
+        return unitsByDimension.getDimensions();
+    }
+
+    /**
+     * Returns the sorted list of the dimensions of units in this factory that can be reached from the specified
+     * dimension by multiplying it with the dimension of a (not dimensionless) unit in this factory, see
+     * {@link DimensionIndex#getDimensionsOneMultiplicationAway(Dimension)}. The list cannot be modified.
+     *
+     * @param dimension The dimension.
+     * @return The list of dimensions one multiplication away.
+     */
+    public List<Dimension> getDimensionsOneMultiplicationAway(Dimension dimension) {
+        return unitsByDimension.getDimensionsOneMultiplicationAway(dimension);
+    }
+
+    /**
+     * Returns the ordinal of the specified unit. Each unit added to this factory is assigned a dense ordinal, i.e.
+     * the first unit has ordinal 0, the second 1, etc. The ordinal can be used to store units as integers, for
+     * instance in columnar data, and to look up units in arrays instead of maps.
+     * If the unit was not created by or added to this factory, -1 is returned.
+     *
+     * @param unit The unit.
+     * @return The ordinal of the unit, or -1 when the unit is not known to this factory.
+     */
+    public int getUnitOrdinal(Unit unit) {
+        if(unit instanceof UnitImpl){
+            int ordinal = ((UnitImpl) unit).getOrdinal();
+            if(ordinal>=0 && ordinal<numberOfUnits && unitsByOrdinal[ordinal]==unit) return ordinal;
+        }
+        Integer ordinal = ordinalsByID.get(unit.getIdentifier());
+        return ordinal==null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the unit with the specified ordinal (see {@link #getUnitOrdinal(Unit)}).
+     *
+     * @param ordinal The ordinal of the unit.
+     * @return The unit with the ordinal.
+     * @throws IndexOutOfBoundsException When no unit has the specified ordinal.
+     */
+    public Unit getUnit(int ordinal) {
+        int size = numberOfUnits;
+        if(ordinal<0 || ordinal>=size) throw new IndexOutOfBoundsException("Index: "+ordinal+", Size: "+size);
+        return unitsByOrdinal[ordinal];
+    }
+
+    /**
+     * Returns the number of units in this factory. The ordinals of the units range from 0 up to (but not including)
+     * this number.
+     *
+     * @return The number of units.
+     */
+    public int getNumberOfUnits() {
+        return numberOfUnits;
+    }
+
+    /**
+     * Returns an unmodifiable view of all units in this factory, in which the index of each unit is its ordinal.
+     *
+     * @return The units ordered by ordinal.
+     */
+    public List<Unit> getUnitsByOrdinal() {
+        return new AbstractList<Unit>() {
+            @Override
+            public Unit get(int index) {
+                return getUnit(index);
+            }
+
+            @Override
+            public int size() {
+                return numberOfUnits;
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the units in this factory by their symbols and names, which can be used to find units
+     * by symbol or name (see {@link UnitNameIndex}). Units are added to the index when they are added to this factory,
+     * which for units in a set of units and scales is when the set is added (or for a lazily initialized set when
+     * the unit is first requested). Names and symbols that are added to a unit later on are not indexed.
+     *
+     * @return The index of units by symbol and name.
+     */
+    public UnitNameIndex getUnitNameIndex() {
+        return unitsByName;
+    }
+
+    /**
+     * Returns all scales in this factory, in the order in which they were added.
+     *
+     * @return The scales.
+     */
+    public List<Scale> getScales() {
+        synchronized (registrationLock) {
+            return new ArrayList<>(scalesByID.values());
+        }
     }
 
     /**
@@ -426,9 +685,8 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      */
     @Override
     public PrefixedUnit createPrefixedUnit(SingularUnit singularUnit, Prefix prefix) {
-        PrefixedUnit unit = new PrefixedUnitImpl(singularUnit,prefix);
-        unit = (PrefixedUnit)checkExistingAndAddUnit(unit);
-        return unit;
+        return this.internUnit(UnitStructure.multiple(singularUnit, prefix.getFactor()), PrefixedUnit.class,
+                () -> new PrefixedUnitImpl(singularUnit,prefix));
     }
 
     /**
@@ -506,9 +764,8 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      */
     @Override
     public UnitMultiple createUnitMultiple(Unit unit, double factor) {
-        UnitMultiple unitm = new UnitMultipleImpl(unit,factor);
-        unit = (UnitMultiple)checkExistingAndAddUnit(unitm);
-        return unitm;
+        return this.internUnit(UnitStructure.multiple(unit, factor), UnitMultiple.class,
+                () -> new UnitMultipleImpl(unit,factor));
     }
 
     /**
@@ -578,12 +835,12 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param unit1 The first unit in the unit multiplication.
      * @param unit2 The second unit in the unit multiplication.
      * @return The unit multiplication.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitMultiplication createUnitMultiplication(Unit unit1, Unit unit2) {
-        UnitMultiplication unit = new UnitMultiplicationImpl(unit1,unit2);
-        unit = (UnitMultiplication)checkExistingAndAddUnit(unit);
-        return unit;
+        return this.internUnit(UnitStructure.multiplication(unit1, unit2), UnitMultiplication.class,
+                () -> new UnitMultiplicationImpl(unit1,unit2));
     }
 
     /**
@@ -595,6 +852,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param unit1  The first unit in the unit multiplication.
      * @param unit2  The second unit in the unit multiplication.
      * @return The unit multiplication.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitMultiplication createUnitMultiplication(String name, String symbol, Unit unit1, Unit unit2) {
@@ -612,6 +870,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param unit1      The first unit in the unit multiplication.
      * @param unit2      The second unit in the unit multiplication.
      * @return The unit multiplication.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitMultiplication createUnitMultiplication(String identifier, String name, String symbol, Unit unit1, Unit unit2) {
@@ -627,12 +886,12 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param numerator   The unit used as numerator in the unit division.
      * @param denominator The unit used as denominator in the unit division.
      * @return The unit division.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitDivision createUnitDivision(Unit numerator, Unit denominator){
-        UnitDivision unit = new UnitDivisionImpl(numerator,denominator);
-        unit = (UnitDivision)checkExistingAndAddUnit(unit);
-        return unit;
+        return this.internUnit(UnitStructure.division(numerator, denominator), UnitDivision.class,
+                () -> new UnitDivisionImpl(numerator,denominator));
     }
 
     /**
@@ -645,6 +904,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param numerator   The unit used as numerator in the unit division.
      * @param denominator The unit used as denominator in the unit division.
      * @return The unit division.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitDivision createUnitDivision(String name, String symbol, Unit numerator, Unit denominator) {
@@ -663,6 +923,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param numerator   The unit used as numerator in the unit division.
      * @param denominator The unit used as denominator in the unit division.
      * @return The unit division.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitDivision createUnitDivision(String identifier, String name, String symbol, Unit numerator, Unit denominator) {
@@ -678,12 +939,12 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param base     The base unit.
      * @param exponent The exponent.
      * @return The unit exponentiation.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitExponentiation createUnitExponentiation(Unit base, double exponent) {
-        UnitExponentiation unit = new UnitExponentiationImpl(base,exponent);
-        unit = (UnitExponentiation)checkExistingAndAddUnit(unit);
-        return unit;
+        return this.internUnit(UnitStructure.exponentiation(base, exponent), UnitExponentiation.class,
+                () -> new UnitExponentiationImpl(base,exponent));
     }
 
     /**
@@ -696,6 +957,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param base     The base unit.
      * @param exponent The exponent.
      * @return The unit exponentiation.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitExponentiation createUnitExponentiation(String name, String symbol, Unit base, double exponent) {
@@ -714,6 +976,7 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param base       The base unit.
      * @param exponent   The exponent.
      * @return The unit exponentiation.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     @Override
     public UnitExponentiation createUnitExponentiation(String identifier, String name, String symbol, Unit base, double exponent) {
@@ -852,15 +1115,74 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      */
     private Unit checkExistingAndAddUnit(Unit unit){
         // todo check unit
-        Dimension dim = unit.getUnitDimension();
-        List<Unit> unitsInDim = unitsByDimension.get(dim.toString());
-        if(unitsInDim!=null && unitsInDim.contains(unit)){
-            int index = unitsInDim.indexOf(unit);
-            unit = unitsInDim.get(index);
-        } else {
+        synchronized (registrationLock) {
+            Unit existing = unitsByDimension.findEqualUnit(unit);
+            if (existing != null) return existing;
             addUnit(unit);
+            return unit;
+        }
+    }
+
+    /**
+     * Returns the compound unit with the specified structure. If a unit with this structure was added to this
+     * factory (for instance a named unit from a set of units) or was created before and is still in use, that unit
+     * is returned. Otherwise a new unit is created, which is only weakly referenced by this factory: it is not added
+     * to the full set of units, and it is released when it is no longer in use. The new unit has a deterministic
+     * identifier derived from its structure, so when it is created again it will have the same identifier.
+     * <br>
+     * NB. This method should only be used when units are created automatically, for instance when multiplying two
+     * measures, the multiplication method does not know which existing unit to add to the resulting measure, nor
+     * does it know its name, symbol, or identifier. USE THIS METHOD ONLY WITH THE CREATION METHODS THAT ONLY TAKE
+     * UNIT ARGUMENTS.
+     *
+     * @param structure The structure of the unit.
+     * @param type The type of unit.
+     * @param constructor The function that creates a new unit with the structure.
+     * @param <U> The type of unit.
+     * @return The existing or new unit.
+     */
+    private <U extends Unit> U internUnit(UnitStructure structure, Class<U> type, Supplier<U> constructor) {
+        Unit unit = unitsByStructure.get(structure);
+        if(type.isInstance(unit)) return type.cast(unit);
+        synchronized (internedUnits) {
+            this.removeReleasedUnits();
+            InternedUnitReference reference = internedUnits.get(structure);
+            unit = reference == null ? null : reference.get();
+            if(type.isInstance(unit)) return type.cast(unit);
+            U created = constructor.get();
+            reference = new InternedUnitReference(created, structure, releasedUnits);
+            internedUnits.put(structure, reference);
+            internedUnitsByID.put(created.getIdentifier(), reference);
+            return created;
+        }
+    }
+
+    /**
+     * Removes the references to interned units that have been released. Should be called while holding the lock
+     * of the interned units.
+     */
+    private void removeReleasedUnits() {
+        Reference<? extends Unit> released;
+        while((released = releasedUnits.poll())!=null){
+            InternedUnitReference reference = (InternedUnitReference)released;
+            internedUnits.remove(reference.structure, reference);
+            internedUnitsByID.remove(reference.identifier, reference);
+        }
+    }
+
+    /**
+     * Returns the number of interned compound units (see {@link #createUnitMultiplication(Unit, Unit)},
+     * {@link #createUnitDivision(Unit, Unit)}, {@link #createUnitExponentiation(Unit, double)},
+     * {@link #createUnitMultiple(Unit, double)} and {@link #createPrefixedUnit(SingularUnit, Prefix)}) that are
+     * still in use.
+     *
+     * @return The number of interned units.
+     */
+    public int getNumberOfInternedUnits() {
+        synchronized (internedUnits) {
+            this.removeReleasedUnits();
+            return internedUnits.size();
         }
-        return unit;
     }
 
     /**
@@ -868,14 +1190,23 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param unit The unit being added.
      */
     private void addUnit(Unit unit) {
-        unitsOrScalesByID.put(unit.getIdentifier(),unit);
-        Dimension dim = unit.getUnitDimension();
-        List<Unit> unitsInDim = unitsByDimension.get(dim.toString());
-        if(unitsInDim==null){
-            unitsInDim = new ArrayList<>();
-            unitsByDimension.put(dim.toString(),unitsInDim);
+        synchronized (registrationLock) {
+            if (!ordinalsByID.containsKey(unit.getIdentifier())) {
+                int ordinal = numberOfUnits;
+                Unit[] units = unitsByOrdinal;
+                if (ordinal == units.length) units = Arrays.copyOf(units, 2 * units.length);
+                units[ordinal] = unit;
+                unitsByOrdinal = units;
+                numberOfUnits = ordinal + 1;
+                ordinalsByID.put(unit.getIdentifier(), ordinal);
+                if (unit instanceof UnitImpl && ((UnitImpl) unit).getOrdinal() < 0) ((UnitImpl) unit).setOrdinal(ordinal);
+            }
+            unitsByDimension.add(unit);
+            unitsByName.add(unit);
+            UnitStructure structure = UnitStructure.of(unit);
+            if (structure != null) unitsByStructure.putIfAbsent(structure, unit);
+            unitsOrScalesByID.put(unit.getIdentifier(), unit);
         }
-        unitsInDim.add(unit);
     }
 
     /**
@@ -883,6 +1214,34 @@ public class DefaultUnitAndScaleFactory implements UnitAndScaleFactory{
      * @param scale The scale being added.
      */
     private void addScale(Scale scale) {
-        unitsOrScalesByID.put(scale.getIdentifier(),scale);
+        synchronized (registrationLock) {
+            scalesByID.put(scale.getIdentifier(), scale);
+            unitsOrScalesByID.put(scale.getIdentifier(), scale);
+        }
+    }
+
+    /**
+     * A weak reference to an interned unit, which records the structure and identifier of the unit so that the
+     * reference can be removed from the maps of interned units when the unit is released.
+     */
+    private static final class InternedUnitReference extends WeakReference<Unit> {
+
+        /** The structure of the unit. */
+        private final UnitStructure structure;
+
+        /** The identifier of the unit. */
+        private final String identifier;
+
+        /**
+         * Creates a new reference to the interned unit.
+         * @param unit The unit.
+         * @param structure The structure of the unit.
+         * @param queue The queue to which the reference is added when the unit is released.
+         */
+        InternedUnitReference(Unit unit, UnitStructure structure, ReferenceQueue<Unit> queue){
+            super(unit, queue);
+            this.structure = structure;
+            this.identifier = unit.getIdentifier();
+        }
     }
 }
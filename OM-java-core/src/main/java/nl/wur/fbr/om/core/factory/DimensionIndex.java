@@ -0,0 +1,175 @@
+package nl.wur.fbr.om.core.factory;
+
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An index of units by their dimension. The index is keyed on the {@link Dimension} itself, whose equality and
+ * hash code are computed from its packed dimensional exponents, so no strings are created when units are added
+ * or looked up.
+ * <p>
+ * The units in a dimension are returned as an immutable list, sorted in the order in which the units were added
+ * to the index (which is the order of their ordinals in {@link DefaultUnitAndScaleFactory}). The list is only
+ * replaced when a unit is added to the dimension, so retrieving it does not copy anything. The dimensions in the
+ * index are likewise returned as an immutable list, sorted according to {@link Dimension#compareTo(Dimension)}.
+ * </p>
+ * <p>
+ * The index can be read and updated from multiple threads. Reads do not lock: the units are kept in a concurrent
+ * map and the list of dimensions is a snapshot that is replaced when a dimension is added. Only adding a unit of a
+ * dimension that is not yet in the index takes a lock.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class DimensionIndex {
+
+    /** The units per dimension. New dimensions are added while holding the lock of this map. */
+    private final ConcurrentMap<Dimension,UnitsInDimension> unitsByDimension = new ConcurrentHashMap<>();
+
+    /** The sorted, immutable list of dimensions in the index. */
+    private volatile List<Dimension> dimensions = Collections.emptyList();
+
+    /**
+     * Creates a new empty index.
+     */
+    public DimensionIndex(){
+        super();
+    }
+
+    /**
+     * Adds the unit to the index. If a unit with the same identifier was already added to the dimension of the unit,
+     * it is replaced by the unit.
+     * @param unit The unit to be added.
+     */
+    public void add(Unit unit) {
+        Dimension dimension = unit.getUnitDimension();
+        UnitsInDimension units = unitsByDimension.get(dimension);
+        if (units == null) {
+            synchronized (unitsByDimension) {
+                units = unitsByDimension.get(dimension);
+                if (units == null) {
+                    units = new UnitsInDimension();
+                    unitsByDimension.put(dimension, units);
+                    Dimension[] sorted = unitsByDimension.keySet().toArray(new Dimension[0]);
+                    Arrays.sort(sorted);
+                    dimensions = Collections.unmodifiableList(Arrays.asList(sorted));
+                }
+            }
+        }
+        units.add(unit);
+    }
+
+    /**
+     * Returns the immutable list of units that have the specified dimension, in the order in which they were added.
+     * If there are no units with the dimension, an empty list is returned.
+     * @param dimension The dimension.
+     * @return The units in the dimension.
+     */
+    public List<Unit> getUnits(Dimension dimension) {
+        UnitsInDimension units = unitsByDimension.get(dimension);
+        return units==null ? Collections.emptyList() : units.view;
+    }
+
+    /**
+     * Returns the immutable list of units that are compatible with the specified unit, i.e. the units with the same
+     * dimension as the unit. The list contains the unit itself when it was added to the index.
+     * @param unit The unit.
+     * @return The compatible units.
+     */
+    public List<Unit> getCompatibleUnits(Unit unit) {
+        return this.getUnits(unit.getUnitDimension());
+    }
+
+    /**
+     * Returns the unit in the index that is equal (see {@link Unit#equals(Object)}) to the specified unit, or null
+     * if there is no such unit.
+     * @param unit The unit.
+     * @return The equal unit in the index, or null.
+     */
+    public Unit findEqualUnit(Unit unit) {
+        for(Unit indexed : this.getUnits(unit.getUnitDimension())){
+            if(indexed.equals(unit)) return indexed;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the sorted, immutable list of all dimensions that have units in the index.
+     * @return The dimensions.
+     */
+    public List<Dimension> getDimensions() {
+        return dimensions;
+    }
+
+    /**
+     * Returns the dimensions in the index that can be reached from the specified dimension with one multiplication,
+     * i.e. the dimensions <code>dimension &#183; factor</code> where <code>factor</code> is a dimension (other than
+     * dimensionless) in the index. For instance, from length (L) the dimensions of area (L<sup>2</sup>) and of
+     * velocity (L T<sup>-1</sup>) can be reached when the index contains units of length and of frequency.
+     * This can be used for unit suggestions when multiplying measures.
+     * The returned list is sorted.
+     * @param dimension The dimension.
+     * @return The dimensions one multiplication away.
+     */
+    public List<Dimension> getDimensionsOneMultiplicationAway(Dimension dimension) {
+        List<Dimension> all = dimensions;
+        List<Dimension> reachable = new ArrayList<>();
+        for (Dimension factor : all) {
+            if (factor.isDimensionless()) continue;
+            Dimension product;
+            try {
+                product = dimension.multiply(factor);
+            } catch (IllegalArgumentException e) {
+                continue; // exponent out of range, cannot be in the index.
+            }
+            if (unitsByDimension.containsKey(product)) reachable.add(product);
+        }
+        Dimension[] sorted = reachable.toArray(new Dimension[reachable.size()]);
+        Arrays.sort(sorted);
+        List<Dimension> distinct = new ArrayList<>(sorted.length);
+        for(Dimension product : sorted){
+            if(distinct.isEmpty() || !distinct.get(distinct.size()-1).equals(product)) distinct.add(product);
+        }
+        return Collections.unmodifiableList(distinct);
+    }
+
+    /**
+     * The units in one dimension, stored as an array that is replaced when a unit is added, together with an
+     * immutable view on the array.
+     */
+    private static class UnitsInDimension {
+
+        /** The units. */
+        private volatile Unit[] units = new Unit[0];
+
+        /** The immutable view on the units. */
+        private volatile List<Unit> view = Collections.emptyList();
+
+        /**
+         * Adds the unit, or replaces the unit with the same identifier.
+         * @param unit The unit.
+         */
+        synchronized void add(Unit unit) {
+            Unit[] current = units;
+            Unit[] updated = null;
+            for(int i=0;i<current.length;i++){
+                if(current[i].getIdentifier().equals(unit.getIdentifier())){
+                    if(current[i]==unit) return;
+                    updated = current.clone();
+                    updated[i] = unit;
+                    break;
+                }
+            }
+            if(updated==null){
+                updated = Arrays.copyOf(current, current.length+1);
+                updated[current.length] = unit;
+            }
+            units = updated;
+            view = Collections.unmodifiableList(Arrays.asList(updated));
+        }
+    }
+}
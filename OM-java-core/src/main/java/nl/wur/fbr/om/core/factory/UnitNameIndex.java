@@ -0,0 +1,454 @@
+package nl.wur.fbr.om.core.factory;
+
+import nl.wur.fbr.om.exceptions.AmbiguousUnitException;
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.util.*;
+
+/**
+ * An index of units by their symbols and by their names in all languages, which is used to resolve symbols and names
+ * such as "km", "kilometre" or "kilometer" to units.
+ * <p>
+ * The symbols and the names are each stored in a radix tree (a trie in which chains of nodes with a single child are
+ * merged) on their lower case characters. The units for a symbol or name are stored in the node at which the symbol
+ * or name ends, grouped by the exact symbol or name and by language. The groups keep an immutable list of their units
+ * that is only replaced when a unit is added, so a lookup takes time proportional to the length of the symbol or name
+ * and does not allocate any objects. Lookups can be case sensitive or case insensitive, and can be restricted to
+ * names in a language. All symbols and names that start with a prefix can be listed, for instance for
+ * autocompletion.
+ * </p>
+ * <p>
+ * The lookups return all units with the symbol or name. When a unique unit is needed, {@link #findUnit(String)}
+ * reports ambiguous symbols or names by throwing an {@link AmbiguousUnitException}.
+ * </p>
+ * <p>
+ * The index can be read and updated from multiple threads. Lookups do not lock, the nodes and groups of the trees
+ * are only replaced (never modified) when a unit is added.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitNameIndex {
+
+    /** The root of the tree of symbols. */
+    private final Node symbols = new Node(new char[0]);
+
+    /** The root of the tree of names. */
+    private final Node names = new Node(new char[0]);
+
+    /**
+     * Creates a new empty index.
+     */
+    public UnitNameIndex(){
+        super();
+    }
+
+    /**
+     * Adds the unit to the index under its symbols and its names in all languages. When the unit was added before,
+     * the symbols and names that were added to the unit since are added to the index. If a unit with the same
+     * identifier was added under a symbol or name, it is replaced by the unit.
+     * @param unit The unit to be added.
+     */
+    public synchronized void add(Unit unit) {
+        if(unit.getSymbol()!=null) this.add(symbols, unit.getSymbol(), null, unit);
+        for(String symbol : unit.getAlternativeSymbols()){
+            if(symbol!=null) this.add(symbols, symbol, null, unit);
+        }
+        List<String> languages = unit.getLanguages();
+        List<String> unitNames = new ArrayList<>();
+        if(unit.getName()!=null) unitNames.add(unit.getName());
+        unitNames.addAll(unit.getAlternativeNames());
+        for(int i=0;i<unitNames.size();i++){
+            String language = languages!=null && i<languages.size() && languages.get(i)!=null && !languages.get(i).isEmpty()
+                    ? languages.get(i) : null;
+            if(unitNames.get(i)!=null) this.add(names, unitNames.get(i), language, unit);
+        }
+    }
+
+    /**
+     * Returns the units with the specified symbol. Symbols are case sensitive ("Mm" is not "mm").
+     * @param symbol The symbol.
+     * @return The immutable list of units with the symbol, which is empty if there is no such unit.
+     */
+    public List<Unit> getUnitsBySymbol(String symbol) {
+        return this.getUnitsBySymbol(symbol, false);
+    }
+
+    /**
+     * Returns the units with the specified symbol.
+     * @param symbol The symbol.
+     * @param ignoreCase True when the case of the symbol should be ignored.
+     * @return The immutable list of units with the symbol, which is empty if there is no such unit.
+     */
+    public List<Unit> getUnitsBySymbol(String symbol, boolean ignoreCase) {
+        return find(symbols, symbol, ignoreCase, null);
+    }
+
+    /**
+     * Returns the units with the specified name in any language. The case of the name is ignored.
+     * @param name The name.
+     * @return The immutable list of units with the name, which is empty if there is no such unit.
+     */
+    public List<Unit> getUnitsByName(String name) {
+        return this.getUnitsByName(name, null, true);
+    }
+
+    /**
+     * Returns the units with the specified name in the specified language.
+     * @param name The name.
+     * @param language The language of the name (ISO 639), or null for any language. Names without language are
+     *                 only found for any language.
+     * @param ignoreCase True when the case of the name should be ignored.
+     * @return The immutable list of units with the name, which is empty if there is no such unit.
+     */
+    public List<Unit> getUnitsByName(String name, String language, boolean ignoreCase) {
+        return find(names, name, ignoreCase, language);
+    }
+
+    /**
+     * Returns the unit with the specified symbol or name. The unit is first searched by its symbol (case
+     * sensitive), and then by its name in any language (case insensitive).
+     * @param symbolOrName The symbol or name.
+     * @return The unit, or null if there is no unit with the symbol or name.
+     * @throws AmbiguousUnitException When more than one unit has the symbol, or when no unit has the symbol and
+     * more than one unit has the name.
+     */
+    public Unit findUnit(String symbolOrName) throws AmbiguousUnitException {
+        List<Unit> units = this.getUnitsBySymbol(symbolOrName);
+        if(units.isEmpty()) units = this.getUnitsByName(symbolOrName);
+        if(units.size()>1) throw new AmbiguousUnitException(symbolOrName, units);
+        return units.isEmpty() ? null : units.get(0);
+    }
+
+    /**
+     * Returns the symbols that start with the specified prefix, ignoring case, sorted on their lower case
+     * characters. At most the specified number of symbols is returned.
+     * @param prefix The prefix.
+     * @param maximumNumber The maximum number of symbols.
+     * @return The symbols.
+     */
+    public List<String> getSymbolsStartingWith(String prefix, int maximumNumber) {
+        return complete(symbols, prefix, maximumNumber);
+    }
+
+    /**
+     * Returns the names in all languages that start with the specified prefix, ignoring case, sorted on their lower
+     * case characters. At most the specified number of names is returned.
+     * @param prefix The prefix.
+     * @param maximumNumber The maximum number of names.
+     * @return The names.
+     */
+    public List<String> getNamesStartingWith(String prefix, int maximumNumber) {
+        return complete(names, prefix, maximumNumber);
+    }
+
+    /**
+     * Adds the unit under the key (a symbol or name) to the tree with the specified root.
+     * @param root The root of the tree.
+     * @param key The symbol or name.
+     * @param language The language of the name, or null.
+     * @param unit The unit.
+     */
+    private void add(Node root, String key, String language, Unit unit) {
+        Node parent = null;
+        Node node = root;
+        int position = 0;
+        while(true){
+            int matched = 0;
+            char[] label = node.label;
+            while(matched<label.length && position+matched<key.length() &&
+                    label[matched]==fold(key.charAt(position+matched))) matched++;
+            if(matched<label.length){
+                // The key diverges from (or ends within) the label of the node, which is split in a new node with
+                // the first part of the label and a copy of the node with the remainder of the label.
+                Node head = new Node(Arrays.copyOfRange(label, 0, matched));
+                Node tail = new Node(Arrays.copyOfRange(label, matched, label.length));
+                tail.children = node.children;
+                tail.groups = node.groups;
+                tail.all = node.all;
+                head.children = new Children(new char[]{tail.label[0]}, new Node[]{tail});
+                parent.replaceChild(node, head);
+                node = head;
+            }
+            position += matched;
+            if(position==key.length()) break;
+            Node child = node.child(fold(key.charAt(position)));
+            if(child==null){
+                char[] remainder = new char[key.length()-position];
+                for(int i=0;i<remainder.length;i++) remainder[i] = fold(key.charAt(position+i));
+                child = new Node(remainder);
+                node.addChild(child);
+            }
+            parent = node;
+            node = child;
+        }
+        node.group(key, language).add(unit);
+        node.group(key, null).add(unit);
+        node.group(null, language).add(unit);
+        node.group(null, null).add(unit);
+        node.all = node.group(null, null).view;
+    }
+
+    /**
+     * Returns the units under the key in the tree with the specified root.
+     * @param root The root of the tree.
+     * @param key The symbol or name.
+     * @param ignoreCase True when the case of the key should be ignored.
+     * @param language The language of the name, or null for any language.
+     * @return The units.
+     */
+    private static List<Unit> find(Node root, String key, boolean ignoreCase, String language) {
+        Node node = root.find(key, false);
+        if(node==null) return Collections.emptyList();
+        if(ignoreCase && language==null) return node.all;
+        Group[] groups = node.groups;
+        for(Group group : groups){
+            if((ignoreCase ? group.key==null : key.equals(group.key)) &&
+                    (language==null ? group.language==null : language.equals(group.language))) return group.view;
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the keys in the tree with the specified root that start with the prefix, ignoring case.
+     * @param root The root of the tree.
+     * @param prefix The prefix.
+     * @param maximumNumber The maximum number of keys.
+     * @return The keys.
+     */
+    private static List<String> complete(Node root, String prefix, int maximumNumber) {
+        List<String> keys = new ArrayList<>();
+        Node node = root.find(prefix, true);
+        if(node==null) return keys;
+        collect(node, keys, maximumNumber);
+        return keys;
+    }
+
+    /**
+     * Adds the keys in the subtree of the node to the list, in depth first order, until the list contains the
+     * maximum number of keys.
+     * @param node The node.
+     * @param keys The keys.
+     * @param maximumNumber The maximum number of keys.
+     */
+    private static void collect(Node node, List<String> keys, int maximumNumber) {
+        for(Group group : node.groups){
+            if(keys.size()>=maximumNumber) return;
+            if(group.key!=null && group.language==null) keys.add(group.key);
+        }
+        for(Node child : node.children.nodes){
+            if(keys.size()>=maximumNumber) return;
+            collect(child, keys, maximumNumber);
+        }
+    }
+
+    /**
+     * Returns the lower case of the character, without looking up the case of ASCII characters.
+     * @param character The character.
+     * @return The lower case character.
+     */
+    private static char fold(char character) {
+        if(character<128) return character>='A' && character<='Z' ? (char)(character+32) : character;
+        return Character.toLowerCase(character);
+    }
+
+    /**
+     * A node in a tree, with the lower case characters of the keys between the node and its parent as label.
+     * The children and groups of the node are replaced when a child or group is added.
+     */
+    private static class Node {
+
+        /** An empty array of groups. */
+        private static final Group[] NO_GROUPS = new Group[0];
+
+        /** The lower case characters between the parent and this node. */
+        private final char[] label;
+
+        /** The children of this node. */
+        private volatile Children children = Children.NONE;
+
+        /** The groups of units with keys that end at this node. */
+        private volatile Group[] groups = NO_GROUPS;
+
+        /** The units with keys that end at this node, in all languages. */
+        private volatile List<Unit> all = Collections.emptyList();
+
+        /**
+         * Creates a new node.
+         * @param label The label.
+         */
+        Node(char[] label) {
+            this.label = label;
+        }
+
+        /**
+         * Returns the node in the subtree of this node at which the key ends, ignoring case. When the key is a prefix,
+         * it may also end within the label of the returned node.
+         * @param key The key.
+         * @param prefix True when the key is a prefix.
+         * @return The node, or null if the key is not in the subtree.
+         */
+        Node find(String key, boolean prefix) {
+            Node node = this;
+            int position = 0;
+            int length = key.length();
+            while(position<length){
+                node = node.child(fold(key.charAt(position)));
+                if(node==null) return null;
+                char[] label = node.label;
+                if(!prefix && position+label.length>length) return null;
+                int end = Math.min(label.length, length-position);
+                for(int i=1;i<end;i++){
+                    if(label[i]!=fold(key.charAt(position+i))) return null;
+                }
+                position += label.length;
+            }
+            return node;
+        }
+
+        /**
+         * Returns the child of which the label starts with the character, or null.
+         * @param character The character.
+         * @return The child, or null.
+         */
+        Node child(char character) {
+            Children current = children;
+            char[] first = current.first;
+            int low = 0;
+            int high = first.length-1;
+            while(low<=high){
+                int middle = (low+high) >>> 1;
+                if(first[middle]<character) low = middle+1;
+                else if(first[middle]>character) high = middle-1;
+                else return current.nodes[middle];
+            }
+            return null;
+        }
+
+        /**
+         * Adds a child to this node.
+         * @param child The child.
+         */
+        void addChild(Node child) {
+            Children current = children;
+            int length = current.first.length;
+            char[] first = new char[length+1];
+            Node[] nodes = new Node[length+1];
+            int index = 0;
+            while(index<length && current.first[index]<child.label[0]) index++;
+            System.arraycopy(current.first, 0, first, 0, index);
+            System.arraycopy(current.nodes, 0, nodes, 0, index);
+            first[index] = child.label[0];
+            nodes[index] = child;
+            System.arraycopy(current.first, index, first, index+1, length-index);
+            System.arraycopy(current.nodes, index, nodes, index+1, length-index);
+            children = new Children(first, nodes);
+        }
+
+        /**
+         * Replaces a child of this node by a node with a label that starts with the same character.
+         * @param child The child.
+         * @param replacement The replacement of the child.
+         */
+        void replaceChild(Node child, Node replacement) {
+            Children current = children;
+            Node[] nodes = current.nodes.clone();
+            for(int i=0;i<nodes.length;i++){
+                if(nodes[i]==child) nodes[i] = replacement;
+            }
+            children = new Children(current.first, nodes);
+        }
+
+        /**
+         * Returns the group with the key and language, which is created when it does not exist.
+         * @param key The key, or null for the group of all keys that end at this node.
+         * @param language The language, or null for the group of all languages.
+         * @return The group.
+         */
+        Group group(String key, String language) {
+            Group[] current = groups;
+            for(Group group : current){
+                if(Objects.equals(group.key, key) && Objects.equals(group.language, language)) return group;
+            }
+            Group group = new Group(key, language);
+            Group[] updated = Arrays.copyOf(current, current.length+1);
+            updated[current.length] = group;
+            groups = updated;
+            return group;
+        }
+    }
+
+    /**
+     * The children of a node, sorted on the first character of their labels, which is stored separately for a fast
+     * binary search. The children are replaced (not modified) when a child is added.
+     */
+    private static class Children {
+
+        /** A node without children. */
+        private static final Children NONE = new Children(new char[0], new Node[0]);
+
+        /** The first characters of the labels of the children. */
+        private final char[] first;
+
+        /** The children. */
+        private final Node[] nodes;
+
+        /**
+         * Creates the children of a node.
+         * @param first The first characters of the labels of the children.
+         * @param nodes The children.
+         */
+        Children(char[] first, Node[] nodes) {
+            this.first = first;
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * The units with a key (a symbol or name) in a language, stored as an immutable list that is replaced when
+     * a unit is added.
+     */
+    private static class Group {
+
+        /** The key, or null when the group contains the units of all keys that end at the node. */
+        private final String key;
+
+        /** The language, or null when the group contains the units of all languages. */
+        private final String language;
+
+        /** The immutable list of units. */
+        private volatile List<Unit> view = Collections.emptyList();
+
+        /**
+         * Creates a new group.
+         * @param key The key, or null.
+         * @param language The language, or null.
+         */
+        Group(String key, String language) {
+            this.key = key;
+            this.language = language;
+        }
+
+        /**
+         * Adds the unit, or replaces the unit with the same identifier.
+         * @param unit The unit.
+         */
+        void add(Unit unit) {
+            List<Unit> current = view;
+            Unit[] updated = null;
+            for(int i=0;i<current.size();i++){
+                if(current.get(i).getIdentifier().equals(unit.getIdentifier())){
+                    if(current.get(i)==unit) return;
+                    updated = current.toArray(new Unit[current.size()]);
+                    updated[i] = unit;
+                    break;
+                }
+            }
+            if(updated==null){
+                updated = current.toArray(new Unit[current.size()+1]);
+                updated[current.size()] = unit;
+            }
+            view = Collections.unmodifiableList(Arrays.asList(updated));
+        }
+    }
+}
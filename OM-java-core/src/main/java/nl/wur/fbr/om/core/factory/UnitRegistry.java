@@ -0,0 +1,250 @@
+package nl.wur.fbr.om.core.factory;
+
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A registry of units and scales by identifier, which can be shared by multiple threads.
+ * <p>
+ * Reads do not lock and never wait. The units and scales are stored in a concurrent map (the overlay) until the
+ * registry is {@link #freeze() frozen}. Freezing publishes an immutable snapshot of all registered units and scales
+ * in a plain hash map, which is optimized for the many reads after the start up of an application. Units and
+ * scales registered after freezing are again stored in the overlay, until the registry is frozen again.
+ * </p>
+ * <p>
+ * Units and scales that are created on demand (for instance from an ontology when they are first requested) should
+ * be created with {@link #getOrCreate(String, Creator)}. When multiple threads request the same identifier at the
+ * same time, only one thread creates the unit or scale, the other threads wait for it and return the same instance.
+ * As the creation of a unit may require the creation of other units (e.g. the definition unit), creations can be
+ * nested. When a creation needs the unit that is being created (in a cycle of definitions) or when two threads
+ * would wait for each other (each creating a unit that the other needs), the unit is created again instead of
+ * waiting.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitRegistry {
+
+    /**
+     * Creates a unit or scale for an identifier.
+     */
+    @FunctionalInterface
+    public interface Creator {
+
+        /**
+         * Creates the unit or scale with the specified identifier.
+         * @param identifier The identifier.
+         * @return The unit or scale.
+         * @throws UnitOrScaleCreationException When the unit or scale could not be created.
+         */
+        Object create(String identifier) throws UnitOrScaleCreationException;
+    }
+
+    /** The immutable snapshot of the units and scales published when this registry was last frozen. */
+    private volatile Map<String,Object> frozen = Collections.emptyMap();
+
+    /** The units and scales registered since this registry was last frozen. */
+    private final ConcurrentMap<String,Object> overlay = new ConcurrentHashMap<>();
+
+    /** The creations of units and scales that are in progress, by identifier. */
+    private final ConcurrentMap<String,Creation> creations = new ConcurrentHashMap<>();
+
+    /** The creation for which each thread is waiting. */
+    private final ConcurrentMap<Thread,Creation> waiting = new ConcurrentHashMap<>();
+
+    /** The number of times this registry was frozen. */
+    private volatile int numberOfFreezes = 0;
+
+    /**
+     * Creates a new empty registry.
+     */
+    public UnitRegistry(){
+        super();
+    }
+
+    /**
+     * Returns the unit or scale registered with the specified identifier, or null if there is no such unit or scale.
+     * @param identifier The identifier.
+     * @return The unit or scale, or null.
+     */
+    public Object get(String identifier) {
+        Object unitOrScale = overlay.get(identifier);
+        if(unitOrScale!=null) return unitOrScale;
+        // The snapshot is published before the frozen units are removed from the overlay, so after a miss in the
+        // overlay the current snapshot contains the unit if it was registered before.
+        return frozen.get(identifier);
+    }
+
+    /**
+     * Registers the unit or scale with the specified identifier. A unit or scale that was registered before with the
+     * same identifier is replaced.
+     * @param identifier The identifier.
+     * @param unitOrScale The unit or scale.
+     */
+    public void put(String identifier, Object unitOrScale) {
+        overlay.put(identifier, unitOrScale);
+    }
+
+    /**
+     * Tests whether a unit or scale is registered with the specified identifier.
+     * @param identifier The identifier.
+     * @return True when a unit or scale is registered with the identifier.
+     */
+    public boolean contains(String identifier) {
+        return this.get(identifier)!=null;
+    }
+
+    /**
+     * Returns the unit or scale registered with the specified identifier, or creates it with the creator when
+     * there is no such unit or scale. The creator is responsible for registering the new unit or scale.
+     * When the unit or scale is already being created by another thread, this method waits for that thread and
+     * returns its result.
+     * @param identifier The identifier.
+     * @param creator The creator of the unit or scale.
+     * @return The unit or scale.
+     * @throws UnitOrScaleCreationException When the unit or scale could not be created.
+     */
+    public Object getOrCreate(String identifier, Creator creator) throws UnitOrScaleCreationException {
+        Object unitOrScale = this.get(identifier);
+        if(unitOrScale!=null) return unitOrScale;
+        Thread current = Thread.currentThread();
+        Creation creation = new Creation(current);
+        Creation running = creations.putIfAbsent(identifier, creation);
+        if(running!=null){
+            if(running.owner!=current && !this.waitsFor(running, current)) return running.await(identifier);
+            // The creation is nested in itself (e.g. the gram is defined by the kilogram, which is defined by
+            // the gram), or the other thread is (indirectly) waiting for this thread. Create the unit or scale
+            // without waiting, as the creators did before there was a registry.
+            return creator.create(identifier);
+        }
+        try {
+            unitOrScale = this.get(identifier);
+            if(unitOrScale==null) unitOrScale = creator.create(identifier);
+            creation.complete(unitOrScale, null);
+            return unitOrScale;
+        } catch (UnitOrScaleCreationException | RuntimeException | Error e) {
+            creation.complete(null, e);
+            throw e;
+        } finally {
+            creations.remove(identifier, creation);
+        }
+    }
+
+    /**
+     * Registers that the current thread waits for the creation. Returns true when this would cause a deadlock,
+     * i.e. when the thread that runs the creation is waiting (indirectly) for the current thread. In that case the
+     * current thread should not wait.
+     * @param creation The creation.
+     * @param current The current thread.
+     * @return True when waiting for the creation would cause a deadlock.
+     */
+    private boolean waitsFor(Creation creation, Thread current) {
+        waiting.put(current, creation);
+        Creation next = creation;
+        for(int depth=0;next!=null && depth<1000;depth++){
+            if(next.owner==current){
+                waiting.remove(current, creation);
+                return true;
+            }
+            next = waiting.get(next.owner);
+        }
+        return false;
+    }
+
+    /**
+     * Freezes this registry by publishing an immutable snapshot of all registered units and scales, which is used
+     * for all subsequent reads. Units and scales registered after freezing are stored in a concurrent overlay.
+     */
+    public synchronized void freeze() {
+        Map<String,Object> snapshot = new HashMap<>(frozen);
+        snapshot.putAll(overlay);
+        frozen = Collections.unmodifiableMap(snapshot);
+        for(Map.Entry<String,Object> entry : snapshot.entrySet()){
+            overlay.remove(entry.getKey(), entry.getValue());
+        }
+        numberOfFreezes++;
+    }
+
+    /**
+     * Returns true when this registry has been frozen at least once.
+     * @return True when frozen.
+     */
+    public boolean isFrozen() {
+        return numberOfFreezes>0;
+    }
+
+    /**
+     * Returns the number of units and scales registered after this registry was last frozen.
+     * @return The number of units and scales in the overlay.
+     */
+    public int getOverlaySize() {
+        return overlay.size();
+    }
+
+    /**
+     * A creation of a unit or scale in progress, for which other threads can wait.
+     */
+    private class Creation {
+
+        /** The thread that creates the unit or scale. */
+        private final Thread owner;
+
+        /** The latch that is released when the creation has completed. */
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /** The created unit or scale. */
+        private volatile Object result;
+
+        /** The exception thrown during the creation, or null. */
+        private volatile Throwable failure;
+
+        /**
+         * Creates a new creation run by the specified thread.
+         * @param owner The thread.
+         */
+        Creation(Thread owner){
+            this.owner = owner;
+        }
+
+        /**
+         * Completes the creation.
+         * @param result The created unit or scale.
+         * @param failure The exception thrown during the creation, or null.
+         */
+        void complete(Object result, Throwable failure){
+            this.result = result;
+            this.failure = failure;
+            done.countDown();
+        }
+
+        /**
+         * Waits for the creation to complete and returns the created unit or scale.
+         * @param identifier The identifier of the unit or scale.
+         * @return The unit or scale.
+         * @throws UnitOrScaleCreationException When the creation failed, or the thread was interrupted.
+         */
+        Object await(String identifier) throws UnitOrScaleCreationException {
+            Thread current = Thread.currentThread();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                current.interrupt();
+                throw new UnitOrScaleCreationException("Interrupted while waiting for the creation of <"+identifier+
+                        ">.", identifier, e);
+            } finally {
+                waiting.remove(current, this);
+            }
+            if(failure!=null){
+                throw new UnitOrScaleCreationException("The unit or scale <"+identifier+"> could not be created.",
+                        identifier, failure);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package nl.wur.fbr.om.core.impl;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable table of the names (in multiple languages) and symbols of a unit, scale, quantity or quantity
+ * class. The first name is the preferred name and the first symbol is the preferred symbol.
+ * <p>
+ * The table is compact, as large sets such as OM contain many thousands of names. The names and symbols are kept
+ * in one array, in which equal strings are shared by all tables, and the language of each name is kept as a small
+ * code in a second array, which is shared by tables with the same languages. The lists returned by the
+ * accessors are unmodifiable views of the table, not copies. A table is changed by creating a new table with
+ * one of the <code>with</code> methods, the owner of the table replaces its table with the new one.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class NameTable {
+
+    /** The table without names and symbols. */
+    public static final NameTable EMPTY = new NameTable(new String[0], new char[0]);
+
+    /** The shared arrays of language codes used in the tables, by their contents. */
+    private static final ConcurrentMap<String,char[]> LANGUAGE_ARRAYS = new ConcurrentHashMap<>();
+
+    /** The codes of the languages, by ISO 639 identifier. The code 0 is used for names without language. */
+    private static final ConcurrentMap<String,Character> LANGUAGE_CODES = new ConcurrentHashMap<>();
+
+    /** The ISO 639 identifiers of the languages by code, "" for names without language. Guarded by the codes. */
+    private static volatile String[] languages = {""};
+
+    /** The names followed by the symbols. */
+    private final String[] strings;
+
+    /** The language code of each name, the number of codes is the number of names. */
+    private final char[] languageCodes;
+
+    /**
+     * Creates a new table.
+     * @param strings The names followed by the symbols.
+     * @param languageCodes The language code of each name.
+     */
+    private NameTable(String[] strings, char[] languageCodes){
+        this.strings = strings;
+        this.languageCodes = languageCodes;
+    }
+
+    /**
+     * Returns the number of names.
+     * @return The number of names.
+     */
+    public int getNumberOfNames() {
+        return languageCodes.length;
+    }
+
+    /**
+     * Returns the number of symbols.
+     * @return The number of symbols.
+     */
+    public int getNumberOfSymbols() {
+        return strings.length-languageCodes.length;
+    }
+
+    /**
+     * Returns the preferred name.
+     * @return The preferred name, or null if there are no names.
+     */
+    public String getName() {
+        return languageCodes.length>0 ? strings[0] : null;
+    }
+
+    /**
+     * Returns the first name in the specified language.
+     * @param language The language (ISO 639), or "" for names without language.
+     * @return The name, or null if there is no name in the language.
+     */
+    public String getName(String language) {
+        Character code = language==null ? null : LANGUAGE_CODES.get(language);
+        if(code==null && !"".equals(language)) return null;
+        char c = code==null ? 0 : code;
+        for(int i=0;i<languageCodes.length;i++){
+            if(languageCodes[i]==c) return strings[i];
+        }
+        return null;
+    }
+
+    /**
+     * Returns the names except the preferred name.
+     * @return An unmodifiable view of the alternative names.
+     */
+    public List<String> getAlternativeNames() {
+        return languageCodes.length<=1 ? Collections.emptyList() : new View(strings, 1, languageCodes.length);
+    }
+
+    /**
+     * Returns the names in the specified language except the first name in that language.
+     * @param language The language (ISO 639), or "" for names without language.
+     * @return An unmodifiable list of the alternative names in the language.
+     */
+    public List<String> getAlternativeNames(String language) {
+        Character code = language==null ? null : LANGUAGE_CODES.get(language);
+        if(code==null && !"".equals(language)) return Collections.emptyList();
+        char c = code==null ? 0 : code;
+        List<String> names = null;
+        boolean found = false;
+        for(int i=0;i<languageCodes.length;i++){
+            if(languageCodes[i]!=c) continue;
+            if(found) {
+                if(names==null) names = new ArrayList<>(2);
+                names.add(strings[i]);
+            }
+            found = true;
+        }
+        return names==null ? Collections.emptyList() : Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Returns the language of each name, "" for names without language.
+     * @return An unmodifiable view of the languages.
+     */
+    public List<String> getLanguages() {
+        return new LanguageView(languageCodes);
+    }
+
+    /**
+     * Returns the preferred symbol.
+     * @return The preferred symbol, or null if there are no symbols.
+     */
+    public String getSymbol() {
+        return strings.length>languageCodes.length ? strings[languageCodes.length] : null;
+    }
+
+    /**
+     * Returns the symbols except the preferred symbol.
+     * @return An unmodifiable view of the alternative symbols.
+     */
+    public List<String> getAlternativeSymbols() {
+        int first = languageCodes.length+1;
+        return first>=strings.length ? Collections.emptyList() : new View(strings, first, strings.length);
+    }
+
+    /**
+     * Returns a table with the specified name added after the names in this table, unless this table already
+     * contains the name in the same language.
+     * @param name The name, null names are not added.
+     * @param language The language (ISO 639), or null or "" for a name without language.
+     * @return The table with the name.
+     */
+    public NameTable withName(String name, String language) {
+        if(name==null) return this;
+        char code = languageCode(language);
+        int names = languageCodes.length;
+        for(int i=0;i<names;i++){
+            if(languageCodes[i]==code && strings[i].equals(name)) return this;
+        }
+        String[] newStrings = new String[strings.length+1];
+        System.arraycopy(strings, 0, newStrings, 0, names);
+        newStrings[names] = share(name);
+        System.arraycopy(strings, names, newStrings, names+1, strings.length-names);
+        char[] newCodes = new char[names+1];
+        System.arraycopy(languageCodes, 0, newCodes, 0, names);
+        newCodes[names] = code;
+        return new NameTable(newStrings, shareLanguageCodes(newCodes));
+    }
+
+    /**
+     * Returns a table with the specified symbol added after the symbols in this table, unless this table already
+     * contains the symbol.
+     * @param symbol The symbol, null symbols are not added.
+     * @return The table with the symbol.
+     */
+    public NameTable withSymbol(String symbol) {
+        if(symbol==null) return this;
+        for(int i=languageCodes.length;i<strings.length;i++){
+            if(strings[i].equals(symbol)) return this;
+        }
+        String[] newStrings = new String[strings.length+1];
+        System.arraycopy(strings, 0, newStrings, 0, strings.length);
+        newStrings[strings.length] = share(symbol);
+        return new NameTable(newStrings, languageCodes);
+    }
+
+    /**
+     * Returns a table with the specified symbol inserted as preferred symbol before the symbols in this table.
+     * @param symbol The symbol, null symbols are not added.
+     * @return The table with the preferred symbol.
+     */
+    public NameTable withPreferredSymbol(String symbol) {
+        if(symbol==null) return this;
+        int names = languageCodes.length;
+        String[] newStrings = new String[strings.length+1];
+        System.arraycopy(strings, 0, newStrings, 0, names);
+        newStrings[names] = share(symbol);
+        System.arraycopy(strings, names, newStrings, names+1, strings.length-names);
+        return new NameTable(newStrings, languageCodes);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of heap used by this table, not including the shared strings
+     * and the shared arrays of language codes, on a 64 bit JVM with compressed references.
+     * @return The estimated size in bytes.
+     */
+    public long getFootprint() {
+        return align(12+4+4)+align(16+4L*strings.length);
+    }
+
+    /**
+     * Returns the shared instance of the string. The strings are interned by the JVM, which already holds the
+     * string literals used in the generated sets of units, so that sharing these strings does not use any heap.
+     * @param string The string.
+     * @return The shared string that is equal to the string.
+     */
+    private static String share(String string) {
+        return string.intern();
+    }
+
+    /**
+     * Returns the shared array of language codes with the same contents as the specified array.
+     * @param codes The language codes.
+     * @return The shared array.
+     */
+    private static char[] shareLanguageCodes(char[] codes) {
+        char[] shared = LANGUAGE_ARRAYS.putIfAbsent(new String(codes), codes);
+        return shared==null ? codes : shared;
+    }
+
+    /**
+     * Returns the code of the specified language, a new code is assigned to languages that are used for the first
+     * time.
+     * @param language The language (ISO 639), or null or "" for no language.
+     * @return The code.
+     */
+    private static char languageCode(String language) {
+        if(language==null || language.isEmpty()) return 0;
+        Character code = LANGUAGE_CODES.get(language);
+        if(code!=null) return code;
+        synchronized (LANGUAGE_CODES) {
+            code = LANGUAGE_CODES.get(language);
+            if(code!=null) return code;
+            String[] current = languages;
+            if(current.length>Character.MAX_VALUE) throw new IllegalStateException("Too many languages.");
+            String[] extended = new String[current.length+1];
+            System.arraycopy(current, 0, extended, 0, current.length);
+            extended[current.length] = share(language);
+            languages = extended;
+            code = (char) current.length;
+            LANGUAGE_CODES.put(extended[current.length], code);
+            return code;
+        }
+    }
+
+    /**
+     * Rounds the size up to a multiple of 8 bytes, the alignment of objects.
+     * @param size The size in bytes.
+     * @return The aligned size.
+     */
+    private static long align(long size) {
+        return (size+7)&~7L;
+    }
+
+    /**
+     * An unmodifiable view of a range of the strings of a table.
+     */
+    private static final class View extends AbstractList<String> implements RandomAccess {
+
+        /** The strings of the table. */
+        private final String[] strings;
+
+        /** The index of the first string in the view. */
+        private final int from;
+
+        /** The index after the last string in the view. */
+        private final int to;
+
+        /**
+         * Creates a new view.
+         * @param strings The strings of the table.
+         * @param from The index of the first string in the view.
+         * @param to The index after the last string in the view.
+         */
+        View(String[] strings, int from, int to){
+            this.strings = strings;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if(index<0 || index>=to-from) throw new IndexOutOfBoundsException("Index: "+index);
+            return strings[from+index];
+        }
+
+        @Override
+        public int size() {
+            return to-from;
+        }
+    }
+
+    /**
+     * An unmodifiable view of the languages of the names of a table.
+     */
+    private static final class LanguageView extends AbstractList<String> implements RandomAccess {
+
+        /** The language codes of the names. */
+        private final char[] codes;
+
+        /**
+         * Creates a new view.
+         * @param codes The language codes of the names.
+         */
+        LanguageView(char[] codes){
+            this.codes = codes;
+        }
+
+        @Override
+        public String get(int index) {
+            if(index<0 || index>=codes.length) throw new IndexOutOfBoundsException("Index: "+index);
+            return languages[codes[index]];
+        }
+
+        @Override
+        public int size() {
+            return codes.length;
+        }
+    }
+}
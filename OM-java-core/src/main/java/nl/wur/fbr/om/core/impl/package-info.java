@@ -0,0 +1,7 @@
+/**
+ * This core package contains the implementations of the model interfaces, in its subpackages, and the classes
+ * shared by these implementations, such as the compact table of names and symbols.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+package nl.wur.fbr.om.core.impl;
@@ -1,6 +1,6 @@
 package nl.wur.fbr.om.core.impl.quantities;
 
-import javafx.util.Pair;
+import nl.wur.fbr.om.core.impl.NameTable;
 import nl.wur.fbr.om.exceptions.QuantityCreationException;
 import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
@@ -27,14 +27,11 @@ public abstract class AbstractQuantity implements Quantity {
     private String identifier;
 
     /**
-     *  The list of names for this quantity, the first name in the list is the preferred name.
-     *  The items in the list are tuples with the value being the name and the key
-     *  the ISO 639 language identifier, or "" if no language was set.
+     * The names (with their ISO 639 language identifiers) and symbols of this quantity, the first name is the
+     * preferred name and the first symbol is the preferred symbol. The table is replaced when a name or symbol
+     * is added.
      */
-    private List<Pair<String,String>> names = new ArrayList<>();
-
-    /** The list of symbols for this quantity, the first symbol in the list is the preferred symbol. */
-    private List<String> symbols = new ArrayList<>();
+    private volatile NameTable names = NameTable.EMPTY;
 
     /** The measure (numerical value expressed in a unit) which is the value of the quantity. */
     private Measure measureValue = null;
@@ -376,22 +373,20 @@ public abstract class AbstractQuantity implements Quantity {
      */
     @Override
     public String getName() {
-        if(names.size()<=0) return this.getQuantityClass().getName();
-        return names.get(0).getValue();
+        NameTable table = names;
+        if(table.getNumberOfNames()<=0) return this.getQuantityClass().getName();
+        return table.getName();
     }
 
     /**
      * Returns alternative names for the quantity not including the preferred name.
      * If no alternative names exist, an empty list is returned.
      *
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames() {
-        List<String> altnames = new ArrayList<>();
-        for (int i=1;i<names.size();i++){ // start at i=1 to ignore the preferred name.
-            altnames.add(names.get(i).getValue());
-        }
+        List<String> altnames = names.getAlternativeNames();
         if(altnames.size()<=0) return this.getQuantityClass().getAlternativeNames();
         return altnames;
     }
@@ -406,12 +401,9 @@ public abstract class AbstractQuantity implements Quantity {
     @Override
     public String getName(String language) {
         if(language==null) return getName();
-        for (int i=0;i<names.size();i++){ // iterate until name with language is found
-            if (names.get(i).getKey().equals(language)){
-                return  names.get(i).getValue();
-            }
-        }
-        return this.getQuantityClass().getName(language);
+        String name = names.getName(language);
+        if(name==null) return this.getQuantityClass().getName(language);
+        return name;
     }
 
     /**
@@ -419,20 +411,11 @@ public abstract class AbstractQuantity implements Quantity {
      * If no known alternative names are known an empty list is returned.
      *
      * @param language The language of the requested alternative names.
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames(String language) {
-        boolean found = false;
-        List<String> altnames = new ArrayList<>();
-        for (int i=0;i<names.size();i++){ // iterate over all names
-            if (names.get(i).getKey().equals(language)) { // test for language
-                if(found) { // test whether this name is the first in the correct language, if so ignore
-                    altnames.add(names.get(i).getValue()); // add when correct language
-                }
-                found = true;
-            }
-        }
+        List<String> altnames = names.getAlternativeNames(language);
         if(altnames.size()<=0) return this.getQuantityClass().getAlternativeNames(language);
         return altnames;
     }
@@ -442,10 +425,7 @@ public abstract class AbstractQuantity implements Quantity {
      * @return The languages.
      */
     public List<String> getLanguages() {
-        List<String> languages = new ArrayList<>();
-        for(Pair<String,String> pair : names){
-            languages.add(pair.getKey());
-        }
+        List<String> languages = names.getLanguages();
         if(languages.size()<=0) return this.getQuantityClass().getLanguages();
         return languages;
     }
@@ -457,10 +437,8 @@ public abstract class AbstractQuantity implements Quantity {
      * @param language The language of the name.
      */
     @Override
-    public void addAlternativeName(String name,String language){
-        if(language==null) language="";
-        Pair<String,String> pair = new Pair(language,name);
-        if(!names.contains(pair)) names.add(pair);
+    public synchronized void addAlternativeName(String name,String language){
+        names = names.withName(name,language);
     }
 
     /**
@@ -471,8 +449,9 @@ public abstract class AbstractQuantity implements Quantity {
      */
     @Override
     public String getSymbol() {
-        if(symbols.size()<=0) return this.getQuantityClass().getSymbol();
-        return symbols.get(0);
+        NameTable table = names;
+        if(table.getNumberOfSymbols()<=0) return this.getQuantityClass().getSymbol();
+        return table.getSymbol();
     }
 
     /**
@@ -480,20 +459,19 @@ public abstract class AbstractQuantity implements Quantity {
      * @param symbol The preferred symbol.
      */
     @Override
-    public void setSymbol(String symbol){
-        symbols.add(0,symbol);
+    public synchronized void setSymbol(String symbol){
+        names = names.withPreferredSymbol(symbol);
     }
 
     /**
      * Returns a list of alternative symbols for this quantity.
      * When no known alternative symbols are known an empty list is returned.
      *
-     * @return A list of alternative symbols.
+     * @return An unmodifiable list of alternative symbols.
      */
     @Override
     public List<String> getAlternativeSymbols() {
-        List<String> altsymbols = new ArrayList<>();
-        if(symbols.size()>1) altsymbols.addAll(symbols.subList(1, symbols.size()));
+        List<String> altsymbols = names.getAlternativeSymbols();
         if(altsymbols.size()<=0) return this.getQuantityClass().getAlternativeSymbols();
         return altsymbols;
     }
@@ -503,8 +481,8 @@ public abstract class AbstractQuantity implements Quantity {
      * @param symbol The alternative symbol.
      */
     @Override
-    public void addAlternativeSymbol(String symbol){
-        if(!symbols.contains(symbol)) symbols.add(symbol);
+    public synchronized void addAlternativeSymbol(String symbol){
+        names = names.withSymbol(symbol);
     }
 
     /**
@@ -1,14 +1,12 @@
 package nl.wur.fbr.om.core.impl.quantities;
 
-import javafx.util.Pair;
+import nl.wur.fbr.om.core.impl.NameTable;
 import nl.wur.fbr.om.model.UnitAndScaleSet;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.quantities.Quantity;
 import nl.wur.fbr.om.model.quantities.QuantityClass;
 import nl.wur.fbr.om.model.units.Unit;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -24,14 +22,11 @@ public class DefaultQuantityClass implements QuantityClass {
     private String identifier;
 
     /**
-     *  The list of names for this quantity, the first name in the list is the preferred name.
-     *  The items in the list are tuples with the value being the name and the key
-     *  the ISO 639 language identifier, or "" if no language was set.
+     * The names (with their ISO 639 language identifiers) and symbols of this quantity class, the first name is
+     * the preferred name and the first symbol is the preferred symbol. The table is replaced when a name or
+     * symbol is added.
      */
-    private List<Pair<String,String>> names = new ArrayList<>();
-
-    /** The list of symbols for this quantity, the first symbol in the list is the preferred symbol. */
-    private List<String> symbols = new ArrayList<>();
+    private volatile NameTable names = NameTable.EMPTY;
 
     private Dimension dimension;
     private Set<Object> unitsOrScales;
@@ -76,23 +71,18 @@ public class DefaultQuantityClass implements QuantityClass {
      */
     @Override
     public String getName() {
-        if(names.size()<=0) return null;
-        return names.get(0).getValue();
+        return names.getName();
     }
 
     /**
      * Returns alternative names for the quantity class not including the preferred name.
      * If no alternative names exist, an empty list is returned.
      *
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames() {
-        List<String> altnames = new ArrayList<>();
-        for (int i=1;i<names.size();i++){ // start at i=1 to ignore the preferred name.
-            altnames.add(names.get(i).getValue());
-        }
-        return altnames;
+        return names.getAlternativeNames();
     }
 
     /**
@@ -105,12 +95,7 @@ public class DefaultQuantityClass implements QuantityClass {
     @Override
     public String getName(String language) {
         if(language==null) return getName();
-        for (int i=0;i<names.size();i++){ // iterate until name with language is found
-            if (names.get(i).getKey().equals(language)){
-                return  names.get(i).getValue();
-            }
-        }
-        return null;
+        return names.getName(language);
     }
 
     /**
@@ -118,21 +103,11 @@ public class DefaultQuantityClass implements QuantityClass {
      * If no known alternative names are known an empty list is returned.
      *
      * @param language The language of the requested alternative names.
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames(String language) {
-        boolean found = false;
-        List<String> altnames = new ArrayList<>();
-        for (int i=0;i<names.size();i++){ // iterate over all names
-            if (names.get(i).getKey().equals(language)) { // test for language
-                if(found) { // test whether this name is the first in the correct language, if so ignore
-                    altnames.add(names.get(i).getValue()); // add when correct language
-                }
-                found = true;
-            }
-        }
-        return altnames;
+        return names.getAlternativeNames(language);
     }
 
     /**
@@ -140,11 +115,7 @@ public class DefaultQuantityClass implements QuantityClass {
      * @return The languages.
      */
     public List<String> getLanguages() {
-        List<String> languages = new ArrayList<>();
-        for(Pair<String,String> pair : names){
-            languages.add(pair.getKey());
-        }
-        return languages;
+        return names.getLanguages();
     }
 
     /**
@@ -154,10 +125,8 @@ public class DefaultQuantityClass implements QuantityClass {
      * @param language The language of the name.
      */
     @Override
-    public void addAlternativeName(String name,String language){
-        if(language==null) language="";
-        Pair<String,String> pair = new Pair(language,name);
-        if(!names.contains(pair)) names.add(pair);
+    public synchronized void addAlternativeName(String name,String language){
+        names = names.withName(name,language);
     }
 
     /**
@@ -168,8 +137,7 @@ public class DefaultQuantityClass implements QuantityClass {
      */
     @Override
     public String getSymbol() {
-        if(symbols.size()<=0) return null;
-        return symbols.get(0);
+        return names.getSymbol();
     }
 
     /**
@@ -177,21 +145,19 @@ public class DefaultQuantityClass implements QuantityClass {
      * @param symbol The preferred symbol.
      */
     @Override
-    public void setSymbol(String symbol){
-        symbols.add(0,symbol);
+    public synchronized void setSymbol(String symbol){
+        names = names.withPreferredSymbol(symbol);
     }
 
     /**
      * Returns a list of alternative symbols for this quantity class.
      * When no known alternative symbols are known an empty list is returned.
      *
-     * @return A list of alternative symbols.
+     * @return An unmodifiable list of alternative symbols.
      */
     @Override
     public List<String> getAlternativeSymbols() {
-        List<String> altsymbols = new ArrayList<>();
-        if(symbols.size()>1) altsymbols.addAll(symbols.subList(1,symbols.size()));
-        return altsymbols;
+        return names.getAlternativeSymbols();
     }
 
     /**
@@ -199,8 +165,8 @@ public class DefaultQuantityClass implements QuantityClass {
      * @param symbol The alternative symbol.
      */
     @Override
-    public void addAlternativeSymbol(String symbol){
-        if(!symbols.contains(symbol)) symbols.add(symbol);
+    public synchronized void addAlternativeSymbol(String symbol){
+        names = names.withSymbol(symbol);
     }
 
     /**
@@ -245,11 +211,7 @@ public class DefaultQuantityClass implements QuantityClass {
      */
     @Override
     public boolean isDimensionless() {
-        Set<BaseDimension> dimensions = dimension.getDimensions();
-        for(BaseDimension base : dimensions){
-            if(dimension.getDimensionalExponent(base)!=0) return false;
-        }
-        return true;
+        return dimension.isDimensionless();
     }
 
     /**
@@ -23,7 +23,7 @@ public class IndexImpl extends AbstractQuantity implements Index {
     private int indexValue = -1;
 
     private QuantityClass qclass = new QuantityClass() {
-        private Dimension emptyDim = new Dimension();
+        private Dimension emptyDim = Dimension.DIMENSIONLESS;
         private Set<Object> units = new HashSet<>();
         @Override
         public Dimension getDimension() {
@@ -18,7 +18,7 @@ import java.util.Set;
 public class IndexSetImpl extends AbstractQuantity implements IndexSet {
 
     private QuantityClass qclass = new QuantityClass() {
-        private Dimension emptyDim = new Dimension();
+        private Dimension emptyDim = Dimension.DIMENSIONLESS;
         private Set<Object> units = new HashSet<>();
         @Override
         public Dimension getDimension() {
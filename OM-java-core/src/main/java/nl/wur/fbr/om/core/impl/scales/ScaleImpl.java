@@ -1,6 +1,6 @@
 package nl.wur.fbr.om.core.impl.scales;
 
-import javafx.util.Pair;
+import nl.wur.fbr.om.core.impl.NameTable;
 import nl.wur.fbr.om.model.points.Point;
 import nl.wur.fbr.om.model.scales.Scale;
 import nl.wur.fbr.om.model.units.Unit;
@@ -38,14 +38,14 @@ public class ScaleImpl implements Scale {
     private List<Point> definitionPoints = new ArrayList<>();
 
     /**
-     *  The list of names for this scale, the first name in the list is the preferred name.
-     *  The items in the list are tuples with the value being the name and the key
-     *  the ISO 639 language identifier, or "" if no language was set.
+     * The names (with their ISO 639 language identifiers) and symbols of this scale, the first name is the
+     * preferred name and the first symbol is the preferred symbol. The table is replaced when a name or symbol
+     * is added.
      */
-    private List<Pair<String,String>> names = new ArrayList<>();
+    private volatile NameTable names = NameTable.EMPTY;
 
-    /** The list of symbols for this scale, the first symbol in the list is the preferred symbol. */
-    private List<String> symbols = new ArrayList<>();
+    /** The cached transformation from the root scale to this scale, or null if not yet computed. */
+    private volatile ScaleTransform transform = null;
 
     /**
      * Creates a new instance of a base measurement scale with the unit in which points on this scale are expressed.
@@ -67,8 +67,7 @@ public class ScaleImpl implements Scale {
     public ScaleImpl(String name, String symbol,Unit unit) {
         super();
         this.identifier = UUID.randomUUID().toString();
-        if(name!=null) names.add(new Pair<>("",name));
-        if(symbol!=null) symbols.add(symbol);
+        names = NameTable.EMPTY.withName(name,null).withSymbol(symbol);
         this.unit = unit;
     }
 
@@ -83,8 +82,7 @@ public class ScaleImpl implements Scale {
     public ScaleImpl(String identifier, String name, String symbol,Unit unit) {
         super();
         this.identifier = identifier;
-        if(name!=null) names.add(new Pair<>("",name));
-        if(symbol!=null) symbols.add(symbol);
+        names = NameTable.EMPTY.withName(name,null).withSymbol(symbol);
         this.unit = unit;
     }
     /**
@@ -120,8 +118,7 @@ public class ScaleImpl implements Scale {
     public ScaleImpl(String name, String symbol, Scale definitionScale, double offset, double factor,Unit unit) {
         super();
         this.identifier = UUID.randomUUID().toString();
-        if(name!=null) names.add(new Pair<>("",name));
-        if(symbol!=null) symbols.add(symbol);
+        names = NameTable.EMPTY.withName(name,null).withSymbol(symbol);
         this.definitionScale = definitionScale;
         this.offset = offset;
         this.factor = factor;
@@ -144,8 +141,7 @@ public class ScaleImpl implements Scale {
     public ScaleImpl(String identifier, String name, String symbol, Scale definitionScale, double offset, double factor,Unit unit) {
         super();
         this.identifier = identifier;
-        if(name!=null) names.add(new Pair<>("",name));
-        if(symbol!=null) symbols.add(symbol);
+        names = NameTable.EMPTY.withName(name,null).withSymbol(symbol);
         this.definitionScale = definitionScale;
         this.offset = offset;
         this.factor = factor;
@@ -190,6 +186,22 @@ public class ScaleImpl implements Scale {
         return factor;
     }
 
+    /**
+     * Returns the affine transformation from the root scale of this scale (the scale at the end of the chain of
+     * definition scales) to this scale. The transformation is computed once and then cached.
+     *
+     * @return The transformation.
+     * @throws IllegalArgumentException When the chain of definition scales is cyclic.
+     */
+    public ScaleTransform getTransform() {
+        ScaleTransform cached = transform;
+        if(cached==null){
+            cached = ScaleTransform.compute(this);
+            transform = cached;
+        }
+        return cached;
+    }
+
     /**
      * Returns the points on the scale which are used to define the measurement scale. For instance, the
      * Celsius scale is defined by points such as the boiling point of water (i.e. 100 degrees Celsius).
@@ -241,23 +253,18 @@ public class ScaleImpl implements Scale {
      */
     @Override
     public String getName() {
-        if(names.size()<=0) return null;
-        return names.get(0).getValue();
+        return names.getName();
     }
 
     /**
      * Returns alternative names for the scale not including the preferred name.
      * If no alternative names exist, an empty list is returned.
      *
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames() {
-        List<String> altnames = new ArrayList<>();
-        for (int i=1;i<names.size();i++){ // start ad i=1 to ignore the preferred name.
-            altnames.add(names.get(i).getValue());
-        }
-        return altnames;
+        return names.getAlternativeNames();
     }
 
     /**
@@ -270,12 +277,7 @@ public class ScaleImpl implements Scale {
     @Override
     public String getName(String language) {
         if(language==null) return getName();
-        for (int i=0;i<names.size();i++){ // iterate until name with language is found
-            if (names.get(i).getKey().equals(language)){
-                return  names.get(i).getValue();
-            }
-        }
-        return null;
+        return names.getName(language);
     }
 
     /**
@@ -283,21 +285,11 @@ public class ScaleImpl implements Scale {
      * If no known alternative names are known an empty list is returned.
      *
      * @param language The language of the requested alternative names.
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames(String language) {
-        boolean found = false;
-        List<String> altnames = new ArrayList<>();
-        for (int i=0;i<names.size();i++){ // iterate over all names
-            if (names.get(i).getKey().equals(language)) { // test for language
-                if(found) { // test whether this name is the first in the correct language, if so ignore
-                    altnames.add(names.get(i).getValue()); // add when correct language
-                }
-                found = true;
-            }
-        }
-        return altnames;
+        return names.getAlternativeNames(language);
     }
 
     /**
@@ -305,11 +297,7 @@ public class ScaleImpl implements Scale {
      * @return The languages.
      */
     public List<String> getLanguages() {
-        List<String> languages = new ArrayList<>();
-        for(Pair<String,String> pair : names){
-            languages.add(pair.getKey());
-        }
-        return languages;
+        return names.getLanguages();
     }
 
     /**
@@ -318,10 +306,8 @@ public class ScaleImpl implements Scale {
      * @param name An alternative name of the Scale.
      * @param language The language of the name.
      */
-    public void addAlternativeName(String name,String language){
-        if(language==null) language="";
-        Pair<String,String> pair = new Pair(language,name);
-        if(!names.contains(pair)) names.add(pair);
+    public synchronized void addAlternativeName(String name,String language){
+        names = names.withName(name,language);
     }
 
     /**
@@ -332,8 +318,7 @@ public class ScaleImpl implements Scale {
      */
     @Override
     public String getSymbol() {
-        if(symbols.size()<=0) return null;
-        return symbols.get(0);
+        return names.getSymbol();
     }
 
     /**
@@ -341,29 +326,35 @@ public class ScaleImpl implements Scale {
      * @param symbol The preferred symbol.
      */
     @Override
-    public void setSymbol(String symbol){
-        symbols.add(0,symbol);
+    public synchronized void setSymbol(String symbol){
+        names = names.withPreferredSymbol(symbol);
     }
 
     /**
      * Returns a list of alternative symbols for this scale.
      * When no known alternative symbols are known an empty list is returned.
      *
-     * @return A list of alternative symbols.
+     * @return An unmodifiable list of alternative symbols.
      */
     @Override
     public List<String> getAlternativeSymbols() {
-        List<String> altsymbols = new ArrayList<>();
-        if(symbols.size()>1) altsymbols.addAll(symbols.subList(1,symbols.size()));
-        return altsymbols;
+        return names.getAlternativeSymbols();
     }
 
     /**
      * Add an alternative symbol to the Scale.
      * @param symbol The alternative symbol.
      */
-    public void addAlternativeSymbol(String symbol){
-        if(!symbols.contains(symbol)) symbols.add(symbol);
+    public synchronized void addAlternativeSymbol(String symbol){
+        names = names.withSymbol(symbol);
+    }
+
+    /**
+     * Returns the table with the names and symbols of this scale.
+     * @return The table of names and symbols.
+     */
+    public NameTable getNameTable() {
+        return names;
     }
 
     /**
@@ -0,0 +1,144 @@
+package nl.wur.fbr.om.core.impl.scales;
+
+import nl.wur.fbr.om.model.scales.Scale;
+
+/**
+ * The affine transformation from the root scale of a measurement scale to the scale itself. The root scale is the
+ * scale at the end of the chain of definition scales, i.e. the first scale in the chain without a definition scale.
+ * A value <code>r</code> on the root scale is the value <code>r*factor+offset</code> on the scale. For instance,
+ * the root scale of the Fahrenheit scale is the Kelvin scale, with a factor of 1.8 and an offset of -459.67.
+ * <p>
+ * The transformations of two scales with the same root scale are composed into the conversion between the two
+ * scales with {@link #getConversionFactorTo(ScaleTransform)} and {@link #getConversionOffsetTo(ScaleTransform)}.
+ * Transformations are immutable. The transformation of a {@link ScaleImpl} is computed once and cached on the
+ * scale, see {@link ScaleImpl#getTransform()}, so the chain of definition scales is followed only once.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class ScaleTransform {
+
+    /** The maximum number of definition scales followed before the chain is considered to be cyclic. */
+    private static final int MAXIMUM_CHAIN_LENGTH = 1000;
+
+    /** The root scale. */
+    private final Scale rootScale;
+
+    /** The factor with which a value on the root scale is multiplied. */
+    private final double factor;
+
+    /** The offset added to the multiplied value on the root scale. */
+    private final double offset;
+
+    /**
+     * Creates a new transformation.
+     * @param rootScale The root scale.
+     * @param factor The factor with which a value on the root scale is multiplied.
+     * @param offset The offset added to the multiplied value.
+     */
+    private ScaleTransform(Scale rootScale, double factor, double offset){
+        this.rootScale = rootScale;
+        this.factor = factor;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the transformation from the root scale to the specified scale. For instances of {@link ScaleImpl}
+     * the cached transformation is returned, for other scales the transformation is computed.
+     * @param scale The scale.
+     * @return The transformation.
+     * @throws IllegalArgumentException When the chain of definition scales is cyclic.
+     */
+    public static ScaleTransform of(Scale scale){
+        if(scale instanceof ScaleImpl) return ((ScaleImpl)scale).getTransform();
+        return compute(scale);
+    }
+
+    /**
+     * Computes the transformation from the root scale to the specified scale. If a scale in the chain of
+     * definition scales has a cached transformation, it is reused and the rest of the chain is not followed.
+     * @param scale The scale.
+     * @return The transformation.
+     * @throws IllegalArgumentException When the chain of definition scales is cyclic.
+     */
+    static ScaleTransform compute(Scale scale){
+        // A value r on the root scale is r*f1+o1 on the first definition scale, and (r*f1+o1)*f2+o2 on the
+        // second, so the offset accumulated so far is multiplied by the factor of each next scale in the chain.
+        // The chain is followed from the scale towards the root, so the offset of each definition scale is
+        // multiplied by the factor accumulated so far, before that factor is multiplied.
+        double factor = 1.0;
+        double offset = 0.0;
+        Scale current = scale;
+        for(int length=0;length<MAXIMUM_CHAIN_LENGTH;length++){
+            if(current!=scale && current instanceof ScaleImpl){
+                ScaleTransform transform = ((ScaleImpl)current).getTransform();
+                return new ScaleTransform(transform.rootScale, transform.factor*factor, offset+factor*transform.offset);
+            }
+            Scale definition = current.getDefinitionScale();
+            if(definition==null) return new ScaleTransform(current, factor, offset);
+            offset = offset+factor*current.getOffsetFromDefinitionScale();
+            factor = factor*current.getFactorFromDefinitionScale();
+            current = definition;
+        }
+        throw new IllegalArgumentException("The definition scales of scale '"+scale+"' form a cycle.");
+    }
+
+    /**
+     * Returns the root scale, i.e. the scale at the end of the chain of definition scales.
+     * @return The root scale.
+     */
+    public Scale getRootScale() {
+        return rootScale;
+    }
+
+    /**
+     * Returns the factor with which a value on the root scale is multiplied.
+     * @return The factor.
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Returns the offset that is added to the multiplied value on the root scale.
+     * @return The offset.
+     */
+    public double getOffset() {
+        return offset;
+    }
+
+    /**
+     * Tests whether the specified transformation has the same root scale as this transformation, i.e. whether
+     * values on the two scales can be converted by composing the transformations.
+     * @param other The other transformation.
+     * @return True when both transformations have the same root scale.
+     */
+    public boolean hasSameRootScale(ScaleTransform other) {
+        return rootScale==other.rootScale || rootScale.getIdentifier().equals(other.rootScale.getIdentifier());
+    }
+
+    /**
+     * Returns the factor of the conversion from the scale of this transformation to the scale of the specified
+     * transformation. Both transformations should have the same root scale.
+     * @param target The transformation of the target scale.
+     * @return The conversion factor.
+     */
+    public double getConversionFactorTo(ScaleTransform target) {
+        return target.factor/factor;
+    }
+
+    /**
+     * Returns the offset of the conversion from the scale of this transformation to the scale of the specified
+     * transformation. Both transformations should have the same root scale.
+     * @param target The transformation of the target scale.
+     * @return The conversion offset.
+     */
+    public double getConversionOffsetTo(ScaleTransform target) {
+        return target.offset-offset*(target.factor/factor);
+    }
+
+    @Override
+    public String toString(){
+        return rootScale+" * "+factor+" + "+offset;
+    }
+}
@@ -72,9 +72,7 @@ public class BaseUnitImpl extends SingularUnitImpl implements BaseUnit {
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
-        Dimension map = new Dimension();
-        if(definitionDimension!=null) map.setDimensionalExponent(definitionDimension,1);
-        return map;
+    protected Dimension computeUnitDimension() {
+        return Dimension.of(definitionDimension);
     }
 }
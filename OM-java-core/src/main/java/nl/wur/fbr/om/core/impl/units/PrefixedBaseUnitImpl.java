@@ -121,9 +121,7 @@ public class PrefixedBaseUnitImpl extends PrefixedUnitImpl implements BaseUnit{
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
-        Dimension map = new Dimension();
-        map.setDimensionalExponent(definitionDimension,1);
-        return map;
+    protected Dimension computeUnitDimension() {
+        return Dimension.of(definitionDimension);
     }
 }
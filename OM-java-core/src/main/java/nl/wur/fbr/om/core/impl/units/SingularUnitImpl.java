@@ -203,6 +203,7 @@ public class SingularUnitImpl extends UnitImpl implements SingularUnit {
      */
     protected void setDefinitionUnit(Unit definitionUnit){
         this.definitionUnit = definitionUnit;
+        invalidateNormalForms();
     }
 
     /**
@@ -232,6 +233,7 @@ public class SingularUnitImpl extends UnitImpl implements SingularUnit {
      */
     protected void setDefinitionNumericalValue(double definitionNumericalValue){
         this.definitionNumericalValue = definitionNumericalValue;
+        invalidateNormalForms();
     }
 
     /**
@@ -247,8 +249,8 @@ public class SingularUnitImpl extends UnitImpl implements SingularUnit {
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
-        if(definitionUnit==null) return new Dimension();
+    protected Dimension computeUnitDimension() {
+        if(definitionUnit==null) return Dimension.DIMENSIONLESS;
         return definitionUnit.getUnitDimension();
     }
 
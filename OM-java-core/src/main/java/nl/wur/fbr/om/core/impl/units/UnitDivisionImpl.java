@@ -1,13 +1,10 @@
 package nl.wur.fbr.om.core.impl.units;
 
 
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.units.Unit;
 import nl.wur.fbr.om.model.units.UnitDivision;
 
-import java.util.Set;
-
 /**
  * The core implementation of a compound unit that is the division of two other units.
  * For instance, the unit used for denstiy, kilogram per
@@ -25,13 +22,16 @@ public class UnitDivisionImpl extends UnitImpl implements UnitDivision {
 
     /**
      * Creates a new unit division with the specified numerator and denominator.
+     * The identifier of the unit is derived from its structure, see {@link UnitStructure#getIdentifier()}.
      * @param numerator The numerator unit in the unit division.
      * @param denominator The denominator unit in the unit division.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitDivisionImpl(Unit numerator, Unit denominator){
-        super();
+        super(UnitStructure.division(numerator, denominator).getIdentifier());
         this.numerator = numerator;
         this.denominator = denominator;
+        this.checkUnitDimension();
         String symbol = null;
         String symbol1 = numerator.getSymbol();
         String symbol2 = denominator.getSymbol();
@@ -54,11 +54,13 @@ public class UnitDivisionImpl extends UnitImpl implements UnitDivision {
      * @param symbol The symbol used for the unit.
      * @param numerator The numerator unit in the unit division.
      * @param denominator The denominator unit in the unit division.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitDivisionImpl(String name, String symbol, Unit numerator, Unit denominator){
         super(name,symbol);
         this.numerator = numerator;
         this.denominator = denominator;
+        this.checkUnitDimension();
         if(symbol==null) {
             String symbol1 = numerator.getSymbol();
             String symbol2 = denominator.getSymbol();
@@ -83,11 +85,13 @@ public class UnitDivisionImpl extends UnitImpl implements UnitDivision {
      * @param symbol The symbol used for the unit.
      * @param numerator The numerator unit in the unit division.
      * @param denominator The denominator unit in the unit division.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitDivisionImpl(String identifier, String name, String symbol, Unit numerator, Unit denominator){
         super(identifier,name,symbol);
         this.numerator = numerator;
         this.denominator = denominator;
+        this.checkUnitDimension();
         if(symbol==null) {
             String symbol1 = numerator.getSymbol();
             String symbol2 = denominator.getSymbol();
@@ -145,26 +149,8 @@ public class UnitDivisionImpl extends UnitImpl implements UnitDivision {
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
-        Dimension map = new Dimension();
-        Dimension map1 = getNumerator().getUnitDimension();
-        Dimension map2 = getDenominator().getUnitDimension();
-        Set<BaseDimension> dims1 = map1.getDimensions();
-        for(BaseDimension dim : dims1){
-            double exp = map1.getDimensionalExponent(dim);
-            map.setDimensionalExponent(dim,exp);
-        }
-        Set<BaseDimension> dims2 = map2.getDimensions();
-        for(BaseDimension dim : dims2){
-            double exp = map2.getDimensionalExponent(dim);
-            double eee = map.getDimensionalExponent(dim);
-            if(eee-exp!=0){
-                map.setDimensionalExponent(dim,eee-exp);
-            }else{
-                map.remove(dim);
-            }
-        }
-        return map;
+    protected Dimension computeUnitDimension() {
+        return getNumerator().getUnitDimension().divide(getDenominator().getUnitDimension());
     }
 
     /**
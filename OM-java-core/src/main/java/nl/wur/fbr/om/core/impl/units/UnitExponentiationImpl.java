@@ -1,13 +1,10 @@
 package nl.wur.fbr.om.core.impl.units;
 
 
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.units.Unit;
 import nl.wur.fbr.om.model.units.UnitExponentiation;
 
-import java.util.Set;
-
 /**
  * A unit that is defined as an exponentiation of another unit.
  * For instance, the unit exponentiation cubic metre (m^3) is the exponentiation (with exponent 3) of the unit
@@ -26,13 +23,16 @@ public class UnitExponentiationImpl extends UnitImpl implements UnitExponentiati
 
     /**
      * Creates a new unit exponentiation with the specified base unit and exponent.
+     * The identifier of the unit is derived from its structure, see {@link UnitStructure#getIdentifier()}.
      * @param base The base unit in the unit exponentiation.
      * @param exponent The exponent in the base exponentiation.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitExponentiationImpl(Unit base, double exponent){
-        super();
+        super(UnitStructure.exponentiation(base, exponent).getIdentifier());
         this.base = base;
         this.exponent = exponent;
+        this.checkUnitDimension();
         String symbol = null;
         String symbol1 = base.getSymbol();
         if(symbol1!=null && symbol1.length()>0){
@@ -56,11 +56,13 @@ public class UnitExponentiationImpl extends UnitImpl implements UnitExponentiati
      * @param symbol The symbol used for the unit.
      * @param base The base unit in the unit exponentiation.
      * @param exponent The exponent in the unit exponentiation.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitExponentiationImpl(String name, String symbol, Unit base, double exponent){
         super(name,symbol);
         this.base = base;
         this.exponent = exponent;
+        this.checkUnitDimension();
         if(symbol==null){
             String symbol1 = base.getSymbol();
             if(symbol1!=null && symbol1.length()>0){
@@ -86,11 +88,13 @@ public class UnitExponentiationImpl extends UnitImpl implements UnitExponentiati
      * @param symbol The symbol used for the unit.
      * @param base The base unit in the unit exponentiation.
      * @param exponent The exponent in the unit exponentiation.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitExponentiationImpl(String identifier, String name, String symbol, Unit base, double exponent){
         super(identifier,name,symbol);
         this.base = base;
         this.exponent = exponent;
+        this.checkUnitDimension();
         if(symbol==null){
             String symbol1 = base.getSymbol();
             if(symbol1!=null && symbol1.length()>0){
@@ -146,19 +150,8 @@ public class UnitExponentiationImpl extends UnitImpl implements UnitExponentiati
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
-        Dimension map = new Dimension();
-        Dimension bmap = base.getUnitDimension();
-        Set<BaseDimension> dims = bmap.getDimensions();
-        for(BaseDimension dim : dims){
-            double exp = bmap.getDimensionalExponent(dim);
-            if(exp*(double)getExponent()!=0){
-                map.setDimensionalExponent(dim,exp*(double)getExponent());
-            }else{
-                map.remove(dim);
-            }
-        }
-        return map;
+    protected Dimension computeUnitDimension() {
+        return base.getUnitDimension().pow(getExponent());
     }
 
     /**
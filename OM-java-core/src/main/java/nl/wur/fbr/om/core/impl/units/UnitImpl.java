@@ -1,13 +1,10 @@
 package nl.wur.fbr.om.core.impl.units;
 
-import javafx.util.Pair;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
+import nl.wur.fbr.om.core.impl.NameTable;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.units.Unit;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -25,14 +22,33 @@ public abstract class UnitImpl implements Unit {
     private String identifier;
 
     /**
-     *  The list of names for this unit, the first name in the list is the preferred name.
-     *  The items in the list are tuples with the value being the name and the key
-     *  the ISO 639 language identifier, or "" if no language was set.
+     * The names (with their ISO 639 language identifiers) and symbols of this unit, the first name is the
+     * preferred name and the first symbol is the preferred symbol. The table is replaced when a name or symbol
+     * is added.
      */
-    private List<Pair<String,String>> names = new ArrayList<>();
+    private volatile NameTable names = NameTable.EMPTY;
 
-    /** The list of symbols for this unit, the first symbol in the list is the preferred symbol. */
-    private List<String> symbols = new ArrayList<>();
+    /**
+     * The generation of unit definitions, which is incremented whenever the definition of a unit is changed after
+     * its creation (see {@link SingularUnitImpl#setDefinitionUnit(Unit)}). Cached normal forms and dimensions
+     * computed in an earlier generation are recomputed.
+     */
+    private static volatile int definitionGeneration = 0;
+
+    /** The cached normal form of this unit, or null if not yet computed. */
+    private volatile UnitNormalForm normalForm = null;
+
+    /** The definition generation in which the cached normal form was computed. */
+    private volatile int normalFormGeneration = -1;
+
+    /** The cached dimension of this unit, or null if not yet computed. */
+    private volatile Dimension dimension = null;
+
+    /** The definition generation in which the cached dimension was computed. */
+    private volatile int dimensionGeneration = -1;
+
+    /** The ordinal of this unit in the factory in which it was registered, or -1 if not registered. */
+    private volatile int ordinal = -1;
 
     /**
      * Creates a new Unit with an UUID identifier.
@@ -57,8 +73,7 @@ public abstract class UnitImpl implements Unit {
     UnitImpl(String name, String symbol) {
         super();
         identifier = UUID.randomUUID().toString();
-        if(name!=null) names.add(new Pair<>("",name));
-        if(symbol!=null) symbols.add(symbol);
+        names = NameTable.EMPTY.withName(name,null).withSymbol(symbol);
     }
 
     /**
@@ -70,8 +85,7 @@ public abstract class UnitImpl implements Unit {
     UnitImpl(String identifier,String name, String symbol) {
         super();
         this.identifier = identifier;
-        if(name!=null) names.add(new Pair<>("",name));
-        if(symbol!=null) symbols.add(symbol);
+        names = NameTable.EMPTY.withName(name,null).withSymbol(symbol);
     }
 
     /**
@@ -92,23 +106,18 @@ public abstract class UnitImpl implements Unit {
      */
     @Override
     public String getName() {
-        if(names.size()<=0) return null;
-        return names.get(0).getValue();
+        return names.getName();
     }
 
     /**
      * Returns alternative names for the object not including the preferred name.
      * If no alternative names exist, an empty list is returned.
      *
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames() {
-        List<String> altnames = new ArrayList<>();
-        for (int i=1;i<names.size();i++){ // start at i=1 to ignore the preferred name.
-            altnames.add(names.get(i).getValue());
-        }
-        return altnames;
+        return names.getAlternativeNames();
     }
 
     /**
@@ -121,12 +130,7 @@ public abstract class UnitImpl implements Unit {
     @Override
     public String getName(String language) {
         if(language==null) return getName();
-        for (int i=0;i<names.size();i++){ // iterate until name with language is found
-            if (names.get(i).getKey().equals(language)){
-                return  names.get(i).getValue();
-            }
-        }
-        return null;
+        return names.getName(language);
     }
 
     /**
@@ -134,21 +138,11 @@ public abstract class UnitImpl implements Unit {
      * If no known alternative names are known an empty list is returned.
      *
      * @param language The language of the requested alternative names.
-     * @return A list of alternative names.
+     * @return An unmodifiable list of alternative names.
      */
     @Override
     public List<String> getAlternativeNames(String language) {
-        boolean found = false;
-        List<String> altnames = new ArrayList<>();
-        for (int i=0;i<names.size();i++){ // iterate over all names
-            if (names.get(i).getKey().equals(language)) { // test for language
-                if(found) { // test whether this name is the first in the correct language, if so ignore
-                    altnames.add(names.get(i).getValue()); // add when correct language
-                }
-                found = true;
-            }
-        }
-        return altnames;
+        return names.getAlternativeNames(language);
     }
 
     /**
@@ -156,11 +150,7 @@ public abstract class UnitImpl implements Unit {
      * @return The languages.
      */
     public List<String> getLanguages() {
-        List<String> languages = new ArrayList<>();
-        for(Pair<String,String> pair : names){
-            languages.add(pair.getKey());
-        }
-        return languages;
+        return names.getLanguages();
     }
 
     /**
@@ -170,10 +160,8 @@ public abstract class UnitImpl implements Unit {
      * @param language The language of the name.
      */
     @Override
-    public void addAlternativeName(String name,String language){
-        if(language==null) language="";
-        Pair<String,String> pair = new Pair(language,name);
-        if(!names.contains(pair)) names.add(pair);
+    public synchronized void addAlternativeName(String name,String language){
+        names = names.withName(name,language);
     }
 
     /**
@@ -184,8 +172,7 @@ public abstract class UnitImpl implements Unit {
      */
     @Override
     public String getSymbol() {
-        if(symbols.size()<=0) return null;
-        return symbols.get(0);
+        return names.getSymbol();
     }
 
     /**
@@ -193,21 +180,19 @@ public abstract class UnitImpl implements Unit {
      * @param symbol The preferred symbol.
      */
     @Override
-    public void setSymbol(String symbol){
-        symbols.add(0,symbol);
+    public synchronized void setSymbol(String symbol){
+        names = names.withPreferredSymbol(symbol);
     }
 
     /**
      * Returns a list of alternative symbols for this object.
      * When no known alternative symbols are known an empty list is returned.
      *
-     * @return A list of alternative symbols.
+     * @return An unmodifiable list of alternative symbols.
      */
     @Override
     public List<String> getAlternativeSymbols() {
-        List<String> altsymbols = new ArrayList<>();
-        if(symbols.size()>1) altsymbols.addAll(symbols.subList(1,symbols.size()));
-        return altsymbols;
+        return names.getAlternativeSymbols();
     }
 
     /**
@@ -215,8 +200,16 @@ public abstract class UnitImpl implements Unit {
      * @param symbol The alternative symbol.
      */
     @Override
-    public void addAlternativeSymbol(String symbol){
-        if(!symbols.contains(symbol)) symbols.add(symbol);
+    public synchronized void addAlternativeSymbol(String symbol){
+        names = names.withSymbol(symbol);
+    }
+
+    /**
+     * Returns the table with the names and symbols of this unit.
+     * @return The table of names and symbols.
+     */
+    public NameTable getNameTable() {
+        return names;
     }
 
     /**
@@ -227,13 +220,87 @@ public abstract class UnitImpl implements Unit {
      */
     @Override
     public boolean isDimensionless() {
-        Dimension dim = this.getUnitDimension();
-        Set<BaseDimension> bdims = dim.getDimensions();
-        for(BaseDimension bdim : bdims){
-            double exponent = dim.getDimensionalExponent(bdim);
-            if(Math.abs(exponent)>0.0000001) return false;
+        return this.getUnitDimension().isDimensionless();
+    }
+
+    /**
+     * Returns the dimension of this unit. The dimension is computed once (see {@link #computeUnitDimension()})
+     * and cached.
+     * @return The dimension of this unit.
+     */
+    @Override
+    public final Dimension getUnitDimension() {
+        int generation = definitionGeneration;
+        if(dimensionGeneration==generation) return dimension;
+        Dimension computed = this.computeUnitDimension();
+        dimension = computed;
+        dimensionGeneration = generation;
+        return computed;
+    }
+
+    /**
+     * Checks that the dimension of this unit can be represented (see {@link Dimension}). Units that combine the
+     * dimensions of other units call this method when they are created, so that a unit with, for instance, a
+     * dimensional exponent of 1/7 is rejected instead of failing later in {@link #getUnitDimension()}.
+     * @throws IllegalArgumentException When the dimension of this unit cannot be represented.
+     */
+    protected final void checkUnitDimension() {
+        try {
+            this.getUnitDimension();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("The dimension of the unit cannot be represented. "+e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Computes the dimension of this unit from its definition.
+     * @return The dimension of this unit.
+     */
+    protected abstract Dimension computeUnitDimension();
+
+    /**
+     * Returns the ordinal of this unit, i.e. the dense index assigned to the unit by the factory in which it was
+     * registered (see {@link nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory#getUnitOrdinal(Unit)}).
+     * If the unit was not registered, -1 is returned.
+     * @return The ordinal of this unit, or -1.
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Sets the ordinal of this unit. This method should only be used by the factory in which the unit is registered
+     * and only when the unit does not yet have an ordinal.
+     * @param ordinal The ordinal of this unit.
+     */
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
+    /**
+     * Returns the canonical normal form of this unit, i.e. the numerical factor and the base units with their
+     * exponents in which this unit is defined. The normal form is computed once and cached.
+     * @return The normal form of this unit.
+     * @throws IllegalArgumentException When the normal form cannot be determined.
+     */
+    public UnitNormalForm getNormalForm() {
+        int generation = definitionGeneration;
+        if(normalFormGeneration==generation) return normalForm;
+        UnitNormalForm form = UnitNormalForm.compute(this);
+        normalForm = form;
+        normalFormGeneration = generation;
+        return form;
+    }
+
+    /**
+     * Invalidates the cached normal forms and dimensions of all units. This method should be called when the
+     * definition of a unit is changed, as this also changes the normal forms and dimensions of the units that are
+     * defined in terms of that unit.
+     */
+    static void invalidateNormalForms() {
+        synchronized (UnitImpl.class) {
+            definitionGeneration++;
         }
-        return true;
     }
 
     /**
@@ -30,11 +30,12 @@ public class UnitMultipleImpl extends UnitImpl implements UnitMultiple {
      * Creates a new unit multiple, based on the specified unit and using the specified
      * multiplication factor. For instance, the custom unit 125 g has a unit of gram, and a multiplication factor
      * of 125.
+     * The identifier of the unit is derived from its structure, see {@link UnitStructure#getIdentifier()}.
      * @param unit The unit on which this unit multiple is based.
      * @param factor The multiplication factor.
      */
     public UnitMultipleImpl(Unit unit, double factor){
-        super();
+        super(UnitStructure.multiple(unit, factor).getIdentifier());
         this.unit = unit;
         this.factor = factor;
         if(unit!=null && unit.getSymbol()!=null){
@@ -141,7 +142,7 @@ public class UnitMultipleImpl extends UnitImpl implements UnitMultiple {
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
+    protected Dimension computeUnitDimension() {
         return unit.getUnitDimension();
     }
 
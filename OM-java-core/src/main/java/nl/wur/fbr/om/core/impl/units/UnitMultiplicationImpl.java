@@ -1,13 +1,10 @@
 package nl.wur.fbr.om.core.impl.units;
 
 
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.units.Unit;
 import nl.wur.fbr.om.model.units.UnitMultiplication;
 
-import java.util.Set;
-
 /**
  * The core implementation for Unit multiplication, which is a compound unit consisting of two base units that are multiplied.
  * For instance, the unit Newton metre (N.m) is a multiplication of Newton (N) and metre (m).
@@ -24,13 +21,16 @@ public class UnitMultiplicationImpl extends UnitImpl implements UnitMultiplicati
 
     /**
      * Creates a new unit multiplication with the two specified units.
+     * The identifier of the unit is derived from its structure, see {@link UnitStructure#getIdentifier()}.
      * @param term1 The first unit term in the unit multiplication.
      * @param term2 The second unit term in the unit multiplication.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitMultiplicationImpl(Unit term1, Unit term2){
-        super();
+        super(UnitStructure.multiplication(term1, term2).getIdentifier());
         this.term1 = term1;
         this.term2 = term2;
+        this.checkUnitDimension();
         String symbol = null;
         String symbol1 = term1.getSymbol();
         String symbol2 = term2.getSymbol();
@@ -52,11 +52,13 @@ public class UnitMultiplicationImpl extends UnitImpl implements UnitMultiplicati
      * @param symbol The symbol used for the unit.
      * @param term1 The first unit term in the unit multiplication.
      * @param term2 The second unit term in the unit multiplication.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitMultiplicationImpl(String name, String symbol, Unit term1, Unit term2){
         super(name,symbol);
         this.term1 = term1;
         this.term2 = term2;
+        this.checkUnitDimension();
         if(symbol==null){
             String symbol1 = term1.getSymbol();
             String symbol2 = term2.getSymbol();
@@ -80,11 +82,13 @@ public class UnitMultiplicationImpl extends UnitImpl implements UnitMultiplicati
      * @param symbol The symbol used for the unit.
      * @param term1 The first unit term in the unit multiplication.
      * @param term2 The second unit term in the unit multiplication.
+     * @throws IllegalArgumentException When the dimension of the unit cannot be represented.
      */
     public UnitMultiplicationImpl(String identifier, String name, String symbol, Unit term1, Unit term2){
         super(identifier,name,symbol);
         this.term1 = term1;
         this.term2 = term2;
+        this.checkUnitDimension();
         if(symbol==null){
             String symbol1 = term1.getSymbol();
             String symbol2 = term2.getSymbol();
@@ -143,26 +147,8 @@ public class UnitMultiplicationImpl extends UnitImpl implements UnitMultiplicati
      * @return The set of dimensions and dimensional exponents.
      */
     @Override
-    public Dimension getUnitDimension() {
-        Dimension map = new Dimension();
-        Dimension map1 = getTerm1().getUnitDimension();
-        Dimension map2 = getTerm2().getUnitDimension();
-        Set<BaseDimension> dims1 = map1.getDimensions();
-        for(BaseDimension dim : dims1){
-            double exp = map1.getDimensionalExponent(dim);
-            map.setDimensionalExponent(dim,exp);
-        }
-        Set<BaseDimension> dims2 = map2.getDimensions();
-        for(BaseDimension dim : dims2){
-            double exp = map2.getDimensionalExponent(dim);
-            double eee = map.getDimensionalExponent(dim);
-            if(eee+exp!=0){
-                map.setDimensionalExponent(dim,eee+exp);
-            }else{
-                map.remove(dim);
-            }
-        }
-        return map;
+    protected Dimension computeUnitDimension() {
+        return getTerm1().getUnitDimension().multiply(getTerm2().getUnitDimension());
     }
 
 
@@ -0,0 +1,440 @@
+package nl.wur.fbr.om.core.impl.units;
+
+import nl.wur.fbr.om.model.units.*;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * The canonical normal form of a unit: a numerical factor and a product of base units, each raised to a rational
+ * exponent. For instance, the normal form of the kilometre per hour is <code>0.2777... m s-1</code>, the normal form
+ * of the newton is <code>1.0 kg m s-2</code>, and the normal form of <code>(m.s)/s</code> is <code>1.0 m</code>.
+ * A unit expressed in the base units is converted into the unit by dividing by the factor of its normal form,
+ * so the conversion factor between two units with the same base units is the ratio of their factors.
+ * <p>
+ * The leaves of the normal form are the units that have no definition in terms of other units: {@link BaseUnit}s
+ * and {@link SingularUnit}s without a definition unit. Base units whose exponents add up to zero are kept in the
+ * normal form with exponent zero. They are ignored when comparing units with a dimension, but they distinguish
+ * dimensionless ratios of different kinds, e.g. <code>m/m</code> from <code>g/g</code>.
+ * </p>
+ * <p>
+ * Normal forms are immutable. The normal form of a {@link UnitImpl} is computed once and cached on the unit, see
+ * {@link UnitImpl#getNormalForm()}. Computing the normal form does not create any unit instances.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class UnitNormalForm {
+
+    /** The largest denominator used when a (double) exponent of a unit exponentiation is turned into a fraction. */
+    private static final int MAXIMUM_DENOMINATOR = 1000;
+
+    /** The normal form of a pure number, i.e. a factor of one without any base units. */
+    private static final UnitNormalForm NUMBER = new UnitNormalForm(1.0, new Unit[0], new String[0], new int[0], new int[0]);
+
+    /** The numerical factor. */
+    private final double factor;
+
+    /** The base units, sorted by their identifiers. */
+    private final Unit[] baseUnits;
+
+    /** The identifiers of the base units. */
+    private final String[] identifiers;
+
+    /** The numerators of the exponents of the base units. */
+    private final int[] numerators;
+
+    /** The (positive) denominators of the exponents of the base units. */
+    private final int[] denominators;
+
+    /** The hash code of the base units and exponents, not including the factor. */
+    private final int baseHash;
+
+    /**
+     * Creates a new normal form. The arrays are not copied and should not be modified afterwards.
+     * @param factor The numerical factor.
+     * @param baseUnits The base units sorted by identifier.
+     * @param identifiers The identifiers of the base units.
+     * @param numerators The numerators of the exponents.
+     * @param denominators The denominators of the exponents.
+     */
+    private UnitNormalForm(double factor, Unit[] baseUnits, String[] identifiers, int[] numerators, int[] denominators){
+        this.factor = factor;
+        this.baseUnits = baseUnits;
+        this.identifiers = identifiers;
+        this.numerators = numerators;
+        this.denominators = denominators;
+        int hash = 1;
+        for(int i=0;i<identifiers.length;i++){
+            if(numerators[i]==0) continue;
+            hash = 31*hash+identifiers[i].hashCode();
+            hash = 31*hash+numerators[i];
+            hash = 31*hash+denominators[i];
+        }
+        this.baseHash = hash;
+    }
+
+    /**
+     * Returns the normal form of the specified unit. For instances of {@link UnitImpl} the cached normal form is
+     * returned, for other units the normal form is computed.
+     * @param unit The unit.
+     * @return The normal form of the unit.
+     * @throws IllegalArgumentException When the unit is of an unknown type, or has an exponent that cannot be
+     * represented as a fraction.
+     */
+    public static UnitNormalForm of(Unit unit){
+        if(unit instanceof UnitImpl) return ((UnitImpl)unit).getNormalForm();
+        return compute(unit);
+    }
+
+    /**
+     * Computes the normal form of the specified unit. The normal forms of the units from which the unit is defined
+     * are retrieved with {@link #of(Unit)}, so cached normal forms of these units are reused.
+     * @param unit The unit.
+     * @return The normal form of the unit.
+     * @throws IllegalArgumentException When the unit is of an unknown type, or has an exponent that cannot be
+     * represented as a fraction.
+     */
+    static UnitNormalForm compute(Unit unit){
+        if(unit instanceof BaseUnit) return leaf(unit);
+        if(unit instanceof SingularUnit){
+            SingularUnit singularUnit = (SingularUnit)unit;
+            if(singularUnit.getDefinitionUnit()==null) return leaf(unit);
+            return of(singularUnit.getDefinitionUnit()).multiply(singularUnit.getDefinitionNumericalValue());
+        }
+        if(unit instanceof UnitMultiple){
+            UnitMultiple unitMultiple = (UnitMultiple)unit;
+            return of(unitMultiple.getUnit()).multiply(unitMultiple.getFactor());
+        }
+        if(unit instanceof UnitDivision){
+            UnitDivision unitDivision = (UnitDivision)unit;
+            return of(unitDivision.getNumerator()).divide(of(unitDivision.getDenominator()));
+        }
+        if(unit instanceof UnitMultiplication){
+            UnitMultiplication unitMultiplication = (UnitMultiplication)unit;
+            return of(unitMultiplication.getTerm1()).multiply(of(unitMultiplication.getTerm2()));
+        }
+        if(unit instanceof UnitExponentiation){
+            UnitExponentiation unitExponentiation = (UnitExponentiation)unit;
+            return of(unitExponentiation.getBase()).pow(unitExponentiation.getExponent());
+        }
+        throw new IllegalArgumentException("Could not determine the normal form of unit "+unit+" of unknown type.");
+    }
+
+    /**
+     * Returns the normal form of a unit that is not defined in terms of other units.
+     * @param unit The unit.
+     * @return The normal form, the unit with exponent 1.
+     */
+    private static UnitNormalForm leaf(Unit unit){
+        return new UnitNormalForm(1.0, new Unit[]{unit}, new String[]{unit.getIdentifier()}, new int[]{1}, new int[]{1});
+    }
+
+    /**
+     * Returns the numerical factor of the normal form. This is the value of one unit expressed in the base units.
+     * @return The factor.
+     */
+    public double getFactor() {
+        return factor;
+    }
+
+    /**
+     * Returns the number of base units in the normal form, including the base units with exponent zero.
+     * @return The number of base units.
+     */
+    public int size() {
+        return baseUnits.length;
+    }
+
+    /**
+     * Returns the base unit at the specified index.
+     * @param index The index.
+     * @return The base unit.
+     */
+    public Unit getBaseUnit(int index) {
+        return baseUnits[index];
+    }
+
+    /**
+     * Returns the exponent of the base unit at the specified index.
+     * @param index The index.
+     * @return The exponent.
+     */
+    public double getExponent(int index) {
+        return (double)numerators[index]/denominators[index];
+    }
+
+    /**
+     * Returns the numerator of the exponent of the base unit at the specified index.
+     * @param index The index.
+     * @return The numerator of the exponent.
+     */
+    public int getExponentNumerator(int index) {
+        return numerators[index];
+    }
+
+    /**
+     * Returns the (positive) denominator of the exponent of the base unit at the specified index.
+     * @param index The index.
+     * @return The denominator of the exponent.
+     */
+    public int getExponentDenominator(int index) {
+        return denominators[index];
+    }
+
+    /**
+     * Returns true when all base units have exponent zero, i.e. when the normal form represents a (dimensionless)
+     * ratio, such as m/m, or a number.
+     * @return True when all exponents are zero.
+     */
+    public boolean isRatio() {
+        for(int numerator : numerators) if(numerator!=0) return false;
+        return true;
+    }
+
+    /**
+     * Returns true when the normal form consists of a single dimensionless base unit with exponent 1, such as the
+     * unit one.
+     * @return True for a single dimensionless base unit.
+     */
+    public boolean isDimensionlessBaseUnit() {
+        return baseUnits.length==1 && numerators[0]==1 && denominators[0]==1 &&
+                baseUnits[0] instanceof BaseUnit && baseUnits[0].isDimensionless();
+    }
+
+    /**
+     * Returns the normal form multiplied by the specified number.
+     * @param number The number.
+     * @return The multiplied normal form.
+     */
+    public UnitNormalForm multiply(double number) {
+        if(number==1.0) return this;
+        return new UnitNormalForm(factor*number, baseUnits, identifiers, numerators, denominators);
+    }
+
+    /**
+     * Returns the product of this normal form and the specified normal form.
+     * @param other The other normal form.
+     * @return The product.
+     */
+    public UnitNormalForm multiply(UnitNormalForm other) {
+        return combine(other, 1);
+    }
+
+    /**
+     * Returns the quotient of this normal form and the specified normal form.
+     * @param other The other normal form (the denominator).
+     * @return The quotient.
+     */
+    public UnitNormalForm divide(UnitNormalForm other) {
+        return combine(other, -1);
+    }
+
+    /**
+     * Returns this normal form raised to the specified power. The exponent is turned into a fraction with a
+     * denominator of at most {@value #MAXIMUM_DENOMINATOR}.
+     * @param exponent The exponent.
+     * @return The normal form raised to the power.
+     * @throws IllegalArgumentException When the exponent cannot be represented as a fraction.
+     */
+    public UnitNormalForm pow(double exponent) {
+        int[] fraction = toFraction(exponent);
+        int[] nums = new int[numerators.length];
+        int[] dens = new int[denominators.length];
+        for(int i=0;i<nums.length;i++){
+            long num = (long)numerators[i]*fraction[0];
+            long den = (long)denominators[i]*fraction[1];
+            long gcd = gcd(Math.abs(num), den);
+            nums[i] = Math.toIntExact(num/gcd);
+            dens[i] = Math.toIntExact(den/gcd);
+        }
+        return new UnitNormalForm(Math.pow(factor, exponent), baseUnits, identifiers, nums, dens);
+    }
+
+    /**
+     * Merges the base units of this and the other normal form, adding the exponents of the other normal form
+     * multiplied by the sign.
+     * @param other The other normal form.
+     * @param sign 1 for multiplication, -1 for division.
+     * @return The combined normal form.
+     */
+    private UnitNormalForm combine(UnitNormalForm other, int sign) {
+        double newFactor = sign>0 ? factor*other.factor : factor/other.factor;
+        int n1 = baseUnits.length;
+        int n2 = other.baseUnits.length;
+        Unit[] units = new Unit[n1+n2];
+        String[] ids = new String[n1+n2];
+        int[] nums = new int[n1+n2];
+        int[] dens = new int[n1+n2];
+        int i=0, j=0, k=0;
+        while(i<n1 || j<n2){
+            int cmp = i>=n1 ? 1 : j>=n2 ? -1 : identifiers[i].compareTo(other.identifiers[j]);
+            if(cmp<0){
+                units[k] = baseUnits[i]; ids[k] = identifiers[i]; nums[k] = numerators[i]; dens[k] = denominators[i];
+                i++;
+            }else if(cmp>0){
+                units[k] = other.baseUnits[j]; ids[k] = other.identifiers[j]; nums[k] = sign*other.numerators[j]; dens[k] = other.denominators[j];
+                j++;
+            }else{
+                long num = (long)numerators[i]*other.denominators[j]+(long)sign*other.numerators[j]*denominators[i];
+                long den = (long)denominators[i]*other.denominators[j];
+                long gcd = num==0 ? den : gcd(Math.abs(num), den);
+                units[k] = baseUnits[i]; ids[k] = identifiers[i];
+                nums[k] = Math.toIntExact(num/gcd); dens[k] = Math.toIntExact(den/gcd);
+                i++; j++;
+            }
+            k++;
+        }
+        if(k<units.length){
+            units = Arrays.copyOf(units, k);
+            ids = Arrays.copyOf(ids, k);
+            nums = Arrays.copyOf(nums, k);
+            dens = Arrays.copyOf(dens, k);
+        }
+        return new UnitNormalForm(newFactor, units, ids, nums, dens);
+    }
+
+    /**
+     * Returns true when this normal form and the specified normal form have the same base units with the same
+     * exponents, ignoring base units with exponent zero. If both normal forms are ratios (see {@link #isRatio()}),
+     * they are compatible when the base units with exponent zero are the same (e.g. m/m and km/m, but not m/m and g/g).
+     * A ratio is also compatible with a single dimensionless base unit, such as the unit one.
+     * Units with compatible normal forms can be converted into each other by the ratio of their factors.
+     * @param other The other normal form.
+     * @return True when the normal forms are compatible.
+     */
+    public boolean isCompatibleWith(UnitNormalForm other) {
+        return isCompatibleWith(other, null);
+    }
+
+    /**
+     * Returns true when this normal form and the specified normal form are compatible (see
+     * {@link #isCompatibleWith(UnitNormalForm)}) when each base unit is replaced by a representative unit.
+     * This can be used to treat base units from different sets of units as the same unit.
+     * @param other The other normal form.
+     * @param representative The function that returns for the identifier of a base unit the identifier of its
+     *                       representative unit, or null if each base unit represents itself.
+     * @return True when the normal forms are compatible.
+     */
+    public boolean isCompatibleWith(UnitNormalForm other, UnaryOperator<String> representative) {
+        boolean ratio1 = this.isRatio();
+        boolean ratio2 = other.isRatio();
+        if(ratio1 && ratio2) return sameTerms(this.mapped(representative, true), other.mapped(representative, true));
+        if(ratio1) return other.isDimensionlessBaseUnit();
+        if(ratio2) return this.isDimensionlessBaseUnit();
+        if(representative==null) return baseHash==other.baseHash && sameTerms(this, other);
+        return sameTerms(this.mapped(representative, false), other.mapped(representative, false));
+    }
+
+    /**
+     * Returns the normal form in which the identifiers are replaced by the identifiers of the representative units.
+     * Terms with the same representative are merged.
+     * @param representative The function that returns the identifier of the representative, or null.
+     * @param keepZero Whether terms with exponent zero are kept (as terms with exponent zero).
+     * @return The mapped normal form.
+     */
+    private UnitNormalForm mapped(UnaryOperator<String> representative, boolean keepZero) {
+        UnitNormalForm result = NUMBER;
+        for(int i=0;i<baseUnits.length;i++){
+            if(!keepZero && numerators[i]==0) continue;
+            String id = representative==null ? identifiers[i] : representative.apply(identifiers[i]);
+            UnitNormalForm term = new UnitNormalForm(1.0, new Unit[]{baseUnits[i]}, new String[]{id},
+                    new int[]{numerators[i]}, new int[]{denominators[i]});
+            result = result.multiply(term);
+        }
+        return result;
+    }
+
+    /**
+     * Compares the terms of two normal forms, ignoring terms with exponent zero unless both consist only of
+     * terms with exponent zero.
+     * @param form1 The first normal form.
+     * @param form2 The second normal form.
+     * @return True when the terms are the same.
+     */
+    private static boolean sameTerms(UnitNormalForm form1, UnitNormalForm form2) {
+        boolean ratio = form1.isRatio() && form2.isRatio();
+        int i=0, j=0;
+        int n1 = form1.baseUnits.length, n2 = form2.baseUnits.length;
+        while(true){
+            if(!ratio){
+                while(i<n1 && form1.numerators[i]==0) i++;
+                while(j<n2 && form2.numerators[j]==0) j++;
+            }
+            if(i>=n1 || j>=n2) return i>=n1 && j>=n2;
+            if(!form1.identifiers[i].equals(form2.identifiers[j])) return false;
+            if(form1.numerators[i]!=form2.numerators[j] || form1.denominators[i]!=form2.denominators[j]) return false;
+            i++; j++;
+        }
+    }
+
+    /**
+     * Turns the exponent into a fraction using continued fractions.
+     * @param exponent The exponent.
+     * @return The numerator and the (positive) denominator.
+     * @throws IllegalArgumentException When the exponent cannot be represented as a fraction with a denominator
+     * of at most {@value #MAXIMUM_DENOMINATOR}.
+     */
+    private static int[] toFraction(double exponent) {
+        if(exponent==Math.rint(exponent) && Math.abs(exponent)<Integer.MAX_VALUE) return new int[]{(int)exponent, 1};
+        double x = Math.abs(exponent);
+        long h0 = 1, h1 = 0, k0 = 0, k1 = 1;
+        double rest = x;
+        for(int n=0;n<32;n++){
+            long a = (long)Math.floor(rest);
+            long h = a*h0+h1, k = a*k0+k1;
+            if(k>MAXIMUM_DENOMINATOR) break;
+            h1 = h0; h0 = h; k1 = k0; k0 = k;
+            if(Math.abs(x-(double)h/k)<1e-9){
+                return new int[]{Math.toIntExact(exponent<0 ? -h : h), (int)k};
+            }
+            rest = 1.0/(rest-a);
+        }
+        throw new IllegalArgumentException("The exponent "+exponent+" cannot be represented as a fraction.");
+    }
+
+    /**
+     * Returns the greatest common divisor of two non-negative numbers.
+     * @param a The first number.
+     * @param b The second number.
+     * @return The greatest common divisor.
+     */
+    private static long gcd(long a, long b) {
+        while(b!=0){
+            long t = a%b;
+            a = b;
+            b = t;
+        }
+        return a==0 ? 1 : a;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this==object) return true;
+        if(!(object instanceof UnitNormalForm)) return false;
+        UnitNormalForm other = (UnitNormalForm)object;
+        return factor==other.factor && Arrays.equals(identifiers, other.identifiers) &&
+                Arrays.equals(numerators, other.numerators) && Arrays.equals(denominators, other.denominators);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31*baseHash+Double.hashCode(factor);
+    }
+
+    /**
+     * Returns a string representation of the normal form, e.g. <code>1000.0 m s-1</code>.
+     * @return The string representation.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(factor);
+        for(int i=0;i<baseUnits.length;i++){
+            builder.append(' ').append(baseUnits[i]);
+            if(denominators[i]!=1) builder.append('^').append(numerators[i]).append('/').append(denominators[i]);
+            else if(numerators[i]!=1) builder.append(numerators[i]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package nl.wur.fbr.om.core.impl.units;
+
+import nl.wur.fbr.om.model.units.*;
+
+/**
+ * The structure of a compound unit: the operation (multiplication, division, exponentiation or multiple) and the
+ * identities of the units to which it is applied, with the exponent or factor. Two compound units with the same
+ * structure represent the same unit, for instance all multiplications of the metre and the second. The structure
+ * is used as key to intern compound units, so that each compound unit is only created once, see
+ * {@link nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory}.
+ * <p>
+ * Unit multiplication is commutative, so the structure of <code>m.s</code> is the same as that of <code>s.m</code>.
+ * The structure also provides a deterministic identifier for compound units that are created without an identifier,
+ * which is the same each time the same compound unit is created.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public final class UnitStructure {
+
+    /** The operator of a unit multiplication. */
+    private static final char MULTIPLICATION = '*';
+
+    /** The operator of a unit division. */
+    private static final char DIVISION = '/';
+
+    /** The operator of a unit exponentiation. */
+    private static final char EXPONENTIATION = '^';
+
+    /** The operator of a unit multiple. */
+    private static final char MULTIPLE = '#';
+
+    /** The operator. */
+    private final char operator;
+
+    /** The identifier of the first operand. */
+    private final String operand1;
+
+    /** The identifier of the second operand, or null for exponentiations and multiples. */
+    private final String operand2;
+
+    /** The exponent or factor, zero for multiplications and divisions. */
+    private final double number;
+
+    /** The hash code. */
+    private final int hash;
+
+    /**
+     * Creates a new structure.
+     * @param operator The operator.
+     * @param operand1 The identifier of the first operand.
+     * @param operand2 The identifier of the second operand, or null.
+     * @param number The exponent or factor.
+     */
+    private UnitStructure(char operator, String operand1, String operand2, double number){
+        this.operator = operator;
+        this.operand1 = operand1;
+        this.operand2 = operand2;
+        this.number = number==0.0 ? 0.0 : number; // -0.0 and 0.0 are the same exponent or factor.
+        int h = 31*operator+operand1.hashCode();
+        h = 31*h+(operand2==null ? 0 : operand2.hashCode());
+        this.hash = 31*h+Double.hashCode(this.number);
+    }
+
+    /**
+     * Returns the structure of the multiplication of the two units.
+     * @param term1 The first unit.
+     * @param term2 The second unit.
+     * @return The structure.
+     */
+    public static UnitStructure multiplication(Unit term1, Unit term2){
+        String identifier1 = identifierOf(term1);
+        String identifier2 = identifierOf(term2);
+        if(identifier1.compareTo(identifier2)>0) return new UnitStructure(MULTIPLICATION, identifier2, identifier1, 0.0);
+        return new UnitStructure(MULTIPLICATION, identifier1, identifier2, 0.0);
+    }
+
+    /**
+     * Returns the structure of the division of the two units.
+     * @param numerator The numerator unit.
+     * @param denominator The denominator unit.
+     * @return The structure.
+     */
+    public static UnitStructure division(Unit numerator, Unit denominator){
+        return new UnitStructure(DIVISION, identifierOf(numerator), identifierOf(denominator), 0.0);
+    }
+
+    /**
+     * Returns the structure of the exponentiation of the unit.
+     * @param base The base unit.
+     * @param exponent The exponent.
+     * @return The structure.
+     */
+    public static UnitStructure exponentiation(Unit base, double exponent){
+        return new UnitStructure(EXPONENTIATION, identifierOf(base), null, exponent);
+    }
+
+    /**
+     * Returns the structure of the multiple of the unit.
+     * @param unit The unit.
+     * @param factor The factor.
+     * @return The structure.
+     */
+    public static UnitStructure multiple(Unit unit, double factor){
+        return new UnitStructure(MULTIPLE, identifierOf(unit), null, factor);
+    }
+
+    /**
+     * Returns the identifier of the operand, or <code>"null"</code> when the operand is null.
+     * @param operand The operand.
+     * @return The identifier.
+     */
+    private static String identifierOf(Unit operand){
+        return operand==null ? "null" : operand.getIdentifier();
+    }
+
+    /**
+     * Returns the structure of the specified unit, or null if the unit is not a compound unit, i.e. not a
+     * unit multiplication, division, exponentiation or multiple (including prefixed units).
+     * @param unit The unit.
+     * @return The structure, or null.
+     */
+    public static UnitStructure of(Unit unit){
+        if(unit instanceof UnitMultiplication){
+            UnitMultiplication multiplication = (UnitMultiplication)unit;
+            if(multiplication.getTerm1()==null || multiplication.getTerm2()==null) return null;
+            return multiplication(multiplication.getTerm1(), multiplication.getTerm2());
+        }
+        if(unit instanceof UnitDivision){
+            UnitDivision division = (UnitDivision)unit;
+            if(division.getNumerator()==null || division.getDenominator()==null) return null;
+            return division(division.getNumerator(), division.getDenominator());
+        }
+        if(unit instanceof UnitExponentiation){
+            UnitExponentiation exponentiation = (UnitExponentiation)unit;
+            if(exponentiation.getBase()==null) return null;
+            return exponentiation(exponentiation.getBase(), exponentiation.getExponent());
+        }
+        if(unit instanceof UnitMultiple){
+            UnitMultiple multiple = (UnitMultiple)unit;
+            if(multiple.getUnit()==null) return null;
+            return multiple(multiple.getUnit(), multiple.getFactor());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the deterministic identifier for a compound unit with this structure, e.g.
+     * <code>(a)*(b)</code> for the multiplication of the units with identifiers <code>a</code> and <code>b</code>,
+     * <code>(a)^2.0</code> for the square of unit <code>a</code>, and <code>1000.0#(a)</code> for the multiple
+     * of unit <code>a</code> by a factor of 1000.
+     * @return The identifier.
+     */
+    public String getIdentifier() {
+        switch (operator){
+            case MULTIPLICATION:
+            case DIVISION:
+                return "("+operand1+")"+operator+"("+operand2+")";
+            case EXPONENTIATION:
+                return "("+operand1+")"+operator+number;
+            default:
+                return number+"#("+operand1+")";
+        }
+    }
+
+    @Override
+    public boolean equals(Object object){
+        if(this==object) return true;
+        if(!(object instanceof UnitStructure)) return false;
+        UnitStructure other = (UnitStructure)object;
+        return hash==other.hash && operator==other.operator && number==other.number &&
+                operand1.equals(other.operand1) &&
+                (operand2==null ? other.operand2==null : operand2.equals(other.operand2));
+    }
+
+    @Override
+    public int hashCode(){
+        return hash;
+    }
+
+    @Override
+    public String toString(){
+        return this.getIdentifier();
+    }
+}
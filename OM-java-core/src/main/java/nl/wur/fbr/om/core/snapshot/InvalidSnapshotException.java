@@ -0,0 +1,21 @@
+package nl.wur.fbr.om.core.snapshot;
+
+import java.io.IOException;
+
+/**
+ * This exception is thrown when a snapshot of units and scales cannot be used, because it is not a snapshot, it was
+ * written in a different version of the snapshot format or for a different source of units and scales (i.e. it is
+ * stale), or because it is corrupt. The snapshot should then be written again from its source.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class InvalidSnapshotException extends IOException {
+
+    /**
+     * Creates a new exception with the specified message.
+     * @param message The message.
+     */
+    public InvalidSnapshotException(String message) {
+        super(message);
+    }
+}
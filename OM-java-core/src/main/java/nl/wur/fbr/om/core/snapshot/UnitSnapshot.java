@@ -0,0 +1,625 @@
+package nl.wur.fbr.om.core.snapshot;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.core.impl.points.PointImpl;
+import nl.wur.fbr.om.factory.UnitAndScaleFactory;
+import nl.wur.fbr.om.model.NamedObject;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
+import nl.wur.fbr.om.model.scales.Scale;
+import nl.wur.fbr.om.model.units.SingularUnit;
+import nl.wur.fbr.om.model.units.Unit;
+import nl.wur.fbr.om.prefixes.BinaryPrefix;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+import nl.wur.fbr.om.prefixes.JEDECBinaryPrefix;
+import nl.wur.fbr.om.prefixes.Prefix;
+import org.apache.commons.lang3.Range;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+/**
+ * A binary snapshot of a set of units and scales, which can be loaded into a factory much faster than creating the
+ * units and scales from generated code or from an ontology.
+ * <p>
+ * A snapshot is written from a set of units and scales ({@link #write(UnitAndScaleSet, String, Path)}) or from all
+ * units and scales in a factory ({@link #write(DefaultUnitAndScaleFactory, String, Path)}). It contains a table of
+ * strings (identifiers, names, symbols and languages), a fixed size record for each unit (with its type, the
+ * records of its definition units, its factor or exponent, its prefix or base dimension, and its dimension) and for
+ * each scale (with its definition scale, unit, offset, factor and definition points), and a hash table of the
+ * identifiers. The records are ordered so that the units and scales on which a unit or scale depends come first.
+ * </p>
+ * <p>
+ * A snapshot is opened ({@link #open(Path, String)}) by mapping its file in memory. The snapshot is rejected with an
+ * {@link InvalidSnapshotException} when it was written in another version of the format, when it was written for a
+ * different source of units and scales, or when its checksum does not match its contents. The snapshot is a
+ * {@link UnitAndScaleSet}, which can be added to a factory with
+ * {@link UnitAndScaleFactory#addUnitAndScaleSet(UnitAndScaleSet, boolean)}. When added, all units and scales are
+ * created in a single pass through the records with the create methods of the factory. When added lazily, only the
+ * records of the units and scales that are requested (and the records on which they depend) are read.
+ * </p>
+ * <p>
+ * A snapshot can be added to one factory only. Snapshots can hold the unit and scale types created by the factories,
+ * with the decimal and binary prefixes, the SI base dimensions, and scalar or range definition points.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitSnapshot extends UnitAndScaleSet {
+
+    /** The magic number with which a snapshot file starts ("OMSN"). */
+    static final int MAGIC = 0x4F4D534E;
+
+    /** The version of the snapshot format, which should be incremented whenever the format changes. */
+    static final int FORMAT_VERSION = 1;
+
+    /** The offset of the checksum in the header. */
+    static final int CHECKSUM_OFFSET = 8;
+
+    /** The size of the header in bytes. */
+    static final int HEADER_SIZE = 64;
+
+    /** The size of a unit record in bytes. */
+    static final int UNIT_RECORD_SIZE = 48;
+
+    /** The size of a scale record in bytes. */
+    static final int SCALE_RECORD_SIZE = 48;
+
+    /** The size of a definition point record in bytes. */
+    static final int POINT_RECORD_SIZE = 24;
+
+    /** The size of a name entry in bytes. */
+    static final int NAME_ENTRY_SIZE = 8;
+
+    /** The type of a base unit record. */
+    static final byte BASE_UNIT = 1;
+
+    /** The type of a prefixed base unit record. */
+    static final byte PREFIXED_BASE_UNIT = 2;
+
+    /** The type of a singular unit record. */
+    static final byte SINGULAR_UNIT = 3;
+
+    /** The type of a prefixed unit record. */
+    static final byte PREFIXED_UNIT = 4;
+
+    /** The type of a unit multiple record. */
+    static final byte UNIT_MULTIPLE = 5;
+
+    /** The type of a unit multiplication record. */
+    static final byte UNIT_MULTIPLICATION = 6;
+
+    /** The type of a unit division record. */
+    static final byte UNIT_DIVISION = 7;
+
+    /** The type of a unit exponentiation record. */
+    static final byte UNIT_EXPONENTIATION = 8;
+
+    /** The code of decimal prefixes. */
+    static final byte DECIMAL_PREFIX = 1;
+
+    /** The code of binary prefixes. */
+    static final byte BINARY_PREFIX = 2;
+
+    /** The code of JEDEC binary prefixes. */
+    static final byte JEDEC_BINARY_PREFIX = 3;
+
+    /** The type of a definition point with a scalar value. */
+    static final int POINT_SCALAR = 0;
+
+    /** The type of a definition point with a range of values. */
+    static final int POINT_RANGE = 1;
+
+    /** The contents of the snapshot file. */
+    private final ByteBuffer buffer;
+
+    /** The source of the units and scales in this snapshot. */
+    private final String source;
+
+    /** The number of units in this snapshot. */
+    private final int numberOfUnits;
+
+    /** The number of scales in this snapshot. */
+    private final int numberOfScales;
+
+    /** The record index of the unit one, or -1. */
+    private final int oneRecord;
+
+    /** The record index of the unit radian, or -1. */
+    private final int radianRecord;
+
+    /** The number of slots in the hash table of identifiers. */
+    private final int hashCapacity;
+
+    /** The offset of the offsets of the strings in the string table. */
+    private final int stringOffsetsOffset;
+
+    /** The offset of the unit records. */
+    private final int unitsOffset;
+
+    /** The offset of the scale records. */
+    private final int scalesOffset;
+
+    /** The offset of the definition point records. */
+    private final int pointsOffset;
+
+    /** The offset of the name entries. */
+    private final int namesOffset;
+
+    /** The offset of the slots of the hash table of identifiers. */
+    private final int hashOffset;
+
+    /** The offset of the string data. */
+    private final int stringDataOffset;
+
+    /** The strings that have been decoded, by index. */
+    private final String[] strings;
+
+    /** The units and scales that have been created, by record index. */
+    private final Object[] created;
+
+    /** The factory with which the units and scales are created, or null when this snapshot was not yet added. */
+    private UnitAndScaleFactory factory = null;
+
+    /**
+     * Creates a snapshot from the contents of a snapshot file, after validating the contents.
+     * @param buffer The contents.
+     * @param source The expected source of the units and scales.
+     * @throws InvalidSnapshotException When the contents are not a valid snapshot of the source.
+     */
+    private UnitSnapshot(ByteBuffer buffer, String source) throws InvalidSnapshotException {
+        this.buffer = buffer;
+        if(buffer.capacity()<HEADER_SIZE || buffer.getInt(0)!=MAGIC)
+            throw new InvalidSnapshotException("The file is not a snapshot of units and scales.");
+        if(buffer.getInt(4)!=FORMAT_VERSION)
+            throw new InvalidSnapshotException("The snapshot was written in version "+buffer.getInt(4)+
+                    " of the snapshot format instead of version "+FORMAT_VERSION+".");
+        int numberOfStrings = buffer.getInt(24);
+        numberOfUnits = buffer.getInt(28);
+        numberOfScales = buffer.getInt(32);
+        int numberOfPoints = buffer.getInt(36);
+        int numberOfNameEntries = buffer.getInt(40);
+        hashCapacity = buffer.getInt(44);
+        int stringDataLength = buffer.getInt(48);
+        oneRecord = buffer.getInt(16);
+        radianRecord = buffer.getInt(20);
+        stringOffsetsOffset = HEADER_SIZE;
+        unitsOffset = stringOffsetsOffset + 4*(numberOfStrings+1);
+        scalesOffset = unitsOffset + numberOfUnits*UNIT_RECORD_SIZE;
+        pointsOffset = scalesOffset + numberOfScales*SCALE_RECORD_SIZE;
+        namesOffset = pointsOffset + numberOfPoints*POINT_RECORD_SIZE;
+        hashOffset = namesOffset + numberOfNameEntries*NAME_ENTRY_SIZE;
+        stringDataOffset = hashOffset + 4*hashCapacity;
+        if(numberOfStrings<0 || numberOfUnits<0 || numberOfScales<0 || numberOfPoints<0 || numberOfNameEntries<0 ||
+                hashCapacity!=hashCapacity(numberOfUnits+numberOfScales) ||
+                (long)stringDataOffset+stringDataLength!=buffer.capacity())
+            throw new InvalidSnapshotException("The snapshot is truncated or corrupt.");
+
+        CRC32 checksum = new CRC32();
+        ByteBuffer payload = buffer.duplicate();
+        payload.position(HEADER_SIZE);
+        checksum.update(payload);
+        if((int)checksum.getValue()!=buffer.getInt(CHECKSUM_OFFSET))
+            throw new InvalidSnapshotException("The checksum of the snapshot does not match its contents.");
+
+        strings = new String[numberOfStrings];
+        this.source = this.string(buffer.getInt(12));
+        if(source!=null && !source.equals(this.source))
+            throw new InvalidSnapshotException("The snapshot was written for '"+this.source+"' instead of '"+source+"'.");
+        created = new Object[numberOfUnits+numberOfScales];
+    }
+
+    /**
+     * Opens the snapshot in the file at the specified path, by mapping the file in memory. The snapshot is validated
+     * before it is returned. The source is a label of the set of units and scales from which the snapshot was
+     * written (see {@link #write(UnitAndScaleSet, String, Path)}), such as the name and version of the set. When the
+     * snapshot was written for another source, it is stale and is rejected.
+     * @param path The path of the snapshot file.
+     * @param source The source of the units and scales that is expected, or null when any source is accepted.
+     * @return The snapshot.
+     * @throws InvalidSnapshotException When the file is not a valid snapshot or when it was written for a different
+     * version of the format or a different source.
+     * @throws IOException When the file could not be read.
+     */
+    public static UnitSnapshot open(Path path, String source) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size()>Integer.MAX_VALUE) throw new InvalidSnapshotException("The file is too large to be a snapshot.");
+            return new UnitSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), source);
+        }
+    }
+
+    /**
+     * Writes a snapshot of all units and scales in the set to the file at the specified path, replacing the file
+     * when it exists. The units and scales on which the units and scales in the set depend are also written.
+     * @param set The set of units and scales, which should have been added to a factory.
+     * @param source The source of the units and scales, which should change whenever the units and scales change,
+     *               for instance the name and version of the set.
+     * @param path The path of the snapshot file.
+     * @throws IOException When the snapshot could not be written.
+     * @throws IllegalArgumentException When a unit or scale cannot be written in a snapshot.
+     */
+    public static void write(UnitAndScaleSet set, String source, Path path) throws IOException {
+        write(set.getAllUnits(), set.getAllScales(), set.getOne(), set.getRadianUnit(), source, path);
+    }
+
+    /**
+     * Writes a snapshot of all units and scales in the factory to the file at the specified path, replacing the file
+     * when it exists. The snapshot does not contain the units one and radian (see {@link #getOne()}). Units and
+     * scales that are created by other threads while the snapshot is written may be left out.
+     * @param factory The factory.
+     * @param source The source of the units and scales, which should change whenever the units and scales change.
+     * @param path The path of the snapshot file.
+     * @throws IOException When the snapshot could not be written.
+     * @throws IllegalArgumentException When a unit or scale cannot be written in a snapshot.
+     */
+    public static void write(DefaultUnitAndScaleFactory factory, String source, Path path) throws IOException {
+        List<Scale> scales = factory.getScales();
+        write(new ArrayList<>(factory.getUnitsByOrdinal()), scales, null, null, source, path);
+    }
+
+    /**
+     * Writes a snapshot of the units and scales to the file at the specified path, replacing the file when it exists.
+     * The units and scales on which the units and scales depend are also written.
+     * @param units The units.
+     * @param scales The scales.
+     * @param one The unit one, or null.
+     * @param radian The unit radian, or null.
+     * @param source The source of the units and scales, which should change whenever the units and scales change.
+     * @param path The path of the snapshot file.
+     * @throws IOException When the snapshot could not be written.
+     * @throws IllegalArgumentException When a unit or scale cannot be written in a snapshot.
+     */
+    public static void write(Collection<? extends Unit> units, Collection<? extends Scale> scales, Unit one,
+                             Unit radian, String source, Path path) throws IOException {
+        new UnitSnapshotWriter().write(units, scales, one, radian, source, path);
+    }
+
+    /**
+     * Returns the source of the units and scales in this snapshot.
+     * @return The source.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the number of units in this snapshot.
+     * @return The number of units.
+     */
+    public int getNumberOfUnits() {
+        return numberOfUnits;
+    }
+
+    /**
+     * Returns the number of scales in this snapshot.
+     * @return The number of scales.
+     */
+    public int getNumberOfScales() {
+        return numberOfScales;
+    }
+
+    /**
+     * Returns the dimension of the unit with the specified identifier as stored in the snapshot, without creating
+     * the unit.
+     * @param identifier The identifier of the unit.
+     * @return The dimension, or null when the snapshot does not contain a unit with the identifier.
+     */
+    public Dimension getUnitDimension(String identifier) {
+        int record = this.findRecord(identifier);
+        if(record<0 || record>=numberOfUnits) return null;
+        int offset = unitsOffset + record*UNIT_RECORD_SIZE + 32;
+        Dimension dimension = Dimension.DIMENSIONLESS;
+        for(SIBaseDimension baseDimension : SIBaseDimension.values()){
+            short numerator = buffer.getShort(offset + 2*baseDimension.ordinal());
+            if(numerator!=0) dimension = dimension.withDimensionalExponent(baseDimension,
+                    (double) numerator/Dimension.EXPONENT_DENOMINATOR);
+        }
+        return dimension;
+    }
+
+    /**
+     * Creates all units and scales in this snapshot with the specified factory, in a single pass through the records.
+     *
+     * @param factory The factory used to create the units and scales.
+     */
+    @Override
+    public synchronized void initialize(UnitAndScaleFactory factory) {
+        this.setFactory(factory);
+        for(int record=0;record<created.length;record++){
+            this.get(record);
+        }
+    }
+
+    /**
+     * Prepares this snapshot for the lazy creation of its units and scales with the specified factory.
+     *
+     * @param factory The factory used to create the units and scales.
+     */
+    @Override
+    public synchronized void initializeLazily(UnitAndScaleFactory factory) {
+        this.setFactory(factory);
+    }
+
+    /**
+     * Returns the unit or scale with the specified identifier, which is created when it was not created before.
+     *
+     * @param identifier The identifier of the unit or scale.
+     * @return The unit or scale, or null when the snapshot does not contain it or was not added to a factory.
+     */
+    @Override
+    public synchronized Object getUnitOrScale(String identifier) {
+        int record = this.findRecord(identifier);
+        return record<0 ? null : this.get(record);
+    }
+
+    /**
+     * Returns all units in this snapshot, which are created when they were not created before.
+     *
+     * @return The units.
+     */
+    @Override
+    public synchronized Set<Unit> getAllUnits() {
+        Set<Unit> units = new HashSet<>();
+        for(int record=0;record<numberOfUnits;record++){
+            Unit unit = (Unit) this.get(record);
+            if(unit!=null) units.add(unit);
+        }
+        return units;
+    }
+
+    /**
+     * Returns all scales in this snapshot, which are created when they were not created before.
+     *
+     * @return The scales.
+     */
+    @Override
+    public synchronized Set<Scale> getAllScales() {
+        Set<Scale> scales = new HashSet<>();
+        for(int record=numberOfUnits;record<created.length;record++){
+            Scale scale = (Scale) this.get(record);
+            if(scale!=null) scales.add(scale);
+        }
+        return scales;
+    }
+
+    /**
+     * Returns the unit one, or null when the snapshot does not contain it.
+     *
+     * @return The unit one.
+     */
+    @Override
+    public synchronized Unit getOne() {
+        return oneRecord<0 ? null : (Unit) this.get(oneRecord);
+    }
+
+    /**
+     * Returns the unit radian, or null when the snapshot does not contain it.
+     *
+     * @return The unit radian.
+     */
+    @Override
+    public synchronized Unit getRadianUnit() {
+        return radianRecord<0 ? null : (Unit) this.get(radianRecord);
+    }
+
+    /**
+     * Sets the factory with which the units and scales are created.
+     * @param factory The factory.
+     */
+    private void setFactory(UnitAndScaleFactory factory) {
+        if(this.factory!=null && this.factory!=factory)
+            throw new IllegalStateException("The snapshot was already added to another factory.");
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the unit or scale in the record with the specified index, which is created when it was not created
+     * before. Should only be called while holding the lock of this snapshot.
+     * @param record The record index.
+     * @return The unit or scale, or null when this snapshot was not added to a factory.
+     */
+    private Object get(int record) {
+        if(record<0) return null;
+        Object unitOrScale = created[record];
+        if(unitOrScale!=null || factory==null) return unitOrScale;
+        if(record<numberOfUnits) return this.createUnit(record);
+        return this.createScale(record-numberOfUnits);
+    }
+
+    /**
+     * Creates the unit in the record with the specified index.
+     * @param record The record index.
+     * @return The unit.
+     */
+    private Unit createUnit(int record) {
+        int offset = unitsOffset + record*UNIT_RECORD_SIZE;
+        byte kind = buffer.get(offset);
+        String identifier = this.string(buffer.getInt(offset+4));
+        int reference1 = buffer.getInt(offset+16);
+        int reference2 = buffer.getInt(offset+20);
+        double value = buffer.getDouble(offset+24);
+        Unit unit;
+        switch (kind) {
+            case BASE_UNIT:
+                unit = factory.createBaseUnit(identifier, null, null, dimension(buffer.get(offset+3)));
+                break;
+            case PREFIXED_BASE_UNIT:
+                unit = factory.createPrefixedBaseUnit(identifier, null, null, dimension(buffer.get(offset+3)),
+                        (SingularUnit) this.get(reference1), prefix(buffer.get(offset+1), buffer.get(offset+2)));
+                break;
+            case SINGULAR_UNIT:
+                if(reference1<0) unit = factory.createSingularUnit(identifier, null, (String) null);
+                else unit = factory.createSingularUnit(identifier, null, null, (Unit) this.get(reference1), value);
+                break;
+            case PREFIXED_UNIT:
+                unit = factory.createPrefixedUnit(identifier, null, null, (SingularUnit) this.get(reference1),
+                        prefix(buffer.get(offset+1), buffer.get(offset+2)));
+                break;
+            case UNIT_MULTIPLE:
+                unit = factory.createUnitMultiple(identifier, null, null, (Unit) this.get(reference1), value);
+                break;
+            case UNIT_MULTIPLICATION:
+                unit = factory.createUnitMultiplication(identifier, null, null, (Unit) this.get(reference1),
+                        (Unit) this.get(reference2));
+                break;
+            case UNIT_DIVISION:
+                unit = factory.createUnitDivision(identifier, null, null, (Unit) this.get(reference1),
+                        (Unit) this.get(reference2));
+                break;
+            case UNIT_EXPONENTIATION:
+                unit = factory.createUnitExponentiation(identifier, null, null, (Unit) this.get(reference1), value);
+                break;
+            default:
+                throw new IllegalStateException("The snapshot contains a unit of unknown type "+kind+".");
+        }
+        this.addNames(unit, offset+8);
+        created[record] = unit;
+        // A singular unit (e.g. gram) that is defined by the prefixed base unit that prefixes it (e.g. kilogram) only
+        // gets its definition when the base unit is created.
+        if(kind==SINGULAR_UNIT && reference2>=0) this.get(reference2);
+        return unit;
+    }
+
+    /**
+     * Creates the scale with the specified index.
+     * @param index The index of the scale.
+     * @return The scale.
+     */
+    private Scale createScale(int index) {
+        int offset = scalesOffset + index*SCALE_RECORD_SIZE;
+        String identifier = this.string(buffer.getInt(offset));
+        int definitionScale = buffer.getInt(offset+12);
+        Unit unit = (Unit) this.get(buffer.getInt(offset+16));
+        Scale scale;
+        if(definitionScale<0) scale = factory.createScale(identifier, null, null, unit);
+        else scale = factory.createScale(identifier, null, null, (Scale) this.get(numberOfUnits+definitionScale),
+                buffer.getDouble(offset+20), buffer.getDouble(offset+28), unit);
+        this.addNames(scale, offset+4);
+        int firstPoint = buffer.getInt(offset+36);
+        int numberOfPoints = buffer.getInt(offset+40);
+        for(int i=0;i<numberOfPoints;i++){
+            int pointOffset = pointsOffset + (firstPoint+i)*POINT_RECORD_SIZE;
+            double value = buffer.getDouble(pointOffset+8);
+            if(buffer.getInt(pointOffset)==POINT_RANGE){
+                scale.addDefinitionPoint(new PointImpl(Range.between(value, buffer.getDouble(pointOffset+16)), scale));
+            }else{
+                scale.addDefinitionPoint(new PointImpl(value, scale));
+            }
+        }
+        created[numberOfUnits+index] = scale;
+        return scale;
+    }
+
+    /**
+     * Adds the names and symbols of the unit or scale, of which the first name entry, the number of names and the
+     * number of symbols are at the specified offset in its record.
+     * @param object The unit or scale.
+     * @param offset The offset of the names in the record.
+     */
+    private void addNames(NamedObject object, int offset) {
+        int first = buffer.getInt(offset);
+        int numberOfNames = buffer.getShort(offset+4);
+        int numberOfSymbols = buffer.getShort(offset+6);
+        for(int i=0;i<numberOfNames+numberOfSymbols;i++){
+            int entryOffset = namesOffset + (first+i)*NAME_ENTRY_SIZE;
+            String value = this.string(buffer.getInt(entryOffset+4));
+            if(i<numberOfNames) object.addAlternativeName(value, this.string(buffer.getInt(entryOffset)));
+            else object.addAlternativeSymbol(value);
+        }
+    }
+
+    /**
+     * Returns the record index of the unit or scale with the specified identifier.
+     * @param identifier The identifier.
+     * @return The record index, or -1 when the snapshot does not contain the identifier.
+     */
+    private int findRecord(String identifier) {
+        if(identifier==null) return -1;
+        int mask = hashCapacity-1;
+        for(int slot = hash(identifier) & mask;;slot = (slot+1) & mask){
+            int record = buffer.getInt(hashOffset + 4*slot)-1;
+            if(record<0) return -1;
+            int identifierOffset = record<numberOfUnits ? unitsOffset + record*UNIT_RECORD_SIZE + 4
+                    : scalesOffset + (record-numberOfUnits)*SCALE_RECORD_SIZE;
+            if(identifier.equals(this.string(buffer.getInt(identifierOffset)))) return record;
+        }
+    }
+
+    /**
+     * Returns the string with the specified index in the string table, which is decoded when it is first used.
+     * @param index The index of the string.
+     * @return The string, or null if the index is -1.
+     */
+    private String string(int index) {
+        if(index<0) return null;
+        String string = strings[index];
+        if(string==null){
+            int start = buffer.getInt(stringOffsetsOffset + 4*index);
+            int end = buffer.getInt(stringOffsetsOffset + 4*index + 4);
+            byte[] bytes = new byte[end-start];
+            ByteBuffer data = buffer.duplicate();
+            data.position(stringDataOffset+start);
+            data.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[index] = string;
+        }
+        return string;
+    }
+
+    /**
+     * Returns the SI base dimension with the specified ordinal.
+     * @param ordinal The ordinal.
+     * @return The base dimension, or null if the ordinal is -1.
+     */
+    private static SIBaseDimension dimension(byte ordinal) {
+        return ordinal<0 ? null : SIBaseDimension.values()[ordinal];
+    }
+
+    /**
+     * Returns the prefix with the specified type code and ordinal.
+     * @param kind The code of the type of prefix.
+     * @param ordinal The ordinal of the prefix.
+     * @return The prefix.
+     */
+    private static Prefix prefix(byte kind, byte ordinal) {
+        switch (kind) {
+            case DECIMAL_PREFIX: return DecimalPrefix.values()[ordinal];
+            case BINARY_PREFIX: return BinaryPrefix.values()[ordinal];
+            case JEDEC_BINARY_PREFIX: return JEDECBinaryPrefix.values()[ordinal];
+            default: throw new IllegalStateException("The snapshot contains a prefix of unknown type "+kind+".");
+        }
+    }
+
+    /**
+     * Returns the hash of an identifier used in the hash table of identifiers.
+     * @param identifier The identifier.
+     * @return The hash.
+     */
+    static int hash(String identifier) {
+        int hash = identifier.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the number of slots in the hash table of identifiers for the number of records, which is a power
+     * of two that is at least twice the number of records.
+     * @param numberOfRecords The number of records.
+     * @return The number of slots.
+     */
+    static int hashCapacity(int numberOfRecords) {
+        int capacity = 16;
+        while (capacity < 2*numberOfRecords) capacity *= 2;
+        return capacity;
+    }
+}
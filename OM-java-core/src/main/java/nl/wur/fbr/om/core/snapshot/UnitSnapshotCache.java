@@ -0,0 +1,198 @@
+package nl.wur.fbr.om.core.snapshot;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A write-behind cache of the units and scales of a factory in a snapshot file, for factories that create their
+ * units and scales from a slow source, such as a repository with the OM ontology. When the factory is created, the
+ * units and scales in the cache are loaded ({@link #load(DefaultUnitAndScaleFactory)}), so that they do not have to
+ * be created from the source again. Whenever the factory has created new units or scales from the source, the cache
+ * is updated ({@link #update(DefaultUnitAndScaleFactory)}), which schedules a snapshot of all units and scales in the
+ * factory to be written after a delay by a background thread. All units and scales created during the delay are
+ * written in the same snapshot, and the thread that created them does not wait for the snapshot to be written.
+ * Scheduled snapshots are not written when the virtual machine exits before the delay has passed, call
+ * {@link #flush(DefaultUnitAndScaleFactory)} to write the snapshot immediately.
+ * <p>
+ * The cache is keyed by the source of the units and scales, which should change whenever the source changes (for
+ * instance a hash of the contents of the repository). A cache that was written for another source is stale and is
+ * not loaded, it is replaced when the cache is updated. The snapshot file is replaced atomically, so that other
+ * processes reading the cache see either the previous or the new snapshot.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitSnapshotCache {
+
+    /** The path of the snapshot file. */
+    private final Path path;
+
+    /** The source of the units and scales. */
+    private final String source;
+
+    /** The default delay in milliseconds after an update after which the snapshot is written. */
+    public static final long DEFAULT_WRITE_DELAY = 1000;
+
+    /** The thread that writes the scheduled snapshots of all caches. */
+    private static final ScheduledExecutorService WRITER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "unit-snapshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The delay in milliseconds after an update after which the snapshot is written. */
+    private final long writeDelay;
+
+    /** The lock held while the snapshot file is written, so that snapshots are not written concurrently. */
+    private final Object writeLock = new Object();
+
+    /** The number of units and scales in the snapshot file when it was last loaded or written, -1 if unknown. */
+    private volatile int cached = -1;
+
+    /** The scheduled write of the snapshot, null when no write is scheduled. */
+    private ScheduledFuture<?> pending = null;
+
+    /** The exception thrown when a scheduled snapshot could not be written, or null. */
+    private volatile Exception failure = null;
+
+    /**
+     * Creates a new cache in the snapshot file at the specified path, which is written
+     * {@link #DEFAULT_WRITE_DELAY} milliseconds after it has been updated.
+     * @param path The path of the snapshot file, which does not have to exist.
+     * @param source The source of the units and scales, which should change whenever the source changes.
+     */
+    public UnitSnapshotCache(Path path, String source){
+        this(path, source, DEFAULT_WRITE_DELAY);
+    }
+
+    /**
+     * Creates a new cache in the snapshot file at the specified path, which is written the specified number of
+     * milliseconds after it has been updated.
+     * @param path The path of the snapshot file, which does not have to exist.
+     * @param source The source of the units and scales, which should change whenever the source changes.
+     * @param writeDelay The delay in milliseconds after an update after which the snapshot is written.
+     */
+    public UnitSnapshotCache(Path path, String source, long writeDelay){
+        this.path = path;
+        this.source = source;
+        this.writeDelay = writeDelay;
+    }
+
+    /**
+     * Returns the path of the snapshot file.
+     * @return The path.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the source of the units and scales in the cache.
+     * @return The source.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Adds all units and scales in the cache to the factory, when the snapshot file exists and was written for the
+     * same source.
+     * @param factory The factory.
+     * @return True when the units and scales were loaded, false when the cache is missing, stale, or corrupt.
+     */
+    public synchronized boolean load(DefaultUnitAndScaleFactory factory) {
+        UnitSnapshot snapshot;
+        try {
+            snapshot = UnitSnapshot.open(path, source);
+        } catch (IOException e) { // missing, stale or corrupt, replaced when the cache is updated.
+            return false;
+        }
+        try {
+            factory.addUnitAndScaleSet(snapshot, false);
+        } catch (UnitOrScaleCreationException | RuntimeException e) {
+            return false;
+        }
+        cached = size(factory);
+        return true;
+    }
+
+    /**
+     * Schedules all units and scales in the factory to be written to the cache, unless the factory has not created
+     * any units or scales since the cache was last loaded or written, or a write has already been scheduled. The
+     * snapshot is written by a background thread after the write delay, with all units and scales in the factory at
+     * that time. When the snapshot could not be written, no more snapshots are written and the exception is
+     * returned by {@link #getFailure()}.
+     * @param factory The factory.
+     */
+    public synchronized void update(DefaultUnitAndScaleFactory factory) {
+        if(failure!=null || pending!=null || size(factory)==cached) return;
+        pending = WRITER.schedule(() -> {
+            try {
+                this.write(factory);
+            } catch (IOException | IllegalArgumentException e) {
+                failure = e;
+            }
+        }, writeDelay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes all units and scales in the factory to the cache immediately, unless the factory has not created any
+     * units or scales since the cache was last loaded or written. A scheduled write is cancelled, or waited for when
+     * it is being written.
+     * @param factory The factory.
+     * @throws IOException When the snapshot file could not be written.
+     * @throws IllegalArgumentException When a unit or scale in the factory cannot be written in a snapshot.
+     */
+    public void flush(DefaultUnitAndScaleFactory factory) throws IOException {
+        synchronized (this) {
+            if(pending!=null) pending.cancel(false);
+            pending = null;
+        }
+        this.write(factory);
+    }
+
+    /**
+     * Returns the exception thrown when a scheduled snapshot could not be written, for instance because the path
+     * is not writable. No more snapshots are scheduled after a failure.
+     * @return The exception, or null when all scheduled snapshots were written.
+     */
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Writes all units and scales in the factory to the snapshot file, unless the factory has not created any units
+     * or scales since the cache was last loaded or written.
+     * @param factory The factory.
+     * @throws IOException When the snapshot file could not be written.
+     * @throws IllegalArgumentException When a unit or scale in the factory cannot be written in a snapshot.
+     */
+    private void write(DefaultUnitAndScaleFactory factory) throws IOException {
+        synchronized (writeLock) {
+            synchronized (this) { // units and scales created from now on are written by the next scheduled write
+                pending = null;
+            }
+            int size = size(factory);
+            if(size==cached) return;
+            UnitSnapshot.write(factory, source, path);
+            cached = size;
+        }
+    }
+
+    /**
+     * Returns the number of units and scales in the factory. As units and scales are never removed from a
+     * factory, the factory has created new units or scales when this number changes.
+     * @param factory The factory.
+     * @return The number of units and scales.
+     */
+    private static int size(DefaultUnitAndScaleFactory factory) {
+        return factory.getNumberOfUnits()+factory.getScales().size();
+    }
+}
@@ -0,0 +1,458 @@
+package nl.wur.fbr.om.core.snapshot;
+
+import nl.wur.fbr.om.model.NamedObject;
+import nl.wur.fbr.om.model.dimensions.BaseDimension;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
+import nl.wur.fbr.om.model.points.Point;
+import nl.wur.fbr.om.model.scales.Scale;
+import nl.wur.fbr.om.model.units.*;
+import nl.wur.fbr.om.prefixes.BinaryPrefix;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+import nl.wur.fbr.om.prefixes.JEDECBinaryPrefix;
+import nl.wur.fbr.om.prefixes.Prefix;
+import org.apache.commons.lang3.Range;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+import static nl.wur.fbr.om.core.snapshot.UnitSnapshot.*;
+
+/**
+ * This class writes a snapshot of units and scales in the format read by {@link UnitSnapshot}.
+ * The units and scales are written in an order in which all units and scales that a unit or scale depends on
+ * (e.g. its definition unit) are written before it, so that the snapshot can be loaded in a single pass. The units
+ * and scales that the written units and scales depend on are also written.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+final class UnitSnapshotWriter {
+
+    /** The index of a unit or scale of which the dependencies are being added. */
+    private static final int IN_PROGRESS = -2;
+
+    /** The strings in the string table. */
+    private final List<String> strings = new ArrayList<>();
+
+    /** The indices of the strings in the string table. */
+    private final Map<String,Integer> stringIndices = new HashMap<>();
+
+    /** The units in the order in which they are written. */
+    private final List<Unit> units = new ArrayList<>();
+
+    /** The record indices of the units, by identifier. */
+    private final Map<String,Integer> unitIndices = new HashMap<>();
+
+    /** The scales in the order in which they are written. */
+    private final List<Scale> scales = new ArrayList<>();
+
+    /** The indices of the scales, by identifier. */
+    private final Map<String,Integer> scaleIndices = new HashMap<>();
+
+    /**
+     * The prefixed base units (e.g. kilogram) that define a singular unit (e.g. gram) written before, which are
+     * written after all other units.
+     */
+    private final List<Unit> definingBaseUnits = new ArrayList<>();
+
+    /**
+     * Creates a new writer.
+     */
+    UnitSnapshotWriter() {
+        super();
+    }
+
+    /**
+     * Writes the snapshot to the file at the specified path. The snapshot is first written to a temporary file,
+     * which then replaces the file, so that a snapshot is never read while it is written.
+     * @param units The units.
+     * @param scales The scales.
+     * @param one The unit one, or null.
+     * @param radian The unit radian, or null.
+     * @param source The source of the units and scales.
+     * @param path The path of the snapshot file.
+     * @throws IOException When the snapshot could not be written.
+     */
+    void write(Collection<? extends Unit> units, Collection<? extends Scale> scales, Unit one, Unit radian,
+               String source, Path path) throws IOException {
+        for(Unit unit : units){
+            if(unit!=null) this.addUnit(unit);
+        }
+        for(Scale scale : scales){
+            if(scale!=null) this.addScale(scale);
+        }
+        int oneIndex = one==null ? -1 : this.addUnit(one);
+        int radianIndex = radian==null ? -1 : this.addUnit(radian);
+        for(int i=0;i<definingBaseUnits.size();i++){
+            this.addUnit(definingBaseUnits.get(i));
+        }
+        ByteBuffer buffer = this.encode(source, oneIndex, radianIndex);
+
+        Path absolute = path.toAbsolutePath();
+        Path temporary = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(true);
+            }
+            try {
+                Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Adds the unit, after adding the units on which it depends, and returns its record index.
+     * @param unit The unit.
+     * @return The record index of the unit.
+     */
+    private int addUnit(Unit unit) {
+        Integer index = unitIndices.get(unit.getIdentifier());
+        if(index!=null){
+            if(index==IN_PROGRESS)
+                throw new IllegalArgumentException("The unit "+unit.getIdentifier()+" is defined by itself.");
+            return index;
+        }
+        unitIndices.put(unit.getIdentifier(), IN_PROGRESS);
+        if(unit instanceof UnitMultiple){
+            if(((UnitMultiple) unit).getUnit()!=null) this.addUnit(((UnitMultiple) unit).getUnit());
+        }else if(unit instanceof SingularUnit){
+            Unit definitionUnit = ((SingularUnit) unit).getDefinitionUnit();
+            if(isDefinedByBaseUnit(unit)) definingBaseUnits.add(definitionUnit);
+            else if(definitionUnit!=null) this.addUnit(definitionUnit);
+        }else if(unit instanceof UnitMultiplication){
+            this.addUnit(((UnitMultiplication) unit).getTerm1());
+            this.addUnit(((UnitMultiplication) unit).getTerm2());
+        }else if(unit instanceof UnitDivision){
+            this.addUnit(((UnitDivision) unit).getNumerator());
+            this.addUnit(((UnitDivision) unit).getDenominator());
+        }else if(unit instanceof UnitExponentiation){
+            this.addUnit(((UnitExponentiation) unit).getBase());
+        }else{
+            throw new IllegalArgumentException("The unit "+unit.getIdentifier()+" of type "+unit.getClass().getName()+
+                    " cannot be written to a snapshot.");
+        }
+        index = units.size();
+        units.add(unit);
+        unitIndices.put(unit.getIdentifier(), index);
+        return index;
+    }
+
+    /**
+     * Adds the scale, after adding the units and scales on which it depends, and returns its index.
+     * @param scale The scale.
+     * @return The index of the scale.
+     */
+    private int addScale(Scale scale) {
+        Integer index = scaleIndices.get(scale.getIdentifier());
+        if(index!=null){
+            if(index==IN_PROGRESS)
+                throw new IllegalArgumentException("The scale "+scale.getIdentifier()+" is defined by itself.");
+            return index;
+        }
+        scaleIndices.put(scale.getIdentifier(), IN_PROGRESS);
+        if(scale.getDefinitionScale()!=null) this.addScale(scale.getDefinitionScale());
+        if(scale.getUnit()!=null) this.addUnit(scale.getUnit());
+        index = scales.size();
+        scales.add(scale);
+        scaleIndices.put(scale.getIdentifier(), index);
+        return index;
+    }
+
+    /**
+     * Returns true when the unit is a singular unit (e.g. gram) of which the definition unit is a prefixed base unit
+     * (e.g. kilogram) that prefixes the unit itself. The definition of such a unit is set when the base unit is
+     * created.
+     * @param unit The unit.
+     * @return True when the unit is defined by the base unit that prefixes it.
+     */
+    private static boolean isDefinedByBaseUnit(Unit unit) {
+        if(!(unit instanceof SingularUnit) || unit instanceof UnitMultiple) return false;
+        Unit definitionUnit = ((SingularUnit) unit).getDefinitionUnit();
+        return definitionUnit instanceof BaseUnit && definitionUnit instanceof PrefixedUnit
+                && ((PrefixedUnit) definitionUnit).getUnit()==unit;
+    }
+
+    /**
+     * Encodes the snapshot.
+     * @param source The source of the units and scales.
+     * @param oneIndex The record index of the unit one, or -1.
+     * @param radianIndex The record index of the unit radian, or -1.
+     * @return The encoded snapshot, ready to be written.
+     */
+    private ByteBuffer encode(String source, int oneIndex, int radianIndex) {
+        int sourceIndex = this.string(source);
+        int numberOfRecords = units.size()+scales.size();
+        int hashCapacity = hashCapacity(numberOfRecords);
+        int[] slots = new int[hashCapacity];
+        List<int[]> nameEntries = new ArrayList<>();
+        List<Point> points = new ArrayList<>();
+
+        ByteBuffer unitRecords = ByteBuffer.allocate(units.size()*UNIT_RECORD_SIZE);
+        for(int i=0;i<units.size();i++){
+            Unit unit = units.get(i);
+            this.encodeUnit(unit, unitRecords, nameEntries);
+            addToHashTable(slots, unit.getIdentifier(), i);
+        }
+        ByteBuffer scaleRecords = ByteBuffer.allocate(scales.size()*SCALE_RECORD_SIZE);
+        for(int i=0;i<scales.size();i++){
+            Scale scale = scales.get(i);
+            this.encodeScale(scale, scaleRecords, nameEntries, points);
+            addToHashTable(slots, scale.getIdentifier(), units.size()+i);
+        }
+
+        byte[][] encodedStrings = new byte[strings.size()][];
+        int stringDataLength = 0;
+        for(int i=0;i<strings.size();i++){
+            encodedStrings[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+            stringDataLength += encodedStrings[i].length;
+        }
+
+        int length = HEADER_SIZE + 4*(strings.size()+1) + unitRecords.capacity() + scaleRecords.capacity()
+                + points.size()*POINT_RECORD_SIZE + nameEntries.size()*NAME_ENTRY_SIZE + 4*hashCapacity
+                + stringDataLength;
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putInt(0); // The checksum, which is set when the payload has been written.
+        buffer.putInt(sourceIndex);
+        buffer.putInt(oneIndex);
+        buffer.putInt(radianIndex);
+        buffer.putInt(strings.size());
+        buffer.putInt(units.size());
+        buffer.putInt(scales.size());
+        buffer.putInt(points.size());
+        buffer.putInt(nameEntries.size());
+        buffer.putInt(hashCapacity);
+        buffer.putInt(stringDataLength);
+        buffer.position(HEADER_SIZE);
+
+        int offset = 0;
+        for(byte[] encodedString : encodedStrings){
+            buffer.putInt(offset);
+            offset += encodedString.length;
+        }
+        buffer.putInt(offset);
+        buffer.put((ByteBuffer) unitRecords.flip());
+        buffer.put((ByteBuffer) scaleRecords.flip());
+        for(Point point : points){
+            Object value = point.getNumericalValue();
+            if(value instanceof Range){
+                buffer.putInt(POINT_RANGE);
+                buffer.putInt(0);
+                buffer.putDouble(((Number) ((Range) value).getMinimum()).doubleValue());
+                buffer.putDouble(((Number) ((Range) value).getMaximum()).doubleValue());
+            }else{
+                buffer.putInt(POINT_SCALAR);
+                buffer.putInt(0);
+                buffer.putDouble(point.getScalarValue());
+                buffer.putDouble(0.0);
+            }
+        }
+        for(int[] entry : nameEntries){
+            buffer.putInt(entry[0]);
+            buffer.putInt(entry[1]);
+        }
+        for(int slot : slots){
+            buffer.putInt(slot);
+        }
+        for(byte[] encodedString : encodedStrings){
+            buffer.put(encodedString);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), HEADER_SIZE, length-HEADER_SIZE);
+        buffer.putInt(CHECKSUM_OFFSET, (int) checksum.getValue());
+        buffer.rewind();
+        return buffer;
+    }
+
+    /**
+     * Encodes the record of a unit.
+     * @param unit The unit.
+     * @param records The buffer in which the record is written.
+     * @param nameEntries The name entries, to which the names and symbols of the unit are added.
+     */
+    private void encodeUnit(Unit unit, ByteBuffer records, List<int[]> nameEntries) {
+        byte kind;
+        Prefix prefix = null;
+        BaseDimension dimension = null;
+        int reference1 = -1;
+        int reference2 = -1;
+        double value = 1.0;
+        if(unit instanceof BaseUnit && unit instanceof PrefixedUnit){
+            kind = PREFIXED_BASE_UNIT;
+            prefix = ((PrefixedUnit) unit).getPrefix();
+            dimension = ((BaseUnit) unit).getDefinitionDimension();
+            reference1 = this.unitIndex(((PrefixedUnit) unit).getUnit());
+            if(prefixKind(prefix)==0) throw new IllegalArgumentException("The prefix of the unit "+
+                    unit.getIdentifier()+" cannot be written to a snapshot.");
+        }else if(unit instanceof BaseUnit){
+            kind = BASE_UNIT;
+            dimension = ((BaseUnit) unit).getDefinitionDimension();
+        }else if(unit instanceof PrefixedUnit && prefixKind(((PrefixedUnit) unit).getPrefix())!=0){
+            kind = PREFIXED_UNIT;
+            prefix = ((PrefixedUnit) unit).getPrefix();
+            reference1 = this.unitIndex(((PrefixedUnit) unit).getUnit());
+        }else if(unit instanceof UnitMultiple){
+            kind = UNIT_MULTIPLE;
+            reference1 = this.unitIndex(((UnitMultiple) unit).getUnit());
+            value = ((UnitMultiple) unit).getFactor();
+        }else if(unit instanceof SingularUnit){
+            kind = SINGULAR_UNIT;
+            if(isDefinedByBaseUnit(unit)){
+                reference2 = this.unitIndex(((SingularUnit) unit).getDefinitionUnit());
+            }else{
+                reference1 = this.unitIndex(((SingularUnit) unit).getDefinitionUnit());
+                value = ((SingularUnit) unit).getDefinitionNumericalValue();
+            }
+        }else if(unit instanceof UnitMultiplication){
+            kind = UNIT_MULTIPLICATION;
+            reference1 = this.unitIndex(((UnitMultiplication) unit).getTerm1());
+            reference2 = this.unitIndex(((UnitMultiplication) unit).getTerm2());
+        }else if(unit instanceof UnitDivision){
+            kind = UNIT_DIVISION;
+            reference1 = this.unitIndex(((UnitDivision) unit).getNumerator());
+            reference2 = this.unitIndex(((UnitDivision) unit).getDenominator());
+        }else{
+            kind = UNIT_EXPONENTIATION;
+            reference1 = this.unitIndex(((UnitExponentiation) unit).getBase());
+            value = ((UnitExponentiation) unit).getExponent();
+        }
+        if(dimension!=null && !(dimension instanceof SIBaseDimension)) throw new IllegalArgumentException(
+                "The dimension of the unit "+unit.getIdentifier()+" cannot be written to a snapshot.");
+
+        records.put(kind);
+        records.put(prefixKind(prefix));
+        records.put(prefix==null ? 0 : (byte)((Enum) prefix).ordinal());
+        records.put(dimension==null ? -1 : (byte)((SIBaseDimension) dimension).ordinal());
+        records.putInt(this.string(unit.getIdentifier()));
+        this.encodeNames(unit, records, nameEntries);
+        records.putInt(reference1);
+        records.putInt(reference2);
+        records.putDouble(value);
+        Dimension unitDimension = unit.getUnitDimension();
+        for(SIBaseDimension baseDimension : SIBaseDimension.values()){
+            records.putShort((short) unitDimension.getExponentNumerator(baseDimension));
+        }
+        records.putShort((short) 0);
+    }
+
+    /**
+     * Encodes the record of a scale.
+     * @param scale The scale.
+     * @param records The buffer in which the record is written.
+     * @param nameEntries The name entries, to which the names and symbols of the scale are added.
+     * @param points The definition points, to which the definition points of the scale are added.
+     */
+    private void encodeScale(Scale scale, ByteBuffer records, List<int[]> nameEntries, List<Point> points) {
+        records.putInt(this.string(scale.getIdentifier()));
+        this.encodeNames(scale, records, nameEntries);
+        records.putInt(scale.getDefinitionScale()==null ? -1 : scaleIndices.get(scale.getDefinitionScale().getIdentifier()));
+        records.putInt(this.unitIndex(scale.getUnit()));
+        records.putDouble(scale.getOffsetFromDefinitionScale());
+        records.putDouble(scale.getFactorFromDefinitionScale());
+        List<Point> definitionPoints = scale.getDefinitionPoints();
+        for(Point point : definitionPoints){
+            if(point.getNumericalValue() instanceof double[]) throw new IllegalArgumentException(
+                    "The vector definition points of the scale "+scale.getIdentifier()+" cannot be written to a snapshot.");
+        }
+        records.putInt(points.size());
+        records.putInt(definitionPoints.size());
+        points.addAll(definitionPoints);
+        records.putInt(0);
+    }
+
+    /**
+     * Encodes the names and symbols of a unit or scale, by writing the index of its first name entry, its number of
+     * names, and its number of symbols in the record. The names are added as entries of a language and a name, the
+     * symbols as entries without language.
+     * @param object The unit or scale.
+     * @param records The buffer in which the record is written.
+     * @param nameEntries The name entries.
+     */
+    private void encodeNames(NamedObject object, ByteBuffer records, List<int[]> nameEntries) {
+        int start = nameEntries.size();
+        List<String> names = new ArrayList<>();
+        if(object.getName()!=null) names.add(object.getName());
+        names.addAll(object.getAlternativeNames());
+        List<String> languages = object.getLanguages();
+        if(languages==null || languages.size()!=names.size()) languages = Collections.nCopies(names.size(), "");
+        for(int i=0;i<names.size();i++){
+            String language = languages.get(i)==null ? "" : languages.get(i);
+            nameEntries.add(new int[]{this.string(language), this.string(names.get(i))});
+        }
+        List<String> symbols = new ArrayList<>();
+        if(object.getSymbol()!=null) symbols.add(object.getSymbol());
+        symbols.addAll(object.getAlternativeSymbols());
+        for(String symbol : symbols){
+            nameEntries.add(new int[]{-1, this.string(symbol)});
+        }
+        records.putInt(start);
+        records.putShort((short) names.size());
+        records.putShort((short) symbols.size());
+    }
+
+    /**
+     * Returns the record index of the unit, or -1 if the unit is null.
+     * @param unit The unit.
+     * @return The record index.
+     */
+    private int unitIndex(Unit unit) {
+        return unit==null ? -1 : unitIndices.get(unit.getIdentifier());
+    }
+
+    /**
+     * Returns the index of the string in the string table, after adding it when it is new.
+     * @param string The string.
+     * @return The index of the string, or -1 if the string is null.
+     */
+    private int string(String string) {
+        if(string==null) return -1;
+        Integer index = stringIndices.get(string);
+        if(index==null){
+            index = strings.size();
+            strings.add(string);
+            stringIndices.put(string, index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the code of the type of prefix, which is 0 when the prefix cannot be written.
+     * @param prefix The prefix.
+     * @return The code of the type of prefix.
+     */
+    private static byte prefixKind(Prefix prefix) {
+        if(prefix instanceof DecimalPrefix) return DECIMAL_PREFIX;
+        if(prefix instanceof BinaryPrefix) return BINARY_PREFIX;
+        if(prefix instanceof JEDECBinaryPrefix) return JEDEC_BINARY_PREFIX;
+        return 0;
+    }
+
+    /**
+     * Adds the record to the hash table of identifiers. A slot contains the record index plus one, or zero when
+     * the slot is empty. Collisions are resolved by linear probing.
+     * @param slots The slots of the hash table.
+     * @param identifier The identifier of the record.
+     * @param record The record index.
+     */
+    private static void addToHashTable(int[] slots, String identifier, int record) {
+        int mask = slots.length-1;
+        for(int slot = hash(identifier) & mask;;slot = (slot+1) & mask){
+            if(slots[slot]==0){
+                slots[slot] = record+1;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * This core package contains the binary snapshots of sets of units and scales. A snapshot can be written from any
+ * set of units and scales or factory, and can be loaded into a factory from a memory mapped file, which is much
+ * faster than creating the units and scales from generated code or from an ontology. Snapshots are also used as a
+ * write-behind cache of the units and scales that a factory creates from a slow source such as a repository.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+package nl.wur.fbr.om.core.snapshot;
@@ -0,0 +1,244 @@
+package nl.wur.fbr.om.core;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.factory.UnitAndScaleFactory;
+import nl.wur.fbr.om.model.dimensions.BaseDimension;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
+import nl.wur.fbr.om.model.units.*;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A simple benchmark that compares the packed, immutable {@link Dimension} with the previous representation of
+ * dimensions as a hash map from base dimensions to boxed exponents. Both the dimension arithmetic (multiplying and
+ * dividing dimensions and comparing the results) and the retrieval of the dimension of a compound unit, which
+ * previously rebuilt the dimension recursively on each call, are measured.
+ * The benchmark is not run as part of the unit tests, run the main method instead. The optional argument is the
+ * duration of each run in milliseconds.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class DimensionBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args The duration in milliseconds of each run (default 2000).
+     */
+    public static void main(String[] args) {
+        long duration = args.length>0 ? Long.parseLong(args[0]) : 2000;
+
+        UnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        Unit metre = factory.createBaseUnit("metre", "m", SIBaseDimension.LENGTH);
+        Unit second = factory.createBaseUnit("second", "s", SIBaseDimension.TIME);
+        Unit gram = factory.createBaseUnit("gram", "g", SIBaseDimension.MASS);
+        Unit kilogram = factory.createPrefixedUnit("kilogram", "kg", (SingularUnit) gram, DecimalPrefix.KILO);
+        Unit newton = factory.createUnitMultiplication("newton", "N", kilogram,
+                factory.createUnitDivision(metre, factory.createUnitExponentiation(second, 2)));
+        Unit pascal = factory.createUnitDivision("pascal", "Pa", newton, factory.createUnitExponentiation(metre, 2));
+        Unit watt = factory.createUnitDivision("watt", "W", factory.createUnitMultiplication(newton, metre), second);
+        Unit[] units = {newton, pascal, watt};
+
+        // Warm up.
+        runLegacyArithmetic(duration/2);
+        runArithmetic(duration/2);
+        runLegacyUnitDimension(units, duration/2);
+        runUnitDimension(units, duration/2);
+
+        System.out.printf("Arithmetic, hash map dimension:  %,15.0f operations/s%n", runLegacyArithmetic(duration));
+        System.out.printf("Arithmetic, packed dimension:    %,15.0f operations/s%n", runArithmetic(duration));
+        System.out.printf("Unit dimension, recomputed:      %,15.0f operations/s%n", runLegacyUnitDimension(units, duration));
+        System.out.printf("Unit dimension, cached:          %,15.0f operations/s%n", runUnitDimension(units, duration));
+    }
+
+    /**
+     * Multiplies and divides packed dimensions and compares the results during the specified duration.
+     * @param duration The duration of the run in milliseconds.
+     * @return The number of operations per second.
+     */
+    private static double runArithmetic(long duration) {
+        Dimension length = Dimension.of(SIBaseDimension.LENGTH);
+        Dimension mass = Dimension.of(SIBaseDimension.MASS);
+        Dimension time = Dimension.of(SIBaseDimension.TIME);
+        Dimension force = mass.multiply(length).divide(time.pow(2));
+        long count = 0;
+        int equal = 0;
+        long begin = System.nanoTime();
+        long end = begin+duration*1000000L;
+        while(System.nanoTime()<end){
+            for(int n=0;n<1000;n++){
+                Dimension energy = force.multiply(length);
+                Dimension power = energy.divide(time);
+                if(power.multiply(time).equals(energy)) equal++;
+                equal += power.hashCode() & 1;
+            }
+            count += 1000;
+        }
+        double rate = count*1e9/(System.nanoTime()-begin);
+        if(equal<count) throw new IllegalStateException("The dimensions should be equal.");
+        return rate;
+    }
+
+    /**
+     * Multiplies and divides hash map dimensions and compares the results during the specified duration.
+     * @param duration The duration of the run in milliseconds.
+     * @return The number of operations per second.
+     */
+    private static double runLegacyArithmetic(long duration) {
+        LegacyDimension length = LegacyDimension.of(SIBaseDimension.LENGTH);
+        LegacyDimension mass = LegacyDimension.of(SIBaseDimension.MASS);
+        LegacyDimension time = LegacyDimension.of(SIBaseDimension.TIME);
+        LegacyDimension force = mass.multiply(length).divide(time.pow(2));
+        long count = 0;
+        int equal = 0;
+        long begin = System.nanoTime();
+        long end = begin+duration*1000000L;
+        while(System.nanoTime()<end){
+            for(int n=0;n<1000;n++){
+                LegacyDimension energy = force.multiply(length);
+                LegacyDimension power = energy.divide(time);
+                if(power.multiply(time).equals(energy)) equal++;
+                equal += power.hashCode() & 1;
+            }
+            count += 1000;
+        }
+        double rate = count*1e9/(System.nanoTime()-begin);
+        if(equal<count) throw new IllegalStateException("The dimensions should be equal.");
+        return rate;
+    }
+
+    /**
+     * Retrieves the (cached) dimensions of the units during the specified duration.
+     * @param units The units.
+     * @param duration The duration of the run in milliseconds.
+     * @return The number of operations per second.
+     */
+    private static double runUnitDimension(Unit[] units, long duration) {
+        long count = 0;
+        int dimensional = 0;
+        long begin = System.nanoTime();
+        long end = begin+duration*1000000L;
+        while(System.nanoTime()<end){
+            for(int n=0;n<1000;n++){
+                if(!units[n%units.length].getUnitDimension().isDimensionless()) dimensional++;
+            }
+            count += 1000;
+        }
+        double rate = count*1e9/(System.nanoTime()-begin);
+        if(dimensional!=count) throw new IllegalStateException("The units should not be dimensionless.");
+        return rate;
+    }
+
+    /**
+     * Recomputes the dimensions of the units as hash map dimensions during the specified duration, as the
+     * previous implementation did on each call.
+     * @param units The units.
+     * @param duration The duration of the run in milliseconds.
+     * @return The number of operations per second.
+     */
+    private static double runLegacyUnitDimension(Unit[] units, long duration) {
+        long count = 0;
+        int dimensional = 0;
+        long begin = System.nanoTime();
+        long end = begin+duration*1000000L;
+        while(System.nanoTime()<end){
+            for(int n=0;n<1000;n++){
+                if(!LegacyDimension.of(units[n%units.length]).isDimensionless()) dimensional++;
+            }
+            count += 1000;
+        }
+        double rate = count*1e9/(System.nanoTime()-begin);
+        if(dimensional!=count) throw new IllegalStateException("The units should not be dimensionless.");
+        return rate;
+    }
+
+    /**
+     * The previous representation of a dimension, a hash map from base dimensions to boxed exponents.
+     */
+    private static class LegacyDimension extends HashMap<BaseDimension,Double> {
+
+        /**
+         * Returns the dimension of the base dimension.
+         * @param baseDimension The base dimension.
+         * @return The dimension.
+         */
+        static LegacyDimension of(BaseDimension baseDimension){
+            LegacyDimension dimension = new LegacyDimension();
+            dimension.put(baseDimension, 1.0);
+            return dimension;
+        }
+
+        /**
+         * Computes the dimension of the unit recursively.
+         * @param unit The unit.
+         * @return The dimension.
+         */
+        static LegacyDimension of(Unit unit){
+            if(unit instanceof BaseUnit) return of(((BaseUnit)unit).getDefinitionDimension());
+            if(unit instanceof UnitMultiple) return of(((UnitMultiple)unit).getUnit());
+            if(unit instanceof UnitMultiplication){
+                UnitMultiplication multiplication = (UnitMultiplication)unit;
+                return of(multiplication.getTerm1()).multiply(of(multiplication.getTerm2()));
+            }
+            if(unit instanceof UnitDivision){
+                UnitDivision division = (UnitDivision)unit;
+                return of(division.getNumerator()).divide(of(division.getDenominator()));
+            }
+            if(unit instanceof UnitExponentiation){
+                UnitExponentiation exponentiation = (UnitExponentiation)unit;
+                return of(exponentiation.getBase()).pow(exponentiation.getExponent());
+            }
+            if(unit instanceof SingularUnit && ((SingularUnit)unit).getDefinitionUnit()!=null){
+                return of(((SingularUnit)unit).getDefinitionUnit());
+            }
+            return new LegacyDimension();
+        }
+
+        /**
+         * Returns the product of the dimensions.
+         * @param other The other dimension.
+         * @return The product.
+         */
+        LegacyDimension multiply(LegacyDimension other){
+            LegacyDimension dimension = new LegacyDimension();
+            dimension.putAll(this);
+            for(Map.Entry<BaseDimension,Double> entry : other.entrySet()){
+                dimension.merge(entry.getKey(), entry.getValue(), Double::sum);
+            }
+            return dimension;
+        }
+
+        /**
+         * Returns the quotient of the dimensions.
+         * @param other The other dimension.
+         * @return The quotient.
+         */
+        LegacyDimension divide(LegacyDimension other){
+            return this.multiply(other.pow(-1));
+        }
+
+        /**
+         * Returns the power of the dimension.
+         * @param exponent The exponent.
+         * @return The power.
+         */
+        LegacyDimension pow(double exponent){
+            LegacyDimension dimension = new LegacyDimension();
+            for(Map.Entry<BaseDimension,Double> entry : this.entrySet()){
+                dimension.put(entry.getKey(), entry.getValue()*exponent);
+            }
+            return dimension;
+        }
+
+        /**
+         * Returns true when all exponents are 0.
+         * @return True when dimensionless.
+         */
+        boolean isDimensionless(){
+            for(Double exponent : this.values()) if(exponent!=0) return false;
+            return true;
+        }
+    }
+}
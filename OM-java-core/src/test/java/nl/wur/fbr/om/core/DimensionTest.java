@@ -9,6 +9,9 @@ import nl.wur.fbr.om.prefixes.DecimalPrefix;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * This class contains the unit tests for dimension testing.
  *
@@ -76,4 +79,110 @@ public class DimensionTest {
         Assert.assertEquals("Compound unit dimension test",2,pascalPerMillisecondSquaredMap.getDimensionalExponent(SIBaseDimension.LENGTH),0.0000001);
         Assert.assertEquals("Compound unit dimension test",-4,pascalPerMillisecondSquaredMap.getDimensionalExponent(SIBaseDimension.TIME),0.0000001);
     }
+
+    /**
+     * Tests the operations on dimensions, rational exponents and the interning of dimensions.
+     */
+    @Test
+    public void testDimensionOperations(){
+        Dimension length = Dimension.of(SIBaseDimension.LENGTH);
+        Dimension time = Dimension.of(SIBaseDimension.TIME);
+        Dimension acceleration = length.divide(time.pow(2));
+        Assert.assertEquals("Dimension operations test", Dimension.of(1, 0, -2, 0, 0, 0, 0), acceleration);
+        Assert.assertSame("Dimension operations test", acceleration, Dimension.of(1, 0, -2, 0, 0, 0, 0));
+        Assert.assertEquals("Dimension operations test", "D[L+1, T-2]", acceleration.toString());
+        Assert.assertEquals("Dimension operations test", acceleration.hashCode(),
+                time.pow(-2).multiply(length).hashCode());
+        Assert.assertTrue("Dimension operations test", acceleration.divide(acceleration).isDimensionless());
+        Assert.assertSame("Dimension operations test", Dimension.DIMENSIONLESS, acceleration.divide(acceleration));
+
+        Dimension root = length.pow(3).pow(0.5);
+        Assert.assertEquals("Dimension operations test", 1.5, root.getDimensionalExponent(SIBaseDimension.LENGTH), 0);
+        Assert.assertEquals("Dimension operations test", "D[L+3/2]", root.toString());
+        Assert.assertEquals("Dimension operations test", length, length.pow(1.0/3.0).pow(3));
+        Assert.assertNotEquals("Dimension operations test", length, root);
+        Assert.assertEquals("Dimension operations test", 0,
+                acceleration.withDimensionalExponent(SIBaseDimension.TIME, 0).getDimensionalExponent(SIBaseDimension.TIME), 0);
+    }
+
+    /**
+     * Tests that dimensions and units with dimensional exponents that cannot be represented are rejected instead
+     * of being rounded.
+     */
+    @Test
+    public void testDimensionLimits(){
+        Dimension length = Dimension.of(SIBaseDimension.LENGTH);
+        try {
+            length.pow(1.0/7);
+            Assert.fail("Dimension limits test: the exponent 1/7 was rounded.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            Dimension.of(Dimension.MAXIMUM_EXPONENT+1, 0, 0, 0, 0, 0, 0);
+            Assert.fail("Dimension limits test: the exponent is out of range.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        Assert.assertEquals("Dimension limits test", Dimension.MAXIMUM_EXPONENT,
+                length.pow(Dimension.MAXIMUM_EXPONENT).getDimensionalExponent(SIBaseDimension.LENGTH), 0);
+
+        UnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        Unit metre = factory.createBaseUnit("metre", "m", SIBaseDimension.LENGTH);
+        try {
+            factory.createUnitExponentiation(metre, 1.0/7);
+            Assert.fail("Dimension limits test: a unit with the exponent 1/7 was created.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            factory.createUnitExponentiation(metre, 600);
+            Assert.fail("Dimension limits test: a unit with the exponent 600 was created.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        Unit metre500 = factory.createUnitExponentiation(metre, 500);
+        try {
+            factory.createUnitMultiplication(metre500, metre500);
+            Assert.fail("Dimension limits test: a unit with the exponent 1000 was created.");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        Assert.assertEquals("Dimension limits test", 500,
+                metre500.getUnitDimension().getDimensionalExponent(SIBaseDimension.LENGTH), 0);
+        Unit dimensionless = factory.createUnitDivision(metre, metre);
+        Assert.assertTrue("Dimension limits test",
+                factory.createUnitExponentiation(dimensionless, 1.0/7).getUnitDimension().isDimensionless());
+    }
+
+    /**
+     * Tests the index of units by dimension in the factory.
+     */
+    @Test
+    public void testDimensionIndex(){
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        Unit metre = factory.createBaseUnit("metre", "m", SIBaseDimension.LENGTH);
+        Unit second = factory.createBaseUnit("second", "s",SIBaseDimension.TIME);
+        Unit kilometre = factory.createPrefixedUnit("kilometre", "km", (SingularUnit) metre, DecimalPrefix.KILO);
+        Unit hertz = factory.createUnitExponentiation("hertz", "Hz", second, -1);
+        Unit squareMetre = factory.createUnitExponentiation("square metre", "m2", metre, 2);
+        Unit metrePerSecond = factory.createUnitDivision("metre per second", "m/s", metre, second);
+
+        List<Unit> lengthUnits = factory.getUnitsInDimension(Dimension.of(SIBaseDimension.LENGTH));
+        Assert.assertEquals("Dimension index test", Arrays.asList(metre, kilometre), lengthUnits);
+        Assert.assertSame("Dimension index test", lengthUnits, factory.getCompatibleUnits(kilometre));
+        try {
+            lengthUnits.add(second);
+            Assert.fail("The units in a dimension should not be modifiable.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertTrue("Dimension index test", factory.getUnitsInDimension(Dimension.of(SIBaseDimension.MASS)).isEmpty());
+        Assert.assertEquals("Dimension index test", 5, factory.getDimensions().size());
+
+        List<Dimension> reachable = factory.getDimensionsOneMultiplicationAway(metre.getUnitDimension());
+        Assert.assertEquals("Dimension index test",
+                Arrays.asList(metrePerSecond.getUnitDimension(), squareMetre.getUnitDimension()), reachable);
+        Assert.assertTrue("Dimension index test", hertz.getUnitDimension().compareTo(metre.getUnitDimension())<0);
+    }
 }
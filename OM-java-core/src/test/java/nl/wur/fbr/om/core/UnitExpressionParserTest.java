@@ -0,0 +1,104 @@
+package nl.wur.fbr.om.core;
+
+import nl.wur.fbr.om.core.expressions.ParsedUnitExpression;
+import nl.wur.fbr.om.core.expressions.UnitExpressionParser;
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
+import nl.wur.fbr.om.model.units.*;
+import nl.wur.fbr.om.prefixes.BinaryPrefix;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for parsing unit expressions.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitExpressionParserTest {
+
+    @Test
+    public void testUnitExpressions() throws UnitOrScaleCreationException {
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        BaseUnit metre = factory.createBaseUnit("metre", "metre", "m", SIBaseDimension.LENGTH);
+        BaseUnit second = factory.createBaseUnit("second", "second", "s", SIBaseDimension.TIME);
+        SingularUnit gram = factory.createSingularUnit("gram", "gram", "g");
+        BaseUnit kilogram = factory.createPrefixedBaseUnit("kilogram", "kilogram", "kg", SIBaseDimension.MASS, gram, DecimalPrefix.KILO);
+        BaseUnit mole = factory.createBaseUnit("mole", "mole", "mol", SIBaseDimension.AMOUNT_OF_SUBSTANCE);
+        SingularUnit hour = factory.createSingularUnit("hour", "hour", "h", second, 3600);
+        SingularUnit byteUnit = factory.createSingularUnit("byte", "byte", "B");
+        UnitDivision metrePerSecond = factory.createUnitDivision("metrePerSecond", "metre per second", "m/s", metre, second);
+        UnitExpressionParser parser = new UnitExpressionParser(factory);
+
+        Assert.assertSame("Testing unit expression with a symbol.", metre, parser.parseUnit("m"));
+        Assert.assertSame("Testing unit expression with a named unit.", metrePerSecond, parser.parseUnit("m/s"));
+        Assert.assertSame("Testing unit expression with a named unit.", metrePerSecond, parser.parseUnit(" m s-1 "));
+        Assert.assertSame("Testing unit expression with a named unit.", metrePerSecond, parser.parseUnit("m·s⁻¹"));
+
+        UnitDivision acceleration = (UnitDivision) parser.parseUnit("kg.m/s2");
+        Assert.assertSame("Testing unit expression with exponent.", second,
+                ((UnitExponentiation) acceleration.getDenominator()).getBase());
+        Assert.assertEquals("Testing unit expression with exponent.", 2,
+                ((UnitExponentiation) acceleration.getDenominator()).getExponent(), 0.0);
+        Assert.assertSame("Testing unit expression with multiplication.", kilogram,
+                ((UnitMultiplication) acceleration.getNumerator()).getTerm1());
+        Assert.assertSame("Testing interned unit expressions.", acceleration, parser.parseUnit("kg*m/s^2"));
+        Assert.assertSame("Testing interned unit expressions.", acceleration, parser.parseUnit("kg m s**-2"));
+
+        UnitDivision flux = (UnitDivision) parser.parseUnit("µmol/(m²·s)");
+        PrefixedUnit micromole = (PrefixedUnit) flux.getNumerator();
+        Assert.assertEquals("Testing unit expression with prefix.", DecimalPrefix.MICRO, micromole.getPrefix());
+        Assert.assertSame("Testing unit expression with prefix.", mole, micromole.getUnit());
+        Assert.assertSame("Testing unit expression with prefix.", micromole, parser.parseUnit("μmol"));
+        Assert.assertTrue("Testing unit expression with parentheses.", flux.getDenominator() instanceof UnitMultiplication);
+        Assert.assertEquals("Testing unit expression with binary prefix.", BinaryPrefix.KIBI,
+                ((PrefixedUnit) parser.parseUnit("KiB")).getPrefix());
+        Assert.assertSame("Testing unit expression with binary prefix.", byteUnit,
+                ((PrefixedUnit) parser.parseUnit("KiB")).getUnit());
+
+        UnitExponentiation perHour = (UnitExponentiation) parser.parseUnit("1/h");
+        Assert.assertSame("Testing unit expression with one.", hour, perHour.getBase());
+        Assert.assertEquals("Testing unit expression with one.", -1, perHour.getExponent(), 0.0);
+        Assert.assertSame("Testing unit expression with name.", hour, parser.parseUnit("hour"));
+    }
+
+    @Test
+    public void testMalformedUnitExpressions() {
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        BaseUnit metre = factory.createBaseUnit("metre", "metre", "m", SIBaseDimension.LENGTH);
+        factory.createBaseUnit("second", "second", "s", SIBaseDimension.TIME);
+        factory.createSingularUnit("second-Angle", "second (angle)", "s");
+        factory.createSingularUnit("cup-US", "cup (US)", "cup");
+        SingularUnit cup = factory.createSingularUnit("cup-UK", "cup (UK)", "cup");
+        UnitExpressionParser parser = new UnitExpressionParser(factory);
+
+        ParsedUnitExpression result = parser.parse("m/fur");
+        Assert.assertFalse("Testing unknown unit.", result.isValid());
+        Assert.assertNull("Testing unknown unit.", result.getUnit());
+        Assert.assertEquals("Testing unknown unit.", 2, result.getErrorIndex());
+        Assert.assertEquals("Testing missing parenthesis.", 4, parser.parse("(m.s").getErrorIndex());
+        Assert.assertEquals("Testing unexpected parenthesis.", 3, parser.parse("m.s)").getErrorIndex());
+        Assert.assertEquals("Testing missing unit.", 2, parser.parse("m//s").getErrorIndex());
+        Assert.assertEquals("Testing missing exponent.", 1, parser.parse("m^").getErrorIndex());
+        Assert.assertEquals("Testing numerical factor.", 0, parser.parse("10 m").getErrorIndex());
+        Assert.assertEquals("Testing too large exponent.", 1, parser.parse("m600").getErrorIndex());
+        Assert.assertTrue("Testing largest exponent.", parser.parse("m546").isValid());
+        Assert.assertEquals("Testing too large combined exponent.", 5, parser.parse("m500.m500").getErrorIndex());
+        Assert.assertEquals("Testing too large combined exponent.", 0, parser.parse("(m300)2").getErrorIndex());
+        Assert.assertFalse("Testing empty expression.", parser.parse(" ").isValid());
+        Assert.assertFalse("Testing empty expression.", parser.parse(null).isValid());
+        try {
+            parser.parseUnit("m/");
+            Assert.fail("Testing malformed expression, the expression should have been rejected.");
+        } catch (UnitOrScaleCreationException e) {
+            // expected
+        }
+
+        Assert.assertEquals("Testing ambiguous symbol.", "second", parser.parse("s").getUnit().getName());
+        Assert.assertFalse("Testing ambiguous symbol.", parser.parse("cup").isValid());
+        parser.setPreferredUnit("cup", cup);
+        Assert.assertSame("Testing preferred unit for ambiguous symbol.", cup, parser.parse("cup").getUnit());
+        Assert.assertSame("Testing exponent zero.", metre, parser.parse("m.s0").getUnit());
+    }
+}
@@ -0,0 +1,66 @@
+package nl.wur.fbr.om.core;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.core.impl.units.UnitNormalForm;
+import nl.wur.fbr.om.factory.UnitAndScaleFactory;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
+import nl.wur.fbr.om.model.units.*;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * This class contains the unit tests for the normal form of units.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitNormalFormTest {
+
+    /**
+     * Tests the normal forms of compound units.
+     */
+    @Test
+    public void testNormalForm(){
+        UnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        Unit metre = factory.createBaseUnit("metre", "m", SIBaseDimension.LENGTH);
+        Unit second = factory.createBaseUnit("second", "s", SIBaseDimension.TIME);
+        Unit gram = factory.createBaseUnit("gram", "g", SIBaseDimension.MASS);
+        Unit kilogram = factory.createPrefixedUnit("kilogram", "kg", (SingularUnit) gram, DecimalPrefix.KILO);
+        Unit kilometre = factory.createPrefixedUnit("kilometre", "km", (SingularUnit) metre, DecimalPrefix.KILO);
+        Unit newton = factory.createUnitDivision("Newton", "N", factory.createUnitMultiplication(kilogram, metre),
+                factory.createUnitExponentiation(second, 2));
+
+        UnitNormalForm newtonForm = UnitNormalForm.of(newton);
+        Assert.assertEquals("Normal form test", 1000.0, newtonForm.getFactor(), 1e-9);
+        Assert.assertEquals("Normal form test", 3, newtonForm.size());
+        for(int i=0;i<newtonForm.size();i++){
+            Unit base = newtonForm.getBaseUnit(i);
+            double expected = base.equals(second) ? -2 : 1;
+            Assert.assertEquals("Normal form test", expected, newtonForm.getExponent(i), 0.0);
+        }
+        Assert.assertSame("Normal form test", newtonForm, UnitNormalForm.of(newton));
+
+        // (m.s)/s has the same normal form as m.
+        Unit metreSecondPerSecond = factory.createUnitDivision(factory.createUnitMultiplication(metre, second), second);
+        Assert.assertTrue("Normal form test", UnitNormalForm.of(metreSecondPerSecond).isCompatibleWith(UnitNormalForm.of(metre)));
+        Assert.assertTrue("Normal form test", UnitNormalForm.of(kilometre).isCompatibleWith(UnitNormalForm.of(metreSecondPerSecond)));
+        Assert.assertFalse("Normal form test", UnitNormalForm.of(kilometre).isCompatibleWith(UnitNormalForm.of(second)));
+
+        // Ratios of different kinds are not compatible.
+        Unit metrePerMetre = factory.createUnitDivision(metre, metre);
+        Unit kilometrePerMetre = factory.createUnitDivision(kilometre, metre);
+        Unit gramPerGram = factory.createUnitDivision(gram, gram);
+        Assert.assertTrue("Normal form test", UnitNormalForm.of(metrePerMetre).isRatio());
+        Assert.assertTrue("Normal form test", UnitNormalForm.of(metrePerMetre).isCompatibleWith(UnitNormalForm.of(kilometrePerMetre)));
+        Assert.assertFalse("Normal form test", UnitNormalForm.of(metrePerMetre).isCompatibleWith(UnitNormalForm.of(gramPerGram)));
+
+        // Rational exponents.
+        Unit squareRootMetre = factory.createUnitExponentiation(metre, 0.5);
+        Unit metreRoot = factory.createUnitMultiplication(squareRootMetre, squareRootMetre);
+        Assert.assertTrue("Normal form test", UnitNormalForm.of(metreRoot).isCompatibleWith(UnitNormalForm.of(metre)));
+        UnitNormalForm cubeRoot = UnitNormalForm.of(factory.createUnitExponentiation(kilometre, 1.0/3.0));
+        Assert.assertEquals("Normal form test", 1, cubeRoot.getExponentNumerator(0));
+        Assert.assertEquals("Normal form test", 3, cubeRoot.getExponentDenominator(0));
+        Assert.assertEquals("Normal form test", 10.0, cubeRoot.getFactor(), 1e-9);
+    }
+}
@@ -0,0 +1,231 @@
+package nl.wur.fbr.om.core;
+
+import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.core.impl.points.PointImpl;
+import nl.wur.fbr.om.core.snapshot.InvalidSnapshotException;
+import nl.wur.fbr.om.core.snapshot.UnitSnapshot;
+import nl.wur.fbr.om.core.snapshot.UnitSnapshotCache;
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
+import nl.wur.fbr.om.model.scales.Scale;
+import nl.wur.fbr.om.model.units.*;
+import nl.wur.fbr.om.prefixes.DecimalPrefix;
+import org.apache.commons.lang3.Range;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Unit tests for writing and loading snapshots of units and scales.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class UnitSnapshotTest {
+
+    /** The prefix of the identifiers of the units and scales in the tests. */
+    private static final String OM = "http://www.ontology-of-units-of-measure.org/resource/om-2/";
+
+    /** The source of the units and scales in the tests. */
+    private static final String SOURCE = "snapshot test set 1";
+
+    @Test
+    public void testSnapshotRoundTrip() throws IOException, UnitOrScaleCreationException {
+        Path path = this.writeSnapshot();
+        try {
+            UnitSnapshot snapshot = UnitSnapshot.open(path, SOURCE);
+            Assert.assertEquals("Testing snapshot source.", SOURCE, snapshot.getSource());
+            Assert.assertEquals("Testing number of units in snapshot.", 10, snapshot.getNumberOfUnits());
+            Assert.assertEquals("Testing number of scales in snapshot.", 2, snapshot.getNumberOfScales());
+
+            DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+            factory.addUnitAndScaleSet(snapshot, false);
+            Assert.assertEquals("Testing units loaded from snapshot.", 10, factory.getNumberOfUnits());
+
+            BaseUnit metre = (BaseUnit) factory.getUnitOrScale(OM+"metre");
+            Assert.assertEquals("Testing names loaded from snapshot.", "metre", metre.getName());
+            Assert.assertEquals("Testing names loaded from snapshot.", "meter", metre.getName("nl"));
+            Assert.assertEquals("Testing symbols loaded from snapshot.", "m", metre.getSymbol());
+            Assert.assertEquals("Testing symbols loaded from snapshot.", "mtr", metre.getAlternativeSymbols().get(0));
+            Assert.assertEquals("Testing base units loaded from snapshot.", SIBaseDimension.LENGTH, metre.getDefinitionDimension());
+
+            SingularUnit gram = (SingularUnit) factory.getUnitOrScale(OM+"gram");
+            PrefixedUnit kilogram = (PrefixedUnit) factory.getUnitOrScale(OM+"kilogram");
+            Assert.assertTrue("Testing prefixed base units loaded from snapshot.", kilogram instanceof BaseUnit);
+            Assert.assertSame("Testing prefixed base units loaded from snapshot.", gram, kilogram.getUnit());
+            Assert.assertSame("Testing prefixed base units loaded from snapshot.", kilogram, gram.getDefinitionUnit());
+            Assert.assertEquals("Testing prefixed base units loaded from snapshot.", 0.001, gram.getDefinitionNumericalValue(), 1e-15);
+
+            SingularUnit inch = (SingularUnit) factory.getUnitOrScale(OM+"inch");
+            Assert.assertSame("Testing singular units loaded from snapshot.", metre, inch.getDefinitionUnit());
+            Assert.assertEquals("Testing singular units loaded from snapshot.", 0.0254, inch.getDefinitionNumericalValue(), 1e-15);
+
+            PrefixedUnit kilometre = (PrefixedUnit) factory.getUnitOrScale(OM+"kilometre");
+            Assert.assertEquals("Testing prefixed units loaded from snapshot.", DecimalPrefix.KILO, kilometre.getPrefix());
+            Assert.assertEquals("Testing prefixed units loaded from snapshot.", "km", kilometre.getSymbol());
+
+            UnitDivision kilometrePerHour = (UnitDivision) factory.getUnitOrScale(OM+"kilometrePerHour");
+            Assert.assertSame("Testing unit divisions loaded from snapshot.", kilometre, kilometrePerHour.getNumerator());
+            Assert.assertEquals("Testing unit divisions loaded from snapshot.",
+                    Dimension.of(SIBaseDimension.LENGTH).divide(Dimension.of(SIBaseDimension.TIME)),
+                    kilometrePerHour.getUnitDimension());
+
+            UnitExponentiation squareMetre = (UnitExponentiation) factory.getUnitOrScale(OM+"squareMetre");
+            Assert.assertEquals("Testing unit exponentiations loaded from snapshot.", 2.0, squareMetre.getExponent(), 0.0);
+
+            Scale celsius = (Scale) factory.getUnitOrScale(OM+"CelsiusScale");
+            Scale kelvin = (Scale) factory.getUnitOrScale(OM+"KelvinScale");
+            Assert.assertSame("Testing scales loaded from snapshot.", kelvin, celsius.getDefinitionScale());
+            Assert.assertEquals("Testing scales loaded from snapshot.", 273.15, celsius.getOffsetFromDefinitionScale(), 0.0);
+            Assert.assertEquals("Testing scales loaded from snapshot.", 2, kelvin.getDefinitionPoints().size());
+            Assert.assertEquals("Testing scales loaded from snapshot.", 273.16, kelvin.getDefinitionPoints().get(0).getScalarValue(), 0.0);
+            Assert.assertEquals("Testing scales loaded from snapshot.", 373.0,
+                    ((Number) kelvin.getDefinitionPoints().get(1).getScalarRange().getMaximum()).doubleValue(), 0.0);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testSnapshotLazyLoading() throws IOException, UnitOrScaleCreationException {
+        Path path = this.writeSnapshot();
+        try {
+            UnitSnapshot snapshot = UnitSnapshot.open(path, SOURCE);
+            Assert.assertEquals("Testing dimensions in snapshot.", Dimension.of(SIBaseDimension.LENGTH),
+                    snapshot.getUnitDimension(OM+"inch"));
+            Assert.assertNull("Testing dimensions in snapshot.", snapshot.getUnitDimension(OM+"unknown"));
+
+            DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+            factory.addUnitAndScaleSet(snapshot, true);
+            Assert.assertEquals("Testing lazy loading of snapshot.", 0, factory.getNumberOfUnits());
+            Unit inch = (Unit) factory.getUnitOrScale(OM+"inch");
+            Assert.assertEquals("Testing lazy loading of snapshot.", 2, factory.getNumberOfUnits());
+            Assert.assertSame("Testing lazy loading of snapshot.", inch, factory.getUnitOrScale(OM+"inch"));
+            SingularUnit gram = (SingularUnit) factory.getUnitOrScale(OM+"gram");
+            Assert.assertEquals("Testing lazy loading of snapshot.", OM+"kilogram", gram.getDefinitionUnit().getIdentifier());
+            Assert.assertEquals("Testing lazy loading of snapshot.", 4, factory.getNumberOfUnits());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testInvalidSnapshots() throws IOException, UnitOrScaleCreationException {
+        Path path = this.writeSnapshot();
+        try {
+            try {
+                UnitSnapshot.open(path, "snapshot test set 2");
+                Assert.fail("Testing stale snapshot, the snapshot should have been rejected.");
+            } catch (InvalidSnapshotException e) {
+                // expected
+            }
+            byte[] contents = Files.readAllBytes(path);
+            contents[contents.length-1]++;
+            Files.write(path, contents);
+            try {
+                UnitSnapshot.open(path, SOURCE);
+                Assert.fail("Testing corrupt snapshot, the snapshot should have been rejected.");
+            } catch (InvalidSnapshotException e) {
+                // expected
+            }
+            contents[contents.length-1]--;
+            contents[7]++;
+            Files.write(path, contents);
+            try {
+                UnitSnapshot.open(path, SOURCE);
+                Assert.fail("Testing snapshot format version, the snapshot should have been rejected.");
+            } catch (InvalidSnapshotException e) {
+                // expected
+            }
+            Files.write(path, new byte[]{1, 2, 3});
+            try {
+                UnitSnapshot.open(path, SOURCE);
+                Assert.fail("Testing invalid snapshot, the snapshot should have been rejected.");
+            } catch (InvalidSnapshotException e) {
+                // expected
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public void testSnapshotCache() throws IOException, UnitOrScaleCreationException, InterruptedException {
+        Path path = Files.createTempFile("units", ".snapshot");
+        Files.delete(path);
+        try {
+            DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+            UnitSnapshotCache cache = new UnitSnapshotCache(path, SOURCE, 60000);
+            Assert.assertFalse("Testing missing cache.", cache.load(factory));
+            BaseUnit metre = factory.createBaseUnit(OM+"metre", "metre", "m", SIBaseDimension.LENGTH);
+            cache.update(factory);
+            Assert.assertFalse("Testing cache written after the delay.", Files.exists(path));
+            cache.flush(factory);
+            Assert.assertTrue("Testing cache written.", Files.exists(path));
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            Files.setLastModifiedTime(path, FileTime.fromMillis(modified-10000));
+            cache.update(factory);
+            cache.flush(factory);
+            Assert.assertEquals("Testing cache not written without new units.", modified-10000,
+                    Files.getLastModifiedTime(path).toMillis());
+
+            UnitSnapshotCache delayedCache = new UnitSnapshotCache(path, SOURCE, 10);
+            Assert.assertTrue("Testing cache loaded.", delayedCache.load(factory));
+            factory.createSingularUnit(OM+"inch", "inch", "in", metre, 0.0254);
+            delayedCache.update(factory);
+            for(int i=0;i<500 && Files.getLastModifiedTime(path).toMillis()==modified-10000;i++){
+                Thread.sleep(10);
+            }
+            Assert.assertNull("Testing cache written after the delay.", delayedCache.getFailure());
+
+            DefaultUnitAndScaleFactory restarted = new DefaultUnitAndScaleFactory();
+            Assert.assertTrue("Testing cache loaded.", new UnitSnapshotCache(path, SOURCE).load(restarted));
+            SingularUnit inch = (SingularUnit) restarted.getUnitOrScale(OM+"inch");
+            Assert.assertEquals("Testing units loaded from cache.", "inch", inch.getName());
+            Assert.assertSame("Testing units loaded from cache.", restarted.getUnitOrScale(OM+"metre"), inch.getDefinitionUnit());
+
+            DefaultUnitAndScaleFactory changed = new DefaultUnitAndScaleFactory();
+            UnitSnapshotCache staleCache = new UnitSnapshotCache(path, "snapshot test set 2");
+            Assert.assertFalse("Testing stale cache.", staleCache.load(changed));
+            Assert.assertEquals("Testing stale cache.", 0, changed.getNumberOfUnits());
+            changed.createBaseUnit(OM+"second-Time", "second", "s", SIBaseDimension.TIME);
+            staleCache.flush(changed);
+            Assert.assertEquals("Testing stale cache replaced.", 1, UnitSnapshot.open(path, "snapshot test set 2").getNumberOfUnits());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Creates a set of units and scales and writes a snapshot of the set to a temporary file.
+     * @return The path of the snapshot file.
+     * @throws IOException When the snapshot could not be written.
+     */
+    private Path writeSnapshot() throws IOException {
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        BaseUnit metre = factory.createBaseUnit(OM+"metre", "metre", "m", SIBaseDimension.LENGTH);
+        metre.addAlternativeName("meter", "nl");
+        metre.addAlternativeSymbol("mtr");
+        SingularUnit gram = factory.createSingularUnit(OM+"gram", "gram", "g");
+        factory.createPrefixedBaseUnit(OM+"kilogram", "kilogram", "kg", SIBaseDimension.MASS, gram, DecimalPrefix.KILO);
+        factory.createSingularUnit(OM+"inch", "inch", "in", metre, 0.0254);
+        BaseUnit second = factory.createBaseUnit(OM+"second-Time", "second", "s", SIBaseDimension.TIME);
+        SingularUnit hour = factory.createSingularUnit(OM+"hour", "hour", "h", second, 3600);
+        PrefixedUnit kilometre = factory.createPrefixedUnit(OM+"kilometre", "kilometre", "km", (SingularUnit) metre, DecimalPrefix.KILO);
+        factory.createUnitDivision(OM+"kilometrePerHour", "kilometre per hour", "km/h", kilometre, hour);
+        factory.createUnitExponentiation(OM+"squareMetre", "square metre", "m2", metre, 2);
+        BaseUnit kelvin = factory.createBaseUnit(OM+"kelvin", "kelvin", "K", SIBaseDimension.THERMODYNAMIC_TEMPERATURE);
+        Scale kelvinScale = factory.createScale(OM+"KelvinScale", "Kelvin scale", null, kelvin);
+        kelvinScale.addDefinitionPoint(new PointImpl(273.16, kelvinScale));
+        kelvinScale.addDefinitionPoint(new PointImpl(Range.between(372.0, 373.0), kelvinScale));
+        factory.createScale(OM+"CelsiusScale", "Celsius scale", null, kelvinScale, 273.15, 1.0, kelvin);
+
+        Path path = Files.createTempFile("units", ".snapshot");
+        UnitSnapshot.write(factory, SOURCE, path);
+        return path;
+    }
+}
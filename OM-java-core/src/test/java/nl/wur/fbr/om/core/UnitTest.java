@@ -2,9 +2,13 @@ package nl.wur.fbr.om.core;
 
 import nl.wur.fbr.om.core.factory.DefaultInstanceFactory;
 import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
+import nl.wur.fbr.om.core.factory.UnitNameIndex;
+import nl.wur.fbr.om.core.factory.UnitRegistry;
 import nl.wur.fbr.om.core.impl.units.PrefixedUnitImpl;
 import nl.wur.fbr.om.core.impl.units.SingularUnitImpl;
 import nl.wur.fbr.om.core.impl.units.UnitImpl;
+import nl.wur.fbr.om.core.impl.units.UnitStructure;
+import nl.wur.fbr.om.exceptions.AmbiguousUnitException;
 import nl.wur.fbr.om.exceptions.ConversionException;
 import nl.wur.fbr.om.exceptions.FactoryNotSetException;
 import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
@@ -18,6 +22,11 @@ import nl.wur.fbr.om.prefixes.DecimalPrefix;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Unit tests for testing unit creation and properties.
  *
@@ -299,4 +308,163 @@ public class UnitTest {
         Unit nmygom = factory.createUnitMultiple(gramPerMetre, 0.12343);
         Assert.assertNotEquals("Test unit recreation", gramPerMetre, nmygom);
     }
+
+    @Test
+    public void testCompoundUnitInterning(){
+        InstanceFactory factory = new DefaultInstanceFactory();
+        Unit metre = factory.createBaseUnit("metre", "m", SIBaseDimension.LENGTH);
+        Unit second = factory.createBaseUnit("second", "s",SIBaseDimension.TIME);
+        UnitMultiplication metreSecond = factory.createUnitMultiplication(metre, second);
+        Assert.assertSame("Test compound unit interning.", metreSecond, factory.createUnitMultiplication(metre, second));
+        Assert.assertSame("Test compound unit interning.", metreSecond, factory.createUnitMultiplication(second, metre));
+        Assert.assertEquals("Test compound unit interning.", UnitStructure.multiplication(second, metre).getIdentifier(),
+                metreSecond.getIdentifier());
+        Assert.assertSame("Test compound unit interning.", factory.createUnitExponentiation(second, 2),
+                factory.createUnitExponentiation(second, 2.0));
+        Assert.assertNotSame("Test compound unit interning.", factory.createUnitExponentiation(second, 2),
+                factory.createUnitExponentiation(second, 3));
+        UnitDivision metrePerSecond = factory.createUnitDivision("metre per second", "m/s", metre, second);
+        Assert.assertSame("Test compound unit interning.", metrePerSecond, factory.createUnitDivision(metre, second));
+        UnitMultiple kilometre = factory.createPrefixedUnit((SingularUnit)metre, DecimalPrefix.KILO);
+        Assert.assertSame("Test compound unit interning.", kilometre, factory.createUnitMultiple(metre, 1000));
+        try {
+            Assert.assertSame("Testing factory unit get test", metreSecond, factory.getUnitOrScale(metreSecond.getIdentifier()));
+        } catch (Exception e) {
+            Assert.fail("Exception thrown when getting a unit from its identifier. " + e);
+        }
+    }
+
+    @Test
+    public void testConcurrentUnitRegistry() throws Exception {
+        UnitRegistry registry = new UnitRegistry();
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        UnitRegistry.Creator creator = identifier -> {
+            creations.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                throw new UnitOrScaleCreationException("Interrupted.", identifier, e);
+            }
+            Object created = new Object();
+            registry.put(identifier, created);
+            return created;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Object>> results = new ArrayList<>();
+        for(int i=0;i<8;i++){
+            results.add(executor.submit(() -> {
+                start.await();
+                return registry.getOrCreate("metre", creator);
+            }));
+        }
+        start.countDown();
+        Object metre = results.get(0).get();
+        for(Future<Object> result : results){
+            Assert.assertSame("Test concurrent creation of the same unit.", metre, result.get());
+        }
+        executor.shutdown();
+        Assert.assertEquals("Test concurrent creation of the same unit.", 1, creations.get());
+
+        Assert.assertFalse("Test registry freeze.", registry.isFrozen());
+        registry.freeze();
+        Assert.assertTrue("Test registry freeze.", registry.isFrozen());
+        Assert.assertEquals("Test registry freeze.", 0, registry.getOverlaySize());
+        Assert.assertSame("Test registry freeze.", metre, registry.get("metre"));
+        Object second = registry.getOrCreate("second", creator);
+        Assert.assertEquals("Test registry overlay.", 1, registry.getOverlaySize());
+        Assert.assertSame("Test registry overlay.", second, registry.get("second"));
+
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        Unit gram = factory.createBaseUnit("gram", "g", SIBaseDimension.MASS);
+        factory.freeze();
+        Unit kilogram = factory.createPrefixedUnit("kilogram", "kg", (SingularUnit) gram, DecimalPrefix.KILO);
+        Assert.assertSame("Test factory freeze.", gram, factory.getUnitOrScale(gram.getIdentifier()));
+        Assert.assertSame("Test factory freeze.", kilogram, factory.getUnitOrScale(kilogram.getIdentifier()));
+    }
+
+    @Test
+    public void testUnitNameIndex() throws Exception {
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        UnitNameIndex index = factory.getUnitNameIndex();
+        BaseUnit metre = factory.createBaseUnit("metre", "metre", "m", SIBaseDimension.LENGTH);
+        metre.addAlternativeName("meter", "nl");
+        index.add(metre);
+        PrefixedUnit kilometre = factory.createPrefixedUnit("kilometre", "kilometre", "km", (SingularUnit) metre, DecimalPrefix.KILO);
+        BaseUnit second = factory.createBaseUnit("second", "second", "s", SIBaseDimension.TIME);
+        SingularUnit minute = factory.createSingularUnit("minute", "minute", "min", second, 60);
+        factory.createSingularUnit("minute-Angle", "minute (angle)", "min", metre, 1);
+        BaseUnit kelvin = factory.createBaseUnit("kelvin", "kelvin", "K", SIBaseDimension.THERMODYNAMIC_TEMPERATURE);
+
+        Assert.assertEquals("Testing unit lookup by symbol.", 1, index.getUnitsBySymbol("km").size());
+        Assert.assertSame("Testing unit lookup by symbol.", kilometre, index.getUnitsBySymbol("km").get(0));
+        Assert.assertTrue("Testing unit lookup by symbol.", index.getUnitsBySymbol("KM").isEmpty());
+        Assert.assertSame("Testing unit lookup by symbol.", kilometre, index.getUnitsBySymbol("KM", true).get(0));
+        Assert.assertSame("Testing unit lookup by symbol.", kelvin, index.getUnitsBySymbol("k", true).get(0));
+        Assert.assertTrue("Testing unit lookup by symbol.", index.getUnitsBySymbol("k").isEmpty());
+        Assert.assertEquals("Testing unit lookup by symbol.", 2, index.getUnitsBySymbol("min").size());
+
+        Assert.assertSame("Testing unit lookup by name.", metre, index.getUnitsByName("Metre").get(0));
+        Assert.assertSame("Testing unit lookup by name.", metre, index.getUnitsByName("meter", "nl", false).get(0));
+        Assert.assertTrue("Testing unit lookup by name.", index.getUnitsByName("meter", "en", false).isEmpty());
+        Assert.assertTrue("Testing unit lookup by name.", index.getUnitsByName("kilo").isEmpty());
+
+        Assert.assertSame("Testing find unit.", metre, index.findUnit("meter"));
+        Assert.assertSame("Testing find unit.", kilometre, index.findUnit("km"));
+        Assert.assertSame("Testing find unit.", minute, index.findUnit("minute"));
+        Assert.assertNull("Testing find unit.", index.findUnit("furlong"));
+        try {
+            index.findUnit("min");
+            Assert.fail("Testing find unit, the symbol should have been ambiguous.");
+        } catch (AmbiguousUnitException e) {
+            Assert.assertEquals("Testing find unit.", "min", e.getKey());
+            Assert.assertEquals("Testing find unit.", 2, e.getCandidates().size());
+        }
+
+        List<String> names = index.getNamesStartingWith("Me", 10);
+        Assert.assertEquals("Testing name completion.", 2, names.size());
+        Assert.assertTrue("Testing name completion.", names.contains("metre"));
+        Assert.assertTrue("Testing name completion.", names.contains("meter"));
+        Assert.assertEquals("Testing name completion.", 1, index.getNamesStartingWith("mi", 1).size());
+        Assert.assertEquals("Testing symbol completion.", 1, index.getSymbolsStartingWith("mi", 10).size());
+    }
+
+    @Test
+    public void testUnitNamesAndSymbols() {
+        DefaultUnitAndScaleFactory factory = new DefaultUnitAndScaleFactory();
+        BaseUnit metre = factory.createBaseUnit("metre", "metre", "m", SIBaseDimension.LENGTH);
+        metre.addAlternativeName("meter", "nl");
+        metre.addAlternativeName("meter", "en");
+        metre.addAlternativeName("meter", "nl");
+        metre.addAlternativeName("mètre", "fr");
+        metre.addAlternativeName("metro", "nl");
+        metre.addAlternativeSymbol("mtr");
+        metre.addAlternativeSymbol("mtr");
+        Assert.assertEquals("Test unit names.", "metre", metre.getName());
+        Assert.assertEquals("Test unit names.", "meter", metre.getName("nl"));
+        Assert.assertEquals("Test unit names.", "mètre", metre.getName("fr"));
+        Assert.assertNull("Test unit names.", metre.getName("de"));
+        Assert.assertEquals("Test unit names.", 4, metre.getAlternativeNames().size());
+        Assert.assertEquals("Test unit names.", "metro", metre.getAlternativeNames("nl").get(0));
+        Assert.assertTrue("Test unit names.", metre.getAlternativeNames("fr").isEmpty());
+        Assert.assertEquals("Test unit names.", "", metre.getLanguages().get(0));
+        Assert.assertEquals("Test unit names.", "fr", metre.getLanguages().get(3));
+        Assert.assertEquals("Test unit symbols.", "m", metre.getSymbol());
+        Assert.assertEquals("Test unit symbols.", 1, metre.getAlternativeSymbols().size());
+        metre.setSymbol("M");
+        Assert.assertEquals("Test unit symbols.", "M", metre.getSymbol());
+        Assert.assertEquals("Test unit symbols.", "m", metre.getAlternativeSymbols().get(0));
+        try {
+            metre.getAlternativeNames().add("metros");
+            Assert.fail("Test unit names, the alternative names should not be modifiable.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        Unit kilometre = factory.createPrefixedUnit("kilometre", "kilometre", "km", (SingularUnit) metre, DecimalPrefix.KILO);
+        kilometre.addAlternativeName(new String("kilometer"), "nl");
+        metre.addAlternativeName(new String("kilometer"), "nl");
+        Assert.assertSame("Test shared unit names.", kilometre.getName("nl"), metre.getAlternativeNames("nl").get(1));
+        Assert.assertTrue("Test unit name footprint.", ((UnitImpl) kilometre).getNameTable().getFootprint()<=56);
+    }
 }
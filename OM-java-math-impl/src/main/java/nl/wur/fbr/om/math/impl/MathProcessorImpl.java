@@ -694,10 +694,10 @@ public class MathProcessorImpl implements MathProcessor {
                 UnitExponentiation ue = (UnitExponentiation) measure.getUnit();
                 if (Math.abs(ue.getExponent() - 2.0) < 0.0000001) newUnit = ue.getBase();
                 else {
-                    newUnit = factory.createUnitExponentiation(ue.getBase(), ue.getExponent() / 2.); // todo find existing unit
+                    newUnit = factory.createUnitExponentiation(ue.getBase(), ue.getExponent() / 2.);
                 }
             } else {
-                newUnit = factory.createUnitExponentiation(measure.getUnit(), 0.5); // todo find existing unit
+                newUnit = factory.createUnitExponentiation(measure.getUnit(), 0.5);
             }
             return factory.createVectorMeasure(sqrt, newUnit);
         }catch (ClassCastException e){
@@ -726,10 +726,10 @@ public class MathProcessorImpl implements MathProcessor {
                 UnitExponentiation ue = (UnitExponentiation)measure.getUnit();
                 if(Math.abs(ue.getExponent()-3.0)<0.0000001) newUnit = ue.getBase();
                 else{
-                    newUnit = factory.createUnitExponentiation(ue.getBase(),ue.getExponent()/3.); // todo find existing unit
+                    newUnit = factory.createUnitExponentiation(ue.getBase(),ue.getExponent()/3.);
                 }
             }else{
-                newUnit = factory.createUnitExponentiation(measure.getUnit(),1./3.); // todo find existing unit
+                newUnit = factory.createUnitExponentiation(measure.getUnit(),1./3.);
             }
             return factory.createVectorMeasure(cbrt,newUnit);
         }catch (ClassCastException e){
@@ -781,7 +781,7 @@ public class MathProcessorImpl implements MathProcessor {
         try {
             double bv = base.getScalarValue();
             double pow = Math.pow(bv, exponent);
-            return factory.createScalarMeasure(pow,factory.createUnitExponentiation(base.getUnit(), exponent));  // todo find existing unit
+            return factory.createScalarMeasure(pow,factory.createUnitExponentiation(base.getUnit(), exponent));
         } catch (NumberFormatException e){
             throw new MathException("The base measure in the pow("+base+","+exponent+") function was not a scalar value.");
         }
@@ -1050,7 +1050,7 @@ public class MathProcessorImpl implements MathProcessor {
             for(int i=0;i<v1.length;i++){
                 dotp += v1[i]*v2[i];
             }
-            Unit newUnit = factory.createUnitExponentiation(vector1.getUnit(),2); //todo find existing unit
+            Unit newUnit = factory.createUnitExponentiation(vector1.getUnit(),2);
             return factory.createScalarMeasure(dotp,newUnit);
         }catch (ClassCastException e){
             throw new MathException("One of the parameters, "+vector1+" or "+vector2+" to the dotProduct() method" +
@@ -1085,7 +1085,7 @@ public class MathProcessorImpl implements MathProcessor {
             Measure vector2a = factory.convertToUnit(vector2,vector1.getUnit());
             v2 = vector2a.getVectorValue();
             double[] crosp = {v1[1]*v2[2]-v1[2]*v2[1],v1[2]*v2[0]-v1[0]*v2[2],v1[0]*v2[1]-v1[1]*v2[0]};
-            Unit newUnit = factory.createUnitExponentiation(vector1.getUnit(),2); //todo find existing unit
+            Unit newUnit = factory.createUnitExponentiation(vector1.getUnit(),2);
             return factory.createVectorMeasure(crosp, newUnit);
         }catch (ClassCastException e){
             throw new MathException("One of the parameters, "+vector1+" or "+vector2+" to the dotProduct() method" +
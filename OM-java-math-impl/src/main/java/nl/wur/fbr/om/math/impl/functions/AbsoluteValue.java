@@ -4,11 +4,8 @@ import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.equations.Function;
 import nl.wur.fbr.om.math.impl.equations.ExpressionImpl;
 import nl.wur.fbr.om.math.processors.MathException;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 
-import java.util.Set;
-
 /**
  * This is an implementation of the absolute value function.
  *
@@ -57,12 +54,7 @@ public class AbsoluteValue implements Function {
     public Dimension getDimensionOfResult(Expression... parameters) {
         if(parameters.length!=1) return null;
         Dimension pdim = parameters[0].getDimensionOfResult();
-        Set<BaseDimension> bdims = pdim.getDimensions();
-        Dimension dimension = new Dimension();
-        for(BaseDimension bdim : bdims){
-            dimension.setDimensionalExponent(bdim,pdim.getDimensionalExponent(bdim));
-        }
-        return dimension;
+        return pdim;
     }
 
     /**
@@ -55,7 +55,7 @@ public class Arcsine implements Function {
     public Dimension getDimensionOfResult(Expression... parameters) {
         if(parameters.length!=1) return null;
         if(!parameters[0].getDimensionOfResult().isDimensionless()) return null;
-        return new Dimension();
+        return Dimension.DIMENSIONLESS;
     }
 
     /**
@@ -69,11 +69,11 @@ public class Arctangent implements Function {
     public Dimension getDimensionOfResult(Expression... parameters) {
         if(parameters.length==1) {
             if(!parameters[0].getDimensionOfResult().isDimensionless()) return null;
-            return new Dimension();
+            return Dimension.DIMENSIONLESS;
         }
         if(parameters.length==2) {
             if(!parameters[0].getDimensionOfResult().equals(parameters[1].getDimensionOfResult())) return null;
-            return new Dimension();
+            return Dimension.DIMENSIONLESS;
         }
         return null;
     }
@@ -56,7 +56,7 @@ public class Base10Logarithm implements Function {
     public Dimension getDimensionOfResult(Expression... parameters) {
         if(parameters.length!=1) return null;
         if(!parameters[0].getDimensionOfResult().isDimensionless()) return null;
-        return new Dimension();
+        return Dimension.DIMENSIONLESS;
     }
 
     /**
@@ -4,11 +4,8 @@ import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.equations.Function;
 import nl.wur.fbr.om.math.impl.equations.ExpressionImpl;
 import nl.wur.fbr.om.math.processors.MathException;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 
-import java.util.Set;
-
 /**
  * This is an implementation of a function that can divide two values.
  *
@@ -63,12 +60,7 @@ public class Division implements Function {
         if(parameters.length==2){
             Dimension dimension1 = parameters[0].getDimensionOfResult();
             Dimension dimension2 = parameters[1].getDimensionOfResult();
-            Dimension dimension = new Dimension();
-            Set<BaseDimension> dimensionSet = dimension1.getDimensions();
-            for(BaseDimension baseDimension : dimensionSet) dimension.setDimensionalExponent(baseDimension,dimension1.getDimensionalExponent(baseDimension));
-            Set<BaseDimension> dimensionSet2 = dimension2.getDimensions();
-            for(BaseDimension baseDimension : dimensionSet2) dimension.setDimensionalExponent(baseDimension,dimension.getDimensionalExponent(baseDimension)-dimension2.getDimensionalExponent(baseDimension));
-            return dimension;
+            return dimension1.divide(dimension2);
         }
         return null;
     }
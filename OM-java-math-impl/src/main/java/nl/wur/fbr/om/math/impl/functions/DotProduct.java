@@ -4,11 +4,8 @@ import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.equations.Function;
 import nl.wur.fbr.om.math.impl.equations.ExpressionImpl;
 import nl.wur.fbr.om.math.processors.MathException;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 
-import java.util.Set;
-
 /**
  * This is an implementation of a function that determines the dot product of two vector parameters.
  *
@@ -59,12 +56,7 @@ public class DotProduct implements Function {
         if(parameters.length==2){
             Dimension dimension = parameters[0].getDimensionOfResult();
             if(!dimension.equals(parameters[1].getDimensionOfResult())) return null;
-            Set<BaseDimension> baseDimensionSet = dimension.getDimensions();
-            Dimension dim = new Dimension();
-            for(BaseDimension baseDimension : baseDimensionSet){
-                dim.setDimensionalExponent(baseDimension,dimension.getDimensionalExponent(baseDimension)*2);
-            }
-            return dim;
+            return dimension.pow(2);
         }
         return null;
     }
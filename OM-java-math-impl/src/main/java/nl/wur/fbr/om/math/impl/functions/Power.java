@@ -4,11 +4,8 @@ import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.equations.Function;
 import nl.wur.fbr.om.math.impl.equations.ExpressionImpl;
 import nl.wur.fbr.om.math.processors.MathException;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 
-import java.util.Set;
-
 /**
  * This is an implementation of a power function.
  *
@@ -66,14 +63,9 @@ public class Power implements Function {
             if(!dimension2.isDimensionless()) return null;
             if(parameters[1].hasNumericalValue()){
                 double exponent = parameters[1].getNumericalValue();
-                Dimension dimension = new Dimension();
-                Set<BaseDimension> baseDimensions = dimension1.getDimensions();
-                for(BaseDimension baseDimension : baseDimensions){
-                    dimension.setDimensionalExponent(baseDimension,dimension1.getDimensionalExponent(baseDimension)*exponent);
-                }
-                return dimension;
+                return dimension1.pow(exponent);
             }else if(parameters[0].hasNumericalValue()){
-                return new Dimension(); // if the  base is a numerical value, the result is dimensionless
+                return Dimension.DIMENSIONLESS; // if the  base is a numerical value, the result is dimensionless
             }
         }
         return null;
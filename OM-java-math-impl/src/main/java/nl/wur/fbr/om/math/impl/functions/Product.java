@@ -3,8 +3,8 @@ package nl.wur.fbr.om.math.impl.functions;
 import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.equations.Function;
 import nl.wur.fbr.om.math.processors.MathOperationNotSupportedException;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.quantities.IndexSet;
 
 /**
  * This is an implementation of the Product (over sequences) function
@@ -42,8 +42,10 @@ public class Product implements Function {
      * The second parameter specifies the index set used as indices for the product.
      * The last parameter should contain the function (where the index should be a variable) that is being multiplied.
      * <br>
-     * The dimension of the summation is equal to the dimension of the summed function (the last parameter). The index
-     * parameter needs to be dimensionless.
+     * The dimension of the product is equal to the dimension of the multiplied function (the last parameter) to the
+     * power of the size of the index set. The index parameter needs to be dimensionless. When the size of the index set
+     * is not known, e.g. when its upper limit is variable or infinite, the dimension cannot be determined and null is
+     * returned.
      *
      * @param parameters The input expressions.
      * @return The dimension of the result, or null if the function is not
@@ -54,23 +56,16 @@ public class Product implements Function {
         if(parameters.length>=3 && parameters.length<=4){
             Expression indexParameter = parameters[0];
             if(!indexParameter.getDimensionOfResult().isDimensionless()) return null;
-           // if(!(parameters[1] instanceof IndexSetExpressionImpl)) return null;
-           // IndexSetExpressionImpl indexSet = (IndexSetExpressionImpl) parameters[1];
-            int size = 0;//indexSet.indexSetSize();
-            boolean infinite = false;
-            if(size == (int)Double.POSITIVE_INFINITY) {
-                infinite = true;
-            }
-            Dimension dim = parameters[parameters.length-1].getDimensionOfResult();
-            Dimension dimension = new Dimension();
-            for(BaseDimension baseDimension : dim.getDimensions()){
-                if(!infinite) {
-                    dimension.setDimensionalExponent(baseDimension, dim.getDimensionalExponent(baseDimension) * size);
-                }else {
-                    double val = dim.getDimensionalExponent(baseDimension);
-                    if(val<0) dimension.setDimensionalExponent(baseDimension,Double.NEGATIVE_INFINITY);
-                    else if(val>0) dimension.setDimensionalExponent(baseDimension,Double.POSITIVE_INFINITY);
-                }
+            Expression indexSetParameter = parameters[1];
+            if(!indexSetParameter.hasQuantity() || !(indexSetParameter.getQuantity() instanceof IndexSet)) return null;
+            int size = ((IndexSet) indexSetParameter.getQuantity()).size();
+            if(size<0) return null;
+            Dimension dimension = parameters[parameters.length-1].getDimensionOfResult();
+            if(dimension==null) return null;
+            try {
+                return dimension.pow(size);
+            } catch (IllegalArgumentException e) {
+                return null; // The exponents are too large to be represented.
             }
         }
         return null;
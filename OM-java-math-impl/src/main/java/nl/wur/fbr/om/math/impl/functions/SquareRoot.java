@@ -4,11 +4,8 @@ import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.equations.Function;
 import nl.wur.fbr.om.math.impl.equations.ExpressionImpl;
 import nl.wur.fbr.om.math.processors.MathException;
-import nl.wur.fbr.om.model.dimensions.BaseDimension;
 import nl.wur.fbr.om.model.dimensions.Dimension;
 
-import java.util.Set;
-
 /**
  * This is an implementation of the square root function.
  *
@@ -57,12 +54,7 @@ public class SquareRoot implements Function {
     public Dimension getDimensionOfResult(Expression... parameters) {
         if(parameters.length!=1) return null;
         Dimension pdim = parameters[0].getDimensionOfResult();
-        Set<BaseDimension> bdims = pdim.getDimensions();
-        Dimension dimension = new Dimension();
-        for(BaseDimension bdim : bdims){
-            dimension.setDimensionalExponent(bdim,pdim.getDimensionalExponent(bdim)/2.0);
-        }
-        return dimension;
+        return pdim.pow(0.5);
     }
 
     /**
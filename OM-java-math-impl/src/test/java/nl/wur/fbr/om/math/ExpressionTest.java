@@ -1,6 +1,8 @@
 package nl.wur.fbr.om.math;
 
 import nl.wur.fbr.om.conversion.CoreInstanceFactory;
+import nl.wur.fbr.om.core.impl.quantities.IndexImpl;
+import nl.wur.fbr.om.core.impl.quantities.IndexRangeSetImpl;
 import nl.wur.fbr.om.core.set.CoreUnitAndScaleSet;
 import nl.wur.fbr.om.core.set.quantities.CoreQuantitySet;
 import nl.wur.fbr.om.core.set.quantities.angle.Angle;
@@ -17,7 +19,10 @@ import nl.wur.fbr.om.math.equations.Expression;
 import nl.wur.fbr.om.math.impl.MathProcessorImpl;
 import nl.wur.fbr.om.math.impl.equations.EquationImpl;
 import nl.wur.fbr.om.math.impl.equations.ExpressionImpl;
+import nl.wur.fbr.om.math.impl.functions.Product;
 import nl.wur.fbr.om.model.QuantitySet;
+import nl.wur.fbr.om.model.dimensions.Dimension;
+import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
 import nl.wur.fbr.om.model.measures.Measure;
 import org.junit.Assert;
 import org.junit.Test;
@@ -197,6 +202,21 @@ public class ExpressionTest {
     }
     */
 
+    @Test
+    public void testExpressionProductDimension() throws UnitOrScaleCreationException, QuantityCreationException {
+        InstanceFactory factory = new CoreInstanceFactory();
+        CoreQuantitySet quantitySet = new CoreQuantitySet();
+        factory.addUnitAndScaleSet(CoreUnitAndScaleSet.class);
+        Math.setMathProcessor(new MathProcessorImpl(factory));
+        Expression index = new ExpressionImpl(new IndexImpl());
+        Expression length = new ExpressionImpl(QuantitySet.createQuantity(CoreQuantitySet.LENGTH));
+        Product product = new Product();
+        Assert.assertEquals("Test dimension of product over a finite index set", Dimension.of(SIBaseDimension.LENGTH).pow(3),
+                product.getDimensionOfResult(index, new ExpressionImpl(new IndexRangeSetImpl(1, 3)), length));
+        Assert.assertNull("Test dimension of product over a variable index set",
+                product.getDimensionOfResult(index, new ExpressionImpl(new IndexRangeSetImpl()), length));
+    }
+
     @Test
     public void testExpressionDivision() throws UnitOrScaleCreationException, QuantityCreationException {
         InstanceFactory factory = new CoreInstanceFactory();
@@ -43,7 +43,7 @@ public abstract class Expression {
      */
     public Expression(double numericalValue){
         this.numericalValue = numericalValue;
-        dimensionOfResult = new Dimension();
+        dimensionOfResult = Dimension.DIMENSIONLESS;
     }
 
     /**
@@ -0,0 +1,60 @@
+package nl.wur.fbr.om.exceptions;
+
+import nl.wur.fbr.om.model.units.Unit;
+
+import java.util.List;
+
+/**
+ * Exceptions of this class are thrown when a unit is looked up by a symbol or name (for instance "min", which is both
+ * the symbol of minute and of the arc minute), and more than one unit has that symbol or name.
+ * @author Don Willems on 16/10/26.
+ */
+public class AmbiguousUnitException extends FactoryException {
+
+    /** The symbol or name that was looked up. */
+    private final String key;
+
+    /** The units with the symbol or name. */
+    private final List<Unit> candidates;
+
+    /**
+     * Creates a new <code>AmbiguousUnitException</code> for the specified symbol or name and the units that have
+     * the symbol or name.
+     * @param key The symbol or name that was looked up.
+     * @param candidates The units with the symbol or name.
+     */
+    public AmbiguousUnitException(String key, List<Unit> candidates){
+        super("The symbol or name '"+key+"' is ambiguous, it is used by "+candidates.size()+" units.");
+        this.key = key;
+        this.candidates = candidates;
+    }
+
+    /**
+     * Creates a new <code>AmbiguousUnitException</code> with the specified message for the specified symbol or name
+     * and the units that have the symbol or name.
+     * @param message A human readable message describing the exception.
+     * @param key The symbol or name that was looked up.
+     * @param candidates The units with the symbol or name.
+     */
+    public AmbiguousUnitException(String message, String key, List<Unit> candidates){
+        super(message);
+        this.key = key;
+        this.candidates = candidates;
+    }
+
+    /**
+     * Returns the symbol or name that was looked up.
+     * @return The symbol or name.
+     */
+    public String getKey(){
+        return key;
+    }
+
+    /**
+     * Returns the units with the symbol or name.
+     * @return The candidate units.
+     */
+    public List<Unit> getCandidates(){
+        return candidates;
+    }
+}
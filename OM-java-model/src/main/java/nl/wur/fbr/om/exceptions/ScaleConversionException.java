@@ -38,4 +38,19 @@ public class ScaleConversionException extends ConversionException {
         this.targetScale = targetScale;
     }
 
+    /**
+     * Returns the scale to be converted.
+     * @return The source scale.
+     */
+    public Scale getSourceScale() {
+        return sourceScale;
+    }
+
+    /**
+     * Returns the scale to which is converted.
+     * @return The target scale.
+     */
+    public Scale getTargetScale() {
+        return targetScale;
+    }
 }
@@ -38,5 +38,19 @@ public class UnitConversionException extends ConversionException {
         this.targetUnit = targetUnit;
     }
 
+    /**
+     * Returns the unit to be converted.
+     * @return The source unit.
+     */
+    public Unit getSourceUnit() {
+        return sourceUnit;
+    }
 
+    /**
+     * Returns the unit to which is converted.
+     * @return The target unit.
+     */
+    public Unit getTargetUnit() {
+        return targetUnit;
+    }
 }
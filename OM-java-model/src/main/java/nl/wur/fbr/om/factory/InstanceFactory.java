@@ -165,14 +165,11 @@ public abstract class InstanceFactory implements UnitAndScaleFactory, MeasureAnd
         double testValue = Math.pow(10,(int)(Math.log(Math.abs(min + max)/2)+0.5));
         if(testValue<1) testValue = testValue*10;
         for(Unit unit : unitsInDimension){
-            try {
-                double factor = this.getConversionFactor(munit,unit);
-                factor = factor*testValue;
-                suggestions.add(unit);
-                convfactors.put(unit,factor);
-            } catch (ConversionException e) {
-                // cannot convert, so should not be included in the list
-            }
+            double factor = this.tryGetConversionFactor(munit,unit);
+            if(Double.isNaN(factor)) continue; // cannot convert, so should not be included in the list
+            factor = factor*testValue;
+            suggestions.add(unit);
+            convfactors.put(unit,factor);
         }
         Collections.sort(suggestions, new Comparator<Unit>() {
             @Override
@@ -221,17 +218,61 @@ public abstract class InstanceFactory implements UnitAndScaleFactory, MeasureAnd
      * as when {@link UnitAndScaleSet#initialize(UnitAndScaleFactory)} do not exist.
      */
     public UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass) throws UnitOrScaleCreationException {
+        return this.addUnitAndScaleSet(unitAndScaleSetClass, false);
+    }
+
+    /**
+     * Adds a (large) set of units and scales to this factory, which may be initialized lazily, see
+     * {@link UnitAndScaleFactory#addUnitAndScaleSet(Class, boolean)}. The units in a lazily initialized set are not
+     * matched with the units in other sets, as that would require all units to be created.
+     * @param unitAndScaleSetClass The class of set to be added that should override {@link UnitAndScaleSet}.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     * @throws UnitOrScaleCreationException When the methods in the <code>unitAndScaleSetClass</code> such
+     * as when {@link UnitAndScaleSet#initialize(UnitAndScaleFactory)} do not exist.
+     */
+    @Override
+    public UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass, boolean lazily) throws UnitOrScaleCreationException {
         if(unitAndScaleFactory == null) throw new FactoryNotSetException("The unit and scale creation factory is not set in the InstanceFactory.");
-        UnitAndScaleSet set = unitAndScaleFactory.addUnitAndScaleSet(unitAndScaleSetClass);
-        if(one==null) one = set.getOne();
+        return this.setAdded(unitAndScaleFactory.addUnitAndScaleSet(unitAndScaleSetClass, lazily), lazily);
+    }
+
+    /**
+     * Adds an instance of a (large) set of units and scales to this factory, which may be initialized lazily, see
+     * {@link UnitAndScaleFactory#addUnitAndScaleSet(UnitAndScaleSet, boolean)}.
+     * @param unitAndScaleSet The set to be added.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     * @throws UnitOrScaleCreationException When the units or scales in the set could not be created.
+     */
+    @Override
+    public UnitAndScaleSet addUnitAndScaleSet(UnitAndScaleSet unitAndScaleSet, boolean lazily) throws UnitOrScaleCreationException {
+        if(unitAndScaleFactory == null) throw new FactoryNotSetException("The unit and scale creation factory is not set in the InstanceFactory.");
+        return this.setAdded(unitAndScaleFactory.addUnitAndScaleSet(unitAndScaleSet, lazily), lazily);
+    }
+
+    /**
+     * Registers the units one and radian of a set just added to the unit and scale factory, passes the set to the
+     * conversion factory to use its precomputed conversion data, and matches the units in the set with equal units
+     * in other sets when the set was not added lazily.
+     * @param set The set just added.
+     * @param lazily True when the set was added lazily.
+     * @return The set.
+     */
+    private UnitAndScaleSet setAdded(UnitAndScaleSet set, boolean lazily) {
+        Unit setOne = set.getOne();
+        if(one==null) one = setOne;
         else{
-            if(!one.getIdentifier().equals(set.getOne().getIdentifier()))
-                unitAndScaleConversionFactory.setUnitsToBeEqual(one,set.getOne());
+            if(setOne!=null && !one.getIdentifier().equals(setOne.getIdentifier()))
+                unitAndScaleConversionFactory.setUnitsToBeEqual(one,setOne);
         }
-        if(radian==null) radian = set.getRadianUnit();
+        Unit setRadian = set.getRadianUnit();
+        if(radian==null) radian = setRadian;
         else{
-            if(!radian.getIdentifier().equals(set.getRadianUnit().getIdentifier()))
-                unitAndScaleConversionFactory.setUnitsToBeEqual(radian,set.getRadianUnit());
+            if(setRadian!=null && !radian.getIdentifier().equals(setRadian.getIdentifier()))
+                unitAndScaleConversionFactory.setUnitsToBeEqual(radian,setRadian);
+        }
+        if(unitAndScaleConversionFactory!=null){
+            unitAndScaleConversionFactory.usePrecomputedConversions(set);
+            if(!lazily) unitAndScaleConversionFactory.matchEqualUnits(set);
         }
         return set;
     }
@@ -1090,6 +1131,76 @@ public abstract class InstanceFactory implements UnitAndScaleFactory, MeasureAnd
         return unitAndScaleConversionFactory.convert(value, scale, targetScale);
     }
 
+    /**
+     * Returns the conversion factor that is needed to convert the source unit to the target unit, or
+     * {@link Double#NaN} when the source unit cannot be converted into the target unit.
+     *
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return The conversion factor, or NaN when the units cannot be converted.
+     */
+    @Override
+    public double tryGetConversionFactor(Unit sourceUnit, Unit targetUnit) {
+        if(unitAndScaleConversionFactory == null) throw new FactoryNotSetException("The conversion factory is not set in the InstanceFactory.");
+        return unitAndScaleConversionFactory.tryGetConversionFactor(sourceUnit, targetUnit);
+    }
+
+    /**
+     * Returns true when the source unit can be converted into the target unit.
+     *
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return True when the units can be converted.
+     */
+    @Override
+    public boolean isConvertible(Unit sourceUnit, Unit targetUnit) {
+        if(unitAndScaleConversionFactory == null) throw new FactoryNotSetException("The conversion factory is not set in the InstanceFactory.");
+        return unitAndScaleConversionFactory.isConvertible(sourceUnit, targetUnit);
+    }
+
+    /**
+     * Converts a double value expressed in the specified unit to the target unit, or returns {@link Double#NaN}
+     * when the units cannot be converted into each other.
+     *
+     * @param value      The double value.
+     * @param unit       The unit in which the double is expressed.
+     * @param targetUnit The target unit into which the double should be converted.
+     * @return The converted value expressed in the target unit, or NaN.
+     */
+    @Override
+    public double tryConvert(double value, Unit unit, Unit targetUnit) {
+        if(unitAndScaleConversionFactory == null) throw new FactoryNotSetException("The conversion factory is not set in the InstanceFactory.");
+        return unitAndScaleConversionFactory.tryConvert(value, unit, targetUnit);
+    }
+
+    /**
+     * Converts a double value on the specified measurement scale to the target measurement scale, or returns
+     * {@link Double#NaN} when the scales cannot be converted into each other.
+     *
+     * @param value       The double value.
+     * @param scale       The scale in which the double is expressed.
+     * @param targetScale The target scale into which the double should be converted.
+     * @return The converted value on the target scale, or NaN.
+     */
+    @Override
+    public double tryConvert(double value, Scale scale, Scale targetScale) {
+        if(unitAndScaleConversionFactory == null) throw new FactoryNotSetException("The conversion factory is not set in the InstanceFactory.");
+        return unitAndScaleConversionFactory.tryConvert(value, scale, targetScale);
+    }
+
+    /**
+     * Returns true when the source scale can be converted into the target scale.
+     *
+     * @param sourceScale The source scale.
+     * @param targetScale The target scale.
+     * @return True when the scales can be converted.
+     */
+    @Override
+    public boolean isConvertible(Scale sourceScale, Scale targetScale) {
+        if(unitAndScaleConversionFactory == null) throw new FactoryNotSetException("The conversion factory is not set in the InstanceFactory.");
+        return unitAndScaleConversionFactory.isConvertible(sourceScale, targetScale);
+    }
+
 
     /**
      * Converts a measure (a numerical value expressed in a specific unit) to a target unit.
@@ -1207,6 +1318,18 @@ public abstract class InstanceFactory implements UnitAndScaleFactory, MeasureAnd
         unitAndScaleConversionFactory.setUnitsToBeEqual(unit1,unit2);
     }
 
+    /**
+     * Sets the units in the specified set to be equal to the units with the same definition in the sets that were
+     * matched before. This method is called by {@link #addUnitAndScaleSet(Class)}.
+     *
+     * @param set The set of units.
+     */
+    @Override
+    public void matchEqualUnits(UnitAndScaleSet set) {
+        if(unitAndScaleConversionFactory == null) throw new FactoryNotSetException("The conversion factory is not set in the InstanceFactory.");
+        unitAndScaleConversionFactory.matchEqualUnits(set);
+    }
+
     /**
      * Tests whether the specified unit is equal to One.
      * Some units are defined with respect to the unit One, other units are compound units that equate to One.
@@ -3,6 +3,7 @@ package nl.wur.fbr.om.factory;
 
 
 import nl.wur.fbr.om.exceptions.ConversionException;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
 import nl.wur.fbr.om.model.measures.Measure;
 import nl.wur.fbr.om.model.points.Point;
 import nl.wur.fbr.om.model.scales.Scale;
@@ -117,6 +118,75 @@ public interface UnitAndScaleConversionFactory {
      */
     public double getConversionFactor(Unit sourceUnit, Unit targetUnit) throws ConversionException;
 
+    /**
+     * Returns the conversion factor that is needed to convert the source unit to the target unit, or
+     * {@link Double#NaN} when the source unit cannot be converted into the target unit. Unlike
+     * {@link #getConversionFactor(Unit, Unit)} this method does not throw an exception, which makes it suitable
+     * for data in which units cannot be converted often.
+     * The default implementation catches the exception thrown by {@link #getConversionFactor(Unit, Unit)},
+     * implementations should override this method with a more efficient implementation.
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return The conversion factor, or NaN when the units cannot be converted.
+     */
+    public default double tryGetConversionFactor(Unit sourceUnit, Unit targetUnit) {
+        try {
+            return this.getConversionFactor(sourceUnit, targetUnit);
+        } catch (ConversionException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Returns true when the source unit can be converted into the target unit.
+     * @param sourceUnit The source unit.
+     * @param targetUnit The target unit.
+     * @return True when the units can be converted.
+     */
+    public default boolean isConvertible(Unit sourceUnit, Unit targetUnit) {
+        return !Double.isNaN(this.tryGetConversionFactor(sourceUnit, targetUnit));
+    }
+
+    /**
+     * Converts the specified value expressed in the source unit to a value expressed in the target unit, or
+     * returns {@link Double#NaN} when the units cannot be converted into each other.
+     * @param value The value to be converted.
+     * @param unit The unit in which the value is expressed.
+     * @param targetUnit The unit in which the returned value is expressed.
+     * @return The converted value, or NaN when the units cannot be converted.
+     */
+    public default double tryConvert(double value, Unit unit, Unit targetUnit) {
+        return value*this.tryGetConversionFactor(unit, targetUnit);
+    }
+
+    /**
+     * Converts the specified value on the source scale to a value on the target scale, or returns
+     * {@link Double#NaN} when the scales cannot be converted into each other.
+     * The default implementation catches the exception thrown by {@link #convert(double, Scale, Scale)},
+     * implementations should override this method with a more efficient implementation.
+     * @param value The value to be converted.
+     * @param scale The scale on which the value is specified.
+     * @param targetScale The scale on which the returned value is specified.
+     * @return The converted value, or NaN when the scales cannot be converted.
+     */
+    public default double tryConvert(double value, Scale scale, Scale targetScale) {
+        try {
+            return this.convert(value, scale, targetScale);
+        } catch (ConversionException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Returns true when the source scale can be converted into the target scale.
+     * @param sourceScale The source scale.
+     * @param targetScale The target scale.
+     * @return True when the scales can be converted.
+     */
+    public default boolean isConvertible(Scale sourceScale, Scale targetScale) {
+        return !Double.isNaN(this.tryConvert(0.0, sourceScale, targetScale));
+    }
+
     /**
      * Defines two units two be equal to each other, for instance when they define the same unit but are in
      * different sets.
@@ -125,6 +195,25 @@ public interface UnitAndScaleConversionFactory {
      */
     public void setUnitsToBeEqual(Unit unit1, Unit unit2);
 
+    /**
+     * Sets the units in the specified set to be equal to the units with the same definition in the sets that were
+     * matched before, for instance the metre in one set to the metre in another set. This method is called when
+     * a set of units is added to an {@link InstanceFactory}. By default no units are matched.
+     * @param set The set of units.
+     */
+    public default void matchEqualUnits(UnitAndScaleSet set) {
+    }
+
+    /**
+     * Uses the conversion data precomputed by the specified set (see
+     * {@link UnitAndScaleSet#getPrecomputedIndex(Unit)}) to convert between units in the set. This method is called
+     * when a set of units is added to an {@link InstanceFactory}, also when the set is added lazily. By default the
+     * precomputed data is not used.
+     * @param set The set of units.
+     */
+    public default void usePrecomputedConversions(UnitAndScaleSet set) {
+    }
+
     /**
      * Tests whether the specified unit is equal to One.
      * Some units are defined with respect to the unit One, other units are compound units that equate to One.
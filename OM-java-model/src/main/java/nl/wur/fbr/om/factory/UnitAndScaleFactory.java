@@ -88,6 +88,39 @@ public interface UnitAndScaleFactory {
      */
     public UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass) throws UnitOrScaleCreationException;
 
+    /**
+     * Adds a (large) set of units and scales to this factory, which may be initialized lazily. When the set is
+     * initialized lazily (see {@link UnitAndScaleSet#initializeLazily(UnitAndScaleFactory)}), the units and scales
+     * are only created when they are first requested, for instance with {@link #getUnitOrScale(String)}. Methods that
+     * search through the full set in this factory (such as {@link #getUnitsInDimension(Dimension)}) only find the
+     * units that have been created.
+     * Factories that do not support lazy initialization create all units and scales in the set, which is the default.
+     * @param unitAndScaleSetClass The class of set to be added that should override {@link UnitAndScaleSet}.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     * @return The set just added to the factory.
+     * @throws UnitOrScaleCreationException When the methods in the <code>unitAndScaleSetClass</code> such
+     * as when {@link UnitAndScaleSet#initialize(UnitAndScaleFactory)} do not exist.
+     */
+    public default UnitAndScaleSet addUnitAndScaleSet(Class unitAndScaleSetClass, boolean lazily) throws UnitOrScaleCreationException {
+        return this.addUnitAndScaleSet(unitAndScaleSetClass);
+    }
+
+    /**
+     * Adds an instance of a (large) set of units and scales to this factory, which may be initialized lazily
+     * (see {@link #addUnitAndScaleSet(Class, boolean)}). This method should be used for sets that cannot be
+     * instantiated by the factory, for instance a set loaded from a file.
+     * By default, the set is initialized with this factory, i.e. all its units and scales are created with this
+     * factory, also when <code>lazily</code> is true.
+     * @param unitAndScaleSet The set to be added.
+     * @param lazily True when the set should be initialized lazily, false when all units and scales should be created.
+     * @return The set just added to the factory.
+     * @throws UnitOrScaleCreationException When the units or scales in the set could not be created.
+     */
+    public default UnitAndScaleSet addUnitAndScaleSet(UnitAndScaleSet unitAndScaleSet, boolean lazily) throws UnitOrScaleCreationException {
+        unitAndScaleSet.initialize(this);
+        return unitAndScaleSet;
+    }
+
     /**
      * Implementations should return a unit or scale identified by the specified
      * identifier. If the Unit or Scale with the same identifier has been created previously, this method should return the
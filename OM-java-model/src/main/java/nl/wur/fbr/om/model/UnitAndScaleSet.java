@@ -1,6 +1,7 @@
 package nl.wur.fbr.om.model;
 
 import nl.wur.fbr.om.factory.UnitAndScaleFactory;
+import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.scales.Scale;
 import nl.wur.fbr.om.model.units.Unit;
 import org.apache.commons.lang3.NotImplementedException;
@@ -22,6 +23,45 @@ public abstract class UnitAndScaleSet {
      */
     public abstract void initialize(UnitAndScaleFactory factory);
 
+    /**
+     * Initializes the set lazily, i.e. the units and scales in the set are only created with the specified factory
+     * when they are first requested, for instance with {@link #getUnitOrScale(String)}. The units and scales on
+     * which a requested unit or scale depends (such as its definition unit) are created as well.
+     * {@link #getAllUnits()} and {@link #getAllScales()} create all units and scales that were not created yet.
+     * Sets that cannot be initialized lazily create all units and scales, which is the default.
+     * @param factory The factory to create units and scales.
+     */
+    public void initializeLazily(UnitAndScaleFactory factory){
+        this.initialize(factory);
+    }
+
+    /**
+     * Returns the unit or scale in this set with the specified identifier. If the set was initialized lazily, the
+     * unit or scale is created if it has not been created before.
+     * @param identifier The identifier of the unit or scale.
+     * @return The unit or scale, or null if the set does not contain a unit or scale with the identifier.
+     */
+    public Object getUnitOrScale(String identifier){
+        for(Unit unit : this.getAllUnits()){
+            if(unit!=null && unit.getIdentifier().equals(identifier)) return unit;
+        }
+        for(Scale scale : this.getAllScales()){
+            if(scale!=null && scale.getIdentifier().equals(identifier)) return scale;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true when this set contains a unit or scale with the specified identifier. Unlike
+     * {@link #getUnitOrScale(String)}, sets that were initialized lazily should not create the unit or scale. By
+     * default, the unit or scale is looked up with {@link #getUnitOrScale(String)}.
+     * @param identifier The identifier of the unit or scale.
+     * @return True when the set contains the unit or scale.
+     */
+    public boolean containsUnitOrScale(String identifier){
+        return this.getUnitOrScale(identifier)!=null;
+    }
+
     /**
      * Returns all units in this set.
      * @return All units.
@@ -34,6 +74,54 @@ public abstract class UnitAndScaleSet {
      */
     public abstract Set<Scale> getAllScales();
 
+    /**
+     * Returns the index of the specified unit in the conversion data that has been precomputed for the units in
+     * this set, for instance by the generator of the set. The precomputed data ({@link #getFactorToBaseUnits(int)},
+     * {@link #getConversionGroup(int)} and {@link #getUnitDimension(int)}) allows units in the set to be converted
+     * without following their definitions. Sets without precomputed conversion data return -1, which is the default.
+     * @param unit The unit.
+     * @return The index of the unit, or -1 if the unit is not in this set or no data has been precomputed for it.
+     */
+    public int getPrecomputedIndex(Unit unit){
+        return -1;
+    }
+
+    /**
+     * Returns the precomputed factor of the unit with the specified index (see {@link #getPrecomputedIndex(Unit)}),
+     * i.e. the factor with which a value in the unit is converted to a value in the base units in which the unit
+     * is defined.
+     * @param index The index of the unit.
+     * @return The factor, or NaN if the factor is not known.
+     * @throws IndexOutOfBoundsException When this set has no precomputed data for the index.
+     */
+    public double getFactorToBaseUnits(int index){
+        throw new IndexOutOfBoundsException("The set has no precomputed conversion data for index "+index+".");
+    }
+
+    /**
+     * Returns the precomputed group of the unit with the specified index (see {@link #getPrecomputedIndex(Unit)}).
+     * Units in the same group are defined in the same base units, with the same exponents, and are converted into
+     * each other by the ratio of their factors (see {@link #getFactorToBaseUnits(int)}). Units in different groups
+     * cannot be converted into each other, unless their base units have been set to be equal to other units.
+     * @param index The index of the unit.
+     * @return The group, or -1 if the unit is not in a group, for instance because it is a dimensionless ratio.
+     * @throws IndexOutOfBoundsException When this set has no precomputed data for the index.
+     */
+    public int getConversionGroup(int index){
+        throw new IndexOutOfBoundsException("The set has no precomputed conversion data for index "+index+".");
+    }
+
+    /**
+     * Returns the precomputed dimension of the unit with the specified index (see
+     * {@link #getPrecomputedIndex(Unit)}).
+     * @param index The index of the unit.
+     * @return The dimension, or null if the dimension is not known.
+     * @throws IndexOutOfBoundsException When this set has no precomputed data for the index.
+     */
+    public Dimension getUnitDimension(int index){
+        throw new IndexOutOfBoundsException("The set has no precomputed conversion data for index "+index+".");
+    }
+
     /**
      * Returns the unit in this set that is equal to the unit one.
      * @return The unit that is one.
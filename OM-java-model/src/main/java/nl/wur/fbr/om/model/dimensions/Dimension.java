@@ -2,8 +2,11 @@ package nl.wur.fbr.om.model.dimensions;
 
 import nl.wur.fbr.om.model.units.Unit;
 
-import java.util.HashMap;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * This class defines the dimension of a unit or quantity.
@@ -16,54 +19,398 @@ import java.util.Set;
  * [ref:<a href="http://www.bipm.org/en/publications/si-brochure/section1-3.html">BIPM</a>] <br>
  * The dimensional exponents for a specific unit can be accessed via the method {@link Unit#getUnitDimension()}
  * in implementations of the {@link Unit} interface.
+ * <p>
+ * Dimensions are immutable. The seven dimensional exponents of the {@link SIBaseDimension SI base dimensions} are
+ * stored as rational numbers with denominator {@value #EXPONENT_DENOMINATOR}, so that the exponents resulting from
+ * square and cubic roots (for instance L<sup>1/2</sup>) are represented exactly. Each numerator is packed in 16 bits
+ * of two primitive fields, which makes comparing dimensions and computing their hash code cheap. This limits the
+ * exponents that can be represented: an exponent must be a multiple of 1/{@value #EXPONENT_DENOMINATOR} (for
+ * instance 1/7 cannot be represented) and may not exceed {@value #MAXIMUM_EXPONENT} in absolute value. Creating a
+ * dimension with any other exponent throws an {@link IllegalArgumentException}, exponents are never rounded.
+ * </p>
+ * <p>
+ * Dimensions are created with the factory methods {@link #of(BaseDimension)} and
+ * {@link #of(double, double, double, double, double, double, double)}, or from other dimensions with
+ * {@link #multiply(Dimension)}, {@link #divide(Dimension)}, {@link #pow(double)} and
+ * {@link #withDimensionalExponent(BaseDimension, double)}. Commonly used dimensions are interned: when the same
+ * dimension is created again, the existing instance is returned and nothing is allocated.
+ * </p>
+ * <p>
+ * Dimensions are ordered by their dimensional exponents, compared in the order of the SI base dimensions
+ * (L, M, T, I, &#920;, N, J).
+ * </p>
  * @author Don Willems on 02/08/15.
  */
-public class Dimension extends HashMap {
+public final class Dimension implements Serializable, Comparable<Dimension> {
+
+    /** The serial version UID. */
+    private static final long serialVersionUID = 2L;
+
+    /** The denominator of the dimensional exponents. */
+    public static final int EXPONENT_DENOMINATOR = 60;
+
+    /** The maximum absolute value of a dimensional exponent. */
+    public static final int MAXIMUM_EXPONENT = Short.MAX_VALUE/EXPONENT_DENOMINATOR;
+
+    /**
+     * The maximum difference between a numerator computed from a dimensional exponent and the nearest integer, for
+     * the exponent to be considered a multiple of 1/{@value #EXPONENT_DENOMINATOR}.
+     */
+    private static final double NUMERATOR_TOLERANCE = 1e-6;
+
+    /** The number of base dimensions of which the exponents are stored in the low bits. */
+    private static final int LOW_DIMENSIONS = 4;
+
+    /** The SI base dimensions by their ordinal. */
+    private static final SIBaseDimension[] BASE_DIMENSIONS = SIBaseDimension.values();
+
+    /** The maximum number of interned dimensions, should be a power of two. */
+    private static final int INTERN_CAPACITY = 1024;
+
+    /** The maximum number of slots tested when looking up an interned dimension. */
+    private static final int INTERN_PROBES = 8;
+
+    /** The interned dimensions, stored in an open addressing hash table. */
+    private static final AtomicReferenceArray<Dimension> interned = new AtomicReferenceArray<>(INTERN_CAPACITY);
+
+    /** The dimension of dimensionless units and quantities, i.e. all dimensional exponents are 0. */
+    public static final Dimension DIMENSIONLESS = intern(0L, 0L);
+
+    /**
+     * The numerators of the exponents of length, mass, time, and electric current in consecutive blocks of
+     * 16 bits.
+     */
+    private final long low;
+
+    /**
+     * The numerators of the exponents of thermodynamic temperature, amount of substance, and luminous intensity
+     * in consecutive blocks of 16 bits.
+     */
+    private final long high;
+
+    /** The hash code of this dimension. */
+    private final int hash;
+
+    /**
+     * Creates a new dimension with the specified packed exponent numerators.
+     * @param low The numerators of the exponents of the first four SI base dimensions.
+     * @param high The numerators of the exponents of the last three SI base dimensions.
+     */
+    private Dimension(long low, long high){
+        this.low = low;
+        this.high = high;
+        this.hash = hash(low, high);
+    }
+
+    /**
+     * Returns the dimension with the exponent 1 for the specified base dimension and 0 for all other base dimensions,
+     * or the dimensionless dimension when the base dimension is null.
+     * @param baseDimension The base dimension.
+     * @return The dimension.
+     * @throws IllegalArgumentException When the base dimension is not an SI base dimension.
+     */
+    public static Dimension of(BaseDimension baseDimension){
+        if(baseDimension==null) return DIMENSIONLESS;
+        return DIMENSIONLESS.withDimensionalExponent(baseDimension, 1);
+    }
+
+    /**
+     * Returns the dimension with the specified dimensional exponents for the SI base dimensions.
+     * @param length The exponent of length (L).
+     * @param mass The exponent of mass (M).
+     * @param time The exponent of time (T).
+     * @param electricCurrent The exponent of electric current (I).
+     * @param temperature The exponent of thermodynamic temperature (&#920;).
+     * @param amountOfSubstance The exponent of amount of substance (N).
+     * @param luminousIntensity The exponent of luminous intensity (J).
+     * @return The dimension.
+     * @throws IllegalArgumentException When an exponent cannot be represented, see {@link Dimension}.
+     */
+    public static Dimension of(double length, double mass, double time, double electricCurrent, double temperature,
+                               double amountOfSubstance, double luminousIntensity){
+        long low = pack(0L, 0, numerator(length));
+        low = pack(low, 1, numerator(mass));
+        low = pack(low, 2, numerator(time));
+        low = pack(low, 3, numerator(electricCurrent));
+        long high = pack(0L, 0, numerator(temperature));
+        high = pack(high, 1, numerator(amountOfSubstance));
+        high = pack(high, 2, numerator(luminousIntensity));
+        return intern(low, high);
+    }
 
     /**
-     * Returns the base dimensions in this dimension.
+     * Returns the dimension with the specified packed exponent numerators, as returned by {@link #getPackedLow()} and
+     * {@link #getPackedHigh()}. This allows dimensions to be stored as two primitive values, for instance in
+     * generated code.
+     * @param low The numerators of the exponents of length, mass, time, and electric current.
+     * @param high The numerators of the exponents of thermodynamic temperature, amount of substance, and luminous
+     *             intensity.
+     * @return The dimension.
+     * @throws IllegalArgumentException When the packed numerators are not valid.
+     */
+    public static Dimension ofPacked(long low, long high){
+        if((high>>>(16*(BASE_DIMENSIONS.length-LOW_DIMENSIONS)))!=0L){
+            throw new IllegalArgumentException("The packed dimensional exponents "+high+" are not valid.");
+        }
+        for(int index=0;index<BASE_DIMENSIONS.length;index++){
+            long bits = index<LOW_DIMENSIONS ? low : high;
+            checkRange((short)(bits>>>(16*(index%LOW_DIMENSIONS))));
+        }
+        return intern(low, high);
+    }
+
+    /**
+     * Returns the numerators of the exponents of length, mass, time, and electric current, each packed in 16 bits.
+     * @return The packed numerators.
+     */
+    public long getPackedLow(){
+        return low;
+    }
+
+    /**
+     * Returns the numerators of the exponents of thermodynamic temperature, amount of substance, and luminous
+     * intensity, each packed in 16 bits.
+     * @return The packed numerators.
+     */
+    public long getPackedHigh(){
+        return high;
+    }
+
+    /**
+     * Returns the base dimensions in this dimension, i.e. the base dimensions with a non-zero dimensional exponent.
+     * The returned set cannot be modified.
      * @return The base dimensions.
      */
     public Set<BaseDimension> getDimensions(){
-        return super.keySet();
+        EnumSet<SIBaseDimension> dimensions = EnumSet.noneOf(SIBaseDimension.class);
+        for(SIBaseDimension baseDimension : BASE_DIMENSIONS){
+            if(this.getExponentNumerator(baseDimension.ordinal())!=0) dimensions.add(baseDimension);
+        }
+        return Collections.unmodifiableSet(dimensions);
     }
 
     /**
      * Returns true when this dimension is empty, i.e. is dimensionless.
-     * This is true when the dimension does not contain dimensional exponents, or when
-     * all dimensional exponents are 0.
+     * This is true when all dimensional exponents are 0.
      * @return True when the dimension is dimensionless, or false if not.
      */
     public boolean isDimensionless(){
-        Set<BaseDimension> bases = super.keySet();
-        if(bases.size()==0) return true;
-        for(BaseDimension baseDimension : bases){
-            if(this.getDimensionalExponent(baseDimension)!=0) return false;
-        }
-        return true;
+        return low==0L && high==0L;
     }
 
     /**
-     * Returns the dimensional exponent for the specified base dimension.
+     * Returns the dimensional exponent for the specified base dimension. The exponent of base dimensions that
+     * are not SI base dimensions is always 0.
      * @param baseDimension The base dimension.
      * @return The dimensional exponent.
      */
     public double getDimensionalExponent(BaseDimension baseDimension){
-        Number exp = (Number)super.get(baseDimension);
-        if(exp==null) return 0;
-        return exp.doubleValue();
+        if(!(baseDimension instanceof SIBaseDimension)) return 0;
+        return this.getExponentNumerator(((SIBaseDimension)baseDimension).ordinal())/(double)EXPONENT_DENOMINATOR;
     }
 
     /**
-     * Sets the dimensional exponent for a specific base dimension.
+     * Returns the numerator of the dimensional exponent for the specified base dimension, i.e. the exponent
+     * multiplied by {@value #EXPONENT_DENOMINATOR}.
+     * @param baseDimension The base dimension.
+     * @return The numerator of the dimensional exponent.
+     */
+    public int getExponentNumerator(SIBaseDimension baseDimension){
+        return this.getExponentNumerator(baseDimension.ordinal());
+    }
+
+    /**
+     * Returns a dimension that has the same dimensional exponents as this dimension, except for the specified
+     * base dimension, which has the specified exponent.
      * @param baseDimension The base dimension.
      * @param dimensionalExponent The dimensional exponent.
+     * @return The dimension.
+     * @throws IllegalArgumentException When the base dimension is not an SI base dimension, or when the exponent
+     * cannot be represented.
      */
-    public void setDimensionalExponent(BaseDimension baseDimension, double dimensionalExponent){
-        if(dimensionalExponent==0){
-            super.remove(baseDimension);
+    public Dimension withDimensionalExponent(BaseDimension baseDimension, double dimensionalExponent){
+        if(!(baseDimension instanceof SIBaseDimension)){
+            throw new IllegalArgumentException("The base dimension '"+baseDimension+"' is not an SI base dimension.");
         }
-        super.put(baseDimension,dimensionalExponent);
+        int index = ((SIBaseDimension)baseDimension).ordinal();
+        int numerator = numerator(dimensionalExponent);
+        if(index<LOW_DIMENSIONS) return intern(pack(low, index, numerator), high);
+        return intern(low, pack(high, index-LOW_DIMENSIONS, numerator));
+    }
+
+    /**
+     * Returns the product of this dimension and the specified dimension, i.e. the dimension in which the
+     * dimensional exponents of both dimensions are added.
+     * @param dimension The dimension to multiply with.
+     * @return The product.
+     * @throws IllegalArgumentException When a resulting exponent is out of range.
+     */
+    public Dimension multiply(Dimension dimension){
+        if(dimension.isDimensionless()) return this;
+        if(this.isDimensionless()) return dimension;
+        return this.combine(dimension, 1);
+    }
+
+    /**
+     * Returns the quotient of this dimension and the specified dimension, i.e. the dimension in which the
+     * dimensional exponents of the specified dimension are subtracted from those of this dimension.
+     * @param dimension The dimension to divide by.
+     * @return The quotient.
+     * @throws IllegalArgumentException When a resulting exponent is out of range.
+     */
+    public Dimension divide(Dimension dimension){
+        if(dimension.isDimensionless()) return this;
+        return this.combine(dimension, -1);
+    }
+
+    /**
+     * Returns this dimension to the power of the specified exponent, i.e. the dimension in which the dimensional
+     * exponents of this dimension are multiplied by the exponent.
+     * @param exponent The exponent.
+     * @return The power of this dimension.
+     * @throws IllegalArgumentException When a resulting exponent cannot be represented, for instance the exponent
+     * 1/7 of length.
+     */
+    public Dimension pow(double exponent){
+        if(exponent==1 || this.isDimensionless()) return this;
+        long low = 0L;
+        long high = 0L;
+        for(int index=0;index<BASE_DIMENSIONS.length;index++){
+            int numerator = this.getExponentNumerator(index);
+            if(numerator==0) continue;
+            int result = toNumerator(numerator*exponent, numerator*exponent/EXPONENT_DENOMINATOR);
+            if(index<LOW_DIMENSIONS) low = pack(low, index, result);
+            else high = pack(high, index-LOW_DIMENSIONS, result);
+        }
+        return intern(low, high);
+    }
+
+    /**
+     * Returns the dimension in which the dimensional exponents of the specified dimension, multiplied by the
+     * sign, are added to those of this dimension.
+     * @param dimension The other dimension.
+     * @param sign The sign, 1 or -1.
+     * @return The dimension.
+     * @throws IllegalArgumentException When a resulting exponent is out of range.
+     */
+    private Dimension combine(Dimension dimension, int sign){
+        long low = 0L;
+        long high = 0L;
+        for(int index=0;index<BASE_DIMENSIONS.length;index++){
+            int result = checkRange(this.getExponentNumerator(index)+sign*dimension.getExponentNumerator(index));
+            if(index<LOW_DIMENSIONS) low = pack(low, index, result);
+            else high = pack(high, index-LOW_DIMENSIONS, result);
+        }
+        return intern(low, high);
+    }
+
+    /**
+     * Returns the numerator of the exponent of the base dimension with the specified ordinal.
+     * @param index The ordinal of the SI base dimension.
+     * @return The numerator.
+     */
+    private int getExponentNumerator(int index){
+        if(index<LOW_DIMENSIONS) return (short)(low>>>(16*index));
+        return (short)(high>>>(16*(index-LOW_DIMENSIONS)));
+    }
+
+    /**
+     * Returns the packed numerators in which the numerator at the specified position is replaced.
+     * @param bits The packed numerators.
+     * @param position The position of the numerator.
+     * @param numerator The new numerator.
+     * @return The packed numerators.
+     */
+    private static long pack(long bits, int position, int numerator){
+        int shift = 16*position;
+        return (bits & ~(0xFFFFL<<shift)) | ((numerator & 0xFFFFL)<<shift);
+    }
+
+    /**
+     * Returns the numerator of the specified dimensional exponent.
+     * @param exponent The dimensional exponent.
+     * @return The numerator.
+     * @throws IllegalArgumentException When the exponent is not a multiple of 1/{@value #EXPONENT_DENOMINATOR} or
+     * is out of range.
+     */
+    private static int numerator(double exponent){
+        return toNumerator(exponent*EXPONENT_DENOMINATOR, exponent);
+    }
+
+    /**
+     * Returns the specified numerator as an integer.
+     * @param numerator The numerator, i.e. the dimensional exponent multiplied by {@value #EXPONENT_DENOMINATOR}.
+     * @param exponent The dimensional exponent, used in the error message.
+     * @return The numerator.
+     * @throws IllegalArgumentException When the numerator is not an integer or is out of range.
+     */
+    private static int toNumerator(double numerator, double exponent){
+        double rounded = Math.rint(numerator);
+        if(!(Math.abs(numerator-rounded)<=NUMERATOR_TOLERANCE)){
+            throw new IllegalArgumentException("The dimensional exponent "+exponent+" is not a multiple of 1/"+
+                    EXPONENT_DENOMINATOR+".");
+        }
+        if(!(Math.abs(rounded)<=MAXIMUM_EXPONENT*EXPONENT_DENOMINATOR)){
+            throw new IllegalArgumentException("The dimensional exponent "+exponent+" is out of range.");
+        }
+        return (int)rounded;
+    }
+
+    /**
+     * Checks whether the numerator can be stored.
+     * @param numerator The numerator.
+     * @return The numerator.
+     * @throws IllegalArgumentException When the numerator is out of range.
+     */
+    private static int checkRange(int numerator){
+        if(Math.abs(numerator)>MAXIMUM_EXPONENT*EXPONENT_DENOMINATOR){
+            throw new IllegalArgumentException("The dimensional exponent "+numerator/(double)EXPONENT_DENOMINATOR+
+                    " is out of range.");
+        }
+        return numerator;
+    }
+
+    /**
+     * Returns the hash code for the packed numerators.
+     * @param low The numerators of the exponents of the first four SI base dimensions.
+     * @param high The numerators of the exponents of the last three SI base dimensions.
+     * @return The hash code.
+     */
+    private static int hash(long low, long high){
+        long h = low*0x9E3779B97F4A7C15L + high;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return (int)(h ^ (h>>>32));
+    }
+
+    /**
+     * Returns the interned dimension with the specified packed numerators. When the dimension has not been
+     * interned yet and the table of interned dimensions is not full, the dimension is created and interned.
+     * Otherwise a new dimension is returned.
+     * @param low The numerators of the exponents of the first four SI base dimensions.
+     * @param high The numerators of the exponents of the last three SI base dimensions.
+     * @return The dimension.
+     */
+    private static Dimension intern(long low, long high){
+        int index = hash(low, high) & (INTERN_CAPACITY-1);
+        for(int probe=0;probe<INTERN_PROBES;probe++){
+            Dimension dimension = interned.get(index);
+            if(dimension==null){
+                Dimension created = new Dimension(low, high);
+                if(interned.compareAndSet(index, null, created)) return created;
+                dimension = interned.get(index);
+            }
+            if(dimension.low==low && dimension.high==high) return dimension;
+            index = (index+1) & (INTERN_CAPACITY-1);
+        }
+        return new Dimension(low, high);
+    }
+
+    /**
+     * Returns the interned instance of a deserialized dimension.
+     * @return The interned dimension.
+     */
+    private Object readResolve(){
+        return intern(low, high);
     }
 
     /**
@@ -74,23 +421,37 @@ public class Dimension extends HashMap {
      */
     @Override
     public boolean equals(Object object){
-        if(object instanceof Dimension) {
-            Dimension map = (Dimension)object;
-            Set<BaseDimension> dims = this.getDimensions();
-            Set<BaseDimension> odims = map.getDimensions();
-            for (BaseDimension dim : dims) {
-                double exp = this.getDimensionalExponent(dim);
-                double oexp = map.getDimensionalExponent(dim);
-                if (Math.abs(exp-oexp)>0.0000001) return false;
-            }
-            for (BaseDimension dim : odims) {
-                double exp = this.getDimensionalExponent(dim);
-                double oexp = map.getDimensionalExponent(dim);
-                if (Math.abs(exp-oexp)>0.0000001) return false;
-            }
-            return true;
+        if(this==object) return true;
+        if(!(object instanceof Dimension)) return false;
+        Dimension dimension = (Dimension)object;
+        return low==dimension.low && high==dimension.high;
+    }
+
+    /**
+     * Returns the hash code of this dimension.
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode(){
+        return hash;
+    }
+
+    /**
+     * Compares this dimension with the specified dimension. The dimensional exponents of the SI base dimensions
+     * are compared in the order of the base dimensions (L, M, T, I, &#920;, N, J), the first exponent that differs
+     * determines the order.
+     * @param dimension The dimension to be compared.
+     * @return A negative integer, zero, or a positive integer as this dimension is less than, equal to, or greater
+     * than the specified dimension.
+     */
+    @Override
+    public int compareTo(Dimension dimension){
+        if(low==dimension.low && high==dimension.high) return 0;
+        for(int index=0;index<BASE_DIMENSIONS.length;index++){
+            int comparison = Integer.compare(this.getExponentNumerator(index), dimension.getExponentNumerator(index));
+            if(comparison!=0) return comparison;
         }
-        return false;
+        return 0;
     }
 
     /**
@@ -98,37 +459,41 @@ public class Dimension extends HashMap {
      * It is a combination of the symbols of the base dimensions and the exponents.
      * For instance, metre per second squared has two base dimensions, length (L) and
      * time (T) with exponents +1 and -2 respectively. The string representation
-     * will be D[L+1, T-2].
+     * will be D[L+1, T-2]. Fractional exponents are written as fractions, e.g. D[L+1/2].
      * @return The string representation.
      */
     @Override
     public String toString(){
-        Set<BaseDimension> dims = this.getDimensions();
-        String str = "D[";
+        StringBuilder str = new StringBuilder("D[");
         boolean first = true;
-        for(BaseDimension dim : dims){
-            String symb = dim.getSymbol();
-            double exponent = this.getDimensionalExponent(dim);
-            if(exponent!=0) {
-                String exp="";
-                double abs = Math.abs(exponent);
-                if (abs >= 1) {
-                    exp = ""+(int)(abs+0.5);
-                }else{
-                    exp = "1/"+(int)(1/abs+0.5);
-                }
-                String es = "";
-                if (exponent > 0) {
-                    es = "+" + exp;
-                } else {
-                    es = "-" + exp;
-                }
-                if (!first) str += ", ";
-                str += symb + es;
+        for(SIBaseDimension dim : BASE_DIMENSIONS){
+            int numerator = this.getExponentNumerator(dim.ordinal());
+            if(numerator!=0) {
+                if (!first) str.append(", ");
+                str.append(dim.getSymbol()).append(numerator>0 ? '+' : '-');
+                int abs = Math.abs(numerator);
+                int divisor = gcd(abs, EXPONENT_DENOMINATOR);
+                str.append(abs/divisor);
+                if(divisor!=EXPONENT_DENOMINATOR) str.append('/').append(EXPONENT_DENOMINATOR/divisor);
                 first = false;
             }
         }
-        str+="]";
-        return str;
+        str.append(']');
+        return str.toString();
+    }
+
+    /**
+     * Returns the greatest common divisor of two positive integers.
+     * @param a The first integer.
+     * @param b The second integer.
+     * @return The greatest common divisor.
+     */
+    private static int gcd(int a, int b){
+        while(b!=0){
+            int t = a%b;
+            a = b;
+            b = t;
+        }
+        return a;
     }
 }
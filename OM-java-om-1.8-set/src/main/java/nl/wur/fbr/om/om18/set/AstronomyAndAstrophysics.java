@@ -30,158 +30,158 @@ import nl.wur.fbr.om.prefixes.*;
 public class AstronomyAndAstrophysics {
 
 	/** The light year is a unit of length defined as 9.46073e15 metre. */
-	public static Unit LightYear = OM.LightYear;
+	public static Unit LightYear = OM.unit("LightYear");
 
 	/** Wordt gebruikt als hoek (360°=1440) voor o.a. rechte klimming. De m wordt meestal als superscript achter de waarde gezet gevolgd door de verdere opdeling naar seconden. Zoals in 5h34m12s09. Vaak wordt de fractie in seconden zonder punt geschreven, de s wordt als afscheiding gebruikt (http://en.wikipedia.org/wiki/Right_ascension). */
-	public static Unit MinuteHourAngle = OM.MinuteHourAngle;
+	public static Unit MinuteHourAngle = OM.unit("MinuteHourAngle");
 
 	/** The amount of stellar mass created per cubic parsec in each billion years. */
-	public static Unit SolarMassPerGigayearCubicParsec = OM.SolarMassPerGigayearCubicParsec;
+	public static Unit SolarMassPerGigayearCubicParsec = OM.unit("SolarMassPerGigayearCubicParsec");
 
 	/** The nanometre is a unit of length defined as 1.0e-9 metre. */
-	public static Unit Nanometre = OM.Nanometre;
+	public static Unit Nanometre = OM.unit("Nanometre");
 
-	public static Unit ReciprocalCubicParsec = OM.ReciprocalCubicParsec;
+	public static Unit ReciprocalCubicParsec = OM.unit("ReciprocalCubicParsec");
 
-	public static Unit SecondPlaneAngleSquared = OM.SecondPlaneAngleSquared;
+	public static Unit SecondPlaneAngleSquared = OM.unit("SecondPlaneAngleSquared");
 
 	/** The brightness (in magnitudes) of an area on the celestial sphere of 1 arcsecond by 1 arcsecond. */
-	public static Unit MagnitudePerSecondPlaneAngleSquared = OM.MagnitudePerSecondPlaneAngleSquared;
+	public static Unit MagnitudePerSecondPlaneAngleSquared = OM.unit("MagnitudePerSecondPlaneAngleSquared");
 
 	/** The kelvin is a unit of temperature defined as 1/273.16 of the thermodynamic temperature of the triple point of water. */
-	public static Unit Kelvin = OM.Kelvin;
+	public static Unit Kelvin = OM.unit("Kelvin");
 
 	/** The second is a unit of time defined as the duration of 9 192 631 770 periods of the radiation corresponding to the transition between the two hyperfine levels of the ground state of the cesium 133 atom. */
-	public static Unit SecondTime = OM.SecondTime;
+	public static Unit SecondTime = OM.unit("SecondTime");
 
-	public static Unit Jansky = OM.Jansky;
+	public static Unit Jansky = OM.unit("Jansky");
 
 	/** The gigaparsec is a unit of length defined as 1.0e9 parsec. Gebruikt voor de afstand op de schaal van het heelal. */
-	public static Unit Gigaparsec = OM.Gigaparsec;
+	public static Unit Gigaparsec = OM.unit("Gigaparsec");
 
 	/** The millisecond (plane angle) is a unit of length defined as 1.0e-3 second (plane angle). Gebruikt in de astronomie (metingen van posities van sterren/sterrenstelsels etc.) om de fout weer te geven. */
-	public static Unit MillisecondPlaneAngle = OM.MillisecondPlaneAngle;
+	public static Unit MillisecondPlaneAngle = OM.unit("MillisecondPlaneAngle");
 
-	public static Unit MetrePerSecondTimePerMetre = OM.MetrePerSecondTimePerMetre;
+	public static Unit MetrePerSecondTimePerMetre = OM.unit("MetrePerSecondTimePerMetre");
 
 	/** The centimetre is a unit of length defined as 1.0e-2 metre. */
-	public static Unit Centimetre = OM.Centimetre;
+	public static Unit Centimetre = OM.unit("Centimetre");
 
 	/** The gigaelectronvolt is a unit of energy defined as 1.0e9 electronvolt. */
-	public static Unit Gigaelectronvolt = OM.Gigaelectronvolt;
+	public static Unit Gigaelectronvolt = OM.unit("Gigaelectronvolt");
 
 	/** Wordt gebruikt als hoek (360°=24) voor o.a. rechte klimming. De h wordt meestal als superscript achter de waarde gezet gevolgd door de verdere opdeling naar minuten en seconden. Zoals in 5h34m12s09. Vaak wordt de fractie in seconden zonder punt geschreven, de s wordt als afscheiding gebruikt (http://en.wikipedia.org/wiki/Right_ascension). */
-	public static Unit HourHourAngle = OM.HourHourAngle;
+	public static Unit HourHourAngle = OM.unit("HourHourAngle");
 
 	/** Wordt gebruikt als hoek (360°=864000) voor o.a. rechte klimming. De s wordt meestal als superscript achter de waarde gezet. Zoals in 5h34m12s09. Vaak wordt de fractie in seconden zonder punt geschreven, de s wordt als afscheiding gebruikt (http://en.wikipedia.org/wiki/Right_ascension). */
-	public static Unit SecondHourAngle = OM.SecondHourAngle;
+	public static Unit SecondHourAngle = OM.unit("SecondHourAngle");
 
 	/** The radian is a unit of plane angle defined as the plane angle subtended at the center of a circle by an arc that is equal in length to the radius of the circle. */
-	public static Unit Radian = OM.Radian;
+	public static Unit Radian = OM.unit("Radian");
 
 	/** The megaparsec is a unit of length defined as 1.0e6 parsec. Gebruikt voor afstanden op de schaal van clusters. */
-	public static Unit Megaparsec = OM.Megaparsec;
+	public static Unit Megaparsec = OM.unit("Megaparsec");
 
 	/** Solar radius is a unit used in astronomy to denote stellar or stellar system radii (http://en.wikipedia.org/wiki/Solar_radius). */
-	public static Unit SolarRadius = OM.SolarRadius;
+	public static Unit SolarRadius = OM.unit("SolarRadius");
 
 	/** The ångström is a unit of length defined as 1.0e-10 metre. The unit is often used for wavelengths of electromagnetic radiation or to express the sizes of atoms and molecules. */
-	public static Unit Angstrom = OM.Angstrom;
+	public static Unit Angstrom = OM.unit("Angstrom");
 
 	/** The kiloelectronvolt is a unit of energy defined as 1.0e3 electronvolt. */
-	public static Unit Kiloelectronvolt = OM.Kiloelectronvolt;
+	public static Unit Kiloelectronvolt = OM.unit("Kiloelectronvolt");
 
 	/** The kiloparsec is a unit of length defined as 1.0e3 parsec. Gebruikt voor afstanden op de schaal van het melkwegstelsel. */
-	public static Unit Kiloparsec = OM.Kiloparsec;
+	public static Unit Kiloparsec = OM.unit("Kiloparsec");
 
 	/** Wordt gebruikt om de waargenomen verandering van de positie van sterren uit te drukken (de proper motion). */
-	public static Unit MillisecondPlaneAnglePerYear = OM.MillisecondPlaneAnglePerYear;
+	public static Unit MillisecondPlaneAnglePerYear = OM.unit("MillisecondPlaneAnglePerYear");
 
 	/** The watt is a unit of power defined as joule divided by second = newton times metre divided by second = volt times ampere = kilogram times square metre divided by second to the power 3. */
-	public static Unit Watt = OM.Watt;
+	public static Unit Watt = OM.unit("Watt");
 
-	public static Unit WattPerSquareMetreHertz = OM.WattPerSquareMetreHertz;
+	public static Unit WattPerSquareMetreHertz = OM.unit("WattPerSquareMetreHertz");
 
 	/** The second (plane angle) is a unit of plane angle defined as 4.848137e-6 radian. */
-	public static Unit SecondPlaneAngle = OM.SecondPlaneAngle;
+	public static Unit SecondPlaneAngle = OM.unit("SecondPlaneAngle");
 
 	/** Unit one is a unit of dimension one. */
-	public static Unit One = OM.One;
+	public static Unit One = OM.unit("One");
 
 	/** Ampere per watt is a unit of responsivity. */
-	public static Unit AmperePerWatt = OM.AmperePerWatt;
+	public static Unit AmperePerWatt = OM.unit("AmperePerWatt");
 
-	public static Unit CubicParsec = OM.CubicParsec;
+	public static Unit CubicParsec = OM.unit("CubicParsec");
 
 	/** The millimagnitude is a unit of magnitude defined as 1.0e-3 magnitude. */
-	public static Unit Millimagnitude = OM.Millimagnitude;
+	public static Unit Millimagnitude = OM.unit("Millimagnitude");
 
-	public static Unit WattPerSteradianSquareMetreHertz = OM.WattPerSteradianSquareMetreHertz;
+	public static Unit WattPerSteradianSquareMetreHertz = OM.unit("WattPerSteradianSquareMetreHertz");
 
 	/** Candela per square metre is a unit of luminance defined as candela divided by square metre. */
-	public static Unit CandelaPerSquareMetre = OM.CandelaPerSquareMetre;
+	public static Unit CandelaPerSquareMetre = OM.unit("CandelaPerSquareMetre");
 
 	/** Eenheid waarmee de helderheid van sterren wordt aangegeven. Meestal wordt het symbool niet aangeduid (http://en.wikipedia.org/wiki/Magnitude_(astronomy)). */
-	public static Unit Magnitude = OM.Magnitude;
+	public static Unit Magnitude = OM.unit("Magnitude");
 
 	/** The micromagnitude is a unit of magnitude defined as 1.0e-6 magnitude. */
-	public static Unit Micromagnitude = OM.Micromagnitude;
+	public static Unit Micromagnitude = OM.unit("Micromagnitude");
 
 	/** The radiative intensity (in watts) of an area on the celestial sphere of 1 arcsecond by 1 arcsecond. */
-	public static Unit WattPerSecondPlaneAngleSquared = OM.WattPerSecondPlaneAngleSquared;
+	public static Unit WattPerSecondPlaneAngleSquared = OM.unit("WattPerSecondPlaneAngleSquared");
 
-	public static Unit WattPerCubicMetre = OM.WattPerCubicMetre;
+	public static Unit WattPerCubicMetre = OM.unit("WattPerCubicMetre");
 
 	/** Solar mass is a unit used in astronomy to denote stellar or galactic masses (http://en.wikipedia.org/wiki/Solar_mass). */
-	public static Unit SolarMass = OM.SolarMass;
+	public static Unit SolarMass = OM.unit("SolarMass");
 
-	public static Unit DegreeSquared = OM.DegreeSquared;
+	public static Unit DegreeSquared = OM.unit("DegreeSquared");
 
 	/** The minute (plane angle) is a unit of plane angle defined as 2.908882e-4 radian. */
-	public static Unit MinutePlaneAngle = OM.MinutePlaneAngle;
+	public static Unit MinutePlaneAngle = OM.unit("MinutePlaneAngle");
 
 	/** The microsecond (plane angle) is a unit of length defined as 1.0e-6 second (plane angle). Gebruikt in de astronomie (metingen van posities van sterren/sterrenstelsels etc.) om de fout weer te geven. De nieuwe satellieten zijn zo nauwkeurig dat deze fout mogelijk is geworden (GAIA-satelliet). */
-	public static Unit MicrosecondPlaneAngle = OM.MicrosecondPlaneAngle;
+	public static Unit MicrosecondPlaneAngle = OM.unit("MicrosecondPlaneAngle");
 
 	/** The percent is a unit of dimension one defined as 1/100. */
-	public static Unit Percent = OM.Percent;
+	public static Unit Percent = OM.unit("Percent");
 
 	/** Solar luminosity is a unit used in astronomy to denote stellar or galactic radiant fluxes (http://en.wikipedia.org/wiki/Solar_luminosity). */
-	public static Unit SolarLuminosity = OM.SolarLuminosity;
+	public static Unit SolarLuminosity = OM.unit("SolarLuminosity");
 
 	/** The megaelectronvolt is a unit of energy defined as 1.0e6 electronvolt. */
-	public static Unit Megaelectronvolt = OM.Megaelectronvolt;
+	public static Unit Megaelectronvolt = OM.unit("Megaelectronvolt");
 
 	/** Volt per watt is a unit of responsivity. */
-	public static Unit VoltPerWatt = OM.VoltPerWatt;
+	public static Unit VoltPerWatt = OM.unit("VoltPerWatt");
 
-	public static Unit WattPerNanometre = OM.WattPerNanometre;
+	public static Unit WattPerNanometre = OM.unit("WattPerNanometre");
 
 	/** The year is a unit of time defined as 3.1536e7 second. */
-	public static Unit Year = OM.Year;
+	public static Unit Year = OM.unit("Year");
 
-	public static Unit ReciprocalCubicMetre = OM.ReciprocalCubicMetre;
+	public static Unit ReciprocalCubicMetre = OM.unit("ReciprocalCubicMetre");
 
-	public static Unit MetreKilogramPerSecondTime = OM.MetreKilogramPerSecondTime;
+	public static Unit MetreKilogramPerSecondTime = OM.unit("MetreKilogramPerSecondTime");
 
-	public static Unit WattPerHertz = OM.WattPerHertz;
+	public static Unit WattPerHertz = OM.unit("WattPerHertz");
 
 	/** De eenheid van de Hubble constante (die niet constant is!) (http://en.wikipedia.org/wiki/Hubble_constant). */
-	public static Unit KilometrePerSecondTimePerMegaparsec = OM.KilometrePerSecondTimePerMegaparsec;
+	public static Unit KilometrePerSecondTimePerMegaparsec = OM.unit("KilometrePerSecondTimePerMegaparsec");
 
 	/** The mass (in solar masses) per cubic parsec. */
-	public static Unit SolarMassPerCubicParsec = OM.SolarMassPerCubicParsec;
+	public static Unit SolarMassPerCubicParsec = OM.unit("SolarMassPerCubicParsec");
 
 	/** The day is a unit of time defined as 86400 second. */
-	public static Unit Day = OM.Day;
+	public static Unit Day = OM.unit("Day");
 
-	public static Unit BitPerSecondTime = OM.BitPerSecondTime;
+	public static Unit BitPerSecondTime = OM.unit("BitPerSecondTime");
 
 	/** The amount of stellar mass created per cubic kiloparsec in each billion years. */
-	public static Unit SolarMassPerGigayearCubicKiloparsec = OM.SolarMassPerGigayearCubicKiloparsec;
+	public static Unit SolarMassPerGigayearCubicKiloparsec = OM.unit("SolarMassPerGigayearCubicKiloparsec");
 
-	public static Unit WattPerSquareMetreNanometre = OM.WattPerSquareMetreNanometre;
+	public static Unit WattPerSquareMetreNanometre = OM.unit("WattPerSquareMetreNanometre");
 
-	public static Unit WattPerSteradianSquareMetre = OM.WattPerSteradianSquareMetre;
+	public static Unit WattPerSteradianSquareMetre = OM.unit("WattPerSteradianSquareMetre");
 
 }
\ No newline at end of file
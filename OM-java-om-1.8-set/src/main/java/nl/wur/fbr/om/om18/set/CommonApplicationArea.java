@@ -30,184 +30,184 @@ import nl.wur.fbr.om.prefixes.*;
 public class CommonApplicationArea {
 
 	/** The metre is a unit of length defined as the length of the path travelled by light in vacuum during a time interval of 1/299 792 458 of a second. */
-	public static Unit Metre = OM.Metre;
+	public static Unit Metre = OM.unit("Metre");
 
 	/** The hectare is a unit of area defined as 1.0e2 are. */
-	public static Unit Hectare = OM.Hectare;
+	public static Unit Hectare = OM.unit("Hectare");
 
 	/** Metre per second is a unit of speed defined as metre divided by second. */
-	public static Unit MetrePerSecondTime = OM.MetrePerSecondTime;
+	public static Unit MetrePerSecondTime = OM.unit("MetrePerSecondTime");
 
 	/** The degree Celsius is a unit of temperature defined as 1 kelvin. */
-	public static Unit DegreeCelsius = OM.DegreeCelsius;
+	public static Unit DegreeCelsius = OM.unit("DegreeCelsius");
 
 	/** The volt is a unit of electric potential defined as watt divided by ampere = joule divided by coulomb = newton times metre divided by ampere times second = kilogram times square metre divided by ampere times second to the power 3. */
-	public static Unit Volt = OM.Volt;
+	public static Unit Volt = OM.unit("Volt");
 
 	/** The litre is a unit of volume defined as 1.0e-3 cubic metre. */
-	public static Unit Litre = OM.Litre;
+	public static Unit Litre = OM.unit("Litre");
 
 	/** The kilometre is a unit of length defined as 1.0e3 metre. */
-	public static Unit Kilometre = OM.Kilometre;
+	public static Unit Kilometre = OM.unit("Kilometre");
 
-	public static Unit MillisecondTime = OM.MillisecondTime;
+	public static Unit MillisecondTime = OM.unit("MillisecondTime");
 
-	public static Unit Kilonewton = OM.Kilonewton;
+	public static Unit Kilonewton = OM.unit("Kilonewton");
 
 	/** The month is a unit of time. */
-	public static Unit Month = OM.Month;
+	public static Unit Month = OM.unit("Month");
 
 	/** The kelvin is a unit of temperature defined as 1/273.16 of the thermodynamic temperature of the triple point of water. */
-	public static Unit Kelvin = OM.Kelvin;
+	public static Unit Kelvin = OM.unit("Kelvin");
 
 	/** The kilojoule is a unit of energy defined as 1.0e3 joule. */
-	public static Unit Kilojoule = OM.Kilojoule;
+	public static Unit Kilojoule = OM.unit("Kilojoule");
 
 	/** The second is a unit of time defined as the duration of 9 192 631 770 periods of the radiation corresponding to the transition between the two hyperfine levels of the ground state of the cesium 133 atom. */
-	public static Unit SecondTime = OM.SecondTime;
+	public static Unit SecondTime = OM.unit("SecondTime");
 
-	public static Unit Centilitre = OM.Centilitre;
+	public static Unit Centilitre = OM.unit("Centilitre");
 
 	/** The US gallon is a unit of volume defined as 3.785412e-3 cubic metre. */
-	public static Unit GallonUS = OM.GallonUS;
+	public static Unit GallonUS = OM.unit("GallonUS");
 
 	/** The hertz is a unit of frequency defined as 1 divided by second. */
-	public static Unit Hertz = OM.Hertz;
+	public static Unit Hertz = OM.unit("Hertz");
 
 	/** The statute mile is a unit of length defined as 1.609344e3 metre. */
-	public static Unit MileStatute = OM.MileStatute;
+	public static Unit MileStatute = OM.unit("MileStatute");
 
 	/** Square metre is a unit of area defined as the area of a square whose sides measure exactly one metre. */
-	public static Unit SquareMetre = OM.SquareMetre;
+	public static Unit SquareMetre = OM.unit("SquareMetre");
 
 	/** The hour is a unit of time defined as 3600 second. */
-	public static Unit Hour = OM.Hour;
+	public static Unit Hour = OM.unit("Hour");
 
 	/** The kilogram is a unit of mass defined as the mass of the international prototype of the kilogram. */
-	public static Unit Kilogram = OM.Kilogram;
+	public static Unit Kilogram = OM.unit("Kilogram");
 
 	/** The kilohertz is a unit of frequency defined as 1.0e3 hertz. */
-	public static Unit Kilohertz = OM.Kilohertz;
+	public static Unit Kilohertz = OM.unit("Kilohertz");
 
 	/** The centimetre is a unit of length defined as 1.0e-2 metre. */
-	public static Unit Centimetre = OM.Centimetre;
+	public static Unit Centimetre = OM.unit("Centimetre");
 
 	/** The millimetre is a unit of length defined as 1.0e-3 metre. */
-	public static Unit Millimetre = OM.Millimetre;
+	public static Unit Millimetre = OM.unit("Millimetre");
 
 	/** The ampere is a unit of electric current defined as the constant current that produces an attractive force of 2e–7 newton per metre of length between two straight, parallel conductors of infinite length and negligible circular cross section placed one metre apart in a vacuum. */
-	public static Unit Ampere = OM.Ampere;
+	public static Unit Ampere = OM.unit("Ampere");
 
 	/** Gram per litre is a unit of density defined as gram divided by litre. */
-	public static Unit GramPerLitre = OM.GramPerLitre;
+	public static Unit GramPerLitre = OM.unit("GramPerLitre");
 
-	public static Unit Milliwatt = OM.Milliwatt;
+	public static Unit Milliwatt = OM.unit("Milliwatt");
 
-	public static Unit SquareCentimetre = OM.SquareCentimetre;
+	public static Unit SquareCentimetre = OM.unit("SquareCentimetre");
 
-	public static Unit GramPerKilogram = OM.GramPerKilogram;
+	public static Unit GramPerKilogram = OM.unit("GramPerKilogram");
 
 	/** The foot is a unit of foot defined as 3.048e-1 metre. */
-	public static Unit Foot = OM.Foot;
+	public static Unit Foot = OM.unit("Foot");
 
-	public static Unit KilowattHour = OM.KilowattHour;
+	public static Unit KilowattHour = OM.unit("KilowattHour");
 
 	/** The newton is a unit of force defined as kilogram timesmetre divided by second squared. */
-	public static Unit Newton = OM.Newton;
+	public static Unit Newton = OM.unit("Newton");
 
 	/** The degree Fahrenheit is a unit of temperature defined as 5.555556e-1 kelvin. */
-	public static Unit DegreeFahrenheit = OM.DegreeFahrenheit;
+	public static Unit DegreeFahrenheit = OM.unit("DegreeFahrenheit");
 
 	/** The are is a unit of area defined as 100 square metre. */
-	public static Unit Are = OM.Are;
+	public static Unit Are = OM.unit("Are");
 
 	/** The avoirdupois pound is a unit of mass defined as 4.535924e-1 kilogram. */
-	public static Unit PoundAvoirdupois = OM.PoundAvoirdupois;
+	public static Unit PoundAvoirdupois = OM.unit("PoundAvoirdupois");
 
-	public static Unit Megawatt = OM.Megawatt;
+	public static Unit Megawatt = OM.unit("Megawatt");
 
 	/** The week is a unit of time defined as 6.04800e5 second. */
-	public static Unit Week = OM.Week;
+	public static Unit Week = OM.unit("Week");
 
 	/** Milligram per litre is a unit of density defined as milligram divided by litre. */
-	public static Unit MilligramPerLitre = OM.MilligramPerLitre;
+	public static Unit MilligramPerLitre = OM.unit("MilligramPerLitre");
 
-	public static Unit SquareKilometre = OM.SquareKilometre;
+	public static Unit SquareKilometre = OM.unit("SquareKilometre");
 
 	/** The Imperial gallon is a unit of volume defined as 4.54609e-3 cubic metre. */
-	public static Unit GallonImperial = OM.GallonImperial;
+	public static Unit GallonImperial = OM.unit("GallonImperial");
 
 	/** The watt is a unit of power defined as joule divided by second = newton times metre divided by second = volt times ampere = kilogram times square metre divided by second to the power 3. */
-	public static Unit Watt = OM.Watt;
+	public static Unit Watt = OM.unit("Watt");
 
 	/** The inch is a unit of length defined as 2.54e-2 metre. */
-	public static Unit Inch = OM.Inch;
+	public static Unit Inch = OM.unit("Inch");
 
-	public static Unit Kilowatt = OM.Kilowatt;
+	public static Unit Kilowatt = OM.unit("Kilowatt");
 
 	/** The avoirdupois ounce is a unit of mass defined as 2.834952e-2 kilogram. */
-	public static Unit OunceAvoirdupois = OM.OunceAvoirdupois;
+	public static Unit OunceAvoirdupois = OM.unit("OunceAvoirdupois");
 
-	public static Unit CubicCentimetre = OM.CubicCentimetre;
+	public static Unit CubicCentimetre = OM.unit("CubicCentimetre");
 
 	/** The milligram is a unit of mass defined as 1.0e-3 gram. */
-	public static Unit Milligram = OM.Milligram;
+	public static Unit Milligram = OM.unit("Milligram");
 
 	/** The gram is a unit of mass defined as 1.0e-3 kilogram. */
-	public static Unit Gram = OM.Gram;
+	public static Unit Gram = OM.unit("Gram");
 
 	/** Kilometre per hour is a unit of speed defined as kilometre divided by hour. */
-	public static Unit KilometrePerHour = OM.KilometrePerHour;
+	public static Unit KilometrePerHour = OM.unit("KilometrePerHour");
 
 	/** The US liquid pint is a unit of volume defined as 4.731765e-4 cubic metre. */
-	public static Unit LiquidPintUS = OM.LiquidPintUS;
+	public static Unit LiquidPintUS = OM.unit("LiquidPintUS");
 
-	public static Unit Millilitre = OM.Millilitre;
+	public static Unit Millilitre = OM.unit("Millilitre");
 
 	/** The percent is a unit of dimension one defined as 1/100. */
-	public static Unit Percent = OM.Percent;
+	public static Unit Percent = OM.unit("Percent");
 
 	/** The acre is a unit of area defined as 4.046873e3 square metre. */
-	public static Unit Acre = OM.Acre;
+	public static Unit Acre = OM.unit("Acre");
 
 	/** The kilocalorie (mean) is a unit of energy defined as 1.0e3 calorie (mean). */
-	public static Unit KilocalorieMean = OM.KilocalorieMean;
+	public static Unit KilocalorieMean = OM.unit("KilocalorieMean");
 
 	/** The minute (time) is a unit of time defined as 60 second. */
-	public static Unit MinuteTime = OM.MinuteTime;
+	public static Unit MinuteTime = OM.unit("MinuteTime");
 
 	/** The joule is a unit of energy defined as kilogram times square metre divided by second squared. */
-	public static Unit Joule = OM.Joule;
+	public static Unit Joule = OM.unit("Joule");
 
 	/** The milliampere is a unit of electric current defined as 1.0e-3 ampere. */
-	public static Unit Milliampere = OM.Milliampere;
+	public static Unit Milliampere = OM.unit("Milliampere");
 
-	public static Unit Millivolt = OM.Millivolt;
+	public static Unit Millivolt = OM.unit("Millivolt");
 
 	/** The yard is a unit of length defined as 9.144e-1 metre. */
-	public static Unit Yard = OM.Yard;
+	public static Unit Yard = OM.unit("Yard");
 
 	/** The megahertz is a unit of frequency defined as 1.0e6 hertz. */
-	public static Unit Megahertz = OM.Megahertz;
+	public static Unit Megahertz = OM.unit("Megahertz");
 
 	/** The year is a unit of time defined as 3.1536e7 second. */
-	public static Unit Year = OM.Year;
+	public static Unit Year = OM.unit("Year");
 
 	/** The pound-force is a unit of force defined as 4.448222 newton. */
-	public static Unit PoundForce = OM.PoundForce;
+	public static Unit PoundForce = OM.unit("PoundForce");
 
 	/** Cubic metre is a unit of volume defined as the volume of a cube whose sides measure exactly one metre. */
-	public static Unit CubicMetre = OM.CubicMetre;
+	public static Unit CubicMetre = OM.unit("CubicMetre");
 
 	/** The pint is a unit of volume defined as 568.26125 millilitre. */
-	public static Unit PintImperial = OM.PintImperial;
+	public static Unit PintImperial = OM.unit("PintImperial");
 
 	/** Mile (statute) per hour is a unit of speed defined as mile (statute) divided by hour. */
-	public static Unit MileStatutePerHour = OM.MileStatutePerHour;
+	public static Unit MileStatutePerHour = OM.unit("MileStatutePerHour");
 
 	/** The day is a unit of time defined as 86400 second. */
-	public static Unit Day = OM.Day;
+	public static Unit Day = OM.unit("Day");
 
-	public static Unit Decilitre = OM.Decilitre;
+	public static Unit Decilitre = OM.unit("Decilitre");
 
 }
\ No newline at end of file
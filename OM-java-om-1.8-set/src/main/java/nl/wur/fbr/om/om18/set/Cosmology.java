@@ -30,18 +30,18 @@ import nl.wur.fbr.om.prefixes.*;
 public class Cosmology {
 
 	/** The megaparsec is a unit of length defined as 1.0e6 parsec. Gebruikt voor afstanden op de schaal van clusters. */
-	public static Unit Megaparsec = OM.Megaparsec;
+	public static Unit Megaparsec = OM.unit("Megaparsec");
 
 	/** The megaelectronvolt is a unit of energy defined as 1.0e6 electronvolt. */
-	public static Unit Megaelectronvolt = OM.Megaelectronvolt;
+	public static Unit Megaelectronvolt = OM.unit("Megaelectronvolt");
 
 	/** The gigaelectronvolt is a unit of energy defined as 1.0e9 electronvolt. */
-	public static Unit Gigaelectronvolt = OM.Gigaelectronvolt;
+	public static Unit Gigaelectronvolt = OM.unit("Gigaelectronvolt");
 
 	/** The gigaparsec is a unit of length defined as 1.0e9 parsec. Gebruikt voor de afstand op de schaal van het heelal. */
-	public static Unit Gigaparsec = OM.Gigaparsec;
+	public static Unit Gigaparsec = OM.unit("Gigaparsec");
 
 	/** The kiloelectronvolt is a unit of energy defined as 1.0e3 electronvolt. */
-	public static Unit Kiloelectronvolt = OM.Kiloelectronvolt;
+	public static Unit Kiloelectronvolt = OM.unit("Kiloelectronvolt");
 
 }
\ No newline at end of file
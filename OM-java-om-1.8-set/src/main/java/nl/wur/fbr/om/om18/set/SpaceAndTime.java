@@ -30,749 +30,749 @@ import nl.wur.fbr.om.prefixes.*;
 public class SpaceAndTime {
 
 	/** The light year is a unit of length defined as 9.46073e15 metre. */
-	public static Unit LightYear = OM.LightYear;
+	public static Unit LightYear = OM.unit("LightYear");
 
 	/** Megametre per second is a unit of speed defined as megametre divided by second. */
-	public static Unit MegametrePerSecondTime = OM.MegametrePerSecondTime;
+	public static Unit MegametrePerSecondTime = OM.unit("MegametrePerSecondTime");
 
 	/** The attohertz is a unit of frequency defined as 1.0e-18 hertz. */
-	public static Unit Attohertz = OM.Attohertz;
+	public static Unit Attohertz = OM.unit("Attohertz");
 
-	public static Unit CubicNanometre = OM.CubicNanometre;
+	public static Unit CubicNanometre = OM.unit("CubicNanometre");
 
 	/** The femtohertz is a unit of frequency defined as 1.0e-15 hertz. */
-	public static Unit Femtohertz = OM.Femtohertz;
+	public static Unit Femtohertz = OM.unit("Femtohertz");
 
 	/** The terametre is a unit of length defined as 1.0e12 metre. */
-	public static Unit Terametre = OM.Terametre;
+	public static Unit Terametre = OM.unit("Terametre");
 
-	public static Unit CubicMicrometre = OM.CubicMicrometre;
+	public static Unit CubicMicrometre = OM.unit("CubicMicrometre");
 
 	/** The US dry pint is a unit of volume defined as 5.506105e-4 cubic metre. */
-	public static Unit DryPintUS = OM.DryPintUS;
+	public static Unit DryPintUS = OM.unit("DryPintUS");
 
 	/** The kilometre is a unit of length defined as 1.0e3 metre. */
-	public static Unit Kilometre = OM.Kilometre;
+	public static Unit Kilometre = OM.unit("Kilometre");
 
-	public static Unit Attosteradian = OM.Attosteradian;
+	public static Unit Attosteradian = OM.unit("Attosteradian");
 
 	/** Metre per microsecond squared is a unit of acceleration defined as metre divided by microsecond squared. */
-	public static Unit MetrePerMicrosecondTimeSquared = OM.MetrePerMicrosecondTimeSquared;
+	public static Unit MetrePerMicrosecondTimeSquared = OM.unit("MetrePerMicrosecondTimeSquared");
 
 	/** The gigahertz is a unit of frequency defined as 1.0e9 hertz. */
-	public static Unit Gigahertz = OM.Gigahertz;
+	public static Unit Gigahertz = OM.unit("Gigahertz");
 
 	/** The hertz is a unit of frequency defined as 1 divided by second. */
-	public static Unit Hertz = OM.Hertz;
+	public static Unit Hertz = OM.unit("Hertz");
 
 	/** The millisecond (plane angle) is a unit of length defined as 1.0e-3 second (plane angle). Gebruikt in de astronomie (metingen van posities van sterren/sterrenstelsels etc.) om de fout weer te geven. */
-	public static Unit MillisecondPlaneAngle = OM.MillisecondPlaneAngle;
+	public static Unit MillisecondPlaneAngle = OM.unit("MillisecondPlaneAngle");
 
-	public static Unit SquareFemtometre = OM.SquareFemtometre;
+	public static Unit SquareFemtometre = OM.unit("SquareFemtometre");
 
 	/** The tablespoon is a unit of volume defined as 1.478676e-5 cubic metre. */
-	public static Unit Tablespoon = OM.Tablespoon;
+	public static Unit Tablespoon = OM.unit("Tablespoon");
 
 	/** The centiare is a unit of area defined as 1.0e-2 are. */
-	public static Unit Centiare = OM.Centiare;
+	public static Unit Centiare = OM.unit("Centiare");
 
 	/** The cup is a unit of volume defined as 2.365882e-4 cubic metre. */
-	public static Unit Cup = OM.Cup;
+	public static Unit Cup = OM.unit("Cup");
 
 	/** The parsec is a unit of length defined as 3.08567802e16 metre. */
-	public static Unit Parsec = OM.Parsec;
+	public static Unit Parsec = OM.unit("Parsec");
 
 	/** The exahertz is a unit of frequency defined as 1.0e18 hertz. */
-	public static Unit Exahertz = OM.Exahertz;
+	public static Unit Exahertz = OM.unit("Exahertz");
 
 	/** The microhertz is a unit of frequency defined as 1.0e-6 hertz. */
-	public static Unit Microhertz = OM.Microhertz;
+	public static Unit Microhertz = OM.unit("Microhertz");
 
 	/** Metre per megasecond squared is a unit of acceleration defined as metre divided by megasecond squared. */
-	public static Unit MetrePerMegasecondTimeSquared = OM.MetrePerMegasecondTimeSquared;
+	public static Unit MetrePerMegasecondTimeSquared = OM.unit("MetrePerMegasecondTimeSquared");
 
-	public static Unit SquarePicometre = OM.SquarePicometre;
+	public static Unit SquarePicometre = OM.unit("SquarePicometre");
 
-	public static Unit CubicDecametre = OM.CubicDecametre;
+	public static Unit CubicDecametre = OM.unit("CubicDecametre");
 
 	/** The US survey mile is a unit of length defined as 1.609347e3 metre. */
-	public static Unit MileUSSurvey = OM.MileUSSurvey;
+	public static Unit MileUSSurvey = OM.unit("MileUSSurvey");
 
 	/** The shake is a unit of time defined as 1.0e-8 second. */
-	public static Unit Shake = OM.Shake;
+	public static Unit Shake = OM.unit("Shake");
 
 	/** The hour is a unit of time defined as 3600 second. */
-	public static Unit Hour = OM.Hour;
+	public static Unit Hour = OM.unit("Hour");
 
 	/** The millimetre is a unit of length defined as 1.0e-3 metre. */
-	public static Unit Millimetre = OM.Millimetre;
+	public static Unit Millimetre = OM.unit("Millimetre");
 
 	/** The picohertz is a unit of frequency defined as 1.0e-12 hertz. */
-	public static Unit Picohertz = OM.Picohertz;
+	public static Unit Picohertz = OM.unit("Picohertz");
 
-	public static Unit SquareGigametre = OM.SquareGigametre;
+	public static Unit SquareGigametre = OM.unit("SquareGigametre");
 
-	public static Unit MicrosecondTime = OM.MicrosecondTime;
+	public static Unit MicrosecondTime = OM.unit("MicrosecondTime");
 
 	/** Metre per hectosecond squared is a unit of acceleration defined as metre divided by hectosecond squared. */
-	public static Unit MetrePerHectosecondTimeSquared = OM.MetrePerHectosecondTimeSquared;
+	public static Unit MetrePerHectosecondTimeSquared = OM.unit("MetrePerHectosecondTimeSquared");
 
 	/** Metre per hectosecond is a unit of speed defined as metre divided by hectosecond. */
-	public static Unit MetrePerHectosecondTime = OM.MetrePerHectosecondTime;
+	public static Unit MetrePerHectosecondTime = OM.unit("MetrePerHectosecondTime");
 
 	/** Petametre per second squared is a unit of acceleration defined as petametre divided by second squared. */
-	public static Unit PetametrePerSecondTimeSquared = OM.PetametrePerSecondTimeSquared;
+	public static Unit PetametrePerSecondTimeSquared = OM.unit("PetametrePerSecondTimeSquared");
 
-	public static Unit SquareMicrometre = OM.SquareMicrometre;
+	public static Unit SquareMicrometre = OM.unit("SquareMicrometre");
 
 	/** Millimetre per day is a unit of speed defined as millimetre divided by day. */
-	public static Unit MillimetrePerDay = OM.MillimetrePerDay;
+	public static Unit MillimetrePerDay = OM.unit("MillimetrePerDay");
 
 	/** The are is a unit of area defined as 100 square metre. */
-	public static Unit Are = OM.Are;
+	public static Unit Are = OM.unit("Are");
 
-	public static Unit CubicMegametre = OM.CubicMegametre;
+	public static Unit CubicMegametre = OM.unit("CubicMegametre");
 
 	/** The kayser is a unit of wavenumber defined as 100 reciprocal metre. */
-	public static Unit Kayser = OM.Kayser;
+	public static Unit Kayser = OM.unit("Kayser");
 
-	public static Unit DecisecondTime = OM.DecisecondTime;
+	public static Unit DecisecondTime = OM.unit("DecisecondTime");
 
 	/** The steradian is a unit of solid angle defined as the solid angle subtended at the center of a sphere by a portion of the surface of the sphere that has an area equal to the square of the radius of the sphere. */
-	public static Unit Steradian = OM.Steradian;
+	public static Unit Steradian = OM.unit("Steradian");
 
 	/** Petametre per second is a unit of speed defined as petametre divided by second. */
-	public static Unit PetametrePerSecondTime = OM.PetametrePerSecondTime;
+	public static Unit PetametrePerSecondTime = OM.unit("PetametrePerSecondTime");
 
-	public static Unit Attoradian = OM.Attoradian;
+	public static Unit Attoradian = OM.unit("Attoradian");
 
-	public static Unit Petalitre = OM.Petalitre;
+	public static Unit Petalitre = OM.unit("Petalitre");
 
 	/** Reciprocal metre is a unit of wavenumber defined as 1 divided by metre. */
-	public static Unit ReciprocalMetre = OM.ReciprocalMetre;
+	public static Unit ReciprocalMetre = OM.unit("ReciprocalMetre");
 
-	public static Unit Kilolitre = OM.Kilolitre;
+	public static Unit Kilolitre = OM.unit("Kilolitre");
 
-	public static Unit Decisteradian = OM.Decisteradian;
+	public static Unit Decisteradian = OM.unit("Decisteradian");
 
 	/** The Imperial gallon is a unit of volume defined as 4.54609e-3 cubic metre. */
-	public static Unit GallonImperial = OM.GallonImperial;
+	public static Unit GallonImperial = OM.unit("GallonImperial");
 
 	/** The fermi is a unit of length defined as 1.0e-15 metre. */
-	public static Unit Fermi = OM.Fermi;
+	public static Unit Fermi = OM.unit("Fermi");
 
-	public static Unit SquareAttometre = OM.SquareAttometre;
+	public static Unit SquareAttometre = OM.unit("SquareAttometre");
 
 	/** Hectometre per second is a unit of speed defined as hectometre divided by second. */
-	public static Unit HectometrePerSecondTime = OM.HectometrePerSecondTime;
+	public static Unit HectometrePerSecondTime = OM.unit("HectometrePerSecondTime");
 
 	/** The inch is a unit of length defined as 2.54e-2 metre. */
-	public static Unit Inch = OM.Inch;
+	public static Unit Inch = OM.unit("Inch");
 
-	public static Unit PicosecondTime = OM.PicosecondTime;
+	public static Unit PicosecondTime = OM.unit("PicosecondTime");
 
 	/** Millimetre per hour is a unit of speed defined as millimetre divided by hour. */
-	public static Unit MillimetrePerHour = OM.MillimetrePerHour;
+	public static Unit MillimetrePerHour = OM.unit("MillimetrePerHour");
 
 	/** The petametre is a unit of length defined as 1.0e15 metre. */
-	public static Unit Petametre = OM.Petametre;
+	public static Unit Petametre = OM.unit("Petametre");
 
-	public static Unit Microradian = OM.Microradian;
+	public static Unit Microradian = OM.unit("Microradian");
 
 	/** The Imperial gill is a unit of volume defined as 1.420653e-4 cubic metre. */
-	public static Unit GillImperial = OM.GillImperial;
+	public static Unit GillImperial = OM.unit("GillImperial");
 
 	/** Megametre per second squared is a unit of acceleration defined as megametre divided by second squared. */
-	public static Unit MegametrePerSecondTimeSquared = OM.MegametrePerSecondTimeSquared;
+	public static Unit MegametrePerSecondTimeSquared = OM.unit("MegametrePerSecondTimeSquared");
 
-	public static Unit Hectolitre = OM.Hectolitre;
+	public static Unit Hectolitre = OM.unit("Hectolitre");
 
 	/** Hectometre per second squared is a unit of acceleration defined as hectometre divided by second squared. */
-	public static Unit HectometrePerSecondTimeSquared = OM.HectometrePerSecondTimeSquared;
+	public static Unit HectometrePerSecondTimeSquared = OM.unit("HectometrePerSecondTimeSquared");
 
-	public static Unit ReciprocalSecondTime = OM.ReciprocalSecondTime;
+	public static Unit ReciprocalSecondTime = OM.unit("ReciprocalSecondTime");
 
-	public static Unit Picoradian = OM.Picoradian;
+	public static Unit Picoradian = OM.unit("Picoradian");
 
-	public static Unit Picosteradian = OM.Picosteradian;
+	public static Unit Picosteradian = OM.unit("Picosteradian");
 
 	/** The hectometre is a unit of length defined as 1.0e2 metre. */
-	public static Unit Hectometre = OM.Hectometre;
+	public static Unit Hectometre = OM.unit("Hectometre");
 
 	/** The gon is a unit of plane angle defined as 1.570796e-2 radian. */
-	public static Unit Gon = OM.Gon;
+	public static Unit Gon = OM.unit("Gon");
 
 	/** The ATA pica is a unit of length defined as 12 point (ATA). */
-	public static Unit PicaATA = OM.PicaATA;
+	public static Unit PicaATA = OM.unit("PicaATA");
 
 	/** Metre per decasecond is a unit of speed defined as metre divided by decasecond. */
-	public static Unit MetrePerDecasecondTime = OM.MetrePerDecasecondTime;
+	public static Unit MetrePerDecasecondTime = OM.unit("MetrePerDecasecondTime");
 
 	/** Micrometre per second is a unit of speed defined as micrometre divided by second. */
-	public static Unit MicrometrePerSecondTime = OM.MicrometrePerSecondTime;
+	public static Unit MicrometrePerSecondTime = OM.unit("MicrometrePerSecondTime");
 
 	/** The year is a unit of time defined as 3.1536e7 second. */
-	public static Unit Year = OM.Year;
+	public static Unit Year = OM.unit("Year");
 
-	public static Unit AttosecondTime = OM.AttosecondTime;
+	public static Unit AttosecondTime = OM.unit("AttosecondTime");
 
 	/** Metre per millisecond is a unit of speed defined as metre divided by millisecond. */
-	public static Unit MetrePerMillisecondTime = OM.MetrePerMillisecondTime;
+	public static Unit MetrePerMillisecondTime = OM.unit("MetrePerMillisecondTime");
 
 	/** Cubic metre is a unit of volume defined as the volume of a cube whose sides measure exactly one metre. */
-	public static Unit CubicMetre = OM.CubicMetre;
+	public static Unit CubicMetre = OM.unit("CubicMetre");
 
 	/** The hectohertz is a unit of frequency defined as 1.0e2 hertz. */
-	public static Unit Hectohertz = OM.Hectohertz;
+	public static Unit Hectohertz = OM.unit("Hectohertz");
 
 	/** Metre per centisecond squared is a unit of acceleration defined as metre divided by centisecond squared. */
-	public static Unit MetrePerCentisecondTimeSquared = OM.MetrePerCentisecondTimeSquared;
+	public static Unit MetrePerCentisecondTimeSquared = OM.unit("MetrePerCentisecondTimeSquared");
 
-	public static Unit SquareDecimetre = OM.SquareDecimetre;
+	public static Unit SquareDecimetre = OM.unit("SquareDecimetre");
 
 	/** The revolution is a unit of plane angle defined as 6.283185 radian. */
-	public static Unit Revolution = OM.Revolution;
+	public static Unit Revolution = OM.unit("Revolution");
 
 	/** The decahertz is a unit of frequency defined as 1.0e1 hertz. */
-	public static Unit Decahertz = OM.Decahertz;
+	public static Unit Decahertz = OM.unit("Decahertz");
 
 	/** The metre is a unit of length defined as the length of the path travelled by light in vacuum during a time interval of 1/299 792 458 of a second. */
-	public static Unit Metre = OM.Metre;
+	public static Unit Metre = OM.unit("Metre");
 
-	public static Unit CubicPicometre = OM.CubicPicometre;
+	public static Unit CubicPicometre = OM.unit("CubicPicometre");
 
-	public static Unit SquareExametre = OM.SquareExametre;
+	public static Unit SquareExametre = OM.unit("SquareExametre");
 
 	/** Kilometre per second squared is a unit of acceleration defined as kilometre divided by second squared. */
-	public static Unit KilometrePerSecondTimeSquared = OM.KilometrePerSecondTimeSquared;
+	public static Unit KilometrePerSecondTimeSquared = OM.unit("KilometrePerSecondTimeSquared");
 
 	/** Metre per second is a unit of speed defined as metre divided by second. */
-	public static Unit MetrePerSecondTime = OM.MetrePerSecondTime;
+	public static Unit MetrePerSecondTime = OM.unit("MetrePerSecondTime");
 
 	/** The cicular mil is a unit of area defined as 5.067075e-10 square metre. */
-	public static Unit CircularMil = OM.CircularMil;
+	public static Unit CircularMil = OM.unit("CircularMil");
 
 	/** The litre is a unit of volume defined as 1.0e-3 cubic metre. */
-	public static Unit Litre = OM.Litre;
+	public static Unit Litre = OM.unit("Litre");
 
 	/** The picometre is a unit of length defined as 1.0e-12 metre. */
-	public static Unit Picometre = OM.Picometre;
+	public static Unit Picometre = OM.unit("Picometre");
 
 	/** The atronomical unit is a unit of length defined as 149 597 870 700 metre (IAU 2012 Resolution). */
-	public static Unit AstronomicalUnit = OM.AstronomicalUnit;
+	public static Unit AstronomicalUnit = OM.unit("AstronomicalUnit");
 
 	/** The knot is a unit of speed defined as nautical mile per hour. */
-	public static Unit Knot = OM.Knot;
+	public static Unit Knot = OM.unit("Knot");
 
-	public static Unit MillisecondTime = OM.MillisecondTime;
+	public static Unit MillisecondTime = OM.unit("MillisecondTime");
 
-	public static Unit CubicHectometre = OM.CubicHectometre;
+	public static Unit CubicHectometre = OM.unit("CubicHectometre");
 
-	public static Unit Millisteradian = OM.Millisteradian;
+	public static Unit Millisteradian = OM.unit("Millisteradian");
 
 	/** The Postscript point is a unit of length defined as 0.013888888888888888888888888888889 inch. */
-	public static Unit PointPostscript = OM.PointPostscript;
+	public static Unit PointPostscript = OM.unit("PointPostscript");
 
 	/** The attometre is a unit of length defined as 1.0e-18 metre. */
-	public static Unit Attometre = OM.Attometre;
+	public static Unit Attometre = OM.unit("Attometre");
 
-	public static Unit Centilitre = OM.Centilitre;
+	public static Unit Centilitre = OM.unit("Centilitre");
 
 	/** The US gallon is a unit of volume defined as 3.785412e-3 cubic metre. */
-	public static Unit GallonUS = OM.GallonUS;
+	public static Unit GallonUS = OM.unit("GallonUS");
 
 	/** Metre per exasecond is a unit of speed defined as metre divided by exasecond. */
-	public static Unit MetrePerExasecondTime = OM.MetrePerExasecondTime;
+	public static Unit MetrePerExasecondTime = OM.unit("MetrePerExasecondTime");
 
-	public static Unit CubicGigametre = OM.CubicGigametre;
+	public static Unit CubicGigametre = OM.unit("CubicGigametre");
 
-	public static Unit Exalitre = OM.Exalitre;
+	public static Unit Exalitre = OM.unit("Exalitre");
 
 	/** Femtometre per second squared is a unit of acceleration defined as femtometre divided by second squared. */
-	public static Unit FemtometrePerSecondTimeSquared = OM.FemtometrePerSecondTimeSquared;
+	public static Unit FemtometrePerSecondTimeSquared = OM.unit("FemtometrePerSecondTimeSquared");
 
 	/** Metre per decisecond is a unit of speed defined as metre divided by decisecond. */
-	public static Unit MetrePerDecisecondTime = OM.MetrePerDecisecondTime;
+	public static Unit MetrePerDecisecondTime = OM.unit("MetrePerDecisecondTime");
 
-	public static Unit TerasecondTime = OM.TerasecondTime;
+	public static Unit TerasecondTime = OM.unit("TerasecondTime");
 
 	/** The petahertz is a unit of frequency defined as 1.0e15 hertz. */
-	public static Unit Petahertz = OM.Petahertz;
+	public static Unit Petahertz = OM.unit("Petahertz");
 
 	/** Square metre is a unit of area defined as the area of a square whose sides measure exactly one metre. */
-	public static Unit SquareMetre = OM.SquareMetre;
+	public static Unit SquareMetre = OM.unit("SquareMetre");
 
 	/** Metre per exasecond squared is a unit of acceleration defined as metre divided by exasecond squared. */
-	public static Unit MetrePerExasecondTimeSquared = OM.MetrePerExasecondTimeSquared;
+	public static Unit MetrePerExasecondTimeSquared = OM.unit("MetrePerExasecondTimeSquared");
 
 	/** The kilohertz is a unit of frequency defined as 1.0e3 hertz. */
-	public static Unit Kilohertz = OM.Kilohertz;
+	public static Unit Kilohertz = OM.unit("Kilohertz");
 
 	/** Kilometre per second is a unit of speed defined as kilometre divided by second. */
-	public static Unit KilometrePerSecondTime = OM.KilometrePerSecondTime;
+	public static Unit KilometrePerSecondTime = OM.unit("KilometrePerSecondTime");
 
 	/** The sidereal minute is a unit of time defined as 5.983617e1 second. */
-	public static Unit MinuteSidereal = OM.MinuteSidereal;
+	public static Unit MinuteSidereal = OM.unit("MinuteSidereal");
 
 	/** The centimetre is a unit of length defined as 1.0e-2 metre. */
-	public static Unit Centimetre = OM.Centimetre;
+	public static Unit Centimetre = OM.unit("Centimetre");
 
-	public static Unit Gigayear = OM.Gigayear;
+	public static Unit Gigayear = OM.unit("Gigayear");
 
 	/** The US dry gallon is a unit of volume defined as 4.40488377086e-3 cubic metre. */
-	public static Unit DryGallonUS = OM.DryGallonUS;
+	public static Unit DryGallonUS = OM.unit("DryGallonUS");
 
 	/** The foot is a unit of foot defined as 3.048e-1 metre. */
-	public static Unit Foot = OM.Foot;
+	public static Unit Foot = OM.unit("Foot");
 
 	/** The sidereal second is a unit of time defined as 9.972696e-1 second. */
-	public static Unit SecondSidereal = OM.SecondSidereal;
+	public static Unit SecondSidereal = OM.unit("SecondSidereal");
 
-	public static Unit Picolitre = OM.Picolitre;
+	public static Unit Picolitre = OM.unit("Picolitre");
 
 	/** The gal is a unit of acceleration defined as centimetre per second (time) squared. */
-	public static Unit Gal = OM.Gal;
+	public static Unit Gal = OM.unit("Gal");
 
 	/** The exametre is a unit of length defined as 1.0e18 metre. */
-	public static Unit Exametre = OM.Exametre;
+	public static Unit Exametre = OM.unit("Exametre");
 
-	public static Unit KilosecondTime = OM.KilosecondTime;
+	public static Unit KilosecondTime = OM.unit("KilosecondTime");
 
-	public static Unit Microlitre = OM.Microlitre;
+	public static Unit Microlitre = OM.unit("Microlitre");
 
 	/** Femtometre per second is a unit of speed defined as femtometre divided by second. */
-	public static Unit FemtometrePerSecondTime = OM.FemtometrePerSecondTime;
+	public static Unit FemtometrePerSecondTime = OM.unit("FemtometrePerSecondTime");
 
 	/** The micrometre is a unit of length defined as 1.0e-6 metre. */
-	public static Unit Micrometre = OM.Micrometre;
+	public static Unit Micrometre = OM.unit("Micrometre");
 
-	public static Unit Centisteradian = OM.Centisteradian;
+	public static Unit Centisteradian = OM.unit("Centisteradian");
 
-	public static Unit Deciradian = OM.Deciradian;
+	public static Unit Deciradian = OM.unit("Deciradian");
 
-	public static Unit MegasecondTime = OM.MegasecondTime;
+	public static Unit MegasecondTime = OM.unit("MegasecondTime");
 
 	/** The decimetre is a unit of length defined as 1.0e-1 metre. */
-	public static Unit Decimetre = OM.Decimetre;
+	public static Unit Decimetre = OM.unit("Decimetre");
 
 	/** Attometre per second is a unit of speed defined as attometre divided by second. */
-	public static Unit AttometrePerSecondTime = OM.AttometrePerSecondTime;
+	public static Unit AttometrePerSecondTime = OM.unit("AttometrePerSecondTime");
 
 	/** The barn is a unit of area defined as 1.0e-28 square metre. */
-	public static Unit Barn = OM.Barn;
+	public static Unit Barn = OM.unit("Barn");
 
 	/** Metre per nanosecond is a unit of speed defined as metre divided by nanosecond. */
-	public static Unit MetrePerNanosecondTime = OM.MetrePerNanosecondTime;
+	public static Unit MetrePerNanosecondTime = OM.unit("MetrePerNanosecondTime");
 
 	/** Metre per femtosecond squared is a unit of acceleration defined as metre divided by femtosecond squared. */
-	public static Unit MetrePerFemtosecondTimeSquared = OM.MetrePerFemtosecondTimeSquared;
+	public static Unit MetrePerFemtosecondTimeSquared = OM.unit("MetrePerFemtosecondTimeSquared");
 
-	public static Unit CubicMillimetre = OM.CubicMillimetre;
+	public static Unit CubicMillimetre = OM.unit("CubicMillimetre");
 
-	public static Unit NanosecondTime = OM.NanosecondTime;
+	public static Unit NanosecondTime = OM.unit("NanosecondTime");
 
 	/** Metre per petasecond squared is a unit of acceleration defined as metre divided by petasecond squared. */
-	public static Unit MetrePerPetasecondTimeSquared = OM.MetrePerPetasecondTimeSquared;
+	public static Unit MetrePerPetasecondTimeSquared = OM.unit("MetrePerPetasecondTimeSquared");
 
 	/** The sidereal year is a unit of time defined as 3.155815e7 second. */
-	public static Unit YearSidereal = OM.YearSidereal;
+	public static Unit YearSidereal = OM.unit("YearSidereal");
 
 	/** The mil (plane angle) is a unit of plane angle defined as 9.817477e-4 radian. */
-	public static Unit MilPlaneAngle = OM.MilPlaneAngle;
+	public static Unit MilPlaneAngle = OM.unit("MilPlaneAngle");
 
 	/** The sidereal day is a unit of time defined as 8.616409e4 second. */
-	public static Unit DaySidereal = OM.DaySidereal;
+	public static Unit DaySidereal = OM.unit("DaySidereal");
 
 	/** Kilometre per hour is a unit of speed defined as kilometre divided by hour. */
-	public static Unit KilometrePerHour = OM.KilometrePerHour;
+	public static Unit KilometrePerHour = OM.unit("KilometrePerHour");
 
 	/** The tropical year is a unit of time defined as 3.155693e7 second. */
-	public static Unit YearTropical = OM.YearTropical;
+	public static Unit YearTropical = OM.unit("YearTropical");
 
 	/** Metre per megasecond is a unit of speed defined as metre divided by megasecond. */
-	public static Unit MetrePerMegasecondTime = OM.MetrePerMegasecondTime;
+	public static Unit MetrePerMegasecondTime = OM.unit("MetrePerMegasecondTime");
 
 	/** The US liquid pint is a unit of volume defined as 4.731765e-4 cubic metre. */
-	public static Unit LiquidPintUS = OM.LiquidPintUS;
+	public static Unit LiquidPintUS = OM.unit("LiquidPintUS");
 
 	/** Metre per decisecond squared is a unit of acceleration defined as metre divided by decisecond squared. */
-	public static Unit MetrePerDecisecondTimeSquared = OM.MetrePerDecisecondTimeSquared;
+	public static Unit MetrePerDecisecondTimeSquared = OM.unit("MetrePerDecisecondTimeSquared");
 
 	/** The Imperial quart is a unit of volume defined as 1.1365 litre. */
-	public static Unit QuartImperial = OM.QuartImperial;
+	public static Unit QuartImperial = OM.unit("QuartImperial");
 
-	public static Unit Femtosteradian = OM.Femtosteradian;
+	public static Unit Femtosteradian = OM.unit("Femtosteradian");
 
-	public static Unit Millilitre = OM.Millilitre;
+	public static Unit Millilitre = OM.unit("Millilitre");
 
 	/** Decametre per second is a unit of speed defined as decametre divided by second. */
-	public static Unit DecametrePerSecondTime = OM.DecametrePerSecondTime;
+	public static Unit DecametrePerSecondTime = OM.unit("DecametrePerSecondTime");
 
 	/** Centimetre per day is a unit of speed defined as centimetre divided by day. */
-	public static Unit CentimetrePerDay = OM.CentimetrePerDay;
+	public static Unit CentimetrePerDay = OM.unit("CentimetrePerDay");
 
 	/** The minute (time) is a unit of time defined as 60 second. */
-	public static Unit MinuteTime = OM.MinuteTime;
+	public static Unit MinuteTime = OM.unit("MinuteTime");
 
 	/** The TeX pica is a unit of length defined as 12 point (TeX). */
-	public static Unit PicaTeX = OM.PicaTeX;
+	public static Unit PicaTeX = OM.unit("PicaTeX");
 
-	public static Unit Teralitre = OM.Teralitre;
+	public static Unit Teralitre = OM.unit("Teralitre");
 
-	public static Unit Nanosteradian = OM.Nanosteradian;
+	public static Unit Nanosteradian = OM.unit("Nanosteradian");
 
-	public static Unit Attolitre = OM.Attolitre;
+	public static Unit Attolitre = OM.unit("Attolitre");
 
 	/** Picometre per second is a unit of speed defined as picometre divided by second. */
-	public static Unit PicometrePerSecondTime = OM.PicometrePerSecondTime;
+	public static Unit PicometrePerSecondTime = OM.unit("PicometrePerSecondTime");
 
 	/** The US liquid quart is a unit of volume defined as 9.463529e-4 cubic metre. */
-	public static Unit LiquidQuartUS = OM.LiquidQuartUS;
+	public static Unit LiquidQuartUS = OM.unit("LiquidQuartUS");
 
 	/** The pint is a unit of volume defined as 568.26125 millilitre. */
-	public static Unit PintImperial = OM.PintImperial;
+	public static Unit PintImperial = OM.unit("PintImperial");
 
-	public static Unit CubicExametre = OM.CubicExametre;
+	public static Unit CubicExametre = OM.unit("CubicExametre");
 
-	public static Unit Decilitre = OM.Decilitre;
+	public static Unit Decilitre = OM.unit("Decilitre");
 
-	public static Unit CubicKilometre = OM.CubicKilometre;
+	public static Unit CubicKilometre = OM.unit("CubicKilometre");
 
 	/** The US gill is a unit of volume defined as 1.182941e-4 cubic metre. */
-	public static Unit GillUS = OM.GillUS;
+	public static Unit GillUS = OM.unit("GillUS");
 
-	public static Unit Nanoradian = OM.Nanoradian;
+	public static Unit Nanoradian = OM.unit("Nanoradian");
 
-	public static Unit CentisecondTime = OM.CentisecondTime;
+	public static Unit CentisecondTime = OM.unit("CentisecondTime");
 
 	/** The nanometre is a unit of length defined as 1.0e-9 metre. */
-	public static Unit Nanometre = OM.Nanometre;
+	public static Unit Nanometre = OM.unit("Nanometre");
 
 	/** Gigametre per second is a unit of speed defined as gigametre divided by second. */
-	public static Unit GigametrePerSecondTime = OM.GigametrePerSecondTime;
+	public static Unit GigametrePerSecondTime = OM.unit("GigametrePerSecondTime");
 
-	public static Unit Megalitre = OM.Megalitre;
+	public static Unit Megalitre = OM.unit("Megalitre");
 
-	public static Unit CubicTerametre = OM.CubicTerametre;
+	public static Unit CubicTerametre = OM.unit("CubicTerametre");
 
-	public static Unit Nanolitre = OM.Nanolitre;
+	public static Unit Nanolitre = OM.unit("Nanolitre");
 
 	/** Metre per femtosecond is a unit of speed defined as metre divided by femtosecond. */
-	public static Unit MetrePerFemtosecondTime = OM.MetrePerFemtosecondTime;
+	public static Unit MetrePerFemtosecondTime = OM.unit("MetrePerFemtosecondTime");
 
 	/** The micron is a unit of length defined as 1.0e-6 metre. */
-	public static Unit Micron = OM.Micron;
+	public static Unit Micron = OM.unit("Micron");
 
 	/** Metre per kilosecond is a unit of speed defined as metre divided by kilosecond. */
-	public static Unit MetrePerKilosecondTime = OM.MetrePerKilosecondTime;
+	public static Unit MetrePerKilosecondTime = OM.unit("MetrePerKilosecondTime");
 
 	/** Metre per attosecond squared is a unit of acceleration defined as metre divided by attosecond squared. */
-	public static Unit MetrePerAttosecondTimeSquared = OM.MetrePerAttosecondTimeSquared;
+	public static Unit MetrePerAttosecondTimeSquared = OM.unit("MetrePerAttosecondTimeSquared");
 
 	/** The peck is a unit of volume defined as 8.809768e-3 cubic metre. */
-	public static Unit Peck = OM.Peck;
+	public static Unit Peck = OM.unit("Peck");
 
-	public static Unit GigasecondTime = OM.GigasecondTime;
+	public static Unit GigasecondTime = OM.unit("GigasecondTime");
 
-	public static Unit Decalitre = OM.Decalitre;
+	public static Unit Decalitre = OM.unit("Decalitre");
 
 	/** The statute mile is a unit of length defined as 1.609344e3 metre. */
-	public static Unit MileStatute = OM.MileStatute;
+	public static Unit MileStatute = OM.unit("MileStatute");
 
-	public static Unit RadianPerSecondTimeSquared = OM.RadianPerSecondTimeSquared;
+	public static Unit RadianPerSecondTimeSquared = OM.unit("RadianPerSecondTimeSquared");
 
 	/** The degree is a unit of plane angle defined as 1.745329e-2 radian. */
-	public static Unit Degree = OM.Degree;
+	public static Unit Degree = OM.unit("Degree");
 
 	/** Metre per terasecond is a unit of speed defined as metre divided by terasecond. */
-	public static Unit MetrePerTerasecondTime = OM.MetrePerTerasecondTime;
+	public static Unit MetrePerTerasecondTime = OM.unit("MetrePerTerasecondTime");
 
 	/** Metre per day is a unit of speed defined as metre divided by day. */
-	public static Unit MetrePerDay = OM.MetrePerDay;
+	public static Unit MetrePerDay = OM.unit("MetrePerDay");
 
 	/** Millimetre per second is a unit of speed defined as millimetre divided by second. */
-	public static Unit MillimetrePerSecondTime = OM.MillimetrePerSecondTime;
+	public static Unit MillimetrePerSecondTime = OM.unit("MillimetrePerSecondTime");
 
 	/** The US fluid ounce is a unit of volume defined as 2.957353e-5 cubic metre. */
-	public static Unit FluidOunceUS = OM.FluidOunceUS;
+	public static Unit FluidOunceUS = OM.unit("FluidOunceUS");
 
-	public static Unit CubicKiloparsec = OM.CubicKiloparsec;
+	public static Unit CubicKiloparsec = OM.unit("CubicKiloparsec");
 
 	/** Decimetre per second is a unit of speed defined as decimetre divided by second. */
-	public static Unit DecimetrePerSecondTime = OM.DecimetrePerSecondTime;
+	public static Unit DecimetrePerSecondTime = OM.unit("DecimetrePerSecondTime");
 
-	public static Unit SquareCentimetre = OM.SquareCentimetre;
+	public static Unit SquareCentimetre = OM.unit("SquareCentimetre");
 
 	/** The radian is a unit of plane angle defined as the plane angle subtended at the center of a circle by an arc that is equal in length to the radius of the circle. */
-	public static Unit Radian = OM.Radian;
+	public static Unit Radian = OM.unit("Radian");
 
-	public static Unit CubicDecimetre = OM.CubicDecimetre;
+	public static Unit CubicDecimetre = OM.unit("CubicDecimetre");
 
 	/** The centihertz is a unit of frequency defined as 1.0e-2 hertz. */
-	public static Unit Centihertz = OM.Centihertz;
+	public static Unit Centihertz = OM.unit("Centihertz");
 
 	/** Decametre per second squared is a unit of acceleration defined as decametre divided by second squared. */
-	public static Unit DecametrePerSecondTimeSquared = OM.DecametrePerSecondTimeSquared;
+	public static Unit DecametrePerSecondTimeSquared = OM.unit("DecametrePerSecondTimeSquared");
 
 	/** Metre per kilosecond squared is a unit of acceleration defined as metre divided by kilosecond squared. */
-	public static Unit MetrePerKilosecondTimeSquared = OM.MetrePerKilosecondTimeSquared;
+	public static Unit MetrePerKilosecondTimeSquared = OM.unit("MetrePerKilosecondTimeSquared");
 
 	/** The ångström is a unit of length defined as 1.0e-10 metre. The unit is often used for wavelengths of electromagnetic radiation or to express the sizes of atoms and molecules. */
-	public static Unit Angstrom = OM.Angstrom;
+	public static Unit Angstrom = OM.unit("Angstrom");
 
-	public static Unit SquarePetametre = OM.SquarePetametre;
+	public static Unit SquarePetametre = OM.unit("SquarePetametre");
 
 	/** The Imperial fluid ounce is a unit of volume defined as 2.841306e-5 cubic metre. */
-	public static Unit FluidOunceImperial = OM.FluidOunceImperial;
+	public static Unit FluidOunceImperial = OM.unit("FluidOunceImperial");
 
 	/** The chain is a unit of length defined as 2.011684e1 metre. */
-	public static Unit Chain = OM.Chain;
+	public static Unit Chain = OM.unit("Chain");
 
 	/** Metre per petasecond is a unit of speed defined as metre divided by petasecond. */
-	public static Unit MetrePerPetasecondTime = OM.MetrePerPetasecondTime;
+	public static Unit MetrePerPetasecondTime = OM.unit("MetrePerPetasecondTime");
 
-	public static Unit CubicPetametre = OM.CubicPetametre;
+	public static Unit CubicPetametre = OM.unit("CubicPetametre");
 
-	public static Unit PetasecondTime = OM.PetasecondTime;
+	public static Unit PetasecondTime = OM.unit("PetasecondTime");
 
 	/** The furlong is a unit of length defined as 201.168 metre. */
-	public static Unit Furlong = OM.Furlong;
+	public static Unit Furlong = OM.unit("Furlong");
 
 	/** Nautical mile per hour is a unit of speed defined as nautical mile divided by hour. */
-	public static Unit NauticalMilePerHour = OM.NauticalMilePerHour;
+	public static Unit NauticalMilePerHour = OM.unit("NauticalMilePerHour");
 
 	/** Metre per picosecond is a unit of speed defined as metre divided by picosecond. */
-	public static Unit MetrePerPicosecondTime = OM.MetrePerPicosecondTime;
+	public static Unit MetrePerPicosecondTime = OM.unit("MetrePerPicosecondTime");
 
-	public static Unit Milliradian = OM.Milliradian;
+	public static Unit Milliradian = OM.unit("Milliradian");
 
-	public static Unit ExasecondTime = OM.ExasecondTime;
+	public static Unit ExasecondTime = OM.unit("ExasecondTime");
 
 	/** Terametre per second is a unit of speed defined as terametre divided by second. */
-	public static Unit TerametrePerSecondTime = OM.TerametrePerSecondTime;
+	public static Unit TerametrePerSecondTime = OM.unit("TerametrePerSecondTime");
 
 	/** Millimetre per second squared is a unit of acceleration defined as millimetre divided by second squared. */
-	public static Unit MillimetrePerSecondTimeSquared = OM.MillimetrePerSecondTimeSquared;
+	public static Unit MillimetrePerSecondTimeSquared = OM.unit("MillimetrePerSecondTimeSquared");
 
-	public static Unit CubicCentimetre = OM.CubicCentimetre;
+	public static Unit CubicCentimetre = OM.unit("CubicCentimetre");
 
-	public static Unit DecasecondTime = OM.DecasecondTime;
+	public static Unit DecasecondTime = OM.unit("DecasecondTime");
 
-	public static Unit Femtoradian = OM.Femtoradian;
+	public static Unit Femtoradian = OM.unit("Femtoradian");
 
 	/** Metre per attosecond is a unit of speed defined as metre divided by attosecond. */
-	public static Unit MetrePerAttosecondTime = OM.MetrePerAttosecondTime;
+	public static Unit MetrePerAttosecondTime = OM.unit("MetrePerAttosecondTime");
 
 	/** The ATA point is a unit of length defined as 0.3514598e-3 metre. */
-	public static Unit PointATA = OM.PointATA;
+	public static Unit PointATA = OM.unit("PointATA");
 
-	public static Unit SquareMillimetre = OM.SquareMillimetre;
+	public static Unit SquareMillimetre = OM.unit("SquareMillimetre");
 
-	public static Unit Microsteradian = OM.Microsteradian;
+	public static Unit Microsteradian = OM.unit("Microsteradian");
 
 	/** The microsecond (plane angle) is a unit of length defined as 1.0e-6 second (plane angle). Gebruikt in de astronomie (metingen van posities van sterren/sterrenstelsels etc.) om de fout weer te geven. De nieuwe satellieten zijn zo nauwkeurig dat deze fout mogelijk is geworden (GAIA-satelliet). */
-	public static Unit MicrosecondPlaneAngle = OM.MicrosecondPlaneAngle;
+	public static Unit MicrosecondPlaneAngle = OM.unit("MicrosecondPlaneAngle");
 
-	public static Unit SquareTerametre = OM.SquareTerametre;
+	public static Unit SquareTerametre = OM.unit("SquareTerametre");
 
 	/** The Postscript pica is a unit of length defined as 12 point (Postscript). */
-	public static Unit PicaPostscript = OM.PicaPostscript;
+	public static Unit PicaPostscript = OM.unit("PicaPostscript");
 
 	/** Metre per decasecond squared is a unit of acceleration defined as metre divided by decasecond squared. */
-	public static Unit MetrePerDecasecondTimeSquared = OM.MetrePerDecasecondTimeSquared;
+	public static Unit MetrePerDecasecondTimeSquared = OM.unit("MetrePerDecasecondTimeSquared");
 
 	/** Metre per gigasecond squared is a unit of acceleration defined as metre divided by gigasecond squared. */
-	public static Unit MetrePerGigasecondTimeSquared = OM.MetrePerGigasecondTimeSquared;
+	public static Unit MetrePerGigasecondTimeSquared = OM.unit("MetrePerGigasecondTimeSquared");
 
 	/** The nanohertz is a unit of frequency defined as 1.0e-9 hertz. */
-	public static Unit Nanohertz = OM.Nanohertz;
+	public static Unit Nanohertz = OM.unit("Nanohertz");
 
 	/** The acre foot is a unit of volume defined as 1.233489e3 cubic metre. */
-	public static Unit AcreFoot = OM.AcreFoot;
+	public static Unit AcreFoot = OM.unit("AcreFoot");
 
 	/** The US survey foot is a unit of length defined as 3.048006e-1 metre. */
-	public static Unit FootUSSurvey = OM.FootUSSurvey;
+	public static Unit FootUSSurvey = OM.unit("FootUSSurvey");
 
 	/** The nautical mile is a unit of length defined as 1852 metre. */
-	public static Unit NauticalMile = OM.NauticalMile;
+	public static Unit NauticalMile = OM.unit("NauticalMile");
 
 	/** Metre per terasecond squared is a unit of acceleration defined as metre divided by terasecond squared. */
-	public static Unit MetrePerTerasecondTimeSquared = OM.MetrePerTerasecondTimeSquared;
+	public static Unit MetrePerTerasecondTimeSquared = OM.unit("MetrePerTerasecondTimeSquared");
 
 	/** The decametre is a unit of length defined as 1.0e1 metre. */
-	public static Unit Decametre = OM.Decametre;
+	public static Unit Decametre = OM.unit("Decametre");
 
 	/** The yard is a unit of length defined as 9.144e-1 metre. */
-	public static Unit Yard = OM.Yard;
+	public static Unit Yard = OM.unit("Yard");
 
 	/** The megahertz is a unit of frequency defined as 1.0e6 hertz. */
-	public static Unit Megahertz = OM.Megahertz;
+	public static Unit Megahertz = OM.unit("Megahertz");
 
 	/** Nanometre per second squared is a unit of acceleration defined as nanometre divided by second squared. */
-	public static Unit NanometrePerSecondTimeSquared = OM.NanometrePerSecondTimeSquared;
+	public static Unit NanometrePerSecondTimeSquared = OM.unit("NanometrePerSecondTimeSquared");
 
 	/** Metre per picosecond squared is a unit of acceleration defined as metre divided by picosecond squared. */
-	public static Unit MetrePerPicosecondTimeSquared = OM.MetrePerPicosecondTimeSquared;
+	public static Unit MetrePerPicosecondTimeSquared = OM.unit("MetrePerPicosecondTimeSquared");
 
 	/** Decimetre per second squared is a unit of acceleration defined as decimetre divided by second squared. */
-	public static Unit DecimetrePerSecondTimeSquared = OM.DecimetrePerSecondTimeSquared;
+	public static Unit DecimetrePerSecondTimeSquared = OM.unit("DecimetrePerSecondTimeSquared");
 
 	/** The day is a unit of time defined as 86400 second. */
-	public static Unit Day = OM.Day;
+	public static Unit Day = OM.unit("Day");
 
 	/** The megametre is a unit of length defined as 1.0e6 metre. */
-	public static Unit Megametre = OM.Megametre;
+	public static Unit Megametre = OM.unit("Megametre");
 
 	/** The hectare is a unit of area defined as 1.0e2 are. */
-	public static Unit Hectare = OM.Hectare;
+	public static Unit Hectare = OM.unit("Hectare");
 
 	/** Micrometre per second squared is a unit of acceleration defined as micrometre divided by second squared. */
-	public static Unit MicrometrePerSecondTimeSquared = OM.MicrometrePerSecondTimeSquared;
+	public static Unit MicrometrePerSecondTimeSquared = OM.unit("MicrometrePerSecondTimeSquared");
 
-	public static Unit Gigalitre = OM.Gigalitre;
+	public static Unit Gigalitre = OM.unit("Gigalitre");
 
 	/** The millihertz is a unit of frequency defined as 1.0e-3 hertz. */
-	public static Unit Millihertz = OM.Millihertz;
+	public static Unit Millihertz = OM.unit("Millihertz");
 
 	/** Centimetre per second squared is a unit of acceleration defined as centimetre divided by second squared. */
-	public static Unit CentimetrePerSecondTimeSquared = OM.CentimetrePerSecondTimeSquared;
+	public static Unit CentimetrePerSecondTimeSquared = OM.unit("CentimetrePerSecondTimeSquared");
 
 	/** The second is a unit of time defined as the duration of 9 192 631 770 periods of the radiation corresponding to the transition between the two hyperfine levels of the ground state of the cesium 133 atom. */
-	public static Unit SecondTime = OM.SecondTime;
+	public static Unit SecondTime = OM.unit("SecondTime");
 
-	public static Unit Femtolitre = OM.Femtolitre;
+	public static Unit Femtolitre = OM.unit("Femtolitre");
 
 	/** Metre per microsecond is a unit of speed defined as metre divided by microsecond. */
-	public static Unit MetrePerMicrosecondTime = OM.MetrePerMicrosecondTime;
+	public static Unit MetrePerMicrosecondTime = OM.unit("MetrePerMicrosecondTime");
 
-	public static Unit HourSidereal = OM.HourSidereal;
+	public static Unit HourSidereal = OM.unit("HourSidereal");
 
 	/** The terahertz is a unit of frequency defined as 1.0e12 hertz. */
-	public static Unit Terahertz = OM.Terahertz;
+	public static Unit Terahertz = OM.unit("Terahertz");
 
 	/** Picometre per second squared is a unit of acceleration defined as picometre divided by second squared. */
-	public static Unit PicometrePerSecondTimeSquared = OM.PicometrePerSecondTimeSquared;
+	public static Unit PicometrePerSecondTimeSquared = OM.unit("PicometrePerSecondTimeSquared");
 
 	/** The cord is a unit of volume defined as 3.624556 cubic metre. */
-	public static Unit Cord = OM.Cord;
+	public static Unit Cord = OM.unit("Cord");
 
 	/** The gigametre is a unit of length defined as 1.0e9 metre. */
-	public static Unit Gigametre = OM.Gigametre;
+	public static Unit Gigametre = OM.unit("Gigametre");
 
-	public static Unit SquareNanometre = OM.SquareNanometre;
+	public static Unit SquareNanometre = OM.unit("SquareNanometre");
 
 	/** Exametre per second squared is a unit of acceleration defined as exametre divided by second squared. */
-	public static Unit ExametrePerSecondTimeSquared = OM.ExametrePerSecondTimeSquared;
+	public static Unit ExametrePerSecondTimeSquared = OM.unit("ExametrePerSecondTimeSquared");
 
 	/** The rod is a unit of length defined as 5.029210 metre. */
-	public static Unit Rod = OM.Rod;
+	public static Unit Rod = OM.unit("Rod");
 
 	/** The femtometre is a unit of length defined as 1.0e-15 metre. */
-	public static Unit Femtometre = OM.Femtometre;
+	public static Unit Femtometre = OM.unit("Femtometre");
 
 	/** The fathom is a unit of length defined as 1.828804 metre. */
-	public static Unit Fathom = OM.Fathom;
+	public static Unit Fathom = OM.unit("Fathom");
 
-	public static Unit CubicAttometre = OM.CubicAttometre;
+	public static Unit CubicAttometre = OM.unit("CubicAttometre");
 
 	/** The mil (length) is a unit of length defined as 2.54e-5 metre. */
-	public static Unit MilLength = OM.MilLength;
+	public static Unit MilLength = OM.unit("MilLength");
 
 	/** The megaparsec is a unit of length defined as 1.0e6 parsec. Gebruikt voor afstanden op de schaal van clusters. */
-	public static Unit Megaparsec = OM.Megaparsec;
+	public static Unit Megaparsec = OM.unit("Megaparsec");
 
 	/** Metre per gigasecond is a unit of speed defined as metre divided by gigasecond. */
-	public static Unit MetrePerGigasecondTime = OM.MetrePerGigasecondTime;
+	public static Unit MetrePerGigasecondTime = OM.unit("MetrePerGigasecondTime");
 
-	public static Unit FemtosecondTime = OM.FemtosecondTime;
+	public static Unit FemtosecondTime = OM.unit("FemtosecondTime");
 
-	public static Unit SquareKilometre = OM.SquareKilometre;
+	public static Unit SquareKilometre = OM.unit("SquareKilometre");
 
-	public static Unit Centiradian = OM.Centiradian;
+	public static Unit Centiradian = OM.unit("Centiradian");
 
 	/** The second (plane angle) is a unit of plane angle defined as 4.848137e-6 radian. */
-	public static Unit SecondPlaneAngle = OM.SecondPlaneAngle;
+	public static Unit SecondPlaneAngle = OM.unit("SecondPlaneAngle");
 
 	/** Gigametre per second squared is a unit of acceleration defined as gigametre divided by second squared. */
-	public static Unit GigametrePerSecondTimeSquared = OM.GigametrePerSecondTimeSquared;
+	public static Unit GigametrePerSecondTimeSquared = OM.unit("GigametrePerSecondTimeSquared");
 
-	public static Unit CubicParsec = OM.CubicParsec;
+	public static Unit CubicParsec = OM.unit("CubicParsec");
 
-	public static Unit HectosecondTime = OM.HectosecondTime;
+	public static Unit HectosecondTime = OM.unit("HectosecondTime");
 
-	public static Unit DegreeSquared = OM.DegreeSquared;
+	public static Unit DegreeSquared = OM.unit("DegreeSquared");
 
-	public static Unit CubicFemtometre = OM.CubicFemtometre;
+	public static Unit CubicFemtometre = OM.unit("CubicFemtometre");
 
 	/** The minute (plane angle) is a unit of plane angle defined as 2.908882e-4 radian. */
-	public static Unit MinutePlaneAngle = OM.MinutePlaneAngle;
+	public static Unit MinutePlaneAngle = OM.unit("MinutePlaneAngle");
 
 	/** The TeX point is a unit of length defined as 0.01383700013837000138370001383 inch. */
-	public static Unit PointTeX = OM.PointTeX;
+	public static Unit PointTeX = OM.unit("PointTeX");
 
 	/** The decihertz is a unit of frequency defined as 1.0e-1 hertz. */
-	public static Unit Decihertz = OM.Decihertz;
+	public static Unit Decihertz = OM.unit("Decihertz");
 
 	/** Metre per nanosecond squared is a unit of acceleration defined as metre divided by nanosecond squared. */
-	public static Unit MetrePerNanosecondTimeSquared = OM.MetrePerNanosecondTimeSquared;
+	public static Unit MetrePerNanosecondTimeSquared = OM.unit("MetrePerNanosecondTimeSquared");
 
 	/** Terametre per second squared is a unit of acceleration defined as terametre divided by second squared. */
-	public static Unit TerametrePerSecondTimeSquared = OM.TerametrePerSecondTimeSquared;
+	public static Unit TerametrePerSecondTimeSquared = OM.unit("TerametrePerSecondTimeSquared");
 
-	public static Unit SquareDecametre = OM.SquareDecametre;
+	public static Unit SquareDecametre = OM.unit("SquareDecametre");
 
 	/** The Didot point is a unit of length defined as 0.3759e-3 metre. */
-	public static Unit PointDidot = OM.PointDidot;
+	public static Unit PointDidot = OM.unit("PointDidot");
 
 	/** Attometre per second squared is a unit of acceleration defined as attometre divided by second squared. */
-	public static Unit AttometrePerSecondTimeSquared = OM.AttometrePerSecondTimeSquared;
+	public static Unit AttometrePerSecondTimeSquared = OM.unit("AttometrePerSecondTimeSquared");
 
 	/** Centimetre per second is a unit of speed defined as centimetre divided by second. */
-	public static Unit CentimetrePerSecondTime = OM.CentimetrePerSecondTime;
+	public static Unit CentimetrePerSecondTime = OM.unit("CentimetrePerSecondTime");
 
 	/** The teaspoon is a unit of volume defined as 4.928922e-6 cubic metre. */
-	public static Unit Teaspoon = OM.Teaspoon;
+	public static Unit Teaspoon = OM.unit("Teaspoon");
 
 	/** The US dry quart is a unit of volume defined as 1.101221e-3 cubic metre. */
-	public static Unit DryQuartUS = OM.DryQuartUS;
+	public static Unit DryQuartUS = OM.unit("DryQuartUS");
 
 	/** Nanometre per second is a unit of speed defined as nanometre divided by second. */
-	public static Unit NanometrePerSecondTime = OM.NanometrePerSecondTime;
+	public static Unit NanometrePerSecondTime = OM.unit("NanometrePerSecondTime");
 
 	/** The bushel is a unit of volume defined as 3.523907e-2 cubic metre. */
-	public static Unit Bushel = OM.Bushel;
+	public static Unit Bushel = OM.unit("Bushel");
 
 	/** Metre per millisecond squared is a unit of acceleration defined as metre divided by millisecond squared. */
-	public static Unit MetrePerMillisecondTimeSquared = OM.MetrePerMillisecondTimeSquared;
+	public static Unit MetrePerMillisecondTimeSquared = OM.unit("MetrePerMillisecondTimeSquared");
 
 	/** The acre is a unit of area defined as 4.046873e3 square metre. */
-	public static Unit Acre = OM.Acre;
+	public static Unit Acre = OM.unit("Acre");
 
 	/** The barrel is a unit of volume defined as 1.589873e-1 cubic metre. */
-	public static Unit Barrel = OM.Barrel;
+	public static Unit Barrel = OM.unit("Barrel");
 
-	public static Unit SquareHectometre = OM.SquareHectometre;
+	public static Unit SquareHectometre = OM.unit("SquareHectometre");
 
 	/** The cicero is a unit of length defined as 12 point (Didot). */
-	public static Unit Cicero = OM.Cicero;
+	public static Unit Cicero = OM.unit("Cicero");
 
 	/** Metre per second squared is a unit of acceleration defined as metre divided by second squared. */
-	public static Unit MetrePerSecondTimeSquared = OM.MetrePerSecondTimeSquared;
+	public static Unit MetrePerSecondTimeSquared = OM.unit("MetrePerSecondTimeSquared");
 
-	public static Unit SquareMegametre = OM.SquareMegametre;
+	public static Unit SquareMegametre = OM.unit("SquareMegametre");
 
 	/** The stere is a unit of volume defined as cubic metre. */
-	public static Unit Stere = OM.Stere;
+	public static Unit Stere = OM.unit("Stere");
 
 	/** Metre per centisecond is a unit of speed defined as metre divided by centisecond. */
-	public static Unit MetrePerCentisecondTime = OM.MetrePerCentisecondTime;
+	public static Unit MetrePerCentisecondTime = OM.unit("MetrePerCentisecondTime");
 
 	/** The register ton is a unit of volume defined as 2.831658 cubic metre. */
-	public static Unit TonRegister = OM.TonRegister;
+	public static Unit TonRegister = OM.unit("TonRegister");
 
 	/** Exametre per second is a unit of speed defined as exametre divided by second. */
-	public static Unit ExametrePerSecondTime = OM.ExametrePerSecondTime;
+	public static Unit ExametrePerSecondTime = OM.unit("ExametrePerSecondTime");
 
-	public static Unit MetrePerMetre = OM.MetrePerMetre;
+	public static Unit MetrePerMetre = OM.unit("MetrePerMetre");
 
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package nl.wur.fbr.om.om18;
+
+import nl.wur.fbr.om.om18.vocabulary.OMMeta;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+
+import java.util.*;
+
+/**
+ * The statements of an OM ontology that are needed to create units and scales, collected in a single scan of the
+ * statements (e.g. by exporting a repository connection to this handler). Only the statements with one of the
+ * properties used by the {@link OMUnitAndScaleFactory} are kept, grouped by subject, together with the subclass
+ * hierarchy that is needed to determine the types of the units and scales.
+ * This allows all units and scales to be created without querying the repository for each unit or scale, and without
+ * storing the ontology in a repository when the statements are handled while the ontology is parsed.
+ * <p>
+ * The statements are kept compactly: the properties of a resource are stored as a byte code per statement, and
+ * resources that occur as subject or value in more than one statement (such as the units by which other units are
+ * defined, and the classes) are stored only once.
+ * </p>
+ *
+ * @author Don Willems on 16/10/26.
+ */
+class OMGraph extends AbstractRDFHandler {
+
+    /** The properties of the statements that are kept, the index of a property is its code. */
+    private static final IRI[] PROPERTIES = {
+            RDF.TYPE, RDFS.LABEL,
+            OMMeta.HAS_DEFINITION, OMMeta.HAS_UNIT_OF_MEASURE_OR_MEASUREMENT_SCALE, OMMeta.HAS_NUMERICAL_VALUE,
+            OMMeta.HAS_SINGULAR_UNIT, OMMeta.HAS_PREFIX, OMMeta.HAS_TERM1, OMMeta.HAS_TERM2,
+            OMMeta.HAS_NUMERATOR, OMMeta.HAS_DENOMINATOR, OMMeta.HAS_BASE, OMMeta.HAS_EXPONENT,
+            OMMeta.HAS_DEFINITION_RELATIVE_TO, OMMeta.HAS_DEFINITION_FACTOR, OMMeta.HAS_DEFINITION_OFFSET,
+            OMMeta.HAS_UNIT_OF_MEASURE, OMMeta.HAS_ELEMENT,
+            OMMeta.HAS_DIMENSION,
+            OMMeta.HAS_SI_LENGTH_DIMENSION_EXPONENT, OMMeta.HAS_SI_MASS_DIMENSION_EXPONENT,
+            OMMeta.HAS_SI_TIME_DIMENSION_EXPONENT, OMMeta.HAS_SI_ELECTRIC_CURRENT_DIMENSION_EXPONENT,
+            OMMeta.HAS_SI_THERMODYNAMIC_TEMPERATURE_DIMENSION_EXPONENT,
+            OMMeta.HAS_SI_AMOUNT_OF_SUBSTANCE_DIMENSION_EXPONENT, OMMeta.HAS_SI_LUMINOUS_INTENSITY_DIMENSION_EXPONENT,
+            OMMeta.HAS_ALTERNATIVE_LABEL, OMMeta.HAS_SYMBOL, OMMeta.HAS_ALTERNATIVE_SYMBOL,
+            OMMeta.HAS_ABBREVIATION, OMMeta.HAS_UNOFFICIAL_ABBREVIATION};
+
+    /** The codes of the properties of the statements that are kept. */
+    private static final Map<IRI,Byte> CODES = new HashMap<>();
+
+    static {
+        for(int i=0;i<PROPERTIES.length;i++) CODES.put(PROPERTIES[i], (byte) i);
+    }
+
+    /** The resources found in the statements, so that equal resources are stored only once. */
+    private final Map<Resource,Resource> resources = new HashMap<>();
+
+    /** The descriptions of the resources by subject, in the order in which the subjects were found. */
+    private final Map<Resource,Description> descriptions = new LinkedHashMap<>();
+
+    /** The direct super classes of each class. */
+    private final Map<IRI,List<IRI>> superClasses = new HashMap<>();
+
+    /** The super classes of each class, including the class itself, determined when first needed. */
+    private final Map<IRI,Set<IRI>> classClosures = new HashMap<>();
+
+    /**
+     * Keeps the statement when it is needed to create units and scales.
+     * @param statement The statement.
+     */
+    @Override
+    public void handleStatement(Statement statement) {
+        IRI predicate = statement.getPredicate();
+        if(predicate.equals(RDFS.SUBCLASSOF)){
+            if(statement.getSubject() instanceof IRI && statement.getObject() instanceof IRI){
+                IRI type = (IRI) this.intern(statement.getSubject());
+                List<IRI> supers = superClasses.computeIfAbsent(type, c -> new ArrayList<>(2));
+                if(!supers.contains(statement.getObject())) supers.add((IRI) this.intern((IRI) statement.getObject()));
+                classClosures.clear();
+            }
+        }else{
+            Byte code = CODES.get(predicate);
+            if(code==null) return;
+            Value value = statement.getObject();
+            if(value instanceof Resource) value = this.intern((Resource) value);
+            descriptions.computeIfAbsent(this.intern(statement.getSubject()), s -> new Description()).add(code, value);
+        }
+    }
+
+    /**
+     * Returns the resource that is equal to the specified resource and that was found before, or the resource itself
+     * if it was not found before.
+     * @param resource The resource.
+     * @return The resource that is stored.
+     */
+    private Resource intern(Resource resource) {
+        Resource interned = resources.putIfAbsent(resource, resource);
+        return interned!=null ? interned : resource;
+    }
+
+    /**
+     * Returns the resources for which statements were kept, in the order in which they were found.
+     * @return The resources.
+     */
+    Collection<Resource> getResources() {
+        return Collections.unmodifiableSet(descriptions.keySet());
+    }
+
+    /**
+     * Returns the description of the resource.
+     * @param resource The resource.
+     * @return The description, or null if no statements were kept about the resource.
+     */
+    Description getDescription(Value resource) {
+        return descriptions.get(resource);
+    }
+
+    /**
+     * Returns the types of the resource, i.e. the classes of the resource and all their super classes, which is
+     * equivalent to the SPARQL property path <code>rdf:type/rdfs:subClassOf*</code>.
+     * @param resource The resource.
+     * @return The types of the resource, empty if the resource has no type.
+     */
+    Set<IRI> getTypes(Value resource) {
+        Description description = descriptions.get(resource);
+        if(description==null) return Collections.emptySet();
+        Set<IRI> types = new HashSet<>();
+        for(Value type : description.getValues(RDF.TYPE)){
+            if(type instanceof IRI) types.addAll(this.getClassClosure((IRI) type));
+        }
+        return types;
+    }
+
+    /**
+     * Returns the class and all its (indirect) super classes.
+     * @param type The class.
+     * @return The class and its super classes.
+     */
+    private Set<IRI> getClassClosure(IRI type) {
+        Set<IRI> closure = classClosures.get(type);
+        if(closure!=null) return closure;
+        closure = new HashSet<>();
+        Deque<IRI> todo = new ArrayDeque<>();
+        todo.push(type);
+        while(!todo.isEmpty()){
+            IRI next = todo.pop();
+            if(!closure.add(next)) continue;
+            List<IRI> supers = superClasses.get(next);
+            if(supers!=null) supers.forEach(todo::push);
+        }
+        classClosures.put(type, closure);
+        return closure;
+    }
+
+    /**
+     * The kept statements about one resource, as property value pairs in the order of the statements. The property
+     * of a pair is stored as its code.
+     */
+    static final class Description {
+
+        /** The codes of the properties of the statements. */
+        private byte[] properties = new byte[4];
+
+        /** The values of the statements. */
+        private Value[] values = new Value[4];
+
+        /** The number of statements. */
+        private int size = 0;
+
+        /**
+         * Adds the value of the property, unless the same value was already added for the property.
+         * @param property The code of the property.
+         * @param value The value.
+         */
+        private void add(byte property, Value value) {
+            for(int i=0;i<size;i++){
+                if(properties[i]==property && values[i].equals(value)) return;
+            }
+            if(size==properties.length){
+                properties = Arrays.copyOf(properties, 2*size);
+                values = Arrays.copyOf(values, 2*size);
+            }
+            properties[size] = property;
+            values[size] = value;
+            size++;
+        }
+
+        /**
+         * Returns the number of property value pairs.
+         * @return The number of pairs.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Returns the property of the pair at the specified index.
+         * @param index The index.
+         * @return The property.
+         */
+        IRI getProperty(int index) {
+            if(index>=size) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+            return PROPERTIES[properties[index]];
+        }
+
+        /**
+         * Returns the value of the pair at the specified index.
+         * @param index The index.
+         * @return The value.
+         */
+        Value getValue(int index) {
+            if(index>=size) throw new IndexOutOfBoundsException("Index: "+index+", Size: "+size);
+            return values[index];
+        }
+
+        /**
+         * Returns the first value of the property.
+         * @param property The property.
+         * @return The value, or null if the resource has no value for the property.
+         */
+        Value getValue(IRI property) {
+            Byte code = CODES.get(property);
+            if(code==null) return null;
+            for(int i=0;i<size;i++){
+                if(properties[i]==code) return values[i];
+            }
+            return null;
+        }
+
+        /**
+         * Returns all values of the property.
+         * @param property The property.
+         * @return The values, empty if the resource has no value for the property.
+         */
+        List<Value> getValues(IRI property) {
+            List<Value> found = new ArrayList<>(1);
+            Byte code = CODES.get(property);
+            if(code==null) return found;
+            for(int i=0;i<size;i++){
+                if(properties[i]==code) found.add(values[i]);
+            }
+            return found;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package nl.wur.fbr.om.om18;
 
 import nl.wur.fbr.om.core.factory.DefaultUnitAndScaleFactory;
 import nl.wur.fbr.om.core.impl.points.PointImpl;
+import nl.wur.fbr.om.core.snapshot.UnitSnapshotCache;
 import nl.wur.fbr.om.exceptions.InsufficientDataException;
 import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
 import nl.wur.fbr.om.factory.UnitAndScaleFactory;
@@ -15,20 +16,50 @@ import nl.wur.fbr.om.om18.vocabulary.OMMeta;
 import nl.wur.fbr.om.prefixes.BinaryPrefix;
 import nl.wur.fbr.om.prefixes.DecimalPrefix;
 import nl.wur.fbr.om.prefixes.Prefix;
-import nl.wur.fbr.util.Pair;
 import org.apache.commons.lang3.Range;
+import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.eclipse.rdf4j.query.*;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This implementation of {@link UnitAndScaleFactory} can be used to create unit and scale instances
@@ -41,10 +72,137 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
 
     /**
      * The Sesame SAIL in-memory repository that will contain the OM RDF file.
-     * OM can be queried through this repository.
+     * OM can be queried through this repository. Null when the factory was created from an ontology file.
      */
     private Repository repository = null;
 
+    /** The types of units and scales in OM, in the order in which they are checked for a resource. */
+    private static final IRI[] UNIT_AND_SCALE_TYPES = {
+            OMMeta.SINGULAR_UNIT, OMMeta.UNIT_MULTIPLE_OR_SUBMULTIPLE, OMMeta.UNIT_MULTIPLICATION,
+            OMMeta.UNIT_DIVISION, OMMeta.UNIT_EXPONENTIATION, OMMeta.INTERVAL_SCALE, OMMeta.NOMINAL_SCALE,
+            OMMeta.ORDINAL_SCALE, OMMeta.RATIO_SCALE, OMMeta.CARDINAL_SCALE};
+
+    /** The IRI of the gram, which is defined by the kilogram but is created without definition unit. */
+    private static final IRI GRAM = SimpleValueFactory.getInstance().createIRI(OMMeta.NAMESPACE, "gram");
+
+    /** The IRI of the kilogram, which is the prefixed base unit of mass. */
+    private static final IRI KILOGRAM = SimpleValueFactory.getInstance().createIRI(OMMeta.NAMESPACE, "kilogram");
+
+    /** The query for the types (including the super classes) of a unit or scale. */
+    private static final String TYPE_QUERY = "" +
+            "SELECT ?type WHERE {\n" +
+            "   ?resource <"+ RDF.TYPE+"> ?dtype. \n"+
+            "   ?dtype <"+ RDFS.SUBCLASSOF+">* ?type. \n"+
+            "}";
+
+    /** The query for the definition and dimension of a singular unit. */
+    private static final String SINGULAR_UNIT_QUERY = "" +
+            "SELECT ?dimension ?length ?mass ?time ?current ?temperature ?amount ?intensity ?definitionUnit ?factor WHERE {\n" +
+            "   OPTIONAL{ \n" +
+            "       ?resource <"+ OMMeta.HAS_DIMENSION+ "> ?dimension.\n" +
+            "       ?dimension <"+ OMMeta.HAS_SI_LENGTH_DIMENSION_EXPONENT + "> ?length. \n"+
+            "       ?dimension <"+ OMMeta.HAS_SI_MASS_DIMENSION_EXPONENT + "> ?mass. \n"+
+            "       ?dimension <"+ OMMeta.HAS_SI_TIME_DIMENSION_EXPONENT + "> ?time. \n"+
+            "       ?dimension <"+ OMMeta.HAS_SI_ELECTRIC_CURRENT_DIMENSION_EXPONENT + "> ?current. \n"+
+            "       ?dimension <"+ OMMeta.HAS_SI_THERMODYNAMIC_TEMPERATURE_DIMENSION_EXPONENT + "> ?temperature. \n"+
+            "       ?dimension <"+ OMMeta.HAS_SI_AMOUNT_OF_SUBSTANCE_DIMENSION_EXPONENT + "> ?amount. \n"+
+            "       ?dimension <"+ OMMeta.HAS_SI_LUMINOUS_INTENSITY_DIMENSION_EXPONENT + "> ?intensity. \n"+
+            "   } \n" +
+            "   OPTIONAL{ \n" +
+            "       ?resource <"+ OMMeta.HAS_DEFINITION+ "> ?definition.\n" +
+            "       ?definition <"+ OMMeta.HAS_UNIT_OF_MEASURE_OR_MEASUREMENT_SCALE+ "> ?definitionUnit.\n" +
+            "       ?definition <"+ OMMeta.HAS_NUMERICAL_VALUE+ "> ?factor.\n" +
+            "   }\n"+
+            "   OPTIONAL{ \n" +
+            "       ?resource <"+ OMMeta.HAS_DEFINITION+ "> ?definitionUnit.\n" +
+            "       ?definitionUnit a ?definitionType.\n" +
+            "       ?definitionType <"+ RDFS.SUBCLASSOF+ ">* <"+OMMeta.UNIT_OF_MEASURE+">.\n" +
+            "   }\n"+
+            "}";
+
+    /** The query for the definition of a unit multiple or prefixed unit. */
+    private static final String UNIT_MULTIPLE_QUERY = "" +
+            "SELECT * WHERE{\n" +
+            "   ?resource <"+ OMMeta.HAS_SINGULAR_UNIT+"> ?sunit.\n"+
+            "   ?resource <"+ OMMeta.HAS_PREFIX+"> ?prefix.\n"+
+            "}";
+
+    /** The query for the definition of a unit multiplication. */
+    private static final String UNIT_MULTIPLICATION_QUERY = "" +
+            "SELECT * WHERE{\n" +
+            "   ?resource <"+ OMMeta.HAS_TERM1+"> ?term1.\n"+
+            "   ?resource <"+ OMMeta.HAS_TERM2+"> ?term2.\n"+
+            "}";
+
+    /** The query for the definition of a unit division. */
+    private static final String UNIT_DIVISION_QUERY = "" +
+            "SELECT * WHERE{\n" +
+            "   ?resource <"+ OMMeta.HAS_NUMERATOR+"> ?numerator.\n"+
+            "   ?resource <"+ OMMeta.HAS_DENOMINATOR+"> ?denominator.\n"+
+            "}";
+
+    /** The query for the definition of a unit exponentiation. */
+    private static final String UNIT_EXPONENTIATION_QUERY = "" +
+            "SELECT * WHERE{\n" +
+            "   ?resource <"+ OMMeta.HAS_BASE+"> ?base.\n"+
+            "   ?resource <"+ OMMeta.HAS_EXPONENT+"> ?exponent.\n"+
+            "}";
+
+    /** The query for the definition of a measurement scale. */
+    private static final String SCALE_QUERY = "" +
+            "SELECT * WHERE{\n" +
+            "   OPTIONAL{ \n" +
+            "       ?resource <"+ OMMeta.HAS_DEFINITION_RELATIVE_TO+"> ?parent.\n"+
+            "       ?resource <"+ OMMeta.HAS_DEFINITION_FACTOR+"> ?factor.\n"+
+            "       ?resource <"+ OMMeta.HAS_DEFINITION_OFFSET+"> ?offset.\n" +
+            "   }\n"+
+            "   OPTIONAL{ ?resource <"+ OMMeta.HAS_UNIT_OF_MEASURE+"> ?unit.}\n"+
+            "}";
+
+    /** The query for the fixed points that define a measurement scale. */
+    private static final String FIXED_POINTS_QUERY = "" +
+            "SELECT * WHERE{\n" +
+            "   ?resource <"+ OMMeta.HAS_ELEMENT+ "> ?element.\n" +
+            "   ?element a <"+ OMMeta.FIXED_POINT+">.\n" +
+            "   ?element <"+ OMMeta.HAS_NUMERICAL_VALUE+"> ?value." +
+            "}";
+
+    /** The query for the names and symbols of a unit or scale. */
+    private static final String LABELS_QUERY = "" +
+            "SELECT ?label ?prop WHERE {\n" +
+            "  {\n" +
+            "    ?resource <"+ RDFS.LABEL+"> ?label.\n" +
+            "    BIND (<"+ RDFS.LABEL+"> AS ?prop)\n" +
+            "  } UNION {\n" +
+            "    ?resource <"+ OMMeta.HAS_ALTERNATIVE_LABEL+"> ?label.\n" +
+            "    BIND (<"+ OMMeta.HAS_ALTERNATIVE_LABEL+"> AS ?prop)\n" +
+            "  } UNION {\n" +
+            "    ?resource <"+ OMMeta.HAS_SYMBOL+"> ?label.\n" +
+            "    BIND (<"+ OMMeta.HAS_SYMBOL+"> AS ?prop)\n" +
+            "  } UNION {\n" +
+            "    ?resource <"+ OMMeta.HAS_ALTERNATIVE_SYMBOL+"> ?label.\n" +
+            "    BIND (<"+ OMMeta.HAS_ALTERNATIVE_SYMBOL+"> AS ?prop)\n" +
+            "  } UNION {\n" +
+            "    ?resource <"+ OMMeta.HAS_UNOFFICIAL_ABBREVIATION+"> ?label.\n" +
+            "    BIND (<"+ OMMeta.HAS_UNOFFICIAL_ABBREVIATION+"> AS ?prop)\n" +
+            "  } UNION {\n" +
+            "    ?resource <"+ OMMeta.HAS_ABBREVIATION+"> ?label.\n" +
+            "    BIND (<"+ OMMeta.HAS_ABBREVIATION+"> AS ?prop)\n" +
+            "  }\n" +
+            "}";
+
+    /**
+     * The exceptions for the identifiers that could not be resolved in the repository because their definition is
+     * missing or incomplete, by IRI, so that the repository is not queried again for these identifiers.
+     */
+    private final ConcurrentMap<String,UnitOrScaleCreationException> unresolvable = new ConcurrentHashMap<>();
+
+    /** The on-disk cache of the units and scales resolved from the repository, null when they are not cached. */
+    private volatile UnitSnapshotCache cache = null;
+
+    /** The exception thrown when the cache could not be written, after which the cache was disabled, or null. */
+    private volatile Exception cacheFailure = null;
+
     /**
      * Creates a new factory initialised with the specified repository. This repository should contain the
      * OM ontology but may be available from for instance an HTTP server. The repository should be fully
@@ -55,6 +213,21 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
         this.repository = repository;
     }
 
+    /**
+     * Creates a new factory with all units and scales defined in the OM ontology that is read from the input
+     * stream. The ontology is not stored in a repository, the statements are handled while the ontology is parsed
+     * and only the statements needed to create the units and scales are kept. As the factory has no repository,
+     * units and scales that are not defined in the ontology cannot be created, and requesting a unit or scale that
+     * could not be created from its definition in the ontology throws the exception that prevented its creation.
+     * @param in The input stream of the OM ontology, which is not closed by this constructor.
+     * @param baseIRI The base IRI against which relative IRIs in the ontology are resolved.
+     * @param format The format of the ontology, e.g. {@link RDFFormat#RDFXML}.
+     * @throws UnitOrScaleCreationException When the ontology could not be read.
+     */
+    public OMUnitAndScaleFactory(InputStream in, String baseIRI, RDFFormat format) throws UnitOrScaleCreationException {
+        unresolvable.putAll(this.importUnitsAndScales(in, baseIRI, format));
+    }
+
     /**
      * Returns the Unit or Scale identified by the specified identifier (either the full IRI or the local name)
      * within the OM ontology. <br>
@@ -64,80 +237,383 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * If the Unit or Scale has not been created previously, this method should create the
      * unit or scale and set the identifier (IRI) of the unit or scale to the specified identifier.
      * If the data for creating a new instance is not available, e.g. is not part of the core set, or the identifier does not
-     * represent a unit or scale, this method will throw a {@link UnitOrScaleCreationException}.
+     * represent a unit or scale, this method will throw a {@link UnitOrScaleCreationException}. When the definition of
+     * the unit or scale is missing or incomplete, the exception is remembered, so the repository is not queried
+     * again for the identifier (see
+     * {@link #clearUnresolvableIdentifiers()}). The unit or scale and the units and scales by which it is defined
+     * are created using a single connection to the repository.
      * @param identifier The identifier of the unit or scale, in OM the string representation of a IRI.
      * @return The unit or scale identified by the specified identifier.
      * @throws UnitOrScaleCreationException When the unit could not be created from the specified identifier.
      */
     @Override
     public Object getUnitOrScale(String identifier) throws UnitOrScaleCreationException {
-        Object uos = null;
+        Object uos = this.findUnitOrScale(identifier);
+        if(uos!=null) return uos;
+        try (Session session = new Session()) {
+            return this.getUnitOrScale(identifier, session);
+        } finally {
+            this.updateCache();
+        }
+    }
+
+    /**
+     * Returns the units and scales identified by the specified identifiers, which are resolved using a single
+     * connection to the repository.
+     * @param identifiers The identifiers of the units and scales (either the full IRIs or the local names).
+     * @return The units and scales by identifier, in the order of the identifiers. Identifiers that could not be
+     * resolved are not included, {@link #getUnitOrScale(String)} throws the exception for these identifiers.
+     */
+    public Map<String,Object> resolveAll(Collection<String> identifiers) {
+        return this.resolveAll(identifiers, 1);
+    }
+
+    /**
+     * Returns the units and scales identified by the specified identifiers. When the parallelism is larger than 1,
+     * the identifiers are first resolved by the specified number of threads, each with its own connection to the
+     * repository, so that the units and scales and their definition units are retrieved from the repository
+     * concurrently. Units and scales that are needed by multiple threads are only created once.
+     * @param identifiers The identifiers of the units and scales (either the full IRIs or the local names).
+     * @param parallelism The number of threads that resolve the identifiers.
+     * @return The units and scales by identifier, in the order of the identifiers. Identifiers that could not be
+     * resolved are not included, {@link #getUnitOrScale(String)} throws the exception for these identifiers.
+     */
+    public Map<String,Object> resolveAll(Collection<String> identifiers, int parallelism) {
+        List<String> ids = new ArrayList<>(identifiers);
+        if(parallelism>1 && ids.size()>1){
+            this.prefetch(ids, Math.min(parallelism, ids.size()));
+        }
+        Map<String,Object> resolved = new LinkedHashMap<>();
+        try (Session session = new Session()) {
+            for(String identifier : ids){
+                try {
+                    resolved.put(identifier, this.getUnitOrScale(identifier, session));
+                } catch (UnitOrScaleCreationException e) {
+                    // not resolved, the exception is thrown by getUnitOrScale(identifier)
+                }
+            }
+        }
+        this.updateCache();
+        return resolved;
+    }
+
+    /**
+     * Forgets the identifiers that could not be resolved in the repository, so that the repository is queried
+     * again when these identifiers are requested, e.g. after statements have been added to the repository.
+     */
+    public void clearUnresolvableIdentifiers() {
+        unresolvable.clear();
+    }
+
+    /**
+     * Caches the units and scales that are resolved from the repository in the snapshot file at the specified path,
+     * see {@link #enableCache(Path, String)}. The cache is keyed by a hash of the statements in the repository, for
+     * which all statements are read each time the cache is enabled. This is much slower than loading the cache, use
+     * {@link #enableCache(Path, String)} with a cheap version of the contents, such as the version or modification
+     * time of the ontology file, when the cache is enabled at every start.
+     * @param path The path of the snapshot file, which does not have to exist.
+     * @return True when units and scales were loaded from the cache, false when the cache was missing or stale.
+     * @throws UnitOrScaleCreationException When the repository could not be read.
+     */
+    public boolean enableCache(Path path) throws UnitOrScaleCreationException {
+        return this.enableCache(path, "om-1.8 "+this.getRepositoryContentHash());
+    }
+
+    /**
+     * Caches the units and scales that are resolved from the repository in the snapshot file at the specified path,
+     * so that they are not resolved from the repository again by a factory for the same repository, for instance
+     * after a restart. The cache is keyed by the specified version of the contents of the repository, so that the
+     * repository is not read when the cache is enabled. When the file was written for the same version, its units
+     * and scales are added to this factory. Otherwise the file is replaced when units or scales are resolved from
+     * the repository. The file is written by a background thread shortly after units or scales have been resolved
+     * from the repository (see {@link UnitSnapshotCache}), call {@link #flushCache()} to write it immediately.
+     * @param path The path of the snapshot file, which does not have to exist.
+     * @param contentVersion The version of the contents of the repository (e.g. the version of the ontology file),
+     *                       which should change whenever the contents change.
+     * @return True when units and scales were loaded from the cache, false when the cache was missing or stale.
+     */
+    public boolean enableCache(Path path, String contentVersion) {
+        UnitSnapshotCache snapshotCache = new UnitSnapshotCache(path, contentVersion);
+        boolean loaded = snapshotCache.load(this);
+        this.cacheFailure = null;
+        this.cache = snapshotCache;
+        return loaded;
+    }
+
+    /**
+     * Writes the units and scales that were resolved from the repository to the cache immediately, instead of after
+     * the delay of the cache, e.g. before the application exits. Nothing is written when the units and scales are
+     * not cached, or when no units or scales were resolved since the cache was last written.
+     */
+    public void flushCache() {
+        UnitSnapshotCache snapshotCache = this.cache;
+        if(snapshotCache==null) return;
+        try {
+            snapshotCache.flush(this);
+        } catch (IOException | IllegalArgumentException e) {
+            this.cache = null;
+            this.cacheFailure = e;
+        }
+    }
+
+    /**
+     * Returns the exception thrown when the cache (see {@link #enableCache(Path, String)}) could not be written, for
+     * instance because the path is not writable. The cache is disabled when it could not be written, as it only
+     * speeds up the creation of units and scales. The units and scales are still resolved from the repository.
+     * @return The exception, or null when the cache has not failed since it was enabled.
+     */
+    public Exception getCacheFailure() {
+        if(cacheFailure!=null) return cacheFailure;
+        UnitSnapshotCache snapshotCache = this.cache;
+        return snapshotCache!=null ? snapshotCache.getFailure() : null;
+    }
+
+    /**
+     * Schedules the units and scales in this factory to be written to the cache, when the units and scales are
+     * cached and units or scales have been resolved from the repository since the cache was last written. The
+     * cache is written by a background thread, so that resolving units and scales does not wait for it.
+     */
+    private void updateCache() {
+        UnitSnapshotCache snapshotCache = this.cache;
+        if(snapshotCache!=null) snapshotCache.update(this);
+    }
+
+    /**
+     * Returns a hash of the statements in the repository. The hash does not depend on the order of the statements
+     * or on the identifiers of blank nodes, as these differ each time the ontology is loaded in a repository.
+     * @return The hash as a hexadecimal string.
+     * @throws UnitOrScaleCreationException When the repository could not be read.
+     */
+    private String getRepositoryContentHash() throws UnitOrScaleCreationException {
+        if(repository==null){
+            throw new UnitOrScaleCreationException("Could not compute the hash of the repository because the" +
+                    " factory has no repository.");
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) { // SHOULD NOT HAPPEN AS EVERY JVM SUPPORTS SHA-256.
+            throw new IllegalStateException(e);
+        }
+        long[] sums = new long[5];
+        AbstractRDFHandler handler = new AbstractRDFHandler() {
+            @Override
+            public void handleStatement(Statement statement) {
+                String triple = term(statement.getSubject())+" "+term(statement.getPredicate())+" "+
+                        term(statement.getObject());
+                ByteBuffer hash = ByteBuffer.wrap(digest.digest(triple.getBytes(StandardCharsets.UTF_8)));
+                for(int i=0;i<4;i++) sums[i] += hash.getLong(i*8);
+                sums[4]++;
+            }
+
+            private String term(Value value) {
+                return value instanceof BNode ? "_:" : value.toString();
+            }
+        };
+        RepositoryConnection connection = null;
         try{
-            uos = super.getUnitOrScale(identifier);
-        } catch (Exception e){ } // no memory of unit or scale
-        if(uos==null){
-            ValueFactory vf = repository.getValueFactory();
-            IRI IRI = null;
-            if(identifier.startsWith("http://")){
-                IRI = vf.createIRI(identifier);
-            }else{
-                IRI = vf.createIRI("http://www.wurvoc.org/vocabularies/om-1.8/",identifier);
-            }
-            RepositoryConnection connection = null;
-            try{
-                connection = repository.getConnection();
-                uos = createUnitOrScaleFromIRI(IRI,connection);
-            } catch (RepositoryException e) {
-                throw new UnitOrScaleCreationException("Could not create unit or scale <"+IRI+"> because the repository" +
-                        " could not be accessed.",identifier,e);
-            } finally {
-                if(connection!=null){
-                    try {
-                        connection.close();
-                    } catch (RepositoryException e) {
+            connection = repository.getConnection();
+            connection.export(handler);
+        } catch (RepositoryException | RDFHandlerException e) {
+            throw new UnitOrScaleCreationException("Could not compute the hash of the repository because the" +
+                    " repository could not be accessed.",e);
+        } finally {
+            if(connection!=null){
+                try {
+                    connection.close();
+                } catch (RepositoryException e) {
+                }
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for(long sum : sums) hex.append(String.format("%016x", sum));
+        return hex.toString();
+    }
+
+    /**
+     * Resolves the identifiers concurrently on a fixed number of threads, each resolving a share of the identifiers
+     * using its own connection to the repository.
+     * @param identifiers The identifiers.
+     * @param parallelism The number of threads.
+     */
+    private void prefetch(List<String> identifiers, int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> tasks = new ArrayList<>(parallelism);
+            for(int t=0;t<parallelism;t++){
+                final int first = t;
+                tasks.add(executor.submit(() -> {
+                    try (Session session = new Session()) {
+                        for(int i=first;i<identifiers.size();i+=parallelism){
+                            try {
+                                this.getUnitOrScale(identifiers.get(i), session);
+                            } catch (UnitOrScaleCreationException e) {
+                                // reported when the identifiers are resolved after prefetching
+                            }
+                        }
                     }
+                }));
+            }
+            for(Future<?> task : tasks){
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if(e.getCause() instanceof Error) throw (Error) e.getCause();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the Unit or Scale identified by the specified identifier, which is created using the session when it
+     * has not been created before.
+     * @param identifier The identifier of the unit or scale, either the full IRI or the local name.
+     * @param session The session with the repository.
+     * @return The unit or scale identified by the specified identifier.
+     * @throws UnitOrScaleCreationException When the unit could not be created from the specified identifier.
+     */
+    private Object getUnitOrScale(String identifier, Session session) throws UnitOrScaleCreationException {
+        Object uos = this.findUnitOrScale(identifier);
+        if(uos!=null) return uos;
+        ValueFactory vf = repository!=null ? repository.getValueFactory() : SimpleValueFactory.getInstance();
+        final IRI IRI;
+        if(identifier.startsWith("http://")){
+            IRI = vf.createIRI(identifier);
+        }else{
+            IRI = vf.createIRI("http://www.wurvoc.org/vocabularies/om-1.8/",identifier);
+        }
+        UnitOrScaleCreationException unresolved = unresolvable.get(IRI.stringValue());
+        if(unresolved!=null) throw unresolved;
+        if(repository==null){
+            throw new InsufficientDataException("The unit or scale <"+IRI+"> is not defined in the OM ontology from" +
+                    " which the factory was created.",IRI.stringValue());
+        }
+        try {
+            // Concurrent requests for the same unit or scale wait for one thread to create it.
+            return getOrCreateUnitOrScale(IRI.stringValue(), iri -> createUnitOrScaleFromIRI(IRI,session));
+        } catch (UnitOrScaleCreationException e) {
+            if(isDefinitionFailure(e)) unresolvable.putIfAbsent(IRI.stringValue(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true when the exception was caused by the definition of the unit or scale, e.g. because the definition
+     * is missing or incomplete, i.e. when all exceptions in its cause chain are unit or scale creation exceptions.
+     * Failures that may not occur when the identifier is resolved again, such as failures to access the repository,
+     * interrupted threads, runtime exceptions and errors, are not caused by the definition.
+     * @param exception The exception.
+     * @return True when the exception was caused by the definition of the unit or scale.
+     */
+    private static boolean isDefinitionFailure(Throwable exception) {
+        for(Throwable cause = exception; cause!=null; cause = cause.getCause()){
+            if(!(cause instanceof UnitOrScaleCreationException)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates all units and scales defined in the repository. This is much faster than requesting each unit or
+     * scale with {@link #getUnitOrScale(String)} when most units are needed (e.g. to warm up the factory with all
+     * of OM), as the statements in the repository are read in a single scan instead of with several queries for
+     * each unit or scale. Each unit or scale is created after the units and scales by which it is defined.
+     * Units and scales that were created before are not created again. Units and scales that cannot be created
+     * (e.g. because their definition is incomplete) are skipped, as are the units and scales defined by them.
+     * @return The exceptions for the units and scales that could not be created, by identifier. The map is empty
+     * when all units and scales were created.
+     * @throws UnitOrScaleCreationException When the repository could not be read.
+     */
+    public Map<String,UnitOrScaleCreationException> importUnitsAndScales() throws UnitOrScaleCreationException {
+        if(repository==null){
+            throw new UnitOrScaleCreationException("Could not import the units and scales because the factory" +
+                    " has no repository.");
+        }
+        OMGraph graph = new OMGraph();
+        RepositoryConnection connection = null;
+        try{
+            connection = repository.getConnection();
+            connection.export(graph);
+        } catch (RepositoryException | RDFHandlerException e) {
+            throw new UnitOrScaleCreationException("Could not import the units and scales because the repository" +
+                    " could not be accessed.",e);
+        } finally {
+            if(connection!=null){
+                try {
+                    connection.close();
+                } catch (RepositoryException e) {
                 }
             }
         }
-        return uos;
+        Map<String,UnitOrScaleCreationException> problems = new GraphImport(graph).importAll();
+        this.updateCache();
+        return problems;
+    }
+
+    /**
+     * Creates all units and scales defined in the OM ontology that is read from the input stream, without storing
+     * the ontology in a repository. The statements are handled while the ontology is parsed, only the statements
+     * needed to create the units and scales are kept, and the units and scales are created in the same way as by
+     * {@link #importUnitsAndScales()}. Statements that occur more than once in the ontology are only used once.
+     * @param in The input stream of the OM ontology, which is not closed by this method.
+     * @param baseIRI The base IRI against which relative IRIs in the ontology are resolved.
+     * @param format The format of the ontology, e.g. {@link RDFFormat#RDFXML}.
+     * @return The exceptions for the units and scales that could not be created, by identifier. The map is empty
+     * when all units and scales were created.
+     * @throws UnitOrScaleCreationException When the ontology could not be read.
+     */
+    public Map<String,UnitOrScaleCreationException> importUnitsAndScales(InputStream in, String baseIRI, RDFFormat format) throws UnitOrScaleCreationException {
+        OMGraph graph = new OMGraph();
+        RDFParser parser = Rio.createParser(format);
+        parser.setRDFHandler(graph);
+        try {
+            parser.parse(in, baseIRI);
+        } catch (IOException | RDFParseException | RDFHandlerException e) {
+            throw new UnitOrScaleCreationException("Could not import the units and scales because the ontology" +
+                    " could not be read.",e);
+        }
+        return new GraphImport(graph).importAll();
     }
 
     /**
      * Creates an instance of the unit or scale identified by the specified IRI.
      * @param IRI The IRI in OM of the unit or scale to be created.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The Unit or Scale.
      * @throws UnitOrScaleCreationException If the unit or scale could not be created.
      */
-    private Object createUnitOrScaleFromIRI(IRI IRI,RepositoryConnection connection) throws UnitOrScaleCreationException {
+    private Object createUnitOrScaleFromIRI(IRI IRI,Session session) throws UnitOrScaleCreationException {
         try {
-            List<IRI> types = this.getTypeOfResource(IRI,connection);
+            List<IRI> types = this.getTypeOfResource(IRI,session);
             NamedObject nobject = null;
             if(types.contains(OMMeta.SINGULAR_UNIT)){
-                nobject = this.createSingularUnit(IRI,connection);
+                nobject = this.createSingularUnit(IRI,session);
             }else if(types.contains(OMMeta.UNIT_MULTIPLE_OR_SUBMULTIPLE)){
-                nobject = this.createUnitMultiple(IRI,connection);
+                nobject = this.createUnitMultiple(IRI,session);
             }else if(types.contains(OMMeta.UNIT_MULTIPLICATION)){
-                nobject = this.createUnitMultiplication(IRI, connection);
+                nobject = this.createUnitMultiplication(IRI, session);
             }else if(types.contains(OMMeta.UNIT_DIVISION)){
-                nobject = this.createUnitDivision(IRI, connection);
+                nobject = this.createUnitDivision(IRI, session);
             }else if(types.contains(OMMeta.UNIT_EXPONENTIATION)){
-                nobject = this.createUnitExponentiation(IRI, connection);
+                nobject = this.createUnitExponentiation(IRI, session);
             }else if(types.contains(OMMeta.INTERVAL_SCALE)){
-                nobject = this.createScale(IRI, connection);
+                nobject = this.createScale(IRI, session);
             }else if(types.contains(OMMeta.NOMINAL_SCALE)){
                 throw new UnsupportedOperationException("Nominal scales are not yet supported.");
             }else if(types.contains(OMMeta.ORDINAL_SCALE)){
                 throw new UnsupportedOperationException("Ordinal scales are not yet supported.");
             }else if(types.contains(OMMeta.RATIO_SCALE)){
-                nobject = this.createScale(IRI, connection);
+                nobject = this.createScale(IRI, session);
             }else if(types.contains(OMMeta.CARDINAL_SCALE)){
-                nobject = this.createScale(IRI, connection);
+                nobject = this.createScale(IRI, session);
             }else {
                 throw new UnitOrScaleCreationException("The type of the requested resource with identifier <"+IRI+"> " +
                         "is not one of the expected unit or scale types (types = "+types+".");
             }
-            this.addNamesAndSymbols(IRI,nobject,connection);
+            this.addNamesAndSymbols(IRI,nobject,session);
+            if(nobject instanceof Unit) this.getUnitNameIndex().add((Unit) nobject);
             return nobject;
         } catch (MalformedQueryException e) { // SHOULD NOT HAPPEN AS THE SPARQL IS PREDEFINED.
             throw new UnitOrScaleCreationException("Could not create unit or scale <"+IRI+"> because the repository" +
@@ -157,62 +633,38 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * Creates a singular (or base) unit from the specified IRI. The type of unit should already be determined to be
      * a singular unit.
      * @param IRI The IRI (identifier) of the unit.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The singular unit.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
      * @throws QueryEvaluationException When the query could not be evaluated.
      * @throws UnitOrScaleCreationException When not enough data could be found in the OM repository to create the unit, or when the definition unit could not be created.
      */
-    private SingularUnit createSingularUnit(IRI IRI, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
-        String sparql = "" +
-                "SELECT ?dimension ?length ?mass ?time ?current ?temperature ?amount ?intensity ?definitionUnit ?factor WHERE {\n" +
-                "   OPTIONAL{ \n" +
-                "       <"+IRI+"> <"+ OMMeta.HAS_DIMENSION+ "> ?dimension.\n" +
-                "       ?dimension <"+ OMMeta.HAS_SI_LENGTH_DIMENSION_EXPONENT + "> ?length. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_MASS_DIMENSION_EXPONENT + "> ?mass. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_TIME_DIMENSION_EXPONENT + "> ?time. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_ELECTRIC_CURRENT_DIMENSION_EXPONENT + "> ?current. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_THERMODYNAMIC_TEMPERATURE_DIMENSION_EXPONENT + "> ?temperature. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_AMOUNT_OF_SUBSTANCE_DIMENSION_EXPONENT + "> ?amount. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_LUMINOUS_INTENSITY_DIMENSION_EXPONENT + "> ?intensity. \n"+
-                "   } \n" +
-                "   OPTIONAL{ \n" +
-                "       <"+IRI+"> <"+ OMMeta.HAS_DEFINITION+ "> ?definition.\n" +
-                "       ?definition <"+ OMMeta.HAS_UNIT_OF_MEASURE_OR_MEASUREMENT_SCALE+ "> ?definitionUnit.\n" +
-                "       ?definition <"+ OMMeta.HAS_NUMERICAL_VALUE+ "> ?factor.\n" +
-                "   }\n"+
-                "   OPTIONAL{ \n" +
-                "       <"+IRI+"> <"+ OMMeta.HAS_DEFINITION+ "> ?definitionUnit.\n" +
-                "       ?definitionUnit a ?definitionType.\n" +
-                "       ?definitionType <"+ RDFS.SUBCLASSOF+ ">* <"+OMMeta.UNIT_OF_MEASURE+">.\n" +
-                "   }\n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()){
-            IRI gramIRI = connection.getValueFactory().createIRI(OMMeta.NAMESPACE, "gram");
-            BindingSet bs = result.next();
+    private SingularUnit createSingularUnit(IRI IRI, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
+        List<BindingSet> result = session.select(SINGULAR_UNIT_QUERY, IRI);
+        if(!result.isEmpty()){
+            BindingSet bs = result.get(0);
             IRI definitionUnitIRI = null;
             double factor = 1;
-            BaseDimension dimension = this.getBaseDimension(IRI,connection);
+            BaseDimension dimension = getBaseDimension(bs);
             if(bs.hasBinding("definitionUnit")) {
                 definitionUnitIRI = (IRI) bs.getValue("definitionUnit");
             }
             if(bs.hasBinding("factor")){
                 factor = new Double(((Literal) bs.getValue("factor")).stringValue());
             }
-            if(definitionUnitIRI!=null && !IRI.equals(gramIRI)){
+            if(definitionUnitIRI!=null && !IRI.equals(GRAM)){
                 Unit defUnit = null;
                 try {
-                    defUnit = (Unit)getUnitOrScale(definitionUnitIRI.stringValue());
+                    defUnit = (Unit)getUnitOrScale(definitionUnitIRI.stringValue(), session);
                 } catch (UnitOrScaleCreationException e) {
                     throw new UnitOrScaleCreationException("The definition unit with IRI <"+definitionUnitIRI.stringValue()+"> of the singular unit <"+IRI+"> could not be created.",IRI.stringValue(),e);
                 }
                 SingularUnit singularUnit = this.createSingularUnit(IRI.stringValue(), (String) null, (String) null, defUnit,factor);
                 return singularUnit;
-            } else if(IRI.equals(gramIRI)){
+            } else if(IRI.equals(GRAM)){
                 SingularUnit singularUnit = this.createSingularUnit(IRI.stringValue(),(String)null,(String)null);
-                this.getUnitOrScale(definitionUnitIRI.stringValue());
+                this.getUnitOrScale(definitionUnitIRI.stringValue(), session);
                 return singularUnit;
             } else {
                 BaseUnit baseUnit = this.createBaseUnit(IRI.stringValue(), (String) null, (String) null, dimension);
@@ -226,67 +678,22 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * Creates a unit multiple or prefixed unit identified by the specified OM IRI. The type of unit should already be
      * determined to be a unit multiple.
      * @param IRI The IRI (identifier) of the unit.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The unit multiple.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
      * @throws QueryEvaluationException When the query could not be evaluated.
      * @throws UnitOrScaleCreationException When not enough data could be found in the OM repository to create the unit, or when the parent unit could not be created.
      */
-    private UnitMultiple createUnitMultiple(IRI IRI, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   <"+IRI+"> <"+ OMMeta.HAS_SINGULAR_UNIT+"> ?sunit.\n"+
-                "   <"+IRI+"> <"+ OMMeta.HAS_PREFIX+"> ?prefix.\n"+
-                "   OPTIONAL{ \n" +
-                "       <"+IRI+"> <"+ OMMeta.HAS_DIMENSION+ "> ?dimension.\n" +
-                "       ?dimension <"+ OMMeta.HAS_SI_LENGTH_DIMENSION_EXPONENT + "> ?length. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_MASS_DIMENSION_EXPONENT + "> ?mass. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_TIME_DIMENSION_EXPONENT + "> ?time. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_ELECTRIC_CURRENT_DIMENSION_EXPONENT + "> ?current. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_THERMODYNAMIC_TEMPERATURE_DIMENSION_EXPONENT + "> ?temperature. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_AMOUNT_OF_SUBSTANCE_DIMENSION_EXPONENT + "> ?amount. \n"+
-                "       ?dimension <"+ OMMeta.HAS_SI_LUMINOUS_INTENSITY_DIMENSION_EXPONENT + "> ?intensity. \n"+
-                "   } \n" +
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()){
-            BindingSet bs = result.next();
+    private UnitMultiple createUnitMultiple(IRI IRI, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
+        List<BindingSet> result = session.select(UNIT_MULTIPLE_QUERY, IRI);
+        if(!result.isEmpty()) {
+            BindingSet bs = result.get(0);
             try {
                 // prefixed units can also be base units (e.g. kilogram)
-                IRI kilogramIRI = connection.getValueFactory().createIRI(OMMeta.NAMESPACE, "kilogram");
-                SingularUnit sunit = (SingularUnit) this.getUnitOrScale(bs.getValue("sunit").stringValue());
-                IRI prefixIRI = (IRI) bs.getValue("prefix");
-                Prefix prefix = null;
-                if(prefixIRI.equals(OMMeta.YOCTO)) prefix = DecimalPrefix.YOCTO;
-                else if(prefixIRI.equals(OMMeta.ZEPTO)) prefix = DecimalPrefix.ZEPTO;
-                else if(prefixIRI.equals(OMMeta.ATTO)) prefix = DecimalPrefix.ATTO;
-                else if(prefixIRI.equals(OMMeta.PICO)) prefix = DecimalPrefix.PICO;
-                else if(prefixIRI.equals(OMMeta.FEMTO)) prefix = DecimalPrefix.FEMTO;
-                else if(prefixIRI.equals(OMMeta.NANO)) prefix = DecimalPrefix.NANO;
-                else if(prefixIRI.equals(OMMeta.MICRO)) prefix = DecimalPrefix.MICRO;
-                else if(prefixIRI.equals(OMMeta.MILLI)) prefix = DecimalPrefix.MILLI;
-                else if(prefixIRI.equals(OMMeta.CENTI)) prefix = DecimalPrefix.CENTI;
-                else if(prefixIRI.equals(OMMeta.DECI)) prefix = DecimalPrefix.DECI;
-                else if(prefixIRI.equals(OMMeta.DECA)) prefix = DecimalPrefix.DECA;
-                else if(prefixIRI.equals(OMMeta.HECTO)) prefix = DecimalPrefix.HECTO;
-                else if(prefixIRI.equals(OMMeta.KILO)) prefix = DecimalPrefix.KILO;
-                else if(prefixIRI.equals(OMMeta.MEGA)) prefix = DecimalPrefix.MEGA;
-                else if(prefixIRI.equals(OMMeta.GIGA)) prefix = DecimalPrefix.GIGA;
-                else if(prefixIRI.equals(OMMeta.TERA)) prefix = DecimalPrefix.TERA;
-                else if(prefixIRI.equals(OMMeta.PETA)) prefix = DecimalPrefix.PETA;
-                else if(prefixIRI.equals(OMMeta.EXA)) prefix = DecimalPrefix.EXA;
-                else if(prefixIRI.equals(OMMeta.ZETTA)) prefix = DecimalPrefix.ZETTA;
-                else if(prefixIRI.equals(OMMeta.YOTTA)) prefix = DecimalPrefix.YOTTA;
-                else if(prefixIRI.equals(OMMeta.KIBI)) prefix = BinaryPrefix.KIBI;
-                else if(prefixIRI.equals(OMMeta.MEBI)) prefix = BinaryPrefix.MEBI;
-                else if(prefixIRI.equals(OMMeta.GIBI)) prefix = BinaryPrefix.GIBI;
-                else if(prefixIRI.equals(OMMeta.TEBI)) prefix = BinaryPrefix.TEBI;
-                else if(prefixIRI.equals(OMMeta.PEBI)) prefix = BinaryPrefix.PEBI;
-                else if(prefixIRI.equals(OMMeta.EXBI)) prefix = BinaryPrefix.EXBI;
-                else if(prefixIRI.equals(OMMeta.ZEBI)) prefix = BinaryPrefix.ZEBI;
-                else if(prefixIRI.equals(OMMeta.YOBI)) prefix = BinaryPrefix.YOBI;
-                if(IRI.equals(kilogramIRI)){
+                SingularUnit sunit = (SingularUnit) this.getUnitOrScale(bs.getValue("sunit").stringValue(), session);
+                Prefix prefix = getPrefix((IRI) bs.getValue("prefix"));
+                if(IRI.equals(KILOGRAM)){
                     PrefixedUnit prefixedUnit = (PrefixedUnit)this.createPrefixedBaseUnit(IRI.stringValue(), (String) null, (String) null, SIBaseDimension.MASS, sunit, prefix);
                     return prefixedUnit;
                 }else{
@@ -300,11 +707,48 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
         throw new InsufficientDataException("Could not acquire the data of the unit multiple identified by <"+IRI+">",IRI.stringValue());
     }
 
+    /**
+     * Returns the prefix identified by the specified IRI.
+     * @param prefixIRI The IRI of the prefix in OM.
+     * @return The prefix, or null if the IRI does not identify one of the decimal or binary prefixes.
+     */
+    private static Prefix getPrefix(IRI prefixIRI) {
+        if(prefixIRI.equals(OMMeta.YOCTO)) return DecimalPrefix.YOCTO;
+        if(prefixIRI.equals(OMMeta.ZEPTO)) return DecimalPrefix.ZEPTO;
+        if(prefixIRI.equals(OMMeta.ATTO)) return DecimalPrefix.ATTO;
+        if(prefixIRI.equals(OMMeta.PICO)) return DecimalPrefix.PICO;
+        if(prefixIRI.equals(OMMeta.FEMTO)) return DecimalPrefix.FEMTO;
+        if(prefixIRI.equals(OMMeta.NANO)) return DecimalPrefix.NANO;
+        if(prefixIRI.equals(OMMeta.MICRO)) return DecimalPrefix.MICRO;
+        if(prefixIRI.equals(OMMeta.MILLI)) return DecimalPrefix.MILLI;
+        if(prefixIRI.equals(OMMeta.CENTI)) return DecimalPrefix.CENTI;
+        if(prefixIRI.equals(OMMeta.DECI)) return DecimalPrefix.DECI;
+        if(prefixIRI.equals(OMMeta.DECA)) return DecimalPrefix.DECA;
+        if(prefixIRI.equals(OMMeta.HECTO)) return DecimalPrefix.HECTO;
+        if(prefixIRI.equals(OMMeta.KILO)) return DecimalPrefix.KILO;
+        if(prefixIRI.equals(OMMeta.MEGA)) return DecimalPrefix.MEGA;
+        if(prefixIRI.equals(OMMeta.GIGA)) return DecimalPrefix.GIGA;
+        if(prefixIRI.equals(OMMeta.TERA)) return DecimalPrefix.TERA;
+        if(prefixIRI.equals(OMMeta.PETA)) return DecimalPrefix.PETA;
+        if(prefixIRI.equals(OMMeta.EXA)) return DecimalPrefix.EXA;
+        if(prefixIRI.equals(OMMeta.ZETTA)) return DecimalPrefix.ZETTA;
+        if(prefixIRI.equals(OMMeta.YOTTA)) return DecimalPrefix.YOTTA;
+        if(prefixIRI.equals(OMMeta.KIBI)) return BinaryPrefix.KIBI;
+        if(prefixIRI.equals(OMMeta.MEBI)) return BinaryPrefix.MEBI;
+        if(prefixIRI.equals(OMMeta.GIBI)) return BinaryPrefix.GIBI;
+        if(prefixIRI.equals(OMMeta.TEBI)) return BinaryPrefix.TEBI;
+        if(prefixIRI.equals(OMMeta.PEBI)) return BinaryPrefix.PEBI;
+        if(prefixIRI.equals(OMMeta.EXBI)) return BinaryPrefix.EXBI;
+        if(prefixIRI.equals(OMMeta.ZEBI)) return BinaryPrefix.ZEBI;
+        if(prefixIRI.equals(OMMeta.YOBI)) return BinaryPrefix.YOBI;
+        return null;
+    }
+
     /**
      * Creates a unit multiplication identified by the specified OM IRI. The type of unit should already be
      * determined to be a unit multiplication.
      * @param IRI The IRI (identifier) of the unit.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The unit multiplication.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
@@ -312,19 +756,14 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * @throws UnitOrScaleCreationException When not enough data could be found in the OM repository to create the unit,
      * or when one of the parent units could not be created.
      */
-    private UnitMultiplication createUnitMultiplication(IRI IRI, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   <"+IRI+"> <"+ OMMeta.HAS_TERM1+"> ?term1.\n"+
-                "   <"+IRI+"> <"+ OMMeta.HAS_TERM2+"> ?term2.\n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()) {
-            BindingSet bs = result.next();
+    private UnitMultiplication createUnitMultiplication(IRI IRI, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
+        List<BindingSet> result = session.select(UNIT_MULTIPLICATION_QUERY, IRI);
+        if(!result.isEmpty()) {
+            BindingSet bs = result.get(0);
             IRI term1IRI = (IRI) bs.getValue("term1");
             IRI term2IRI = (IRI) bs.getValue("term2");
-            Unit term1 = (Unit) this.getUnitOrScale(term1IRI.stringValue());
-            Unit term2 = (Unit) this.getUnitOrScale(term2IRI.stringValue());
+            Unit term1 = (Unit) this.getUnitOrScale(term1IRI.stringValue(), session);
+            Unit term2 = (Unit) this.getUnitOrScale(term2IRI.stringValue(), session);
             UnitMultiplication unit = this.createUnitMultiplication(IRI.stringValue(), null, null, term1, term2);
             return unit;
         }
@@ -335,7 +774,7 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * Creates a unit division identified by the specified OM IRI. The type of unit should already be
      * determined to be a unit division.
      * @param IRI The IRI (identifier) of the unit.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The unit division.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
@@ -343,19 +782,14 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * @throws UnitOrScaleCreationException When not enough data could be found in the OM repository to create the unit,
      * or when one of the parent units could not be created.
      */
-    private UnitDivision createUnitDivision(IRI IRI, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   <"+IRI+"> <"+ OMMeta.HAS_NUMERATOR+"> ?numerator.\n"+
-                "   <"+IRI+"> <"+ OMMeta.HAS_DENOMINATOR+"> ?denominator.\n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()) {
-            BindingSet bs = result.next();
+    private UnitDivision createUnitDivision(IRI IRI, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
+        List<BindingSet> result = session.select(UNIT_DIVISION_QUERY, IRI);
+        if(!result.isEmpty()) {
+            BindingSet bs = result.get(0);
             IRI numeratorIRI = (IRI) bs.getValue("numerator");
             IRI denominatorIRI = (IRI) bs.getValue("denominator");
-            Unit numerator = (Unit) this.getUnitOrScale(numeratorIRI.stringValue());
-            Unit denominator = (Unit) this.getUnitOrScale(denominatorIRI.stringValue());
+            Unit numerator = (Unit) this.getUnitOrScale(numeratorIRI.stringValue(), session);
+            Unit denominator = (Unit) this.getUnitOrScale(denominatorIRI.stringValue(), session);
             UnitDivision unit = this.createUnitDivision(IRI.stringValue(), null, null, numerator, denominator);
             return unit;
         }
@@ -366,25 +800,20 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * Creates a unit exponentiation identified by the specified OM IRI. The type of unit should already be
      * determined to be a unit exponentiation.
      * @param IRI The IRI (identifier) of the unit.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The unit exponentiation.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
      * @throws QueryEvaluationException When the query could not be evaluated.
      * @throws UnitOrScaleCreationException When not enough data could be found in the OM repository to create the unit, or when the parent unit could not be created.
      */
-    private UnitExponentiation createUnitExponentiation(IRI IRI, RepositoryConnection connection) throws UnitOrScaleCreationException, MalformedQueryException, RepositoryException, QueryEvaluationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   <"+IRI+"> <"+ OMMeta.HAS_BASE+"> ?base.\n"+
-                "   <"+IRI+"> <"+ OMMeta.HAS_EXPONENT+"> ?exponent.\n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()) {
-            BindingSet bs = result.next();
+    private UnitExponentiation createUnitExponentiation(IRI IRI, Session session) throws UnitOrScaleCreationException, MalformedQueryException, RepositoryException, QueryEvaluationException {
+        List<BindingSet> result = session.select(UNIT_EXPONENTIATION_QUERY, IRI);
+        if(!result.isEmpty()) {
+            BindingSet bs = result.get(0);
             IRI baseIRI = (IRI) bs.getValue("base");
             int exponent = ((Literal) bs.getValue("exponent")).intValue();
-            Unit unit = (Unit) this.getUnitOrScale(baseIRI.stringValue());
+            Unit unit = (Unit) this.getUnitOrScale(baseIRI.stringValue(), session);
             UnitExponentiation unitExponentiation = this.createUnitExponentiation(IRI.stringValue(), null, null, unit, exponent);
             return unitExponentiation;
         }
@@ -395,39 +824,30 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * Creates a measurement scale identified by the specified OM IRI. The type of scale should already be
      * determined to be a unit exponentiation.
      * @param IRI The IRI (identifier) of the unit.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @return The unit exponentiation.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
      * @throws QueryEvaluationException When the query could not be evaluated.
      * @throws UnitOrScaleCreationException When not enough data could be found in the OM repository to create the unit, or when the parent scale could not be created.
      */
-    private Scale createScale(IRI IRI, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   OPTIONAL{ \n" +
-                "       <"+IRI+"> <"+ OMMeta.HAS_DEFINITION_RELATIVE_TO+"> ?parent.\n"+
-                "       <"+IRI+"> <"+ OMMeta.HAS_DEFINITION_FACTOR+"> ?factor.\n"+
-                "       <"+IRI+"> <"+ OMMeta.HAS_DEFINITION_OFFSET+"> ?offset.\n" +
-                "   }\n"+
-                "   OPTIONAL{ <"+IRI+"> <"+ OMMeta.HAS_UNIT_OF_MEASURE+"> ?unit.}\n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()) {
-            BindingSet bs = result.next();
+    private Scale createScale(IRI IRI, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
+        List<BindingSet> result = session.select(SCALE_QUERY, IRI);
+        if(!result.isEmpty()) {
+            BindingSet bs = result.get(0);
             IRI unitIRI = (IRI) bs.getValue("unit");
-            Unit unit = (Unit) this.getUnitOrScale(unitIRI.stringValue());
+            Unit unit = (Unit) this.getUnitOrScale(unitIRI.stringValue(), session);
             if (bs.hasBinding("parent")) {
                 IRI parentIRI = (IRI) bs.getValue("parent");
                 double factor = new Double(((Literal) bs.getValue("factor")).stringValue());
                 double offset = new Double(((Literal) bs.getValue("offset")).stringValue());
-                Scale parentscale = (Scale) this.getUnitOrScale(parentIRI.stringValue());
+                Scale parentscale = (Scale) this.getUnitOrScale(parentIRI.stringValue(), session);
                 Scale scale = this.createScale(IRI.stringValue(), null, null, parentscale, offset, factor, unit);
-                this.addFixedPointsToScale(scale, connection);
+                this.addFixedPointsToScale(IRI, scale, session);
                 return scale;
             } else { // top scales such as Kelvin with not parent scale
                 Scale scale = this.createScale(IRI.stringValue(), null, null,unit);
-                this.addFixedPointsToScale(scale, connection);
+                this.addFixedPointsToScale(IRI, scale, session);
                 return scale;
             }
         }
@@ -436,92 +856,88 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
 
     /**
      * Retrieves the fixed points that define the measurement scale.
+     * @param IRI The IRI of the scale.
      * @param scale The scale.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
      * @throws QueryEvaluationException When the query could not be evaluated.
      */
-    private void addFixedPointsToScale(Scale scale, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   <"+scale.getIdentifier()+"> <"+ OMMeta.HAS_ELEMENT+ "> ?element.\n" +
-                "   ?element a <"+ OMMeta.FIXED_POINT+">.\n" +
-                "   ?element <"+ OMMeta.HAS_NUMERICAL_VALUE+"> ?value." +
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        while(result.hasNext()) {
-            BindingSet bs = result.next();
-            IRI elementIRI = (IRI) bs.getValue("element");
-            try {
-                String nvalue = ((Literal) bs.getValue("value")).stringValue();
-                if (nvalue.contains(" to ")) {
-                    int pos = nvalue.indexOf(" to ");
-                    double minv = new Double(nvalue.substring(0, pos));
-                    double maxv = new Double(nvalue.substring(pos + 4));
-                    Point point = new PointImpl(Range.between(minv,maxv), scale);
-                    scale.addDefinitionPoint(point);
-                } else {
-                    double value = new Double(nvalue);
-                    Point point = new PointImpl(value, scale);
-                    scale.addDefinitionPoint(point);
-                }
-            }catch (NumberFormatException e){
-                // todo logging of warnings
-            }
+    private void addFixedPointsToScale(IRI IRI, Scale scale, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException {
+        List<BindingSet> result = session.select(FIXED_POINTS_QUERY, IRI);
+        for(BindingSet bs : result) {
+            addDefinitionPoint(scale, ((Literal) bs.getValue("value")).stringValue());
         }
     }
 
     /**
-     * Retrieves the dimension of the unit if it has only one dimension. Only used for base units.
-     * @param IRI The IRI of the unit.
-     * @param connection The connection to the repository.
-     * @return The dimension of the unit.
-     * @throws MalformedQueryException When the query was malformed.
-     * @throws RepositoryException When the repository could not be accessed.
-     * @throws QueryEvaluationException When the query could not be evaluated.
+     * Adds a fixed point that defines the measurement scale.
+     * @param scale The scale.
+     * @param nvalue The numerical value of the point, either a number or a range ("<i>min</i> to <i>max</i>").
      */
-    private BaseDimension getBaseDimension(IRI IRI,RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException {
-        String sparql = "" +
-                "SELECT * WHERE{\n" +
-                "   <"+IRI+"> <"+ OMMeta.HAS_DIMENSION+ "> ?dimension.\n" +
-                "   ?dimension <"+ OMMeta.HAS_SI_LENGTH_DIMENSION_EXPONENT + "> ?length. \n"+
-                "   ?dimension <"+ OMMeta.HAS_SI_MASS_DIMENSION_EXPONENT + "> ?mass. \n"+
-                "   ?dimension <"+ OMMeta.HAS_SI_TIME_DIMENSION_EXPONENT + "> ?time. \n"+
-                "   ?dimension <"+ OMMeta.HAS_SI_ELECTRIC_CURRENT_DIMENSION_EXPONENT + "> ?current. \n"+
-                "   ?dimension <"+ OMMeta.HAS_SI_THERMODYNAMIC_TEMPERATURE_DIMENSION_EXPONENT + "> ?temperature. \n"+
-                "   ?dimension <"+ OMMeta.HAS_SI_AMOUNT_OF_SUBSTANCE_DIMENSION_EXPONENT + "> ?amount. \n"+
-                "   ?dimension <"+ OMMeta.HAS_SI_LUMINOUS_INTENSITY_DIMENSION_EXPONENT + "> ?intensity. \n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        if(result.hasNext()) {
-            BindingSet bs = result.next();
-            BaseDimension dimension = null;
-            if(bs.hasBinding("dimension")) {
-                int length = ((Literal) bs.getValue("length")).intValue();
-                int mass = ((Literal) bs.getValue("mass")).intValue();
-                int time = ((Literal) bs.getValue("time")).intValue();
-                int current = ((Literal) bs.getValue("current")).intValue();
-                int temperature = ((Literal) bs.getValue("temperature")).intValue();
-                int amount = ((Literal) bs.getValue("amount")).intValue();
-                int intensity = ((Literal) bs.getValue("intensity")).intValue();
-                if(length==1 && mass==0 && time==0 && current==0 && temperature==0 && amount==0 && intensity==0){
-                    dimension = SIBaseDimension.LENGTH;
-                }else if(length==0 && mass==1 && time==0 && current==0 && temperature==0 && amount==0 && intensity==0){
-                    dimension = SIBaseDimension.MASS;
-                }else if(length==0 && mass==0 && time==1 && current==0 && temperature==0 && amount==0 && intensity==0){
-                    dimension = SIBaseDimension.TIME;
-                }else if(length==0 && mass==0 && time==0 && current==1 && temperature==0 && amount==0 && intensity==0){
-                    dimension = SIBaseDimension.ELECTRIC_CURRENT;
-                }else if(length==0 && mass==0 && time==0 && current==0 && temperature==1 && amount==0 && intensity==0){
-                    dimension = SIBaseDimension.THERMODYNAMIC_TEMPERATURE;
-                }else if(length==0 && mass==0 && time==0 && current==0 && temperature==0 && amount==1 && intensity==0){
-                    dimension = SIBaseDimension.AMOUNT_OF_SUBSTANCE;
-                }else if(length==0 && mass==0 && time==0 && current==0 && temperature==0 && amount==0 && intensity==1){
-                    dimension = SIBaseDimension.LUMINOUS_INTENSITY;
-                }
+    private static void addDefinitionPoint(Scale scale, String nvalue) {
+        try {
+            if (nvalue.contains(" to ")) {
+                int pos = nvalue.indexOf(" to ");
+                double minv = new Double(nvalue.substring(0, pos));
+                double maxv = new Double(nvalue.substring(pos + 4));
+                Point point = new PointImpl(Range.between(minv, maxv), scale);
+                scale.addDefinitionPoint(point);
+            } else {
+                double value = new Double(nvalue);
+                Point point = new PointImpl(value, scale);
+                scale.addDefinitionPoint(point);
             }
-            return dimension;
+        }catch (NumberFormatException e){
+            // todo logging of warnings
+        }
+    }
+
+    /**
+     * Retrieves the dimension of a base unit from the result of the singular unit query, if the unit has only one
+     * dimension.
+     * @param bs The result of the singular unit query.
+     * @return The dimension of the unit, or null if the unit has no dimension or more than one dimension.
+     */
+    private static BaseDimension getBaseDimension(BindingSet bs) {
+        if(!bs.hasBinding("dimension")) return null;
+        int length = ((Literal) bs.getValue("length")).intValue();
+        int mass = ((Literal) bs.getValue("mass")).intValue();
+        int time = ((Literal) bs.getValue("time")).intValue();
+        int current = ((Literal) bs.getValue("current")).intValue();
+        int temperature = ((Literal) bs.getValue("temperature")).intValue();
+        int amount = ((Literal) bs.getValue("amount")).intValue();
+        int intensity = ((Literal) bs.getValue("intensity")).intValue();
+        return getBaseDimension(length, mass, time, current, temperature, amount, intensity);
+    }
+
+    /**
+     * Returns the base dimension with the specified exponents of the SI base dimensions, if only one of the
+     * exponents is 1 and all other exponents are 0.
+     * @param length The exponent of the length dimension.
+     * @param mass The exponent of the mass dimension.
+     * @param time The exponent of the time dimension.
+     * @param current The exponent of the electric current dimension.
+     * @param temperature The exponent of the thermodynamic temperature dimension.
+     * @param amount The exponent of the amount of substance dimension.
+     * @param intensity The exponent of the luminous intensity dimension.
+     * @return The base dimension, or null if the exponents do not define a base dimension.
+     */
+    private static BaseDimension getBaseDimension(int length, int mass, int time, int current, int temperature, int amount, int intensity) {
+        if(length==1 && mass==0 && time==0 && current==0 && temperature==0 && amount==0 && intensity==0){
+            return SIBaseDimension.LENGTH;
+        }else if(length==0 && mass==1 && time==0 && current==0 && temperature==0 && amount==0 && intensity==0){
+            return SIBaseDimension.MASS;
+        }else if(length==0 && mass==0 && time==1 && current==0 && temperature==0 && amount==0 && intensity==0){
+            return SIBaseDimension.TIME;
+        }else if(length==0 && mass==0 && time==0 && current==1 && temperature==0 && amount==0 && intensity==0){
+            return SIBaseDimension.ELECTRIC_CURRENT;
+        }else if(length==0 && mass==0 && time==0 && current==0 && temperature==1 && amount==0 && intensity==0){
+            return SIBaseDimension.THERMODYNAMIC_TEMPERATURE;
+        }else if(length==0 && mass==0 && time==0 && current==0 && temperature==0 && amount==1 && intensity==0){
+            return SIBaseDimension.AMOUNT_OF_SUBSTANCE;
+        }else if(length==0 && mass==0 && time==0 && current==0 && temperature==0 && amount==0 && intensity==1){
+            return SIBaseDimension.LUMINOUS_INTENSITY;
         }
         return null;
     }
@@ -530,95 +946,425 @@ public class OMUnitAndScaleFactory extends DefaultUnitAndScaleFactory{
      * Adds names and symbols to the Unit or Scale.
      * @param IRI The IRI of the unit or scale.
      * @param nobject The unit or scale object to which the names and symbols are added.
-     * @param connection The connection to the repository.
+     * @param session The session with the repository.
      * @throws MalformedQueryException When the query was malformed.
      * @throws RepositoryException When the repository could not be accessed.
      * @throws QueryEvaluationException When the query could not be evaluated.
      * @throws InsufficientDataException When not enough data could be found in the OM repository to create the unit.
      */
-    private void addNamesAndSymbols(IRI IRI, NamedObject nobject, RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException {
-        String sparql = "" +
-                "SELECT ?label ?prop WHERE {\n" +
-                "  {\n" +
-                "    <"+IRI.stringValue()+"> <"+ RDFS.LABEL+"> ?label.\n" +
-                "    BIND (<"+ RDFS.LABEL+"> AS ?prop)\n" +
-                "  } UNION {\n" +
-                "    <"+IRI.stringValue()+"> <"+ OMMeta.HAS_ALTERNATIVE_LABEL+"> ?label.\n" +
-                "    BIND (<"+ OMMeta.HAS_ALTERNATIVE_LABEL+"> AS ?prop)\n" +
-                "  } UNION {\n" +
-                "    <"+IRI.stringValue()+"> <"+ OMMeta.HAS_SYMBOL+"> ?label.\n" +
-                "    BIND (<"+ OMMeta.HAS_SYMBOL+"> AS ?prop)\n" +
-                "  } UNION {\n" +
-                "    <"+IRI.stringValue()+"> <"+ OMMeta.HAS_ALTERNATIVE_SYMBOL+"> ?label.\n" +
-                "    BIND (<"+ OMMeta.HAS_ALTERNATIVE_SYMBOL+"> AS ?prop)\n" +
-                "  } UNION {\n" +
-                "    <"+IRI.stringValue()+"> <"+ OMMeta.HAS_UNOFFICIAL_ABBREVIATION+"> ?label.\n" +
-                "    BIND (<"+ OMMeta.HAS_UNOFFICIAL_ABBREVIATION+"> AS ?prop)\n" +
-                "  } UNION {\n" +
-                "    <"+IRI.stringValue()+"> <"+ OMMeta.HAS_ABBREVIATION+"> ?label.\n" +
-                "    BIND (<"+ OMMeta.HAS_ABBREVIATION+"> AS ?prop)\n" +
-                "  }\n" +
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        List<Pair<String,String>> names = new ArrayList<>();
-        List<Pair<String,String>> altnames = new ArrayList<>();
-        List<String> symbols = new ArrayList<>();
-        while (result.hasNext()) {
-            BindingSet bs = result.next();
-            IRI prop = (IRI) bs.getValue("prop");
-            Literal label = (Literal) bs.getValue("label");
+    private void addNamesAndSymbols(IRI IRI, NamedObject nobject, Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException {
+        List<BindingSet> result = session.select(LABELS_QUERY, IRI);
+        Labels labels = new Labels();
+        for(BindingSet bs : result) {
+            labels.add((IRI) bs.getValue("prop"), (Literal) bs.getValue("label"));
+        }
+        labels.addTo(nobject);
+    }
+
+    /**
+     * Returns the OM type as a IRI of the specified resource. The different types can be accessed in {@link OMMeta}.
+     * @param resourceIRI The IRI of the unit or scale whose type needs to be determined.
+     * @param session The session with the repository.
+     * @return The type of unit that should be created.
+     * @throws MalformedQueryException When the query was malformed.
+     * @throws RepositoryException When the repository could not be accessed.
+     * @throws QueryEvaluationException When the query could not be evaluated.
+     * @throws UnitOrScaleCreationException When type of the resource could not be found.
+     */
+    private List<IRI> getTypeOfResource(IRI resourceIRI,Session session) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
+        List<BindingSet> result = session.select(TYPE_QUERY, resourceIRI);
+        List<IRI> types = new ArrayList<>();
+        for(BindingSet bs : result) {
+            if(bs.getValue("type") instanceof IRI) types.add((IRI)bs.getValue("type"));
+        }
+        if(types.size()>0) return types;
+        throw new InsufficientDataException("Could not acquire the type of the resource identified by <"+resourceIRI+">",resourceIRI.stringValue());
+    }
+
+    /**
+     * Returns the type of unit or scale that should be created for a resource with the specified types.
+     * @param types The types of the resource.
+     * @return The type of unit or scale (one of the unit and scale types in {@link OMMeta}), or null if the
+     * resource is not a unit or scale.
+     */
+    private static IRI getUnitOrScaleType(Collection<IRI> types) {
+        for(IRI type : UNIT_AND_SCALE_TYPES){
+            if(types.contains(type)) return type;
+        }
+        return null;
+    }
+
+    /**
+     * A connection to the repository, opened when first needed, together with the queries that were prepared on
+     * it. A session is used by one thread to create a unit or scale and the units and scales by which it is
+     * defined, so that each query is only prepared once for all these units and scales.
+     */
+    private final class Session implements AutoCloseable {
+
+        /** The connection, null until the first query. */
+        private RepositoryConnection connection = null;
+
+        /** The prepared queries by query. */
+        private final Map<String,TupleQuery> queries = new HashMap<>();
+
+        /**
+         * Evaluates the query for the specified resource. The results are read before they are returned, so that
+         * the session can be used for other queries while the results are processed.
+         * @param query The query, in which the resource is the variable <code>?resource</code>.
+         * @param resource The resource.
+         * @return The results.
+         * @throws MalformedQueryException When the query was malformed.
+         * @throws RepositoryException When the repository could not be accessed.
+         * @throws QueryEvaluationException When the query could not be evaluated.
+         */
+        List<BindingSet> select(String query, IRI resource) throws MalformedQueryException, RepositoryException, QueryEvaluationException {
+            if(connection==null) connection = repository.getConnection();
+            TupleQuery tupleQuery = queries.get(query);
+            if(tupleQuery==null){
+                tupleQuery = connection.prepareTupleQuery(QueryLanguage.SPARQL, query);
+                queries.put(query, tupleQuery);
+            }
+            tupleQuery.setBinding("resource", resource);
+            TupleQueryResult result = tupleQuery.evaluate();
+            try {
+                List<BindingSet> results = new ArrayList<>();
+                while(result.hasNext()){
+                    results.add(result.next());
+                }
+                return results;
+            } finally {
+                result.close();
+            }
+        }
+
+        /**
+         * Closes the connection, if it was opened.
+         */
+        @Override
+        public void close() {
+            if(connection!=null){
+                try {
+                    connection.close();
+                } catch (RepositoryException e) {
+                }
+                connection = null;
+            }
+        }
+    }
+
+    /**
+     * The names and symbols of a unit or scale, collected from the labels, abbreviations and symbols in OM and
+     * added to the unit or scale in order of preference.
+     */
+    private static final class Labels {
+
+        /** The names (rdfs:label) by language, English names first. */
+        private final List<Map.Entry<String,String>> names = new ArrayList<>();
+
+        /** The alternative names and abbreviations by language. */
+        private final List<Map.Entry<String,String>> altnames = new ArrayList<>();
+
+        /** The symbols, the preferred symbol first. */
+        private final List<String> symbols = new ArrayList<>();
+
+        /**
+         * Adds the label when the property is one of the properties for names, abbreviations or symbols.
+         * @param prop The property.
+         * @param label The label.
+         */
+        void add(IRI prop, Literal label) {
+            String language = label.getLanguage().orElse(null);
+            Map.Entry<String,String> name = new AbstractMap.SimpleImmutableEntry<>(language,label.stringValue());
             if(prop.equals(RDFS.LABEL)){
-                if(label.getLanguage()==null || label.getLanguage().equals("en")){
-                    names.add(0,new Pair<>(label.getLanguage().toString(),label.stringValue()));
+                if(language==null || language.equals("en")){
+                    names.add(0,name);
                 }else{
-                    names.add(new Pair<>(label.getLanguage().toString(),label.stringValue()));
+                    names.add(name);
                 }
             }else if(prop.equals(OMMeta.HAS_ALTERNATIVE_LABEL)){
-                altnames.add(0,new Pair<>(label.getLanguage().toString(),label.stringValue()));
+                altnames.add(0,name);
             }else if(prop.equals(OMMeta.HAS_ABBREVIATION)){
-                altnames.add(new Pair<>(label.getLanguage().toString(),label.stringValue()));
+                altnames.add(name);
             }else if(prop.equals(OMMeta.HAS_UNOFFICIAL_ABBREVIATION)){
-                altnames.add(new Pair<>(label.getLanguage().toString(),label.stringValue()));
+                altnames.add(name);
             }else if(prop.equals(OMMeta.HAS_SYMBOL)){
                 symbols.add(0,label.stringValue());
             }else if(prop.equals(OMMeta.HAS_ALTERNATIVE_SYMBOL)){
                 symbols.add(label.stringValue());
             }
         }
-        for(Pair<String,String> name : names){
-            nobject.addAlternativeName(name.getValue(),name.getKey());
-        }
-        for(Pair<String,String> name : altnames){
-            nobject.addAlternativeName(name.getValue(),name.getKey());
-        }
-        for(String symbol : symbols){
-            nobject.addAlternativeSymbol(symbol);
+
+        /**
+         * Adds the names and symbols to the unit or scale.
+         * @param nobject The unit or scale.
+         */
+        void addTo(NamedObject nobject) {
+            for(Map.Entry<String,String> name : names){
+                nobject.addAlternativeName(name.getValue(),name.getKey());
+            }
+            for(Map.Entry<String,String> name : altnames){
+                nobject.addAlternativeName(name.getValue(),name.getKey());
+            }
+            for(String symbol : symbols){
+                nobject.addAlternativeSymbol(symbol);
+            }
         }
     }
 
     /**
-     * Returns the OM type as a IRI of the specified resource. The different types can be accessed in {@link OMMeta}.
-     * @param resourceIRI The IRI of the unit or scale whose type needs to be determined.
-     * @param connection The connection to the repository.
-     * @return The type of unit that should be created.
-     * @throws MalformedQueryException When the query was malformed.
-     * @throws RepositoryException When the repository could not be accessed.
-     * @throws QueryEvaluationException When the query could not be evaluated.
-     * @throws UnitOrScaleCreationException When type of the resource could not be found.
+     * The creation of all units and scales in a {@link OMGraph}. The definition of a unit or scale is taken from
+     * the graph, and the units and scales by which it is defined are created first (in topological order). Units
+     * and scales that are not defined in the graph are requested with {@link #getUnitOrScale(String)}.
      */
-    private List<IRI> getTypeOfResource(IRI resourceIRI,RepositoryConnection connection) throws MalformedQueryException, RepositoryException, QueryEvaluationException, UnitOrScaleCreationException {
-        String sparql = "" +
-                "SELECT ?type WHERE {\n" +
-                "   <"+resourceIRI+"> <"+ RDF.TYPE+"> ?dtype. \n"+
-                "   ?dtype <"+ RDFS.SUBCLASSOF+">* ?type. \n"+
-                "}";
-        TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL,sparql).evaluate();
-        List<IRI> types = new ArrayList<>();
-        while(result.hasNext()){
-            BindingSet bs = result.next();
-            if(bs.getValue("type") instanceof IRI) types.add((IRI)bs.getValue("type"));
+    private final class GraphImport {
+
+        /** The statements needed to create the units and scales. */
+        private final OMGraph graph;
+
+        /** The units and scales that are being created, used to detect circular definitions. */
+        private final Set<IRI> path = new HashSet<>();
+
+        /** The exceptions for the units and scales that could not be created, by identifier. */
+        private final Map<String,UnitOrScaleCreationException> problems = new LinkedHashMap<>();
+
+        /**
+         * Creates a new import of the units and scales in the graph.
+         * @param graph The graph.
+         */
+        GraphImport(OMGraph graph){
+            this.graph = graph;
+        }
+
+        /**
+         * Creates all units and scales in the graph.
+         * @return The exceptions for the units and scales that could not be created, by identifier.
+         */
+        Map<String,UnitOrScaleCreationException> importAll() {
+            for(Resource resource : graph.getResources()){
+                if(resource instanceof IRI && getUnitOrScaleType(graph.getTypes(resource))!=null){
+                    try {
+                        this.get((IRI) resource);
+                    } catch (UnitOrScaleCreationException e) {
+                        problems.putIfAbsent(resource.stringValue(), e);
+                    }
+                }
+            }
+            return problems;
+        }
+
+        /**
+         * Returns the unit or scale identified by the IRI, which is created from its definition in the graph
+         * when it has not been created before.
+         * @param IRI The IRI of the unit or scale.
+         * @return The unit or scale.
+         * @throws UnitOrScaleCreationException When the unit or scale could not be created.
+         */
+        private Object get(IRI IRI) throws UnitOrScaleCreationException {
+            UnitOrScaleCreationException problem = problems.get(IRI.stringValue());
+            if(problem!=null) throw problem;
+            if(getUnitOrScaleType(graph.getTypes(IRI))==null) return getUnitOrScale(IRI.stringValue());
+            if(!path.add(IRI)){
+                throw new UnitOrScaleCreationException("The definition of the unit or scale <"+IRI+"> is circular.",
+                        IRI.stringValue());
+            }
+            try {
+                return getOrCreateUnitOrScale(IRI.stringValue(), iri -> this.create(IRI));
+            } catch (UnitOrScaleCreationException e) {
+                problems.putIfAbsent(IRI.stringValue(), e);
+                throw e;
+            } finally {
+                path.remove(IRI);
+            }
+        }
+
+        /**
+         * Creates the unit or scale identified by the IRI from its definition in the graph.
+         * @param IRI The IRI of the unit or scale.
+         * @return The unit or scale.
+         * @throws UnitOrScaleCreationException When the unit or scale could not be created.
+         */
+        private NamedObject create(IRI IRI) throws UnitOrScaleCreationException {
+            OMGraph.Description description = graph.getDescription(IRI);
+            IRI type = getUnitOrScaleType(graph.getTypes(IRI));
+            try {
+                NamedObject nobject;
+                if(type.equals(OMMeta.SINGULAR_UNIT)){
+                    nobject = this.importSingularUnit(IRI, description);
+                }else if(type.equals(OMMeta.UNIT_MULTIPLE_OR_SUBMULTIPLE)){
+                    nobject = this.importPrefixedUnit(IRI, description);
+                }else if(type.equals(OMMeta.UNIT_MULTIPLICATION)){
+                    Value term1 = this.getRequiredValue(IRI, description, OMMeta.HAS_TERM1);
+                    Value term2 = this.getRequiredValue(IRI, description, OMMeta.HAS_TERM2);
+                    nobject = createUnitMultiplication(IRI.stringValue(), null, null,
+                            (Unit) this.getDefinition(IRI, term1), (Unit) this.getDefinition(IRI, term2));
+                }else if(type.equals(OMMeta.UNIT_DIVISION)){
+                    Value numerator = this.getRequiredValue(IRI, description, OMMeta.HAS_NUMERATOR);
+                    Value denominator = this.getRequiredValue(IRI, description, OMMeta.HAS_DENOMINATOR);
+                    nobject = createUnitDivision(IRI.stringValue(), null, null,
+                            (Unit) this.getDefinition(IRI, numerator), (Unit) this.getDefinition(IRI, denominator));
+                }else if(type.equals(OMMeta.UNIT_EXPONENTIATION)){
+                    Value base = this.getRequiredValue(IRI, description, OMMeta.HAS_BASE);
+                    Value exponent = this.getRequiredValue(IRI, description, OMMeta.HAS_EXPONENT);
+                    nobject = createUnitExponentiation(IRI.stringValue(), null, null,
+                            (Unit) this.getDefinition(IRI, base), ((Literal) exponent).intValue());
+                }else if(type.equals(OMMeta.NOMINAL_SCALE) || type.equals(OMMeta.ORDINAL_SCALE)){
+                    throw new UnitOrScaleCreationException("Could not create scale <"+IRI+"> because nominal and" +
+                            " ordinal scales are not yet supported.",IRI.stringValue());
+                }else{
+                    nobject = this.importScale(IRI, description);
+                }
+                Labels labels = new Labels();
+                for(int i=0;i<description.size();i++){
+                    if(description.getValue(i) instanceof Literal){
+                        labels.add(description.getProperty(i), (Literal) description.getValue(i));
+                    }
+                }
+                labels.addTo(nobject);
+                if(nobject instanceof Unit) getUnitNameIndex().add((Unit) nobject);
+                return nobject;
+            } catch (ClassCastException | NumberFormatException e) {
+                throw new UnitOrScaleCreationException("Could not create unit or scale <"+IRI+">.",IRI.stringValue(),e);
+            }
+        }
+
+        /**
+         * Creates a singular (or base) unit from its definition in the graph.
+         * @param IRI The IRI of the unit.
+         * @param description The description of the unit.
+         * @return The singular unit.
+         * @throws UnitOrScaleCreationException When the definition unit could not be created.
+         */
+        private SingularUnit importSingularUnit(IRI IRI, OMGraph.Description description) throws UnitOrScaleCreationException {
+            Value definitionUnit = null;
+            Value factor = null;
+            for(Value definition : description.getValues(OMMeta.HAS_DEFINITION)){
+                OMGraph.Description measure = graph.getDescription(definition);
+                if(measure!=null && measure.getValue(OMMeta.HAS_UNIT_OF_MEASURE_OR_MEASUREMENT_SCALE)!=null
+                        && measure.getValue(OMMeta.HAS_NUMERICAL_VALUE)!=null){
+                    definitionUnit = measure.getValue(OMMeta.HAS_UNIT_OF_MEASURE_OR_MEASUREMENT_SCALE);
+                    factor = measure.getValue(OMMeta.HAS_NUMERICAL_VALUE);
+                    break;
+                }else if(definitionUnit==null && graph.getTypes(definition).contains(OMMeta.UNIT_OF_MEASURE)){
+                    definitionUnit = definition;
+                }
+            }
+            if(IRI.equals(GRAM)){
+                return createSingularUnit(IRI.stringValue(),(String)null,(String)null);
+            }else if(definitionUnit!=null){
+                Unit defUnit;
+                try {
+                    defUnit = (Unit) this.get((IRI) definitionUnit);
+                } catch (UnitOrScaleCreationException e) {
+                    throw new UnitOrScaleCreationException("The definition unit with IRI <"+definitionUnit.stringValue()+"> of the singular unit <"+IRI+"> could not be created.",IRI.stringValue(),e);
+                }
+                return createSingularUnit(IRI.stringValue(), (String) null, (String) null, defUnit,
+                        factor==null ? 1 : new Double(factor.stringValue()));
+            }
+            return (SingularUnit) createBaseUnit(IRI.stringValue(), (String) null, (String) null, this.getBaseDimension(description));
+        }
+
+        /**
+         * Creates a unit multiple or prefixed unit from its definition in the graph.
+         * @param IRI The IRI of the unit.
+         * @param description The description of the unit.
+         * @return The prefixed unit.
+         * @throws UnitOrScaleCreationException When not enough data is available, or when the parent unit could not
+         * be created.
+         */
+        private PrefixedUnit importPrefixedUnit(IRI IRI, OMGraph.Description description) throws UnitOrScaleCreationException {
+            Value unit = this.getRequiredValue(IRI, description, OMMeta.HAS_SINGULAR_UNIT);
+            Prefix prefix = getPrefix((IRI) this.getRequiredValue(IRI, description, OMMeta.HAS_PREFIX));
+            SingularUnit sunit = (SingularUnit) this.getDefinition(IRI, unit);
+            if(IRI.equals(KILOGRAM)){
+                return (PrefixedUnit) createPrefixedBaseUnit(IRI.stringValue(), (String) null, (String) null, SIBaseDimension.MASS, sunit, prefix);
+            }
+            return createPrefixedUnit(IRI.stringValue(), (String) null, (String) null, sunit, prefix);
+        }
+
+        /**
+         * Creates a measurement scale, and its fixed points, from its definition in the graph.
+         * @param IRI The IRI of the scale.
+         * @param description The description of the scale.
+         * @return The scale.
+         * @throws UnitOrScaleCreationException When not enough data is available, or when the unit or the parent
+         * scale could not be created.
+         */
+        private Scale importScale(IRI IRI, OMGraph.Description description) throws UnitOrScaleCreationException {
+            Unit unit = (Unit) this.getDefinition(IRI, this.getRequiredValue(IRI, description, OMMeta.HAS_UNIT_OF_MEASURE));
+            Value parent = description.getValue(OMMeta.HAS_DEFINITION_RELATIVE_TO);
+            Value factor = description.getValue(OMMeta.HAS_DEFINITION_FACTOR);
+            Value offset = description.getValue(OMMeta.HAS_DEFINITION_OFFSET);
+            Scale scale;
+            if(parent!=null && factor!=null && offset!=null){
+                Scale parentscale = (Scale) this.getDefinition(IRI, parent);
+                scale = createScale(IRI.stringValue(), null, null, parentscale, new Double(offset.stringValue()),
+                        new Double(factor.stringValue()), unit);
+            }else{ // top scales such as Kelvin with not parent scale
+                scale = createScale(IRI.stringValue(), null, null, unit);
+            }
+            for(Value element : description.getValues(OMMeta.HAS_ELEMENT)){
+                OMGraph.Description point = graph.getDescription(element);
+                if(point==null || !point.getValues(RDF.TYPE).contains(OMMeta.FIXED_POINT)) continue;
+                for(Value value : point.getValues(OMMeta.HAS_NUMERICAL_VALUE)){
+                    addDefinitionPoint(scale, value.stringValue());
+                }
+            }
+            return scale;
+        }
+
+        /**
+         * Returns the unit or scale by which the unit or scale with the specified IRI is defined.
+         * @param IRI The IRI of the unit or scale that is defined.
+         * @param definition The IRI of the defining unit or scale.
+         * @return The defining unit or scale.
+         * @throws UnitOrScaleCreationException When the defining unit or scale could not be created.
+         */
+        private Object getDefinition(IRI IRI, Value definition) throws UnitOrScaleCreationException {
+            try {
+                return this.get((IRI) definition);
+            } catch (UnitOrScaleCreationException e) {
+                throw new UnitOrScaleCreationException("The unit or scale with IRI <"+definition.stringValue()+"> that defines <"+IRI+"> could not be created.",IRI.stringValue(),e);
+            }
+        }
+
+        /**
+         * Returns the value of the property, which is required to create the unit or scale.
+         * @param IRI The IRI of the unit or scale.
+         * @param description The description of the unit or scale.
+         * @param property The property.
+         * @return The value.
+         * @throws InsufficientDataException When the unit or scale has no value for the property.
+         */
+        private Value getRequiredValue(IRI IRI, OMGraph.Description description, IRI property) throws InsufficientDataException {
+            Value value = description.getValue(property);
+            if(value==null){
+                throw new InsufficientDataException("Could not acquire the data ("+property.getLocalName()+") of the unit or scale identified by <"+IRI+">",IRI.stringValue());
+            }
+            return value;
+        }
+
+        /**
+         * Returns the dimension of a base unit from its description in the graph.
+         * @param description The description of the unit.
+         * @return The base dimension, or null if the unit does not have one of the base dimensions.
+         */
+        private BaseDimension getBaseDimension(OMGraph.Description description) {
+            OMGraph.Description dimension = graph.getDescription(description.getValue(OMMeta.HAS_DIMENSION));
+            if(dimension==null) return null;
+            IRI[] properties = {
+                    OMMeta.HAS_SI_LENGTH_DIMENSION_EXPONENT, OMMeta.HAS_SI_MASS_DIMENSION_EXPONENT,
+                    OMMeta.HAS_SI_TIME_DIMENSION_EXPONENT, OMMeta.HAS_SI_ELECTRIC_CURRENT_DIMENSION_EXPONENT,
+                    OMMeta.HAS_SI_THERMODYNAMIC_TEMPERATURE_DIMENSION_EXPONENT,
+                    OMMeta.HAS_SI_AMOUNT_OF_SUBSTANCE_DIMENSION_EXPONENT,
+                    OMMeta.HAS_SI_LUMINOUS_INTENSITY_DIMENSION_EXPONENT};
+            int[] exponents = new int[properties.length];
+            for(int i=0;i<properties.length;i++){
+                Value exponent = dimension.getValue(properties[i]);
+                if(!(exponent instanceof Literal)) return null;
+                exponents[i] = ((Literal) exponent).intValue();
+            }
+            return OMUnitAndScaleFactory.getBaseDimension(exponents[0], exponents[1], exponents[2], exponents[3],
+                    exponents[4], exponents[5], exponents[6]);
         }
-        if(types.size()>0) return types;
-        throw new InsufficientDataException("Could not acquire the type of the resource identified by <"+resourceIRI+">",resourceIRI.stringValue());
     }
 }
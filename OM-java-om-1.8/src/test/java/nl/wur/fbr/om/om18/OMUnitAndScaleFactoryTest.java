@@ -0,0 +1,137 @@
+package nl.wur.fbr.om.om18;
+
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.model.NamedObject;
+import nl.wur.fbr.om.model.scales.Scale;
+import nl.wur.fbr.om.model.units.Unit;
+import nl.wur.fbr.om.om18.vocabulary.OMMeta;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Unit tests for the creation of units and scales from the OM 1.8 ontology.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class OMUnitAndScaleFactoryTest {
+
+    /** The OM 1.8 ontology file. */
+    private static final File OM_FILE = new File("../resources/om-1.8.owl");
+
+    /** The repository with the OM 1.8 ontology. */
+    private static Repository repository;
+
+    /**
+     * Loads the OM 1.8 ontology in an in-memory repository.
+     * @throws Exception When the ontology could not be loaded.
+     */
+    @BeforeClass
+    public static void loadOntology() throws Exception {
+        repository = new SailRepository(new MemoryStore());
+        repository.initialize();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            connection.add(OM_FILE, OMMeta.NAMESPACE, RDFFormat.RDFXML);
+        }
+    }
+
+    /**
+     * Shuts the repository down.
+     */
+    @AfterClass
+    public static void shutDown() {
+        repository.shutDown();
+    }
+
+    /**
+     * Tests that the units resolved from the repository can be found by their symbols and names.
+     * @throws Exception When the units could not be created.
+     */
+    @Test
+    public void testUnitNameIndex() throws Exception {
+        OMUnitAndScaleFactory factory = new OMUnitAndScaleFactory(repository);
+        Unit kilometre = (Unit) factory.getUnitOrScale("kilometre");
+        Unit metre = (Unit) factory.getUnitOrScale("metre");
+        Assert.assertSame("Testing the name index", kilometre, factory.getUnitNameIndex().findUnit("km"));
+        Assert.assertSame("Testing the name index", metre, factory.getUnitNameIndex().findUnit("metre"));
+        Assert.assertTrue("Testing the name index",
+                factory.getUnitNameIndex().getUnitsByName("kilometre", "en", false).contains(kilometre));
+        Assert.assertEquals("Testing the name index", "kilometre", kilometre.getName());
+    }
+
+    /**
+     * Tests that the units and scales imported from the repository in a single scan, the units and scales created
+     * while the ontology file is parsed, and the units and scales resolved one by one from the repository are the
+     * same.
+     * @throws Exception When the ontology could not be read.
+     */
+    @Test
+    public void testImportedUnitsAndScales() throws Exception {
+        OMUnitAndScaleFactory bulk = new OMUnitAndScaleFactory(repository);
+        Map<String,UnitOrScaleCreationException> bulkProblems = bulk.importUnitsAndScales();
+        Map<String,String> imported = describe(bulk);
+        Assert.assertTrue("Testing the number of imported units", bulk.getNumberOfUnits()>1000);
+        Assert.assertFalse("Testing the imported scales", bulk.getScales().isEmpty());
+
+        OMUnitAndScaleFactory streamed;
+        try (InputStream in = new FileInputStream(OM_FILE)) {
+            streamed = new OMUnitAndScaleFactory(in, OMMeta.NAMESPACE, RDFFormat.RDFXML);
+        }
+        Assert.assertEquals("Testing the units and scales created from the ontology file", imported, describe(streamed));
+        for(String identifier : bulkProblems.keySet()){
+            try {
+                streamed.getUnitOrScale(identifier);
+                Assert.fail("Testing the unit or scale that could not be imported: "+identifier);
+            } catch (UnitOrScaleCreationException e) {
+            }
+        }
+
+        OMUnitAndScaleFactory perIRI = new OMUnitAndScaleFactory(repository);
+        Map<String,Object> resolved = perIRI.resolveAll(imported.keySet());
+        Assert.assertEquals("Testing the resolved units and scales", imported.keySet(), resolved.keySet());
+        Assert.assertEquals("Testing the resolved units and scales", imported, describe(perIRI));
+        for(String identifier : bulkProblems.keySet()){
+            try {
+                perIRI.getUnitOrScale(identifier);
+                Assert.fail("Testing the unit or scale that could not be imported: "+identifier);
+            } catch (UnitOrScaleCreationException e) {
+            }
+        }
+    }
+
+    /**
+     * Returns a description of each unit and scale in the factory, by identifier.
+     * @param factory The factory.
+     * @return The descriptions.
+     */
+    private static Map<String,String> describe(OMUnitAndScaleFactory factory) {
+        List<NamedObject> unitsAndScales = new ArrayList<>();
+        unitsAndScales.addAll(factory.getUnitsByOrdinal());
+        unitsAndScales.addAll(factory.getScales());
+        Map<String,String> descriptions = new TreeMap<>();
+        for(NamedObject uos : unitsAndScales){
+            String description = uos.getClass().getSimpleName()+" "+uos.getName()+" "+uos.getSymbol();
+            if(uos instanceof Unit){
+                description += " "+((Unit) uos).getUnitDimension();
+            }else if(uos instanceof Scale && ((Scale) uos).getUnit()!=null){
+                description += " "+((Scale) uos).getUnit().getIdentifier();
+            }
+            descriptions.put(uos.getIdentifier(), description);
+        }
+        return descriptions;
+    }
+}
@@ -29,274 +29,274 @@ import nl.wur.fbr.om.prefixes.*;
  */
 public class ChemicalPhysics {
 
-	public static Unit MolePerCentimetre = OM.MolePerCentimetre;
+	public static Unit MolePerCentimetre = OM.unit("MolePerCentimetre");
 
-	public static Unit MolePerFemtometre = OM.MolePerFemtometre;
+	public static Unit MolePerFemtometre = OM.unit("MolePerFemtometre");
 
 	/** Mole per petalitre is a unit of amount of substance concentration defined as mole divided by petalitre. */
-	public static Unit MolePerPetalitre = OM.MolePerPetalitre;
+	public static Unit MolePerPetalitre = OM.unit("MolePerPetalitre");
 
 	/** Megamole per litre is a unit of amount of substance concentration defined as megamole divided by litre. */
-	public static Unit MegamolePerLitre = OM.MegamolePerLitre;
+	public static Unit MegamolePerLitre = OM.unit("MegamolePerLitre");
 
 	/** Mole per centilitre is a unit of amount of substance concentration defined as mole divided by centilitre. */
-	public static Unit MolePerCentilitre = OM.MolePerCentilitre;
+	public static Unit MolePerCentilitre = OM.unit("MolePerCentilitre");
 
 	/** Femtomole per litre is a unit of amount of substance concentration defined as femtomole divided by litre. */
-	public static Unit FemtomolePerLitre = OM.FemtomolePerLitre;
+	public static Unit FemtomolePerLitre = OM.unit("FemtomolePerLitre");
 
-	public static Unit AttomolePerMetre = OM.AttomolePerMetre;
+	public static Unit AttomolePerMetre = OM.unit("AttomolePerMetre");
 
-	public static Unit MolePerPetametre = OM.MolePerPetametre;
+	public static Unit MolePerPetametre = OM.unit("MolePerPetametre");
 
-	public static Unit MolePerMole = OM.MolePerMole;
+	public static Unit MolePerMole = OM.unit("MolePerMole");
 
-	public static Unit MicromolePerMetre = OM.MicromolePerMetre;
+	public static Unit MicromolePerMetre = OM.unit("MicromolePerMetre");
 
 	/** Attomole per litre is a unit of amount of substance concentration defined as attomole divided by litre. */
-	public static Unit AttomolePerLitre = OM.AttomolePerLitre;
+	public static Unit AttomolePerLitre = OM.unit("AttomolePerLitre");
 
-	public static Unit NanomolePerMetre = OM.NanomolePerMetre;
+	public static Unit NanomolePerMetre = OM.unit("NanomolePerMetre");
 
-	public static Unit Centimole = OM.Centimole;
+	public static Unit Centimole = OM.unit("Centimole");
 
 	/** The megamolair is a unit of amount of substance concentration defined as 1.0e6 molair. */
-	public static Unit Megamolair = OM.Megamolair;
+	public static Unit Megamolair = OM.unit("Megamolair");
 
-	public static Unit CubicMetrePerMole = OM.CubicMetrePerMole;
+	public static Unit CubicMetrePerMole = OM.unit("CubicMetrePerMole");
 
-	public static Unit KilogramPerMole = OM.KilogramPerMole;
+	public static Unit KilogramPerMole = OM.unit("KilogramPerMole");
 
-	public static Unit ExamolePerMetre = OM.ExamolePerMetre;
+	public static Unit ExamolePerMetre = OM.unit("ExamolePerMetre");
 
 	/** Examole per litre is a unit of amount of substance concentration defined as examole divided by litre. */
-	public static Unit ExamolePerLitre = OM.ExamolePerLitre;
+	public static Unit ExamolePerLitre = OM.unit("ExamolePerLitre");
 
-	public static Unit DecimolePerMetre = OM.DecimolePerMetre;
+	public static Unit DecimolePerMetre = OM.unit("DecimolePerMetre");
 
-	public static Unit MoleMicrometreReciprocalSquareCentimetre = OM.MoleMicrometreReciprocalSquareCentimetre;
+	public static Unit MoleMicrometreReciprocalSquareCentimetre = OM.unit("MoleMicrometreReciprocalSquareCentimetre");
 
 	/** Gigamole per litre is a unit of amount of substance concentration defined as gigamole divided by litre. */
-	public static Unit GigamolePerLitre = OM.GigamolePerLitre;
+	public static Unit GigamolePerLitre = OM.unit("GigamolePerLitre");
 
-	public static Unit FemtomolePerMetre = OM.FemtomolePerMetre;
+	public static Unit FemtomolePerMetre = OM.unit("FemtomolePerMetre");
 
 	/** Mole per femtolitre is a unit of amount of substance concentration defined as mole divided by femtolitre. */
-	public static Unit MolePerFemtolitre = OM.MolePerFemtolitre;
+	public static Unit MolePerFemtolitre = OM.unit("MolePerFemtolitre");
 
-	public static Unit MolePerHectometre = OM.MolePerHectometre;
+	public static Unit MolePerHectometre = OM.unit("MolePerHectometre");
 
 	/** Unit one is a unit of dimension one. */
-	public static Unit One = OM.One;
+	public static Unit One = OM.unit("One");
 
-	public static Unit DecamolePerMetre = OM.DecamolePerMetre;
+	public static Unit DecamolePerMetre = OM.unit("DecamolePerMetre");
 
-	public static Unit GigamolePerMetre = OM.GigamolePerMetre;
+	public static Unit GigamolePerMetre = OM.unit("GigamolePerMetre");
 
 	/** Mole per hectolitre is a unit of amount of substance concentration defined as mole divided by hectolitre. */
-	public static Unit MolePerHectolitre = OM.MolePerHectolitre;
+	public static Unit MolePerHectolitre = OM.unit("MolePerHectolitre");
 
 	/** Mole per microlitre is a unit of amount of substance concentration defined as mole divided by microlitre. */
-	public static Unit MolePerMicrolitre = OM.MolePerMicrolitre;
+	public static Unit MolePerMicrolitre = OM.unit("MolePerMicrolitre");
 
-	public static Unit Femtomole = OM.Femtomole;
+	public static Unit Femtomole = OM.unit("Femtomole");
 
-	public static Unit MolePerTerametre = OM.MolePerTerametre;
+	public static Unit MolePerTerametre = OM.unit("MolePerTerametre");
 
 	/** Mole per gigalitre is a unit of amount of substance concentration defined as mole divided by gigalitre. */
-	public static Unit MolePerGigalitre = OM.MolePerGigalitre;
+	public static Unit MolePerGigalitre = OM.unit("MolePerGigalitre");
 
 	/** Decimole per litre is a unit of amount of substance concentration defined as decimole divided by litre. */
-	public static Unit DecimolePerLitre = OM.DecimolePerLitre;
+	public static Unit DecimolePerLitre = OM.unit("DecimolePerLitre");
 
 	/** Mole per teralitre is a unit of amount of substance concentration defined as mole divided by teralitre. */
-	public static Unit MolePerTeralitre = OM.MolePerTeralitre;
+	public static Unit MolePerTeralitre = OM.unit("MolePerTeralitre");
 
 	/** The attomolair is a unit of amount of substance concentration defined as 1.0e-18 molair. */
-	public static Unit Attomolair = OM.Attomolair;
+	public static Unit Attomolair = OM.unit("Attomolair");
 
 	/** Picomole per litre is a unit of amount of substance concentration defined as picomole divided by litre. */
-	public static Unit PicomolePerLitre = OM.PicomolePerLitre;
+	public static Unit PicomolePerLitre = OM.unit("PicomolePerLitre");
 
-	public static Unit HectomolePerMetre = OM.HectomolePerMetre;
+	public static Unit HectomolePerMetre = OM.unit("HectomolePerMetre");
 
 	/** Millimole per litre is a unit of amount of substance concentration defined as millimole divided by litre. */
-	public static Unit MillimolePerLitre = OM.MillimolePerLitre;
+	public static Unit MillimolePerLitre = OM.unit("MillimolePerLitre");
 
-	public static Unit MillimolePerMetre = OM.MillimolePerMetre;
+	public static Unit MillimolePerMetre = OM.unit("MillimolePerMetre");
 
-	public static Unit JoulePerKelvinMole = OM.JoulePerKelvinMole;
+	public static Unit JoulePerKelvinMole = OM.unit("JoulePerKelvinMole");
 
-	public static Unit MolePerMicrometre = OM.MolePerMicrometre;
+	public static Unit MolePerMicrometre = OM.unit("MolePerMicrometre");
 
 	/** Hectomole per litre is a unit of amount of substance concentration defined as hectomole divided by litre. */
-	public static Unit HectomolePerLitre = OM.HectomolePerLitre;
+	public static Unit HectomolePerLitre = OM.unit("HectomolePerLitre");
 
-	public static Unit Attomole = OM.Attomole;
+	public static Unit Attomole = OM.unit("Attomole");
 
 	/** The millimolair is a unit of amount of substance concentration defined as 1.0e-3 molair. */
-	public static Unit Millimolair = OM.Millimolair;
+	public static Unit Millimolair = OM.unit("Millimolair");
 
-	public static Unit Picomole = OM.Picomole;
+	public static Unit Picomole = OM.unit("Picomole");
 
-	public static Unit MolePerYottametre = OM.MolePerYottametre;
+	public static Unit MolePerYottametre = OM.unit("MolePerYottametre");
 
-	public static Unit PicomolePerMetre = OM.PicomolePerMetre;
+	public static Unit PicomolePerMetre = OM.unit("PicomolePerMetre");
 
 	/** The micromolair is a unit of amount of substance concentration defined as 1.0e-6 molair. */
-	public static Unit Micromolair = OM.Micromolair;
+	public static Unit Micromolair = OM.unit("Micromolair");
 
-	public static Unit Decimole = OM.Decimole;
+	public static Unit Decimole = OM.unit("Decimole");
 
-	public static Unit JoulePerMole = OM.JoulePerMole;
+	public static Unit JoulePerMole = OM.unit("JoulePerMole");
 
-	public static Unit MolePerMetre = OM.MolePerMetre;
+	public static Unit MolePerMetre = OM.unit("MolePerMetre");
 
-	public static Unit MoleMicrometreReciprocalSquareCentimetreReciprocalSecondTime = OM.MoleMicrometreReciprocalSquareCentimetreReciprocalSecondTime;
+	public static Unit MoleMicrometreReciprocalSquareCentimetreReciprocalSecondTime = OM.unit("MoleMicrometreReciprocalSquareCentimetreReciprocalSecondTime");
 
-	public static Unit Petamole = OM.Petamole;
+	public static Unit Petamole = OM.unit("Petamole");
 
 	/** Micromole per litre is a unit of amount of substance concentration defined as micromole divided by litre. */
-	public static Unit MicromolePerLitre = OM.MicromolePerLitre;
+	public static Unit MicromolePerLitre = OM.unit("MicromolePerLitre");
 
-	public static Unit MolePerGigametre = OM.MolePerGigametre;
+	public static Unit MolePerGigametre = OM.unit("MolePerGigametre");
 
 	/** Mole per litre is a unit of amount of substance concentration defined as mole divided by litre. */
-	public static Unit MolePerLitre = OM.MolePerLitre;
+	public static Unit MolePerLitre = OM.unit("MolePerLitre");
 
 	/** Decamole per litre is a unit of amount of substance concentration defined as decamole divided by litre. */
-	public static Unit DecamolePerLitre = OM.DecamolePerLitre;
+	public static Unit DecamolePerLitre = OM.unit("DecamolePerLitre");
 
 	/** The femtomolair is a unit of amount of substance concentration defined as 1.0e-15 molair. */
-	public static Unit Femtomolair = OM.Femtomolair;
+	public static Unit Femtomolair = OM.unit("Femtomolair");
 
-	public static Unit MegamolePerMetre = OM.MegamolePerMetre;
+	public static Unit MegamolePerMetre = OM.unit("MegamolePerMetre");
 
-	public static Unit MolePerExametre = OM.MolePerExametre;
+	public static Unit MolePerExametre = OM.unit("MolePerExametre");
 
 	/** Mole per exalitre is a unit of amount of substance concentration defined as mole divided by exalitre. */
-	public static Unit MolePerExalitre = OM.MolePerExalitre;
+	public static Unit MolePerExalitre = OM.unit("MolePerExalitre");
 
-	public static Unit MolePerMillimetre = OM.MolePerMillimetre;
+	public static Unit MolePerMillimetre = OM.unit("MolePerMillimetre");
 
 	/** Mole per cubic metre is a unit of amount of substance concentration defined as mole divided by cubic metre. */
-	public static Unit MolePerCubicmetre = OM.MolePerCubicmetre;
+	public static Unit MolePerCubicmetre = OM.unit("MolePerCubicmetre");
 
-	public static Unit Millimole = OM.Millimole;
+	public static Unit Millimole = OM.unit("Millimole");
 
 	/** Molair is a unit of amount of substance concentration defined as 1 mole per litre. */
-	public static Unit Molair = OM.Molair;
+	public static Unit Molair = OM.unit("Molair");
 
-	public static Unit MolePerAttometre = OM.MolePerAttometre;
+	public static Unit MolePerAttometre = OM.unit("MolePerAttometre");
 
 	/** Teramole per litre is a unit of amount of substance concentration defined as teramole divided by litre. */
-	public static Unit TeramolePerLitre = OM.TeramolePerLitre;
+	public static Unit TeramolePerLitre = OM.unit("TeramolePerLitre");
 
 	/** Mole per decilitre is a unit of amount of substance concentration defined as mole divided by decilitre. */
-	public static Unit MolePerDecilitre = OM.MolePerDecilitre;
+	public static Unit MolePerDecilitre = OM.unit("MolePerDecilitre");
 
 	/** Parts per million is a unit of dimension one defined as 1/1 000 000. */
-	public static Unit PartsPerMillion = OM.PartsPerMillion;
+	public static Unit PartsPerMillion = OM.unit("PartsPerMillion");
 
 	/** Mole per attolitre is a unit of amount of substance concentration defined as mole divided by attolitre. */
-	public static Unit MolePerAttolitre = OM.MolePerAttolitre;
+	public static Unit MolePerAttolitre = OM.unit("MolePerAttolitre");
 
-	public static Unit Hectomole = OM.Hectomole;
+	public static Unit Hectomole = OM.unit("Hectomole");
 
-	public static Unit Kilomole = OM.Kilomole;
+	public static Unit Kilomole = OM.unit("Kilomole");
 
 	/** The mole is a unit of amount of substance defined as the amount of substance of a system that contains as many elementary entities as there are atoms in 0.012 kilogram of carbon 12. */
-	public static Unit Mole = OM.Mole;
+	public static Unit Mole = OM.unit("Mole");
 
 	/** Centimole per litre is a unit of amount of substance concentration defined as centimole divided by litre. */
-	public static Unit CentimolePerLitre = OM.CentimolePerLitre;
+	public static Unit CentimolePerLitre = OM.unit("CentimolePerLitre");
 
-	public static Unit KilomolePerMetre = OM.KilomolePerMetre;
+	public static Unit KilomolePerMetre = OM.unit("KilomolePerMetre");
 
-	public static Unit MolePerDecimetre = OM.MolePerDecimetre;
+	public static Unit MolePerDecimetre = OM.unit("MolePerDecimetre");
 
 	/** Kilomole per litre is a unit of amount of substance concentration defined as kilomole divided by litre. */
-	public static Unit KilomolePerLitre = OM.KilomolePerLitre;
+	public static Unit KilomolePerLitre = OM.unit("KilomolePerLitre");
 
-	public static Unit MolePermegametre = OM.MolePermegametre;
+	public static Unit MolePermegametre = OM.unit("MolePermegametre");
 
-	public static Unit Nanomole = OM.Nanomole;
+	public static Unit Nanomole = OM.unit("Nanomole");
 
-	public static Unit MolePerYoctometre = OM.MolePerYoctometre;
+	public static Unit MolePerYoctometre = OM.unit("MolePerYoctometre");
 
-	public static Unit MolePerZeptometre = OM.MolePerZeptometre;
+	public static Unit MolePerZeptometre = OM.unit("MolePerZeptometre");
 
-	public static Unit CentimolePerMetre = OM.CentimolePerMetre;
+	public static Unit CentimolePerMetre = OM.unit("CentimolePerMetre");
 
 	/** The picomolair is a unit of amount of substance concentration defined as 1.0e-12 molair. */
-	public static Unit Picomolair = OM.Picomolair;
+	public static Unit Picomolair = OM.unit("Picomolair");
 
-	public static Unit MicromolePerMole = OM.MicromolePerMole;
+	public static Unit MicromolePerMole = OM.unit("MicromolePerMole");
 
 	/** Mole per millilitre is a unit of amount of substance concentration defined as mole divided by millilitre. */
-	public static Unit MolePerMillilitre = OM.MolePerMillilitre;
+	public static Unit MolePerMillilitre = OM.unit("MolePerMillilitre");
 
-	public static Unit Decamole = OM.Decamole;
+	public static Unit Decamole = OM.unit("Decamole");
 
 	/** Petamole per litre is a unit of amount of substance concentration defined as petamole divided by litre. */
-	public static Unit PetamolePerLitre = OM.PetamolePerLitre;
+	public static Unit PetamolePerLitre = OM.unit("PetamolePerLitre");
 
 	/** Mole per kilolitre is a unit of amount of substance concentration defined as mole divided by kilolitre. */
-	public static Unit MolePerKilolitre = OM.MolePerKilolitre;
+	public static Unit MolePerKilolitre = OM.unit("MolePerKilolitre");
 
 	/** Mole per nanolitre is a unit of amount of substance concentration defined as mole divided by nanolitre. */
-	public static Unit MolePerNanolitre = OM.MolePerNanolitre;
+	public static Unit MolePerNanolitre = OM.unit("MolePerNanolitre");
 
 	/** Mole per picolitre is a unit of amount of substance concentration defined as mole divided by picolitre. */
-	public static Unit MolePerPicolitre = OM.MolePerPicolitre;
+	public static Unit MolePerPicolitre = OM.unit("MolePerPicolitre");
 
-	public static Unit MolePerPicometre = OM.MolePerPicometre;
+	public static Unit MolePerPicometre = OM.unit("MolePerPicometre");
 
-	public static Unit Teramole = OM.Teramole;
+	public static Unit Teramole = OM.unit("Teramole");
 
-	public static Unit MolePerZettametre = OM.MolePerZettametre;
+	public static Unit MolePerZettametre = OM.unit("MolePerZettametre");
 
-	public static Unit PetamolePerMetre = OM.PetamolePerMetre;
+	public static Unit PetamolePerMetre = OM.unit("PetamolePerMetre");
 
-	public static Unit Examole = OM.Examole;
+	public static Unit Examole = OM.unit("Examole");
 
-	public static Unit MolePerKilogram = OM.MolePerKilogram;
+	public static Unit MolePerKilogram = OM.unit("MolePerKilogram");
 
-	public static Unit LitrePerMole = OM.LitrePerMole;
+	public static Unit LitrePerMole = OM.unit("LitrePerMole");
 
-	public static Unit MolePerKilometre = OM.MolePerKilometre;
+	public static Unit MolePerKilometre = OM.unit("MolePerKilometre");
 
-	public static Unit Gigamole = OM.Gigamole;
+	public static Unit Gigamole = OM.unit("Gigamole");
 
 	/** The percent is a unit of dimension one defined as 1/100. */
-	public static Unit Percent = OM.Percent;
+	public static Unit Percent = OM.unit("Percent");
 
-	public static Unit KelvinMole = OM.KelvinMole;
+	public static Unit KelvinMole = OM.unit("KelvinMole");
 
-	public static Unit TeramolePerMetre = OM.TeramolePerMetre;
+	public static Unit TeramolePerMetre = OM.unit("TeramolePerMetre");
 
 	/** The nanomolair is a unit of amount of substance concentration defined as 1.0e-9 molair. */
-	public static Unit Nanomolair = OM.Nanomolair;
+	public static Unit Nanomolair = OM.unit("Nanomolair");
 
-	public static Unit MicromolePerSecondTimeGram = OM.MicromolePerSecondTimeGram;
+	public static Unit MicromolePerSecondTimeGram = OM.unit("MicromolePerSecondTimeGram");
 
 	/** Mole per decalitre is a unit of amount of substance concentration defined as mole divided by decalitre. */
-	public static Unit MolePerDecalitre = OM.MolePerDecalitre;
+	public static Unit MolePerDecalitre = OM.unit("MolePerDecalitre");
 
-	public static Unit MoleMicrometre = OM.MoleMicrometre;
+	public static Unit MoleMicrometre = OM.unit("MoleMicrometre");
 
 	/** Nanomole per litre is a unit of amount of substance concentration defined as nanomole divided by litre. */
-	public static Unit NanomolePerLitre = OM.NanomolePerLitre;
+	public static Unit NanomolePerLitre = OM.unit("NanomolePerLitre");
 
-	public static Unit Micromole = OM.Micromole;
+	public static Unit Micromole = OM.unit("Micromole");
 
-	public static Unit Megamole = OM.Megamole;
+	public static Unit Megamole = OM.unit("Megamole");
 
-	public static Unit MolePerNanometre = OM.MolePerNanometre;
+	public static Unit MolePerNanometre = OM.unit("MolePerNanometre");
 
-	public static Unit MolePerDecametre = OM.MolePerDecametre;
+	public static Unit MolePerDecametre = OM.unit("MolePerDecametre");
 
 	/** Mole per megalitre is a unit of amount of substance concentration defined as mole divided by megalitre. */
-	public static Unit MolePerMegalitre = OM.MolePerMegalitre;
+	public static Unit MolePerMegalitre = OM.unit("MolePerMegalitre");
 
 }
\ No newline at end of file
@@ -30,71 +30,71 @@ import nl.wur.fbr.om.prefixes.*;
 public class Chemistry {
 
 	/** The hectokatal is a unit of catalytic activity defined as 1.0e2 katal. */
-	public static Unit Hectokatal = OM.Hectokatal;
+	public static Unit Hectokatal = OM.unit("Hectokatal");
 
 	/** The centikatal is a unit of catalytic activity defined as 1.0e-2 katal. */
-	public static Unit Centikatal = OM.Centikatal;
+	public static Unit Centikatal = OM.unit("Centikatal");
 
 	/** The femtokatal is a unit of catalytic activity defined as 1.0e-15 katal. */
-	public static Unit Femtokatal = OM.Femtokatal;
+	public static Unit Femtokatal = OM.unit("Femtokatal");
 
-	public static Unit DeltaA450PerSecondTimePerMilligram = OM.DeltaA450PerSecondTimePerMilligram;
+	public static Unit DeltaA450PerSecondTimePerMilligram = OM.unit("DeltaA450PerSecondTimePerMilligram");
 
 	/** The amylase unit is a unit of catalytic activity. */
-	public static Unit AmylaseUnit = OM.AmylaseUnit;
+	public static Unit AmylaseUnit = OM.unit("AmylaseUnit");
 
-	public static Unit DeltaA450 = OM.DeltaA450;
+	public static Unit DeltaA450 = OM.unit("DeltaA450");
 
 	/** The attokatal is a unit of catalytic activity defined as 1.0e-18 katal. */
-	public static Unit Attokatal = OM.Attokatal;
+	public static Unit Attokatal = OM.unit("Attokatal");
 
 	/** The decakatal is a unit of catalytic activity defined as 1.0e1 katal. */
-	public static Unit Decakatal = OM.Decakatal;
+	public static Unit Decakatal = OM.unit("Decakatal");
 
 	/** The megakatal is a unit of catalytic activity defined as 1.0e6 katal. */
-	public static Unit Megakatal = OM.Megakatal;
+	public static Unit Megakatal = OM.unit("Megakatal");
 
-	public static Unit MicromolePerSecondTime = OM.MicromolePerSecondTime;
+	public static Unit MicromolePerSecondTime = OM.unit("MicromolePerSecondTime");
 
 	/** The microkatal is a unit of catalytic activity defined as 1.0e-6 katal. */
-	public static Unit Microkatal = OM.Microkatal;
+	public static Unit Microkatal = OM.unit("Microkatal");
 
-	public static Unit KatalPerCubicmetre = OM.KatalPerCubicmetre;
+	public static Unit KatalPerCubicmetre = OM.unit("KatalPerCubicmetre");
 
 	/** The terakatal is a unit of catalytic activity defined as 1.0e12 katal. */
-	public static Unit Terakatal = OM.Terakatal;
+	public static Unit Terakatal = OM.unit("Terakatal");
 
 	/** The nanokatal is a unit of catalytic activity defined as 1.0e-9 katal. */
-	public static Unit Nanokatal = OM.Nanokatal;
+	public static Unit Nanokatal = OM.unit("Nanokatal");
 
-	public static Unit DeltaA450PerSecondTime = OM.DeltaA450PerSecondTime;
+	public static Unit DeltaA450PerSecondTime = OM.unit("DeltaA450PerSecondTime");
 
 	/** The gigakatal is a unit of catalytic activity defined as 1.0e9 katal. */
-	public static Unit Gigakatal = OM.Gigakatal;
+	public static Unit Gigakatal = OM.unit("Gigakatal");
 
 	/** The petakatal is a unit of catalytic activity defined as 1.0e15 katal. */
-	public static Unit Petakatal = OM.Petakatal;
+	public static Unit Petakatal = OM.unit("Petakatal");
 
 	/** The picokatal is a unit of catalytic activity defined as 1.0e-12 katal. */
-	public static Unit Picokatal = OM.Picokatal;
+	public static Unit Picokatal = OM.unit("Picokatal");
 
 	/** The katal is a unit of catalytic activity defined as mole divided by second. */
-	public static Unit Katal = OM.Katal;
+	public static Unit Katal = OM.unit("Katal");
 
 	/** The decikatal is a unit of catalytic activity defined as 1.0e-1 katal. */
-	public static Unit Decikatal = OM.Decikatal;
+	public static Unit Decikatal = OM.unit("Decikatal");
 
 	/** The kilokatal is a unit of catalytic activity defined as 1.0e3 katal. */
-	public static Unit Kilokatal = OM.Kilokatal;
+	public static Unit Kilokatal = OM.unit("Kilokatal");
 
 	/** The exakatal is a unit of catalytic activity defined as 1.0e18 katal. */
-	public static Unit Exakatal = OM.Exakatal;
+	public static Unit Exakatal = OM.unit("Exakatal");
 
-	public static Unit NanokatalPerMilligram = OM.NanokatalPerMilligram;
+	public static Unit NanokatalPerMilligram = OM.unit("NanokatalPerMilligram");
 
 	/** The millikatal is a unit of catalytic activity defined as 1.0e-3 katal. */
-	public static Unit Millikatal = OM.Millikatal;
+	public static Unit Millikatal = OM.unit("Millikatal");
 
-	public static Unit MolePerSecondTime = OM.MolePerSecondTime;
+	public static Unit MolePerSecondTime = OM.unit("MolePerSecondTime");
 
 }
\ No newline at end of file
@@ -29,8 +29,8 @@ import nl.wur.fbr.om.prefixes.*;
  */
 public class Economics {
 
-	public static Unit Megaeuro = OM.Megaeuro;
+	public static Unit Megaeuro = OM.unit("Megaeuro");
 
-	public static Unit Euro = OM.Euro;
+	public static Unit Euro = OM.unit("Euro");
 
 }
\ No newline at end of file
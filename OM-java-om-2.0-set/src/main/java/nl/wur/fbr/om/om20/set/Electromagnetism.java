@@ -30,508 +30,508 @@ import nl.wur.fbr.om.prefixes.*;
 public class Electromagnetism {
 
 	/** The franklin is a unit of electric charge defined as 3.335641e-10 coulomb. */
-	public static Unit Franklin = OM.Franklin;
+	public static Unit Franklin = OM.unit("Franklin");
 
 	/** The statvolt is a unit of electric potential defined as 2.997925e2 volt. */
-	public static Unit Statvolt = OM.Statvolt;
+	public static Unit Statvolt = OM.unit("Statvolt");
 
-	public static Unit Microohm = OM.Microohm;
+	public static Unit Microohm = OM.unit("Microohm");
 
 	/** The volt is a unit of electric potential defined as watt divided by ampere = joule divided by coulomb = newton times metre divided by ampere times second = kilogram times square metre divided by ampere times second to the power 3. */
-	public static Unit Volt = OM.Volt;
+	public static Unit Volt = OM.unit("Volt");
 
-	public static Unit Exaweber = OM.Exaweber;
+	public static Unit Exaweber = OM.unit("Exaweber");
 
-	public static Unit Femtotesla = OM.Femtotesla;
+	public static Unit Femtotesla = OM.unit("Femtotesla");
 
 	/** The abohm is a unit of electrical resistance defined as 1.0e-9 ohm. */
-	public static Unit Abohm = OM.Abohm;
+	public static Unit Abohm = OM.unit("Abohm");
 
-	public static Unit Gigasiemens = OM.Gigasiemens;
+	public static Unit Gigasiemens = OM.unit("Gigasiemens");
 
 	/** The statcoulomb is a unit of electric charge defined as 3.335641e-10 coulomb. */
-	public static Unit Statcoulomb = OM.Statcoulomb;
+	public static Unit Statcoulomb = OM.unit("Statcoulomb");
 
 	/** The mho is a unit of electrical conductance defined as 1 siemens. */
-	public static Unit Mho = OM.Mho;
+	public static Unit Mho = OM.unit("Mho");
 
 	/** The femtocoulomb is a unit of electric charge defined as 1.0e-15 coulomb. */
-	public static Unit Femtocoulomb = OM.Femtocoulomb;
+	public static Unit Femtocoulomb = OM.unit("Femtocoulomb");
 
 	/** The weber is a unit of magnetic flux defined as kilogram times square metre divided by second squared times ampere = volt times second = joule divided by ampere. */
-	public static Unit Weber = OM.Weber;
+	public static Unit Weber = OM.unit("Weber");
 
-	public static Unit Attoohm = OM.Attoohm;
+	public static Unit Attoohm = OM.unit("Attoohm");
 
 	/** The centicoulomb is a unit of electric charge defined as 1.0e-2 coulomb. */
-	public static Unit Centicoulomb = OM.Centicoulomb;
+	public static Unit Centicoulomb = OM.unit("Centicoulomb");
 
 	/** The decicoulomb is a unit of electric charge defined as 1.0e-1 coulomb. */
-	public static Unit Decicoulomb = OM.Decicoulomb;
+	public static Unit Decicoulomb = OM.unit("Decicoulomb");
 
 	/** The oersted is a unit of magnetic field defined as 7.957747e1 ampere per metre. */
-	public static Unit Oersted = OM.Oersted;
+	public static Unit Oersted = OM.unit("Oersted");
 
-	public static Unit Gigaweber = OM.Gigaweber;
+	public static Unit Gigaweber = OM.unit("Gigaweber");
 
-	public static Unit Megasiemens = OM.Megasiemens;
+	public static Unit Megasiemens = OM.unit("Megasiemens");
 
 	/** The deciampere is a unit of electric current defined as 1.0e-1 ampere. */
-	public static Unit Deciampere = OM.Deciampere;
+	public static Unit Deciampere = OM.unit("Deciampere");
 
 	/** The petaampere is a unit of electric current defined as 1.0e15 ampere. */
-	public static Unit Petaampere = OM.Petaampere;
+	public static Unit Petaampere = OM.unit("Petaampere");
 
-	public static Unit Gigatesla = OM.Gigatesla;
+	public static Unit Gigatesla = OM.unit("Gigatesla");
 
 	/** The ampere is a unit of electric current defined as the constant current that produces an attractive force of 2e–7 newton per metre of length between two straight, parallel conductors of infinite length and negligible circular cross section placed one metre apart in a vacuum. */
-	public static Unit Ampere = OM.Ampere;
+	public static Unit Ampere = OM.unit("Ampere");
 
-	public static Unit Femtosiemens = OM.Femtosiemens;
+	public static Unit Femtosiemens = OM.unit("Femtosiemens");
 
-	public static Unit Picotesla = OM.Picotesla;
+	public static Unit Picotesla = OM.unit("Picotesla");
 
-	public static Unit Picoweber = OM.Picoweber;
+	public static Unit Picoweber = OM.unit("Picoweber");
 
-	public static Unit Microweber = OM.Microweber;
+	public static Unit Microweber = OM.unit("Microweber");
 
-	public static Unit Gigaohm = OM.Gigaohm;
+	public static Unit Gigaohm = OM.unit("Gigaohm");
 
 	/** The tesla is a unit of magnetic flux density defined as volt times second divided by square metre = newton divided by ampere times metre = weber divided by square metre = kilogram divided by coulomb times second = kilogram divided by ampere times second squared. */
-	public static Unit Tesla = OM.Tesla;
+	public static Unit Tesla = OM.unit("Tesla");
 
 	/** The megacoulomb is a unit of electric charge defined as 1.0e6 coulomb. */
-	public static Unit Megacoulomb = OM.Megacoulomb;
+	public static Unit Megacoulomb = OM.unit("Megacoulomb");
 
 	/** The centifarad is a unit of capacitance defined as 1.0e-2 farad. */
-	public static Unit Centifarad = OM.Centifarad;
+	public static Unit Centifarad = OM.unit("Centifarad");
 
 	/** The decafarad is a unit of capacitance defined as 1.0e1 farad. */
-	public static Unit Decafarad = OM.Decafarad;
+	public static Unit Decafarad = OM.unit("Decafarad");
 
-	public static Unit Microtesla = OM.Microtesla;
+	public static Unit Microtesla = OM.unit("Microtesla");
 
-	public static Unit CoulombPerVolt = OM.CoulombPerVolt;
+	public static Unit CoulombPerVolt = OM.unit("CoulombPerVolt");
 
 	/** The gauss is a unit of magnetic flux density defined as 1.0e-4 tesla. */
-	public static Unit Gauss = OM.Gauss;
+	public static Unit Gauss = OM.unit("Gauss");
 
-	public static Unit Teravolt = OM.Teravolt;
+	public static Unit Teravolt = OM.unit("Teravolt");
 
-	public static Unit Attoweber = OM.Attoweber;
+	public static Unit Attoweber = OM.unit("Attoweber");
 
-	public static Unit Femtoohm = OM.Femtoohm;
+	public static Unit Femtoohm = OM.unit("Femtoohm");
 
-	public static Unit Femtoweber = OM.Femtoweber;
+	public static Unit Femtoweber = OM.unit("Femtoweber");
 
-	public static Unit WattPerAmpere = OM.WattPerAmpere;
+	public static Unit WattPerAmpere = OM.unit("WattPerAmpere");
 
 	/** The decacoulomb is a unit of electric charge defined as 1.0e1 coulomb. */
-	public static Unit Decacoulomb = OM.Decacoulomb;
+	public static Unit Decacoulomb = OM.unit("Decacoulomb");
 
-	public static Unit Exatesla = OM.Exatesla;
+	public static Unit Exatesla = OM.unit("Exatesla");
 
-	public static Unit HenryPerMetre = OM.HenryPerMetre;
+	public static Unit HenryPerMetre = OM.unit("HenryPerMetre");
 
-	public static Unit Decavolt = OM.Decavolt;
+	public static Unit Decavolt = OM.unit("Decavolt");
 
 	/** The nanofarad is a unit of capacitance defined as 1.0e-9 farad. */
-	public static Unit Nanofarad = OM.Nanofarad;
+	public static Unit Nanofarad = OM.unit("Nanofarad");
 
-	public static Unit Deciweber = OM.Deciweber;
+	public static Unit Deciweber = OM.unit("Deciweber");
 
-	public static Unit Gigavolt = OM.Gigavolt;
+	public static Unit Gigavolt = OM.unit("Gigavolt");
 
-	public static Unit Millivolt = OM.Millivolt;
+	public static Unit Millivolt = OM.unit("Millivolt");
 
-	public static Unit Exasiemens = OM.Exasiemens;
+	public static Unit Exasiemens = OM.unit("Exasiemens");
 
 	/** The stathenry is a unit of inductance defined as 8.987552e11 henry. */
-	public static Unit Stathenry = OM.Stathenry;
+	public static Unit Stathenry = OM.unit("Stathenry");
 
 	/** The centihenry is a unit of inductance defined as 1.0e-2 henry. */
-	public static Unit Centihenry = OM.Centihenry;
+	public static Unit Centihenry = OM.unit("Centihenry");
 
 	/** The nanoampere is a unit of electric current defined as 1.0e-9 ampere. */
-	public static Unit Nanoampere = OM.Nanoampere;
+	public static Unit Nanoampere = OM.unit("Nanoampere");
 
 	/** The exaampere is a unit of electric current defined as 1.0e18 ampere. */
-	public static Unit Exaampere = OM.Exaampere;
+	public static Unit Exaampere = OM.unit("Exaampere");
 
 	/** The megafarad is a unit of capacitance defined as 1.0e6 farad. */
-	public static Unit Megafarad = OM.Megafarad;
+	public static Unit Megafarad = OM.unit("Megafarad");
 
 	/** Ampere per square metre is a unit of current density defined as ampere divided by square metre. */
-	public static Unit AmperePerSquareMetre = OM.AmperePerSquareMetre;
+	public static Unit AmperePerSquareMetre = OM.unit("AmperePerSquareMetre");
 
-	public static Unit Decitesla = OM.Decitesla;
+	public static Unit Decitesla = OM.unit("Decitesla");
 
-	public static Unit ReciprocalHenry = OM.ReciprocalHenry;
+	public static Unit ReciprocalHenry = OM.unit("ReciprocalHenry");
 
-	public static Unit Attotesla = OM.Attotesla;
+	public static Unit Attotesla = OM.unit("Attotesla");
 
-	public static Unit Teratesla = OM.Teratesla;
+	public static Unit Teratesla = OM.unit("Teratesla");
 
 	/** The femtoampere is a unit of electric current defined as 1.0e-15 ampere. */
-	public static Unit Femtoampere = OM.Femtoampere;
+	public static Unit Femtoampere = OM.unit("Femtoampere");
 
-	public static Unit Megohm = OM.Megohm;
+	public static Unit Megohm = OM.unit("Megohm");
 
-	public static Unit WeberPerSquareMetre = OM.WeberPerSquareMetre;
+	public static Unit WeberPerSquareMetre = OM.unit("WeberPerSquareMetre");
 
-	public static Unit Exavolt = OM.Exavolt;
+	public static Unit Exavolt = OM.unit("Exavolt");
 
-	public static Unit Kiloweber = OM.Kiloweber;
+	public static Unit Kiloweber = OM.unit("Kiloweber");
 
 	/** The decihenry is a unit of inductance defined as 1.0e-1 henry. */
-	public static Unit Decihenry = OM.Decihenry;
+	public static Unit Decihenry = OM.unit("Decihenry");
 
-	public static Unit Nanoweber = OM.Nanoweber;
+	public static Unit Nanoweber = OM.unit("Nanoweber");
 
 	/** The biot is a unit of electric current defined as 10 ampere. */
-	public static Unit Biot = OM.Biot;
+	public static Unit Biot = OM.unit("Biot");
 
 	/** The abampere is a unit of electric current defined as 10 ampere. */
-	public static Unit Abampere = OM.Abampere;
+	public static Unit Abampere = OM.unit("Abampere");
 
-	public static Unit Decatesla = OM.Decatesla;
+	public static Unit Decatesla = OM.unit("Decatesla");
 
 	/** The exafarad is a unit of capacitance defined as 1.0e18 farad. */
-	public static Unit Exafarad = OM.Exafarad;
+	public static Unit Exafarad = OM.unit("Exafarad");
 
 	/** The abfarad is a unit of capacitance defined as 1.0e9 farad. */
-	public static Unit Abfarad = OM.Abfarad;
+	public static Unit Abfarad = OM.unit("Abfarad");
 
-	public static Unit Deciohm = OM.Deciohm;
+	public static Unit Deciohm = OM.unit("Deciohm");
 
 	/** The picofarad is a unit of capacitance defined as 1.0e-12 farad. */
-	public static Unit Picofarad = OM.Picofarad;
+	public static Unit Picofarad = OM.unit("Picofarad");
 
 	/** The abcoulomb is a unit of electric charge defined as 10 coulomb. */
-	public static Unit Abcoulomb = OM.Abcoulomb;
+	public static Unit Abcoulomb = OM.unit("Abcoulomb");
 
 	/** The millifarad is a unit of capacitance defined as 1.0e-3 farad. */
-	public static Unit Millifarad = OM.Millifarad;
+	public static Unit Millifarad = OM.unit("Millifarad");
 
 	/** The microfarad is a unit of capacitance defined as 1.0e-6 farad. */
-	public static Unit Microfarad = OM.Microfarad;
+	public static Unit Microfarad = OM.unit("Microfarad");
 
 	/** The nanocoulomb is a unit of electric charge defined as 1.0e-9 coulomb. */
-	public static Unit Nanocoulomb = OM.Nanocoulomb;
+	public static Unit Nanocoulomb = OM.unit("Nanocoulomb");
 
-	public static Unit Nanosiemens = OM.Nanosiemens;
+	public static Unit Nanosiemens = OM.unit("Nanosiemens");
 
-	public static Unit Petatesla = OM.Petatesla;
+	public static Unit Petatesla = OM.unit("Petatesla");
 
-	public static Unit Kilotesla = OM.Kilotesla;
+	public static Unit Kilotesla = OM.unit("Kilotesla");
 
 	/** The statfarad is a unit of capacitance defined as 1.112650e-12 farad. */
-	public static Unit Statfarad = OM.Statfarad;
+	public static Unit Statfarad = OM.unit("Statfarad");
 
 	/** The hectohenry is a unit of inductance defined as 1.0e2 henry. */
-	public static Unit Hectohenry = OM.Hectohenry;
+	public static Unit Hectohenry = OM.unit("Hectohenry");
 
 	/** The picocoulomb is a unit of electric charge defined as 1.0e-12 coulomb. */
-	public static Unit Picocoulomb = OM.Picocoulomb;
+	public static Unit Picocoulomb = OM.unit("Picocoulomb");
 
 	/** The attohenry is a unit of inductance defined as 1.0e-18 henry. */
-	public static Unit Attohenry = OM.Attohenry;
+	public static Unit Attohenry = OM.unit("Attohenry");
 
 	/** The millihenry is a unit of inductance defined as 1.0e-3 henry. */
-	public static Unit Millihenry = OM.Millihenry;
+	public static Unit Millihenry = OM.unit("Millihenry");
 
-	public static Unit Nanotesla = OM.Nanotesla;
+	public static Unit Nanotesla = OM.unit("Nanotesla");
 
 	/** The terafarad is a unit of capacitance defined as 1.0e12 farad. */
-	public static Unit Terafarad = OM.Terafarad;
+	public static Unit Terafarad = OM.unit("Terafarad");
 
 	/** The terahenry is a unit of inductance defined as 1.0e12 henry. */
-	public static Unit Terahenry = OM.Terahenry;
+	public static Unit Terahenry = OM.unit("Terahenry");
 
 	/** The stattesla is a unit of magnetic flux density defined as 2.9979e6 tesla. */
-	public static Unit Stattesla = OM.Stattesla;
+	public static Unit Stattesla = OM.unit("Stattesla");
 
 	/** The attofarad is a unit of capacitance defined as 1.0e-18 farad. */
-	public static Unit Attofarad = OM.Attofarad;
+	public static Unit Attofarad = OM.unit("Attofarad");
 
-	public static Unit Decivolt = OM.Decivolt;
+	public static Unit Decivolt = OM.unit("Decivolt");
 
 	/** The henry is a unit of inductance defined as square metre times kilogram divided by second squared times ampere squared = weber divided by ampere = volt second divided by ampere = (joule divided by coulomb) times second divided by (coulomb divided by second) = joule times second squared divided by coulomb squared = square metre times kilogram divided by coulomb squared. */
-	public static Unit Henry = OM.Henry;
+	public static Unit Henry = OM.unit("Henry");
 
 	/** The microhenry is a unit of inductance defined as 1.0e-6 henry. */
-	public static Unit Microhenry = OM.Microhenry;
+	public static Unit Microhenry = OM.unit("Microhenry");
 
-	public static Unit Megatesla = OM.Megatesla;
+	public static Unit Megatesla = OM.unit("Megatesla");
 
 	/** The statohm is a unit of electrical resistance defined as 8.987552e11 ohm. */
-	public static Unit Statohm = OM.Statohm;
+	public static Unit Statohm = OM.unit("Statohm");
 
 	/** The exahenry is a unit of inductance defined as 1.0e18 henry. */
-	public static Unit Exahenry = OM.Exahenry;
+	public static Unit Exahenry = OM.unit("Exahenry");
 
 	/** The microcoulomb is a unit of electric charge defined as 1.0e-6 coulomb. */
-	public static Unit Microcoulomb = OM.Microcoulomb;
+	public static Unit Microcoulomb = OM.unit("Microcoulomb");
 
 	/** The picohenry is a unit of inductance defined as 1.0e-12 henry. */
-	public static Unit Picohenry = OM.Picohenry;
+	public static Unit Picohenry = OM.unit("Picohenry");
 
-	public static Unit Decaweber = OM.Decaweber;
+	public static Unit Decaweber = OM.unit("Decaweber");
 
 	/** The abhenry is a unit of inductance defined as 1.0e-9 henry. */
-	public static Unit Abhenry = OM.Abhenry;
+	public static Unit Abhenry = OM.unit("Abhenry");
 
-	public static Unit Petavolt = OM.Petavolt;
+	public static Unit Petavolt = OM.unit("Petavolt");
 
 	/** The exacoulomb is a unit of electric charge defined as 1.0e18 coulomb. */
-	public static Unit Exacoulomb = OM.Exacoulomb;
+	public static Unit Exacoulomb = OM.unit("Exacoulomb");
 
-	public static Unit Kilosiemens = OM.Kilosiemens;
+	public static Unit Kilosiemens = OM.unit("Kilosiemens");
 
 	/** The gigacoulomb is a unit of electric charge defined as 1.0e9 coulomb. */
-	public static Unit Gigacoulomb = OM.Gigacoulomb;
+	public static Unit Gigacoulomb = OM.unit("Gigacoulomb");
 
-	public static Unit Megaweber = OM.Megaweber;
+	public static Unit Megaweber = OM.unit("Megaweber");
 
 	/** The petacoulomb is a unit of electric charge defined as 1.0e15 coulomb. */
-	public static Unit Petacoulomb = OM.Petacoulomb;
+	public static Unit Petacoulomb = OM.unit("Petacoulomb");
 
-	public static Unit CoulombPerCubicmetre = OM.CoulombPerCubicmetre;
+	public static Unit CoulombPerCubicmetre = OM.unit("CoulombPerCubicmetre");
 
-	public static Unit Hectovolt = OM.Hectovolt;
+	public static Unit Hectovolt = OM.unit("Hectovolt");
 
-	public static Unit Kilovolt = OM.Kilovolt;
+	public static Unit Kilovolt = OM.unit("Kilovolt");
 
 	/** The teracoulomb is a unit of electric charge defined as 1.0e12 coulomb. */
-	public static Unit Teracoulomb = OM.Teracoulomb;
+	public static Unit Teracoulomb = OM.unit("Teracoulomb");
 
-	public static Unit Terasiemens = OM.Terasiemens;
+	public static Unit Terasiemens = OM.unit("Terasiemens");
 
-	public static Unit Petasiemens = OM.Petasiemens;
+	public static Unit Petasiemens = OM.unit("Petasiemens");
 
 	/** The coulomb is a unit of electric charge defined as ampere times second = farad times volt. */
-	public static Unit Coulomb = OM.Coulomb;
+	public static Unit Coulomb = OM.unit("Coulomb");
 
-	public static Unit AmperePerVolt = OM.AmperePerVolt;
+	public static Unit AmperePerVolt = OM.unit("AmperePerVolt");
 
 	/** The decifarad is a unit of capacitance defined as 1.0e-1 farad. */
-	public static Unit Decifarad = OM.Decifarad;
+	public static Unit Decifarad = OM.unit("Decifarad");
 
 	/** The siemens is a unit of electrical conductance defined as 1 divided by ohm = ampere divided by volt = coulomb squared times second divided by kilogram times square metre = ampere squared times second to the power 3 divided by kilogram times square metre. */
-	public static Unit Siemens = OM.Siemens;
+	public static Unit Siemens = OM.unit("Siemens");
 
 	/** The unit pole is a unit of magnetic flux defined as 1.256637e-7 weber. */
-	public static Unit UnitPole = OM.UnitPole;
+	public static Unit UnitPole = OM.unit("UnitPole");
 
-	public static Unit Centitesla = OM.Centitesla;
+	public static Unit Centitesla = OM.unit("Centitesla");
 
 	/** The decaampere is a unit of electric current defined as 1.0e1 ampere. */
-	public static Unit Decaampere = OM.Decaampere;
+	public static Unit Decaampere = OM.unit("Decaampere");
 
-	public static Unit CoulombMetre = OM.CoulombMetre;
+	public static Unit CoulombMetre = OM.unit("CoulombMetre");
 
 	/** The kilofarad is a unit of capacitance defined as 1.0e3 farad. */
-	public static Unit Kilofarad = OM.Kilofarad;
+	public static Unit Kilofarad = OM.unit("Kilofarad");
 
 	/** The statweber is a unit of magnetic flux defined as 2.9979e2 weber. */
-	public static Unit Statweber = OM.Statweber;
+	public static Unit Statweber = OM.unit("Statweber");
 
-	public static Unit Petaweber = OM.Petaweber;
+	public static Unit Petaweber = OM.unit("Petaweber");
 
 	/** The hectocoulomb is a unit of electric charge defined as 1.0e2 coulomb. */
-	public static Unit Hectocoulomb = OM.Hectocoulomb;
+	public static Unit Hectocoulomb = OM.unit("Hectocoulomb");
 
-	public static Unit Femtovolt = OM.Femtovolt;
+	public static Unit Femtovolt = OM.unit("Femtovolt");
 
-	public static Unit Hectosiemens = OM.Hectosiemens;
+	public static Unit Hectosiemens = OM.unit("Hectosiemens");
 
-	public static Unit Centiweber = OM.Centiweber;
+	public static Unit Centiweber = OM.unit("Centiweber");
 
-	public static Unit Nanovolt = OM.Nanovolt;
+	public static Unit Nanovolt = OM.unit("Nanovolt");
 
 	/** The picoampere is a unit of electric current defined as 1.0e-12 ampere. */
-	public static Unit Picoampere = OM.Picoampere;
+	public static Unit Picoampere = OM.unit("Picoampere");
 
 	/** The debye is a unit of electric dipole moment defined as 3.33564e-30 coulomb metre. */
-	public static Unit Debye = OM.Debye;
+	public static Unit Debye = OM.unit("Debye");
 
-	public static Unit Milliweber = OM.Milliweber;
+	public static Unit Milliweber = OM.unit("Milliweber");
 
 	/** The abvolt is a unit of electric potential defined as 1.0e-8 volt. */
-	public static Unit Abvolt = OM.Abvolt;
+	public static Unit Abvolt = OM.unit("Abvolt");
 
 	/** The gilbert is a unit of electric current defined as 7.957747e-1 ampere. */
-	public static Unit Gilbert = OM.Gilbert;
+	public static Unit Gilbert = OM.unit("Gilbert");
 
-	public static Unit WeberPerAmpere = OM.WeberPerAmpere;
+	public static Unit WeberPerAmpere = OM.unit("WeberPerAmpere");
 
 	/** The farad is a unit of capacitance defined as ampere times second divided by volt = coulomb divided by volt = coulomb squared divided by joule = coulomb squared divided by newton times metre = second squared times coulomb squared divided by square metre times kilogram = second to the power 4 times ampere squared divided by square metre times kilogram. */
-	public static Unit Farad = OM.Farad;
+	public static Unit Farad = OM.unit("Farad");
 
 	/** The gigahenry is a unit of inductance defined as 1.0e9 henry. */
-	public static Unit Gigahenry = OM.Gigahenry;
+	public static Unit Gigahenry = OM.unit("Gigahenry");
 
 	/** The statmho is a unit of electrical conductance defined as 1.112650e-12 siemens. */
-	public static Unit Statmho = OM.Statmho;
+	public static Unit Statmho = OM.unit("Statmho");
 
 	/** The hectoampere is a unit of electric current defined as 1.0e2 ampere. */
-	public static Unit Hectoampere = OM.Hectoampere;
+	public static Unit Hectoampere = OM.unit("Hectoampere");
 
-	public static Unit Teraohm = OM.Teraohm;
+	public static Unit Teraohm = OM.unit("Teraohm");
 
-	public static Unit Microvolt = OM.Microvolt;
+	public static Unit Microvolt = OM.unit("Microvolt");
 
-	public static Unit Milliohm = OM.Milliohm;
+	public static Unit Milliohm = OM.unit("Milliohm");
 
-	public static Unit Megavolt = OM.Megavolt;
+	public static Unit Megavolt = OM.unit("Megavolt");
 
 	/** The kilocoulomb is a unit of electric charge defined as 1.0e3 coulomb. */
-	public static Unit Kilocoulomb = OM.Kilocoulomb;
+	public static Unit Kilocoulomb = OM.unit("Kilocoulomb");
 
 	/** The hectofarad is a unit of capacitance defined as 1.0e2 farad. */
-	public static Unit Hectofarad = OM.Hectofarad;
+	public static Unit Hectofarad = OM.unit("Hectofarad");
 
-	public static Unit Centiohm = OM.Centiohm;
+	public static Unit Centiohm = OM.unit("Centiohm");
 
 	/** The attocoulomb is a unit of electric charge defined as 1.0e-18 coulomb. */
-	public static Unit Attocoulomb = OM.Attocoulomb;
+	public static Unit Attocoulomb = OM.unit("Attocoulomb");
 
 	/** The megaampere is a unit of electric current defined as 1.0e6 ampere. */
-	public static Unit Megaampere = OM.Megaampere;
+	public static Unit Megaampere = OM.unit("Megaampere");
 
-	public static Unit Exaohm = OM.Exaohm;
+	public static Unit Exaohm = OM.unit("Exaohm");
 
-	public static Unit SiemensPerMetre = OM.SiemensPerMetre;
+	public static Unit SiemensPerMetre = OM.unit("SiemensPerMetre");
 
-	public static Unit Hectoohm = OM.Hectoohm;
+	public static Unit Hectoohm = OM.unit("Hectoohm");
 
-	public static Unit Attosiemens = OM.Attosiemens;
+	public static Unit Attosiemens = OM.unit("Attosiemens");
 
-	public static Unit Picoohm = OM.Picoohm;
+	public static Unit Picoohm = OM.unit("Picoohm");
 
 	/** The maxwell is a unit of magnetic flux defined as 1.0e-8 weber. */
-	public static Unit Maxwell = OM.Maxwell;
+	public static Unit Maxwell = OM.unit("Maxwell");
 
 	/** The microampere is a unit of electric current defined as 1.0e-6 ampere. */
-	public static Unit Microampere = OM.Microampere;
+	public static Unit Microampere = OM.unit("Microampere");
 
-	public static Unit Millitesla = OM.Millitesla;
+	public static Unit Millitesla = OM.unit("Millitesla");
 
-	public static Unit Nanoohm = OM.Nanoohm;
+	public static Unit Nanoohm = OM.unit("Nanoohm");
 
 	/** The gigaampere is a unit of electric current defined as 1.0e9 ampere. */
-	public static Unit Gigaampere = OM.Gigaampere;
+	public static Unit Gigaampere = OM.unit("Gigaampere");
 
 	/** The abmho is a unit of electrical conductance defined as 1.0e9 siemens. */
-	public static Unit Abmho = OM.Abmho;
+	public static Unit Abmho = OM.unit("Abmho");
 
 	/** The gamma is a unit of magnetic flux density defined as 1.0e-9 tesla. */
-	public static Unit Gamma = OM.Gamma;
+	public static Unit Gamma = OM.unit("Gamma");
 
-	public static Unit Microsiemens = OM.Microsiemens;
+	public static Unit Microsiemens = OM.unit("Microsiemens");
 
-	public static Unit Millisiemens = OM.Millisiemens;
+	public static Unit Millisiemens = OM.unit("Millisiemens");
 
-	public static Unit Teraweber = OM.Teraweber;
+	public static Unit Teraweber = OM.unit("Teraweber");
 
 	/** The ohm is a unit of electrical resistance defined as volt divided by ampere = square metre times kilogram divided by second to the power 3 times ampere squared. */
-	public static Unit Ohm = OM.Ohm;
+	public static Unit Ohm = OM.unit("Ohm");
 
 	/** The centiampere is a unit of electric current defined as 1.0e-2 ampere. */
-	public static Unit Centiampere = OM.Centiampere;
+	public static Unit Centiampere = OM.unit("Centiampere");
 
-	public static Unit VoltSecondTime = OM.VoltSecondTime;
+	public static Unit VoltSecondTime = OM.unit("VoltSecondTime");
 
 	/** The attoampere is a unit of electric current defined as 1.0e-18 ampere. */
-	public static Unit Attoampere = OM.Attoampere;
+	public static Unit Attoampere = OM.unit("Attoampere");
 
 	/** The millicoulomb is a unit of electric charge defined as 1.0e-3 coulomb. */
-	public static Unit Millicoulomb = OM.Millicoulomb;
+	public static Unit Millicoulomb = OM.unit("Millicoulomb");
 
 	/** The milligauss is a unit of magnetic flux density defined as 1.0e-3 gauss. */
-	public static Unit Milligauss = OM.Milligauss;
+	public static Unit Milligauss = OM.unit("Milligauss");
 
 	/** The petafarad is a unit of capacitance defined as 1.0e15 farad. */
-	public static Unit Petafarad = OM.Petafarad;
+	public static Unit Petafarad = OM.unit("Petafarad");
 
 	/** The nanohenry is a unit of inductance defined as 1.0e-9 henry. */
-	public static Unit Nanohenry = OM.Nanohenry;
+	public static Unit Nanohenry = OM.unit("Nanohenry");
 
-	public static Unit OhmMetre = OM.OhmMetre;
+	public static Unit OhmMetre = OM.unit("OhmMetre");
 
 	/** Ampere per metre is a unit of magnetic field defined as ampere divided by metre. */
-	public static Unit AmperePerMetre = OM.AmperePerMetre;
+	public static Unit AmperePerMetre = OM.unit("AmperePerMetre");
 
-	public static Unit Kilohm = OM.Kilohm;
+	public static Unit Kilohm = OM.unit("Kilohm");
 
-	public static Unit Decaohm = OM.Decaohm;
+	public static Unit Decaohm = OM.unit("Decaohm");
 
 	/** The statampere is a unit of electric current defined as 3.335641e-10 ampere. */
-	public static Unit Statampere = OM.Statampere;
+	public static Unit Statampere = OM.unit("Statampere");
 
 	/** The megahenry is a unit of inductance defined as 1.0e6 henry. */
-	public static Unit Megahenry = OM.Megahenry;
+	public static Unit Megahenry = OM.unit("Megahenry");
 
-	public static Unit Centivolt = OM.Centivolt;
+	public static Unit Centivolt = OM.unit("Centivolt");
 
 	/** The teraampere is a unit of electric current defined as 1.0e12 ampere. */
-	public static Unit Teraampere = OM.Teraampere;
+	public static Unit Teraampere = OM.unit("Teraampere");
 
-	public static Unit CoulombPerSquareMetre = OM.CoulombPerSquareMetre;
+	public static Unit CoulombPerSquareMetre = OM.unit("CoulombPerSquareMetre");
 
 	/** The decahenry is a unit of inductance defined as 1.0e1 henry. */
-	public static Unit Decahenry = OM.Decahenry;
+	public static Unit Decahenry = OM.unit("Decahenry");
 
-	public static Unit Picovolt = OM.Picovolt;
+	public static Unit Picovolt = OM.unit("Picovolt");
 
-	public static Unit Attovolt = OM.Attovolt;
+	public static Unit Attovolt = OM.unit("Attovolt");
 
-	public static Unit Picosiemens = OM.Picosiemens;
+	public static Unit Picosiemens = OM.unit("Picosiemens");
 
 	/** The femtofarad is a unit of capacitance defined as 1.0e-15 farad. */
-	public static Unit Femtofarad = OM.Femtofarad;
+	public static Unit Femtofarad = OM.unit("Femtofarad");
 
-	public static Unit VoltPerMetre = OM.VoltPerMetre;
+	public static Unit VoltPerMetre = OM.unit("VoltPerMetre");
 
-	public static Unit Decasiemens = OM.Decasiemens;
+	public static Unit Decasiemens = OM.unit("Decasiemens");
 
 	/** The femtohenry is a unit of inductance defined as 1.0e-15 henry. */
-	public static Unit Femtohenry = OM.Femtohenry;
+	public static Unit Femtohenry = OM.unit("Femtohenry");
 
 	/** The gigafarad is a unit of capacitance defined as 1.0e9 farad. */
-	public static Unit Gigafarad = OM.Gigafarad;
+	public static Unit Gigafarad = OM.unit("Gigafarad");
 
-	public static Unit VoltPerAmpere = OM.VoltPerAmpere;
+	public static Unit VoltPerAmpere = OM.unit("VoltPerAmpere");
 
-	public static Unit Hectotesla = OM.Hectotesla;
+	public static Unit Hectotesla = OM.unit("Hectotesla");
 
-	public static Unit FaradPerMetre = OM.FaradPerMetre;
+	public static Unit FaradPerMetre = OM.unit("FaradPerMetre");
 
-	public static Unit Decisiemens = OM.Decisiemens;
+	public static Unit Decisiemens = OM.unit("Decisiemens");
 
-	public static Unit Centisiemens = OM.Centisiemens;
+	public static Unit Centisiemens = OM.unit("Centisiemens");
 
 	/** The kilohenry is a unit of inductance defined as 1.0e3 henry. */
-	public static Unit Kilohenry = OM.Kilohenry;
+	public static Unit Kilohenry = OM.unit("Kilohenry");
 
 	/** The petahenry is a unit of inductance defined as 1.0e15 henry. */
-	public static Unit Petahenry = OM.Petahenry;
+	public static Unit Petahenry = OM.unit("Petahenry");
 
 	/** The milliampere is a unit of electric current defined as 1.0e-3 ampere. */
-	public static Unit Milliampere = OM.Milliampere;
+	public static Unit Milliampere = OM.unit("Milliampere");
 
-	public static Unit Petaohm = OM.Petaohm;
+	public static Unit Petaohm = OM.unit("Petaohm");
 
-	public static Unit SecondTimeAmpere = OM.SecondTimeAmpere;
+	public static Unit SecondTimeAmpere = OM.unit("SecondTimeAmpere");
 
-	public static Unit Hectoweber = OM.Hectoweber;
+	public static Unit Hectoweber = OM.unit("Hectoweber");
 
 	/** The kiloampere is a unit of electric current defined as 1.0e3 ampere. */
-	public static Unit Kiloampere = OM.Kiloampere;
+	public static Unit Kiloampere = OM.unit("Kiloampere");
 
-	public static Unit NewtonPerCoulomb = OM.NewtonPerCoulomb;
+	public static Unit NewtonPerCoulomb = OM.unit("NewtonPerCoulomb");
 
 	/** The faraday is a unit of electric charge defined as 9.648531e4 coulomb. */
-	public static Unit Faraday = OM.Faraday;
+	public static Unit Faraday = OM.unit("Faraday");
 
 }
\ No newline at end of file
@@ -30,91 +30,91 @@ import nl.wur.fbr.om.prefixes.*;
 public class FluidMechanics {
 
 	/** The centimetre of mercury is a unit of pressure defined as 1.0e-2 metre of mercury. */
-	public static Unit CentimetreOfMercury = OM.CentimetreOfMercury;
+	public static Unit CentimetreOfMercury = OM.unit("CentimetreOfMercury");
 
-	public static Unit Centiradian = OM.Centiradian;
+	public static Unit Centiradian = OM.unit("Centiradian");
 
-	public static Unit Nanoradian = OM.Nanoradian;
+	public static Unit Nanoradian = OM.unit("Nanoradian");
 
 	/** The millimetre of mercury is a unit of pressure defined as 1.0e-3 metre of mercury. */
-	public static Unit MillimetreOfMercury = OM.MillimetreOfMercury;
+	public static Unit MillimetreOfMercury = OM.unit("MillimetreOfMercury");
 
-	public static Unit Hectopascal = OM.Hectopascal;
+	public static Unit Hectopascal = OM.unit("Hectopascal");
 
 	/** The decibar is a unit of pressure defined as 1.0e-1 bar. */
-	public static Unit Decibar = OM.Decibar;
+	public static Unit Decibar = OM.unit("Decibar");
 
 	/** The technical atmosphere is a unit of pressure defined as 9.80665e4 pascal. */
-	public static Unit AtmosphereTechnical = OM.AtmosphereTechnical;
+	public static Unit AtmosphereTechnical = OM.unit("AtmosphereTechnical");
 
-	public static Unit Microradian = OM.Microradian;
+	public static Unit Microradian = OM.unit("Microradian");
 
-	public static Unit Milliradian = OM.Milliradian;
+	public static Unit Milliradian = OM.unit("Milliradian");
 
-	public static Unit Petapascal = OM.Petapascal;
+	public static Unit Petapascal = OM.unit("Petapascal");
 
-	public static Unit Nanopascal = OM.Nanopascal;
+	public static Unit Nanopascal = OM.unit("Nanopascal");
 
 	/** The metre of mercury is a unit of pressure defined as 133 322 pascal. */
-	public static Unit MetreOfMercury = OM.MetreOfMercury;
+	public static Unit MetreOfMercury = OM.unit("MetreOfMercury");
 
 	/** The millibar is a unit of pressure defined as 1.0e-3 bar. */
-	public static Unit Millibar = OM.Millibar;
+	public static Unit Millibar = OM.unit("Millibar");
 
-	public static Unit Centipascal = OM.Centipascal;
+	public static Unit Centipascal = OM.unit("Centipascal");
 
-	public static Unit Attopascal = OM.Attopascal;
+	public static Unit Attopascal = OM.unit("Attopascal");
 
-	public static Unit Decapascal = OM.Decapascal;
+	public static Unit Decapascal = OM.unit("Decapascal");
 
-	public static Unit Femtoradian = OM.Femtoradian;
+	public static Unit Femtoradian = OM.unit("Femtoradian");
 
-	public static Unit Decipascal = OM.Decipascal;
+	public static Unit Decipascal = OM.unit("Decipascal");
 
 	/** The pascal is a unit of pressure and stress defined as newton divided by square metre = joule divided by cubic metre = kilogram divided by metre second squared. */
-	public static Unit Pascal = OM.Pascal;
+	public static Unit Pascal = OM.unit("Pascal");
 
-	public static Unit Picoradian = OM.Picoradian;
+	public static Unit Picoradian = OM.unit("Picoradian");
 
-	public static Unit KilogramSecondTimeToThePower2ReciprocalMetre = OM.KilogramSecondTimeToThePower2ReciprocalMetre;
+	public static Unit KilogramSecondTimeToThePower2ReciprocalMetre = OM.unit("KilogramSecondTimeToThePower2ReciprocalMetre");
 
-	public static Unit NewtonPerSquareMetre = OM.NewtonPerSquareMetre;
+	public static Unit NewtonPerSquareMetre = OM.unit("NewtonPerSquareMetre");
 
-	public static Unit Megapascal = OM.Megapascal;
+	public static Unit Megapascal = OM.unit("Megapascal");
 
-	public static Unit Picopascal = OM.Picopascal;
+	public static Unit Picopascal = OM.unit("Picopascal");
 
-	public static Unit Terapascal = OM.Terapascal;
+	public static Unit Terapascal = OM.unit("Terapascal");
 
 	/** The barye is a unit of pressure defined as 0.1 pascal. */
-	public static Unit Barye = OM.Barye;
+	public static Unit Barye = OM.unit("Barye");
 
 	/** The bar is a unit of pressure defined as 100 000 pascal. */
-	public static Unit Bar = OM.Bar;
+	public static Unit Bar = OM.unit("Bar");
 
-	public static Unit Micropascal = OM.Micropascal;
+	public static Unit Micropascal = OM.unit("Micropascal");
 
 	/** The standard atmosphere is a unit of pressure defined as 1.01325e5 pascal. */
-	public static Unit AtmosphereStandard = OM.AtmosphereStandard;
+	public static Unit AtmosphereStandard = OM.unit("AtmosphereStandard");
 
-	public static Unit Femtopascal = OM.Femtopascal;
+	public static Unit Femtopascal = OM.unit("Femtopascal");
 
-	public static Unit Gigapascal = OM.Gigapascal;
+	public static Unit Gigapascal = OM.unit("Gigapascal");
 
-	public static Unit Millipascal = OM.Millipascal;
+	public static Unit Millipascal = OM.unit("Millipascal");
 
-	public static Unit Deciradian = OM.Deciradian;
+	public static Unit Deciradian = OM.unit("Deciradian");
 
-	public static Unit Exapascal = OM.Exapascal;
+	public static Unit Exapascal = OM.unit("Exapascal");
 
 	/** The torr is a unit of pressure defined as 1.333224e2 pascal. */
-	public static Unit Torr = OM.Torr;
+	public static Unit Torr = OM.unit("Torr");
 
-	public static Unit Attoradian = OM.Attoradian;
+	public static Unit Attoradian = OM.unit("Attoradian");
 
 	/** The microbar is a unit of pressure defined as 1.0e-6 bar. */
-	public static Unit Microbar = OM.Microbar;
+	public static Unit Microbar = OM.unit("Microbar");
 
-	public static Unit Kilopascal = OM.Kilopascal;
+	public static Unit Kilopascal = OM.unit("Kilopascal");
 
 }
\ No newline at end of file
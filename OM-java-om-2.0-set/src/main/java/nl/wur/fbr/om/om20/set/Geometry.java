@@ -30,400 +30,400 @@ import nl.wur.fbr.om.prefixes.*;
 public class Geometry {
 
 	/** The light year is a unit of length defined as 9.46073e15 metre. */
-	public static Unit LightYear = OM.LightYear;
+	public static Unit LightYear = OM.unit("LightYear");
 
-	public static Unit CubicKilometre = OM.CubicKilometre;
+	public static Unit CubicKilometre = OM.unit("CubicKilometre");
 
 	/** The US gill is a unit of volume defined as 1.182941e-4 cubic metre. */
-	public static Unit GillUS = OM.GillUS;
+	public static Unit GillUS = OM.unit("GillUS");
 
-	public static Unit Nanoradian = OM.Nanoradian;
+	public static Unit Nanoradian = OM.unit("Nanoradian");
 
-	public static Unit CubicNanometre = OM.CubicNanometre;
+	public static Unit CubicNanometre = OM.unit("CubicNanometre");
 
 	/** The terametre is a unit of length defined as 1.0e12 metre. */
-	public static Unit Terametre = OM.Terametre;
+	public static Unit Terametre = OM.unit("Terametre");
 
-	public static Unit CubicMicrometre = OM.CubicMicrometre;
+	public static Unit CubicMicrometre = OM.unit("CubicMicrometre");
 
 	/** The nanometre is a unit of length defined as 1.0e-9 metre. */
-	public static Unit Nanometre = OM.Nanometre;
+	public static Unit Nanometre = OM.unit("Nanometre");
 
 	/** The kilometre is a unit of length defined as 1.0e3 metre. */
-	public static Unit Kilometre = OM.Kilometre;
+	public static Unit Kilometre = OM.unit("Kilometre");
 
 	/** The US dry pint is a unit of volume defined as 5.506105e-4 cubic metre. */
-	public static Unit DryPintUS = OM.DryPintUS;
+	public static Unit DryPintUS = OM.unit("DryPintUS");
 
 	/** The second (angle) is a unit of angle defined as 4.848137e-6 radian. */
-	public static Unit SecondAngle = OM.SecondAngle;
+	public static Unit SecondAngle = OM.unit("SecondAngle");
 
-	public static Unit Megalitre = OM.Megalitre;
+	public static Unit Megalitre = OM.unit("Megalitre");
 
-	public static Unit CubicTerametre = OM.CubicTerametre;
+	public static Unit CubicTerametre = OM.unit("CubicTerametre");
 
-	public static Unit Nanolitre = OM.Nanolitre;
+	public static Unit Nanolitre = OM.unit("Nanolitre");
 
-	public static Unit Attosteradian = OM.Attosteradian;
+	public static Unit Attosteradian = OM.unit("Attosteradian");
 
 	/** The micron is a unit of length defined as 1.0e-6 metre. */
-	public static Unit Micron = OM.Micron;
+	public static Unit Micron = OM.unit("Micron");
 
 	/** The peck is a unit of volume defined as 8.809768e-3 cubic metre. */
-	public static Unit Peck = OM.Peck;
+	public static Unit Peck = OM.unit("Peck");
 
-	public static Unit Decalitre = OM.Decalitre;
+	public static Unit Decalitre = OM.unit("Decalitre");
 
-	public static Unit SquareFemtometre = OM.SquareFemtometre;
+	public static Unit SquareFemtometre = OM.unit("SquareFemtometre");
 
 	/** The centiare is a unit of area defined as 1.0e-2 are. */
-	public static Unit Centiare = OM.Centiare;
+	public static Unit Centiare = OM.unit("Centiare");
 
 	/** The statute mile is a unit of length defined as 1.609344e3 metre. */
-	public static Unit MileStatute = OM.MileStatute;
+	public static Unit MileStatute = OM.unit("MileStatute");
 
 	/** The tablespoon is a unit of volume defined as 1.478676e-5 cubic metre. */
-	public static Unit Tablespoon = OM.Tablespoon;
+	public static Unit Tablespoon = OM.unit("Tablespoon");
 
 	/** The cup is a unit of volume defined as 2.365882e-4 cubic metre. */
-	public static Unit Cup = OM.Cup;
+	public static Unit Cup = OM.unit("Cup");
 
 	/** The parsec is a unit of length defined as 3.08567802e16 metre. */
-	public static Unit Parsec = OM.Parsec;
+	public static Unit Parsec = OM.unit("Parsec");
 
-	public static Unit SquarePicometre = OM.SquarePicometre;
+	public static Unit SquarePicometre = OM.unit("SquarePicometre");
 
-	public static Unit CubicDecametre = OM.CubicDecametre;
+	public static Unit CubicDecametre = OM.unit("CubicDecametre");
 
 	/** The US survey mile is a unit of length defined as 1.609347e3 metre. */
-	public static Unit MileUSSurvey = OM.MileUSSurvey;
+	public static Unit MileUSSurvey = OM.unit("MileUSSurvey");
 
 	/** The degree is a unit of angle defined as 1.745329e-2 radian. */
-	public static Unit Degree = OM.Degree;
+	public static Unit Degree = OM.unit("Degree");
 
 	/** The millimetre is a unit of length defined as 1.0e-3 metre. */
-	public static Unit Millimetre = OM.Millimetre;
+	public static Unit Millimetre = OM.unit("Millimetre");
 
 	/** The US fluid ounce is a unit of volume defined as 2.957353e-5 cubic metre. */
-	public static Unit FluidOunceUS = OM.FluidOunceUS;
+	public static Unit FluidOunceUS = OM.unit("FluidOunceUS");
 
-	public static Unit CubicKiloparsec = OM.CubicKiloparsec;
+	public static Unit CubicKiloparsec = OM.unit("CubicKiloparsec");
 
-	public static Unit SquareGigametre = OM.SquareGigametre;
+	public static Unit SquareGigametre = OM.unit("SquareGigametre");
 
-	public static Unit SquareCentimetre = OM.SquareCentimetre;
+	public static Unit SquareCentimetre = OM.unit("SquareCentimetre");
 
 	/** The radian is a unit of angle defined as the angle subtended at the center of a circle by an arc that is equal in length to the radius of the circle. */
-	public static Unit Radian = OM.Radian;
+	public static Unit Radian = OM.unit("Radian");
 
-	public static Unit CubicDecimetre = OM.CubicDecimetre;
+	public static Unit CubicDecimetre = OM.unit("CubicDecimetre");
 
-	public static Unit SquareMicrometre = OM.SquareMicrometre;
+	public static Unit SquareMicrometre = OM.unit("SquareMicrometre");
 
 	/** The are is a unit of area defined as 100 square metre. */
-	public static Unit Are = OM.Are;
+	public static Unit Are = OM.unit("Are");
 
 	/** The desserspoon is a unit of volume defined as 2 teaspoon. */
-	public static Unit Dessertspoon = OM.Dessertspoon;
+	public static Unit Dessertspoon = OM.unit("Dessertspoon");
 
-	public static Unit CubicMegametre = OM.CubicMegametre;
+	public static Unit CubicMegametre = OM.unit("CubicMegametre");
 
 	/** The steradian is a unit of solid angle defined as the solid angle subtended at the center of a sphere by a portion of the surface of the sphere that has an area equal to the square of the radius of the sphere. */
-	public static Unit Steradian = OM.Steradian;
+	public static Unit Steradian = OM.unit("Steradian");
 
-	public static Unit Attoradian = OM.Attoradian;
+	public static Unit Attoradian = OM.unit("Attoradian");
 
-	public static Unit Petalitre = OM.Petalitre;
+	public static Unit Petalitre = OM.unit("Petalitre");
 
 	/** The ångström is a unit of length defined as 1.0e-10 metre. The unit is often used for wavelengths of electromagnetic radiation or to express the sizes of atoms and molecules. */
-	public static Unit Angstrom = OM.Angstrom;
+	public static Unit Angstrom = OM.unit("Angstrom");
 
-	public static Unit SquarePetametre = OM.SquarePetametre;
+	public static Unit SquarePetametre = OM.unit("SquarePetametre");
 
-	public static Unit Kilolitre = OM.Kilolitre;
+	public static Unit Kilolitre = OM.unit("Kilolitre");
 
 	/** The imperial fluid ounce is a unit of volume defined as 2.841306e-5 cubic metre. */
-	public static Unit FluidOunceImperial = OM.FluidOunceImperial;
+	public static Unit FluidOunceImperial = OM.unit("FluidOunceImperial");
 
-	public static Unit Decisteradian = OM.Decisteradian;
+	public static Unit Decisteradian = OM.unit("Decisteradian");
 
 	/** The chain is a unit of length defined as 2.011684e1 metre. */
-	public static Unit Chain = OM.Chain;
+	public static Unit Chain = OM.unit("Chain");
 
 	/** The imperial gallon is a unit of volume defined as 4.54609e-3 cubic metre. */
-	public static Unit GallonImperial = OM.GallonImperial;
+	public static Unit GallonImperial = OM.unit("GallonImperial");
 
 	/** The fermi is a unit of length defined as 1.0e-15 metre. */
-	public static Unit Fermi = OM.Fermi;
+	public static Unit Fermi = OM.unit("Fermi");
 
-	public static Unit SquareAttometre = OM.SquareAttometre;
+	public static Unit SquareAttometre = OM.unit("SquareAttometre");
 
-	public static Unit CubicPetametre = OM.CubicPetametre;
+	public static Unit CubicPetametre = OM.unit("CubicPetametre");
 
 	/** The inch is a unit of length defined as 2.54e-2 metre. */
-	public static Unit Inch = OM.Inch;
+	public static Unit Inch = OM.unit("Inch");
 
 	/** The millisecond (angle) is a unit of length defined as 1.0e-3 second (angle). Used in astronomy (measurements of positions of stars, galaxies, etc.) to represent the error. */
-	public static Unit MillisecondAngle = OM.MillisecondAngle;
+	public static Unit MillisecondAngle = OM.unit("MillisecondAngle");
 
 	/** The furlong is a unit of length defined as 201.168 metre. */
-	public static Unit Furlong = OM.Furlong;
+	public static Unit Furlong = OM.unit("Furlong");
 
 	/** The petametre is a unit of length defined as 1.0e15 metre. */
-	public static Unit Petametre = OM.Petametre;
+	public static Unit Petametre = OM.unit("Petametre");
 
-	public static Unit Microradian = OM.Microradian;
+	public static Unit Microradian = OM.unit("Microradian");
 
-	public static Unit Milliradian = OM.Milliradian;
+	public static Unit Milliradian = OM.unit("Milliradian");
 
 	/** The imperial gill is a unit of volume defined as 1.420653e-4 cubic metre. */
-	public static Unit GillImperial = OM.GillImperial;
+	public static Unit GillImperial = OM.unit("GillImperial");
 
 	/** The minute (angle) is a unit of angle defined as 2.908882e-4 radian. */
-	public static Unit MinuteAngle = OM.MinuteAngle;
+	public static Unit MinuteAngle = OM.unit("MinuteAngle");
 
-	public static Unit CubicCentimetre = OM.CubicCentimetre;
+	public static Unit CubicCentimetre = OM.unit("CubicCentimetre");
 
-	public static Unit Hectolitre = OM.Hectolitre;
+	public static Unit Hectolitre = OM.unit("Hectolitre");
 
-	public static Unit Femtoradian = OM.Femtoradian;
+	public static Unit Femtoradian = OM.unit("Femtoradian");
 
 	/** The ATA point is a unit of length defined as 0.3514598e-3 metre. */
-	public static Unit PointATA = OM.PointATA;
+	public static Unit PointATA = OM.unit("PointATA");
 
-	public static Unit Picoradian = OM.Picoradian;
+	public static Unit Picoradian = OM.unit("Picoradian");
 
-	public static Unit SquareMillimetre = OM.SquareMillimetre;
+	public static Unit SquareMillimetre = OM.unit("SquareMillimetre");
 
-	public static Unit Microsteradian = OM.Microsteradian;
+	public static Unit Microsteradian = OM.unit("Microsteradian");
 
-	public static Unit SquareTerametre = OM.SquareTerametre;
+	public static Unit SquareTerametre = OM.unit("SquareTerametre");
 
-	public static Unit Picosteradian = OM.Picosteradian;
+	public static Unit Picosteradian = OM.unit("Picosteradian");
 
 	/** The Postscript pica is a unit of length defined as 12 point (Postscript). */
-	public static Unit PicaPostscript = OM.PicaPostscript;
+	public static Unit PicaPostscript = OM.unit("PicaPostscript");
 
 	/** The hectometre is a unit of length defined as 1.0e2 metre. */
-	public static Unit Hectometre = OM.Hectometre;
+	public static Unit Hectometre = OM.unit("Hectometre");
 
 	/** The gon is a unit of angle defined as 1.570796e-2 radian. */
-	public static Unit Gon = OM.Gon;
+	public static Unit Gon = OM.unit("Gon");
 
 	/** The ATA pica is a unit of length defined as 12 point (ATA). */
-	public static Unit PicaATA = OM.PicaATA;
+	public static Unit PicaATA = OM.unit("PicaATA");
 
 	/** The acre foot is a unit of volume defined as 1.233489e3 cubic metre. */
-	public static Unit AcreFoot = OM.AcreFoot;
+	public static Unit AcreFoot = OM.unit("AcreFoot");
 
 	/** The US survey foot is a unit of length defined as 3.048006e-1 metre. */
-	public static Unit FootUSSurvey = OM.FootUSSurvey;
+	public static Unit FootUSSurvey = OM.unit("FootUSSurvey");
 
 	/** The nautical mile is a unit of length defined as 1852 metre. */
-	public static Unit NauticalMile = OM.NauticalMile;
+	public static Unit NauticalMile = OM.unit("NauticalMile");
 
 	/** The decametre is a unit of length defined as 1.0e1 metre. */
-	public static Unit Decametre = OM.Decametre;
+	public static Unit Decametre = OM.unit("Decametre");
 
 	/** The yard is a unit of length defined as 9.144e-1 metre. */
-	public static Unit Yard = OM.Yard;
+	public static Unit Yard = OM.unit("Yard");
 
 	/** Cubic metre is a unit of volume defined as the volume of a cube whose sides measure exactly one metre. */
-	public static Unit CubicMetre = OM.CubicMetre;
+	public static Unit CubicMetre = OM.unit("CubicMetre");
 
 	/** The megametre is a unit of length defined as 1.0e6 metre. */
-	public static Unit Megametre = OM.Megametre;
+	public static Unit Megametre = OM.unit("Megametre");
 
-	public static Unit SquareDecimetre = OM.SquareDecimetre;
+	public static Unit SquareDecimetre = OM.unit("SquareDecimetre");
 
 	/** The revolution is a unit of angle defined as 6.283185 radian. */
-	public static Unit Revolution = OM.Revolution;
+	public static Unit Revolution = OM.unit("Revolution");
 
 	/** The metre is a unit of length defined as the length of the path travelled by light in vacuum during a time interval of 1/299 792 458 of a second. */
-	public static Unit Metre = OM.Metre;
+	public static Unit Metre = OM.unit("Metre");
 
-	public static Unit CubicPicometre = OM.CubicPicometre;
+	public static Unit CubicPicometre = OM.unit("CubicPicometre");
 
-	public static Unit SquareExametre = OM.SquareExametre;
+	public static Unit SquareExametre = OM.unit("SquareExametre");
 
 	/** The hectare is a unit of area defined as 1.0e2 are. */
-	public static Unit Hectare = OM.Hectare;
+	public static Unit Hectare = OM.unit("Hectare");
 
 	/** The cicular mil is a unit of area defined as 5.067075e-10 square metre. */
-	public static Unit CircularMil = OM.CircularMil;
+	public static Unit CircularMil = OM.unit("CircularMil");
 
 	/** The picometre is a unit of length defined as 1.0e-12 metre. */
-	public static Unit Picometre = OM.Picometre;
+	public static Unit Picometre = OM.unit("Picometre");
 
 	/** The litre is a unit of volume defined as 1.0e-3 cubic metre. */
-	public static Unit Litre = OM.Litre;
+	public static Unit Litre = OM.unit("Litre");
 
 	/** The atronomical unit is a unit of length defined as 149 597 870 700 metre (IAU 2012 Resolution). */
-	public static Unit AstronomicalUnit = OM.AstronomicalUnit;
+	public static Unit AstronomicalUnit = OM.unit("AstronomicalUnit");
 
-	public static Unit Gigalitre = OM.Gigalitre;
+	public static Unit Gigalitre = OM.unit("Gigalitre");
 
-	public static Unit CubicHectometre = OM.CubicHectometre;
+	public static Unit CubicHectometre = OM.unit("CubicHectometre");
 
-	public static Unit Millisteradian = OM.Millisteradian;
+	public static Unit Millisteradian = OM.unit("Millisteradian");
 
-	public static Unit Femtolitre = OM.Femtolitre;
+	public static Unit Femtolitre = OM.unit("Femtolitre");
 
 	/** The attometre is a unit of length defined as 1.0e-18 metre. */
-	public static Unit Attometre = OM.Attometre;
+	public static Unit Attometre = OM.unit("Attometre");
 
-	public static Unit Centilitre = OM.Centilitre;
+	public static Unit Centilitre = OM.unit("Centilitre");
 
 	/** The Postscript point is a unit of length defined as 0.013888888888888888888888888888889 inch. */
-	public static Unit PointPostscript = OM.PointPostscript;
+	public static Unit PointPostscript = OM.unit("PointPostscript");
 
 	/** The US gallon is a unit of volume defined as 3.785412e-3 cubic metre. */
-	public static Unit GallonUS = OM.GallonUS;
+	public static Unit GallonUS = OM.unit("GallonUS");
 
-	public static Unit CubicGigametre = OM.CubicGigametre;
+	public static Unit CubicGigametre = OM.unit("CubicGigametre");
 
-	public static Unit Exalitre = OM.Exalitre;
+	public static Unit Exalitre = OM.unit("Exalitre");
 
 	/** The gigametre is a unit of length defined as 1.0e9 metre. */
-	public static Unit Gigametre = OM.Gigametre;
+	public static Unit Gigametre = OM.unit("Gigametre");
 
 	/** The cord is a unit of volume defined as 3.624556 cubic metre. */
-	public static Unit Cord = OM.Cord;
+	public static Unit Cord = OM.unit("Cord");
 
-	public static Unit SquareNanometre = OM.SquareNanometre;
+	public static Unit SquareNanometre = OM.unit("SquareNanometre");
 
 	/** Square metre is a unit of area defined as the area of a square whose sides measure exactly one metre. */
-	public static Unit SquareMetre = OM.SquareMetre;
+	public static Unit SquareMetre = OM.unit("SquareMetre");
 
 	/** The rod is a unit of length defined as 5.029210 metre. */
-	public static Unit Rod = OM.Rod;
+	public static Unit Rod = OM.unit("Rod");
 
 	/** The centimetre is a unit of length defined as 1.0e-2 metre. */
-	public static Unit Centimetre = OM.Centimetre;
+	public static Unit Centimetre = OM.unit("Centimetre");
 
 	/** The femtometre is a unit of length defined as 1.0e-15 metre. */
-	public static Unit Femtometre = OM.Femtometre;
+	public static Unit Femtometre = OM.unit("Femtometre");
 
 	/** The fathom is a unit of length defined as 1.828804 metre. */
-	public static Unit Fathom = OM.Fathom;
+	public static Unit Fathom = OM.unit("Fathom");
 
 	/** The US dry gallon is a unit of volume defined as 4.40488377086e-3 cubic metre. */
-	public static Unit DryGallonUS = OM.DryGallonUS;
+	public static Unit DryGallonUS = OM.unit("DryGallonUS");
 
 	/** The foot is a unit of foot defined as 3.048e-1 metre. */
-	public static Unit Foot = OM.Foot;
+	public static Unit Foot = OM.unit("Foot");
 
-	public static Unit CubicAttometre = OM.CubicAttometre;
+	public static Unit CubicAttometre = OM.unit("CubicAttometre");
 
 	/** The microsecond (angle) is a unit of length defined as 1.0e-6 second (angle). Used in astronomy (measurements of positions of stars, galaxies, etc.) to represent the error. */
-	public static Unit MicrosecondAngle = OM.MicrosecondAngle;
+	public static Unit MicrosecondAngle = OM.unit("MicrosecondAngle");
 
-	public static Unit Picolitre = OM.Picolitre;
+	public static Unit Picolitre = OM.unit("Picolitre");
 
 	/** The mil (length) is a unit of length defined as 2.54e-5 metre. */
-	public static Unit MilLength = OM.MilLength;
+	public static Unit MilLength = OM.unit("MilLength");
 
 	/** The exametre is a unit of length defined as 1.0e18 metre. */
-	public static Unit Exametre = OM.Exametre;
+	public static Unit Exametre = OM.unit("Exametre");
 
 	/** The megaparsec is a unit of length defined as 1.0e6 parsec. Gebruikt voor afstanden op de schaal van clusters. */
-	public static Unit Megaparsec = OM.Megaparsec;
+	public static Unit Megaparsec = OM.unit("Megaparsec");
 
-	public static Unit Microlitre = OM.Microlitre;
+	public static Unit Microlitre = OM.unit("Microlitre");
 
 	/** The micrometre is a unit of length defined as 1.0e-6 metre. */
-	public static Unit Micrometre = OM.Micrometre;
+	public static Unit Micrometre = OM.unit("Micrometre");
 
-	public static Unit Centisteradian = OM.Centisteradian;
+	public static Unit Centisteradian = OM.unit("Centisteradian");
 
 	/** The mil (angle) is a unit of angle defined as 9.817477e-4 radian. */
-	public static Unit MilAngle = OM.MilAngle;
+	public static Unit MilAngle = OM.unit("MilAngle");
 
-	public static Unit Deciradian = OM.Deciradian;
+	public static Unit Deciradian = OM.unit("Deciradian");
 
-	public static Unit SquareKilometre = OM.SquareKilometre;
+	public static Unit SquareKilometre = OM.unit("SquareKilometre");
 
 	/** The decimetre is a unit of length defined as 1.0e-1 metre. */
-	public static Unit Decimetre = OM.Decimetre;
+	public static Unit Decimetre = OM.unit("Decimetre");
 
-	public static Unit Centiradian = OM.Centiradian;
+	public static Unit Centiradian = OM.unit("Centiradian");
 
 	/** The barn is a unit of area defined as 1.0e-28 square metre. */
-	public static Unit Barn = OM.Barn;
+	public static Unit Barn = OM.unit("Barn");
 
-	public static Unit CubicParsec = OM.CubicParsec;
+	public static Unit CubicParsec = OM.unit("CubicParsec");
 
-	public static Unit CubicMillimetre = OM.CubicMillimetre;
+	public static Unit CubicMillimetre = OM.unit("CubicMillimetre");
 
-	public static Unit DegreeSquared = OM.DegreeSquared;
+	public static Unit DegreeSquared = OM.unit("DegreeSquared");
 
-	public static Unit CubicFemtometre = OM.CubicFemtometre;
+	public static Unit CubicFemtometre = OM.unit("CubicFemtometre");
 
 	/** The TeX point is a unit of length defined as 0.01383700013837000138370001383 inch. */
-	public static Unit PointTeX = OM.PointTeX;
+	public static Unit PointTeX = OM.unit("PointTeX");
 
 	/** The US liquid pint is a unit of volume defined as 4.731765e-4 cubic metre. */
-	public static Unit LiquidPintUS = OM.LiquidPintUS;
+	public static Unit LiquidPintUS = OM.unit("LiquidPintUS");
 
-	public static Unit SquareDecametre = OM.SquareDecametre;
+	public static Unit SquareDecametre = OM.unit("SquareDecametre");
 
 	/** The Didot point is a unit of length defined as 0.3759e-3 metre. */
-	public static Unit PointDidot = OM.PointDidot;
+	public static Unit PointDidot = OM.unit("PointDidot");
 
 	/** The imperial quart is a unit of volume defined as 1.1365 litre. */
-	public static Unit QuartImperial = OM.QuartImperial;
+	public static Unit QuartImperial = OM.unit("QuartImperial");
 
-	public static Unit Femtosteradian = OM.Femtosteradian;
+	public static Unit Femtosteradian = OM.unit("Femtosteradian");
 
-	public static Unit Millilitre = OM.Millilitre;
+	public static Unit Millilitre = OM.unit("Millilitre");
 
 	/** The teaspoon is a unit of volume defined as 4.928922e-6 cubic metre. */
-	public static Unit Teaspoon = OM.Teaspoon;
+	public static Unit Teaspoon = OM.unit("Teaspoon");
 
 	/** The US dry quart is a unit of volume defined as 1.101221e-3 cubic metre. */
-	public static Unit DryQuartUS = OM.DryQuartUS;
+	public static Unit DryQuartUS = OM.unit("DryQuartUS");
 
 	/** The bushel is a unit of volume defined as 3.523907e-2 cubic metre. */
-	public static Unit Bushel = OM.Bushel;
+	public static Unit Bushel = OM.unit("Bushel");
 
 	/** The acre is a unit of area defined as 4.046873e3 square metre. */
-	public static Unit Acre = OM.Acre;
+	public static Unit Acre = OM.unit("Acre");
 
 	/** The barrel is a unit of volume defined as 1.589873e-1 cubic metre. */
-	public static Unit Barrel = OM.Barrel;
+	public static Unit Barrel = OM.unit("Barrel");
 
-	public static Unit SquareHectometre = OM.SquareHectometre;
+	public static Unit SquareHectometre = OM.unit("SquareHectometre");
 
 	/** The cicero is a unit of length defined as 12 point (Didot). */
-	public static Unit Cicero = OM.Cicero;
+	public static Unit Cicero = OM.unit("Cicero");
 
 	/** The TeX pica is a unit of length defined as 12 point (TeX). */
-	public static Unit PicaTeX = OM.PicaTeX;
+	public static Unit PicaTeX = OM.unit("PicaTeX");
 
-	public static Unit SquareMegametre = OM.SquareMegametre;
+	public static Unit SquareMegametre = OM.unit("SquareMegametre");
 
-	public static Unit Teralitre = OM.Teralitre;
+	public static Unit Teralitre = OM.unit("Teralitre");
 
 	/** The stere is a unit of volume defined as cubic metre. */
-	public static Unit Stere = OM.Stere;
+	public static Unit Stere = OM.unit("Stere");
 
-	public static Unit Nanosteradian = OM.Nanosteradian;
+	public static Unit Nanosteradian = OM.unit("Nanosteradian");
 
-	public static Unit Attolitre = OM.Attolitre;
+	public static Unit Attolitre = OM.unit("Attolitre");
 
 	/** The register ton is a unit of volume defined as 2.831658 cubic metre. */
-	public static Unit TonRegister = OM.TonRegister;
+	public static Unit TonRegister = OM.unit("TonRegister");
 
 	/** The US liquid quart is a unit of volume defined as 9.463529e-4 cubic metre. */
-	public static Unit LiquidQuartUS = OM.LiquidQuartUS;
+	public static Unit LiquidQuartUS = OM.unit("LiquidQuartUS");
 
 	/** The pint is a unit of volume defined as 568.26125 millilitre. */
-	public static Unit PintImperial = OM.PintImperial;
+	public static Unit PintImperial = OM.unit("PintImperial");
 
-	public static Unit CubicExametre = OM.CubicExametre;
+	public static Unit CubicExametre = OM.unit("CubicExametre");
 
-	public static Unit MetrePerMetre = OM.MetrePerMetre;
+	public static Unit MetrePerMetre = OM.unit("MetrePerMetre");
 
-	public static Unit Decilitre = OM.Decilitre;
+	public static Unit Decilitre = OM.unit("Decilitre");
 
 }
\ No newline at end of file
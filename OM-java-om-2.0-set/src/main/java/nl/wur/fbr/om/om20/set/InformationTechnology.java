@@ -29,50 +29,50 @@ import nl.wur.fbr.om.prefixes.*;
  */
 public class InformationTechnology {
 
-	public static Unit Mebibit = OM.Mebibit;
+	public static Unit Mebibit = OM.unit("Mebibit");
 
 	/** The hartley is a unit of information capacity defined as 3.321928095 bit. */
-	public static Unit Hartley = OM.Hartley;
+	public static Unit Hartley = OM.unit("Hartley");
 
-	public static Unit Megabit = OM.Megabit;
+	public static Unit Megabit = OM.unit("Megabit");
 
-	public static Unit Kilobit = OM.Kilobit;
+	public static Unit Kilobit = OM.unit("Kilobit");
 
 	/** The bit is a unit of information capacity defined as the information capacity of one binary digit. */
-	public static Unit Bit = OM.Bit;
+	public static Unit Bit = OM.unit("Bit");
 
 	/** The shannon is a unit of information capacity defined as 1 bit. */
-	public static Unit Shannon = OM.Shannon;
+	public static Unit Shannon = OM.unit("Shannon");
 
-	public static Unit Tebibit = OM.Tebibit;
+	public static Unit Tebibit = OM.unit("Tebibit");
 
-	public static Unit Gigabit = OM.Gigabit;
+	public static Unit Gigabit = OM.unit("Gigabit");
 
-	public static Unit Pebibit = OM.Pebibit;
+	public static Unit Pebibit = OM.unit("Pebibit");
 
-	public static Unit Terabit = OM.Terabit;
+	public static Unit Terabit = OM.unit("Terabit");
 
-	public static Unit Zettabit = OM.Zettabit;
+	public static Unit Zettabit = OM.unit("Zettabit");
 
 	/** The byte is a unit of information capacity defined as 8 bit. */
-	public static Unit Byte = OM.Byte;
+	public static Unit Byte = OM.unit("Byte");
 
-	public static Unit Petabit = OM.Petabit;
+	public static Unit Petabit = OM.unit("Petabit");
 
-	public static Unit Exabit = OM.Exabit;
+	public static Unit Exabit = OM.unit("Exabit");
 
-	public static Unit Gibibit = OM.Gibibit;
+	public static Unit Gibibit = OM.unit("Gibibit");
 
-	public static Unit Exbibit = OM.Exbibit;
+	public static Unit Exbibit = OM.unit("Exbibit");
 
-	public static Unit Yobibit = OM.Yobibit;
+	public static Unit Yobibit = OM.unit("Yobibit");
 
-	public static Unit Zebibit = OM.Zebibit;
+	public static Unit Zebibit = OM.unit("Zebibit");
 
-	public static Unit Yottabit = OM.Yottabit;
+	public static Unit Yottabit = OM.unit("Yottabit");
 
-	public static Unit Kibibit = OM.Kibibit;
+	public static Unit Kibibit = OM.unit("Kibibit");
 
-	public static Unit BitPerSecondTime = OM.BitPerSecondTime;
+	public static Unit BitPerSecondTime = OM.unit("BitPerSecondTime");
 
 }
\ No newline at end of file
@@ -30,355 +30,355 @@ import nl.wur.fbr.om.prefixes.*;
 public class Mechanics {
 
 	/** Megametre per second is a unit of speed defined as megametre divided by second. */
-	public static Unit MegametrePerSecondTime = OM.MegametrePerSecondTime;
+	public static Unit MegametrePerSecondTime = OM.unit("MegametrePerSecondTime");
 
 	/** The attohertz is a unit of frequency defined as 1.0e-18 hertz. */
-	public static Unit Attohertz = OM.Attohertz;
+	public static Unit Attohertz = OM.unit("Attohertz");
 
-	public static Unit CentisecondTime = OM.CentisecondTime;
+	public static Unit CentisecondTime = OM.unit("CentisecondTime");
 
 	/** The femtohertz is a unit of frequency defined as 1.0e-15 hertz. */
-	public static Unit Femtohertz = OM.Femtohertz;
+	public static Unit Femtohertz = OM.unit("Femtohertz");
 
 	/** Gigametre per second is a unit of speed defined as gigametre divided by second. */
-	public static Unit GigametrePerSecondTime = OM.GigametrePerSecondTime;
+	public static Unit GigametrePerSecondTime = OM.unit("GigametrePerSecondTime");
 
 	/** Metre per femtosecond is a unit of speed defined as metre divided by femtosecond. */
-	public static Unit MetrePerFemtosecondTime = OM.MetrePerFemtosecondTime;
+	public static Unit MetrePerFemtosecondTime = OM.unit("MetrePerFemtosecondTime");
 
 	/** Metre per kilosecond is a unit of speed defined as metre divided by kilosecond. */
-	public static Unit MetrePerKilosecondTime = OM.MetrePerKilosecondTime;
+	public static Unit MetrePerKilosecondTime = OM.unit("MetrePerKilosecondTime");
 
 	/** Metre per attosecond squared is a unit of acceleration defined as metre divided by attosecond squared. */
-	public static Unit MetrePerAttosecondTimeSquared = OM.MetrePerAttosecondTimeSquared;
+	public static Unit MetrePerAttosecondTimeSquared = OM.unit("MetrePerAttosecondTimeSquared");
 
 	/** Metre per microsecond squared is a unit of acceleration defined as metre divided by microsecond squared. */
-	public static Unit MetrePerMicrosecondTimeSquared = OM.MetrePerMicrosecondTimeSquared;
+	public static Unit MetrePerMicrosecondTimeSquared = OM.unit("MetrePerMicrosecondTimeSquared");
 
 	/** The gigahertz is a unit of frequency defined as 1.0e9 hertz. */
-	public static Unit Gigahertz = OM.Gigahertz;
+	public static Unit Gigahertz = OM.unit("Gigahertz");
 
-	public static Unit GigasecondTime = OM.GigasecondTime;
+	public static Unit GigasecondTime = OM.unit("GigasecondTime");
 
 	/** The hertz is a unit of frequency defined as 1 divided by second. */
-	public static Unit Hertz = OM.Hertz;
+	public static Unit Hertz = OM.unit("Hertz");
 
-	public static Unit RadianPerSecondTimeSquared = OM.RadianPerSecondTimeSquared;
+	public static Unit RadianPerSecondTimeSquared = OM.unit("RadianPerSecondTimeSquared");
 
 	/** The exahertz is a unit of frequency defined as 1.0e18 hertz. */
-	public static Unit Exahertz = OM.Exahertz;
+	public static Unit Exahertz = OM.unit("Exahertz");
 
 	/** The microhertz is a unit of frequency defined as 1.0e-6 hertz. */
-	public static Unit Microhertz = OM.Microhertz;
+	public static Unit Microhertz = OM.unit("Microhertz");
 
 	/** Metre per megasecond squared is a unit of acceleration defined as metre divided by megasecond squared. */
-	public static Unit MetrePerMegasecondTimeSquared = OM.MetrePerMegasecondTimeSquared;
+	public static Unit MetrePerMegasecondTimeSquared = OM.unit("MetrePerMegasecondTimeSquared");
 
 	/** The shake is a unit of time defined as 1.0e-8 second. */
-	public static Unit Shake = OM.Shake;
+	public static Unit Shake = OM.unit("Shake");
 
 	/** Metre per terasecond is a unit of speed defined as metre divided by terasecond. */
-	public static Unit MetrePerTerasecondTime = OM.MetrePerTerasecondTime;
+	public static Unit MetrePerTerasecondTime = OM.unit("MetrePerTerasecondTime");
 
 	/** The hour is a unit of time defined as 3600 second. */
-	public static Unit Hour = OM.Hour;
+	public static Unit Hour = OM.unit("Hour");
 
 	/** Metre per day is a unit of speed defined as metre divided by day. */
-	public static Unit MetrePerDay = OM.MetrePerDay;
+	public static Unit MetrePerDay = OM.unit("MetrePerDay");
 
 	/** Millimetre per second is a unit of speed defined as millimetre divided by second. */
-	public static Unit MillimetrePerSecondTime = OM.MillimetrePerSecondTime;
+	public static Unit MillimetrePerSecondTime = OM.unit("MillimetrePerSecondTime");
 
 	/** Decimetre per second is a unit of speed defined as decimetre divided by second. */
-	public static Unit DecimetrePerSecondTime = OM.DecimetrePerSecondTime;
+	public static Unit DecimetrePerSecondTime = OM.unit("DecimetrePerSecondTime");
 
 	/** The picohertz is a unit of frequency defined as 1.0e-12 hertz. */
-	public static Unit Picohertz = OM.Picohertz;
+	public static Unit Picohertz = OM.unit("Picohertz");
 
-	public static Unit MicrosecondTime = OM.MicrosecondTime;
+	public static Unit MicrosecondTime = OM.unit("MicrosecondTime");
 
 	/** Metre per hectosecond squared is a unit of acceleration defined as metre divided by hectosecond squared. */
-	public static Unit MetrePerHectosecondTimeSquared = OM.MetrePerHectosecondTimeSquared;
+	public static Unit MetrePerHectosecondTimeSquared = OM.unit("MetrePerHectosecondTimeSquared");
 
 	/** Metre per hectosecond is a unit of speed defined as metre divided by hectosecond. */
-	public static Unit MetrePerHectosecondTime = OM.MetrePerHectosecondTime;
+	public static Unit MetrePerHectosecondTime = OM.unit("MetrePerHectosecondTime");
 
 	/** Petametre per second squared is a unit of acceleration defined as petametre divided by second squared. */
-	public static Unit PetametrePerSecondTimeSquared = OM.PetametrePerSecondTimeSquared;
+	public static Unit PetametrePerSecondTimeSquared = OM.unit("PetametrePerSecondTimeSquared");
 
 	/** Millimetre per day is a unit of speed defined as millimetre divided by day. */
-	public static Unit MillimetrePerDay = OM.MillimetrePerDay;
+	public static Unit MillimetrePerDay = OM.unit("MillimetrePerDay");
 
 	/** The kayser is a unit of wavenumber defined as 100 reciprocal metre. */
-	public static Unit Kayser = OM.Kayser;
+	public static Unit Kayser = OM.unit("Kayser");
 
-	public static Unit DecisecondTime = OM.DecisecondTime;
+	public static Unit DecisecondTime = OM.unit("DecisecondTime");
 
 	/** The centihertz is a unit of frequency defined as 1.0e-2 hertz. */
-	public static Unit Centihertz = OM.Centihertz;
+	public static Unit Centihertz = OM.unit("Centihertz");
 
 	/** Decametre per second squared is a unit of acceleration defined as decametre divided by second squared. */
-	public static Unit DecametrePerSecondTimeSquared = OM.DecametrePerSecondTimeSquared;
+	public static Unit DecametrePerSecondTimeSquared = OM.unit("DecametrePerSecondTimeSquared");
 
 	/** Metre per kilosecond squared is a unit of acceleration defined as metre divided by kilosecond squared. */
-	public static Unit MetrePerKilosecondTimeSquared = OM.MetrePerKilosecondTimeSquared;
+	public static Unit MetrePerKilosecondTimeSquared = OM.unit("MetrePerKilosecondTimeSquared");
 
 	/** Petametre per second is a unit of speed defined as petametre divided by second. */
-	public static Unit PetametrePerSecondTime = OM.PetametrePerSecondTime;
+	public static Unit PetametrePerSecondTime = OM.unit("PetametrePerSecondTime");
 
 	/** Reciprocal metre is a unit of wavenumber defined as 1 divided by metre. */
-	public static Unit ReciprocalMetre = OM.ReciprocalMetre;
+	public static Unit ReciprocalMetre = OM.unit("ReciprocalMetre");
 
 	/** Metre per petasecond is a unit of speed defined as metre divided by petasecond. */
-	public static Unit MetrePerPetasecondTime = OM.MetrePerPetasecondTime;
+	public static Unit MetrePerPetasecondTime = OM.unit("MetrePerPetasecondTime");
 
 	/** Hectometre per second is a unit of speed defined as hectometre divided by second. */
-	public static Unit HectometrePerSecondTime = OM.HectometrePerSecondTime;
+	public static Unit HectometrePerSecondTime = OM.unit("HectometrePerSecondTime");
 
-	public static Unit PetasecondTime = OM.PetasecondTime;
+	public static Unit PetasecondTime = OM.unit("PetasecondTime");
 
-	public static Unit PicosecondTime = OM.PicosecondTime;
+	public static Unit PicosecondTime = OM.unit("PicosecondTime");
 
 	/** Millimetre per hour is a unit of speed defined as millimetre divided by hour. */
-	public static Unit MillimetrePerHour = OM.MillimetrePerHour;
+	public static Unit MillimetrePerHour = OM.unit("MillimetrePerHour");
 
 	/** Nautical mile per hour is a unit of speed defined as nautical mile divided by hour. */
-	public static Unit NauticalMilePerHour = OM.NauticalMilePerHour;
+	public static Unit NauticalMilePerHour = OM.unit("NauticalMilePerHour");
 
 	/** Metre per picosecond is a unit of speed defined as metre divided by picosecond. */
-	public static Unit MetrePerPicosecondTime = OM.MetrePerPicosecondTime;
+	public static Unit MetrePerPicosecondTime = OM.unit("MetrePerPicosecondTime");
 
-	public static Unit ExasecondTime = OM.ExasecondTime;
+	public static Unit ExasecondTime = OM.unit("ExasecondTime");
 
 	/** Terametre per second is a unit of speed defined as terametre divided by second. */
-	public static Unit TerametrePerSecondTime = OM.TerametrePerSecondTime;
+	public static Unit TerametrePerSecondTime = OM.unit("TerametrePerSecondTime");
 
 	/** Megametre per second squared is a unit of acceleration defined as megametre divided by second squared. */
-	public static Unit MegametrePerSecondTimeSquared = OM.MegametrePerSecondTimeSquared;
+	public static Unit MegametrePerSecondTimeSquared = OM.unit("MegametrePerSecondTimeSquared");
 
 	/** Millimetre per second squared is a unit of acceleration defined as millimetre divided by second squared. */
-	public static Unit MillimetrePerSecondTimeSquared = OM.MillimetrePerSecondTimeSquared;
+	public static Unit MillimetrePerSecondTimeSquared = OM.unit("MillimetrePerSecondTimeSquared");
 
 	/** Hectometre per second squared is a unit of acceleration defined as hectometre divided by second squared. */
-	public static Unit HectometrePerSecondTimeSquared = OM.HectometrePerSecondTimeSquared;
+	public static Unit HectometrePerSecondTimeSquared = OM.unit("HectometrePerSecondTimeSquared");
 
-	public static Unit DecasecondTime = OM.DecasecondTime;
+	public static Unit DecasecondTime = OM.unit("DecasecondTime");
 
-	public static Unit ReciprocalSecondTime = OM.ReciprocalSecondTime;
+	public static Unit ReciprocalSecondTime = OM.unit("ReciprocalSecondTime");
 
 	/** Metre per attosecond is a unit of speed defined as metre divided by attosecond. */
-	public static Unit MetrePerAttosecondTime = OM.MetrePerAttosecondTime;
+	public static Unit MetrePerAttosecondTime = OM.unit("MetrePerAttosecondTime");
 
 	/** Metre per decasecond squared is a unit of acceleration defined as metre divided by decasecond squared. */
-	public static Unit MetrePerDecasecondTimeSquared = OM.MetrePerDecasecondTimeSquared;
+	public static Unit MetrePerDecasecondTimeSquared = OM.unit("MetrePerDecasecondTimeSquared");
 
 	/** Metre per gigasecond squared is a unit of acceleration defined as metre divided by gigasecond squared. */
-	public static Unit MetrePerGigasecondTimeSquared = OM.MetrePerGigasecondTimeSquared;
+	public static Unit MetrePerGigasecondTimeSquared = OM.unit("MetrePerGigasecondTimeSquared");
 
 	/** The nanohertz is a unit of frequency defined as 1.0e-9 hertz. */
-	public static Unit Nanohertz = OM.Nanohertz;
+	public static Unit Nanohertz = OM.unit("Nanohertz");
 
 	/** Metre per decasecond is a unit of speed defined as metre divided by decasecond. */
-	public static Unit MetrePerDecasecondTime = OM.MetrePerDecasecondTime;
+	public static Unit MetrePerDecasecondTime = OM.unit("MetrePerDecasecondTime");
 
 	/** Metre per terasecond squared is a unit of acceleration defined as metre divided by terasecond squared. */
-	public static Unit MetrePerTerasecondTimeSquared = OM.MetrePerTerasecondTimeSquared;
+	public static Unit MetrePerTerasecondTimeSquared = OM.unit("MetrePerTerasecondTimeSquared");
 
 	/** Micrometre per second is a unit of speed defined as micrometre divided by second. */
-	public static Unit MicrometrePerSecondTime = OM.MicrometrePerSecondTime;
+	public static Unit MicrometrePerSecondTime = OM.unit("MicrometrePerSecondTime");
 
-	public static Unit AttosecondTime = OM.AttosecondTime;
+	public static Unit AttosecondTime = OM.unit("AttosecondTime");
 
 	/** The megahertz is a unit of frequency defined as 1.0e6 hertz. */
-	public static Unit Megahertz = OM.Megahertz;
+	public static Unit Megahertz = OM.unit("Megahertz");
 
 	/** The year is a unit of time defined as 3.1536e7 second. */
-	public static Unit Year = OM.Year;
+	public static Unit Year = OM.unit("Year");
 
 	/** Metre per millisecond is a unit of speed defined as metre divided by millisecond. */
-	public static Unit MetrePerMillisecondTime = OM.MetrePerMillisecondTime;
+	public static Unit MetrePerMillisecondTime = OM.unit("MetrePerMillisecondTime");
 
 	/** Nanometre per second squared is a unit of acceleration defined as nanometre divided by second squared. */
-	public static Unit NanometrePerSecondTimeSquared = OM.NanometrePerSecondTimeSquared;
+	public static Unit NanometrePerSecondTimeSquared = OM.unit("NanometrePerSecondTimeSquared");
 
 	/** Metre per picosecond squared is a unit of acceleration defined as metre divided by picosecond squared. */
-	public static Unit MetrePerPicosecondTimeSquared = OM.MetrePerPicosecondTimeSquared;
+	public static Unit MetrePerPicosecondTimeSquared = OM.unit("MetrePerPicosecondTimeSquared");
 
 	/** The hectohertz is a unit of frequency defined as 1.0e2 hertz. */
-	public static Unit Hectohertz = OM.Hectohertz;
+	public static Unit Hectohertz = OM.unit("Hectohertz");
 
 	/** Metre per centisecond squared is a unit of acceleration defined as metre divided by centisecond squared. */
-	public static Unit MetrePerCentisecondTimeSquared = OM.MetrePerCentisecondTimeSquared;
+	public static Unit MetrePerCentisecondTimeSquared = OM.unit("MetrePerCentisecondTimeSquared");
 
 	/** Decimetre per second squared is a unit of acceleration defined as decimetre divided by second squared. */
-	public static Unit DecimetrePerSecondTimeSquared = OM.DecimetrePerSecondTimeSquared;
+	public static Unit DecimetrePerSecondTimeSquared = OM.unit("DecimetrePerSecondTimeSquared");
 
 	/** The day is a unit of time defined as 86400 second. */
-	public static Unit Day = OM.Day;
+	public static Unit Day = OM.unit("Day");
 
 	/** The decahertz is a unit of frequency defined as 1.0e1 hertz. */
-	public static Unit Decahertz = OM.Decahertz;
+	public static Unit Decahertz = OM.unit("Decahertz");
 
 	/** Kilometre per second squared is a unit of acceleration defined as kilometre divided by second squared. */
-	public static Unit KilometrePerSecondTimeSquared = OM.KilometrePerSecondTimeSquared;
+	public static Unit KilometrePerSecondTimeSquared = OM.unit("KilometrePerSecondTimeSquared");
 
 	/** Metre per second is a unit of speed defined as metre divided by second. */
-	public static Unit MetrePerSecondTime = OM.MetrePerSecondTime;
+	public static Unit MetrePerSecondTime = OM.unit("MetrePerSecondTime");
 
 	/** The knot is a unit of speed defined as nautical mile per hour. */
-	public static Unit Knot = OM.Knot;
+	public static Unit Knot = OM.unit("Knot");
 
 	/** Micrometre per second squared is a unit of acceleration defined as micrometre divided by second squared. */
-	public static Unit MicrometrePerSecondTimeSquared = OM.MicrometrePerSecondTimeSquared;
+	public static Unit MicrometrePerSecondTimeSquared = OM.unit("MicrometrePerSecondTimeSquared");
 
-	public static Unit MillisecondTime = OM.MillisecondTime;
+	public static Unit MillisecondTime = OM.unit("MillisecondTime");
 
 	/** The millihertz is a unit of frequency defined as 1.0e-3 hertz. */
-	public static Unit Millihertz = OM.Millihertz;
+	public static Unit Millihertz = OM.unit("Millihertz");
 
 	/** Centimetre per second squared is a unit of acceleration defined as centimetre divided by second squared. */
-	public static Unit CentimetrePerSecondTimeSquared = OM.CentimetrePerSecondTimeSquared;
+	public static Unit CentimetrePerSecondTimeSquared = OM.unit("CentimetrePerSecondTimeSquared");
 
 	/** The second is a unit of time defined as the duration of 9 192 631 770 periods of the radiation corresponding to the transition between the two hyperfine levels of the ground state of the cesium 133 atom. */
-	public static Unit SecondTime = OM.SecondTime;
+	public static Unit SecondTime = OM.unit("SecondTime");
 
 	/** Metre per microsecond is a unit of speed defined as metre divided by microsecond. */
-	public static Unit MetrePerMicrosecondTime = OM.MetrePerMicrosecondTime;
+	public static Unit MetrePerMicrosecondTime = OM.unit("MetrePerMicrosecondTime");
 
 	/** Metre per exasecond is a unit of speed defined as metre divided by exasecond. */
-	public static Unit MetrePerExasecondTime = OM.MetrePerExasecondTime;
+	public static Unit MetrePerExasecondTime = OM.unit("MetrePerExasecondTime");
 
-	public static Unit HourSidereal = OM.HourSidereal;
+	public static Unit HourSidereal = OM.unit("HourSidereal");
 
 	/** The terahertz is a unit of frequency defined as 1.0e12 hertz. */
-	public static Unit Terahertz = OM.Terahertz;
+	public static Unit Terahertz = OM.unit("Terahertz");
 
 	/** Picometre per second squared is a unit of acceleration defined as picometre divided by second squared. */
-	public static Unit PicometrePerSecondTimeSquared = OM.PicometrePerSecondTimeSquared;
+	public static Unit PicometrePerSecondTimeSquared = OM.unit("PicometrePerSecondTimeSquared");
 
 	/** Femtometre per second squared is a unit of acceleration defined as femtometre divided by second squared. */
-	public static Unit FemtometrePerSecondTimeSquared = OM.FemtometrePerSecondTimeSquared;
+	public static Unit FemtometrePerSecondTimeSquared = OM.unit("FemtometrePerSecondTimeSquared");
 
 	/** Metre per decisecond is a unit of speed defined as metre divided by decisecond. */
-	public static Unit MetrePerDecisecondTime = OM.MetrePerDecisecondTime;
+	public static Unit MetrePerDecisecondTime = OM.unit("MetrePerDecisecondTime");
 
-	public static Unit TerasecondTime = OM.TerasecondTime;
+	public static Unit TerasecondTime = OM.unit("TerasecondTime");
 
 	/** The petahertz is a unit of frequency defined as 1.0e15 hertz. */
-	public static Unit Petahertz = OM.Petahertz;
+	public static Unit Petahertz = OM.unit("Petahertz");
 
 	/** Metre per exasecond squared is a unit of acceleration defined as metre divided by exasecond squared. */
-	public static Unit MetrePerExasecondTimeSquared = OM.MetrePerExasecondTimeSquared;
+	public static Unit MetrePerExasecondTimeSquared = OM.unit("MetrePerExasecondTimeSquared");
 
 	/** Exametre per second squared is a unit of acceleration defined as exametre divided by second squared. */
-	public static Unit ExametrePerSecondTimeSquared = OM.ExametrePerSecondTimeSquared;
+	public static Unit ExametrePerSecondTimeSquared = OM.unit("ExametrePerSecondTimeSquared");
 
 	/** The kilohertz is a unit of frequency defined as 1.0e3 hertz. */
-	public static Unit Kilohertz = OM.Kilohertz;
+	public static Unit Kilohertz = OM.unit("Kilohertz");
 
 	/** Kilometre per second is a unit of speed defined as kilometre divided by second. */
-	public static Unit KilometrePerSecondTime = OM.KilometrePerSecondTime;
+	public static Unit KilometrePerSecondTime = OM.unit("KilometrePerSecondTime");
 
 	/** The sidereal minute is a unit of time defined as 5.983617e1 second. */
-	public static Unit MinuteSidereal = OM.MinuteSidereal;
+	public static Unit MinuteSidereal = OM.unit("MinuteSidereal");
 
-	public static Unit Gigayear = OM.Gigayear;
+	public static Unit Gigayear = OM.unit("Gigayear");
 
 	/** The sidereal second is a unit of time defined as 9.972696e-1 second. */
-	public static Unit SecondSidereal = OM.SecondSidereal;
+	public static Unit SecondSidereal = OM.unit("SecondSidereal");
 
 	/** The gal is a unit of acceleration defined as centimetre per second (time) squared. */
-	public static Unit Gal = OM.Gal;
+	public static Unit Gal = OM.unit("Gal");
 
-	public static Unit KilosecondTime = OM.KilosecondTime;
+	public static Unit KilosecondTime = OM.unit("KilosecondTime");
 
 	/** Femtometre per second is a unit of speed defined as femtometre divided by second. */
-	public static Unit FemtometrePerSecondTime = OM.FemtometrePerSecondTime;
+	public static Unit FemtometrePerSecondTime = OM.unit("FemtometrePerSecondTime");
 
 	/** Metre per gigasecond is a unit of speed defined as metre divided by gigasecond. */
-	public static Unit MetrePerGigasecondTime = OM.MetrePerGigasecondTime;
+	public static Unit MetrePerGigasecondTime = OM.unit("MetrePerGigasecondTime");
 
-	public static Unit FemtosecondTime = OM.FemtosecondTime;
+	public static Unit FemtosecondTime = OM.unit("FemtosecondTime");
 
-	public static Unit MegasecondTime = OM.MegasecondTime;
+	public static Unit MegasecondTime = OM.unit("MegasecondTime");
 
 	/** Attometre per second is a unit of speed defined as attometre divided by second. */
-	public static Unit AttometrePerSecondTime = OM.AttometrePerSecondTime;
+	public static Unit AttometrePerSecondTime = OM.unit("AttometrePerSecondTime");
 
 	/** Metre per nanosecond is a unit of speed defined as metre divided by nanosecond. */
-	public static Unit MetrePerNanosecondTime = OM.MetrePerNanosecondTime;
+	public static Unit MetrePerNanosecondTime = OM.unit("MetrePerNanosecondTime");
 
 	/** Gigametre per second squared is a unit of acceleration defined as gigametre divided by second squared. */
-	public static Unit GigametrePerSecondTimeSquared = OM.GigametrePerSecondTimeSquared;
+	public static Unit GigametrePerSecondTimeSquared = OM.unit("GigametrePerSecondTimeSquared");
 
 	/** Metre per femtosecond squared is a unit of acceleration defined as metre divided by femtosecond squared. */
-	public static Unit MetrePerFemtosecondTimeSquared = OM.MetrePerFemtosecondTimeSquared;
+	public static Unit MetrePerFemtosecondTimeSquared = OM.unit("MetrePerFemtosecondTimeSquared");
 
-	public static Unit HectosecondTime = OM.HectosecondTime;
+	public static Unit HectosecondTime = OM.unit("HectosecondTime");
 
-	public static Unit NanosecondTime = OM.NanosecondTime;
+	public static Unit NanosecondTime = OM.unit("NanosecondTime");
 
 	/** Metre per petasecond squared is a unit of acceleration defined as metre divided by petasecond squared. */
-	public static Unit MetrePerPetasecondTimeSquared = OM.MetrePerPetasecondTimeSquared;
+	public static Unit MetrePerPetasecondTimeSquared = OM.unit("MetrePerPetasecondTimeSquared");
 
 	/** The sidereal year is a unit of time defined as 3.155815e7 second. */
-	public static Unit YearSidereal = OM.YearSidereal;
+	public static Unit YearSidereal = OM.unit("YearSidereal");
 
 	/** The sidereal day is a unit of time defined as 8.616409e4 second. */
-	public static Unit DaySidereal = OM.DaySidereal;
+	public static Unit DaySidereal = OM.unit("DaySidereal");
 
 	/** Kilometre per hour is a unit of speed defined as kilometre divided by hour. */
-	public static Unit KilometrePerHour = OM.KilometrePerHour;
+	public static Unit KilometrePerHour = OM.unit("KilometrePerHour");
 
 	/** The decihertz is a unit of frequency defined as 1.0e-1 hertz. */
-	public static Unit Decihertz = OM.Decihertz;
+	public static Unit Decihertz = OM.unit("Decihertz");
 
 	/** Metre per nanosecond squared is a unit of acceleration defined as metre divided by nanosecond squared. */
-	public static Unit MetrePerNanosecondTimeSquared = OM.MetrePerNanosecondTimeSquared;
+	public static Unit MetrePerNanosecondTimeSquared = OM.unit("MetrePerNanosecondTimeSquared");
 
 	/** The tropical year is a unit of time defined as 3.155693e7 second. */
-	public static Unit YearTropical = OM.YearTropical;
+	public static Unit YearTropical = OM.unit("YearTropical");
 
 	/** Metre per megasecond is a unit of speed defined as metre divided by megasecond. */
-	public static Unit MetrePerMegasecondTime = OM.MetrePerMegasecondTime;
+	public static Unit MetrePerMegasecondTime = OM.unit("MetrePerMegasecondTime");
 
 	/** Terametre per second squared is a unit of acceleration defined as terametre divided by second squared. */
-	public static Unit TerametrePerSecondTimeSquared = OM.TerametrePerSecondTimeSquared;
+	public static Unit TerametrePerSecondTimeSquared = OM.unit("TerametrePerSecondTimeSquared");
 
 	/** Metre per decisecond squared is a unit of acceleration defined as metre divided by decisecond squared. */
-	public static Unit MetrePerDecisecondTimeSquared = OM.MetrePerDecisecondTimeSquared;
+	public static Unit MetrePerDecisecondTimeSquared = OM.unit("MetrePerDecisecondTimeSquared");
 
 	/** Attometre per second squared is a unit of acceleration defined as attometre divided by second squared. */
-	public static Unit AttometrePerSecondTimeSquared = OM.AttometrePerSecondTimeSquared;
+	public static Unit AttometrePerSecondTimeSquared = OM.unit("AttometrePerSecondTimeSquared");
 
 	/** Centimetre per second is a unit of speed defined as centimetre divided by second. */
-	public static Unit CentimetrePerSecondTime = OM.CentimetrePerSecondTime;
+	public static Unit CentimetrePerSecondTime = OM.unit("CentimetrePerSecondTime");
 
 	/** Decametre per second is a unit of speed defined as decametre divided by second. */
-	public static Unit DecametrePerSecondTime = OM.DecametrePerSecondTime;
+	public static Unit DecametrePerSecondTime = OM.unit("DecametrePerSecondTime");
 
 	/** Nanometre per second is a unit of speed defined as nanometre divided by second. */
-	public static Unit NanometrePerSecondTime = OM.NanometrePerSecondTime;
+	public static Unit NanometrePerSecondTime = OM.unit("NanometrePerSecondTime");
 
 	/** Centimetre per day is a unit of speed defined as centimetre divided by day. */
-	public static Unit CentimetrePerDay = OM.CentimetrePerDay;
+	public static Unit CentimetrePerDay = OM.unit("CentimetrePerDay");
 
 	/** Metre per millisecond squared is a unit of acceleration defined as metre divided by millisecond squared. */
-	public static Unit MetrePerMillisecondTimeSquared = OM.MetrePerMillisecondTimeSquared;
+	public static Unit MetrePerMillisecondTimeSquared = OM.unit("MetrePerMillisecondTimeSquared");
 
 	/** The minute (time) is a unit of time defined as 60 second. */
-	public static Unit MinuteTime = OM.MinuteTime;
+	public static Unit MinuteTime = OM.unit("MinuteTime");
 
 	/** Metre per second squared is a unit of acceleration defined as metre divided by second squared. */
-	public static Unit MetrePerSecondTimeSquared = OM.MetrePerSecondTimeSquared;
+	public static Unit MetrePerSecondTimeSquared = OM.unit("MetrePerSecondTimeSquared");
 
 	/** Metre per centisecond is a unit of speed defined as metre divided by centisecond. */
-	public static Unit MetrePerCentisecondTime = OM.MetrePerCentisecondTime;
+	public static Unit MetrePerCentisecondTime = OM.unit("MetrePerCentisecondTime");
 
 	/** Exametre per second is a unit of speed defined as exametre divided by second. */
-	public static Unit ExametrePerSecondTime = OM.ExametrePerSecondTime;
+	public static Unit ExametrePerSecondTime = OM.unit("ExametrePerSecondTime");
 
 	/** Picometre per second is a unit of speed defined as picometre divided by second. */
-	public static Unit PicometrePerSecondTime = OM.PicometrePerSecondTime;
+	public static Unit PicometrePerSecondTime = OM.unit("PicometrePerSecondTime");
 
 }
\ No newline at end of file
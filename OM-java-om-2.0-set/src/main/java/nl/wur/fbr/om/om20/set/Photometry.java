@@ -30,154 +30,154 @@ import nl.wur.fbr.om.prefixes.*;
 public class Photometry {
 
 	/** The millicandela is a unit of luminous intensity defined as 1.0e-3 candela. */
-	public static Unit Millicandela = OM.Millicandela;
+	public static Unit Millicandela = OM.unit("Millicandela");
 
 	/** The decicandela is a unit of luminous intensity defined as 1.0e-1 candela. */
-	public static Unit Decicandela = OM.Decicandela;
+	public static Unit Decicandela = OM.unit("Decicandela");
 
 	/** The kilocandela is a unit of luminous intensity defined as 1.0e3 candela. */
-	public static Unit Kilocandela = OM.Kilocandela;
+	public static Unit Kilocandela = OM.unit("Kilocandela");
 
 	/** The hectocandela is a unit of luminous intensity defined as 1.0e2 candela. */
-	public static Unit Hectocandela = OM.Hectocandela;
+	public static Unit Hectocandela = OM.unit("Hectocandela");
 
-	public static Unit Centilumen = OM.Centilumen;
+	public static Unit Centilumen = OM.unit("Centilumen");
 
-	public static Unit CandelaPerSquareCentimetre = OM.CandelaPerSquareCentimetre;
+	public static Unit CandelaPerSquareCentimetre = OM.unit("CandelaPerSquareCentimetre");
 
-	public static Unit Petalumen = OM.Petalumen;
+	public static Unit Petalumen = OM.unit("Petalumen");
 
-	public static Unit Attolumen = OM.Attolumen;
+	public static Unit Attolumen = OM.unit("Attolumen");
 
 	/** The petacandela is a unit of luminous intensity defined as 1.0e15 candela. */
-	public static Unit Petacandela = OM.Petacandela;
+	public static Unit Petacandela = OM.unit("Petacandela");
 
 	/** The gigacandela is a unit of luminous intensity defined as 1.0e9 candela. */
-	public static Unit Gigacandela = OM.Gigacandela;
+	public static Unit Gigacandela = OM.unit("Gigacandela");
 
 	/** The teracandela is a unit of luminous intensity defined as 1.0e12 candela. */
-	public static Unit Teracandela = OM.Teracandela;
+	public static Unit Teracandela = OM.unit("Teracandela");
 
-	public static Unit Decilumen = OM.Decilumen;
+	public static Unit Decilumen = OM.unit("Decilumen");
 
 	/** The exacandela is a unit of luminous intensity defined as 1.0e18 candela. */
-	public static Unit Exacandela = OM.Exacandela;
+	public static Unit Exacandela = OM.unit("Exacandela");
 
-	public static Unit Kilolux = OM.Kilolux;
+	public static Unit Kilolux = OM.unit("Kilolux");
 
 	/** The decacandela is a unit of luminous intensity defined as 1.0e1 candela. */
-	public static Unit Decacandela = OM.Decacandela;
+	public static Unit Decacandela = OM.unit("Decacandela");
 
 	/** The footcandle is a unit of illuminance defined as 1.076391e1 lux. */
-	public static Unit Footcandle = OM.Footcandle;
+	public static Unit Footcandle = OM.unit("Footcandle");
 
-	public static Unit Teralumen = OM.Teralumen;
+	public static Unit Teralumen = OM.unit("Teralumen");
 
 	/** The lambert is a unit of luminance defined as 3.183099e3 candela per square metre. */
-	public static Unit Lambert = OM.Lambert;
+	public static Unit Lambert = OM.unit("Lambert");
 
-	public static Unit CandelaSteradian = OM.CandelaSteradian;
+	public static Unit CandelaSteradian = OM.unit("CandelaSteradian");
 
 	/** The centicandela is a unit of luminous intensity defined as 1.0e-2 candela. */
-	public static Unit Centicandela = OM.Centicandela;
+	public static Unit Centicandela = OM.unit("Centicandela");
 
-	public static Unit Exalumen = OM.Exalumen;
+	public static Unit Exalumen = OM.unit("Exalumen");
 
 	/** The stilb is a unit of luminance defined as 1.0e4 candela per square metre. */
-	public static Unit Stilb = OM.Stilb;
+	public static Unit Stilb = OM.unit("Stilb");
 
-	public static Unit Attolux = OM.Attolux;
+	public static Unit Attolux = OM.unit("Attolux");
 
-	public static Unit Femtolumen = OM.Femtolumen;
+	public static Unit Femtolumen = OM.unit("Femtolumen");
 
-	public static Unit Hectolux = OM.Hectolux;
+	public static Unit Hectolux = OM.unit("Hectolux");
 
-	public static Unit LumenPerWatt = OM.LumenPerWatt;
+	public static Unit LumenPerWatt = OM.unit("LumenPerWatt");
 
-	public static Unit Millilumen = OM.Millilumen;
+	public static Unit Millilumen = OM.unit("Millilumen");
 
-	public static Unit Centilux = OM.Centilux;
+	public static Unit Centilux = OM.unit("Centilux");
 
 	/** Candela per square metre is a unit of luminance defined as candela divided by square metre. */
-	public static Unit CandelaPerSquareMetre = OM.CandelaPerSquareMetre;
+	public static Unit CandelaPerSquareMetre = OM.unit("CandelaPerSquareMetre");
 
-	public static Unit Decilux = OM.Decilux;
+	public static Unit Decilux = OM.unit("Decilux");
 
-	public static Unit Hectolumen = OM.Hectolumen;
+	public static Unit Hectolumen = OM.unit("Hectolumen");
 
-	public static Unit Megalux = OM.Megalux;
+	public static Unit Megalux = OM.unit("Megalux");
 
-	public static Unit Petalux = OM.Petalux;
+	public static Unit Petalux = OM.unit("Petalux");
 
-	public static Unit Picolumen = OM.Picolumen;
+	public static Unit Picolumen = OM.unit("Picolumen");
 
-	public static Unit Decalux = OM.Decalux;
+	public static Unit Decalux = OM.unit("Decalux");
 
-	public static Unit Gigalux = OM.Gigalux;
+	public static Unit Gigalux = OM.unit("Gigalux");
 
-	public static Unit Millilux = OM.Millilux;
+	public static Unit Millilux = OM.unit("Millilux");
 
-	public static Unit Nanolux = OM.Nanolux;
+	public static Unit Nanolux = OM.unit("Nanolux");
 
-	public static Unit Teralux = OM.Teralux;
+	public static Unit Teralux = OM.unit("Teralux");
 
-	public static Unit Kilolumen = OM.Kilolumen;
+	public static Unit Kilolumen = OM.unit("Kilolumen");
 
 	/** The phot is a unit of illuminance defined as 1.0e4 lux. */
-	public static Unit Phot = OM.Phot;
+	public static Unit Phot = OM.unit("Phot");
 
-	public static Unit Microlumen = OM.Microlumen;
+	public static Unit Microlumen = OM.unit("Microlumen");
 
 	/** The picocandela is a unit of luminous intensity defined as 1.0e-12 candela. */
-	public static Unit Picocandela = OM.Picocandela;
+	public static Unit Picocandela = OM.unit("Picocandela");
 
 	/** The megacandela is a unit of luminous intensity defined as 1.0e6 candela. */
-	public static Unit Megacandela = OM.Megacandela;
+	public static Unit Megacandela = OM.unit("Megacandela");
 
 	/** The candela is a unit of luminous intensity defined as the luminous intensity, in a given direction, of a source that emits monochromatic radiation of frequency 540e12 hertz and that has a radiant intensity in that direction of 1/683 watt per steradian. */
-	public static Unit Candela = OM.Candela;
+	public static Unit Candela = OM.unit("Candela");
 
 	/** The footlambert is a unit of luminance defined as 3.426259 candela per square metre. */
-	public static Unit Footlambert = OM.Footlambert;
+	public static Unit Footlambert = OM.unit("Footlambert");
 
-	public static Unit Exalux = OM.Exalux;
+	public static Unit Exalux = OM.unit("Exalux");
 
-	public static Unit Megalumen = OM.Megalumen;
+	public static Unit Megalumen = OM.unit("Megalumen");
 
 	/** The lumen is a unit of luminous flux defined as candela times steradian = lux times square metre. */
-	public static Unit Lumen = OM.Lumen;
+	public static Unit Lumen = OM.unit("Lumen");
 
 	/** The microcandela is a unit of luminous intensity defined as 1.0e-6 candela. */
-	public static Unit Microcandela = OM.Microcandela;
+	public static Unit Microcandela = OM.unit("Microcandela");
 
 	/** The nanocandela is a unit of luminous intensity defined as 1.0e-9 candela. */
-	public static Unit Nanocandela = OM.Nanocandela;
+	public static Unit Nanocandela = OM.unit("Nanocandela");
 
-	public static Unit Picolux = OM.Picolux;
+	public static Unit Picolux = OM.unit("Picolux");
 
 	/** The lux is a unit of illuminance defined as lumen divided by square metre = candela times steradian divided by square metre. */
-	public static Unit Lux = OM.Lux;
+	public static Unit Lux = OM.unit("Lux");
 
-	public static Unit LuxSecondTime = OM.LuxSecondTime;
+	public static Unit LuxSecondTime = OM.unit("LuxSecondTime");
 
 	/** The attocandela is a unit of luminous intensity defined as 1.0e-18 candela. */
-	public static Unit Attocandela = OM.Attocandela;
+	public static Unit Attocandela = OM.unit("Attocandela");
 
-	public static Unit Nanolumen = OM.Nanolumen;
+	public static Unit Nanolumen = OM.unit("Nanolumen");
 
-	public static Unit Decalumen = OM.Decalumen;
+	public static Unit Decalumen = OM.unit("Decalumen");
 
-	public static Unit LumenSecondTime = OM.LumenSecondTime;
+	public static Unit LumenSecondTime = OM.unit("LumenSecondTime");
 
-	public static Unit Gigalumen = OM.Gigalumen;
+	public static Unit Gigalumen = OM.unit("Gigalumen");
 
-	public static Unit Femtolux = OM.Femtolux;
+	public static Unit Femtolux = OM.unit("Femtolux");
 
-	public static Unit Microlux = OM.Microlux;
+	public static Unit Microlux = OM.unit("Microlux");
 
-	public static Unit LumenPerSquareMetre = OM.LumenPerSquareMetre;
+	public static Unit LumenPerSquareMetre = OM.unit("LumenPerSquareMetre");
 
 	/** The femtocandela is a unit of luminous intensity defined as 1.0e-15 candela. */
-	public static Unit Femtocandela = OM.Femtocandela;
+	public static Unit Femtocandela = OM.unit("Femtocandela");
 
 }
\ No newline at end of file
@@ -29,157 +29,157 @@ import nl.wur.fbr.om.prefixes.*;
  */
 public class RadiometryAndRadiobiology {
 
-	public static Unit Decasievert = OM.Decasievert;
+	public static Unit Decasievert = OM.unit("Decasievert");
 
 	/** The petagray is a unit of absorbed dose defined as 1.0e15 gray. */
-	public static Unit Petagray = OM.Petagray;
+	public static Unit Petagray = OM.unit("Petagray");
 
 	/** The exagray is a unit of absorbed dose defined as 1.0e18 gray. */
-	public static Unit Exagray = OM.Exagray;
+	public static Unit Exagray = OM.unit("Exagray");
 
-	public static Unit Picosievert = OM.Picosievert;
+	public static Unit Picosievert = OM.unit("Picosievert");
 
 	/** The picobecquerel is a unit of activity defined as 1.0e-12 becquerel. */
-	public static Unit Picobecquerel = OM.Picobecquerel;
+	public static Unit Picobecquerel = OM.unit("Picobecquerel");
 
 	/** The centigray is a unit of absorbed dose defined as 1.0e-2 gray. */
-	public static Unit Centigray = OM.Centigray;
+	public static Unit Centigray = OM.unit("Centigray");
 
 	/** The gigagray is a unit of absorbed dose defined as 1.0e9 gray. */
-	public static Unit Gigagray = OM.Gigagray;
+	public static Unit Gigagray = OM.unit("Gigagray");
 
 	/** The femtobecquerel is a unit of activity defined as 1.0e-15 becquerel. */
-	public static Unit Femtobecquerel = OM.Femtobecquerel;
+	public static Unit Femtobecquerel = OM.unit("Femtobecquerel");
 
 	/** The hectogray is a unit of absorbed dose defined as 1.0e2 gray. */
-	public static Unit Hectogray = OM.Hectogray;
+	public static Unit Hectogray = OM.unit("Hectogray");
 
 	/** The kilogray is a unit of absorbed dose defined as 1.0e3 gray. */
-	public static Unit Kilogray = OM.Kilogray;
+	public static Unit Kilogray = OM.unit("Kilogray");
 
-	public static Unit CoulombPerKilogram = OM.CoulombPerKilogram;
+	public static Unit CoulombPerKilogram = OM.unit("CoulombPerKilogram");
 
 	/** The femtogray is a unit of absorbed dose defined as 1.0e-15 gray. */
-	public static Unit Femtogray = OM.Femtogray;
+	public static Unit Femtogray = OM.unit("Femtogray");
 
 	/** The picogray is a unit of absorbed dose defined as 1.0e-12 gray. */
-	public static Unit Picogray = OM.Picogray;
+	public static Unit Picogray = OM.unit("Picogray");
 
 	/** The gray is a unit of absorbed dose defined as joule divided by kilogram = square metre divided by second squared. */
-	public static Unit Gray = OM.Gray;
+	public static Unit Gray = OM.unit("Gray");
 
 	/** The decigray is a unit of absorbed dose defined as 1.0e-1 gray. */
-	public static Unit Decigray = OM.Decigray;
+	public static Unit Decigray = OM.unit("Decigray");
 
 	/** The attobecquerel is a unit of activity defined as 1.0e-18 becquerel. */
-	public static Unit Attobecquerel = OM.Attobecquerel;
+	public static Unit Attobecquerel = OM.unit("Attobecquerel");
 
 	/** The decibecquerel is a unit of activity defined as 1.0e-1 becquerel. */
-	public static Unit Decibecquerel = OM.Decibecquerel;
+	public static Unit Decibecquerel = OM.unit("Decibecquerel");
 
 	/** The teragray is a unit of absorbed dose defined as 1.0e12 gray. */
-	public static Unit Teragray = OM.Teragray;
+	public static Unit Teragray = OM.unit("Teragray");
 
 	/** The röntgen is a unit of exposure to x and γ rays defined as 2.58e-4 coulomb per kilogram. */
-	public static Unit Röntgen = OM.Röntgen;
+	public static Unit Röntgen = OM.unit("Röntgen");
 
 	/** The millibecquerel is a unit of activity defined as 1.0e-3 becquerel. */
-	public static Unit Millibecquerel = OM.Millibecquerel;
+	public static Unit Millibecquerel = OM.unit("Millibecquerel");
 
 	/** The megagray is a unit of absorbed dose defined as 1.0e6 gray. */
-	public static Unit Megagray = OM.Megagray;
+	public static Unit Megagray = OM.unit("Megagray");
 
-	public static Unit Terasievert = OM.Terasievert;
+	public static Unit Terasievert = OM.unit("Terasievert");
 
-	public static Unit Decisievert = OM.Decisievert;
+	public static Unit Decisievert = OM.unit("Decisievert");
 
 	/** The hectobecquerel is a unit of activity defined as 1.0e2 becquerel. */
-	public static Unit Hectobecquerel = OM.Hectobecquerel;
+	public static Unit Hectobecquerel = OM.unit("Hectobecquerel");
 
 	/** The petabecquerel is a unit of activity defined as 1.0e15 becquerel. */
-	public static Unit Petabecquerel = OM.Petabecquerel;
+	public static Unit Petabecquerel = OM.unit("Petabecquerel");
 
-	public static Unit Centisievert = OM.Centisievert;
+	public static Unit Centisievert = OM.unit("Centisievert");
 
 	/** The nanobecquerel is a unit of activity defined as 1.0e-9 becquerel. */
-	public static Unit Nanobecquerel = OM.Nanobecquerel;
+	public static Unit Nanobecquerel = OM.unit("Nanobecquerel");
 
 	/** The megabecquerel is a unit of activity defined as 1.0e6 becquerel. */
-	public static Unit Megabecquerel = OM.Megabecquerel;
+	public static Unit Megabecquerel = OM.unit("Megabecquerel");
 
 	/** The decagray is a unit of absorbed dose defined as 1.0e1 gray. */
-	public static Unit Decagray = OM.Decagray;
+	public static Unit Decagray = OM.unit("Decagray");
 
-	public static Unit Nanosievert = OM.Nanosievert;
+	public static Unit Nanosievert = OM.unit("Nanosievert");
 
-	public static Unit Microsievert = OM.Microsievert;
+	public static Unit Microsievert = OM.unit("Microsievert");
 
-	public static Unit Exasievert = OM.Exasievert;
+	public static Unit Exasievert = OM.unit("Exasievert");
 
 	/** The milligray is a unit of absorbed dose defined as 1.0e-3 gray. */
-	public static Unit Milligray = OM.Milligray;
+	public static Unit Milligray = OM.unit("Milligray");
 
 	/** The microbecquerel is a unit of activity defined as 1.0e-6 becquerel. */
-	public static Unit Microbecquerel = OM.Microbecquerel;
+	public static Unit Microbecquerel = OM.unit("Microbecquerel");
 
 	/** The microgray is a unit of absorbed dose defined as 1.0e-6 gray. */
-	public static Unit Microgray = OM.Microgray;
+	public static Unit Microgray = OM.unit("Microgray");
 
 	/** The gigabecquerel is a unit of activity defined as 1.0e9 becquerel. */
-	public static Unit Gigabecquerel = OM.Gigabecquerel;
+	public static Unit Gigabecquerel = OM.unit("Gigabecquerel");
 
 	/** The kilobecquerel is a unit of activity defined as 1.0e3 becquerel. */
-	public static Unit Kilobecquerel = OM.Kilobecquerel;
+	public static Unit Kilobecquerel = OM.unit("Kilobecquerel");
 
 	/** The attogray is a unit of absorbed dose defined as 1.0e-18 gray. */
-	public static Unit Attogray = OM.Attogray;
+	public static Unit Attogray = OM.unit("Attogray");
 
-	public static Unit Megasievert = OM.Megasievert;
+	public static Unit Megasievert = OM.unit("Megasievert");
 
 	/** The curie is a unit of activity defined as 3.7e10 becquerel. */
-	public static Unit Curie = OM.Curie;
+	public static Unit Curie = OM.unit("Curie");
 
-	public static Unit Petasievert = OM.Petasievert;
+	public static Unit Petasievert = OM.unit("Petasievert");
 
-	public static Unit Kilosievert = OM.Kilosievert;
+	public static Unit Kilosievert = OM.unit("Kilosievert");
 
 	/** The becquerel is a unit of activity defined as the activity of a quantity of radioactive material in which one nucleus decays per second. Algebraically it is defined as 1 divided by second. */
-	public static Unit Becquerel = OM.Becquerel;
+	public static Unit Becquerel = OM.unit("Becquerel");
 
-	public static Unit Femtosievert = OM.Femtosievert;
+	public static Unit Femtosievert = OM.unit("Femtosievert");
 
-	public static Unit Millisievert = OM.Millisievert;
+	public static Unit Millisievert = OM.unit("Millisievert");
 
-	public static Unit Gigasievert = OM.Gigasievert;
+	public static Unit Gigasievert = OM.unit("Gigasievert");
 
-	public static Unit Hectosievert = OM.Hectosievert;
+	public static Unit Hectosievert = OM.unit("Hectosievert");
 
 	/** The exabecquerel is a unit of activity defined as 1.0e18 becquerel. */
-	public static Unit Exabecquerel = OM.Exabecquerel;
+	public static Unit Exabecquerel = OM.unit("Exabecquerel");
 
-	public static Unit GrayPerSecondTime = OM.GrayPerSecondTime;
+	public static Unit GrayPerSecondTime = OM.unit("GrayPerSecondTime");
 
 	/** The nanogray is a unit of absorbed dose defined as 1.0e-9 gray. */
-	public static Unit Nanogray = OM.Nanogray;
+	public static Unit Nanogray = OM.unit("Nanogray");
 
-	public static Unit Attosievert = OM.Attosievert;
+	public static Unit Attosievert = OM.unit("Attosievert");
 
 	/** The centibecquerel is a unit of activity defined as 1.0e-2 becquerel. */
-	public static Unit Centibecquerel = OM.Centibecquerel;
+	public static Unit Centibecquerel = OM.unit("Centibecquerel");
 
 	/** The rad is a unit of absorbed dose defined as 1.0e-2 gray. */
-	public static Unit Rad = OM.Rad;
+	public static Unit Rad = OM.unit("Rad");
 
 	/** The decabecquerel is a unit of activity defined as 1.0e1 becquerel. */
-	public static Unit Decabecquerel = OM.Decabecquerel;
+	public static Unit Decabecquerel = OM.unit("Decabecquerel");
 
 	/** The sievert is a unit of dose equivalent defined as joule divided by kilogram = square metre divided by second squared. */
-	public static Unit Sievert = OM.Sievert;
+	public static Unit Sievert = OM.unit("Sievert");
 
 	/** The rem is a unit of dose equivalent defined as 1.0e-2 sievert. */
-	public static Unit Rem = OM.Rem;
+	public static Unit Rem = OM.unit("Rem");
 
 	/** The terabecquerel is a unit of activity defined as 1.0e12 becquerel. */
-	public static Unit Terabecquerel = OM.Terabecquerel;
+	public static Unit Terabecquerel = OM.unit("Terabecquerel");
 
 }
\ No newline at end of file
@@ -30,12 +30,12 @@ import nl.wur.fbr.om.prefixes.*;
 public class Shipping {
 
 	/** The nautical mile is a unit of length defined as 1852 metre. */
-	public static Unit NauticalMile = OM.NauticalMile;
+	public static Unit NauticalMile = OM.unit("NauticalMile");
 
 	/** The knot is a unit of speed defined as nautical mile per hour. */
-	public static Unit Knot = OM.Knot;
+	public static Unit Knot = OM.unit("Knot");
 
 	/** Nautical mile per hour is a unit of speed defined as nautical mile divided by hour. */
-	public static Unit NauticalMilePerHour = OM.NauticalMilePerHour;
+	public static Unit NauticalMilePerHour = OM.unit("NauticalMilePerHour");
 
 }
\ No newline at end of file
@@ -30,102 +30,102 @@ import nl.wur.fbr.om.prefixes.*;
 public class Thermodynamics {
 
 	/** The microdegree Celsius is a unit of temperature defined as 1.0e-6 degree Celsius. */
-	public static Unit MicrodegreeCelsius = OM.MicrodegreeCelsius;
+	public static Unit MicrodegreeCelsius = OM.unit("MicrodegreeCelsius");
 
 	/** The degree Celsius is a unit of temperature defined as 1 kelvin. */
-	public static Unit DegreeCelsius = OM.DegreeCelsius;
+	public static Unit DegreeCelsius = OM.unit("DegreeCelsius");
 
 	/** The kilokelvin is a unit of thermodynamic temperature defined as 1.0e3 kelvin. */
-	public static Unit Kilokelvin = OM.Kilokelvin;
+	public static Unit Kilokelvin = OM.unit("Kilokelvin");
 
 	/** The attokelvin is a unit of temperature defined as 1.0e-18 kelvin. */
-	public static Unit Attokelvin = OM.Attokelvin;
+	public static Unit Attokelvin = OM.unit("Attokelvin");
 
 	/** The centidegree Celsius is a unit of temperature defined as 1.0e-2 degree Celsius. */
-	public static Unit CentidegreeCelsius = OM.CentidegreeCelsius;
+	public static Unit CentidegreeCelsius = OM.unit("CentidegreeCelsius");
 
 	/** The picokelvin is a unit of temperature defined as 1.0e-12 kelvin. */
-	public static Unit Picokelvin = OM.Picokelvin;
+	public static Unit Picokelvin = OM.unit("Picokelvin");
 
 	/** The decikelvin is a unit of temperature defined as 1.0e-1 kelvin. */
-	public static Unit Decikelvin = OM.Decikelvin;
+	public static Unit Decikelvin = OM.unit("Decikelvin");
 
 	/** The degree Rankine is a unit of temperature defined as 5.555556e-1 kelvin. */
-	public static Unit DegreeRankine = OM.DegreeRankine;
+	public static Unit DegreeRankine = OM.unit("DegreeRankine");
 
-	public static Unit JoulePerKelvin = OM.JoulePerKelvin;
+	public static Unit JoulePerKelvin = OM.unit("JoulePerKelvin");
 
 	/** The kelvin is a unit of temperature defined as 1/273.16 of the thermodynamic temperature of the triple point of water. */
-	public static Unit Kelvin = OM.Kelvin;
+	public static Unit Kelvin = OM.unit("Kelvin");
 
-	public static Unit WattPerMetreKelvin = OM.WattPerMetreKelvin;
+	public static Unit WattPerMetreKelvin = OM.unit("WattPerMetreKelvin");
 
-	public static Unit SquareMetreKelvinPerWatt = OM.SquareMetreKelvinPerWatt;
+	public static Unit SquareMetreKelvinPerWatt = OM.unit("SquareMetreKelvinPerWatt");
 
-	public static Unit WattPerSquareMetreKelvin = OM.WattPerSquareMetreKelvin;
+	public static Unit WattPerSquareMetreKelvin = OM.unit("WattPerSquareMetreKelvin");
 
 	/** The petakelvin is a unit of thermodynamic temperature defined as 1.0e15 kelvin. */
-	public static Unit Petakelvin = OM.Petakelvin;
+	public static Unit Petakelvin = OM.unit("Petakelvin");
 
-	public static Unit DegreeCelsiusPerMinuteTime = OM.DegreeCelsiusPerMinuteTime;
+	public static Unit DegreeCelsiusPerMinuteTime = OM.unit("DegreeCelsiusPerMinuteTime");
 
 	/** The hectokelvin is a unit of thermodynamic temperature defined as 1.0e2 kelvin. */
-	public static Unit Hectokelvin = OM.Hectokelvin;
+	public static Unit Hectokelvin = OM.unit("Hectokelvin");
 
 	/** The megakelvin is a unit of thermodynamic temperature defined as 1.0e6 kelvin. */
-	public static Unit Megakelvin = OM.Megakelvin;
+	public static Unit Megakelvin = OM.unit("Megakelvin");
 
 	/** The centikelvin is a unit of temperature defined as 1.0e-2 kelvin. */
-	public static Unit Centikelvin = OM.Centikelvin;
+	public static Unit Centikelvin = OM.unit("Centikelvin");
 
 	/** The nanokelvin is a unit of temperature defined as 1.0e-9 kelvin. */
-	public static Unit Nanokelvin = OM.Nanokelvin;
+	public static Unit Nanokelvin = OM.unit("Nanokelvin");
 
 	/** The attodegree Celsius is a unit of temperature defined as 1.0e-18 degree Celsius. */
-	public static Unit AttodegreeCelsius = OM.AttodegreeCelsius;
+	public static Unit AttodegreeCelsius = OM.unit("AttodegreeCelsius");
 
 	/** The decakelvin is a unit of thermodynamic temperature defined as 1.0e1 kelvin. */
-	public static Unit Decakelvin = OM.Decakelvin;
+	public static Unit Decakelvin = OM.unit("Decakelvin");
 
 	/** The exakelvin is a unit of thermodynamic temperature defined as 1.0e18 kelvin. */
-	public static Unit Exakelvin = OM.Exakelvin;
+	public static Unit Exakelvin = OM.unit("Exakelvin");
 
 	/** The femtokelvin is a unit of temperature defined as 1.0e-15 kelvin. */
-	public static Unit Femtokelvin = OM.Femtokelvin;
+	public static Unit Femtokelvin = OM.unit("Femtokelvin");
 
 	/** The picodegree Celsius is a unit of temperature defined as 1.0e-12 degree Celsius. */
-	public static Unit PicodegreeCelsius = OM.PicodegreeCelsius;
+	public static Unit PicodegreeCelsius = OM.unit("PicodegreeCelsius");
 
 	/** The degree Réaumur is a unit of temperature defined as 1.25 kelvin. */
-	public static Unit DegreeReaumur = OM.DegreeReaumur;
+	public static Unit DegreeReaumur = OM.unit("DegreeReaumur");
 
-	public static Unit JoulePerKelvinKilogram = OM.JoulePerKelvinKilogram;
+	public static Unit JoulePerKelvinKilogram = OM.unit("JoulePerKelvinKilogram");
 
 	/** The millidegree Celsius is a unit of temperature defined as 1.0e-3 degree Celsius. */
-	public static Unit MillidegreeCelsius = OM.MillidegreeCelsius;
+	public static Unit MillidegreeCelsius = OM.unit("MillidegreeCelsius");
 
 	/** The nanodegree Celsius is a unit of temperature defined as 1.0e-9 degree Celsius. */
-	public static Unit NanodegreeCelsius = OM.NanodegreeCelsius;
+	public static Unit NanodegreeCelsius = OM.unit("NanodegreeCelsius");
 
 	/** The degree Fahrenheit is a unit of temperature defined as 5.555556e-1 kelvin. */
-	public static Unit DegreeFahrenheit = OM.DegreeFahrenheit;
+	public static Unit DegreeFahrenheit = OM.unit("DegreeFahrenheit");
 
 	/** The decidegree Celsius is a unit of temperature defined as 1.0e-1 degree Celsius. */
-	public static Unit DecidegreeCelsius = OM.DecidegreeCelsius;
+	public static Unit DecidegreeCelsius = OM.unit("DecidegreeCelsius");
 
 	/** The femtodegree Celsius is a unit of temperature defined as 1.0e-15 degree Celsius. */
-	public static Unit FemtodegreeCelsius = OM.FemtodegreeCelsius;
+	public static Unit FemtodegreeCelsius = OM.unit("FemtodegreeCelsius");
 
 	/** The gigakelvin is a unit of thermodynamic temperature defined as 1.0e9 kelvin. */
-	public static Unit Gigakelvin = OM.Gigakelvin;
+	public static Unit Gigakelvin = OM.unit("Gigakelvin");
 
 	/** The millikelvin is a unit of temperature defined as 1.0e-3 kelvin. */
-	public static Unit Millikelvin = OM.Millikelvin;
+	public static Unit Millikelvin = OM.unit("Millikelvin");
 
 	/** The terakelvin is a unit of thermodynamic temperature defined as 1.0e12 kelvin. */
-	public static Unit Terakelvin = OM.Terakelvin;
+	public static Unit Terakelvin = OM.unit("Terakelvin");
 
 	/** The microkelvin is a unit of temperature defined as 1.0e-6 kelvin. */
-	public static Unit Microkelvin = OM.Microkelvin;
+	public static Unit Microkelvin = OM.unit("Microkelvin");
 
 }
\ No newline at end of file
@@ -30,27 +30,27 @@ import nl.wur.fbr.om.prefixes.*;
 public class Typography {
 
 	/** The Postscript pica is a unit of length defined as 12 point (Postscript). */
-	public static Unit PicaPostscript = OM.PicaPostscript;
+	public static Unit PicaPostscript = OM.unit("PicaPostscript");
 
 	/** The Postscript point is a unit of length defined as 0.013888888888888888888888888888889 inch. */
-	public static Unit PointPostscript = OM.PointPostscript;
+	public static Unit PointPostscript = OM.unit("PointPostscript");
 
 	/** The TeX point is a unit of length defined as 0.01383700013837000138370001383 inch. */
-	public static Unit PointTeX = OM.PointTeX;
+	public static Unit PointTeX = OM.unit("PointTeX");
 
 	/** The ATA pica is a unit of length defined as 12 point (ATA). */
-	public static Unit PicaATA = OM.PicaATA;
+	public static Unit PicaATA = OM.unit("PicaATA");
 
 	/** The ATA point is a unit of length defined as 0.3514598e-3 metre. */
-	public static Unit PointATA = OM.PointATA;
+	public static Unit PointATA = OM.unit("PointATA");
 
 	/** The Didot point is a unit of length defined as 0.3759e-3 metre. */
-	public static Unit PointDidot = OM.PointDidot;
+	public static Unit PointDidot = OM.unit("PointDidot");
 
 	/** The cicero is a unit of length defined as 12 point (Didot). */
-	public static Unit Cicero = OM.Cicero;
+	public static Unit Cicero = OM.unit("Cicero");
 
 	/** The TeX pica is a unit of length defined as 12 point (TeX). */
-	public static Unit PicaTeX = OM.PicaTeX;
+	public static Unit PicaTeX = OM.unit("PicaTeX");
 
 }
\ No newline at end of file
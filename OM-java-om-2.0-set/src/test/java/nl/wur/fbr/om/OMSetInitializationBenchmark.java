@@ -0,0 +1,143 @@
+package nl.wur.fbr.om;
+
+import nl.wur.fbr.om.conversion.CoreInstanceFactory;
+import nl.wur.fbr.om.core.snapshot.UnitSnapshot;
+import nl.wur.fbr.om.factory.InstanceFactory;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
+import nl.wur.fbr.om.model.units.Unit;
+import nl.wur.fbr.om.om20.set.OM;
+import nl.wur.fbr.om.om20.set.Shipping;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * A simple benchmark that measures the start up time and the retained heap of adding the OM set of units and scales
+ * to an instance factory, either eagerly (all units and scales are created) or lazily (only the units that are used
+ * are created), from the generated set or from a snapshot of the set (see {@link UnitSnapshot}). In all cases the
+ * knot is used, and the conversion from knot to kilometre per hour is retrieved.
+ * <p>
+ * In the <code>areas</code> mode, the set is added lazily and the time needed to load each application area class
+ * (e.g. {@link Shipping}), which creates the units and scales of the application area, is measured. Thereafter all
+ * units and scales in the set are requested repeatedly, comparing the time of the first request with the time of a
+ * request after the generated methods have been compiled by the JIT compiler.
+ * </p>
+ * The benchmark is not run as part of the unit tests, run the main method instead in a new JVM for each mode, as the
+ * set can only be loaded once. The first optional argument is the mode, either <code>eager</code> (default),
+ * <code>lazy</code>, <code>snapshot</code>, <code>snapshot-lazy</code> or <code>areas</code>. The second optional argument is the path of
+ * the snapshot file, which is written (in a separate run) when it does not exist.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class OMSetInitializationBenchmark {
+
+    /** The source of the snapshot of the OM set. */
+    private static final String SNAPSHOT_SOURCE = "OM-java-om-2.0-set";
+
+    /** The identifier of the knot. */
+    private static final String KNOT = "http://www.ontology-of-units-of-measure.org/resource/om-2/knot";
+
+    /** The names of the application area classes in the OM set. */
+    private static final String[] APPLICATION_AREAS = {
+            "CommonApplicationArea", "AstronomyAndAstrophysics", "ChemicalPhysics", "Chemistry", "Cosmology",
+            "Economics", "Electromagnetism", "FluidMechanics", "Geometry", "InformationTechnology", "Mechanics",
+            "Photometry", "RadiometryAndRadiobiology", "Shipping", "Thermodynamics", "Typography"};
+
+    /** The number of times all units and scales are requested in the <code>areas</code> mode. */
+    private static final int ROUNDS = 1000;
+
+    /**
+     * Runs the benchmark.
+     * @param args The mode, <code>eager</code> (default), <code>lazy</code>, <code>snapshot</code>,
+     *             <code>snapshot-lazy</code> or <code>areas</code>, and the path of the snapshot file.
+     * @throws Exception When the set could not be added or the conversion failed.
+     */
+    public static void main(String[] args) throws Exception {
+        String mode = args.length>0 ? args[0] : "eager";
+        if(mode.equals("areas")){
+            applicationAreas();
+            return;
+        }
+        boolean lazily = mode.endsWith("lazy");
+        boolean fromSnapshot = mode.startsWith("snapshot");
+        Path snapshotPath = args.length>1 ? Paths.get(args[1]) : Paths.get(System.getProperty("java.io.tmpdir"), "om-2.0.snapshot");
+        if(fromSnapshot && !Files.exists(snapshotPath)){
+            InstanceFactory factory = new CoreInstanceFactory();
+            UnitSnapshot.write(factory.addUnitAndScaleSet(OM.class), SNAPSHOT_SOURCE, snapshotPath);
+            System.out.printf("Snapshot written to %s (%,d kB), run the benchmark again.%n", snapshotPath,
+                    Files.size(snapshotPath)/1024);
+            return;
+        }
+
+        long heapBefore = retainedHeap();
+        long begin = System.nanoTime();
+        InstanceFactory factory = new CoreInstanceFactory();
+        Unit knot;
+        if(fromSnapshot){
+            factory.addUnitAndScaleSet(UnitSnapshot.open(snapshotPath, SNAPSHOT_SOURCE), lazily);
+            knot = (Unit) factory.getUnitOrScale(KNOT);
+        }else{
+            factory.addUnitAndScaleSet(OM.class, lazily);
+            knot = Shipping.Knot;
+        }
+        Unit kilometrePerHour = (Unit) factory.getUnitOrScale(
+                "http://www.ontology-of-units-of-measure.org/resource/om-2/kilometrePerHour");
+        factory.getConversionFactor(knot, kilometrePerHour);
+        long time = System.nanoTime()-begin;
+        long heapAfter = retainedHeap();
+
+        System.out.printf("Mode:                %s%n", mode);
+        System.out.printf("Start up time:       %,10.1f ms%n", time/1e6);
+        System.out.printf("Retained heap:       %,10d kB%n", (heapAfter-heapBefore)/1024);
+        // The factory is used after measuring the heap, so that it is retained.
+        System.out.printf("Knot in km/h:        %10.6f%n", factory.getConversionFactor(knot, kilometrePerHour));
+    }
+
+    /**
+     * Measures the time needed to load each application area class after adding the OM set lazily, and the time
+     * needed to request all units and scales in the set before and after the JIT compiler has compiled the
+     * generated methods.
+     * @throws Exception When the set could not be added or an application area class could not be loaded.
+     */
+    private static void applicationAreas() throws Exception {
+        long begin = System.nanoTime();
+        InstanceFactory factory = new CoreInstanceFactory();
+        UnitAndScaleSet set = factory.addUnitAndScaleSet(OM.class, true);
+        System.out.printf("%-27s %,10.1f ms%n", "OM (lazily):", (System.nanoTime()-begin)/1e6);
+        for(String area : APPLICATION_AREAS){
+            begin = System.nanoTime();
+            Class.forName(OM.class.getPackage().getName()+"."+area);
+            System.out.printf("%-27s %,10.1f ms%n", area+":", (System.nanoTime()-begin)/1e6);
+        }
+        long first = 0;
+        long last = 0;
+        int size = 0;
+        for(int round=0;round<ROUNDS;round++){
+            begin = System.nanoTime();
+            size = set.getAllUnits().size()+set.getAllScales().size();
+            long time = System.nanoTime()-begin;
+            if(round==0) first = time;
+            last = time;
+        }
+        System.out.printf("%-27s %,10.3f ms (%d units and scales)%n", "All units, first request:", first/1e6, size);
+        System.out.printf("%-27s %,10.3f ms%n", "All units, last request:", last/1e6);
+    }
+
+    /**
+     * Returns the heap used after garbage collection.
+     * @return The used heap in bytes.
+     */
+    private static long retainedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for(int i=0;i<4;i++){
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory()-runtime.freeMemory();
+    }
+}
@@ -1,9 +1,11 @@
 package nl.wur.fbr.om;
 
 import nl.wur.fbr.om.conversion.CoreInstanceFactory;
+import nl.wur.fbr.om.core.impl.units.UnitNormalForm;
 import nl.wur.fbr.om.exceptions.ConversionException;
 import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
 import nl.wur.fbr.om.factory.InstanceFactory;
+import nl.wur.fbr.om.model.UnitAndScaleSet;
 import nl.wur.fbr.om.model.measures.Measure;
 import nl.wur.fbr.om.model.points.Point;
 import nl.wur.fbr.om.model.scales.Scale;
@@ -245,4 +247,35 @@ public class OMUnitConversionTest {
             Assert.fail("Exception thrown when converting a scale. " + e);
         }
     }
-}
+
+    /** Tests the conversion data precomputed by the generated set and the conversions based on it. */
+    @Test
+    public void testPrecomputedConversionData() throws UnitOrScaleCreationException, ConversionException {
+        InstanceFactory factory = new CoreInstanceFactory();
+        UnitAndScaleSet set = factory.addUnitAndScaleSet(OM.class);
+        for(Unit unit : set.getAllUnits()){
+            int index = set.getPrecomputedIndex(unit);
+            Assert.assertTrue("Testing precomputed index of "+unit, index>=0);
+            if(Double.isNaN(set.getFactorToBaseUnits(index))) continue;
+            Assert.assertEquals("Testing precomputed factor of "+unit, UnitNormalForm.of(unit).getFactor(),
+                    set.getFactorToBaseUnits(index), 0.0);
+            Assert.assertEquals("Testing precomputed dimension of "+unit, unit.getUnitDimension(),
+                    set.getUnitDimension(index));
+        }
+        Assert.assertEquals("Testing precomputed group.", set.getConversionGroup(set.getPrecomputedIndex(OM.Metre)),
+                set.getConversionGroup(set.getPrecomputedIndex(OM.Inch)));
+        Assert.assertEquals("Testing conversion with precomputed factors.", 1.852,
+                factory.getConversionFactor(OM.Knot, OM.KilometrePerHour), 1e-12);
+        Assert.assertTrue("Testing conversion with precomputed factors.",
+                Double.isNaN(factory.tryGetConversionFactor(OM.Metre, OM.SecondTime)));
+
+        Unit kilometre = OM.Kilometre;
+        InstanceFactory lazyFactory = new CoreInstanceFactory();
+        UnitAndScaleSet lazySet = lazyFactory.addUnitAndScaleSet(OM.class, true);
+        Assert.assertEquals("Testing precomputed index of a unit of another set.", -1, lazySet.getPrecomputedIndex(kilometre));
+        Assert.assertSame("Testing static fields that are not changed by a lazy set.", kilometre, OM.Kilometre);
+        Unit lazyKilometre = (Unit) lazyFactory.getUnitOrScale(kilometre.getIdentifier());
+        Assert.assertEquals("Testing precomputed index of a created unit.", set.getPrecomputedIndex(kilometre),
+                lazySet.getPrecomputedIndex(lazyKilometre));
+    }
+}
\ No newline at end of file
@@ -1,6 +1,13 @@
 package nl.wur.fbr.om;
 
+import nl.wur.fbr.om.conversion.AbstractUnitConversionFactory;
+import nl.wur.fbr.om.conversion.ConversionCacheStatistics;
 import nl.wur.fbr.om.conversion.CoreInstanceFactory;
+import nl.wur.fbr.om.conversion.UnitConverter;
+import nl.wur.fbr.om.conversion.UnitExpressionCache;
+import nl.wur.fbr.om.core.impl.NameTable;
+import nl.wur.fbr.om.core.impl.scales.ScaleImpl;
+import nl.wur.fbr.om.core.impl.units.UnitImpl;
 import nl.wur.fbr.om.factory.InstanceFactory;
 import nl.wur.fbr.om.model.dimensions.SIBaseDimension;
 import nl.wur.fbr.om.model.scales.Scale;
@@ -9,6 +16,11 @@ import nl.wur.fbr.om.om20.set.OM;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Unit tests for the OM set of units.
  *
@@ -192,4 +204,198 @@ public class UnitOMSetTest {
             Assert.fail("Could not create OMUnitAndScaleFactory.");
         }
     }
+
+    /**
+     * Tests the lazy initialization of the OM set, in which units are only created when they are first requested.
+     */
+    @Test
+    public void testOMLazyInitialization(){
+        try {
+            InstanceFactory factory = new CoreInstanceFactory();
+            factory.addUnitAndScaleSet(OM.class, true);
+            Unit knot = (Unit) factory.getUnitOrScale("http://www.ontology-of-units-of-measure.org/resource/om-2/knot");
+            Assert.assertEquals("Testing OM lazy initialization", "knot", knot.getName());
+            Assert.assertSame("Testing OM lazy initialization", OM.unit("Knot"), knot);
+            Unit nauticalMilePerHour = ((SingularUnit) knot).getDefinitionUnit();
+            Assert.assertSame("Testing OM lazy initialization", OM.unit("NauticalMilePerHour"), nauticalMilePerHour);
+            Assert.assertSame("Testing OM lazy initialization", OM.unit("NauticalMile"), ((UnitDivision) nauticalMilePerHour).getNumerator());
+            Unit kilometre = OM.unit("Kilometre");
+            Assert.assertEquals("Testing OM lazy initialization", 1000, ((UnitMultiple) kilometre).getFactor(), 0.0000001);
+            Assert.assertSame("Testing OM lazy initialization", kilometre, factory.getUnitOrScale(kilometre.getIdentifier()));
+            Assert.assertEquals("Testing OM lazy initialization", 1852, factory.getConversionFactor(OM.unit("NauticalMile"), OM.unit("Metre")), 0.0000001);
+
+            Assert.assertTrue("Testing OM lazy initialization", new OM().getAllUnits().contains(kilometre));
+            Assert.assertNotNull("Testing OM lazy initialization", OM.scale("CelsiusScale"));
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not create OMUnitAndScaleFactory.");
+        }
+    }
+
+    /**
+     * Tests that the conversions between units of the OM set are pinned when the set is added lazily.
+     */
+    @Test
+    public void testOMLazyInitializationPinning(){
+        try {
+            InstanceFactory factory = new CoreInstanceFactory();
+            factory.addUnitAndScaleSet(OM.class, true);
+            Assert.assertEquals("Testing OM lazy initialization pinning", 1000,
+                    factory.getConversionFactor(OM.unit("Kilometre"), OM.unit("Metre")), 0.0000001);
+            Unit multiple = factory.createUnitMultiple(OM.unit("Metre"), 3);
+            Assert.assertEquals("Testing OM lazy initialization pinning", 3,
+                    factory.getConversionFactor(multiple, OM.unit("Metre")), 0.0000001);
+            ConversionCacheStatistics statistics =
+                    ((AbstractUnitConversionFactory) factory.getUnitAndScaleConversionFactory()).getCacheStatistics();
+            Assert.assertEquals("Testing OM lazy initialization pinning", 1, statistics.getPinnedSize());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not create OMUnitAndScaleFactory.");
+        }
+    }
+
+    /**
+     * Tests that the units in the OM set are created by the factory to which the set was added, when the set is
+     * added lazily to more than one factory.
+     */
+    @Test
+    public void testOMLazyInitializationWithTwoFactories(){
+        try {
+            String knotIdentifier = "http://www.ontology-of-units-of-measure.org/resource/om-2/knot";
+            InstanceFactory first = new CoreInstanceFactory();
+            first.addUnitAndScaleSet(OM.class, true);
+            InstanceFactory second = new CoreInstanceFactory();
+            second.addUnitAndScaleSet(OM.class, true);
+            Unit firstKnot = (Unit) first.getUnitOrScale(knotIdentifier);
+            Unit secondKnot = (Unit) second.getUnitOrScale(knotIdentifier);
+            Assert.assertNotSame("Testing OM lazy initialization with two factories", firstKnot, secondKnot);
+            Assert.assertSame("Testing OM lazy initialization with two factories", secondKnot, OM.unit("Knot"));
+            Unit firstNanometre = (Unit) first.getUnitOrScale(OM.unit("Nanometre").getIdentifier());
+            Assert.assertNotSame("Testing OM lazy initialization with two factories", OM.unit("Nanometre"), firstNanometre);
+            Assert.assertSame("Testing OM lazy initialization with two factories", firstNanometre,
+                    first.getUnitOrScale(firstNanometre.getIdentifier()));
+            Unit firstNauticalMile = ((UnitDivision) ((SingularUnit) firstKnot).getDefinitionUnit()).getNumerator();
+            Unit firstMetre = (Unit) first.getUnitOrScale(OM.unit("Metre").getIdentifier());
+            Assert.assertNotSame("Testing OM lazy initialization with two factories", OM.unit("Metre"), firstMetre);
+            Assert.assertEquals("Testing OM lazy initialization with two factories", 1852,
+                    first.getConversionFactor(firstNauticalMile, firstMetre), 0.0000001);
+
+            OM set = new OM();
+            set.initializeLazily(first);
+            try {
+                set.initializeLazily(second);
+                Assert.fail("Testing OM lazy initialization with two factories");
+            } catch (IllegalStateException e) {
+                // A set that was initialized lazily cannot be initialized with another factory.
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not create OMUnitAndScaleFactory.");
+        }
+    }
+
+    /**
+     * Tests that the static fields refer to the units and scales of the set that was last initialized with all its
+     * units and scales, and are not changed when a set is initialized lazily.
+     */
+    @Test
+    public void testOMStaticFields(){
+        try {
+            InstanceFactory factory = new CoreInstanceFactory();
+            factory.addUnitAndScaleSet(OM.class);
+            Unit metre = OM.Metre;
+            Assert.assertSame("Testing OM static fields", metre, factory.getUnitOrScale(metre.getIdentifier()));
+            List<Field> fields = new ArrayList<>();
+            List<Object> values = new ArrayList<>();
+            for(Field field : OM.class.getFields()){
+                if(Modifier.isStatic(field.getModifiers()) && (field.getType()==Unit.class || field.getType()==Scale.class)){
+                    Object value = field.getType()==Unit.class ? OM.unit(field.getName()) : OM.scale(field.getName());
+                    Assert.assertSame("Testing OM static field "+field.getName(), value, field.get(null));
+                    fields.add(field);
+                    values.add(value);
+                }
+            }
+
+            InstanceFactory lazyFactory = new CoreInstanceFactory();
+            lazyFactory.addUnitAndScaleSet(OM.class, true);
+            Unit lazyMetre = OM.unit("Metre");
+            Assert.assertNotSame("Testing OM static fields", metre, lazyMetre);
+            Assert.assertSame("Testing OM static fields", lazyMetre, lazyFactory.getUnitOrScale(metre.getIdentifier()));
+            for(int i=0;i<fields.size();i++){
+                Assert.assertSame("Testing OM static field "+fields.get(i).getName(), values.get(i), fields.get(i).get(null));
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not create OMUnitAndScaleFactory.");
+        }
+    }
+
+    /**
+     * Tests the resolution of unit expressions to the units in OM, and the cache of parsed expressions and converters.
+     */
+    @Test
+    public void testOMUnitExpressions(){
+        try {
+            InstanceFactory factory = new CoreInstanceFactory();
+            factory.addUnitAndScaleSet(OM.class);
+            UnitExpressionCache cache = new UnitExpressionCache(factory);
+            Assert.assertSame("Testing OM unit expressions", OM.KilometrePerHour, cache.getUnit("km/h"));
+            Assert.assertSame("Testing OM unit expressions", OM.KilometrePerHour, cache.getUnit("km h-1"));
+            Assert.assertEquals("Testing OM unit expressions", "kilogram per cubic metre", cache.getUnit("kg m^-3").getName());
+            Assert.assertSame("Testing OM unit expressions", OM.Hectopascal, cache.getUnit("hPa"));
+            Assert.assertNotNull("Testing OM unit expressions", cache.getUnit("W m-2 sr-1"));
+            Assert.assertNotNull("Testing OM unit expressions", cache.getUnit("µmol/(m²·s)"));
+            Assert.assertFalse("Testing OM unit expressions", cache.parse("km/").isValid());
+            Assert.assertSame("Testing OM unit expression cache", cache.parse("km/h"), cache.parse("km/h"));
+
+            UnitConverter converter = cache.getConverter("km/h", OM.MetrePerSecondTime);
+            Assert.assertEquals("Testing OM unit expression converter", 10.0, converter.applyAsDouble(36.0), 0.0000001);
+            Assert.assertSame("Testing OM unit expression converter", converter, cache.getConverter("km/h", OM.MetrePerSecondTime));
+            Assert.assertNull("Testing OM unit expression converter", cache.getConverter("kg", OM.MetrePerSecondTime));
+            Assert.assertNull("Testing OM unit expression converter", cache.getConverter("km/", OM.MetrePerSecondTime));
+            Assert.assertTrue("Testing OM unit expression cache", cache.getStatistics().getHitCount()>0);
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not resolve OM unit expressions.");
+        }
+    }
+
+    /**
+     * Tests the heap footprint of the names and symbols of the units and scales in OM.
+     */
+    @Test
+    public void testOMNameFootprint(){
+        try {
+            InstanceFactory factory = new CoreInstanceFactory();
+            factory.addUnitAndScaleSet(OM.class);
+            OM om = new OM();
+            long footprint = 0;
+            int objects = 0;
+            int names = 0;
+            for(Unit unit : om.getAllUnits()){
+                if(unit==null) continue;
+                NameTable table = ((UnitImpl) unit).getNameTable();
+                footprint += table.getFootprint();
+                names += table.getNumberOfNames()+table.getNumberOfSymbols();
+                objects++;
+            }
+            for(Scale scale : om.getAllScales()){
+                if(scale==null) continue;
+                NameTable table = ((ScaleImpl) scale).getNameTable();
+                footprint += table.getFootprint();
+                names += table.getNumberOfNames()+table.getNumberOfSymbols();
+                objects++;
+            }
+            // A table uses one object and one array with a reference to each name and symbol.
+            Assert.assertTrue("Testing OM name footprint", footprint <= objects*40L+names*4L+objects*4L);
+            Assert.assertTrue("Testing OM name footprint", names > 2*objects);
+
+            Assert.assertSame("Testing OM shared languages", OM.Metre.getLanguages().get(1), OM.Kilometre.getLanguages().get(1));
+            Assert.assertEquals("Testing OM names", "meter", OM.Metre.getName("nl"));
+            Assert.assertSame("Testing OM name views", OM.Metre.getAlternativeNames().get(0), OM.Metre.getAlternativeNames().get(0));
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail("Could not determine the footprint of the OM names.");
+        }
+    }
 }
@@ -0,0 +1,112 @@
+package nl.wur.fbr.om.om20;
+
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.om20.vocabulary.OMMeta;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A simple benchmark that compares the time needed to create all units and scales in the OM ontology by requesting
+ * each unit or scale with {@link OMUnitAndScaleFactory#getUnitOrScale(String)}, which queries the repository for
+ * each unit or scale, with the time needed to import them with {@link OMUnitAndScaleFactory#importUnitsAndScales()},
+ * which reads the statements of the repository in a single scan. It also reports the time needed to load the
+ * ontology into an in-memory repository and the time needed to create all units and scales directly from the
+ * ontology file with {@link OMUnitAndScaleFactory#OMUnitAndScaleFactory(InputStream, String, RDFFormat)}, which
+ * does not use a repository.
+ * The benchmark is not run as part of the unit tests, run the main method instead. The optional argument is the path
+ * of the OM ontology file (default <code>../resources/om-2.0.rdf</code>).
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class OMGraphImportBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args The path of the OM ontology file.
+     * @throws Exception When the ontology could not be read.
+     */
+    public static void main(String[] args) throws Exception {
+        File omfile = new File(args.length>0 ? args[0] : "../resources/om-2.0.rdf");
+        long begin = System.nanoTime();
+        Repository repository = new SailRepository(new MemoryStore());
+        repository.initialize();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            connection.add(omfile, OMMeta.NAMESPACE, RDFFormat.RDFXML);
+        }
+        long loadTime = System.nanoTime()-begin;
+        List<String> identifiers = getUnitAndScaleIdentifiers(repository);
+
+        begin = System.nanoTime();
+        OMUnitAndScaleFactory perIRI = new OMUnitAndScaleFactory(repository);
+        int failed = 0;
+        for(String identifier : identifiers){
+            try {
+                perIRI.getUnitOrScale(identifier);
+            } catch (UnitOrScaleCreationException e) {
+                failed++;
+            }
+        }
+        long perIRITime = System.nanoTime()-begin;
+
+        begin = System.nanoTime();
+        OMUnitAndScaleFactory bulk = new OMUnitAndScaleFactory(repository);
+        Map<String,UnitOrScaleCreationException> problems = bulk.importUnitsAndScales();
+        long bulkTime = System.nanoTime()-begin;
+
+        begin = System.nanoTime();
+        OMUnitAndScaleFactory streaming;
+        try (InputStream in = new FileInputStream(omfile)) {
+            streaming = new OMUnitAndScaleFactory(in, OMMeta.NAMESPACE, RDFFormat.RDFXML);
+        }
+        long streamingTime = System.nanoTime()-begin;
+
+        System.out.printf("Units and scales:    %,10d%n", identifiers.size());
+        System.out.printf("Repository load:     %,10.1f ms%n", loadTime/1e6);
+        System.out.printf("Per IRI:             %,10.1f ms (%d units, %d scales, %d failed)%n", perIRITime/1e6,
+                perIRI.getUnitsByOrdinal().size(), perIRI.getScales().size(), failed);
+        System.out.printf("Bulk import:         %,10.1f ms (%d units, %d scales, %d failed)%n", bulkTime/1e6,
+                bulk.getUnitsByOrdinal().size(), bulk.getScales().size(), problems.size());
+        System.out.printf("Streaming from file: %,10.1f ms (%d units, %d scales)%n", streamingTime/1e6,
+                streaming.getUnitsByOrdinal().size(), streaming.getScales().size());
+        repository.shutDown();
+    }
+
+    /**
+     * Returns the identifiers of all units and scales in the repository.
+     * @param repository The repository.
+     * @return The identifiers.
+     * @throws Exception When the repository could not be queried.
+     */
+    private static List<String> getUnitAndScaleIdentifiers(Repository repository) throws Exception {
+        String sparql = "" +
+                "SELECT DISTINCT ?unitOrScale WHERE {\n" +
+                "   ?unitOrScale <"+RDF.TYPE+">/<"+RDFS.SUBCLASSOF+">* ?type.\n" +
+                "   VALUES ?type { <"+OMMeta.UNIT+"> <"+OMMeta.SCALE+"> }\n" +
+                "   FILTER(isIRI(?unitOrScale))\n" +
+                "}";
+        List<String> identifiers = new ArrayList<>();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            TupleQueryResult result = connection.prepareTupleQuery(QueryLanguage.SPARQL, sparql).evaluate();
+            while(result.hasNext()){
+                BindingSet bs = result.next();
+                identifiers.add(bs.getValue("unitOrScale").stringValue());
+            }
+        }
+        return identifiers;
+    }
+}
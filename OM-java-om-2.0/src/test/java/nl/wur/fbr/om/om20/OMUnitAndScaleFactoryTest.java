@@ -0,0 +1,184 @@
+package nl.wur.fbr.om.om20;
+
+import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
+import nl.wur.fbr.om.model.NamedObject;
+import nl.wur.fbr.om.model.scales.Scale;
+import nl.wur.fbr.om.model.units.Unit;
+import nl.wur.fbr.om.om20.vocabulary.OMMeta;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryException;
+import org.eclipse.rdf4j.repository.base.RepositoryWrapper;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for the creation of units and scales from the OM 2.0 ontology.
+ *
+ * @author Don Willems on 16/10/26.
+ */
+public class OMUnitAndScaleFactoryTest {
+
+    /** The OM 2.0 ontology file. */
+    private static final File OM_FILE = new File("../resources/om-2.0.rdf");
+
+    /** The repository with the OM 2.0 ontology. */
+    private static Repository repository;
+
+    /**
+     * Loads the OM 2.0 ontology in an in-memory repository.
+     * @throws Exception When the ontology could not be loaded.
+     */
+    @BeforeClass
+    public static void loadOntology() throws Exception {
+        repository = new SailRepository(new MemoryStore());
+        repository.initialize();
+        try (RepositoryConnection connection = repository.getConnection()) {
+            connection.add(OM_FILE, OMMeta.NAMESPACE, RDFFormat.RDFXML);
+        }
+    }
+
+    /**
+     * Shuts the repository down.
+     */
+    @AfterClass
+    public static void shutDown() {
+        repository.shutDown();
+    }
+
+    /**
+     * Tests that the units and scales imported from the repository in a single scan, the units and scales created
+     * while the ontology file is parsed, and the units and scales resolved one by one from the repository are the
+     * same.
+     * @throws Exception When the ontology could not be read.
+     */
+    @Test
+    public void testImportedUnitsAndScales() throws Exception {
+        OMUnitAndScaleFactory bulk = new OMUnitAndScaleFactory(repository);
+        Map<String,UnitOrScaleCreationException> bulkProblems = bulk.importUnitsAndScales();
+        Map<String,String> imported = describe(bulk);
+        Assert.assertTrue("Testing the number of imported units", bulk.getNumberOfUnits()>1000);
+        Assert.assertFalse("Testing the imported scales", bulk.getScales().isEmpty());
+
+        OMUnitAndScaleFactory streamed;
+        try (InputStream in = new FileInputStream(OM_FILE)) {
+            streamed = new OMUnitAndScaleFactory(in, OMMeta.NAMESPACE, RDFFormat.RDFXML);
+        }
+        Assert.assertEquals("Testing the units and scales created from the ontology file", imported, describe(streamed));
+        for(String identifier : bulkProblems.keySet()){
+            try {
+                streamed.getUnitOrScale(identifier);
+                Assert.fail("Testing the unit or scale that could not be imported: "+identifier);
+            } catch (UnitOrScaleCreationException e) {
+            }
+        }
+
+        OMUnitAndScaleFactory perIRI = new OMUnitAndScaleFactory(repository);
+        Map<String,Object> resolved = perIRI.resolveAll(imported.keySet());
+        Assert.assertEquals("Testing the resolved units and scales", imported.keySet(), resolved.keySet());
+        Assert.assertEquals("Testing the resolved units and scales", imported, describe(perIRI));
+        for(String identifier : bulkProblems.keySet()){
+            try {
+                perIRI.getUnitOrScale(identifier);
+                Assert.fail("Testing the unit or scale that could not be imported: "+identifier);
+            } catch (UnitOrScaleCreationException e) {
+            }
+        }
+    }
+
+    /**
+     * Tests that a factory with a cache that was written for the same version of the ontology creates the cached
+     * units and scales without reading the repository.
+     * @throws Exception When the units and scales could not be created or cached.
+     */
+    @Test
+    public void testWarmStart() throws Exception {
+        Path path = Files.createTempFile("om", ".snapshot");
+        Files.delete(path);
+        try {
+            OMUnitAndScaleFactory factory = new OMUnitAndScaleFactory(repository);
+            Assert.assertFalse("Testing missing cache", factory.enableCache(path, "om-2.0 test"));
+            Unit kilometrePerHour = (Unit) factory.getUnitOrScale(OMMeta.NAMESPACE+"kilometrePerHour");
+            Scale celsius = (Scale) factory.getUnitOrScale(OMMeta.NAMESPACE+"CelsiusScale");
+            factory.flushCache();
+            Assert.assertNull("Testing cache written", factory.getCacheFailure());
+
+            CountingRepository counting = new CountingRepository(repository);
+            OMUnitAndScaleFactory restarted = new OMUnitAndScaleFactory(counting);
+            Assert.assertTrue("Testing cache loaded", restarted.enableCache(path, "om-2.0 test"));
+            Unit cachedUnit = (Unit) restarted.getUnitOrScale(OMMeta.NAMESPACE+"kilometrePerHour");
+            Scale cachedScale = (Scale) restarted.getUnitOrScale(OMMeta.NAMESPACE+"CelsiusScale");
+            Assert.assertEquals("Testing cached unit", kilometrePerHour.getSymbol(), cachedUnit.getSymbol());
+            Assert.assertEquals("Testing cached unit", kilometrePerHour.getUnitDimension(), cachedUnit.getUnitDimension());
+            Assert.assertEquals("Testing cached scale", celsius.getName(), cachedScale.getName());
+            Assert.assertSame("Testing cached scale", restarted.getUnitOrScale(celsius.getUnit().getIdentifier()),
+                    cachedScale.getUnit());
+            Assert.assertEquals("Testing no repository reads", 0, counting.connections.get());
+
+            Assert.assertFalse("Testing stale cache", new OMUnitAndScaleFactory(counting).enableCache(path, "om-2.0 other"));
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Returns a description of each unit and scale in the factory, by identifier.
+     * @param factory The factory.
+     * @return The descriptions.
+     */
+    private static Map<String,String> describe(OMUnitAndScaleFactory factory) {
+        List<NamedObject> unitsAndScales = new ArrayList<>();
+        unitsAndScales.addAll(factory.getUnitsByOrdinal());
+        unitsAndScales.addAll(factory.getScales());
+        Map<String,String> descriptions = new TreeMap<>();
+        for(NamedObject uos : unitsAndScales){
+            String description = uos.getClass().getSimpleName()+" "+uos.getName()+" "+uos.getSymbol();
+            if(uos instanceof Unit){
+                description += " "+((Unit) uos).getUnitDimension();
+            }else if(uos instanceof Scale && ((Scale) uos).getUnit()!=null){
+                description += " "+((Scale) uos).getUnit().getIdentifier();
+            }
+            descriptions.put(uos.getIdentifier(), description);
+        }
+        return descriptions;
+    }
+
+    /**
+     * A repository that counts the connections that are opened to it.
+     */
+    private static final class CountingRepository extends RepositoryWrapper {
+
+        /** The number of connections that were opened. */
+        private final AtomicInteger connections = new AtomicInteger();
+
+        /**
+         * Creates a new repository that counts the connections to the specified repository.
+         * @param repository The repository.
+         */
+        CountingRepository(Repository repository){
+            super(repository);
+        }
+
+        @Override
+        public RepositoryConnection getConnection() throws RepositoryException {
+            connections.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+}
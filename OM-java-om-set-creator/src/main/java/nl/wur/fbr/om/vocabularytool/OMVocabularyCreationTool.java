@@ -1,8 +1,10 @@
 package nl.wur.fbr.om.vocabularytool;
 
+import nl.wur.fbr.om.core.impl.units.UnitNormalForm;
 import nl.wur.fbr.om.exceptions.UnitOrScaleCreationException;
 import nl.wur.fbr.om.factory.UnitAndScaleFactory;
 import nl.wur.fbr.om.model.NamedObject;
+import nl.wur.fbr.om.model.dimensions.Dimension;
 import nl.wur.fbr.om.model.points.Point;
 import nl.wur.fbr.om.model.scales.Scale;
 import nl.wur.fbr.om.model.units.*;
@@ -34,6 +36,12 @@ public class OMVocabularyCreationTool {
     private static String omversion="1.8";
     private static List<String> problemIRIs = new ArrayList<>();
 
+    /**
+     * The maximum number of units and scales created by one of the generated create methods, which keeps these
+     * methods below the size (8000 bytes of bytecode) above which HotSpot does not compile methods.
+     */
+    private static final int CREATE_CHUNK_SIZE = 250;
+
 
     /**
      * Gets the input from the System.in stream, i.e. the user is requested to type the input in to the console.
@@ -205,6 +213,7 @@ public class OMVocabularyCreationTool {
                     "import nl.wur.fbr.om.core.impl.scales.ScaleImpl;\n" +
                     "import nl.wur.fbr.om.core.impl.units.*;\n" +
                     "import nl.wur.fbr.om.model.UnitAndScaleSet;\n" +
+                    "import nl.wur.fbr.om.model.dimensions.Dimension;\n" +
                     "import nl.wur.fbr.om.model.dimensions.SIBaseDimension;\n" +
                     "import nl.wur.fbr.om.model.scales.Scale;\n" +
                     "import nl.wur.fbr.om.model.units.SingularUnit;\n" +
@@ -212,9 +221,12 @@ public class OMVocabularyCreationTool {
                     "import nl.wur.fbr.om.model.UnitAndScaleSet;\n" +
                     "import nl.wur.fbr.om.model.points.Point;\n" +
                     "import nl.wur.fbr.om.core.impl.points.PointImpl;\n" +
-                    "import java.util.Set;\n" +
+                                        "import java.util.Set;\n" +
                     "import org.apache.commons.lang3.Range;\n" +
                     "import java.util.HashSet;\n" +
+                    "import java.util.HashMap;\n" +
+                    "import java.util.Map;\n" +
+                    "import java.util.concurrent.atomic.AtomicReferenceArray;\n" +
                     "import nl.wur.fbr.om.prefixes.*;\n\n";
             if(apparea!=null) {
                 contents += "/**\n" +
@@ -252,33 +264,52 @@ public class OMVocabularyCreationTool {
                 if(className.equals("OM")){
                     contents += "\tpublic static "+type+" "+varName+";\n\n";
                 }else {
-                    contents += "\tpublic static "+type+" "+varName+" = OM."+varName+";\n\n";
+                    contents += "\tpublic static "+type+" "+varName+" = OM."+type.toLowerCase()+"(\""+varName+"\");\n\n";
                 }
             }
             if(className.equals("OM")) {
-                contents += "\n\n" +
-                        "    /**\n" +
-                        "     * Initializes the set by creating all units and scales in the set using the specified factory.\n" +
-                        "     * @param factory The factory to create units and scales.\n" +
-                        "     */\n" +
-                        "    @Override\n" +
-                        "    public void initialize(UnitAndScaleFactory factory) {\n" +
-                        "        if(Metre!=null) return; // has already been initialised! \n";
-
-                // Add constructors
+                // Add a method to create each unit or scale, so that the set can be initialized lazily
                 ValueFactory vf = connection.getValueFactory();
-                List<String> IRIsDone = new ArrayList<>();
-                for (String varName : varNames) {
+                List<String> names = new ArrayList<>(varNames);
+                List<String> identifiers = new ArrayList<>();
+                String createMethods = "";
+                for (String varName : names) {
+                    String identifier = unitsAndScales.get(varName);
+                    String type = "Unit";
+                    if(varName.contains("Scale")){
+                        type = "Scale";
+                    }
+                    String body;
                     try {
-                        contents += OMVocabularyCreationTool.createConstructor(varName, unitsAndScales, unitsAndScales.get(varName), vf, IRIsDone);
+                        body = OMVocabularyCreationTool.createConstructor(varName, unitsAndScales, identifier, vf);
                     } catch (UnitOrScaleCreationException e) {
-                        problemIRIs.add(unitsAndScales.get(varName));
+                        problemIRIs.add(identifier);
                         System.err.println("Could not create variable " + varName);
                         e.printStackTrace();
-                        contents += "\t\t" + varName + " = null;\n";
+                        body = "\t\t" + varName + " = null;\n";
+                        identifier = null;
                     }
+                    identifiers.add(identifier);
+                    createMethods += OMVocabularyCreationTool.createCreateMethod(type, varName, identifiers.size()-1, body);
                 }
-                contents += "\t}\n";
+                contents += "\n\n" +
+                        "    /**\n" +
+                        "     * The names of the static fields of the units and scales in this set, in the order in which they are created\n" +
+                        "     * when the set is initialized.\n" +
+                        "     */\n" +
+                        "    private static final String[] NAMES = {\n" +
+                        OMVocabularyCreationTool.createStringArrayElements(names, false) +
+                        "    };\n" +
+                        "\n" +
+                        "    /**\n" +
+                        "     * The identifiers of the units and scales in this set, in the same order as {@link #NAMES}. The identifier is\n" +
+                        "     * null when the unit or scale could not be generated.\n" +
+                        "     */\n" +
+                        "    private static final String[] IDENTIFIERS = {\n" +
+                        OMVocabularyCreationTool.createStringArrayElements(identifiers, true) +
+                        "    };\n" +
+                        "\n";
+                contents += OMVocabularyCreationTool.createLazyInitialization(names) + createMethods;
                 contents += "\n" +          // Generates method getAllUnits()
                         "    /**\n" +
                         "     * Returns all units in this set.\n" +
@@ -287,14 +318,16 @@ public class OMVocabularyCreationTool {
                         "     */\n" +
                         "    @Override\n" +
                         "    public Set<Unit> getAllUnits() {\n" +
-                        "        Set<Unit> units = new HashSet<>();\n";
-                for(String varName : varNames) {
-                    if(!varName.contains("Scale")){
-                        contents += "        units.add("+varName+");\n";
-                    }
-                }
-                contents +="        return units;\n" +
-                        " \t}\n";
+                        "        Set<Unit> units = new HashSet<>(2 * NAMES.length);\n" +
+                        "        Binding current = binding();\n" +
+                        "        if (current == null) return units;\n" +
+                        "        createAll(current);\n" +
+                        "        for (int i = 0; i < NAMES.length; i++) {\n" +
+                        "            Object unitOrScale = current.created.get(i);\n" +
+                        "            if (unitOrScale instanceof Unit) units.add((Unit) unitOrScale);\n" +
+                        "        }\n" +
+                        "        return units;\n" +
+                        "    }\n";
                 contents += "\n" +      // Generates method getAllScales()
                         "    /**\n" +
                         "     * Returns all scales in this set.\n" +
@@ -303,14 +336,16 @@ public class OMVocabularyCreationTool {
                         "     */\n" +
                         "    @Override\n" +
                         "    public Set<Scale> getAllScales() {\n" +
-                        "        Set<Scale> scales = new HashSet<>();\n";
-                for(String varName : varNames) {
-                    if(varName.contains("Scale")){
-                        contents += "        scales.add("+varName+");\n";
-                    }
-                }
-                contents +="        return scales;\n" +
-                        " \t}\n";
+                        "        Set<Scale> scales = new HashSet<>();\n" +
+                        "        Binding current = binding();\n" +
+                        "        if (current == null) return scales;\n" +
+                        "        createAll(current);\n" +
+                        "        for (int i = 0; i < NAMES.length; i++) {\n" +
+                        "            Object unitOrScale = current.created.get(i);\n" +
+                        "            if (unitOrScale instanceof Scale) scales.add((Scale) unitOrScale);\n" +
+                        "        }\n" +
+                        "        return scales;\n" +
+                        "    }\n";
                 contents += "\n" +
                         "\n" +
                         "    /**\n" +
@@ -319,7 +354,8 @@ public class OMVocabularyCreationTool {
                         "     */\n" +
                         "    @Override\n" +
                         "    public Unit getOne(){\n" +
-                        "       return One;\n" +
+                        "       Object unit = get(binding(), \"One\");\n" +
+                        "       return unit instanceof Unit ? (Unit) unit : null;\n" +
                         "    }\n" +
                         "\n" +
                         "    /**\n" +
@@ -329,8 +365,10 @@ public class OMVocabularyCreationTool {
                         "     */\n" +
                         "    @Override\n" +
                         "    public Unit getRadianUnit(){\n" +
-                        "       return Radian;\n" +
+                        "       Object unit = get(binding(), \"Radian\");\n" +
+                        "       return unit instanceof Unit ? (Unit) unit : null;\n" +
                         "    }\n";
+                contents += OMVocabularyCreationTool.createConversionData(identifiers, factory);
             }
             contents += "}";
 
@@ -345,6 +383,177 @@ public class OMVocabularyCreationTool {
         }
     }
 
+    /**
+     * Creates the methods that provide the conversion data of the units in the OM set, and the class with the
+     * conversion data precomputed from the units created by the factory: the factor of the normal form of each unit
+     * (see {@link UnitNormalForm}), the group of units that are defined in the same base units with the same
+     * exponents, and the packed dimensional exponents of each unit. Units whose normal form is a dimensionless ratio
+     * or a single dimensionless base unit are not put in a group, as they can be converted into units with
+     * different base units.
+     * @param identifiers The identifiers of the units and scales in the order of their names, null for units and
+     *                    scales that could not be created.
+     * @param factory The factory that created the units.
+     * @return The generated code.
+     */
+    private static String createConversionData(List<String> identifiers, UnitAndScaleFactory factory) {
+        int size = identifiers.size();
+        double[] factors = new double[size];
+        int[] groups = new int[size];
+        int[] dimensionIndices = new int[size];
+        List<Dimension> dimensions = new ArrayList<>();
+        Map<Dimension,List<Integer>> references = new HashMap<>();
+        UnitNormalForm[] forms = new UnitNormalForm[size];
+        int numberOfGroups = 0;
+        for (int i = 0; i < size; i++) {
+            factors[i] = Double.NaN;
+            groups[i] = -1;
+            dimensionIndices[i] = -1;
+            Object unitOrScale;
+            try {
+                unitOrScale = identifiers.get(i)==null ? null : factory.getUnitOrScale(identifiers.get(i));
+            } catch (UnitOrScaleCreationException e) {
+                unitOrScale = null;
+            }
+            if (!(unitOrScale instanceof Unit)) continue;
+            Dimension dimension;
+            try {
+                forms[i] = UnitNormalForm.of((Unit) unitOrScale);
+                dimension = ((Unit) unitOrScale).getUnitDimension();
+            } catch (RuntimeException e) {
+                forms[i] = null; // Units without a normal form are converted at runtime.
+                continue;
+            }
+            factors[i] = forms[i].getFactor();
+            dimensionIndices[i] = dimensions.indexOf(dimension);
+            if (dimensionIndices[i] < 0) {
+                dimensionIndices[i] = dimensions.size();
+                dimensions.add(dimension);
+            }
+            if (forms[i].isRatio() || forms[i].isDimensionlessBaseUnit()) continue;
+            List<Integer> groupReferences = references.computeIfAbsent(dimension, d -> new ArrayList<>());
+            for (int reference : groupReferences) {
+                if (forms[i].isCompatibleWith(forms[reference])) {
+                    groups[i] = groups[reference];
+                    break;
+                }
+            }
+            if (groups[i] < 0) {
+                groups[i] = numberOfGroups++;
+                groupReferences.add(i);
+            }
+        }
+        long[] packedDimensions = new long[2 * dimensions.size()];
+        for (int d = 0; d < dimensions.size(); d++) {
+            packedDimensions[2 * d] = dimensions.get(d).getPackedLow();
+            packedDimensions[2 * d + 1] = dimensions.get(d).getPackedHigh();
+        }
+        String[] factorLiterals = new String[size];
+        String[] groupLiterals = new String[size];
+        String[] dimensionLiterals = new String[size];
+        String[] packedLiterals = new String[packedDimensions.length];
+        for (int i = 0; i < size; i++) {
+            factorLiterals[i] = Double.isNaN(factors[i]) ? "Double.NaN" :
+                    Double.isInfinite(factors[i]) ? (factors[i] > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY") :
+                    Double.toString(factors[i]);
+            groupLiterals[i] = Integer.toString(groups[i]);
+            dimensionLiterals[i] = Integer.toString(dimensionIndices[i]);
+        }
+        for (int i = 0; i < packedDimensions.length; i++) packedLiterals[i] = packedDimensions[i] + "L";
+        return "\n" +
+                "    /**\n" +
+                "     * Returns the index of the specified unit in the conversion data precomputed for the units in this set,\n" +
+                "     * which is the index of the unit in {@link #NAMES}.\n" +
+                "     * The unit is not created when it has not been created yet.\n" +
+                "     * @param unit The unit.\n" +
+                "     * @return The index of the unit, or -1 if the unit is not in this set or has not been created for this set.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public int getPrecomputedIndex(Unit unit) {\n" +
+                "        if (unit == null) return -1;\n" +
+                "        Binding current = binding();\n" +
+                "        int index = indexOf(unit.getIdentifier());\n" +
+                "        return index >= 0 && current != null && current.created.get(index) == unit ? index : -1;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the factor of the normal form of the unit with the specified index, precomputed when this class was\n" +
+                "     * generated.\n" +
+                "     * @param index The index of the unit in {@link #NAMES}.\n" +
+                "     * @return The factor, or NaN if the factor is not known.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public double getFactorToBaseUnits(int index) {\n" +
+                "        return ConversionData.FACTORS[index];\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the group of units that can be converted into each other of the unit with the specified index,\n" +
+                "     * precomputed when this class was generated.\n" +
+                "     * @param index The index of the unit in {@link #NAMES}.\n" +
+                "     * @return The group, or -1 if the unit is not in a group.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public int getConversionGroup(int index) {\n" +
+                "        return ConversionData.GROUPS[index];\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the dimension of the unit with the specified index, precomputed when this class was generated.\n" +
+                "     * @param index The index of the unit in {@link #NAMES}.\n" +
+                "     * @return The dimension, or null if the dimension is not known.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public Dimension getUnitDimension(int index) {\n" +
+                "        int dimension = ConversionData.DIMENSIONS[index];\n" +
+                "        if (dimension < 0) return null;\n" +
+                "        return Dimension.ofPacked(ConversionData.PACKED_DIMENSIONS[2 * dimension],\n" +
+                "                ConversionData.PACKED_DIMENSIONS[2 * dimension + 1]);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * The conversion data of the units in this set, precomputed when this class was generated. The data is kept\n" +
+                "     * in a separate class, so that it is only loaded when units are converted.\n" +
+                "     */\n" +
+                "    private static final class ConversionData {\n" +
+                "\n" +
+                "        /** The factor of the normal form of each unit in {@link OM#NAMES}, NaN for scales. */\n" +
+                "        private static final double[] FACTORS = {\n" +
+                OMVocabularyCreationTool.createArrayElements(factorLiterals, 6) +
+                "        };\n" +
+                "\n" +
+                "        /** The group of units that can be converted into each other of each unit in {@link OM#NAMES}, or -1. */\n" +
+                "        private static final int[] GROUPS = {\n" +
+                OMVocabularyCreationTool.createArrayElements(groupLiterals, 20) +
+                "        };\n" +
+                "\n" +
+                "        /** The index of the dimension of each unit in {@link OM#NAMES} in {@link #PACKED_DIMENSIONS}, or -1. */\n" +
+                "        private static final int[] DIMENSIONS = {\n" +
+                OMVocabularyCreationTool.createArrayElements(dimensionLiterals, 20) +
+                "        };\n" +
+                "\n" +
+                "        /** The packed dimensional exponents of the dimensions, see {@link Dimension#getPackedLow()}. */\n" +
+                "        private static final long[] PACKED_DIMENSIONS = {\n" +
+                OMVocabularyCreationTool.createArrayElements(packedLiterals, 4) +
+                "        };\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the elements of a generated array, with the specified number of elements on each line.
+     * @param literals The literals of the elements.
+     * @param perLine The number of elements on each line.
+     * @return The generated elements.
+     */
+    private static String createArrayElements(String[] literals, int perLine) {
+        StringBuilder elements = new StringBuilder();
+        for (int i = 0; i < literals.length; i++) {
+            if (i % perLine == 0) elements.append("           ");
+            elements.append(' ').append(literals[i]).append(i < literals.length - 1 ? "," : "");
+            if (i % perLine == perLine - 1 || i == literals.length - 1) elements.append('\n');
+        }
+        return elements.toString();
+    }
+
     /**
      * Escapes the string literals '"' in a string and returns the escaped string.
      * @param string The input string.
@@ -362,25 +571,20 @@ public class OMVocabularyCreationTool {
     }
 
     /**
-     * Creates the Java code to construct the unit or scale specified.
+     * Creates the Java code to construct the unit or scale specified. The units and scales on which the unit or
+     * scale depends are retrieved by calling their create methods.
      * @param varName The Java name of the unit or scale.
      * @param varNames The Map of Java names (key) with IRIs as string.
      * @param IRI The IRI as string of the unit or scale.
      * @param vf The value factory.
-     * @param IRIsDone The set of already created units and scales.
      */
-    private static String createConstructor(String varName, Map<String,String> varNames, String IRI, ValueFactory vf, List<String> IRIsDone) throws UnitOrScaleCreationException {
-        if(IRIsDone.contains(IRI)) return "";
+    private static String createConstructor(String varName, Map<String,String> varNames, String IRI, ValueFactory vf) throws UnitOrScaleCreationException {
         Object unitOrScale = factory.getUnitOrScale(IRI);
         String contents = "";
         if(unitOrScale instanceof PrefixedUnit && unitOrScale instanceof BaseUnit){
-            IRIsDone.add(IRI);
             PrefixedUnit prefixedUnit = (PrefixedUnit)unitOrScale;
             Unit bunit = prefixedUnit.getUnit();
-            String newVarName = OMVocabularyCreationTool.getVariableNameForIRI(bunit.getIdentifier(),varNames);
-            if(!IRIsDone.contains(bunit.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(newVarName,varNames,bunit.getIdentifier(),vf,IRIsDone);
-            }
+            String newVarName = OMVocabularyCreationTool.getCreateReference(bunit.getIdentifier(),varNames);
             String prefix = ""+prefixedUnit.getPrefix().getClass().getTypeName()+"."+prefixedUnit.getPrefix().toString();
             BaseUnit baseUnit = (BaseUnit)unitOrScale;
             String dim = "null";
@@ -389,7 +593,6 @@ public class OMVocabularyCreationTool {
             }
             contents+= "\t\t"+varName+" = factory.createPrefixedBaseUnit(\""+prefixedUnit.getIdentifier()+"\",\""+prefixedUnit.getName()+"\",\""+prefixedUnit.getSymbol()+"\", "+dim+",(SingularUnit)"+newVarName+", "+prefix+");\n";
         }else if(unitOrScale instanceof SingularUnit && unitOrScale instanceof BaseUnit){
-            IRIsDone.add(IRI);
             BaseUnit unit = (BaseUnit)unitOrScale;
             String dim = "null";
             if(unit.getDefinitionDimension()!=null) {
@@ -397,91 +600,54 @@ public class OMVocabularyCreationTool {
             }
             contents += "\t\t"+varName+" = factory.createBaseUnit(\""+IRI+"\", \""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\", \""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\", "+dim+");\n";
         }else if(unitOrScale instanceof SingularUnit){
-            IRIsDone.add(IRI);
             SingularUnit unit = (SingularUnit)unitOrScale;
             if(varName.equals("Gram")){
                 contents += "\t\t"+varName+" = factory.createSingularUnit(\""+IRI+"\", \""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\", \""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\" );\n";
             }else{
                 Unit defunit = unit.getDefinitionUnit();
-                String defVarName = OMVocabularyCreationTool.getVariableNameForIRI(defunit.getIdentifier(), varNames);
+                String defVarName = OMVocabularyCreationTool.getCreateReference(defunit.getIdentifier(), varNames);
                 double factor = unit.getDefinitionNumericalValue();
-                if(defunit!=null && !IRIsDone.contains(defunit.getIdentifier())){
-                    contents +=OMVocabularyCreationTool.createConstructor(defVarName,varNames,defunit.getIdentifier(),vf,IRIsDone);
-                }
                 contents += "\t\t"+varName+" = factory.createSingularUnit(\""+IRI+"\", \""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\", \""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\", "+defVarName+", "+factor+" );\n";
             }
         }else if(unitOrScale instanceof PrefixedUnit){
-            IRIsDone.add(IRI);
             PrefixedUnit unit = (PrefixedUnit)unitOrScale;
             Unit bunit = unit.getUnit();
-            String newVarName = OMVocabularyCreationTool.getVariableNameForIRI(bunit.getIdentifier(),varNames);
-            if(!IRIsDone.contains(bunit.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(newVarName,varNames,bunit.getIdentifier(),vf,IRIsDone);
-            }
+            String newVarName = OMVocabularyCreationTool.getCreateReference(bunit.getIdentifier(),varNames);
             String prefix = ""+unit.getPrefix().getClass().getTypeName()+"."+unit.getPrefix().toString();
             contents+= "\t\t"+varName+" = factory.createPrefixedUnit(\""+unit.getIdentifier()+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\",(SingularUnit)"+newVarName+", "+prefix+");\n";
         }else if(unitOrScale instanceof UnitMultiple){
-            IRIsDone.add(IRI);
             UnitMultiple unit = (UnitMultiple)unitOrScale;
             double factor = unit.getFactor();
             Unit bunit = unit.getUnit();
-            String newVarName = OMVocabularyCreationTool.getVariableNameForIRI(bunit.getIdentifier(),varNames);
-            if(!IRIsDone.contains(bunit.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(newVarName,varNames,bunit.getIdentifier(),vf,IRIsDone);
-            }
+            String newVarName = OMVocabularyCreationTool.getCreateReference(bunit.getIdentifier(),varNames);
             contents+= "\t\t"+varName+" = factory.createUnitMultiple(\""+unit.getIdentifier()+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\","+newVarName+", "+factor+");\n";
         }else if(unitOrScale instanceof UnitMultiplication) {
-            IRIsDone.add(IRI);
             UnitMultiplication unit = (UnitMultiplication)unitOrScale;
             Unit term1 = unit.getTerm1();
             Unit term2 = unit.getTerm2();
-            String term1Name = OMVocabularyCreationTool.getVariableNameForIRI(term1.getIdentifier(), varNames);
-            if(!IRIsDone.contains(term1.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(term1Name,varNames,term1.getIdentifier(),vf,IRIsDone);
-            }
-            String term2Name = OMVocabularyCreationTool.getVariableNameForIRI(term2.getIdentifier(), varNames);
-            if(!IRIsDone.contains(term2.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(term2Name,varNames,term2.getIdentifier(),vf,IRIsDone);
-            }
+            String term1Name = OMVocabularyCreationTool.getCreateReference(term1.getIdentifier(), varNames);
+            String term2Name = OMVocabularyCreationTool.getCreateReference(term2.getIdentifier(), varNames);
             contents+= "\t\t"+varName+" = factory.createUnitMultiplication(\""+unit.getIdentifier()+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\","+term1Name+", "+term2Name+");\n";
         }else if(unitOrScale instanceof UnitDivision) {
-            IRIsDone.add(IRI);
             UnitDivision unit = (UnitDivision)unitOrScale;
             Unit numerator = unit.getNumerator();
             Unit denominator = unit.getDenominator();
-            String numeratorName = OMVocabularyCreationTool.getVariableNameForIRI(numerator.getIdentifier(), varNames);
-            if(!IRIsDone.contains(numerator.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(numeratorName,varNames,numerator.getIdentifier(),vf,IRIsDone);
-            }
-            String denominatorName = OMVocabularyCreationTool.getVariableNameForIRI(denominator.getIdentifier(), varNames);
-            if(!IRIsDone.contains(denominator.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(denominatorName,varNames,denominator.getIdentifier(),vf,IRIsDone);
-            }
+            String numeratorName = OMVocabularyCreationTool.getCreateReference(numerator.getIdentifier(), varNames);
+            String denominatorName = OMVocabularyCreationTool.getCreateReference(denominator.getIdentifier(), varNames);
             contents+= "\t\t"+varName+" = factory.createUnitDivision(\""+unit.getIdentifier()+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\","+numeratorName+", "+denominatorName+");\n";
         }else if(unitOrScale instanceof UnitExponentiation) {
-            IRIsDone.add(IRI);
             UnitExponentiation unit = (UnitExponentiation)unitOrScale;
             Unit base = unit.getBase();
             double exponent = unit.getExponent();
-            String baseName = OMVocabularyCreationTool.getVariableNameForIRI(base.getIdentifier(), varNames);
-            if(!IRIsDone.contains(base.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(baseName,varNames,base.getIdentifier(),vf,IRIsDone);
-            }
+            String baseName = OMVocabularyCreationTool.getCreateReference(base.getIdentifier(), varNames);
             contents+= "\t\t"+varName+" = factory.createUnitExponentiation(\""+unit.getIdentifier()+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getName())+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(unit.getSymbol())+"\","+baseName+", "+exponent+");\n";
         }else if(unitOrScale instanceof Scale) {
-            IRIsDone.add(IRI);
             Scale scale = (Scale)unitOrScale;
             Unit unit = scale.getUnit();
-            String unitName = OMVocabularyCreationTool.getVariableNameForIRI(unit.getIdentifier(), varNames);
-            if(!IRIsDone.contains(unit.getIdentifier())){
-                contents +=OMVocabularyCreationTool.createConstructor(unitName,varNames,unit.getIdentifier(),vf,IRIsDone);
-            }
+            String unitName = OMVocabularyCreationTool.getCreateReference(unit.getIdentifier(), varNames);
             Scale defscale = scale.getDefinitionScale();
             if(defscale!=null){
-                String defscaleName = OMVocabularyCreationTool.getVariableNameForIRI(defscale.getIdentifier(), varNames);
-                if(!IRIsDone.contains(defscale.getIdentifier())){
-                    contents +=OMVocabularyCreationTool.createConstructor(defscaleName,varNames,defscale.getIdentifier(),vf,IRIsDone);
-                }
+                String defscaleName = OMVocabularyCreationTool.getCreateReference(defscale.getIdentifier(), varNames);
                 double offset = scale.getOffsetFromDefinitionScale();
                 double factor = scale.getFactorFromDefinitionScale();
                 contents+= "\t\t"+varName+" = factory.createScale(\""+scale.getIdentifier()+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(scale.getName())+"\",\""+OMVocabularyCreationTool.escapeStringLiterals(scale.getSymbol())+"\","+defscaleName+", "+offset+", "+factor+", "+unitName+");\n";
@@ -527,6 +693,342 @@ public class OMVocabularyCreationTool {
         return contents;
     }
 
+    /**
+     * Creates the fields and methods of the OM set that create the units and scales in the set, either all at once
+     * when the set is initialized or one by one when the set is initialized lazily. The units and scales are kept per
+     * set instance, so that each factory to which the set is added creates and registers its own units and scales.
+     * The static fields refer to the units and scales of the instance that was last initialized with all its units and
+     * scales created, so they are never partially filled.
+     * @param names The names of the static fields of the units and scales in the order in which they are created.
+     * @return The generated code.
+     */
+    private static String createLazyInitialization(List<String> names) {
+        String contents = "" +
+                "    /**\n" +
+                "     * The units and scales created for the set instance that was last initialized with\n" +
+                "     * {@link #initialize(UnitAndScaleFactory)}, to which the static fields in this class refer, or null before a set\n" +
+                "     * has been initialized in that way. All units and scales in this binding have been created.\n" +
+                "     */\n" +
+                "    private static volatile Binding view = null;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * The units and scales created for the set instance that was initialized last, either with\n" +
+                "     * {@link #initialize(UnitAndScaleFactory)} or lazily, which are returned by {@link #unit(String)} and\n" +
+                "     * {@link #scale(String)}, or null before a set has been initialized.\n" +
+                "     */\n" +
+                "    private static volatile Binding latest = null;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * The units and scales created for this set instance, or null before this instance has been initialized. A set\n" +
+                "     * instance that has not been initialized returns the units and scales of {@link #latest}.\n" +
+                "     */\n" +
+                "    private volatile Binding binding = null;\n" +
+                "\n" +
+                "    /**\n" +
+                "     * The units and scales in the set that have been created with a factory.\n" +
+                "     */\n" +
+                "    private static final class Binding {\n" +
+                "\n" +
+                "        /** The factory with which the units and scales are created. */\n" +
+                "        private final UnitAndScaleFactory factory;\n" +
+                "\n" +
+                "        /** The units and scales that have been created, in the same order as {@link OM#NAMES}. */\n" +
+                "        private final AtomicReferenceArray<Object> created = new AtomicReferenceArray<>(NAMES.length);\n" +
+                "\n" +
+                "        /** True when the set was initialized lazily, guarded by the lock on {@link OM}. */\n" +
+                "        private boolean lazily = false;\n" +
+                "\n" +
+                "        /** True when all units and scales have been created. */\n" +
+                "        private volatile boolean allCreated = false;\n" +
+                "\n" +
+                "        private Binding(UnitAndScaleFactory factory) {\n" +
+                "            this.factory = factory;\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * The indices of the units and scales in {@link #NAMES} and {@link #IDENTIFIERS}, by name and by identifier.\n" +
+                "     * The map is built when it is first used and is not modified afterwards.\n" +
+                "     */\n" +
+                "    private static final class Indices {\n" +
+                "\n" +
+                "        private static final Map<String,Integer> INDICES = new HashMap<>(4 * NAMES.length);\n" +
+                "\n" +
+                "        static {\n" +
+                "            for (int i = 0; i < NAMES.length; i++) {\n" +
+                "                INDICES.put(NAMES[i], i);\n" +
+                "                if (IDENTIFIERS[i] != null) INDICES.put(IDENTIFIERS[i], i);\n" +
+                "            }\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Initializes the set by creating all units and scales in the set using the specified factory.\n" +
+                "     * @param factory The factory to create units and scales.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public void initialize(UnitAndScaleFactory factory) {\n" +
+                "        Binding current = bind(factory, false);\n" +
+                "        createAll(current);\n" +
+                "        synchronized (OM.class) {\n" +
+                "            setView(current);\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Initializes the set lazily. The units and scales are created with the specified factory when they are first\n" +
+                "     * requested by their identifier ({@link #getUnitOrScale(String)}) or by their name ({@link #unit(String)} and\n" +
+                "     * {@link #scale(String)}), which happens when one of the application area classes (e.g. {@link Shipping})\n" +
+                "     * is first used. The units and scales they depend on are created as well.\n" +
+                "     * The static fields in this class are not changed, they keep referring to the units and scales of the set that\n" +
+                "     * was last initialized with {@link #initialize(UnitAndScaleFactory)} (and are null if there is no such set), so\n" +
+                "     * that they never refer to units and scales that have not been created yet.\n" +
+                "     * @param factory The factory to create units and scales.\n" +
+                "     * @throws IllegalStateException When this instance was initialized lazily with another factory.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public void initializeLazily(UnitAndScaleFactory factory) {\n" +
+                "        bind(factory, true);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Binds this set instance to the specified factory, and lets {@link #unit(String)} and {@link #scale(String)}\n" +
+                "     * return the units and scales created for this instance. An instance that was initialized lazily cannot be\n" +
+                "     * bound to another factory, as the factory it was added to would then receive units and scales created by the\n" +
+                "     * other factory.\n" +
+                "     * @param factory The factory to create units and scales.\n" +
+                "     * @param lazily True when the set is initialized lazily.\n" +
+                "     * @return The units and scales created for this instance.\n" +
+                "     * @throws IllegalStateException When this instance was initialized lazily with another factory.\n" +
+                "     */\n" +
+                "    private Binding bind(UnitAndScaleFactory factory, boolean lazily) {\n" +
+                "        synchronized (OM.class) {\n" +
+                "            Binding current = binding;\n" +
+                "            if (current == null || current.factory != factory) {\n" +
+                "                if (current != null && current.lazily) {\n" +
+                "                    throw new IllegalStateException(\"The OM set has been initialized lazily with another factory.\");\n" +
+                "                }\n" +
+                "                current = new Binding(factory);\n" +
+                "                binding = current;\n" +
+                "            }\n" +
+                "            current.lazily |= lazily;\n" +
+                "            latest = current;\n" +
+                "            return current;\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Lets the static fields in this class refer to the units and scales in the specified binding, in which all units\n" +
+                "     * and scales have been created. This method should only be called while holding the lock on this class.\n" +
+                "     * @param binding The units and scales.\n" +
+                "     */\n" +
+                "    private static void setView(Binding binding) {\n" +
+                "        if (view == binding) return;\n" +
+                "        for (int i = 0; i < NAMES.length; i++) {\n" +
+                "            try {\n" +
+                "                OM.class.getField(NAMES[i]).set(null, binding.created.get(i));\n" +
+                "            } catch (ReflectiveOperationException e) {\n" +
+                "                throw new IllegalStateException(\"Could not set the unit or scale \" + NAMES[i] + \" in the OM set.\", e);\n" +
+                "            }\n" +
+                "        }\n" +
+                "        view = binding;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the units and scales of this set instance, or those of the instance that was initialized last when\n" +
+                "     * this instance has not been initialized.\n" +
+                "     * @return The units and scales, or null when no set has been initialized.\n" +
+                "     */\n" +
+                "    private Binding binding() {\n" +
+                "        Binding current = binding;\n" +
+                "        return current != null ? current : latest;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the unit or scale in this set with the specified identifier, which is created if it has not been\n" +
+                "     * created yet.\n" +
+                "     * @param identifier The identifier of the unit or scale.\n" +
+                "     * @return The unit or scale, or null if the unit or scale is not part of this set.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public Object getUnitOrScale(String identifier) {\n" +
+                "        return get(binding(), identifier);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns true when this set contains a unit or scale with the specified identifier, without creating it.\n" +
+                "     * @param identifier The identifier of the unit or scale.\n" +
+                "     * @return True when the set contains the unit or scale.\n" +
+                "     */\n" +
+                "    @Override\n" +
+                "    public boolean containsUnitOrScale(String identifier) {\n" +
+                "        int index = indexOf(identifier);\n" +
+                "        return index >= 0 && identifier.equals(IDENTIFIERS[index]);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the unit in this set with the specified name, i.e. the name of its static field in this class. The\n" +
+                "     * unit is created if it has not been created yet.\n" +
+                "     * @param name The name of the unit.\n" +
+                "     * @return The unit, or null if the unit is not part of this set or the set has not been initialized.\n" +
+                "     */\n" +
+                "    public static Unit unit(String name) {\n" +
+                "        Object unit = get(latest, name);\n" +
+                "        return unit instanceof Unit ? (Unit) unit : null;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the scale in this set with the specified name, i.e. the name of its static field in this class. The\n" +
+                "     * scale is created if it has not been created yet.\n" +
+                "     * @param name The name of the scale.\n" +
+                "     * @return The scale, or null if the scale is not part of this set or the set has not been initialized.\n" +
+                "     */\n" +
+                "    public static Scale scale(String name) {\n" +
+                "        Object scale = get(latest, name);\n" +
+                "        return scale instanceof Scale ? (Scale) scale : null;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the unit or scale with the specified name or identifier, which is created if it has not been created\n" +
+                "     * yet.\n" +
+                "     * @param binding The units and scales.\n" +
+                "     * @param nameOrIdentifier The name or identifier.\n" +
+                "     * @return The unit or scale, or null.\n" +
+                "     */\n" +
+                "    private static Object get(Binding binding, String nameOrIdentifier) {\n" +
+                "        int index = indexOf(nameOrIdentifier);\n" +
+                "        return index < 0 || binding == null ? null : create(binding, index);\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Returns the index of the unit or scale with the specified name or identifier in {@link #NAMES}.\n" +
+                "     * @param nameOrIdentifier The name or identifier.\n" +
+                "     * @return The index, or -1 if the unit or scale is not part of this set.\n" +
+                "     */\n" +
+                "    private static int indexOf(String nameOrIdentifier) {\n" +
+                "        if (nameOrIdentifier == null) return -1;\n" +
+                "        Integer index = Indices.INDICES.get(nameOrIdentifier);\n" +
+                "        return index == null ? -1 : index;\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates all units and scales in the specified binding that have not been created yet.\n" +
+                "     * @param binding The units and scales.\n" +
+                "     */\n" +
+                "    private static void createAll(Binding binding) {\n" +
+                "        if (binding.allCreated || binding.factory == null) return;\n" +
+                "        synchronized (OM.class) {\n" +
+                "            for (int i = 0; i < NAMES.length; i++) create(binding, i);\n" +
+                "            binding.allCreated = true;\n" +
+                "        }\n" +
+                "    }\n" +
+                "\n" +
+                "    /**\n" +
+                "     * Creates the unit or scale with the specified index in {@link #NAMES}, and the units and scales it depends on,\n" +
+                "     * if it has not been created yet. Units and scales that have been created are returned without locking.\n" +
+                "     * @param binding The units and scales.\n" +
+                "     * @param index The index of the unit or scale.\n" +
+                "     * @return The unit or scale.\n" +
+                "     */\n" +
+                "    private static Object create(Binding binding, int index) {\n" +
+                "        if (index < 0 || index >= NAMES.length) return null;\n" +
+                "        Object unitOrScale = binding.created.get(index);\n" +
+                "        if (unitOrScale != null || binding.factory == null) return unitOrScale;\n" +
+                "        synchronized (OM.class) {\n" +
+                "            switch (index / "+CREATE_CHUNK_SIZE+") {\n";
+        int chunks = (names.size()+CREATE_CHUNK_SIZE-1)/CREATE_CHUNK_SIZE;
+        for (int c = 0; c < chunks; c++) {
+            contents += "                case "+c+": return create"+c+"(binding, index);\n";
+        }
+        contents += "" +
+                "                default: return null;\n" +
+                "            }\n" +
+                "        }\n" +
+                "    }\n";
+        for (int c = 0; c < chunks; c++) {
+            int first = c*CREATE_CHUNK_SIZE;
+            int last = Math.min(first+CREATE_CHUNK_SIZE, names.size())-1;
+            contents += "\n" +
+                    "    /**\n" +
+                    "     * Creates the unit or scale with the specified index in {@link #NAMES}, which is one of the indices "+first+" to\n" +
+                    "     * "+last+". The units and scales are created by several of these methods, which are small enough to be compiled.\n" +
+                    "     * @param binding The units and scales.\n" +
+                    "     * @param index The index of the unit or scale.\n" +
+                    "     * @return The unit or scale.\n" +
+                    "     */\n" +
+                    "    private static Object create"+c+"(Binding binding, int index) {\n" +
+                    "        switch (index) {\n";
+            for (int i = first; i <= last; i++) {
+                contents += "            case "+i+": return create"+names.get(i)+"(binding);\n";
+            }
+            contents += "" +
+                    "            default: return null;\n" +
+                    "        }\n" +
+                    "    }\n";
+        }
+        contents += "" +
+                "\n" +
+                "    // The methods below create a single unit or scale in a binding, after creating the units and scales it depends\n" +
+                "    // on. They should only be called while holding the lock on this class.\n";
+        return contents;
+    }
+
+    /**
+     * Creates the method of the OM set that creates a single unit or scale. The generated code for the unit or scale
+     * assigns it to a local variable with the name of its static field, and stores it in the binding. The static field
+     * is set when all units and scales of the binding have been created.
+     * @param type The type, i.e. Unit or Scale.
+     * @param varName The name of the static field of the unit or scale.
+     * @param index The index of the unit or scale in the names of the static fields.
+     * @param body The generated code that creates the unit or scale.
+     * @return The generated method.
+     */
+    private static String createCreateMethod(String type, String varName, int index, String body) {
+        return "\n" +
+                "    private static "+type+" create"+varName+"(Binding binding) {\n" +
+                "        "+type+" "+varName+" = ("+type+") binding.created.get("+index+");\n" +
+                "        if("+varName+"!=null || binding.factory==null) return "+varName+";\n" +
+                "        UnitAndScaleFactory factory = binding.factory;\n" +
+                body +
+                "        binding.created.set("+index+", "+varName+");\n" +
+                "        return "+varName+";\n" +
+                "    }\n";
+    }
+
+    /**
+     * Returns the Java code that calls the create method of the unit or scale with the specified IRI.
+     * @param IRI The IRI of the unit or scale.
+     * @param varNames A map with variable names as key and IRI as value.
+     * @return The call to the create method, or <code>null</code> if the unit or scale is not specified in the map.
+     */
+    private static String getCreateReference(String IRI, Map<String,String> varNames){
+        String varName = OMVocabularyCreationTool.getVariableNameForIRI(IRI, varNames);
+        if(varName==null) return "null";
+        return "create"+varName+"(binding)";
+    }
+
+    /**
+     * Returns the Java code for the elements of an array of strings, indented for a static field.
+     * @param values The strings, which may be null.
+     * @param onePerLine True when each element should be written on a separate line.
+     * @return The elements of the array.
+     */
+    private static String createStringArrayElements(List<String> values, boolean onePerLine){
+        String contents = "";
+        String line = "";
+        for(int i=0;i<values.size();i++){
+            String element = values.get(i)==null ? "null" : "\""+values.get(i)+"\"";
+            if(i<values.size()-1) element += ",";
+            if(line.length()>0 && (onePerLine || line.length()+element.length()>=116)){
+                contents += "        "+line+"\n";
+                line = "";
+            }
+            line += (line.length()>0 ? " " : "")+element;
+        }
+        if(line.length()>0) contents += "        "+line+"\n";
+        return contents;
+    }
+
     /**
      * Returns the name of the variable that defines the unit or scale with the specified IRI.
      * @param IRI The IRI of the unit or scale.